@@ -140,6 +140,12 @@ public class ASiCContainerWithCAdESValidator extends AbstractASiCContainerValida
 		return signatureValidators;
 	}
 
+	@Override
+	protected boolean isConcurrentSignatureValidationSupported() {
+		// each signature is contained within its own CMS, the container timestamps are attached on extraction
+		return true;
+	}
+
 	/**
 	 * Returns a list of timestamp validators for timestamps embedded into the container
 	 *
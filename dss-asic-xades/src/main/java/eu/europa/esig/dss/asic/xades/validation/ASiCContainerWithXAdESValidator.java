@@ -96,6 +96,22 @@ public class ASiCContainerWithXAdESValidator extends AbstractASiCContainerValida
 		return new ASiCWithXAdESContainerExtractor(document);
 	}
 
+	@Override
+	protected boolean isConcurrentSignatureValidationSupported() {
+		// the signatures sharing a DOM are grouped, see getConcurrentValidationGroupKey(...)
+		return true;
+	}
+
+	@Override
+	protected Object getConcurrentValidationGroupKey(AdvancedSignature signature) {
+		Object rootSignature = super.getConcurrentValidationGroupKey(signature);
+		if (rootSignature instanceof XAdESSignature) {
+			// the signatures of the same signature file share the DOM, mutated on the integrity check
+			return ((XAdESSignature) rootSignature).getSignatureElement().getOwnerDocument();
+		}
+		return rootSignature;
+	}
+
 	@Override
 	protected List<DocumentValidator> getSignatureValidators() {
 		if (signatureValidators == null) {
@@ -0,0 +1,133 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Generates the documents to be signed by the benchmarks.
+ * The content is generated from a fixed seed, in order to get reproducible results.
+ *
+ */
+public final class BenchmarkDocuments {
+
+	/** The seed used to generate the document content */
+	private static final long SEED = 20240101L;
+
+	/** The number of text lines written on each PDF page */
+	private static final int LINES_PER_PAGE = 40;
+
+	/**
+	 * Utils class
+	 */
+	private BenchmarkDocuments() {
+		// empty
+	}
+
+	/**
+	 * Creates a binary document of the given size
+	 *
+	 * @param size {@link DocumentSize}
+	 * @return {@link DSSDocument}
+	 */
+	public static DSSDocument createBinaryDocument(DocumentSize size) {
+		return createBinaryDocument(size, "document.bin");
+	}
+
+	/**
+	 * Creates a binary document of the given size with a custom name
+	 *
+	 * @param size {@link DocumentSize}
+	 * @param name {@link String} document name
+	 * @return {@link DSSDocument}
+	 */
+	public static DSSDocument createBinaryDocument(DocumentSize size, String name) {
+		byte[] content = new byte[size.getNumberOfBytes()];
+		new Random(SEED + name.hashCode()).nextBytes(content);
+		return new InMemoryDocument(content, name, MimeTypeEnum.BINARY);
+	}
+
+	/**
+	 * Creates an XML document of (approximately) the given size, containing a flat list of elements
+	 *
+	 * @param size {@link DocumentSize}
+	 * @return {@link DSSDocument}
+	 */
+	public static DSSDocument createXmlDocument(DocumentSize size) {
+		final Random random = new Random(SEED);
+		final StringBuilder sb = new StringBuilder(size.getNumberOfBytes() + 128);
+		sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+		sb.append("<root xmlns=\"http://dss.esig.europa.eu/benchmarks\">");
+		int i = 0;
+		while (sb.length() < size.getNumberOfBytes()) {
+			sb.append("<item id=\"item-").append(i++).append("\">");
+			sb.append(Long.toHexString(random.nextLong()));
+			sb.append("</item>");
+		}
+		sb.append("</root>");
+		return new InMemoryDocument(sb.toString().getBytes(StandardCharsets.UTF_8), "document.xml", MimeTypeEnum.XML);
+	}
+
+	/**
+	 * Creates a PDF document with the number of pages defined by the given size
+	 *
+	 * @param size {@link DocumentSize}
+	 * @return {@link DSSDocument}
+	 */
+	public static DSSDocument createPdfDocument(DocumentSize size) {
+		final Random random = new Random(SEED);
+		try (PDDocument pdDocument = new PDDocument(); ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			for (int i = 0; i < size.getNumberOfPages(); i++) {
+				PDPage page = new PDPage();
+				pdDocument.addPage(page);
+				try (PDPageContentStream contentStream = new PDPageContentStream(pdDocument, page)) {
+					contentStream.beginText();
+					contentStream.setFont(PDType1Font.HELVETICA, 10);
+					contentStream.setLeading(14);
+					contentStream.newLineAtOffset(50, 750);
+					for (int j = 0; j < LINES_PER_PAGE; j++) {
+						contentStream.showText(String.format("Page %s, line %s : %s", i + 1, j + 1, Long.toHexString(random.nextLong())));
+						contentStream.newLine();
+					}
+					contentStream.endText();
+				}
+			}
+			pdDocument.save(baos);
+			return new InMemoryDocument(baos.toByteArray(), "document.pdf", MimeTypeEnum.PDF);
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create a PDF document : %s", e.getMessage()), e);
+		}
+	}
+
+}
@@ -0,0 +1,356 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.pki.exception.PKIException;
+import eu.europa.esig.dss.pki.jaxb.JAXBPKILoader;
+import eu.europa.esig.dss.pki.jaxb.PKIJaxbFacade;
+import eu.europa.esig.dss.pki.jaxb.model.JAXBCertEntity;
+import eu.europa.esig.dss.pki.jaxb.model.JAXBCertEntityRepository;
+import eu.europa.esig.dss.pki.model.CertEntity;
+import eu.europa.esig.dss.pki.x509.aia.PKIAIASource;
+import eu.europa.esig.dss.pki.x509.revocation.crl.PKICRLSource;
+import eu.europa.esig.dss.pki.x509.revocation.ocsp.PKIDelegatedOCSPSource;
+import eu.europa.esig.dss.service.crl.JdbcCacheCRLSource;
+import eu.europa.esig.dss.service.ocsp.JdbcCacheOCSPSource;
+import eu.europa.esig.dss.service.x509.aia.JdbcCacheAIASource;
+import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.token.AbstractSignatureTokenConnection;
+import eu.europa.esig.dss.token.DSSPrivateKeyAccessEntry;
+import eu.europa.esig.dss.token.DSSPrivateKeyEntry;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import jakarta.xml.bind.JAXBException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.PrivateKey;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Gives access to the local PKI packaged with the benchmarks ({@value #PKI_RESOURCE}).
+ * All the certificates, revocation data and timestamps are generated offline,
+ * so the benchmarks do not depend on the network.
+ *
+ */
+public class BenchmarkPKI {
+
+	/** The PKI definition loaded from the classpath */
+	private static final String PKI_RESOURCE = "/pki/good-pki.xml";
+
+	/** The alias of the default signing certificate entity */
+	private static final String GOOD_USER = "good-user";
+
+	/** The alias of the CA issuing the signing certificate */
+	private static final String GOOD_CA = "good-ca";
+
+	/** The in-memory database used by the revocation and AIA caches */
+	private static final JdbcDataSource DATA_SOURCE = createDataSource();
+
+	/** The repository of the cert entities, shared between the benchmarks (loaded on the first call) */
+	private static JAXBCertEntityRepository repository;
+
+	/** The trust anchors of the PKI */
+	private static CommonTrustedCertificateSource trustedCertificateSource;
+
+	/** The alias of the signing certificate entity */
+	private final String signingAlias;
+
+	/**
+	 * Default constructor using the "good-user" signing certificate
+	 */
+	public BenchmarkPKI() {
+		this(GOOD_USER);
+	}
+
+	/**
+	 * Constructor with a custom signing certificate alias
+	 *
+	 * @param signingAlias {@link String} alias of the certificate entity from the PKI
+	 */
+	public BenchmarkPKI(String signingAlias) {
+		this.signingAlias = signingAlias;
+	}
+
+	/**
+	 * Returns the signature token connection of the signer
+	 *
+	 * @return {@link AbstractSignatureTokenConnection}
+	 */
+	public AbstractSignatureTokenConnection getSignatureToken() {
+		return new CertEntitySignatureTokenConnection(getCertEntity(signingAlias));
+	}
+
+	/**
+	 * Returns the private key entry of the signer
+	 *
+	 * @return {@link DSSPrivateKeyEntry}
+	 */
+	public DSSPrivateKeyEntry getSignerKey() {
+		return getSignatureToken().getKeys().iterator().next();
+	}
+
+	/**
+	 * Returns the signing certificate
+	 *
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken getSignerCertificate() {
+		return getCertEntity(signingAlias).getCertificateToken();
+	}
+
+	/**
+	 * Returns the certificate entity of the CA issuing the signing certificate
+	 *
+	 * @return {@link CertEntity}
+	 */
+	public CertEntity getIssuerCertEntity() {
+		return getCertEntity(GOOD_CA);
+	}
+
+	/**
+	 * Returns the certificate entity with the given subject name
+	 *
+	 * @param subjectName {@link String} subject name of the entity (e.g. "good-tsa")
+	 * @return {@link CertEntity}
+	 */
+	public CertEntity getCertEntity(String subjectName) {
+		CertEntity certEntity = getRepository().getCertEntityBySubject(subjectName);
+		if (certEntity == null) {
+			throw new PKIException(String.format("No cert entity '%s' found in the PKI '%s'", subjectName, PKI_RESOURCE));
+		}
+		return certEntity;
+	}
+
+	/**
+	 * Returns the repository containing the cert entities of the PKI
+	 *
+	 * @return {@link JAXBCertEntityRepository}
+	 */
+	public JAXBCertEntityRepository getRepository() {
+		loadPKI();
+		return repository;
+	}
+
+	/**
+	 * Returns the trust anchors of the local PKI
+	 *
+	 * @return {@link CertificateSource}
+	 */
+	public CertificateSource getTrustAnchors() {
+		loadPKI();
+		return trustedCertificateSource;
+	}
+
+	/**
+	 * Returns a certificate verifier with trust anchors, the PKI revocation sources and the PKI AIA source
+	 * (cached within an in-memory database, as done by a production configuration)
+	 *
+	 * @return {@link CertificateVerifier}
+	 */
+	public CertificateVerifier getValidationCertificateVerifier() {
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setOcspSource(cacheOCSPSource(pkiOCSPSource()));
+		certificateVerifier.setCrlSource(cacheCRLSource(pkiCRLSource()));
+		certificateVerifier.setAIASource(cacheAIASource(new PKIAIASource(getRepository())));
+		certificateVerifier.setTrustedCertSources(getTrustAnchors());
+		return certificateVerifier;
+	}
+
+	/**
+	 * Returns a certificate verifier containing only the trust anchors
+	 *
+	 * @return {@link CertificateVerifier}
+	 */
+	public CertificateVerifier getSignatureCertificateVerifier() {
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setAIASource(null);
+		certificateVerifier.setTrustedCertSources(getTrustAnchors());
+		return certificateVerifier;
+	}
+
+	private static synchronized void loadPKI() {
+		if (repository != null) {
+			return;
+		}
+		JAXBCertEntityRepository certEntityRepository = new JAXBCertEntityRepository();
+		try (InputStream is = BenchmarkPKI.class.getResourceAsStream(PKI_RESOURCE)) {
+			Objects.requireNonNull(is, String.format("Cannot find the PKI '%s'", PKI_RESOURCE));
+			new JAXBPKILoader().persistPKI(certEntityRepository, PKIJaxbFacade.newFacade().unmarshall(is));
+		} catch (IOException | JAXBException | SAXException | XMLStreamException e) {
+			throw new PKIException(String.format("Unable to load the PKI '%s'", PKI_RESOURCE), e);
+		}
+
+		CommonTrustedCertificateSource trustAnchors = new CommonTrustedCertificateSource();
+		for (JAXBCertEntity trustAnchor : certEntityRepository.getTrustAnchors()) {
+			trustAnchors.addCertificate(trustAnchor.getCertificateToken());
+		}
+		trustedCertificateSource = trustAnchors;
+		repository = certEntityRepository;
+	}
+
+	private PKIDelegatedOCSPSource pkiOCSPSource() {
+		PKIDelegatedOCSPSource ocspSource = new PKIDelegatedOCSPSource(getRepository());
+		Map<CertEntity, CertEntity> ocspResponders = getRepository().getAll().stream()
+				.filter(certEntity -> certEntity.getOcspResponder() != null)
+				.collect(Collectors.toMap(certEntity -> certEntity, JAXBCertEntity::getOcspResponder));
+		ocspSource.setOcspResponders(ocspResponders);
+		return ocspSource;
+	}
+
+	private PKICRLSource pkiCRLSource() {
+		PKICRLSource crlSource = new PKICRLSource(getRepository());
+		Calendar nextUpdate = Calendar.getInstance();
+		nextUpdate.add(Calendar.MONTH, 6);
+		crlSource.setNextUpdate(nextUpdate.getTime());
+		return crlSource;
+	}
+
+	private JdbcCacheOCSPSource cacheOCSPSource(RevocationSource<OCSP> ocspSource) {
+		JdbcCacheOCSPSource cacheOCSPSource = new JdbcCacheOCSPSource();
+		cacheOCSPSource.setProxySource(ocspSource);
+		cacheOCSPSource.setJdbcCacheConnector(new JdbcCacheConnector(DATA_SOURCE));
+		cacheOCSPSource.setDefaultNextUpdateDelay(3 * 60 * 60L); // 3 hours
+		try {
+			cacheOCSPSource.initTable();
+		} catch (SQLException e) {
+			throw new DSSException("Cannot initialize table for OCSP source.", e);
+		}
+		return cacheOCSPSource;
+	}
+
+	private JdbcCacheCRLSource cacheCRLSource(RevocationSource<CRL> crlSource) {
+		JdbcCacheCRLSource cacheCRLSource = new JdbcCacheCRLSource();
+		cacheCRLSource.setProxySource(crlSource);
+		cacheCRLSource.setJdbcCacheConnector(new JdbcCacheConnector(DATA_SOURCE));
+		cacheCRLSource.setDefaultNextUpdateDelay(3 * 24 * 60 * 60L); // 3 days
+		try {
+			cacheCRLSource.initTable();
+		} catch (SQLException e) {
+			throw new DSSException("Cannot initialize table for CRL source.", e);
+		}
+		return cacheCRLSource;
+	}
+
+	private JdbcCacheAIASource cacheAIASource(PKIAIASource aiaSource) {
+		JdbcCacheAIASource cacheAIASource = new JdbcCacheAIASource();
+		cacheAIASource.setProxySource(aiaSource);
+		cacheAIASource.setJdbcCacheConnector(new JdbcCacheConnector(DATA_SOURCE));
+		try {
+			cacheAIASource.initTable();
+		} catch (SQLException e) {
+			throw new DSSException("Cannot initialize table for AIA certificate source.", e);
+		}
+		return cacheAIASource;
+	}
+
+	private static JdbcDataSource createDataSource() {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setUrl("jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1");
+		return dataSource;
+	}
+
+	/**
+	 * Signs with the private key of a cert entity from the PKI
+	 */
+	private static class CertEntitySignatureTokenConnection extends AbstractSignatureTokenConnection {
+
+		/** The cert entity used on signing */
+		private final CertEntity certEntity;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param certEntity {@link CertEntity}
+		 */
+		CertEntitySignatureTokenConnection(CertEntity certEntity) {
+			this.certEntity = certEntity;
+		}
+
+		@Override
+		public void close() {
+			// not required
+		}
+
+		@Override
+		public List<DSSPrivateKeyEntry> getKeys() {
+			return Collections.singletonList(new CertEntityKeyEntry(certEntity));
+		}
+
+	}
+
+	/**
+	 * Gives access to the private key and the certificate chain of a cert entity from the PKI
+	 */
+	private static class CertEntityKeyEntry implements DSSPrivateKeyAccessEntry {
+
+		/** The wrapped cert entity */
+		private final CertEntity certEntity;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param certEntity {@link CertEntity}
+		 */
+		CertEntityKeyEntry(CertEntity certEntity) {
+			this.certEntity = certEntity;
+		}
+
+		@Override
+		public CertificateToken getCertificate() {
+			return certEntity.getCertificateToken();
+		}
+
+		@Override
+		public CertificateToken[] getCertificateChain() {
+			return certEntity.getCertificateChain().toArray(new CertificateToken[0]);
+		}
+
+		@Override
+		public EncryptionAlgorithm getEncryptionAlgorithm() {
+			return certEntity.getEncryptionAlgorithm();
+		}
+
+		@Override
+		public PrivateKey getPrivateKey() {
+			return certEntity.getPrivateKey();
+		}
+
+	}
+
+}
@@ -0,0 +1,107 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.benchmarks.signature.XAdESSignatureBenchmark;
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlCertificate;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlRevocation;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlSignature;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlSignerData;
+import eu.europa.esig.dss.validation.reports.Reports;
+
+/**
+ * Produces the validation reports used by the report and policy benchmarks
+ *
+ */
+public final class BenchmarkReports {
+
+	/**
+	 * Utils class
+	 */
+	private BenchmarkReports() {
+		// empty
+	}
+
+	/**
+	 * Creates a XAdES-BASELINE-B signature with the local PKI and validates it
+	 *
+	 * @return {@link Reports}
+	 */
+	public static Reports createReports() {
+		XAdESSignatureBenchmark signatureBenchmark = new XAdESSignatureBenchmark();
+		signatureBenchmark.documentSize = DocumentSize.SMALL;
+		signatureBenchmark.setup();
+		try {
+			return signatureBenchmark.validate();
+		} finally {
+			signatureBenchmark.tearDown();
+		}
+	}
+
+	/**
+	 * Creates a DiagnosticData with at least {@code minNumberOfTokens} signatures, certificates and revocation data.
+	 * Independent copies of the signature obtained with {@code createReports()} (with its certificates, revocation data
+	 * and signed documents) are appended, with all identifiers suffixed by the index of the copy.
+	 *
+	 * @param minNumberOfTokens the minimum number of tokens
+	 * @return {@link XmlDiagnosticData}
+	 * @throws Exception if an error occurs on the DiagnosticData copy
+	 */
+	public static XmlDiagnosticData createLargeDiagnosticData(int minNumberOfTokens) throws Exception {
+		DiagnosticDataFacade facade = DiagnosticDataFacade.newFacade();
+		String diagnosticDataXml = facade.marshall(createReports().getDiagnosticDataJaxb());
+
+		XmlDiagnosticData diagnosticData = facade.unmarshall(diagnosticDataXml);
+		int copies = 0;
+		while (getNumberOfTokens(diagnosticData) < minNumberOfTokens) {
+			appendCopy(diagnosticData, facade.unmarshall(diagnosticDataXml), ++copies);
+		}
+		return diagnosticData;
+	}
+
+	private static void appendCopy(XmlDiagnosticData diagnosticData, XmlDiagnosticData copy, int index) {
+		String suffix = "-" + index;
+		for (XmlSignature xmlSignature : copy.getSignatures()) {
+			xmlSignature.setId(xmlSignature.getId() + suffix);
+			diagnosticData.getSignatures().add(xmlSignature);
+		}
+		for (XmlCertificate xmlCertificate : copy.getUsedCertificates()) {
+			xmlCertificate.setId(xmlCertificate.getId() + suffix);
+			diagnosticData.getUsedCertificates().add(xmlCertificate);
+		}
+		for (XmlRevocation xmlRevocation : copy.getUsedRevocations()) {
+			xmlRevocation.setId(xmlRevocation.getId() + suffix);
+			diagnosticData.getUsedRevocations().add(xmlRevocation);
+		}
+		for (XmlSignerData xmlSignerData : copy.getOriginalDocuments()) {
+			xmlSignerData.setId(xmlSignerData.getId() + suffix);
+			diagnosticData.getOriginalDocuments().add(xmlSignerData);
+		}
+	}
+
+	private static int getNumberOfTokens(XmlDiagnosticData diagnosticData) {
+		return diagnosticData.getSignatures().size() + diagnosticData.getUsedCertificates().size()
+				+ diagnosticData.getUsedRevocations().size();
+	}
+
+}
@@ -0,0 +1,161 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runs the benchmarks and checks the results against the regression thresholds.
+ *
+ * The JMH command line options are supported (e.g. {@code java -jar benchmarks.jar CRLParsingBenchmark -f 2},
+ * or {@code -l} to list the benchmarks).
+ * The following system properties can be defined :
+ * <ul>
+ *     <li>{@value #THRESHOLDS_PROPERTY} : path of the thresholds file
+ *     (by default, {@value #DEFAULT_THRESHOLDS} from the classpath);</li>
+ *     <li>{@value #BASELINE_OUTPUT_PROPERTY} : when defined, the results are written as new thresholds
+ *     to the given path, instead of being checked;</li>
+ *     <li>{@value #TOLERANCE_PROPERTY} : the accepted deviation of the scores used for the new thresholds
+ *     (by default, 0.2 for 20%);</li>
+ *     <li>{@value #FAIL_ON_MISSING_THRESHOLD_PROPERTY} : whether a benchmark without a threshold fails the check
+ *     (by default, true).</li>
+ * </ul>
+ * The process exits with the status 1 when a regression is detected, or when a benchmark has no threshold.
+ *
+ */
+public final class BenchmarkRunner {
+
+	private static final Logger LOG = LoggerFactory.getLogger(BenchmarkRunner.class);
+
+	/** The system property defining the path of the thresholds file */
+	public static final String THRESHOLDS_PROPERTY = "dss.benchmarks.thresholds";
+
+	/** The system property defining the path where the new thresholds are written */
+	public static final String BASELINE_OUTPUT_PROPERTY = "dss.benchmarks.baseline.output";
+
+	/** The system property defining the tolerance used for the new thresholds */
+	public static final String TOLERANCE_PROPERTY = "dss.benchmarks.tolerance";
+
+	/** The system property defining whether a benchmark without a threshold fails the check */
+	public static final String FAIL_ON_MISSING_THRESHOLD_PROPERTY = "dss.benchmarks.failOnMissingThreshold";
+
+	/** The thresholds file loaded from the classpath by default */
+	public static final String DEFAULT_THRESHOLDS = "/benchmark-thresholds.csv";
+
+	/** The default tolerance */
+	private static final String DEFAULT_TOLERANCE = "0.2";
+
+	/**
+	 * Utils class
+	 */
+	private BenchmarkRunner() {
+		// empty
+	}
+
+	/**
+	 * Runs the benchmarks
+	 *
+	 * @param args JMH command line options
+	 * @throws Exception if an error occurs
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions options = new CommandLineOptions(args);
+		Runner runner = new Runner(options);
+		if (listOnly(options, runner)) {
+			return;
+		}
+
+		Collection<RunResult> results = runner.run();
+
+		String baselineOutput = System.getProperty(BASELINE_OUTPUT_PROPERTY);
+		if (baselineOutput != null) {
+			double tolerance = Double.parseDouble(System.getProperty(TOLERANCE_PROPERTY, DEFAULT_TOLERANCE));
+			try (OutputStream os = new FileOutputStream(baselineOutput)) {
+				BenchmarkThresholds baseline = BenchmarkThresholds.fromResults(results, tolerance);
+				// the relative thresholds do not depend on the machine and are kept
+				baseline.addRelativeThresholds(loadThresholds());
+				baseline.write(os);
+			}
+			LOG.info("The new thresholds have been written to '{}'.", baselineOutput);
+			return;
+		}
+
+		BenchmarkThresholds thresholds = loadThresholds();
+		thresholds.setFailOnMissingThreshold(Boolean.parseBoolean(System.getProperty(FAIL_ON_MISSING_THRESHOLD_PROPERTY, "true")));
+		List<String> regressions = thresholds.check(results);
+		if (!regressions.isEmpty()) {
+			for (String regression : regressions) {
+				LOG.error("Regression detected : {}", regression);
+			}
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Handles the informative JMH options (help, lists), as done by {@code org.openjdk.jmh.Main}
+	 *
+	 * @param options {@link CommandLineOptions}
+	 * @param runner {@link Runner}
+	 * @return TRUE if the benchmarks are not to be executed
+	 * @throws Exception if an error occurs
+	 */
+	private static boolean listOnly(CommandLineOptions options, Runner runner) throws Exception {
+		if (options.shouldHelp()) {
+			options.showHelp();
+		} else if (options.shouldList()) {
+			runner.list();
+		} else if (options.shouldListWithParams()) {
+			runner.listWithParams(options);
+		} else if (options.shouldListProfilers()) {
+			options.listProfilers();
+		} else if (options.shouldListResultFormats()) {
+			options.listResultFormats();
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	private static BenchmarkThresholds loadThresholds() throws IOException {
+		String thresholdsPath = System.getProperty(THRESHOLDS_PROPERTY);
+		try (InputStream is = thresholdsPath != null ? new FileInputStream(thresholdsPath)
+				: BenchmarkRunner.class.getResourceAsStream(DEFAULT_THRESHOLDS)) {
+			if (is == null) {
+				LOG.warn("No thresholds file found.");
+				return new BenchmarkThresholds();
+			}
+			return BenchmarkThresholds.load(is);
+		}
+	}
+
+}
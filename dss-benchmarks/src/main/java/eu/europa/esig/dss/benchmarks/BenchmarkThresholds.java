@@ -0,0 +1,441 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Contains the maximum scores accepted for the benchmarks and detects the regressions.
+ *
+ * The thresholds are stored in a text file, each line defining a benchmark with its parameters,
+ * the maximum score and the score unit, separated by a semicolon :
+ * {@code signature.XAdESSignatureBenchmark.sign;documentSize=SMALL;12.5;ms/op}.
+ *
+ * A relative threshold defines the maximum ratio between the scores of a benchmark and of a reference benchmark
+ * executed within the same run, followed by the reference benchmark with its parameters :
+ * {@code crl.CRLParsingBenchmark.buildCRLValidity;implementation=stream,numberOfEntries=100000;20;ratio;
+ * crl.CRLParsingBenchmark.buildCRLValidity;implementation=stream,numberOfEntries=10000}.
+ * Such thresholds do not depend on the machine executing the benchmarks.
+ *
+ * Empty lines and lines starting with '#' are ignored.
+ *
+ * By default, a benchmark result without a defined threshold (absolute or relative) is reported as a failure
+ * of the check, so a missing or outdated thresholds file cannot hide a regression.
+ *
+ */
+public class BenchmarkThresholds {
+
+	private static final Logger LOG = LoggerFactory.getLogger(BenchmarkThresholds.class);
+
+	/** The package of the benchmarks, omitted in the benchmark names */
+	private static final String BENCHMARKS_PACKAGE = BenchmarkThresholds.class.getPackage().getName() + ".";
+
+	/** The separator between the columns */
+	private static final String SEPARATOR = ";";
+
+	/** The comment prefix */
+	private static final String COMMENT = "#";
+
+	/** The unit column value of a relative threshold */
+	private static final String RATIO = "ratio";
+
+	/** The thresholds, the key is the benchmark name with its parameters */
+	private final Map<String, Threshold> thresholds = new TreeMap<>();
+
+	/** The relative thresholds, the key is the benchmark name with its parameters */
+	private final Map<String, RelativeThreshold> relativeThresholds = new TreeMap<>();
+
+	/** Defines whether a result without a threshold fails the check (default : true) */
+	private boolean failOnMissingThreshold = true;
+
+	/**
+	 * Empty constructor (no threshold)
+	 */
+	public BenchmarkThresholds() {
+		// empty
+	}
+
+	/**
+	 * Loads the thresholds from the given InputStream
+	 *
+	 * @param is {@link InputStream} of the thresholds file
+	 * @return {@link BenchmarkThresholds}
+	 * @throws IOException if an error occurs on reading
+	 */
+	public static BenchmarkThresholds load(InputStream is) throws IOException {
+		Objects.requireNonNull(is, "InputStream shall be provided!");
+		BenchmarkThresholds benchmarkThresholds = new BenchmarkThresholds();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith(COMMENT)) {
+					continue;
+				}
+				String[] columns = line.split(SEPARATOR, -1);
+				if (columns.length == 4) {
+					benchmarkThresholds.addThreshold(getKey(columns[0].trim(), columns[1].trim()),
+							Double.parseDouble(columns[2].trim()), columns[3].trim());
+				} else if (columns.length == 6 && RATIO.equals(columns[3].trim())) {
+					benchmarkThresholds.addRelativeThreshold(getKey(columns[0].trim(), columns[1].trim()),
+							Double.parseDouble(columns[2].trim()), getKey(columns[4].trim(), columns[5].trim()));
+				} else {
+					throw new IllegalArgumentException(String.format("Invalid threshold line '%s'! " +
+							"Expected format : benchmark;parameters;score;unit " +
+							"or benchmark;parameters;ratio;ratio;reference benchmark;reference parameters", line));
+				}
+			}
+		}
+		return benchmarkThresholds;
+	}
+
+	/**
+	 * Builds the thresholds from the benchmark results, the scores being increased by the given tolerance
+	 *
+	 * @param results a collection of {@link RunResult}s
+	 * @param tolerance the accepted deviation of the score, e.g. 0.2 for 20%
+	 * @return {@link BenchmarkThresholds}
+	 */
+	public static BenchmarkThresholds fromResults(Collection<RunResult> results, double tolerance) {
+		BenchmarkThresholds benchmarkThresholds = new BenchmarkThresholds();
+		for (RunResult runResult : results) {
+			if (isLowerBetter(runResult.getParams().getMode())) {
+				Result<?> primaryResult = runResult.getPrimaryResult();
+				benchmarkThresholds.addThreshold(getKey(runResult.getParams()),
+						primaryResult.getScore() * (1 + tolerance), primaryResult.getScoreUnit());
+			}
+		}
+		return benchmarkThresholds;
+	}
+
+	/**
+	 * Adds a threshold
+	 *
+	 * @param key {@link String} benchmark name with its parameters
+	 * @param maxScore the maximum accepted score
+	 * @param unit {@link String} score unit
+	 */
+	public void addThreshold(String key, double maxScore, String unit) {
+		thresholds.put(key, new Threshold(maxScore, unit));
+	}
+
+	/**
+	 * Adds a relative threshold
+	 *
+	 * @param key {@link String} benchmark name with its parameters
+	 * @param maxRatio the maximum accepted ratio between the score of the benchmark and of the reference benchmark
+	 * @param referenceKey {@link String} reference benchmark name with its parameters
+	 */
+	public void addRelativeThreshold(String key, double maxRatio, String referenceKey) {
+		relativeThresholds.put(key, new RelativeThreshold(maxRatio, referenceKey));
+	}
+
+	/**
+	 * Adds the relative thresholds defined within {@code benchmarkThresholds}
+	 * (e.g. to keep them within a new baseline)
+	 *
+	 * @param benchmarkThresholds {@link BenchmarkThresholds} to copy the relative thresholds from
+	 */
+	public void addRelativeThresholds(BenchmarkThresholds benchmarkThresholds) {
+		relativeThresholds.putAll(benchmarkThresholds.relativeThresholds);
+	}
+
+	/**
+	 * Sets whether a benchmark result without a defined threshold shall be reported as a failure
+	 * (e.g. when the thresholds file does not cover a new benchmark)
+	 *
+	 * Default : true
+	 *
+	 * @param failOnMissingThreshold whether a missing threshold fails the check
+	 */
+	public void setFailOnMissingThreshold(boolean failOnMissingThreshold) {
+		this.failOnMissingThreshold = failOnMissingThreshold;
+	}
+
+	/**
+	 * Returns the number of defined thresholds, absolute and relative
+	 *
+	 * @return number of thresholds
+	 */
+	public int size() {
+		return thresholds.size() + relativeThresholds.size();
+	}
+
+	/**
+	 * Compares the benchmark results against the thresholds.
+	 * Results without a defined threshold are reported as failures, unless {@code failOnMissingThreshold} is disabled.
+	 *
+	 * @param results a collection of {@link RunResult}s
+	 * @return a list of {@link String} messages describing the regressions, empty if none
+	 */
+	public List<String> check(Collection<RunResult> results) {
+		Map<String, Result<?>> primaryResults = new HashMap<>();
+		for (RunResult runResult : results) {
+			primaryResults.put(getKey(runResult.getParams()), runResult.getPrimaryResult());
+		}
+
+		List<String> regressions = new ArrayList<>();
+		for (RunResult runResult : results) {
+			BenchmarkParams params = runResult.getParams();
+			String key = getKey(params);
+			Result<?> primaryResult = runResult.getPrimaryResult();
+			String regression = check(key, params.getMode(), primaryResult.getScore(), primaryResult.getScoreUnit());
+			if (regression != null) {
+				regressions.add(regression);
+			}
+			RelativeThreshold relativeThreshold = relativeThresholds.get(key);
+			if (relativeThreshold != null && isLowerBetter(params.getMode())) {
+				Result<?> referenceResult = primaryResults.get(relativeThreshold.referenceKey);
+				regression = checkRatio(key, primaryResult.getScore(), primaryResult.getScoreUnit(),
+						referenceResult != null ? referenceResult.getScore() : null,
+						referenceResult != null ? referenceResult.getScoreUnit() : null);
+				if (regression != null) {
+					regressions.add(regression);
+				}
+			}
+		}
+		return regressions;
+	}
+
+	/**
+	 * Compares the score of a benchmark against its threshold
+	 *
+	 * @param key {@link String} benchmark name with its parameters
+	 * @param mode {@link Mode} of the benchmark
+	 * @param score the obtained score
+	 * @param unit {@link String} the score unit
+	 * @return {@link String} message describing the regression, null if none
+	 */
+	String check(String key, Mode mode, double score, String unit) {
+		if (!isLowerBetter(mode)) {
+			LOG.warn("Benchmark mode '{}' of '{}' is not supported for the regression check.", mode, key);
+			return null;
+		}
+		Threshold threshold = thresholds.get(key);
+		if (threshold == null) {
+			if (isRelativelyChecked(key)) {
+				// the score is checked against the one of another benchmark
+				return null;
+			} else if (failOnMissingThreshold) {
+				return String.format("%s : no threshold is defined", key);
+			}
+			LOG.info("No threshold defined for '{}'.", key);
+			return null;
+		}
+		if (!threshold.unit.equals(unit)) {
+			return String.format("%s : the score unit '%s' does not match the threshold unit '%s'",
+					key, unit, threshold.unit);
+		} else if (score > threshold.maxScore) {
+			return String.format(Locale.ENGLISH, "%s : %.3f %s exceeds the threshold %.3f %s",
+					key, score, unit, threshold.maxScore, threshold.unit);
+		}
+		LOG.info("{} : {} {} (threshold {} {})", key, score, unit, threshold.maxScore, threshold.unit);
+		return null;
+	}
+
+	/**
+	 * Compares the ratio between the score of a benchmark and the score of its reference benchmark
+	 * against the relative threshold
+	 *
+	 * @param key {@link String} benchmark name with its parameters
+	 * @param score the obtained score
+	 * @param unit {@link String} the score unit
+	 * @param referenceScore the score obtained by the reference benchmark, null if it has not been executed
+	 * @param referenceUnit {@link String} the score unit of the reference benchmark
+	 * @return {@link String} message describing the regression, null if none
+	 */
+	String checkRatio(String key, double score, String unit, Double referenceScore, String referenceUnit) {
+		RelativeThreshold relativeThreshold = relativeThresholds.get(key);
+		if (relativeThreshold == null) {
+			return null;
+		}
+		if (referenceScore == null) {
+			if (failOnMissingThreshold) {
+				return String.format("%s : the reference benchmark '%s' has not been executed",
+						key, relativeThreshold.referenceKey);
+			}
+			LOG.info("The reference benchmark '{}' of '{}' has not been executed.", relativeThreshold.referenceKey, key);
+			return null;
+		}
+		if (!unit.equals(referenceUnit)) {
+			return String.format("%s : the score unit '%s' does not match the unit '%s' of the reference benchmark '%s'",
+					key, unit, referenceUnit, relativeThreshold.referenceKey);
+		}
+		double ratio = score / referenceScore;
+		if (ratio > relativeThreshold.maxRatio) {
+			return String.format(Locale.ENGLISH, "%s : %.3f times the score of '%s' exceeds the threshold ratio %.3f",
+					key, ratio, relativeThreshold.referenceKey, relativeThreshold.maxRatio);
+		}
+		LOG.info("{} : {} times the score of '{}' (threshold ratio {})", key, ratio, relativeThreshold.referenceKey,
+				relativeThreshold.maxRatio);
+		return null;
+	}
+
+	private boolean isRelativelyChecked(String key) {
+		if (relativeThresholds.containsKey(key)) {
+			return true;
+		}
+		for (RelativeThreshold relativeThreshold : relativeThresholds.values()) {
+			if (relativeThreshold.referenceKey.equals(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Writes the thresholds in the file format supported by {@code load(InputStream)}
+	 *
+	 * @param os {@link OutputStream} to write into
+	 */
+	public void write(OutputStream os) {
+		PrintWriter writer = new PrintWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+		writer.println(COMMENT + " benchmark;parameters;maximum score;unit");
+		for (Map.Entry<String, Threshold> entry : thresholds.entrySet()) {
+			writer.println(String.format(Locale.ENGLISH, "%s%s%.3f%s%s", toColumns(entry.getKey()),
+					SEPARATOR, entry.getValue().maxScore, SEPARATOR, entry.getValue().unit));
+		}
+		if (!relativeThresholds.isEmpty()) {
+			writer.println(COMMENT + " benchmark;parameters;maximum ratio;" + RATIO + ";reference benchmark;reference parameters");
+		}
+		for (Map.Entry<String, RelativeThreshold> entry : relativeThresholds.entrySet()) {
+			writer.println(String.format(Locale.ENGLISH, "%s%s%.3f%s%s%s%s", toColumns(entry.getKey()), SEPARATOR,
+					entry.getValue().maxRatio, SEPARATOR, RATIO, SEPARATOR, toColumns(entry.getValue().referenceKey)));
+		}
+		writer.flush();
+	}
+
+	private static String toColumns(String key) {
+		return key.contains(SEPARATOR) ? key : key + SEPARATOR;
+	}
+
+	private static String getKey(BenchmarkParams params) {
+		Map<String, String> parameters = new TreeMap<>();
+		for (String paramKey : params.getParamsKeys()) {
+			parameters.put(paramKey, params.getParam(paramKey));
+		}
+		return getKey(params.getBenchmark(), parameters);
+	}
+
+	/**
+	 * Builds the key of a benchmark, e.g. {@code signature.XAdESSignatureBenchmark.sign;documentSize=SMALL}.
+	 * The package of the DSS benchmarks is omitted and the parameters are sorted by name.
+	 *
+	 * @param benchmark {@link String} the fully qualified benchmark method name
+	 * @param parameters a map of the benchmark parameter names and values
+	 * @return {@link String} key
+	 */
+	static String getKey(String benchmark, Map<String, String> parameters) {
+		if (benchmark.startsWith(BENCHMARKS_PACKAGE)) {
+			benchmark = benchmark.substring(BENCHMARKS_PACKAGE.length());
+		}
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, String> parameter : new TreeMap<>(parameters).entrySet()) {
+			if (sb.length() > 0) {
+				sb.append(',');
+			}
+			sb.append(parameter.getKey()).append('=').append(parameter.getValue());
+		}
+		return getKey(benchmark, sb.toString());
+	}
+
+	private static String getKey(String benchmark, String parameters) {
+		if (parameters.isEmpty()) {
+			return benchmark;
+		}
+		return benchmark + SEPARATOR + parameters;
+	}
+
+	private static boolean isLowerBetter(Mode mode) {
+		return Mode.AverageTime == mode || Mode.SampleTime == mode || Mode.SingleShotTime == mode;
+	}
+
+	/**
+	 * Defines the maximum score of a benchmark
+	 */
+	private static class Threshold {
+
+		/** The maximum accepted score */
+		private final double maxScore;
+
+		/** The score unit (e.g. ms/op) */
+		private final String unit;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param maxScore the maximum accepted score
+		 * @param unit {@link String}
+		 */
+		private Threshold(double maxScore, String unit) {
+			this.maxScore = maxScore;
+			this.unit = unit;
+		}
+
+	}
+
+	/**
+	 * Defines the maximum ratio between the scores of a benchmark and of a reference benchmark
+	 */
+	private static class RelativeThreshold {
+
+		/** The maximum accepted ratio */
+		private final double maxRatio;
+
+		/** The reference benchmark name with its parameters */
+		private final String referenceKey;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param maxRatio the maximum accepted ratio
+		 * @param referenceKey {@link String}
+		 */
+		private RelativeThreshold(double maxRatio, String referenceKey) {
+			this.maxRatio = maxRatio;
+			this.referenceKey = referenceKey;
+		}
+
+	}
+
+}
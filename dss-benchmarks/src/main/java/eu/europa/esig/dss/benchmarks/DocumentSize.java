@@ -0,0 +1,73 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+/**
+ * Defines the size of the documents used by the benchmarks
+ *
+ */
+public enum DocumentSize {
+
+	/** About 1 KB of content, within a single page for PDF documents */
+	SMALL(1024, 1),
+
+	/** About 10 MB of content, within 200 pages for PDF documents */
+	LARGE(10 * 1024 * 1024, 200),
+
+	/** About 200 MB of content, within 4000 pages for PDF documents (requires an extended heap) */
+	HUGE(200 * 1024 * 1024, 4000);
+
+	/** The number of bytes of the document content */
+	private final int numberOfBytes;
+
+	/** The number of pages of a PDF document */
+	private final int numberOfPages;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param numberOfBytes the number of bytes of the document content
+	 * @param numberOfPages the number of pages of a PDF document
+	 */
+	DocumentSize(int numberOfBytes, int numberOfPages) {
+		this.numberOfBytes = numberOfBytes;
+		this.numberOfPages = numberOfPages;
+	}
+
+	/**
+	 * Returns the number of bytes of the document content
+	 *
+	 * @return number of bytes
+	 */
+	public int getNumberOfBytes() {
+		return numberOfBytes;
+	}
+
+	/**
+	 * Returns the number of pages of a PDF document
+	 *
+	 * @return number of pages
+	 */
+	public int getNumberOfPages() {
+		return numberOfPages;
+	}
+
+}
@@ -0,0 +1,116 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.asic;
+
+import eu.europa.esig.dss.asic.common.ASiCContent;
+import eu.europa.esig.dss.asic.xades.ASiCWithXAdESContainerExtractor;
+import eu.europa.esig.dss.asic.xades.ASiCWithXAdESSignatureParameters;
+import eu.europa.esig.dss.asic.xades.signature.ASiCWithXAdESService;
+import eu.europa.esig.dss.benchmarks.BenchmarkDocuments;
+import eu.europa.esig.dss.benchmarks.BenchmarkPKI;
+import eu.europa.esig.dss.benchmarks.DocumentSize;
+import eu.europa.esig.dss.enumerations.ASiCContainerType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.token.AbstractSignatureTokenConnection;
+import eu.europa.esig.dss.token.DSSPrivateKeyEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the extraction of an ASiC-E container with XAdES signed with the local PKI
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ASiCContainerExtractionBenchmark {
+
+	/** The size of each signed document within the container */
+	@Param({ "SMALL", "LARGE" })
+	public DocumentSize documentSize;
+
+	/** The number of signed documents within the container */
+	@Param({ "1", "10" })
+	public int numberOfDocuments;
+
+	/** The ASiC container */
+	private DSSDocument container;
+
+	/**
+	 * Creates the ASiC container
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		List<DSSDocument> documentsToSign = new ArrayList<>();
+		for (int i = 0; i < numberOfDocuments; i++) {
+			documentsToSign.add(BenchmarkDocuments.createBinaryDocument(documentSize, "document-" + i + ".bin"));
+		}
+
+		BenchmarkPKI pki = new BenchmarkPKI();
+		try (AbstractSignatureTokenConnection token = pki.getSignatureToken()) {
+			DSSPrivateKeyEntry privateKey = pki.getSignerKey();
+
+			ASiCWithXAdESSignatureParameters parameters = new ASiCWithXAdESSignatureParameters();
+			parameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_B);
+			parameters.aSiC().setContainerType(ASiCContainerType.ASiC_E);
+			parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+			parameters.setSigningCertificate(privateKey.getCertificate());
+			parameters.setCertificateChain(privateKey.getCertificateChain());
+
+			ASiCWithXAdESService service = new ASiCWithXAdESService(pki.getSignatureCertificateVerifier());
+			ToBeSigned dataToSign = service.getDataToSign(documentsToSign, parameters);
+			SignatureValue signatureValue = token.sign(dataToSign, parameters.getDigestAlgorithm(), privateKey);
+			container = service.signDocument(documentsToSign, parameters, signatureValue);
+		}
+	}
+
+	/**
+	 * Extracts the content of the container
+	 *
+	 * @return {@link ASiCContent}
+	 */
+	@Benchmark
+	public ASiCContent extract() {
+		return new ASiCWithXAdESContainerExtractor(container).extract();
+	}
+
+}
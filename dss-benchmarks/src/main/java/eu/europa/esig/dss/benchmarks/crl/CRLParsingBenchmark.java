@@ -0,0 +1,162 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.crl;
+
+import eu.europa.esig.dss.benchmarks.BenchmarkPKI;
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.crl.ICRLUtils;
+import eu.europa.esig.dss.crl.stream.impl.CRLUtilsStreamImpl;
+import eu.europa.esig.dss.crl.x509.impl.CRLUtilsX509CRLImpl;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.pki.model.CertEntity;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the CRL parsing of the {@code dss-crl-parser-stream} and {@code dss-crl-parser-x509crl} implementations.
+ * The CRL is generated on setup and signed by the "good-ca" of the local PKI.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CRLParsingBenchmark {
+
+	/** The CRL parser implementation : "stream" or "x509crl" */
+	@Param({ "stream", "x509crl" })
+	public String implementation;
+
+	/** The number of revoked certificates within the CRL */
+	@Param({ "10", "10000", "100000" })
+	public int numberOfEntries;
+
+	/** The CRL parser */
+	private ICRLUtils crlUtils;
+
+	/** The encoded CRL */
+	private byte[] crlBinaries;
+
+	/** The CRL issuer */
+	private CertificateToken issuerCertificate;
+
+	/** The CRL validity built on setup */
+	private CRLValidity crlValidity;
+
+	/** The serial number of the last revoked certificate within the CRL */
+	private BigInteger lastSerialNumber;
+
+	/**
+	 * Generates the CRL and instantiates the parser
+	 *
+	 * @throws Exception if an error occurs on CRL generation
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		crlUtils = createCRLUtils(implementation);
+
+		CertEntity issuer = new BenchmarkPKI().getIssuerCertEntity();
+		issuerCertificate = issuer.getCertificateToken();
+		crlBinaries = generateCRL(issuer, numberOfEntries);
+		crlValidity = buildCRLValidity();
+	}
+
+	private static ICRLUtils createCRLUtils(String implementation) {
+		switch (implementation) {
+			case "stream":
+				return new CRLUtilsStreamImpl();
+			case "x509crl":
+				return new CRLUtilsX509CRLImpl();
+			default:
+				throw new IllegalArgumentException(String.format("Unknown CRL parser implementation '%s'!", implementation));
+		}
+	}
+
+	private byte[] generateCRL(CertEntity issuer, int numberOfEntries) throws Exception {
+		final Date now = new Date();
+		final X509v2CRLBuilder builder = new X509v2CRLBuilder(
+				X500Name.getInstance(issuer.getCertificateToken().getSubject().getPrincipal().getEncoded()), now);
+		builder.setNextUpdate(new Date(now.getTime() + TimeUnit.DAYS.toMillis(1)));
+		builder.addExtension(Extension.cRLNumber, false, new ASN1Integer(1));
+
+		final Date revocationDate = new Date(now.getTime() - TimeUnit.DAYS.toMillis(1));
+		for (int i = 0; i < numberOfEntries; i++) {
+			lastSerialNumber = BigInteger.valueOf(1000000L + i);
+			builder.addCRLEntry(lastSerialNumber, revocationDate, CRLReason.keyCompromise);
+		}
+
+		final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.getAlgorithm(
+				issuer.getEncryptionAlgorithm(), DigestAlgorithm.SHA256);
+		final ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm.getJCEId()).build(issuer.getPrivateKey());
+		return builder.build(signer).getEncoded();
+	}
+
+	/**
+	 * Parses the CRL and verifies its signature
+	 *
+	 * @return {@link CRLValidity}
+	 * @throws IOException if an error occurs on CRL parsing
+	 */
+	@Benchmark
+	public CRLValidity buildCRLValidity() throws IOException {
+		CRLBinary crlBinary = crlUtils.buildCRLBinary(crlBinaries);
+		return crlUtils.buildCRLValidity(crlBinary, issuerCertificate);
+	}
+
+	/**
+	 * Looks for the last revoked certificate within the parsed CRL
+	 *
+	 * @return {@link X509CRLEntry}
+	 */
+	@Benchmark
+	public X509CRLEntry getRevocationInfo() {
+		return crlUtils.getRevocationInfo(crlValidity, lastSerialNumber);
+	}
+
+}
@@ -0,0 +1,406 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+import eu.europa.esig.dss.benchmarks.BenchmarkDocuments;
+import eu.europa.esig.dss.benchmarks.BenchmarkPKI;
+import eu.europa.esig.dss.benchmarks.DocumentSize;
+import eu.europa.esig.dss.diagnostic.CertificateWrapper;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.enumerations.Context;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.enumerations.SubIndication;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.pki.jaxb.property.PKIJaxbProperties;
+import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.simplereport.SimpleReport;
+import eu.europa.esig.dss.service.crl.OnlineCRLSource;
+import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
+import eu.europa.esig.dss.service.http.commons.OCSPDataLoader;
+import eu.europa.esig.dss.service.http.commons.TimestampDataLoader;
+import eu.europa.esig.dss.service.ocsp.OnlineOCSPSource;
+import eu.europa.esig.dss.service.tsp.OnlineTSPSource;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.x509.aia.DefaultAIASource;
+import eu.europa.esig.dss.token.AbstractSignatureTokenConnection;
+import eu.europa.esig.dss.token.DSSPrivateKeyEntry;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.RevocationDataVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.process.bbb.sav.checks.CryptographicConstraintWrapper;
+import eu.europa.esig.dss.validation.reports.Reports;
+import eu.europa.esig.dss.xades.XAdESSignatureParameters;
+import eu.europa.esig.dss.xades.signature.XAdESService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executes concurrent validation or extension operations against a {@code PKIResponderServer}.
+ *
+ * All the revocation data, AIA certificates and time-stamps are obtained with the
+ * {@code CommonsDataLoader} based sources, the requests being redirected to the server.
+ *
+ * An operation is successful when it does not throw an exception and when the validation of its result
+ * returns TOTAL_PASSED with revocation data for the signing certificate. The extended documents are validated
+ * offline once the measured run is over, so the classification does not impact the measured latencies.
+ *
+ */
+public class LoadTestDriver {
+
+	private static final Logger LOG = LoggerFactory.getLogger(LoadTestDriver.class);
+
+	/** The subject name of the TSA used for the extension workloads */
+	public static final String GOOD_TSA = "good-tsa";
+
+	/** The length of the RSA keys of the local PKI */
+	private static final int PKI_RSA_KEY_LENGTH = 2048;
+
+	/** The responder server */
+	private final PKIResponderServer server;
+
+	/** The local PKI */
+	private final BenchmarkPKI pki;
+
+	/** The number of concurrent threads */
+	private int numberOfThreads = 8;
+
+	/** The number of measured operations */
+	private int numberOfOperations = 1000;
+
+	/** The number of operations executed before the measurement */
+	private int numberOfWarmupOperations = 50;
+
+	/** The connection and socket timeout of the data loaders, in milliseconds */
+	private int timeout = 10000;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param server {@link PKIResponderServer} started server
+	 * @param pki {@link BenchmarkPKI} the local PKI served by the server
+	 */
+	public LoadTestDriver(PKIResponderServer server, BenchmarkPKI pki) {
+		Objects.requireNonNull(server, "PKIResponderServer cannot be null!");
+		Objects.requireNonNull(pki, "BenchmarkPKI cannot be null!");
+		this.server = server;
+		this.pki = pki;
+	}
+
+	/**
+	 * Sets the number of concurrent threads (8 by default)
+	 *
+	 * @param numberOfThreads number of threads
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	/**
+	 * Sets the number of measured operations (1000 by default)
+	 *
+	 * @param numberOfOperations number of operations
+	 */
+	public void setNumberOfOperations(int numberOfOperations) {
+		this.numberOfOperations = numberOfOperations;
+	}
+
+	/**
+	 * Sets the number of operations executed before the measurement (50 by default)
+	 *
+	 * @param numberOfWarmupOperations number of operations
+	 */
+	public void setNumberOfWarmupOperations(int numberOfWarmupOperations) {
+		this.numberOfWarmupOperations = numberOfWarmupOperations;
+	}
+
+	/**
+	 * Sets the connection and socket timeout of the data loaders, in milliseconds (10 seconds by default)
+	 *
+	 * @param timeout in milliseconds
+	 */
+	public void setTimeout(int timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Runs the workload
+	 *
+	 * @param workload {@link LoadWorkload}
+	 * @return {@link LoadTestReport}
+	 * @throws InterruptedException if the execution is interrupted
+	 */
+	public LoadTestReport run(LoadWorkload workload) throws InterruptedException {
+		final Callable<Object> operation = createOperation(workload, sign(), createCertificateVerifier());
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+		try {
+			LOG.info("Warm-up of {} with {} operations...", workload, numberOfWarmupOperations);
+			execute(executorService, operation, new long[numberOfWarmupOperations], new Object[numberOfWarmupOperations]);
+
+			server.resetCounters();
+			LOG.info("Execution of {} with {} operations on {} threads...", workload, numberOfOperations, numberOfThreads);
+			final long[] latencies = new long[numberOfOperations];
+			final Object[] results = new Object[numberOfOperations];
+			final long startTime = System.nanoTime();
+			execute(executorService, operation, latencies, results);
+			final long duration = System.nanoTime() - startTime;
+
+			// counters are read before the offline validation of the results
+			final Map<ResponderType, Long> requests = new EnumMap<>(ResponderType.class);
+			final Map<ResponderType, Long> failures = new EnumMap<>(ResponderType.class);
+			for (ResponderType responderType : ResponderType.values()) {
+				requests.put(responderType, server.getNumberOfRequests(responderType));
+				failures.put(responderType, server.getNumberOfFailures(responderType));
+			}
+
+			final Map<String, Long> outcomes = new LinkedHashMap<>();
+			final List<Long> successfulLatencies = new ArrayList<>(numberOfOperations);
+			for (int i = 0; i < numberOfOperations; i++) {
+				final String outcome = getOutcome(results[i]);
+				outcomes.merge(outcome, 1L, Long::sum);
+				if (LoadTestReport.SUCCESS.equals(outcome)) {
+					successfulLatencies.add(latencies[i]);
+				}
+			}
+
+			final long[] reportLatencies = new long[successfulLatencies.size()];
+			for (int i = 0; i < reportLatencies.length; i++) {
+				reportLatencies[i] = successfulLatencies.get(i);
+			}
+			final LoadTestReport report = new LoadTestReport(workload, numberOfThreads, reportLatencies,
+					numberOfOperations - reportLatencies.length, duration);
+			for (ResponderType responderType : ResponderType.values()) {
+				report.setNumberOfRequests(responderType, requests.get(responderType));
+				report.setNumberOfFailures(responderType, failures.get(responderType));
+			}
+			for (Map.Entry<String, Long> entry : outcomes.entrySet()) {
+				report.setNumberOfOutcomes(entry.getKey(), entry.getValue());
+			}
+			return report;
+
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Executes the operation and fills the latencies and the results (the exception for a failed operation)
+	 */
+	private void execute(ExecutorService executorService, Callable<Object> operation,
+						 long[] latencies, Object[] results) throws InterruptedException {
+		final List<Callable<Void>> tasks = new ArrayList<>(latencies.length);
+		for (int i = 0; i < latencies.length; i++) {
+			final int index = i;
+			tasks.add(() -> {
+				final long startTime = System.nanoTime();
+				try {
+					results[index] = operation.call();
+				} catch (Exception e) {
+					LOG.debug("Operation failed : {}", e.getMessage(), e);
+					results[index] = e;
+				}
+				latencies[index] = System.nanoTime() - startTime;
+				return null;
+			});
+		}
+
+		for (Future<Void> future : executorService.invokeAll(tasks)) {
+			try {
+				future.get();
+			} catch (Exception e) {
+				throw new IllegalStateException(String.format("Unexpected error : %s", e.getMessage()), e);
+			}
+		}
+	}
+
+	/**
+	 * Classifies the result of an operation
+	 *
+	 * @param result the returned {@link Reports} or {@link DSSDocument}, or the thrown {@link Exception}
+	 * @return {@link String} outcome
+	 */
+	private String getOutcome(Object result) {
+		if (result instanceof Exception) {
+			return LoadTestReport.EXCEPTION;
+		}
+		final Reports reports;
+		if (result instanceof Reports) {
+			reports = (Reports) result;
+		} else {
+			try {
+				reports = validateOffline((DSSDocument) result);
+			} catch (Exception e) {
+				LOG.debug("Unable to validate the extended document : {}", e.getMessage(), e);
+				return LoadTestReport.EXCEPTION;
+			}
+		}
+		return getOutcome(reports);
+	}
+
+	private String getOutcome(Reports reports) {
+		final SimpleReport simpleReport = reports.getSimpleReport();
+		final List<String> signatureIds = simpleReport.getSignatureIdList();
+		if (signatureIds.isEmpty()) {
+			return LoadTestReport.NO_SIGNATURE;
+		}
+		for (String signatureId : signatureIds) {
+			final SignatureWrapper signature = reports.getDiagnosticData().getSignatureById(signatureId);
+			final CertificateWrapper signingCertificate = signature.getSigningCertificate();
+			if (signingCertificate == null || signingCertificate.getCertificateRevocationData().isEmpty()) {
+				return LoadTestReport.MISSING_REVOCATION;
+			}
+			final Indication indication = simpleReport.getIndication(signatureId);
+			if (Indication.TOTAL_PASSED != indication) {
+				final SubIndication subIndication = simpleReport.getSubIndication(signatureId);
+				return subIndication != null ? indication + "/" + subIndication : String.valueOf(indication);
+			}
+		}
+		return LoadTestReport.SUCCESS;
+	}
+
+	/**
+	 * Validates an extended document with its embedded revocation data only
+	 */
+	private Reports validateOffline(DSSDocument document) {
+		final CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setTrustedCertSources(pki.getTrustAnchors());
+		final SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(document);
+		validator.setCertificateVerifier(certificateVerifier);
+		return validator.validateDocument();
+	}
+
+	private DSSDocument sign() {
+		try (AbstractSignatureTokenConnection token = pki.getSignatureToken()) {
+			DSSPrivateKeyEntry privateKey = pki.getSignerKey();
+
+			XAdESSignatureParameters parameters = new XAdESSignatureParameters();
+			parameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_B);
+			parameters.setSignaturePackaging(SignaturePackaging.ENVELOPED);
+			parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+			parameters.setSigningCertificate(privateKey.getCertificate());
+			parameters.setCertificateChain(privateKey.getCertificateChain());
+
+			XAdESService service = new XAdESService(pki.getSignatureCertificateVerifier());
+			DSSDocument documentToSign = BenchmarkDocuments.createXmlDocument(DocumentSize.SMALL);
+			ToBeSigned dataToSign = service.getDataToSign(documentToSign, parameters);
+			SignatureValue signatureValue = token.sign(dataToSign, parameters.getDigestAlgorithm(), privateKey);
+			return service.signDocument(documentToSign, parameters, signatureValue);
+		}
+	}
+
+	private CertificateVerifier createCertificateVerifier() {
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setOcspSource(new OnlineOCSPSource(redirect(configure(new OCSPDataLoader()))));
+		certificateVerifier.setCrlSource(new OnlineCRLSource(redirect(configure(new CommonsDataLoader()))));
+		certificateVerifier.setAIASource(new DefaultAIASource(redirect(configure(new CommonsDataLoader()))));
+		certificateVerifier.setTrustedCertSources(pki.getTrustAnchors());
+		certificateVerifier.setRevocationDataVerifier(createRevocationDataVerifier());
+		return certificateVerifier;
+	}
+
+	/**
+	 * The default validation policy requires RSA keys of at least 3000 bits for the revocation data, while the
+	 * local PKI signs its CRLs and OCSP responses with RSA 2048 keys. Such revocation data would be skipped and
+	 * the extension would fail with missing revocation data. Only the RSA minimal key length is lowered,
+	 * the other cryptographic constraints of the default validation policy are kept.
+	 */
+	private RevocationDataVerifier createRevocationDataVerifier() {
+		final ValidationPolicy validationPolicy;
+		try {
+			validationPolicy = ValidationPolicyFacade.newFacade().getDefaultValidationPolicy();
+		} catch (Exception e) {
+			throw new IllegalStateException(String.format("Unable to load the default validation policy : %s", e.getMessage()), e);
+		}
+		final Date currentTime = new Date();
+		final CryptographicConstraintWrapper constraint = new CryptographicConstraintWrapper(
+				validationPolicy.getSignatureCryptographicConstraint(Context.REVOCATION));
+		final Map<EncryptionAlgorithm, Integer> acceptableEncryptionAlgorithms =
+				constraint.getReliableEncryptionAlgorithmsWithMinimalKeyLengthAtTime(currentTime);
+		acceptableEncryptionAlgorithms.put(EncryptionAlgorithm.RSA, PKI_RSA_KEY_LENGTH);
+
+		final RevocationDataVerifier revocationDataVerifier = RevocationDataVerifier.createDefaultRevocationDataVerifier();
+		revocationDataVerifier.setAcceptableDigestAlgorithms(constraint.getReliableDigestAlgorithmsAtTime(currentTime));
+		revocationDataVerifier.setAcceptableEncryptionAlgorithmKeyLength(acceptableEncryptionAlgorithms);
+		return revocationDataVerifier;
+	}
+
+	private CommonsDataLoader configure(CommonsDataLoader dataLoader) {
+		dataLoader.setTimeoutConnection(timeout);
+		dataLoader.setTimeoutSocket(timeout);
+		dataLoader.setConnectionsMaxTotal(Math.max(numberOfThreads * 2, 20));
+		dataLoader.setConnectionsMaxPerRoute(Math.max(numberOfThreads * 2, 20));
+		return dataLoader;
+	}
+
+	private DataLoader redirect(DataLoader dataLoader) {
+		return new RedirectDataLoader(dataLoader, PKIJaxbProperties.PKI_FACTORY_HOST, server.getBaseUrl());
+	}
+
+	private Callable<Object> createOperation(LoadWorkload workload, DSSDocument signedDocument,
+											 CertificateVerifier certificateVerifier) {
+		switch (workload) {
+			case VALIDATION:
+				return () -> {
+					SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(signedDocument);
+					validator.setCertificateVerifier(certificateVerifier);
+					return validator.validateDocument();
+				};
+			case LT_EXTENSION:
+				return createExtension(signedDocument, certificateVerifier, SignatureLevel.XAdES_BASELINE_LT);
+			case LTA_EXTENSION:
+				return createExtension(signedDocument, certificateVerifier, SignatureLevel.XAdES_BASELINE_LTA);
+			default:
+				throw new UnsupportedOperationException(String.format("Workload '%s' is not supported!", workload));
+		}
+	}
+
+	private Callable<Object> createExtension(DSSDocument signedDocument, CertificateVerifier certificateVerifier,
+											 SignatureLevel signatureLevel) {
+		final XAdESService service = new XAdESService(certificateVerifier);
+		service.setTspSource(new OnlineTSPSource(server.getTspUrl(GOOD_TSA), configure(new TimestampDataLoader())));
+		return () -> {
+			XAdESSignatureParameters parameters = new XAdESSignatureParameters();
+			parameters.setSignatureLevel(signatureLevel);
+			return service.extendDocument(signedDocument, parameters);
+		};
+	}
+
+}
@@ -0,0 +1,251 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contains the results of a load test run
+ *
+ */
+public class LoadTestReport {
+
+	/** The outcome of an operation validated with the TOTAL_PASSED indication and revocation data */
+	public static final String SUCCESS = "SUCCESS";
+
+	/** The outcome of an operation which has thrown an exception */
+	public static final String EXCEPTION = "EXCEPTION";
+
+	/** The outcome of an operation without revocation data for the signing certificate */
+	public static final String MISSING_REVOCATION = "MISSING_REVOCATION";
+
+	/** The outcome of an operation without any validated signature */
+	public static final String NO_SIGNATURE = "NO_SIGNATURE";
+
+	/** The executed workload */
+	private final LoadWorkload workload;
+
+	/** The number of concurrent threads */
+	private final int numberOfThreads;
+
+	/** The sorted latencies of the successful operations, in nanoseconds */
+	private final long[] latencies;
+
+	/** The number of unsuccessful operations */
+	private final long numberOfErrors;
+
+	/** The duration of the run, in nanoseconds */
+	private final long duration;
+
+	/** The number of requests received by each endpoint of the responder server */
+	private final Map<ResponderType, Long> numberOfRequests = new EnumMap<>(ResponderType.class);
+
+	/** The number of simulated failures of each endpoint of the responder server */
+	private final Map<ResponderType, Long> numberOfFailures = new EnumMap<>(ResponderType.class);
+
+	/** The number of operations by outcome (e.g. SUCCESS, INDETERMINATE/TRY_LATER, MISSING_REVOCATION) */
+	private final Map<String, Long> numberOfOutcomes = new LinkedHashMap<>();
+
+	/**
+	 * Default constructor
+	 *
+	 * @param workload {@link LoadWorkload}
+	 * @param numberOfThreads the number of concurrent threads
+	 * @param latencies the latencies of the successful operations, in nanoseconds
+	 * @param numberOfErrors the number of unsuccessful operations
+	 * @param duration the duration of the run, in nanoseconds
+	 */
+	public LoadTestReport(LoadWorkload workload, int numberOfThreads, long[] latencies, long numberOfErrors, long duration) {
+		Objects.requireNonNull(workload, "LoadWorkload cannot be null!");
+		Objects.requireNonNull(latencies, "Latencies cannot be null!");
+		this.workload = workload;
+		this.numberOfThreads = numberOfThreads;
+		this.latencies = latencies.clone();
+		Arrays.sort(this.latencies);
+		this.numberOfErrors = numberOfErrors;
+		this.duration = duration;
+	}
+
+	/**
+	 * Gets the executed workload
+	 *
+	 * @return {@link LoadWorkload}
+	 */
+	public LoadWorkload getWorkload() {
+		return workload;
+	}
+
+	/**
+	 * Gets the number of concurrent threads
+	 *
+	 * @return number of threads
+	 */
+	public int getNumberOfThreads() {
+		return numberOfThreads;
+	}
+
+	/**
+	 * Gets the number of successful operations
+	 *
+	 * @return number of operations
+	 */
+	public long getNumberOfOperations() {
+		return latencies.length;
+	}
+
+	/**
+	 * Gets the number of unsuccessful operations (see {@code getNumberOfOutcomes()} for the details)
+	 *
+	 * @return number of errors
+	 */
+	public long getNumberOfErrors() {
+		return numberOfErrors;
+	}
+
+	/**
+	 * Gets the duration of the run, in milliseconds
+	 *
+	 * @return duration in milliseconds
+	 */
+	public long getDuration() {
+		return TimeUnit.NANOSECONDS.toMillis(duration);
+	}
+
+	/**
+	 * Gets the number of successful operations per second
+	 *
+	 * @return throughput
+	 */
+	public double getThroughput() {
+		if (duration == 0) {
+			return 0;
+		}
+		return latencies.length / (duration / (double) TimeUnit.SECONDS.toNanos(1));
+	}
+
+	/**
+	 * Gets the latency percentile of the successful operations (nearest-rank method), in milliseconds
+	 *
+	 * @param percentile between 0 (excluded) and 100
+	 * @return latency in milliseconds, 0 if no operation succeeded
+	 */
+	public double getLatencyPercentile(double percentile) {
+		if (percentile <= 0 || percentile > 100) {
+			throw new IllegalArgumentException("The percentile shall be between 0 (excluded) and 100!");
+		}
+		if (latencies.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+		return toMillis(latencies[Math.max(rank, 1) - 1]);
+	}
+
+	/**
+	 * Gets the maximum latency of the successful operations, in milliseconds
+	 *
+	 * @return latency in milliseconds, 0 if no operation succeeded
+	 */
+	public double getMaxLatency() {
+		return latencies.length == 0 ? 0 : toMillis(latencies[latencies.length - 1]);
+	}
+
+	/**
+	 * Sets the number of requests received by an endpoint of the responder server during the run
+	 *
+	 * @param responderType {@link ResponderType}
+	 * @param requests number of requests
+	 */
+	public void setNumberOfRequests(ResponderType responderType, long requests) {
+		numberOfRequests.put(responderType, requests);
+	}
+
+	/**
+	 * Gets the number of requests received by an endpoint of the responder server during the run
+	 *
+	 * @param responderType {@link ResponderType}
+	 * @return number of requests
+	 */
+	public long getNumberOfRequests(ResponderType responderType) {
+		Long requests = numberOfRequests.get(responderType);
+		return requests != null ? requests : 0;
+	}
+
+	/**
+	 * Sets the number of simulated failures of an endpoint of the responder server during the run
+	 *
+	 * @param responderType {@link ResponderType}
+	 * @param failures number of failures
+	 */
+	public void setNumberOfFailures(ResponderType responderType, long failures) {
+		numberOfFailures.put(responderType, failures);
+	}
+
+	/**
+	 * Gets the number of simulated failures of an endpoint of the responder server during the run
+	 *
+	 * @param responderType {@link ResponderType}
+	 * @return number of failures
+	 */
+	public long getNumberOfFailures(ResponderType responderType) {
+		Long failures = numberOfFailures.get(responderType);
+		return failures != null ? failures : 0;
+	}
+
+	/**
+	 * Sets the number of operations with the given outcome
+	 *
+	 * @param outcome {@link String} (e.g. SUCCESS, INDETERMINATE/TRY_LATER, MISSING_REVOCATION)
+	 * @param operations number of operations
+	 */
+	public void setNumberOfOutcomes(String outcome, long operations) {
+		numberOfOutcomes.put(outcome, operations);
+	}
+
+	/**
+	 * Gets the number of operations by outcome
+	 *
+	 * @return an unmodifiable map of the number of operations by outcome
+	 */
+	public Map<String, Long> getNumberOfOutcomes() {
+		return Collections.unmodifiableMap(numberOfOutcomes);
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ENGLISH, "%s with %s threads : %s operations, %s errors in %s ms (%.2f op/s) - " +
+						"latency p50=%.2f ms, p90=%.2f ms, p99=%.2f ms, max=%.2f ms - outcomes %s - requests %s - failures %s",
+				workload, numberOfThreads, getNumberOfOperations(), numberOfErrors, getDuration(), getThroughput(),
+				getLatencyPercentile(50), getLatencyPercentile(90), getLatencyPercentile(99), getMaxLatency(),
+				numberOfOutcomes, numberOfRequests, numberOfFailures);
+	}
+
+}
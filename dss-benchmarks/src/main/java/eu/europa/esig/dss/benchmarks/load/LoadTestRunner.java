@@ -0,0 +1,92 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+import eu.europa.esig.dss.benchmarks.BenchmarkPKI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a load test against an embedded {@code PKIResponderServer} and logs the {@code LoadTestReport}.
+ *
+ * The run is configured with the following system properties :
+ * <ul>
+ *     <li>{@code dss.loadtest.workload} : VALIDATION (default), LT_EXTENSION or LTA_EXTENSION;</li>
+ *     <li>{@code dss.loadtest.threads} : number of concurrent threads (8 by default);</li>
+ *     <li>{@code dss.loadtest.operations} : number of measured operations (1000 by default);</li>
+ *     <li>{@code dss.loadtest.warmup} : number of warm-up operations (50 by default);</li>
+ *     <li>{@code dss.loadtest.latency} : latency of the responders in milliseconds (20 by default);</li>
+ *     <li>{@code dss.loadtest.jitter} : maximum jitter of the responders in milliseconds (10 by default);</li>
+ *     <li>{@code dss.loadtest.failureRate} : failure rate of the responders, between 0 and 1 (0 by default);</li>
+ *     <li>{@code dss.loadtest.crlEntries} : number of additional entries of the CRLs (0 by default).</li>
+ * </ul>
+ * E.g. {@code java -Ddss.loadtest.workload=LT_EXTENSION -cp benchmarks.jar eu.europa.esig.dss.benchmarks.load.LoadTestRunner}
+ *
+ */
+public final class LoadTestRunner {
+
+	private static final Logger LOG = LoggerFactory.getLogger(LoadTestRunner.class);
+
+	/** The prefix of the system properties */
+	private static final String PROPERTY_PREFIX = "dss.loadtest.";
+
+	/**
+	 * Utils class
+	 */
+	private LoadTestRunner() {
+		// empty
+	}
+
+	/**
+	 * Runs the load test
+	 *
+	 * @param args not used
+	 * @throws Exception if an error occurs
+	 */
+	public static void main(String[] args) throws Exception {
+		final LoadWorkload workload = LoadWorkload.valueOf(System.getProperty(PROPERTY_PREFIX + "workload", LoadWorkload.VALIDATION.name()));
+		final int numberOfThreads = Integer.getInteger(PROPERTY_PREFIX + "threads", 8);
+
+		final ResponderConfiguration configuration = new ResponderConfiguration();
+		configuration.setLatency(Long.getLong(PROPERTY_PREFIX + "latency", 20));
+		configuration.setJitter(Long.getLong(PROPERTY_PREFIX + "jitter", 10));
+		configuration.setFailureRate(Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "failureRate", "0")));
+		configuration.setAdditionalCRLEntries(Integer.getInteger(PROPERTY_PREFIX + "crlEntries", 0));
+
+		final BenchmarkPKI pki = new BenchmarkPKI();
+		pki.getCertEntity(LoadTestDriver.GOOD_TSA);
+
+		try (PKIResponderServer server = new PKIResponderServer(pki.getRepository())) {
+			server.setConfiguration(configuration);
+			server.setNumberOfThreads(Math.max(numberOfThreads * 2, 16));
+			server.start();
+
+			LoadTestDriver driver = new LoadTestDriver(server, pki);
+			driver.setNumberOfThreads(numberOfThreads);
+			driver.setNumberOfOperations(Integer.getInteger(PROPERTY_PREFIX + "operations", 1000));
+			driver.setNumberOfWarmupOperations(Integer.getInteger(PROPERTY_PREFIX + "warmup", 50));
+
+			LoadTestReport report = driver.run(workload);
+			LOG.info("{}", report);
+		}
+	}
+
+}
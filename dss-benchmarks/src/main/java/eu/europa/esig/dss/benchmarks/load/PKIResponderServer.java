@@ -0,0 +1,504 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.pki.exception.PKIException;
+import eu.europa.esig.dss.pki.jaxb.model.JAXBCertEntity;
+import eu.europa.esig.dss.pki.jaxb.model.JAXBCertEntityRepository;
+import eu.europa.esig.dss.pki.model.CertEntity;
+import eu.europa.esig.dss.pki.model.CertEntityRevocation;
+import eu.europa.esig.dss.pki.x509.revocation.crl.PKICRLSource;
+import eu.europa.esig.dss.pki.x509.revocation.ocsp.PKIDelegatedOCSPSource;
+import eu.europa.esig.dss.pki.x509.tsp.PKITSPSource;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.utils.Utils;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.operator.DigestCalculatorProvider;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.bouncycastle.tsp.TimeStampRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Embedded HTTP server serving OCSP, CRL, AIA and TSA endpoints generated from a {@code JAXBCertEntityRepository}.
+ *
+ * The endpoints follow the URL structure of the certificates generated by the local PKI
+ * ("crl/{subject}[/{serial}].crl", "ocsp/{subject}[/{serial}]", "crt/{subject}[/{serial}].crt"),
+ * so the requests of the real {@code DataLoader}s can be redirected to the server
+ * (see {@code RedirectDataLoader}). The time-stamps are requested on "tsa/{subject}".
+ *
+ * Latency, jitter, failure rate and CRL size can be configured per endpoint with {@code ResponderConfiguration}.
+ *
+ */
+public class PKIResponderServer implements AutoCloseable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PKIResponderServer.class);
+
+	/** The TSA policy used when not defined within the time-stamp request */
+	private static final String DEFAULT_TSA_POLICY = "1.2.3.4";
+
+	/** The serial number of the first additional CRL entry */
+	private static final long ADDITIONAL_CRL_ENTRIES_OFFSET = 1000000000L;
+
+	/** The cert entity repository */
+	private final JAXBCertEntityRepository repository;
+
+	/** The cert entities by their URL key ("{subject}" or "{subject}/{serial}") */
+	private final Map<String, JAXBCertEntity> entitiesByUrlKey = new HashMap<>();
+
+	/** The cert entities by their serial number, used to answer OCSP requests */
+	private final Map<BigInteger, List<JAXBCertEntity>> entitiesBySerialNumber = new HashMap<>();
+
+	/** The configuration of each endpoint */
+	private final Map<ResponderType, ResponderConfiguration> configurations = new EnumMap<>(ResponderType.class);
+
+	/** The number of requests received by each endpoint */
+	private final Map<ResponderType, AtomicLong> requests = new EnumMap<>(ResponderType.class);
+
+	/** The number of simulated failures of each endpoint */
+	private final Map<ResponderType, AtomicLong> failures = new EnumMap<>(ResponderType.class);
+
+	/** The OCSP response generator */
+	private final ResponderOCSPSource ocspSource;
+
+	/** The number of threads processing the requests */
+	private int numberOfThreads = 16;
+
+	/** The HTTP server, when started */
+	private HttpServer httpServer;
+
+	/** The executor of the HTTP server, when started */
+	private ExecutorService executorService;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param repository {@link JAXBCertEntityRepository} containing the loaded PKI
+	 */
+	public PKIResponderServer(JAXBCertEntityRepository repository) {
+		Objects.requireNonNull(repository, "JAXBCertEntityRepository cannot be null!");
+		this.repository = repository;
+		this.ocspSource = new ResponderOCSPSource(repository);
+		for (ResponderType responderType : ResponderType.values()) {
+			configurations.put(responderType, new ResponderConfiguration());
+			requests.put(responderType, new AtomicLong());
+			failures.put(responderType, new AtomicLong());
+		}
+	}
+
+	/**
+	 * Sets the configuration of an endpoint
+	 *
+	 * @param responderType {@link ResponderType}
+	 * @param configuration {@link ResponderConfiguration}
+	 */
+	public void setConfiguration(ResponderType responderType, ResponderConfiguration configuration) {
+		Objects.requireNonNull(responderType, "ResponderType cannot be null!");
+		Objects.requireNonNull(configuration, "ResponderConfiguration cannot be null!");
+		configurations.put(responderType, configuration);
+	}
+
+	/**
+	 * Sets the same configuration for all the endpoints
+	 *
+	 * @param configuration {@link ResponderConfiguration}
+	 */
+	public void setConfiguration(ResponderConfiguration configuration) {
+		for (ResponderType responderType : ResponderType.values()) {
+			setConfiguration(responderType, configuration);
+		}
+	}
+
+	/**
+	 * Sets the number of threads processing the requests (16 by default)
+	 *
+	 * @param numberOfThreads number of threads
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	/**
+	 * Starts the server on a free port of the loopback interface
+	 *
+	 * @throws IOException if the server cannot be started
+	 */
+	public void start() throws IOException {
+		if (httpServer != null) {
+			throw new IllegalStateException("The server is already started!");
+		}
+		indexEntities();
+
+		httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		for (ResponderType responderType : ResponderType.values()) {
+			httpServer.createContext("/" + responderType.getPath() + "/", exchange -> handle(exchange, responderType));
+		}
+		executorService = Executors.newFixedThreadPool(numberOfThreads);
+		httpServer.setExecutor(executorService);
+		httpServer.start();
+		LOG.info("PKI responder server started on '{}' with {} cert entities.", getBaseUrl(), entitiesByUrlKey.size());
+	}
+
+	private void indexEntities() {
+		entitiesByUrlKey.clear();
+		entitiesBySerialNumber.clear();
+		for (JAXBCertEntity certEntity : repository.getAll()) {
+			entitiesByUrlKey.put(certEntity.getSubject() + "/" + certEntity.getSerialNumber(), certEntity);
+			entitiesByUrlKey.putIfAbsent(certEntity.getSubject(), certEntity);
+			entitiesBySerialNumber.computeIfAbsent(certEntity.getCertificateToken().getSerialNumber(), k -> new ArrayList<>())
+					.add(certEntity);
+		}
+		ocspSource.setOcspResponders(repository.getAll().stream().filter(certEntity -> certEntity.getOcspResponder() != null)
+				.collect(Collectors.toMap(certEntity -> certEntity, JAXBCertEntity::getOcspResponder)));
+	}
+
+	/**
+	 * Returns the base URL of the server (e.g. "http://127.0.0.1:8080/")
+	 *
+	 * @return {@link String}
+	 */
+	public String getBaseUrl() {
+		if (httpServer == null) {
+			throw new IllegalStateException("The server is not started!");
+		}
+		InetSocketAddress address = httpServer.getAddress();
+		return String.format("http://%s:%s/", address.getAddress().getHostAddress(), address.getPort());
+	}
+
+	/**
+	 * Returns the URL of the time-stamping authority with the given subject name
+	 *
+	 * @param tsaName {@link String} the subject name of the TSA cert entity (e.g. "good-tsa")
+	 * @return {@link String}
+	 */
+	public String getTspUrl(String tsaName) {
+		return getBaseUrl() + ResponderType.TSA.getPath() + "/" + tsaName;
+	}
+
+	/**
+	 * Returns the number of requests received by an endpoint
+	 *
+	 * @param responderType {@link ResponderType}
+	 * @return number of requests
+	 */
+	public long getNumberOfRequests(ResponderType responderType) {
+		return requests.get(responderType).get();
+	}
+
+	/**
+	 * Returns the number of simulated failures of an endpoint
+	 *
+	 * @param responderType {@link ResponderType}
+	 * @return number of failures
+	 */
+	public long getNumberOfFailures(ResponderType responderType) {
+		return failures.get(responderType).get();
+	}
+
+	/**
+	 * Resets the request and failure counters
+	 */
+	public void resetCounters() {
+		for (ResponderType responderType : ResponderType.values()) {
+			requests.get(responderType).set(0);
+			failures.get(responderType).set(0);
+		}
+	}
+
+	@Override
+	public void close() {
+		if (httpServer != null) {
+			httpServer.stop(0);
+			executorService.shutdownNow();
+			httpServer = null;
+			executorService = null;
+		}
+	}
+
+	private void handle(HttpExchange exchange, ResponderType responderType) throws IOException {
+		try {
+			requests.get(responderType).incrementAndGet();
+			final ResponderConfiguration configuration = configurations.get(responderType);
+			final byte[] request = readRequest(exchange);
+
+			simulateLatency(configuration);
+			if (configuration.getFailureRate() > 0 && ThreadLocalRandom.current().nextDouble() < configuration.getFailureRate()) {
+				failures.get(responderType).incrementAndGet();
+				sendResponse(exchange, 500, null, null);
+				return;
+			}
+
+			final String urlKey = getUrlKey(exchange, responderType);
+			final byte[] response = generateResponse(responderType, urlKey, request, configuration);
+			if (response != null) {
+				sendResponse(exchange, 200, responderType.getContentType(), response);
+			} else {
+				sendResponse(exchange, 404, null, null);
+			}
+
+		} catch (Exception e) {
+			LOG.warn("Unable to process the request '{}' : {}", exchange.getRequestURI(), e.getMessage(), e);
+			sendResponse(exchange, 500, null, null);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private byte[] readRequest(HttpExchange exchange) throws IOException {
+		try (InputStream is = exchange.getRequestBody()) {
+			return Utils.toByteArray(is);
+		}
+	}
+
+	private void simulateLatency(ResponderConfiguration configuration) throws InterruptedException {
+		long delay = configuration.getLatency();
+		if (configuration.getJitter() > 0) {
+			delay += ThreadLocalRandom.current().nextLong(configuration.getJitter() + 1);
+		}
+		if (delay > 0) {
+			TimeUnit.MILLISECONDS.sleep(delay);
+		}
+	}
+
+	private String getUrlKey(HttpExchange exchange, ResponderType responderType) {
+		String path = exchange.getRequestURI().getPath();
+		String urlKey = path.substring(responderType.getPath().length() + 2);
+		int extensionIndex = urlKey.lastIndexOf('.');
+		if (extensionIndex != -1) {
+			urlKey = urlKey.substring(0, extensionIndex);
+		}
+		return urlKey;
+	}
+
+	private byte[] generateResponse(ResponderType responderType, String urlKey, byte[] request,
+									ResponderConfiguration configuration) throws Exception {
+		switch (responderType) {
+			case OCSP:
+				return generateOCSPResponse(request);
+			case CRL:
+				return generateCRL(urlKey, configuration);
+			case AIA:
+				return getCertificate(urlKey);
+			case TSA:
+				return generateTimestamp(urlKey, request);
+			default:
+				throw new UnsupportedOperationException(String.format("Responder type '%s' is not supported!", responderType));
+		}
+	}
+
+	private byte[] generateOCSPResponse(byte[] request) throws Exception {
+		final OCSPReq ocspReq = new OCSPReq(request);
+		if (Utils.isArrayEmpty(ocspReq.getRequestList())) {
+			throw new PKIException("The OCSP request does not contain any certificate!");
+		}
+		final CertificateID certificateID = ocspReq.getRequestList()[0].getCertID();
+		final List<JAXBCertEntity> candidates = entitiesBySerialNumber.get(certificateID.getSerialNumber());
+		if (candidates == null) {
+			return null;
+		}
+
+		final DigestCalculatorProvider digestCalculatorProvider = new JcaDigestCalculatorProviderBuilder().build();
+		for (JAXBCertEntity certEntity : candidates) {
+			JAXBCertEntity issuer = certEntity.getIssuer();
+			if (issuer != null && certificateID.matchesIssuer(
+					DSSASN1Utils.getX509CertificateHolder(issuer.getCertificateToken()), digestCalculatorProvider)) {
+				return ocspSource.getEncodedResponse(certEntity.getCertificateToken(), issuer.getCertificateToken(), ocspReq);
+			}
+		}
+		return null;
+	}
+
+	private byte[] generateCRL(String urlKey, ResponderConfiguration configuration) throws Exception {
+		final JAXBCertEntity crlIssuer = entitiesByUrlKey.get(urlKey);
+		if (crlIssuer == null) {
+			return null;
+		}
+		return new ResponderCRLSource(repository, configuration.getAdditionalCRLEntries()).getEncodedCRL(crlIssuer);
+	}
+
+	private byte[] getCertificate(String urlKey) {
+		final JAXBCertEntity certEntity = entitiesByUrlKey.get(urlKey);
+		if (certEntity == null) {
+			return null;
+		}
+		return certEntity.getCertificateToken().getEncoded();
+	}
+
+	private byte[] generateTimestamp(String urlKey, byte[] request) throws Exception {
+		final JAXBCertEntity tsa = entitiesByUrlKey.get(urlKey);
+		if (tsa == null) {
+			return null;
+		}
+		return new ResponderTSPSource(tsa).getEncodedResponse(new TimeStampRequest(request));
+	}
+
+	private void sendResponse(HttpExchange exchange, int status, String contentType, byte[] response) throws IOException {
+		if (contentType != null) {
+			exchange.getResponseHeaders().set("Content-Type", contentType);
+		}
+		if (response != null) {
+			exchange.sendResponseHeaders(status, response.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(response);
+			}
+		} else {
+			exchange.sendResponseHeaders(status, -1);
+		}
+	}
+
+	/**
+	 * Exposes the OCSP response generation of {@code PKIDelegatedOCSPSource}
+	 */
+	private static class ResponderOCSPSource extends PKIDelegatedOCSPSource {
+
+		private static final long serialVersionUID = 4392745432427394587L;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param repository {@link JAXBCertEntityRepository}
+		 */
+		private ResponderOCSPSource(JAXBCertEntityRepository repository) {
+			super(repository);
+		}
+
+		/**
+		 * Generates the DER-encoded OCSP response for the given request
+		 *
+		 * @param certificateToken {@link CertificateToken} to get the status for
+		 * @param issuerCertificateToken {@link CertificateToken} issuer of the {@code certificateToken}
+		 * @param ocspReq {@link OCSPReq} received request
+		 * @return DER-encoded OCSP response
+		 * @throws IOException if an error occurs on encoding
+		 */
+		private byte[] getEncodedResponse(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+										  OCSPReq ocspReq) throws IOException {
+			return buildOCSPResponse(certificateToken, issuerCertificateToken, ocspReq).getEncoded();
+		}
+
+	}
+
+	/**
+	 * Exposes the CRL generation of {@code PKICRLSource}, with optional additional entries
+	 */
+	private static class ResponderCRLSource extends PKICRLSource {
+
+		private static final long serialVersionUID = -1834728402857302711L;
+
+		/** The number of additional revoked entries */
+		private final int additionalEntries;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param repository {@link JAXBCertEntityRepository}
+		 * @param additionalEntries the number of additional revoked entries
+		 */
+		private ResponderCRLSource(JAXBCertEntityRepository repository, int additionalEntries) {
+			super(repository);
+			this.additionalEntries = additionalEntries;
+			Calendar calendar = Calendar.getInstance();
+			calendar.add(Calendar.MONTH, 6);
+			setNextUpdate(calendar.getTime());
+		}
+
+		/**
+		 * Generates the DER-encoded CRL of the given issuer
+		 *
+		 * @param crlIssuer {@link CertEntity}
+		 * @return DER-encoded CRL
+		 * @throws Exception if an error occurs on CRL generation
+		 */
+		private byte[] getEncodedCRL(CertEntity crlIssuer) throws Exception {
+			return generateCRL(crlIssuer).getBinaries();
+		}
+
+		@Override
+		protected void addRevocationsToCRL(X509v2CRLBuilder builder, Map<CertEntity, CertEntityRevocation> revocationList) {
+			super.addRevocationsToCRL(builder, revocationList);
+			final Date revocationDate = getThisUpdate();
+			for (int i = 0; i < additionalEntries; i++) {
+				builder.addCRLEntry(BigInteger.valueOf(ADDITIONAL_CRL_ENTRIES_OFFSET + i), revocationDate, CRLReason.superseded);
+			}
+		}
+
+	}
+
+	/**
+	 * Exposes the time-stamp response generation of {@code PKITSPSource}
+	 */
+	private static class ResponderTSPSource extends PKITSPSource {
+
+		private static final long serialVersionUID = 2976419282717207348L;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param certEntity {@link CertEntity} of the TSA
+		 */
+		private ResponderTSPSource(CertEntity certEntity) {
+			super(certEntity);
+			setTsaPolicy(DEFAULT_TSA_POLICY);
+		}
+
+		/**
+		 * Generates the DER-encoded time-stamp response for the given request
+		 *
+		 * @param request {@link TimeStampRequest}
+		 * @return DER-encoded time-stamp response
+		 * @throws Exception if an error occurs on time-stamp generation
+		 */
+		private byte[] getEncodedResponse(TimeStampRequest request) throws Exception {
+			DigestAlgorithm digestAlgorithm = DigestAlgorithm.forOID(request.getMessageImprintAlgOID().getId());
+			return generateResponse(request, digestAlgorithm).getEncoded();
+		}
+
+	}
+
+}
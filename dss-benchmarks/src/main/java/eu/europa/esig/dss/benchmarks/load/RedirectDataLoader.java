@@ -0,0 +1,96 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Redirects the requests made to a host to another one, before delegating them to a {@code DataLoader}.
+ * Used to reach the {@code PKIResponderServer} with the URLs embedded in the certificates of the local PKI.
+ *
+ */
+public class RedirectDataLoader implements DataLoader {
+
+	private static final long serialVersionUID = -2373427853372932049L;
+
+	/** The data loader executing the requests */
+	private final DataLoader dataLoader;
+
+	/** The URL prefix to be replaced */
+	private final String sourcePrefix;
+
+	/** The URL prefix to be used instead */
+	private final String targetPrefix;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param dataLoader {@link DataLoader} executing the requests
+	 * @param sourcePrefix {@link String} the URL prefix to be replaced (e.g. "http://dss.nowina.lu/pki-factory/")
+	 * @param targetPrefix {@link String} the URL prefix to be used instead (e.g. "http://127.0.0.1:8080/")
+	 */
+	public RedirectDataLoader(DataLoader dataLoader, String sourcePrefix, String targetPrefix) {
+		Objects.requireNonNull(dataLoader, "DataLoader cannot be null!");
+		Objects.requireNonNull(sourcePrefix, "Source prefix cannot be null!");
+		Objects.requireNonNull(targetPrefix, "Target prefix cannot be null!");
+		this.dataLoader = dataLoader;
+		this.sourcePrefix = sourcePrefix;
+		this.targetPrefix = targetPrefix;
+	}
+
+	@Override
+	public byte[] get(String url) {
+		return dataLoader.get(redirect(url));
+	}
+
+	@Override
+	public DataAndUrl get(List<String> urlStrings) {
+		final List<String> redirectedUrls = new ArrayList<>(urlStrings.size());
+		for (String url : urlStrings) {
+			redirectedUrls.add(redirect(url));
+		}
+		final DataAndUrl dataAndUrl = dataLoader.get(redirectedUrls);
+		// return the original URL, as it is the one known by the caller
+		return new DataAndUrl(urlStrings.get(redirectedUrls.indexOf(dataAndUrl.getUrlString())), dataAndUrl.getData());
+	}
+
+	@Override
+	public byte[] post(String url, byte[] content) {
+		return dataLoader.post(redirect(url), content);
+	}
+
+	@Override
+	public void setContentType(String contentType) {
+		dataLoader.setContentType(contentType);
+	}
+
+	private String redirect(String url) {
+		if (url != null && url.startsWith(sourcePrefix)) {
+			return targetPrefix + url.substring(sourcePrefix.length());
+		}
+		return url;
+	}
+
+}
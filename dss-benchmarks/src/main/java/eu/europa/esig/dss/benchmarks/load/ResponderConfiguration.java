@@ -0,0 +1,133 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+/**
+ * Defines the network conditions simulated by an endpoint of the {@code PKIResponderServer}
+ *
+ */
+public class ResponderConfiguration {
+
+	/** The delay added before each response, in milliseconds */
+	private long latency;
+
+	/** The maximum random delay added to the latency, in milliseconds */
+	private long jitter;
+
+	/** The probability of an HTTP 500 response, between 0 and 1 */
+	private double failureRate;
+
+	/** The number of additional revoked entries added to each CRL, in order to increase its size */
+	private int additionalCRLEntries;
+
+	/**
+	 * Default constructor (no latency, no failure)
+	 */
+	public ResponderConfiguration() {
+		// empty
+	}
+
+	/**
+	 * Gets the delay added before each response, in milliseconds
+	 *
+	 * @return latency
+	 */
+	public long getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Sets the delay added before each response, in milliseconds
+	 *
+	 * @param latency delay in milliseconds
+	 */
+	public void setLatency(long latency) {
+		if (latency < 0) {
+			throw new IllegalArgumentException("The latency cannot be negative!");
+		}
+		this.latency = latency;
+	}
+
+	/**
+	 * Gets the maximum random delay added to the latency, in milliseconds
+	 *
+	 * @return jitter
+	 */
+	public long getJitter() {
+		return jitter;
+	}
+
+	/**
+	 * Sets the maximum random delay added to the latency, in milliseconds
+	 *
+	 * @param jitter delay in milliseconds
+	 */
+	public void setJitter(long jitter) {
+		if (jitter < 0) {
+			throw new IllegalArgumentException("The jitter cannot be negative!");
+		}
+		this.jitter = jitter;
+	}
+
+	/**
+	 * Gets the probability of an HTTP 500 response
+	 *
+	 * @return failure rate between 0 and 1
+	 */
+	public double getFailureRate() {
+		return failureRate;
+	}
+
+	/**
+	 * Sets the probability of an HTTP 500 response
+	 *
+	 * @param failureRate between 0 and 1
+	 */
+	public void setFailureRate(double failureRate) {
+		if (failureRate < 0 || failureRate > 1) {
+			throw new IllegalArgumentException("The failure rate shall be between 0 and 1!");
+		}
+		this.failureRate = failureRate;
+	}
+
+	/**
+	 * Gets the number of additional revoked entries added to each CRL
+	 *
+	 * @return number of entries
+	 */
+	public int getAdditionalCRLEntries() {
+		return additionalCRLEntries;
+	}
+
+	/**
+	 * Sets the number of additional revoked entries added to each CRL, in order to simulate large CRLs.
+	 * Only used by the CRL endpoint.
+	 *
+	 * @param additionalCRLEntries number of entries
+	 */
+	public void setAdditionalCRLEntries(int additionalCRLEntries) {
+		if (additionalCRLEntries < 0) {
+			throw new IllegalArgumentException("The number of additional CRL entries cannot be negative!");
+		}
+		this.additionalCRLEntries = additionalCRLEntries;
+	}
+
+}
@@ -0,0 +1,76 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+/**
+ * Defines the endpoints served by the {@code PKIResponderServer}
+ *
+ */
+public enum ResponderType {
+
+	/** OCSP responder, the OCSP request is POSTed to "ocsp/{issuer}" */
+	OCSP("ocsp", "application/ocsp-response"),
+
+	/** CRL distribution point, served on "crl/{issuer}.crl" */
+	CRL("crl", "application/pkix-crl"),
+
+	/** CA issuers (AIA) endpoint, served on "crt/{certificate}.crt" */
+	AIA("crt", "application/pkix-cert"),
+
+	/** Time-stamping authority, the time-stamp request is POSTed to "tsa/{tsa}" */
+	TSA("tsa", "application/timestamp-reply");
+
+	/** The first segment of the endpoint path */
+	private final String path;
+
+	/** The content type of the responses */
+	private final String contentType;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param path {@link String} the first segment of the endpoint path
+	 * @param contentType {@link String} the content type of the responses
+	 */
+	ResponderType(String path, String contentType) {
+		this.path = path;
+		this.contentType = contentType;
+	}
+
+	/**
+	 * Returns the first segment of the endpoint path
+	 *
+	 * @return {@link String}
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns the content type of the responses
+	 *
+	 * @return {@link String}
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+}
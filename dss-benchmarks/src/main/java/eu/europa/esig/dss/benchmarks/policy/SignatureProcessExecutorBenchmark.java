@@ -0,0 +1,99 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.policy;
+
+import eu.europa.esig.dss.benchmarks.BenchmarkReports;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.validation.executor.signature.DefaultSignatureProcessExecutor;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the execution of the default validation policy against a DiagnosticData
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignatureProcessExecutorBenchmark {
+
+	/** Defines whether the ETSI Validation Report is built */
+	@Param({ "false", "true" })
+	public boolean enableEtsiValidationReport;
+
+	/**
+	 * The minimum number of signatures, certificates and revocation data within the DiagnosticData
+	 * (0 : the DiagnosticData of a single signature validation)
+	 */
+	@Param({ "0", "500" })
+	public int numberOfTokens;
+
+	/** The DiagnosticData to process */
+	private XmlDiagnosticData diagnosticData;
+
+	/** The validation policy */
+	private ValidationPolicy validationPolicy;
+
+	/**
+	 * Builds the DiagnosticData from a signature validation and loads the default validation policy
+	 *
+	 * @throws Exception if an error occurs on DiagnosticData creation or validation policy loading
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		diagnosticData = BenchmarkReports.createLargeDiagnosticData(numberOfTokens);
+		validationPolicy = ValidationPolicyFacade.newFacade().getDefaultValidationPolicy();
+	}
+
+	/**
+	 * Executes the validation policy
+	 *
+	 * @return {@link Reports}
+	 */
+	@Benchmark
+	public Reports execute() {
+		DefaultSignatureProcessExecutor executor = new DefaultSignatureProcessExecutor();
+		executor.setDiagnosticData(diagnosticData);
+		executor.setValidationPolicy(validationPolicy);
+		executor.setCurrentTime(diagnosticData.getValidationDate());
+		executor.setEnableEtsiValidationReport(enableEtsiValidationReport);
+		return executor.execute();
+	}
+
+}
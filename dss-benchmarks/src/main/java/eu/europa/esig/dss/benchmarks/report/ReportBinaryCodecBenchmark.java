@@ -0,0 +1,162 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.report;
+
+import eu.europa.esig.dss.benchmarks.BenchmarkReports;
+import eu.europa.esig.dss.detailedreport.DetailedReportBinaryCodec;
+import eu.europa.esig.dss.detailedreport.DetailedReportFacade;
+import eu.europa.esig.dss.diagnostic.DiagnosticDataBinaryCodec;
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.jaxb.common.AbstractJaxbBinaryCodec;
+import eu.europa.esig.dss.jaxb.common.AbstractJaxbFacade;
+import eu.europa.esig.dss.simplereport.SimpleReportBinaryCodec;
+import eu.europa.esig.dss.simplereport.SimpleReportFacade;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the XML marshalling of the JAXB facades with the binary encoding of the JAXB binary codecs.
+ * The sizes of both representations are logged on setup.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportBinaryCodecBenchmark {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ReportBinaryCodecBenchmark.class);
+
+	/** The report to be serialized */
+	@Param({ "DiagnosticData", "DetailedReport", "SimpleReport" })
+	public String report;
+
+	/** The XML facade */
+	private AbstractJaxbFacade<Object> facade;
+
+	/** The binary codec */
+	private AbstractJaxbBinaryCodec<Object> codec;
+
+	/** The JAXB report */
+	private Object jaxbObject;
+
+	/** The marshalled report */
+	private String xml;
+
+	/** The binary encoded report */
+	private byte[] binaries;
+
+	/**
+	 * Builds the reports from a signature validation
+	 *
+	 * @throws Exception if an error occurs on serialization
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		Reports reports = BenchmarkReports.createReports();
+		switch (report) {
+			case "DiagnosticData":
+				init(DiagnosticDataFacade.newFacade(), DiagnosticDataBinaryCodec.newCodec(), reports.getDiagnosticDataJaxb());
+				break;
+			case "DetailedReport":
+				init(DetailedReportFacade.newFacade(), DetailedReportBinaryCodec.newCodec(), reports.getDetailedReportJaxb());
+				break;
+			case "SimpleReport":
+				init(SimpleReportFacade.newFacade(), SimpleReportBinaryCodec.newCodec(), reports.getSimpleReportJaxb());
+				break;
+			default:
+				throw new IllegalArgumentException(String.format("Unknown report '%s'!", report));
+		}
+		xml = facade.marshall(jaxbObject, false);
+		binaries = codec.encode(jaxbObject);
+		LOG.info("{} size : XML {} bytes, binary {} bytes", report, xml.getBytes(StandardCharsets.UTF_8).length, binaries.length);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void init(AbstractJaxbFacade<T> facade, AbstractJaxbBinaryCodec<T> codec, T jaxbObject) {
+		this.facade = (AbstractJaxbFacade<Object>) facade;
+		this.codec = (AbstractJaxbBinaryCodec<Object>) codec;
+		this.jaxbObject = jaxbObject;
+	}
+
+	/**
+	 * Marshalls the report to XML (without XML Schema validation)
+	 *
+	 * @return {@link String}
+	 * @throws Exception if an error occurs on marshalling
+	 */
+	@Benchmark
+	public String xmlMarshall() throws Exception {
+		return facade.marshall(jaxbObject, false);
+	}
+
+	/**
+	 * Unmarshalls the report from XML (without XML Schema validation)
+	 *
+	 * @return the JAXB report
+	 * @throws Exception if an error occurs on unmarshalling
+	 */
+	@Benchmark
+	public Object xmlUnmarshall() throws Exception {
+		return facade.unmarshall(xml, false);
+	}
+
+	/**
+	 * Encodes the report to the binary representation
+	 *
+	 * @return binaries
+	 * @throws Exception if an error occurs on encoding
+	 */
+	@Benchmark
+	public byte[] binaryEncode() throws Exception {
+		return codec.encode(jaxbObject);
+	}
+
+	/**
+	 * Decodes the report from the binary representation
+	 *
+	 * @return the JAXB report
+	 * @throws Exception if an error occurs on decoding
+	 */
+	@Benchmark
+	public Object binaryDecode() throws Exception {
+		return codec.decode(binaries);
+	}
+
+}
@@ -0,0 +1,111 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.report;
+
+import eu.europa.esig.dss.benchmarks.BenchmarkReports;
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.simplereport.SimpleReportBinaryCodec;
+import eu.europa.esig.dss.simplereport.SimpleReportFacade;
+import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
+import eu.europa.esig.dss.simplereport.jaxb.XmlToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the extraction of the indications from a stored SimpleReport, with a complete XML unmarshalling
+ * and with a partial binary decoding
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimpleReportIndicationsBenchmark {
+
+	/** The XML facade */
+	private SimpleReportFacade facade;
+
+	/** The binary codec */
+	private SimpleReportBinaryCodec codec;
+
+	/** The marshalled SimpleReport */
+	private String xml;
+
+	/** The binary encoded SimpleReport */
+	private byte[] binaries;
+
+	/**
+	 * Builds the SimpleReport from a signature validation
+	 *
+	 * @throws Exception if an error occurs on serialization
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		facade = SimpleReportFacade.newFacade();
+		codec = SimpleReportBinaryCodec.newCodec();
+		XmlSimpleReport simpleReport = BenchmarkReports.createReports().getSimpleReportJaxb();
+		xml = facade.marshall(simpleReport, false);
+		binaries = codec.encode(simpleReport);
+	}
+
+	/**
+	 * Unmarshalls the XML SimpleReport and collects the indications
+	 *
+	 * @return a map between token identifiers and {@link Indication}s
+	 * @throws Exception if an error occurs on unmarshalling
+	 */
+	@Benchmark
+	public Map<String, Indication> xml() throws Exception {
+		XmlSimpleReport simpleReport = facade.unmarshall(xml, false);
+		Map<String, Indication> indications = new LinkedHashMap<>();
+		for (XmlToken token : simpleReport.getSignatureOrTimestampOrEvidenceRecord()) {
+			indications.put(token.getId(), token.getIndication());
+		}
+		return indications;
+	}
+
+	/**
+	 * Decodes only the indications from the binary SimpleReport
+	 *
+	 * @return a map between token identifiers and {@link Indication}s
+	 * @throws Exception if an error occurs on decoding
+	 */
+	@Benchmark
+	public Map<String, Indication> binary() throws Exception {
+		return codec.decodeIndications(binaries);
+	}
+
+}
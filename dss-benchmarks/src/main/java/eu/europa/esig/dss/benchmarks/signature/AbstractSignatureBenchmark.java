@@ -0,0 +1,170 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.signature;
+
+import eu.europa.esig.dss.AbstractSignatureParameters;
+import eu.europa.esig.dss.benchmarks.BenchmarkPKI;
+import eu.europa.esig.dss.benchmarks.DocumentSize;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.SerializableTimestampParameters;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.token.AbstractSignatureTokenConnection;
+import eu.europa.esig.dss.token.DSSPrivateKeyEntry;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation and the validation of a B-level signature.
+ * The signature is created with the "good-user" certificate of the local PKI,
+ * the validation uses the revocation sources of the local PKI.
+ *
+ * @param <SP> signature parameters
+ * @param <TP> timestamp parameters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public abstract class AbstractSignatureBenchmark<SP extends AbstractSignatureParameters<?>, TP extends SerializableTimestampParameters> {
+
+	/** The size of the document to be signed */
+	@Param({ "SMALL", "LARGE" })
+	public DocumentSize documentSize;
+
+	/** The signature token */
+	private AbstractSignatureTokenConnection token;
+
+	/** The private key of the signer */
+	private DSSPrivateKeyEntry privateKey;
+
+	/** The signature service */
+	private DocumentSignatureService<SP, TP> service;
+
+	/** The signature parameters */
+	private SP parameters;
+
+	/** The certificate verifier used for validation */
+	private CertificateVerifier validationCertificateVerifier;
+
+	/** The document to be signed */
+	private DSSDocument documentToSign;
+
+	/** The signed document to be validated */
+	private DSSDocument signedDocument;
+
+	/**
+	 * Prepares the signature service, the document to be signed and the signed document to be validated
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkPKI pki = new BenchmarkPKI();
+		token = pki.getSignatureToken();
+		privateKey = pki.getSignerKey();
+
+		parameters = createSignatureParameters();
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+		parameters.setSigningCertificate(privateKey.getCertificate());
+		parameters.setCertificateChain(privateKey.getCertificateChain());
+
+		service = createSignatureService(pki.getSignatureCertificateVerifier());
+		validationCertificateVerifier = pki.getValidationCertificateVerifier();
+
+		documentToSign = createDocumentToSign(documentSize);
+		signedDocument = sign();
+	}
+
+	/**
+	 * Releases the signature token
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		token.close();
+	}
+
+	/**
+	 * Creates a B-level signature of the document
+	 *
+	 * @return {@link DSSDocument} signed document
+	 */
+	@Benchmark
+	public DSSDocument sign() {
+		ToBeSigned dataToSign = service.getDataToSign(documentToSign, parameters);
+		SignatureValue signatureValue = token.sign(dataToSign, parameters.getDigestAlgorithm(), privateKey);
+		return service.signDocument(documentToSign, parameters, signatureValue);
+	}
+
+	/**
+	 * Validates the signed document with the default validation policy
+	 *
+	 * @return {@link Reports}
+	 */
+	@Benchmark
+	public Reports validate() {
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(signedDocument);
+		validator.setCertificateVerifier(validationCertificateVerifier);
+		return validator.validateDocument();
+	}
+
+	/**
+	 * Creates the signature parameters for a B-level signature
+	 *
+	 * @return signature parameters
+	 */
+	protected abstract SP createSignatureParameters();
+
+	/**
+	 * Creates the signature service
+	 *
+	 * @param certificateVerifier {@link CertificateVerifier}
+	 * @return {@link DocumentSignatureService}
+	 */
+	protected abstract DocumentSignatureService<SP, TP> createSignatureService(CertificateVerifier certificateVerifier);
+
+	/**
+	 * Creates the document to be signed
+	 *
+	 * @param documentSize {@link DocumentSize}
+	 * @return {@link DSSDocument}
+	 */
+	protected abstract DSSDocument createDocumentToSign(DocumentSize documentSize);
+
+}
@@ -0,0 +1,58 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.signature;
+
+import eu.europa.esig.dss.benchmarks.BenchmarkDocuments;
+import eu.europa.esig.dss.benchmarks.DocumentSize;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.PAdESTimestampParameters;
+import eu.europa.esig.dss.pades.signature.PAdESService;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+
+/**
+ * Measures the creation and the validation of an enveloped PAdES-BASELINE-B signature
+ *
+ */
+public class PAdESSignatureBenchmark extends AbstractSignatureBenchmark<PAdESSignatureParameters, PAdESTimestampParameters> {
+
+	@Override
+	protected PAdESSignatureParameters createSignatureParameters() {
+		PAdESSignatureParameters parameters = new PAdESSignatureParameters();
+		parameters.setSignatureLevel(SignatureLevel.PAdES_BASELINE_B);
+		parameters.setSignaturePackaging(SignaturePackaging.ENVELOPED);
+		return parameters;
+	}
+
+	@Override
+	protected DocumentSignatureService<PAdESSignatureParameters, PAdESTimestampParameters> createSignatureService(CertificateVerifier certificateVerifier) {
+		return new PAdESService(certificateVerifier);
+	}
+
+	@Override
+	protected DSSDocument createDocumentToSign(DocumentSize documentSize) {
+		return BenchmarkDocuments.createPdfDocument(documentSize);
+	}
+
+}
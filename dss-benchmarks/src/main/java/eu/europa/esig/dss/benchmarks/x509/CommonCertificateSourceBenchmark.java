@@ -0,0 +1,219 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.spi.x509.SignerIdentifier;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups within a {@code CommonCertificateSource} containing a large number of certificates.
+ * The certificates are generated on setup with distinct EC keys, all issued by the same CA.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommonCertificateSourceBenchmark {
+
+	/** The number of certificates within the source */
+	@Param({ "1000", "10000" })
+	public int numberOfCertificates;
+
+	/** The generated certificates */
+	private List<CertificateToken> certificates;
+
+	/** The SKIs of the generated certificates */
+	private List<byte[]> skis;
+
+	/** The SHA-256 digests of the generated certificates */
+	private List<Digest> digests;
+
+	/** The signer identifiers (issuer name and serial number) of the generated certificates */
+	private List<SignerIdentifier> signerIdentifiers;
+
+	/** The populated certificate source */
+	private CommonCertificateSource certificateSource;
+
+	/** The index of the next certificate to look for */
+	private int index;
+
+	/**
+	 * Generates the certificates and populates the certificate source
+	 *
+	 * @throws Exception if an error occurs on certificate generation
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		final KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+		keyPairGenerator.initialize(256);
+
+		final KeyPair issuerKeyPair = keyPairGenerator.generateKeyPair();
+		final X500Name issuerName = new X500Name("CN=Benchmark CA,O=DSS,C=EU");
+		final ContentSigner signer = new JcaContentSignerBuilder("SHA256withECDSA").build(issuerKeyPair.getPrivate());
+		final JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+
+		final Date notBefore = new Date();
+		final Date notAfter = new Date(notBefore.getTime() + TimeUnit.DAYS.toMillis(365));
+
+		certificates = new ArrayList<>(numberOfCertificates);
+		skis = new ArrayList<>(numberOfCertificates);
+		digests = new ArrayList<>(numberOfCertificates);
+		signerIdentifiers = new ArrayList<>(numberOfCertificates);
+		certificateSource = new CommonCertificateSource();
+		for (int i = 0; i < numberOfCertificates; i++) {
+			KeyPair keyPair = keyPairGenerator.generateKeyPair();
+			X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerName, BigInteger.valueOf(i + 1L),
+					notBefore, notAfter, new X500Name("CN=Benchmark user " + i + ",O=DSS,C=EU"), keyPair.getPublic());
+			builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()));
+			CertificateToken certificate = DSSUtils.loadCertificate(builder.build(signer).getEncoded());
+
+			certificates.add(certificate);
+			skis.add(DSSASN1Utils.computeSkiFromCert(certificate));
+			digests.add(new Digest(DigestAlgorithm.SHA256, certificate.getDigest(DigestAlgorithm.SHA256)));
+
+			SignerIdentifier signerIdentifier = new SignerIdentifier();
+			signerIdentifier.setIssuerName(certificate.getIssuer().getPrincipal());
+			signerIdentifier.setSerialNumber(certificate.getSerialNumber());
+			signerIdentifiers.add(signerIdentifier);
+
+			certificateSource.addCertificate(certificate);
+		}
+	}
+
+	private int nextIndex() {
+		if (index == numberOfCertificates) {
+			index = 0;
+		}
+		return index++;
+	}
+
+	/**
+	 * Populates a new certificate source with all the certificates
+	 *
+	 * @return {@link CommonCertificateSource}
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public CommonCertificateSource addCertificates() {
+		CommonCertificateSource source = new CommonCertificateSource();
+		for (CertificateToken certificate : certificates) {
+			source.addCertificate(certificate);
+		}
+		return source;
+	}
+
+	/**
+	 * Checks whether a certificate is present within the source
+	 *
+	 * @return TRUE if the certificate is known
+	 */
+	@Benchmark
+	public boolean isKnown() {
+		return certificateSource.isKnown(certificates.get(nextIndex()));
+	}
+
+	/**
+	 * Looks for a certificate by its public key
+	 *
+	 * @return a set of {@link CertificateToken}s
+	 */
+	@Benchmark
+	public Set<CertificateToken> getByPublicKey() {
+		return certificateSource.getByPublicKey(certificates.get(nextIndex()).getPublicKey());
+	}
+
+	/**
+	 * Looks for a certificate by its subject name
+	 *
+	 * @return a set of {@link CertificateToken}s
+	 */
+	@Benchmark
+	public Set<CertificateToken> getBySubject() {
+		return certificateSource.getBySubject(certificates.get(nextIndex()).getSubject());
+	}
+
+	/**
+	 * Looks for a certificate by its subject key identifier
+	 *
+	 * @return a set of {@link CertificateToken}s
+	 */
+	@Benchmark
+	public Set<CertificateToken> getBySki() {
+		return certificateSource.getBySki(skis.get(nextIndex()));
+	}
+
+	/**
+	 * Looks for a certificate by its digest
+	 *
+	 * @return a set of {@link CertificateToken}s
+	 */
+	@Benchmark
+	public Set<CertificateToken> getByCertificateDigest() {
+		return certificateSource.getByCertificateDigest(digests.get(nextIndex()));
+	}
+
+	/**
+	 * Looks for a certificate by its issuer name and serial number
+	 *
+	 * @return a set of {@link CertificateToken}s
+	 */
+	@Benchmark
+	public Set<CertificateToken> getBySignerIdentifier() {
+		return certificateSource.getBySignerIdentifier(signerIdentifiers.get(nextIndex()));
+	}
+
+}
@@ -0,0 +1,106 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.xml;
+
+import eu.europa.esig.dss.benchmarks.BenchmarkDocuments;
+import eu.europa.esig.dss.benchmarks.DocumentSize;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.xades.DSSXMLUtils;
+import eu.europa.esig.dss.xades.reference.CanonicalizationTransform;
+import eu.europa.esig.dss.xades.reference.DSSTransform;
+import eu.europa.esig.dss.xml.utils.DomUtils;
+import org.apache.xml.security.c14n.Canonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the digest computation of a canonicalized XML reference, when the canonical form is materialized
+ * as a byte array and when it is written directly into the message-digest.
+ * The "HUGE" size (about 200 MB) requires an extended heap, the DOM of the document being built on setup.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx8g" })
+public class XMLReferenceDigestBenchmark {
+
+	/** The size of the referenced XML document */
+	@Param({ "LARGE", "HUGE" })
+	public DocumentSize documentSize;
+
+	/** The transforms of the reference */
+	private List<DSSTransform> transforms;
+
+	/** The referenced XML document */
+	private Document dom;
+
+	/**
+	 * Builds the DOM of the referenced document
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		dom = DomUtils.buildDOM(BenchmarkDocuments.createXmlDocument(documentSize));
+		transforms = Collections.singletonList(new CanonicalizationTransform(Canonicalizer.ALGO_ID_C14N_EXCL_OMIT_COMMENTS));
+	}
+
+	/**
+	 * Canonicalizes the reference into a byte array, then computes its digest
+	 *
+	 * @return digest value
+	 */
+	@Benchmark
+	public byte[] byteArray() {
+		return DSSUtils.digest(DigestAlgorithm.SHA256, DSSXMLUtils.applyTransforms(dom, transforms));
+	}
+
+	/**
+	 * Writes the canonicalized reference directly into the message-digest
+	 *
+	 * @return digest value
+	 */
+	@Benchmark
+	public byte[] streamed() {
+		DSSMessageDigestCalculator calculator = new DSSMessageDigestCalculator(DigestAlgorithm.SHA256);
+		DSSXMLUtils.applyTransforms(dom, transforms, calculator.getOutputStream());
+		return calculator.getMessageDigest().getValue();
+	}
+
+}
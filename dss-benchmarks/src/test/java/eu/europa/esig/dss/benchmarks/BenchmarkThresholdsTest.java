@@ -0,0 +1,187 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Mode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BenchmarkThresholdsTest {
+
+	private static final String THRESHOLDS = "# comment\n" +
+			"\n" +
+			"signature.XAdESSignatureBenchmark.sign;documentSize=SMALL;12.500;ms/op\n" +
+			"crl.CRLParsingBenchmark.parse;;3.250;ms/op\n";
+
+	@Test
+	public void keyTest() {
+		Map<String, String> parameters = new HashMap<>();
+		parameters.put("documentSize", "SMALL");
+		parameters.put("digestAlgorithm", "SHA256");
+		assertEquals("signature.XAdESSignatureBenchmark.sign;digestAlgorithm=SHA256,documentSize=SMALL",
+				BenchmarkThresholds.getKey("eu.europa.esig.dss.benchmarks.signature.XAdESSignatureBenchmark.sign", parameters));
+		assertEquals("crl.CRLParsingBenchmark.parse",
+				BenchmarkThresholds.getKey("eu.europa.esig.dss.benchmarks.crl.CRLParsingBenchmark.parse", Collections.emptyMap()));
+		assertEquals("org.example.Benchmark.run",
+				BenchmarkThresholds.getKey("org.example.Benchmark.run", Collections.emptyMap()));
+	}
+
+	@Test
+	public void loadAndCheckTest() throws Exception {
+		BenchmarkThresholds thresholds = load(THRESHOLDS);
+		assertEquals(2, thresholds.size());
+
+		String key = BenchmarkThresholds.getKey("eu.europa.esig.dss.benchmarks.signature.XAdESSignatureBenchmark.sign",
+				Collections.singletonMap("documentSize", "SMALL"));
+		assertNull(thresholds.check(key, Mode.AverageTime, 12.0, "ms/op"));
+		assertNull(thresholds.check(key, Mode.SingleShotTime, 12.5, "ms/op"));
+
+		String regression = thresholds.check(key, Mode.AverageTime, 13.0, "ms/op");
+		assertNotNull(regression);
+		assertTrue(regression.contains("exceeds the threshold"), regression);
+
+		regression = thresholds.check(key, Mode.AverageTime, 1.0, "s/op");
+		assertNotNull(regression);
+		assertTrue(regression.contains("does not match the threshold unit"), regression);
+
+		// throughput is not supported
+		assertNull(thresholds.check(key, Mode.Throughput, 1000.0, "ops/ms"));
+
+		assertNull(thresholds.check("crl.CRLParsingBenchmark.parse", Mode.AverageTime, 3.0, "ms/op"));
+	}
+
+	@Test
+	public void missingThresholdTest() throws Exception {
+		BenchmarkThresholds thresholds = load(THRESHOLDS);
+		String regression = thresholds.check("crl.CRLParsingBenchmark.parse;crlSize=LARGE", Mode.AverageTime, 3.0, "ms/op");
+		assertNotNull(regression);
+		assertTrue(regression.contains("no threshold is defined"), regression);
+
+		thresholds.setFailOnMissingThreshold(false);
+		assertNull(thresholds.check("crl.CRLParsingBenchmark.parse;crlSize=LARGE", Mode.AverageTime, 3.0, "ms/op"));
+
+		// an empty thresholds file detects the missing baseline
+		BenchmarkThresholds emptyThresholds = load("# no threshold\n");
+		assertEquals(0, emptyThresholds.size());
+		assertNotNull(emptyThresholds.check("crl.CRLParsingBenchmark.parse", Mode.AverageTime, 3.0, "ms/op"));
+	}
+
+	@Test
+	public void writeAndLoadTest() throws Exception {
+		BenchmarkThresholds thresholds = load(THRESHOLDS);
+		thresholds.addThreshold("x509.CommonCertificateSourceBenchmark.getBySubject;size=1000", 0.0123456, "us/op");
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		thresholds.write(baos);
+		String written = new String(baos.toByteArray(), StandardCharsets.UTF_8);
+		assertTrue(written.contains("crl.CRLParsingBenchmark.parse;;3.250;ms/op"), written);
+
+		BenchmarkThresholds reloaded = load(written);
+		assertEquals(3, reloaded.size());
+		assertNull(reloaded.check("signature.XAdESSignatureBenchmark.sign;documentSize=SMALL", Mode.AverageTime, 12.5, "ms/op"));
+		assertNotNull(reloaded.check("signature.XAdESSignatureBenchmark.sign;documentSize=SMALL", Mode.AverageTime, 12.6, "ms/op"));
+		assertNull(reloaded.check("crl.CRLParsingBenchmark.parse", Mode.AverageTime, 3.25, "ms/op"));
+		// the scores are written with 3 decimals
+		assertNull(reloaded.check("x509.CommonCertificateSourceBenchmark.getBySubject;size=1000", Mode.AverageTime, 0.012, "us/op"));
+		assertNotNull(reloaded.check("x509.CommonCertificateSourceBenchmark.getBySubject;size=1000", Mode.AverageTime, 0.0123, "us/op"));
+	}
+
+	@Test
+	public void relativeThresholdTest() throws Exception {
+		BenchmarkThresholds thresholds = load(THRESHOLDS +
+				"crl.CRLParsingBenchmark.parse;numberOfEntries=1000;20;ratio;crl.CRLParsingBenchmark.parse;numberOfEntries=100\n" +
+				"report.SimpleReportIndicationsBenchmark.binary;;1;ratio;report.SimpleReportIndicationsBenchmark.xml;\n");
+		assertEquals(4, thresholds.size());
+
+		String key = "crl.CRLParsingBenchmark.parse;numberOfEntries=1000";
+		assertNull(thresholds.checkRatio(key, 20.0, "us/op", 1.0, "us/op"));
+		String regression = thresholds.checkRatio(key, 21.0, "us/op", 1.0, "us/op");
+		assertNotNull(regression);
+		assertTrue(regression.contains("exceeds the threshold ratio"), regression);
+		regression = thresholds.checkRatio(key, 1.0, "us/op", 1.0, "ms/op");
+		assertNotNull(regression);
+		assertTrue(regression.contains("does not match the unit"), regression);
+
+		regression = thresholds.checkRatio(key, 1.0, "us/op", null, null);
+		assertNotNull(regression);
+		assertTrue(regression.contains("has not been executed"), regression);
+		thresholds.setFailOnMissingThreshold(false);
+		assertNull(thresholds.checkRatio(key, 1.0, "us/op", null, null));
+		thresholds.setFailOnMissingThreshold(true);
+
+		assertNull(thresholds.checkRatio("report.SimpleReportIndicationsBenchmark.binary", 0.9, "us/op", 1.0, "us/op"));
+		assertNotNull(thresholds.checkRatio("report.SimpleReportIndicationsBenchmark.binary", 1.1, "us/op", 1.0, "us/op"));
+
+		// the benchmarks covered by a relative threshold do not require an absolute one
+		assertNull(thresholds.check(key, Mode.AverageTime, 3.0, "us/op"));
+		assertNull(thresholds.check("crl.CRLParsingBenchmark.parse;numberOfEntries=100", Mode.AverageTime, 3.0, "us/op"));
+		assertNotNull(thresholds.check("crl.CRLParsingBenchmark.parse;numberOfEntries=10", Mode.AverageTime, 3.0, "us/op"));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		thresholds.write(baos);
+		String written = new String(baos.toByteArray(), StandardCharsets.UTF_8);
+		assertTrue(written.contains("report.SimpleReportIndicationsBenchmark.binary;;1.000;ratio;" +
+				"report.SimpleReportIndicationsBenchmark.xml;"), written);
+
+		BenchmarkThresholds reloaded = load(written);
+		assertEquals(4, reloaded.size());
+		assertNull(reloaded.checkRatio(key, 20.0, "us/op", 1.0, "us/op"));
+		assertNotNull(reloaded.checkRatio(key, 21.0, "us/op", 1.0, "us/op"));
+
+		// the relative thresholds are kept within a new baseline
+		BenchmarkThresholds baseline = new BenchmarkThresholds();
+		baseline.addRelativeThresholds(thresholds);
+		assertEquals(2, baseline.size());
+	}
+
+	@Test
+	public void defaultThresholdsTest() throws Exception {
+		try (InputStream is = BenchmarkRunner.class.getResourceAsStream(BenchmarkRunner.DEFAULT_THRESHOLDS)) {
+			assertNotNull(is);
+			assertTrue(BenchmarkThresholds.load(is).size() > 0);
+		}
+	}
+
+	@Test
+	public void invalidLineTest() {
+		assertThrows(IllegalArgumentException.class, () -> load("signature.XAdESSignatureBenchmark.sign;12.5;ms/op\n"));
+		assertThrows(NumberFormatException.class, () -> load("signature.XAdESSignatureBenchmark.sign;;abc;ms/op\n"));
+		assertThrows(IllegalArgumentException.class, () -> load("crl.CRLParsingBenchmark.parse;;2;ms/op;crl.CRLParsingBenchmark.parse;\n"));
+	}
+
+	private BenchmarkThresholds load(String content) throws Exception {
+		return BenchmarkThresholds.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
@@ -0,0 +1,99 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoadTestReportTest {
+
+	@Test
+	public void latencyPercentileTest() {
+		long[] latencies = new long[100];
+		for (int i = 0; i < latencies.length; i++) {
+			// unsorted latencies from 1 to 100 ms
+			latencies[i] = TimeUnit.MILLISECONDS.toNanos(100 - i);
+		}
+		LoadTestReport report = new LoadTestReport(LoadWorkload.VALIDATION, 4, latencies, 0, TimeUnit.SECONDS.toNanos(2));
+
+		assertEquals(1, report.getLatencyPercentile(0.1), 0.0001);
+		assertEquals(1, report.getLatencyPercentile(1), 0.0001);
+		assertEquals(50, report.getLatencyPercentile(50), 0.0001);
+		assertEquals(51, report.getLatencyPercentile(50.5), 0.0001);
+		assertEquals(90, report.getLatencyPercentile(90), 0.0001);
+		assertEquals(99, report.getLatencyPercentile(99), 0.0001);
+		assertEquals(100, report.getLatencyPercentile(100), 0.0001);
+		assertEquals(100, report.getMaxLatency(), 0.0001);
+		assertEquals(100, report.getNumberOfOperations());
+		assertEquals(50, report.getThroughput(), 0.0001);
+	}
+
+	@Test
+	public void latencyPercentileNearestRankTest() {
+		long[] latencies = new long[] { TimeUnit.MILLISECONDS.toNanos(20), TimeUnit.MILLISECONDS.toNanos(15),
+				TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(35), TimeUnit.MILLISECONDS.toNanos(40) };
+		LoadTestReport report = new LoadTestReport(LoadWorkload.VALIDATION, 1, latencies, 0, TimeUnit.SECONDS.toNanos(1));
+
+		assertEquals(15, report.getLatencyPercentile(5), 0.0001);
+		assertEquals(20, report.getLatencyPercentile(30), 0.0001);
+		assertEquals(20, report.getLatencyPercentile(40), 0.0001);
+		assertEquals(35, report.getLatencyPercentile(50), 0.0001);
+		assertEquals(50, report.getLatencyPercentile(100), 0.0001);
+	}
+
+	@Test
+	public void latencyPercentileNoOperationTest() {
+		LoadTestReport report = new LoadTestReport(LoadWorkload.LT_EXTENSION, 2, new long[0], 10, TimeUnit.SECONDS.toNanos(1));
+		assertEquals(0, report.getLatencyPercentile(50), 0.0001);
+		assertEquals(0, report.getMaxLatency(), 0.0001);
+		assertEquals(0, report.getThroughput(), 0.0001);
+		assertEquals(10, report.getNumberOfErrors());
+	}
+
+	@Test
+	public void latencyPercentileOutOfRangeTest() {
+		LoadTestReport report = new LoadTestReport(LoadWorkload.VALIDATION, 1, new long[] { 1 }, 0, 1);
+		assertThrows(IllegalArgumentException.class, () -> report.getLatencyPercentile(0));
+		assertThrows(IllegalArgumentException.class, () -> report.getLatencyPercentile(-1));
+		assertThrows(IllegalArgumentException.class, () -> report.getLatencyPercentile(100.1));
+	}
+
+	@Test
+	public void countersTest() {
+		LoadTestReport report = new LoadTestReport(LoadWorkload.VALIDATION, 1, new long[] { 1 }, 2, 1);
+		report.setNumberOfRequests(ResponderType.OCSP, 3);
+		report.setNumberOfFailures(ResponderType.OCSP, 2);
+		report.setNumberOfOutcomes(LoadTestReport.SUCCESS, 1);
+		report.setNumberOfOutcomes(LoadTestReport.MISSING_REVOCATION, 2);
+
+		assertEquals(3, report.getNumberOfRequests(ResponderType.OCSP));
+		assertEquals(2, report.getNumberOfFailures(ResponderType.OCSP));
+		assertEquals(0, report.getNumberOfFailures(ResponderType.CRL));
+		assertEquals(1, report.getNumberOfOutcomes().get(LoadTestReport.SUCCESS));
+		assertEquals(2, report.getNumberOfOutcomes().get(LoadTestReport.MISSING_REVOCATION));
+		assertThrows(UnsupportedOperationException.class, () -> report.getNumberOfOutcomes().put(LoadTestReport.EXCEPTION, 1L));
+	}
+
+}
@@ -0,0 +1,136 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks.load;
+
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RedirectDataLoaderTest {
+
+	private static final String SOURCE = "http://dss.nowina.lu/pki-factory/";
+
+	private static final String TARGET = "http://127.0.0.1:8080/";
+
+	@Test
+	public void getTest() {
+		MockDataLoader mockDataLoader = new MockDataLoader(TARGET + "crl/good-ca.crl");
+		RedirectDataLoader dataLoader = new RedirectDataLoader(mockDataLoader, SOURCE, TARGET);
+
+		assertArrayEquals(getData(TARGET + "crl/good-ca.crl"), dataLoader.get(SOURCE + "crl/good-ca.crl"));
+		assertEquals(Arrays.asList(TARGET + "crl/good-ca.crl"), mockDataLoader.requestedUrls);
+	}
+
+	@Test
+	public void getListTest() {
+		MockDataLoader mockDataLoader = new MockDataLoader(TARGET + "crl/good-ca.crl");
+		RedirectDataLoader dataLoader = new RedirectDataLoader(mockDataLoader, SOURCE, TARGET);
+
+		List<String> urls = Arrays.asList("http://other.host/crl/good-ca.crl", SOURCE + "crl/root-ca.crl", SOURCE + "crl/good-ca.crl");
+		DataLoader.DataAndUrl dataAndUrl = dataLoader.get(urls);
+
+		// the URL known by the caller is returned with the data obtained from the redirected one
+		assertEquals(SOURCE + "crl/good-ca.crl", dataAndUrl.getUrlString());
+		assertArrayEquals(getData(TARGET + "crl/good-ca.crl"), dataAndUrl.getData());
+		assertEquals(Arrays.asList("http://other.host/crl/good-ca.crl", TARGET + "crl/root-ca.crl", TARGET + "crl/good-ca.crl"),
+				mockDataLoader.requestedUrls);
+	}
+
+	@Test
+	public void getListNotRedirectedUrlTest() {
+		MockDataLoader mockDataLoader = new MockDataLoader("http://other.host/crl/good-ca.crl");
+		RedirectDataLoader dataLoader = new RedirectDataLoader(mockDataLoader, SOURCE, TARGET);
+
+		DataLoader.DataAndUrl dataAndUrl = dataLoader.get(Arrays.asList(SOURCE + "crl/root-ca.crl", "http://other.host/crl/good-ca.crl"));
+		assertEquals("http://other.host/crl/good-ca.crl", dataAndUrl.getUrlString());
+		assertArrayEquals(getData("http://other.host/crl/good-ca.crl"), dataAndUrl.getData());
+	}
+
+	@Test
+	public void getListFailureTest() {
+		MockDataLoader mockDataLoader = new MockDataLoader("http://unknown/");
+		RedirectDataLoader dataLoader = new RedirectDataLoader(mockDataLoader, SOURCE, TARGET);
+
+		assertThrows(DSSExternalResourceException.class, () -> dataLoader.get(Arrays.asList(SOURCE + "crl/root-ca.crl")));
+	}
+
+	private static byte[] getData(String url) {
+		return url.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the URL as data, and answers only the given available URL
+	 */
+	private static class MockDataLoader implements DataLoader {
+
+		private static final long serialVersionUID = 3129372958216408283L;
+
+		private final String availableUrl;
+
+		private final List<String> requestedUrls = new ArrayList<>();
+
+		private MockDataLoader(String availableUrl) {
+			this.availableUrl = availableUrl;
+		}
+
+		@Override
+		public byte[] get(String url) {
+			requestedUrls.add(url);
+			if (availableUrl.equals(url)) {
+				return getData(url);
+			}
+			throw new DSSExternalResourceException(String.format("Unable to get '%s'", url));
+		}
+
+		@Override
+		public DataAndUrl get(List<String> urlStrings) {
+			for (String url : urlStrings) {
+				try {
+					return new DataAndUrl(url, get(url));
+				} catch (DSSExternalResourceException e) {
+					// continue
+				}
+			}
+			throw new DSSExternalResourceException("Unable to get the data");
+		}
+
+		@Override
+		public byte[] post(String url, byte[] content) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void setContentType(String contentType) {
+			// not used
+		}
+
+	}
+
+}
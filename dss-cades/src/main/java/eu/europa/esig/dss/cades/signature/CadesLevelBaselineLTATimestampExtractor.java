@@ -24,6 +24,7 @@ import eu.europa.esig.dss.cades.CMSUtils;
 import eu.europa.esig.dss.cades.validation.CAdESSignature;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
@@ -33,20 +34,17 @@ import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
 import org.bouncycastle.asn1.ASN1Encodable;
 import org.bouncycastle.asn1.ASN1EncodableVector;
-import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1Encoding;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
-import org.bouncycastle.asn1.ASN1OctetString;
 import org.bouncycastle.asn1.ASN1Sequence;
 import org.bouncycastle.asn1.ASN1Set;
 import org.bouncycastle.asn1.DEROctetString;
 import org.bouncycastle.asn1.DERSequence;
 import org.bouncycastle.asn1.DERSet;
-import org.bouncycastle.asn1.DERTaggedObject;
 import org.bouncycastle.asn1.cms.Attribute;
 import org.bouncycastle.asn1.cms.AttributeTable;
 import org.bouncycastle.asn1.cms.ContentInfo;
 import org.bouncycastle.asn1.cms.SignedData;
-import org.bouncycastle.asn1.cms.SignerIdentifier;
 import org.bouncycastle.asn1.cms.SignerInfo;
 import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.bouncycastle.cms.CMSSignedData;
@@ -54,6 +52,8 @@ import org.bouncycastle.cms.SignerInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -488,35 +488,34 @@ public class CadesLevelBaselineLTATimestampExtractor {
 		 * form without any modification and including the tag, length and value octets:
 		 */
 		final DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
-		byte[] bytes = null;
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("Archive Timestamp Data v3 is:");
-		}
+		final OutputStream os = digestCalculator.getOutputStream();
+		try {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Archive Timestamp Data v3 is:");
+			}
 
-		bytes = getEncodedContentType(cmsSignedData); // OID
-		digestCalculator.update(bytes);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("eContentType={}", bytes != null ? Utils.toHex(bytes) : bytes);
-		}
+			writeDEREncoded(os, getContentType(cmsSignedData), "eContentType"); // OID
 
-		bytes = Utils.fromBase64(originalDocument.getDigest(digestAlgorithm));
-		digestCalculator.update(bytes);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("signedDataDigest={}", bytes != null ? Utils.toHex(bytes) : bytes);
-		}
+			// the digest is computed in a streaming manner and cached within the document
+			final byte[] bytes = Utils.fromBase64(originalDocument.getDigest(digestAlgorithm));
+			digestCalculator.update(bytes);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("signedDataDigest={}", Utils.toHex(bytes));
+			}
 
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("encodedFields:");
-		}
-		writeSignedFields(signerInformation, digestCalculator);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("encodedFields end");
-		}
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("encodedFields:");
+			}
+			writeSignedFields(signerInformation, os);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("encodedFields end");
+			}
 
-		bytes = DSSASN1Utils.getDEREncoded(atsHashIndexAttribute.getAttrValues().getObjectAt(0));
-		digestCalculator.update(bytes);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("encodedAtsHashIndex={}", bytes != null ? Utils.toHex(bytes) : bytes);
+			writeDEREncoded(os, atsHashIndexAttribute.getAttrValues().getObjectAt(0), "encodedAtsHashIndex");
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to compute message-imprint of an archive-time-stamp-v3. "
+					+ "Reason : %s", e.getMessage()), e);
 		}
 
 		return digestCalculator.getMessageDigest();
@@ -526,12 +525,12 @@ public class CadesLevelBaselineLTATimestampExtractor {
 	 * 1) The SignedData.encapContentInfo.eContentType.
 	 *
 	 * @param cmsSignedData {@link CMSSignedData}
-	 * @return cmsSignedData.getSignedContentTypeOID() as DER encoded
+	 * @return {@link ASN1ObjectIdentifier} eContentType
 	 */
-	private byte[] getEncodedContentType(final CMSSignedData cmsSignedData) {
+	private ASN1ObjectIdentifier getContentType(final CMSSignedData cmsSignedData) {
 		final ContentInfo contentInfo = cmsSignedData.toASN1Structure();
 		final SignedData signedData = SignedData.getInstance(contentInfo.getContent());
-		return DSSASN1Utils.getDEREncoded(signedData.getEncapContentInfo().getContentType());
+		return signedData.getEncapContentInfo().getContentType();
 	}
 
 	/**
@@ -540,52 +539,35 @@ public class CadesLevelBaselineLTATimestampExtractor {
 	 * time-stamped, in their order of appearance.
 	 *
 	 * @param signerInformation {@link SignerInformation}
-	 * @param digestCalculator {@link DSSMessageDigestCalculator} to populate
+	 * @param os {@link OutputStream} to write the encoded fields into
+	 * @throws IOException if an error on encoding occurs
 	 */
-	private void writeSignedFields(final SignerInformation signerInformation, final DSSMessageDigestCalculator digestCalculator) {
-		byte[] bytes = null;
+	private void writeSignedFields(final SignerInformation signerInformation, final OutputStream os) throws IOException {
 		final SignerInfo signerInfo = signerInformation.toASN1Structure();
 
-		final ASN1Integer version = signerInfo.getVersion();
-		bytes = DSSASN1Utils.getDEREncoded(version);
-		digestCalculator.update(bytes);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("getSignedFields Version={}", Utils.toBase64(bytes));
-		}
-
-		final SignerIdentifier sid = signerInfo.getSID();
-		bytes = DSSASN1Utils.getDEREncoded(sid);
-		digestCalculator.update(bytes);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("getSignedFields Sid={}", Utils.toBase64(bytes));
-		}
-
-		final AlgorithmIdentifier digestAlgorithm = signerInfo.getDigestAlgorithm();
-		bytes = DSSASN1Utils.getDEREncoded(digestAlgorithm);
-		digestCalculator.update(bytes);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("getSignedFields DigestAlgorithm={}", Utils.toBase64(bytes));
-		}
-
-		final DERTaggedObject signedAttributes = CMSUtils.getDERSignedAttributes(signerInformation);
-		bytes = DSSASN1Utils.getDEREncoded(signedAttributes);
-		digestCalculator.update(bytes);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("getSignedFields SignedAttributes={}", Utils.toBase64(bytes));
-		}
+		writeDEREncoded(os, signerInfo.getVersion(), "getSignedFields Version");
+		writeDEREncoded(os, signerInfo.getSID(), "getSignedFields Sid");
+		writeDEREncoded(os, signerInfo.getDigestAlgorithm(), "getSignedFields DigestAlgorithm");
+		writeDEREncoded(os, CMSUtils.getDERSignedAttributes(signerInformation), "getSignedFields SignedAttributes");
+		writeDEREncoded(os, signerInfo.getDigestEncryptionAlgorithm(), "getSignedFields DigestEncryptionAlgorithm");
+		writeDEREncoded(os, signerInfo.getEncryptedDigest(), "getSignedFields EncryptedDigest");
+	}
 
-		final AlgorithmIdentifier digestEncryptionAlgorithm = signerInfo.getDigestEncryptionAlgorithm();
-		bytes = DSSASN1Utils.getDEREncoded(digestEncryptionAlgorithm);
-		digestCalculator.update(bytes);
-		if (LOG.isDebugEnabled()) {
-			LOG.debug("getSignedFields DigestEncryptionAlgorithm={}", Utils.toBase64(bytes));
+	/**
+	 * Writes DER-encoded {@code asn1Encodable} into the given {@code OutputStream}
+	 *
+	 * @param os {@link OutputStream} to write into
+	 * @param asn1Encodable {@link ASN1Encodable} to be encoded, the method does nothing when NULL
+	 * @param fieldName {@link String} name of the field, used for logging
+	 * @throws IOException if an error on encoding occurs
+	 */
+	private void writeDEREncoded(final OutputStream os, final ASN1Encodable asn1Encodable, final String fieldName) throws IOException {
+		if (asn1Encodable == null) {
+			return;
 		}
-
-		final ASN1OctetString encryptedDigest = signerInfo.getEncryptedDigest();
-		bytes = DSSASN1Utils.getDEREncoded(encryptedDigest);
-		digestCalculator.update(bytes);
+		asn1Encodable.toASN1Primitive().encodeTo(os, ASN1Encoding.DER);
 		if (LOG.isDebugEnabled()) {
-			LOG.debug("getSignedFields EncryptedDigest={}", Utils.toBase64(bytes));
+			LOG.debug("{}={}", fieldName, Utils.toBase64(DSSASN1Utils.getDEREncoded(asn1Encodable)));
 		}
 	}
 
@@ -141,6 +141,12 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 	 */
 	private SignerInformationStore counterSignaturesStore;
 
+	/**
+	 * The encapsulated content of an enveloping signature parsed in a streaming mode.
+	 * When defined, the {@code cmsSignedData} does not contain the eContent
+	 */
+	private CMSEncapsulatedContent encapsulatedContent;
+
 	/**
 	 * The default constructor for CAdESSignature.
 	 *
@@ -380,6 +386,25 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		return cmsSignedData;
 	}
 
+	/**
+	 * Gets the encapsulated content extracted from an enveloping CMS on a streaming parsing, when applicable
+	 *
+	 * @return {@link CMSEncapsulatedContent} if the eContent has been extracted from the CMS, NULL otherwise
+	 */
+	public CMSEncapsulatedContent getEncapsulatedContent() {
+		return encapsulatedContent;
+	}
+
+	/**
+	 * Sets the encapsulated content extracted from an enveloping CMS on a streaming parsing.
+	 * The provided {@code cmsSignedData} shall not contain the eContent in this case.
+	 *
+	 * @param encapsulatedContent {@link CMSEncapsulatedContent}
+	 */
+	public void setEncapsulatedContent(CMSEncapsulatedContent encapsulatedContent) {
+		this.encapsulatedContent = encapsulatedContent;
+	}
+
 	@Override
 	public SignatureProductionPlace getSignatureProductionPlace() {
 		Attribute signatureProductionPlaceAttr = CMSUtils.getSignedAttribute(signerInformation, PKCSObjectIdentifiers.id_aa_ets_signerLocation);
@@ -713,12 +738,13 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 			boolean detachedSignature = CMSUtils.isDetachedSignature(cmsSignedData);
 			SignerInformation signerInformationToCheck = null;
 			if (detachedSignature && !isCounterSignature()) {
-				if (Utils.isCollectionEmpty(detachedContents)) {
+				final DSSDocument signedContent = getSignedContent();
+				if (signedContent == null) {
 					signatureCryptographicVerification.setErrorMessage("Detached file not found!");
 					getReferenceValidations(signerInformationToCheck);
 					return;
 				}
-				signerInformationToCheck = recreateSignerInformation();
+				signerInformationToCheck = recreateSignerInformation(signedContent);
 			} else {
 				signerInformationToCheck = signerInformation;
 			}
@@ -943,17 +969,32 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		}
 	}
 
+	/**
+	 * Returns the content signed by a signature with a detached {@code cmsSignedData}
+	 * (either the encapsulated content extracted on a streaming parsing or a provided detached document)
+	 *
+	 * @return {@link DSSDocument} if found, NULL otherwise
+	 */
+	private DSSDocument getSignedContent() {
+		if (encapsulatedContent != null) {
+			return encapsulatedContent.getDocument();
+		}
+		if (Utils.isCollectionNotEmpty(detachedContents)) {
+			return detachedContents.get(0); // only one element for CAdES Signature
+		}
+		return null;
+	}
+
 	/**
 	 * This method recreates a {@code SignerInformation} with the content using
 	 * a {@code CMSSignedDataParser}.
 	 *
+	 * @param dssDocument {@link DSSDocument} the signed content
 	 * @return {@link SignerInformation}
 	 * @throws CMSException if CMS exception occurs
 	 * @throws IOException if IOException occurs
 	 */
-	private SignerInformation recreateSignerInformation() throws CMSException, IOException {
-
-		final DSSDocument dssDocument = detachedContents.get(0); // only one element for CAdES Signature
+	private SignerInformation recreateSignerInformation(DSSDocument dssDocument) throws CMSException, IOException {
 		CMSSignedDataParser cmsSignedDataParser;
 		if (dssDocument instanceof DigestDocument) {
 			cmsSignedDataParser = new CMSSignedDataParser(new PrecomputedDigestCalculatorProvider((DigestDocument) dssDocument), cmsSignedData.getEncoded());
@@ -1108,6 +1149,7 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		for (final SignerInformation counterSignerInformation : getCounterSignatureStore()) {
 			final CAdESSignature counterSignature = new CAdESSignature(cmsSignedData, counterSignerInformation);
 			counterSignature.setSignatureFilename(getSignatureFilename());
+			counterSignature.setEncapsulatedContent(encapsulatedContent);
 			counterSignature.setMasterSignature(this);
 			counterSignatures.add(counterSignature);
 		}
@@ -1136,6 +1178,9 @@ public class CAdESSignature extends DefaultAdvancedSignature {
 		if (isCounterSignature()) {
 			return new InMemoryDocument(getMasterSignature().getSignatureValue());
 		}
+		if (encapsulatedContent != null) {
+			return encapsulatedContent.getDocument();
+		}
 
 		return CMSUtils.getOriginalDocument(cmsSignedData, detachedContents);
 	}
@@ -24,17 +24,38 @@ import eu.europa.esig.dss.cades.validation.scope.CAdESSignatureScopeFinder;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandler;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 import eu.europa.esig.dss.validation.evidencerecord.EvidenceRecordValidatorFactory;
 import eu.europa.esig.dss.validation.scope.SignatureScopeFinder;
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetStringParser;
+import org.bouncycastle.asn1.ASN1Set;
+import org.bouncycastle.asn1.ASN1SetParser;
+import org.bouncycastle.asn1.ASN1SequenceParser;
+import org.bouncycastle.asn1.ASN1StreamParser;
+import org.bouncycastle.asn1.BEROctetStringParser;
+import org.bouncycastle.asn1.BERTags;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.cms.ContentInfoParser;
+import org.bouncycastle.asn1.cms.SignedData;
+import org.bouncycastle.asn1.cms.SignedDataParser;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.SignerInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -45,13 +66,25 @@ import java.util.Objects;
  * Validation of CMS document
  *
  */
-public class CMSDocumentValidator extends SignedDocumentValidator {
+public class CMSDocumentValidator extends SignedDocumentValidator implements Closeable {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CMSDocumentValidator.class);
 
 	/** The CMSSignedData to be validated */
 	protected CMSSignedData cmsSignedData;
 
+	/**
+	 * The encapsulated content extracted from an enveloping CMS on a streaming parsing
+	 * (NULL when the document has been parsed in memory or the CMS is detached)
+	 */
+	private CMSEncapsulatedContent encapsulatedContent;
+
+	/**
+	 * The resources handler used to store the encapsulated content on a streaming parsing
+	 * (NULL when the document has been parsed in memory or the CMS is detached)
+	 */
+	private DSSResourcesHandler encapsulatedContentResourcesHandler;
+
 	/**
 	 * The empty constructor, instantiate {@link CAdESSignatureScopeFinder}
 	 */
@@ -92,6 +125,30 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		this.cmsSignedData = toCMSSignedData(document);
 	}
 
+	/**
+	 * The constructor for {@code CMSDocumentValidator} parsing the document in a streaming mode.
+	 * The encapsulated content (eContent) of an enveloping CMS is not loaded into the memory, but
+	 * written into a document created by the given {@code resourcesHandlerBuilder}
+	 * (e.g. {@code TempFileResourcesHandlerBuilder} to spool the content to a temporary file).
+	 * Only SignerInfos, certificates and CRLs of the CMS SignedData are kept in the memory.
+	 *
+	 * NOTE: the constructor is recommended for validation of large enveloping CMS files.
+	 * The document containing the encapsulated content is owned by the validator, and the created resources
+	 * (e.g. a temporary file) are released on {@code #close()}. The method shall be called once the validation
+	 * is finished and the original documents returned by the validator are not used anymore.
+	 *
+	 * @param document
+	 *            document to validate (with the signature(s))
+	 * @param resourcesHandlerBuilder
+	 *            {@link DSSResourcesHandlerBuilder} to be used to store the encapsulated content
+	 */
+	public CMSDocumentValidator(final DSSDocument document, final DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		Objects.requireNonNull(document, "Document to be validated cannot be null!");
+		Objects.requireNonNull(resourcesHandlerBuilder, "DSSResourcesHandlerBuilder cannot be null!");
+		this.document = document;
+		this.cmsSignedData = toCMSSignedData(document, resourcesHandlerBuilder);
+	}
+
 	private CMSSignedData toCMSSignedData(DSSDocument document) {
 		try {
 			return DSSUtils.toCMSSignedData(document);
@@ -100,6 +157,103 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		}
 	}
 
+	private CMSSignedData toCMSSignedData(DSSDocument document, DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		try (InputStream is = document.openStream()) {
+			final ContentInfoParser contentInfoParser = new ContentInfoParser((ASN1SequenceParser) new ASN1StreamParser(is).readObject());
+			if (!CMSObjectIdentifiers.signedData.equals(contentInfoParser.getContentType())) {
+				throw new IllegalInputException(String.format("Unexpected content type : %s", contentInfoParser.getContentType()));
+			}
+			final SignedDataParser signedDataParser = SignedDataParser.getInstance(contentInfoParser.getContent(BERTags.SEQUENCE));
+			final ASN1Set digestAlgorithms = toASN1Set(signedDataParser.getDigestAlgorithms());
+
+			final ContentInfoParser encapContentInfoParser = signedDataParser.getEncapContentInfo();
+			final ASN1ObjectIdentifier eContentType = encapContentInfoParser.getContentType();
+			final ASN1Encodable eContent = encapContentInfoParser.getContent(BERTags.OCTET_STRING);
+			if (eContent != null) {
+				encapsulatedContent = spoolEncapsulatedContent(document, (ASN1OctetStringParser) eContent, resourcesHandlerBuilder);
+			}
+
+			final ASN1Set certificates = toASN1Set(signedDataParser.getCertificates());
+			final ASN1Set crls = toASN1Set(signedDataParser.getCrls());
+			final ASN1Set signerInfos = toASN1Set(signedDataParser.getSignerInfos());
+
+			// eContent is omitted, the signed content is handled separately
+			final SignedData signedData = new SignedData(digestAlgorithms, new ContentInfo(eContentType, null),
+					certificates, crls, signerInfos);
+			return new CMSSignedData(new ContentInfo(CMSObjectIdentifiers.signedData, signedData));
+
+		} catch (IllegalInputException e) {
+			releaseEncapsulatedContent();
+			throw e;
+		} catch (Exception e) {
+			releaseEncapsulatedContent();
+			throw new IllegalInputException(String.format("A CMS file is expected : %s", e.getMessage()), e);
+		}
+	}
+
+	private ASN1Set toASN1Set(ASN1SetParser setParser) throws IOException {
+		if (setParser != null) {
+			return ASN1Set.getInstance(setParser.toASN1Primitive());
+		}
+		return null;
+	}
+
+	private CMSEncapsulatedContent spoolEncapsulatedContent(DSSDocument cmsDocument, ASN1OctetStringParser octetStringParser,
+															DSSResourcesHandlerBuilder resourcesHandlerBuilder) throws IOException {
+		long length = 0;
+		// the resources handler is kept until the validator is closed, as the created document is used for validation
+		final DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler();
+		encapsulatedContentResourcesHandler = resourcesHandler;
+		try (InputStream is = octetStringParser.getOctetStream(); OutputStream os = resourcesHandler.createOutputStream()) {
+			final byte[] buffer = new byte[8192];
+			int count;
+			while ((count = is.read(buffer)) != -1) {
+				os.write(buffer, 0, count);
+				length += count;
+			}
+		}
+		final DSSDocument content = resourcesHandler.writeToDSSDocument();
+		LOG.debug("The encapsulated content of {} bytes has been extracted from the CMS.", length);
+		if (octetStringParser instanceof BEROctetStringParser) {
+			// the original segmentation of the constructed OCTET STRING is required for the archive-time-stamp-v2
+			final long[] encoding = new CMSEncapsulatedContentLocator(cmsDocument).locate();
+			return new CMSEncapsulatedContent(content, length, cmsDocument, encoding[0], encoding[1]);
+		}
+		return new CMSEncapsulatedContent(content, length);
+	}
+
+	/**
+	 * Releases the resources created for the encapsulated content extracted on a streaming parsing
+	 * (e.g. removes the temporary file). The encapsulated content cannot be accessed after the method call.
+	 * Does nothing when the document has been parsed in memory or the CMS is detached.
+	 *
+	 * @throws IOException if an error occurs on the resources release
+	 */
+	@Override
+	public void close() throws IOException {
+		final DSSResourcesHandler resourcesHandler = encapsulatedContentResourcesHandler;
+		encapsulatedContentResourcesHandler = null;
+		if (resourcesHandler != null) {
+			try {
+				resourcesHandler.close();
+			} finally {
+				if (resourcesHandler instanceof TempFileResourcesHandler) {
+					// the file is preserved on close, as it has been returned within a DSSDocument
+					((TempFileResourcesHandler) resourcesHandler).forceDelete();
+				}
+			}
+		}
+	}
+
+	private void releaseEncapsulatedContent() {
+		try {
+			close();
+		} catch (IOException e) {
+			LOG.warn("Unable to release the encapsulated content : {}", e.getMessage(), e);
+		}
+		encapsulatedContent = null;
+	}
+
 	/**
 	 * Creates a validator from a {@code DSSDocument}
 	 *
@@ -131,6 +285,7 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 					cadesSignature.setSignatureFilename(document.getName());
 				}
 				cadesSignature.setDetachedContents(detachedContents);
+				cadesSignature.setEncapsulatedContent(encapsulatedContent);
 				cadesSignature.setContainerContents(containerContents);
 				cadesSignature.setManifestFile(manifestFile);
 				cadesSignature.setSigningCertificateSource(signingCertificateSource);
@@ -150,6 +305,22 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		return cmsSignedData;
 	}
 
+	/**
+	 * Returns the encapsulated content extracted from an enveloping CMS on a streaming parsing
+	 *
+	 * @return {@link CMSEncapsulatedContent} if the document has been parsed in a streaming mode
+	 *         and the CMS is enveloping, NULL otherwise
+	 */
+	public CMSEncapsulatedContent getEncapsulatedContent() {
+		return encapsulatedContent;
+	}
+
+	@Override
+	protected boolean isConcurrentSignatureValidationSupported() {
+		// the SignerInformation objects are not modified during the signature integrity check
+		return true;
+	}
+
 	@Override
 	protected CAdESDiagnosticDataBuilder initializeDiagnosticDataBuilder() {
 		return new CAdESDiagnosticDataBuilder();
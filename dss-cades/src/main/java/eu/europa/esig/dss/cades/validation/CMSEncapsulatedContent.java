@@ -0,0 +1,142 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.validation;
+
+import eu.europa.esig.dss.model.DSSDocument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Represents an encapsulated content (eContent) of an enveloping CMS SignedData, which has been
+ * extracted from the CMS on a streaming parsing (see {@code CMSDocumentValidator}).
+ * The content is kept outside the {@code CMSSignedData} in order to avoid loading it into the memory.
+ * The document is owned by the {@code CMSDocumentValidator} which created it, and is released
+ * (e.g. the temporary file is removed) on the validator's closing.
+ * For a BER (constructed) encoded eContent, the location of the original eContent encoding within the CMS
+ * document is kept as well, as the segmentation of the OCTET STRING cannot be recovered from the content binaries.
+ *
+ */
+public class CMSEncapsulatedContent implements Serializable {
+
+	private static final long serialVersionUID = -2385316403961052834L;
+
+	/** The document containing the binaries of the eContent */
+	private final DSSDocument document;
+
+	/** The length of the eContent binaries */
+	private final long length;
+
+	/** The original CMS document (NULL when the eContent OCTET STRING is DER encoded) */
+	private final DSSDocument cmsDocument;
+
+	/** The offset of the eContent OCTET STRING encoding within the original CMS document */
+	private final long encodingOffset;
+
+	/** The length of the eContent OCTET STRING encoding within the original CMS document */
+	private final long encodingLength;
+
+	/**
+	 * The constructor for a DER (primitive) encoded eContent
+	 *
+	 * @param document {@link DSSDocument} containing the eContent binaries
+	 * @param length the length of the eContent binaries
+	 */
+	public CMSEncapsulatedContent(final DSSDocument document, final long length) {
+		this(document, length, null, -1, -1);
+	}
+
+	/**
+	 * The constructor for a BER (constructed) encoded eContent
+	 *
+	 * @param document {@link DSSDocument} containing the eContent binaries
+	 * @param length the length of the eContent binaries
+	 * @param cmsDocument {@link DSSDocument} the original CMS document
+	 * @param encodingOffset the offset of the eContent OCTET STRING encoding within the CMS document
+	 * @param encodingLength the length of the eContent OCTET STRING encoding within the CMS document
+	 */
+	public CMSEncapsulatedContent(final DSSDocument document, final long length, final DSSDocument cmsDocument,
+								  final long encodingOffset, final long encodingLength) {
+		Objects.requireNonNull(document, "Document cannot be null!");
+		this.document = document;
+		this.length = length;
+		this.cmsDocument = cmsDocument;
+		this.encodingOffset = encodingOffset;
+		this.encodingLength = encodingLength;
+	}
+
+	/**
+	 * Gets the document containing the eContent binaries
+	 *
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument getDocument() {
+		return document;
+	}
+
+	/**
+	 * Gets the length of the eContent binaries
+	 *
+	 * @return length in bytes
+	 */
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * Gets whether the eContent OCTET STRING has been BER (constructed) encoded within the original CMS
+	 *
+	 * @return TRUE if the content has been BER encoded, FALSE if DER encoded
+	 */
+	public boolean isBerEncoded() {
+		return cmsDocument != null;
+	}
+
+	/**
+	 * Gets the original CMS document containing the BER encoded eContent
+	 *
+	 * @return {@link DSSDocument}, NULL when the eContent is DER encoded
+	 */
+	public DSSDocument getCmsDocument() {
+		return cmsDocument;
+	}
+
+	/**
+	 * Gets the offset of the eContent OCTET STRING encoding (including the tag and length octets)
+	 * within the original CMS document
+	 *
+	 * @return offset in bytes, -1 when the eContent is DER encoded
+	 */
+	public long getEncodingOffset() {
+		return encodingOffset;
+	}
+
+	/**
+	 * Gets the length of the eContent OCTET STRING encoding (including the tag and length octets,
+	 * as well as the end-of-contents octets) within the original CMS document
+	 *
+	 * @return length in bytes, -1 when the eContent is DER encoded
+	 */
+	public long getEncodingLength() {
+		return encodingLength;
+	}
+
+}
@@ -0,0 +1,191 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.validation;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import org.bouncycastle.asn1.BERTags;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Finds the location of the eContent OCTET STRING encoding within an enveloping CMS SignedData document,
+ * by walking through the tag and length octets of the preceding elements without reading their contents.
+ * The located original encoding is used to compute the message-imprint of an archive-time-stamp-v2
+ * for a BER encoded eContent extracted on a streaming parsing.
+ *
+ */
+final class CMSEncapsulatedContentLocator {
+
+	/** The CMS document to be read */
+	private final DSSDocument cmsDocument;
+
+	/** The current input stream */
+	private InputStream is;
+
+	/** The current position within the CMS document */
+	private long position;
+
+	/**
+	 * The default constructor
+	 *
+	 * @param cmsDocument {@link DSSDocument} enveloping CMS SignedData
+	 */
+	CMSEncapsulatedContentLocator(final DSSDocument cmsDocument) {
+		this.cmsDocument = cmsDocument;
+	}
+
+	/**
+	 * Locates the eContent OCTET STRING encoding within the CMS document
+	 *
+	 * @return an array containing the offset and the length of the eContent OCTET STRING encoding
+	 * @throws IOException if the CMS document cannot be read or has an unexpected structure
+	 */
+	long[] locate() throws IOException {
+		try (InputStream cmsInputStream = new BufferedInputStream(cmsDocument.openStream())) {
+			this.is = cmsInputStream;
+			this.position = 0;
+
+			// ContentInfo ::= SEQUENCE { contentType, content [0] EXPLICIT SignedData }
+			enter(BERTags.SEQUENCE | BERTags.CONSTRUCTED);
+			skipElement();
+			enter(BERTags.TAGGED | BERTags.CONSTRUCTED);
+			// SignedData ::= SEQUENCE { version, digestAlgorithms, encapContentInfo, ... }
+			enter(BERTags.SEQUENCE | BERTags.CONSTRUCTED);
+			skipElement();
+			skipElement();
+			// EncapsulatedContentInfo ::= SEQUENCE { eContentType, eContent [0] EXPLICIT OCTET STRING }
+			enter(BERTags.SEQUENCE | BERTags.CONSTRUCTED);
+			skipElement();
+			enter(BERTags.TAGGED | BERTags.CONSTRUCTED);
+
+			final long offset = position;
+			final int tag = readTag();
+			if ((tag & ~BERTags.CONSTRUCTED) != BERTags.OCTET_STRING) {
+				throw new IOException(String.format("An OCTET STRING is expected for eContent, but tag '%s' found!", tag));
+			}
+			skipContent(readLength());
+			return new long[] { offset, position - offset };
+
+		} finally {
+			this.is = null;
+		}
+	}
+
+	private void enter(int expectedTag) throws IOException {
+		final int tag = readTag();
+		if (tag != expectedTag) {
+			throw new IOException(String.format("Unexpected tag '%s' found, while '%s' is expected!", tag, expectedTag));
+		}
+		readLength();
+	}
+
+	private void skipElement() throws IOException {
+		readTag();
+		skipContent(readLength());
+	}
+
+	/**
+	 * Skips the content of the element
+	 *
+	 * @param length the length of the content, -1 for an indefinite length
+	 */
+	private void skipContent(long length) throws IOException {
+		if (length >= 0) {
+			skip(length);
+			return;
+		}
+		// indefinite length : skip the inner elements until end-of-contents
+		while (true) {
+			final int tag = readTag();
+			final long innerLength = readLength();
+			if (tag == 0 && innerLength == 0) {
+				return;
+			}
+			skipContent(innerLength);
+		}
+	}
+
+	private int readTag() throws IOException {
+		final int tag = read();
+		if ((tag & 0x1f) == 0x1f) {
+			// high-tag-number form, not used within the navigated structure
+			int b;
+			do {
+				b = read();
+			} while ((b & 0x80) != 0);
+		}
+		return tag;
+	}
+
+	/**
+	 * Reads the length octets
+	 *
+	 * @return the length, -1 for an indefinite length
+	 */
+	private long readLength() throws IOException {
+		final int first = read();
+		if (first < 0x80) {
+			return first;
+		} else if (first == 0x80) {
+			return -1;
+		}
+		final int octetsNumber = first & 0x7f;
+		if (octetsNumber > 8) {
+			throw new IOException(String.format("Unsupported length of %s octets!", octetsNumber));
+		}
+		long length = 0;
+		for (int i = 0; i < octetsNumber; i++) {
+			length = (length << 8) | read();
+		}
+		if (length < 0) {
+			throw new IOException("Negative length found!");
+		}
+		return length;
+	}
+
+	private int read() throws IOException {
+		final int b = is.read();
+		if (b == -1) {
+			throw new EOFException("Unexpected end of the CMS document!");
+		}
+		position++;
+		return b;
+	}
+
+	private void skip(long length) throws IOException {
+		long remaining = length;
+		while (remaining > 0) {
+			long skipped = is.skip(remaining);
+			if (skipped <= 0) {
+				// skip(...) may not be supported, read in order to check the end of the stream
+				read();
+				skipped = 1;
+			} else {
+				position += skipped;
+			}
+			remaining -= skipped;
+		}
+	}
+
+}
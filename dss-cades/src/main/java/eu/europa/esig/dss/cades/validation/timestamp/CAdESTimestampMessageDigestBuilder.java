@@ -23,6 +23,7 @@ package eu.europa.esig.dss.cades.validation.timestamp;
 import eu.europa.esig.dss.cades.CMSUtils;
 import eu.europa.esig.dss.cades.signature.CadesLevelBaselineLTATimestampExtractor;
 import eu.europa.esig.dss.cades.validation.CAdESSignature;
+import eu.europa.esig.dss.cades.validation.CMSEncapsulatedContent;
 import eu.europa.esig.dss.enumerations.ArchiveTimestampType;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
@@ -36,13 +37,17 @@ import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.timestamp.TimestampMessageDigestBuilder;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
 import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1Encoding;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1Primitive;
 import org.bouncycastle.asn1.ASN1Sequence;
 import org.bouncycastle.asn1.ASN1Set;
 import org.bouncycastle.asn1.BEROctetString;
 import org.bouncycastle.asn1.BERSequence;
+import org.bouncycastle.asn1.BERSequenceGenerator;
 import org.bouncycastle.asn1.BERSet;
 import org.bouncycastle.asn1.BERTaggedObject;
+import org.bouncycastle.asn1.BERTags;
 import org.bouncycastle.asn1.DERSequence;
 import org.bouncycastle.asn1.DERTaggedObject;
 import org.bouncycastle.asn1.cms.Attribute;
@@ -55,7 +60,10 @@ import org.bouncycastle.tsp.TimeStampToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Objects;
 
@@ -84,6 +92,9 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 	/** The list of detached documents */
 	private final List<DSSDocument> detachedDocuments;
 
+	/** The encapsulated content extracted from the CMS on a streaming parsing, when applicable */
+	private final CMSEncapsulatedContent encapsulatedContent;
+
 	/** The instance of CadesLevelBaselineLTATimestampExtractor */
 	private final CadesLevelBaselineLTATimestampExtractor timestampExtractor;
 
@@ -137,6 +148,7 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 		this.cmsSignedData = signature.getCmsSignedData();
 		this.signerInformation = signature.getSignerInformation();
 		this.detachedDocuments = signature.getDetachedContents();
+		this.encapsulatedContent = signature.getEncapsulatedContent();
 		this.timestampExtractor = new CadesLevelBaselineLTATimestampExtractor(
 				cmsSignedData, certificateSource.getCertificates());
 	}
@@ -292,34 +304,27 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 	private DSSMessageDigest getArchiveTimestampDataV2(boolean includeUnsignedAttrsTagAndLength) throws DSSException {
 		try {
 			final DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+			final OutputStream os = digestCalculator.getOutputStream();
 
 			final ContentInfo contentInfo = cmsSignedData.toASN1Structure();
 			final SignedData signedData = SignedData.getInstance(contentInfo.getContent());
-			
-			byte[] bytes = getContentInfoBytes(signedData);
-			digestCalculator.update(bytes);
-			
-			if (CMSUtils.isDetachedSignature(cmsSignedData)) {
-				bytes = getOriginalDocumentBinaries();
-				if (bytes == null) {
+
+			if (encapsulatedContent != null) {
+				writeEncapsulatedContentInfo(os, signedData);
+
+			} else {
+				writeContentInfo(os, signedData);
+
+				if (CMSUtils.isDetachedSignature(cmsSignedData) && !writeOriginalDocument(os)) {
 					LOG.warn("The detached content is not provided for a TimestampToken with Id '{}'. "
 							+ "Not possible to compute message imprint!", timestampToken.getDSSIdAsString());
 					return DSSMessageDigest.createEmptyDigest();
 				}
-				digestCalculator.update(bytes);
-			}
-			
-			bytes = getCertificateDataBytes(signedData);
-			if (Utils.isArrayNotEmpty(bytes)) {
-				digestCalculator.update(bytes);
-			}
-			
-			bytes = getCRLDataBytes(signedData);
-			if (Utils.isArrayNotEmpty(bytes)) {
-				digestCalculator.update(bytes);
 			}
 
-			writeSignerInfoBytes(digestCalculator, includeUnsignedAttrsTagAndLength);
+			writeCertificateData(os, signedData);
+			writeCRLData(os, signedData);
+			writeSignerInfo(os, includeUnsignedAttrsTagAndLength);
 
 			return digestCalculator.getMessageDigest();
 
@@ -331,35 +336,142 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 		}
 	}
 	
-	private byte[] getContentInfoBytes(final SignedData signedData) {
+	private void writeContentInfo(final OutputStream os, final SignedData signedData) throws IOException {
 		final ContentInfo content = signedData.getEncapContentInfo();
-		byte[] contentInfoBytes;
-		if (content.getContent() instanceof BEROctetString) {
-			contentInfoBytes = DSSASN1Utils.getBEREncoded(content);
+		final String encoding = content.getContent() instanceof BEROctetString ? ASN1Encoding.BER : ASN1Encoding.DER;
+		writeTraced(os, "Content Info", out -> content.encodeTo(out, encoding));
+	}
+
+	/**
+	 * Writes the encoding of encapContentInfo, with the eContent streamed from the extracted encapsulated content.
+	 * The produced binaries are equivalent to the ones written by {@code #writeContentInfo(OutputStream, SignedData)}
+	 * for the original CMS parsed in memory. NOTE: BER-encoded eContent is copied unchanged from the original
+	 * CMS document, in order to preserve the segmentation of the constructed OCTET STRING.
+	 *
+	 * @param os {@link OutputStream} to write the encoding into
+	 * @param signedData {@link SignedData} containing encapContentInfo with eContent omitted
+	 * @throws IOException if an error occurs on the document reading
+	 */
+	private void writeEncapsulatedContentInfo(final OutputStream os, final SignedData signedData) throws IOException {
+		writeTraced(os, "Content Info", out -> writeEncapsulatedContentInfoEncoding(out, signedData));
+	}
+
+	private void writeEncapsulatedContentInfoEncoding(final OutputStream os, final SignedData signedData) throws IOException {
+		final ASN1ObjectIdentifier contentType = signedData.getEncapContentInfo().getContentType();
+		if (encapsulatedContent.isBerEncoded()) {
+			final BERSequenceGenerator sequenceGenerator = new BERSequenceGenerator(os);
+			sequenceGenerator.addObject(contentType);
+			final OutputStream rawOutputStream = sequenceGenerator.getRawOutputStream();
+			// eContent [0] EXPLICIT, BER encoded with an indefinite length
+			rawOutputStream.write(BERTags.TAGGED | BERTags.CONSTRUCTED);
+			rawOutputStream.write(0x80);
+			writeOriginalEncapsulatedContentEncoding(rawOutputStream);
+			rawOutputStream.write(0x00);
+			rawOutputStream.write(0x00);
+			sequenceGenerator.close();
+
 		} else {
-			contentInfoBytes = DSSASN1Utils.getDEREncoded(content);
+			final byte[] contentTypeBytes = contentType.getEncoded(ASN1Encoding.DER);
+			// lengths of complete TLV encodings
+			final long octetStringLength = getDERHeaderLength(encapsulatedContent.getLength()) + encapsulatedContent.getLength();
+			final long taggedObjectLength = getDERHeaderLength(octetStringLength) + octetStringLength;
+			writeDERHeader(os, BERTags.SEQUENCE | BERTags.CONSTRUCTED, contentTypeBytes.length + taggedObjectLength);
+			os.write(contentTypeBytes);
+			writeDERHeader(os, BERTags.TAGGED | BERTags.CONSTRUCTED, octetStringLength);
+			writeDERHeader(os, BERTags.OCTET_STRING, encapsulatedContent.getLength());
+			try (InputStream is = encapsulatedContent.getDocument().openStream()) {
+				Utils.copy(is, os);
+			}
 		}
-		if (LOG.isTraceEnabled()) {
-			LOG.trace("Content Info: {}", DSSUtils.toHex(contentInfoBytes));
+	}
+
+	/**
+	 * Copies the original eContent OCTET STRING encoding from the CMS document.
+	 * Throws an exception when the encoding cannot be entirely read, as a digest
+	 * of an incomplete encoding would not correspond to the signed data.
+	 *
+	 * @param os {@link OutputStream} to write the encoding into
+	 * @throws IOException if an error occurs on the document reading
+	 */
+	private void writeOriginalEncapsulatedContentEncoding(final OutputStream os) throws IOException {
+		try (InputStream is = encapsulatedContent.getCmsDocument().openStream()) {
+			long toSkip = encapsulatedContent.getEncodingOffset();
+			while (toSkip > 0) {
+				long skipped = is.skip(toSkip);
+				if (skipped <= 0) {
+					if (is.read() == -1) {
+						throw new DSSException("Unable to reach the eContent encoding within the CMS document!");
+					}
+					skipped = 1;
+				}
+				toSkip -= skipped;
+			}
+
+			final byte[] buffer = new byte[8192];
+			long remaining = encapsulatedContent.getEncodingLength();
+			while (remaining > 0) {
+				int count = is.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (count == -1) {
+					throw new DSSException("The eContent encoding within the CMS document is truncated!");
+				}
+				os.write(buffer, 0, count);
+				remaining -= count;
+			}
 		}
-		return contentInfoBytes;
 	}
-	
-	private byte[] getOriginalDocumentBinaries() {
+
+	private long getDERHeaderLength(long length) {
+		return 1 + getDERLengthOctetsNumber(length);
+	}
+
+	private int getDERLengthOctetsNumber(long length) {
+		if (length < 128) {
+			return 1;
+		}
+		int size = 1;
+		long value = length;
+		while ((value >>>= 8) != 0) {
+			size++;
+		}
+		return size + 1;
+	}
+
+	private void writeDERHeader(OutputStream os, int tag, long length) throws IOException {
+		os.write(tag);
+		int lengthOctetsNumber = getDERLengthOctetsNumber(length);
+		if (lengthOctetsNumber == 1) {
+			os.write((int) length);
+		} else {
+			os.write(0x80 | (lengthOctetsNumber - 1));
+			for (int i = (lengthOctetsNumber - 2) * 8; i >= 0; i -= 8) {
+				os.write((int) (length >> i));
+			}
+		}
+	}
+
+	/**
+	 * Writes the original document binaries into the given {@code OutputStream} in a streaming manner
+	 *
+	 * @param os {@link OutputStream} to write the document into
+	 * @return TRUE if the document has been found and written, FALSE otherwise
+	 * @throws IOException if an error occurs on the document reading
+	 */
+	private boolean writeOriginalDocument(final OutputStream os) throws IOException {
 		/*
 		 * Detached signatures have either no encapContentInfo in signedData, or it
 		 * exists but has no eContent
 		 */
 		DSSDocument originalDocument = getOriginalDocument();
 		if (originalDocument != null) {
-			return DSSUtils.toByteArray(getOriginalDocument());
+			try (InputStream is = originalDocument.openStream()) {
+				Utils.copy(is, os);
+			}
+			return true;
 		}
-		return null;
+		return false;
 	}
 	
-	private byte[] getCertificateDataBytes(final SignedData signedData) throws IOException {
-		byte[] certificatesBytes = null;
-		
+	private void writeCertificateData(final OutputStream os, final SignedData signedData) throws IOException {
 		final ASN1Set certificates = signedData.getCertificates();
 		if (certificates != null) {
 			/*
@@ -367,56 +479,81 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 			 * to use the correct encoding.
 			 */
 			if (certificates instanceof BERSet) {
-				certificatesBytes = new BERTaggedObject(false, 0, new BERSequence(certificates.toArray())).getEncoded();
+				writeTraced(os, "Certificates", out ->
+						new BERTaggedObject(false, 0, new BERSequence(certificates.toArray())).encodeTo(out, ASN1Encoding.BER));
 			} else {
-				certificatesBytes = new DERTaggedObject(false, 0, new DERSequence(certificates.toArray())).getEncoded();
-			}
-			
-			if (LOG.isTraceEnabled()) {
-				LOG.trace("Certificates: {}", DSSUtils.toHex(certificatesBytes));
+				writeTraced(os, "Certificates", out ->
+						new DERTaggedObject(false, 0, new DERSequence(certificates.toArray())).encodeTo(out, ASN1Encoding.DER));
 			}
-		}
-		if (LOG.isDebugEnabled()) {
+
+		} else if (LOG.isDebugEnabled()) {
 			LOG.debug("Certificates are not present in the SignedData.");
 		}
-		return certificatesBytes;
 	}
 	
-	private byte[] getCRLDataBytes(final SignedData signedData) throws IOException {
-		byte[] crlBytes = null;
-		
+	private void writeCRLData(final OutputStream os, final SignedData signedData) throws IOException {
 		final ASN1Set crLs = signedData.getCRLs();
 		if (crLs != null) {
-			
-			if (signedData.getCRLs() instanceof BERSet) {
-				crlBytes = new BERTaggedObject(false, 1, new BERSequence(crLs.toArray())).getEncoded();
+			if (crLs instanceof BERSet) {
+				writeTraced(os, "CRLs", out ->
+						new BERTaggedObject(false, 1, new BERSequence(crLs.toArray())).encodeTo(out, ASN1Encoding.BER));
 			} else {
-				crlBytes = new DERTaggedObject(false, 1, new DERSequence(crLs.toArray())).getEncoded();
-			}
-			if (LOG.isTraceEnabled()) {
-				LOG.trace("CRLs: {}", DSSUtils.toHex(crlBytes));
+				writeTraced(os, "CRLs", out ->
+						new DERTaggedObject(false, 1, new DERSequence(crLs.toArray())).encodeTo(out, ASN1Encoding.DER));
 			}
-		}
-		if (LOG.isDebugEnabled()) {
+
+		} else if (LOG.isDebugEnabled()) {
 			LOG.debug("CRLs are not present in the SignedData.");
 		}
-		return crlBytes;
 	}
 	
-	private void writeSignerInfoBytes(final DSSMessageDigestCalculator digestCalculator, boolean includeUnsignedAttrsTagAndLength) {
+	private void writeSignerInfo(final OutputStream os, boolean includeUnsignedAttrsTagAndLength) throws IOException {
 		final SignerInfo signerInfo = signerInformation.toASN1Structure();
 		final ASN1Set unauthenticatedAttributes = signerInfo.getUnauthenticatedAttributes();
 		final ASN1Sequence filteredUnauthenticatedAttributes = filterUnauthenticatedAttributes(unauthenticatedAttributes, timestampToken);
 		final ASN1Sequence asn1Object = getSignerInfoEncoded(signerInfo, filteredUnauthenticatedAttributes, includeUnsignedAttrsTagAndLength);
 		for (int ii = 0; ii < asn1Object.size(); ii++) {
-			final byte[] signerInfoBytes = DSSASN1Utils.getDEREncoded(asn1Object.getObjectAt(ii).toASN1Primitive());
-			if (LOG.isTraceEnabled()) {
-				LOG.trace("SignerInfoBytes: {}", DSSUtils.toHex(signerInfoBytes));
-			}
-			digestCalculator.update(signerInfoBytes);
+			final ASN1Primitive signerInfoPart = asn1Object.getObjectAt(ii).toASN1Primitive();
+			writeTraced(os, "SignerInfoBytes", out -> signerInfoPart.encodeTo(out, ASN1Encoding.DER));
+		}
+	}
+
+	/**
+	 * Writes the data produced by the given {@code writer} into the {@code os}.
+	 * When the trace level is enabled, the data is buffered in order to log its hexadecimal representation.
+	 *
+	 * @param os {@link OutputStream} to write the data into
+	 * @param description {@link String} the description of the data to be logged
+	 * @param writer {@link EncodingWriter} producing the data
+	 * @throws IOException if an error occurs on the data writing
+	 */
+	private void writeTraced(final OutputStream os, final String description, final EncodingWriter writer) throws IOException {
+		if (LOG.isTraceEnabled()) {
+			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			writer.write(baos);
+			final byte[] bytes = baos.toByteArray();
+			LOG.trace("{}: {}", description, DSSUtils.toHex(bytes));
+			os.write(bytes);
+		} else {
+			writer.write(os);
 		}
 	}
 
+	/**
+	 * Writes an encoding into an {@code OutputStream}
+	 */
+	private interface EncodingWriter {
+
+		/**
+		 * Writes the encoding into the given {@code OutputStream}
+		 *
+		 * @param os {@link OutputStream} to write the encoding into
+		 * @throws IOException if an error occurs on the writing
+		 */
+		void write(OutputStream os) throws IOException;
+
+	}
+
 	/**
 	 * Remove any archive-timestamp-v2/3 attribute added after the
 	 * timestampToken
@@ -497,6 +634,9 @@ public class CAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 	}
 	
 	private DSSDocument getOriginalDocument() {
+		if (encapsulatedContent != null) {
+			return encapsulatedContent.getDocument();
+		}
 		try {
 			return CMSUtils.getOriginalDocument(cmsSignedData, detachedDocuments);
 		} catch (DSSException e) {
@@ -0,0 +1,266 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.validation;
+
+import eu.europa.esig.dss.cades.CMSUtils;
+import eu.europa.esig.dss.cades.validation.timestamp.CAdESTimestampMessageDigestBuilder;
+import eu.europa.esig.dss.enumerations.ArchiveTimestampType;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.ListCertificateSource;
+import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
+import eu.europa.esig.dss.validation.AdvancedSignature;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.ASN1Set;
+import org.bouncycastle.asn1.BEROctetString;
+import org.bouncycastle.asn1.BERSequence;
+import org.bouncycastle.asn1.BERSet;
+import org.bouncycastle.asn1.BERTaggedObject;
+import org.bouncycastle.asn1.DERSequence;
+import org.bouncycastle.asn1.DERTaggedObject;
+import org.bouncycastle.asn1.cms.Attribute;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.cms.SignedData;
+import org.bouncycastle.asn1.cms.SignerInfo;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.tsp.TimeStampToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static eu.europa.esig.dss.spi.OID.id_aa_ets_archiveTimestampV2;
+import static eu.europa.esig.dss.spi.OID.id_aa_ets_archiveTimestampV3;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the archive-timestamp-v2 message-imprint computed by writing the data into the digest
+ * against the message-imprint computed from the byte arrays of the data (the previous implementation)
+ */
+public class CAdESArchiveTimestampV2DigestTest {
+
+	private static Stream<Arguments> data() {
+		return Stream.of(
+				Arguments.of(new FileDocument("src/test/resources/validation/dss-1401/sig_with_atsv2.p7s"), null),
+				Arguments.of(new FileDocument("src/test/resources/validation/Signature-C-B-LTA-10.p7m"), null),
+				Arguments.of(new FileDocument("src/test/resources/validation/dss-1619/CAdES-XL-T1-Double-AV2.png.p7m"), null),
+				Arguments.of(new FileDocument("src/test/resources/validation/dss-916/test.txt.signed.qes.detached.p7s"),
+						new FileDocument("src/test/resources/validation/dss-916/test.txt")),
+				Arguments.of(new FileDocument("src/test/resources/validation/dss-1344/screenshot.png.signed_qes_detached.p7s"),
+						new FileDocument("src/test/resources/validation/dss-1344/screenshot.png"))
+		);
+	}
+
+	@ParameterizedTest(name = "Archive timestamp v2 {index} : {0}")
+	@MethodSource("data")
+	public void test(DSSDocument signatureDocument, DSSDocument detachedDocument) throws Exception {
+		CMSDocumentValidator validator = new CMSDocumentValidator(signatureDocument);
+		int archiveTimestampsNumber = checkArchiveTimestamps(validator, signatureDocument, detachedDocument);
+		assertTrue(archiveTimestampsNumber > 0);
+
+		if (detachedDocument == null) {
+			// the encapsulated content is streamed from a temporary file
+			try (CMSDocumentValidator streamingValidator = new CMSDocumentValidator(signatureDocument, new TempFileResourcesHandlerBuilder())) {
+				assertEquals(archiveTimestampsNumber, checkArchiveTimestamps(streamingValidator, signatureDocument, null));
+			}
+		}
+	}
+
+	@Test
+	public void berEncapsulatedContentTest() throws Exception {
+		// the eContent is re-encoded with a segmentation differing from the default one of BouncyCastle
+		CMSSignedData cmsSignedData = DSSUtils.toCMSSignedData(new FileDocument("src/test/resources/validation/Signature-C-B-LTA-10.p7m"));
+		SignedData signedData = SignedData.getInstance(cmsSignedData.toASN1Structure().getContent());
+		ContentInfo encapContentInfo = signedData.getEncapContentInfo();
+		byte[] content = ASN1OctetString.getInstance(encapContentInfo.getContent()).getOctets();
+		ContentInfo berEncapContentInfo = new ContentInfo(encapContentInfo.getContentType(), new BEROctetString(content, 777));
+		SignedData berSignedData = new SignedData(signedData.getDigestAlgorithms(), berEncapContentInfo,
+				signedData.getCertificates(), signedData.getCRLs(), signedData.getSignerInfos());
+		DSSDocument signatureDocument = new InMemoryDocument(
+				new ContentInfo(CMSObjectIdentifiers.signedData, berSignedData).getEncoded(ASN1Encoding.BER));
+		byte[] originalEncapContentInfoEncoding = berEncapContentInfo.getEncoded(ASN1Encoding.BER);
+
+		CMSSignedData referenceCMSSignedData = DSSUtils.toCMSSignedData(signatureDocument);
+		byte[] referenceEncapContentInfoEncoding = DSSASN1Utils.getBEREncoded(
+				SignedData.getInstance(referenceCMSSignedData.toASN1Structure().getContent()).getEncapContentInfo());
+
+		int archiveTimestampsNumber = 0;
+		try (CMSDocumentValidator streamingValidator = new CMSDocumentValidator(signatureDocument, new TempFileResourcesHandlerBuilder())) {
+			streamingValidator.setCertificateVerifier(new CommonCertificateVerifier());
+			assertTrue(streamingValidator.getEncapsulatedContent().isBerEncoded());
+			for (AdvancedSignature signature : streamingValidator.getSignatures()) {
+				CAdESSignature cadesSignature = (CAdESSignature) signature;
+				SignerInformation referenceSignerInformation = referenceCMSSignedData.getSignerInfos().get(cadesSignature.getSignerId());
+				for (TimestampToken timestampToken : cadesSignature.getArchiveTimestamps()) {
+					if (ArchiveTimestampType.CAdES_V2 != timestampToken.getArchiveTimestampType()) {
+						continue;
+					}
+					DSSMessageDigest streamedDigest = new CAdESTimestampMessageDigestBuilder(cadesSignature,
+							new ListCertificateSource(cadesSignature.getCertificateSource()), timestampToken).getArchiveTimestampMessageDigest();
+					assertNotNull(streamedDigest);
+
+					// the imprint does not match the re-encoded CMS, the data without unsigned attrs tag and length is used
+					byte[] referenceData = getArchiveTimestampDataV2(referenceCMSSignedData, referenceSignerInformation,
+							timestampToken, null, false);
+					// the eContent shall be digested with its original encoding
+					ByteArrayOutputStream baos = new ByteArrayOutputStream();
+					baos.write(originalEncapContentInfoEncoding);
+					baos.write(referenceData, referenceEncapContentInfoEncoding.length,
+							referenceData.length - referenceEncapContentInfoEncoding.length);
+					assertArrayEquals(DSSUtils.digest(timestampToken.getDigestAlgorithm(), baos.toByteArray()), streamedDigest.getValue());
+					++archiveTimestampsNumber;
+				}
+			}
+		}
+		assertTrue(archiveTimestampsNumber > 0);
+	}
+
+	private int checkArchiveTimestamps(CMSDocumentValidator validator, DSSDocument signatureDocument,
+			DSSDocument detachedDocument) throws IOException {
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		if (detachedDocument != null) {
+			validator.setDetachedContents(Collections.singletonList(detachedDocument));
+		}
+		// the in-memory CMS is used as the reference
+		CMSSignedData referenceCMSSignedData = DSSUtils.toCMSSignedData(signatureDocument);
+
+		int archiveTimestampsNumber = 0;
+		for (AdvancedSignature signature : validator.getSignatures()) {
+			CAdESSignature cadesSignature = (CAdESSignature) signature;
+			SignerInformation referenceSignerInformation = referenceCMSSignedData.getSignerInfos().get(cadesSignature.getSignerId());
+			for (TimestampToken timestampToken : cadesSignature.getArchiveTimestamps()) {
+				if (ArchiveTimestampType.CAdES_V2 != timestampToken.getArchiveTimestampType()) {
+					continue;
+				}
+				CAdESTimestampMessageDigestBuilder builder = new CAdESTimestampMessageDigestBuilder(cadesSignature,
+						new ListCertificateSource(cadesSignature.getCertificateSource()), timestampToken);
+				DSSMessageDigest streamedDigest = builder.getArchiveTimestampMessageDigest();
+				assertTrue(timestampToken.matchData(streamedDigest));
+
+				byte[] referenceDataWithTagAndLength = getArchiveTimestampDataV2(referenceCMSSignedData,
+						referenceSignerInformation, timestampToken, detachedDocument, true);
+				byte[] referenceDataWithoutTagAndLength = getArchiveTimestampDataV2(referenceCMSSignedData,
+						referenceSignerInformation, timestampToken, detachedDocument, false);
+				byte[] referenceDigest = DSSUtils.digest(timestampToken.getDigestAlgorithm(), referenceDataWithTagAndLength);
+				if (!timestampToken.matchData(referenceDigest, true)) {
+					referenceDigest = DSSUtils.digest(timestampToken.getDigestAlgorithm(), referenceDataWithoutTagAndLength);
+				}
+				assertArrayEquals(referenceDigest, streamedDigest.getValue());
+				++archiveTimestampsNumber;
+			}
+		}
+		return archiveTimestampsNumber;
+	}
+
+	private byte[] getArchiveTimestampDataV2(CMSSignedData cmsSignedData, SignerInformation signerInformation,
+			TimestampToken timestampToken, DSSDocument detachedDocument, boolean includeUnsignedAttrsTagAndLength) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		SignedData signedData = SignedData.getInstance(cmsSignedData.toASN1Structure().getContent());
+
+		ContentInfo content = signedData.getEncapContentInfo();
+		if (content.getContent() instanceof BEROctetString) {
+			baos.write(DSSASN1Utils.getBEREncoded(content));
+		} else {
+			baos.write(DSSASN1Utils.getDEREncoded(content));
+		}
+		if (CMSUtils.isDetachedSignature(cmsSignedData)) {
+			baos.write(DSSUtils.toByteArray(detachedDocument));
+		}
+
+		ASN1Set certificates = signedData.getCertificates();
+		if (certificates != null) {
+			if (certificates instanceof BERSet) {
+				baos.write(new BERTaggedObject(false, 0, new BERSequence(certificates.toArray())).getEncoded());
+			} else {
+				baos.write(new DERTaggedObject(false, 0, new DERSequence(certificates.toArray())).getEncoded());
+			}
+		}
+		ASN1Set crls = signedData.getCRLs();
+		if (crls != null) {
+			if (crls instanceof BERSet) {
+				baos.write(new BERTaggedObject(false, 1, new BERSequence(crls.toArray())).getEncoded());
+			} else {
+				baos.write(new DERTaggedObject(false, 1, new DERSequence(crls.toArray())).getEncoded());
+			}
+		}
+
+		SignerInfo signerInfo = signerInformation.toASN1Structure();
+		ASN1EncodableVector signerInfoVector = new ASN1EncodableVector();
+		signerInfoVector.add(signerInfo.getVersion());
+		signerInfoVector.add(signerInfo.getSID());
+		signerInfoVector.add(signerInfo.getDigestAlgorithm());
+		DERTaggedObject signedAttributes = CMSUtils.getDERSignedAttributes(signerInformation);
+		if (signedAttributes != null) {
+			signerInfoVector.add(signedAttributes);
+		}
+		signerInfoVector.add(signerInfo.getDigestEncryptionAlgorithm());
+		signerInfoVector.add(signerInfo.getEncryptedDigest());
+		ASN1Sequence unsignedAttributes = getFilteredUnsignedAttributes(signerInfo.getUnauthenticatedAttributes(), timestampToken);
+		if (includeUnsignedAttrsTagAndLength) {
+			signerInfoVector.add(new DERTaggedObject(false, 1, unsignedAttributes));
+		} else {
+			for (int i = 0; i < unsignedAttributes.size(); i++) {
+				signerInfoVector.add(unsignedAttributes.getObjectAt(i));
+			}
+		}
+		for (int i = 0; i < signerInfoVector.size(); i++) {
+			baos.write(DSSASN1Utils.getDEREncoded(signerInfoVector.get(i).toASN1Primitive()));
+		}
+		return baos.toByteArray();
+	}
+
+	private ASN1Sequence getFilteredUnsignedAttributes(ASN1Set unsignedAttributes, TimestampToken timestampToken) {
+		ASN1EncodableVector result = new ASN1EncodableVector();
+		for (int i = 0; i < unsignedAttributes.size(); i++) {
+			Attribute attribute = Attribute.getInstance(unsignedAttributes.getObjectAt(i));
+			ASN1ObjectIdentifier attrType = attribute.getAttrType();
+			if (id_aa_ets_archiveTimestampV2.equals(attrType) || id_aa_ets_archiveTimestampV3.equals(attrType)) {
+				TimeStampToken token = DSSASN1Utils.getTimeStampToken(attribute);
+				if (token == null || !token.getTimeStampInfo().getGenTime().before(timestampToken.getGenerationTime())) {
+					continue;
+				}
+			}
+			result.add(unsignedAttributes.getObjectAt(i));
+		}
+		return new DERSequence(result);
+	}
+
+}
@@ -0,0 +1,172 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.validation;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.diagnostic.TimestampWrapper;
+import eu.europa.esig.dss.exception.IllegalInputException;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.InMemoryResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CMSDocumentValidatorStreamingTest {
+
+	private static Stream<Arguments> data() {
+		List<Arguments> args = new ArrayList<>();
+		for (String path : new String[] { "src/test/resources/validation/CAdESDoubleLTA.p7m",
+				"src/test/resources/validation/Signature-C-A-XL-1.p7m", "src/test/resources/validation/Signature-C-B-LTA-10.p7m",
+				"src/test/resources/validation/counterSig.p7m", "src/test/resources/validation/cades-extended-a.pkcs7",
+				"src/test/resources/validation/dss-768/FD1&FD2&FEA.pdf.p7m",
+				"src/test/resources/validation/dss-1401/sig_with_atsv2.p7s" }) {
+			args.add(Arguments.of(new FileDocument(path), new InMemoryResourcesHandlerBuilder()));
+			args.add(Arguments.of(new FileDocument(path), new TempFileResourcesHandlerBuilder()));
+		}
+		return args.stream();
+	}
+
+	@ParameterizedTest(name = "Validation {index} : {0}")
+	@MethodSource("data")
+	public void test(DSSDocument document, DSSResourcesHandlerBuilder resourcesHandlerBuilder) throws Exception {
+		CMSDocumentValidator inMemoryValidator = new CMSDocumentValidator(document);
+		try (CMSDocumentValidator streamingValidator = new CMSDocumentValidator(document, resourcesHandlerBuilder)) {
+			compare(inMemoryValidator, streamingValidator);
+		}
+	}
+
+	private void compare(CMSDocumentValidator inMemoryValidator, CMSDocumentValidator streamingValidator) {
+
+		assertNull(inMemoryValidator.getEncapsulatedContent());
+		CMSEncapsulatedContent encapsulatedContent = streamingValidator.getEncapsulatedContent();
+		assertNotNull(encapsulatedContent);
+		assertTrue(streamingValidator.getCmsSignedData().isDetachedSignature());
+
+		byte[] originalContent = (byte[]) inMemoryValidator.getCmsSignedData().getSignedContent().getContent();
+		assertArrayEquals(originalContent, DSSUtils.toByteArray(encapsulatedContent.getDocument()));
+		assertEquals(originalContent.length, encapsulatedContent.getLength());
+
+		DiagnosticData inMemoryDiagnosticData = validate(inMemoryValidator).getDiagnosticData();
+		DiagnosticData streamingDiagnosticData = validate(streamingValidator).getDiagnosticData();
+
+		List<SignatureWrapper> inMemorySignatures = inMemoryDiagnosticData.getSignatures();
+		List<SignatureWrapper> streamingSignatures = streamingDiagnosticData.getSignatures();
+		assertEquals(inMemorySignatures.size(), streamingSignatures.size());
+		for (int i = 0; i < inMemorySignatures.size(); i++) {
+			SignatureWrapper inMemorySignature = inMemorySignatures.get(i);
+			SignatureWrapper streamingSignature = streamingSignatures.get(i);
+			assertEquals(inMemorySignature.getId(), streamingSignature.getId());
+			assertEquals(inMemorySignature.isSignatureIntact(), streamingSignature.isSignatureIntact());
+			assertEquals(inMemorySignature.isSignatureValid(), streamingSignature.isSignatureValid());
+			assertEquals(inMemorySignature.getSignatureFormat(), streamingSignature.getSignatureFormat());
+			assertEquals(inMemorySignature.getSignatureScopes().size(), streamingSignature.getSignatureScopes().size());
+		}
+
+		List<TimestampWrapper> inMemoryTimestamps = inMemoryDiagnosticData.getTimestampList();
+		List<TimestampWrapper> streamingTimestamps = streamingDiagnosticData.getTimestampList();
+		assertEquals(inMemoryTimestamps.size(), streamingTimestamps.size());
+		for (int i = 0; i < inMemoryTimestamps.size(); i++) {
+			TimestampWrapper inMemoryTimestamp = inMemoryTimestamps.get(i);
+			TimestampWrapper streamingTimestamp = streamingTimestamps.get(i);
+			assertEquals(inMemoryTimestamp.getId(), streamingTimestamp.getId());
+			assertEquals(inMemoryTimestamp.isMessageImprintDataFound(), streamingTimestamp.isMessageImprintDataFound());
+			assertEquals(inMemoryTimestamp.isMessageImprintDataIntact(), streamingTimestamp.isMessageImprintDataIntact());
+		}
+	}
+
+	@Test
+	public void detachedTest() {
+		DSSDocument detachedSignature = new FileDocument("src/test/resources/validation/dss-916/test.txt.signed.qes.detached.p7s");
+		CMSDocumentValidator streamingValidator = new CMSDocumentValidator(detachedSignature, new TempFileResourcesHandlerBuilder());
+		assertNull(streamingValidator.getEncapsulatedContent());
+		assertEquals(new CMSDocumentValidator(detachedSignature).getSignatures().size(), streamingValidator.getSignatures().size());
+	}
+
+	@Test
+	public void tempFileReleasedOnCloseTest() throws Exception {
+		DSSDocument document = new FileDocument("src/test/resources/validation/CAdESDoubleLTA.p7m");
+		File tempFile;
+		try (CMSDocumentValidator streamingValidator = new CMSDocumentValidator(document, new TempFileResourcesHandlerBuilder())) {
+			DSSDocument content = streamingValidator.getEncapsulatedContent().getDocument();
+			assertTrue(content instanceof FileDocument);
+			tempFile = ((FileDocument) content).getFile();
+			assertTrue(tempFile.exists());
+
+			Reports reports = validate(streamingValidator);
+			assertNotNull(reports);
+			assertTrue(tempFile.exists());
+		}
+		assertFalse(tempFile.exists());
+	}
+
+	@Test
+	public void tempFileReleasedOnInvalidDocumentTest() throws Exception {
+		File tempFileDirectory = Files.createTempDirectory("dss-cms-test").toFile();
+		try {
+			TempFileResourcesHandlerBuilder resourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+			resourcesHandlerBuilder.setTempFileDirectory(tempFileDirectory);
+
+			// the CMS is truncated after the encapsulated content
+			byte[] cmsBinaries = DSSUtils.toByteArray(new FileDocument("src/test/resources/validation/CAdESDoubleLTA.p7m"));
+			byte[] truncatedBinaries = Arrays.copyOf(cmsBinaries, cmsBinaries.length - 100);
+			assertThrows(IllegalInputException.class, () -> new CMSDocumentValidator(
+					new InMemoryDocument(truncatedBinaries), resourcesHandlerBuilder));
+
+			File[] files = tempFileDirectory.listFiles();
+			assertNotNull(files);
+			assertEquals(0, files.length);
+
+		} finally {
+			Files.deleteIfExists(tempFileDirectory.toPath());
+		}
+	}
+
+	private Reports validate(SignedDocumentValidator validator) {
+		validator.setCertificateVerifier(new CommonCertificateVerifier(true));
+		return validator.validateDocument();
+	}
+
+}
@@ -0,0 +1,74 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.converter;
+
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.model.DSSDocument;
+import jakarta.activation.DataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Exposes a {@code DSSDocument} as a {@code jakarta.activation.DataSource},
+ * allowing to stream the document content as an MTOM attachment
+ */
+public class DSSDocumentDataSource implements DataSource {
+
+	/** The document to be exposed */
+	private final DSSDocument document;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param document {@link DSSDocument} to be exposed
+	 */
+	public DSSDocumentDataSource(final DSSDocument document) {
+		Objects.requireNonNull(document, "Document cannot be null!");
+		this.document = document;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return document.openStream();
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		throw new IOException("The DSSDocumentDataSource is read-only!");
+	}
+
+	@Override
+	public String getContentType() {
+		if (document.getMimeType() != null) {
+			return document.getMimeType().getMimeTypeString();
+		}
+		return MimeTypeEnum.BINARY.getMimeTypeString();
+	}
+
+	@Override
+	public String getName() {
+		return document.getName();
+	}
+
+}
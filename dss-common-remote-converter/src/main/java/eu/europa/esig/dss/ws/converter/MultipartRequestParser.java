@@ -0,0 +1,152 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.converter;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import jakarta.ws.rs.core.EntityPart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Parses the parts of a {@code multipart/form-data} request received by a REST service.
+ * The document parts are spooled into temporary files using the provided {@code TempFileDocumentsHandler},
+ * other parts are read as an object of the defined type.
+ * <p>
+ * Usage:
+ * <pre>
+ * {@code
+ * new MultipartRequestParser(documentsHandler)
+ * 		.onDocument("signedDocument", document -> signedDocument = document)
+ * 		.onContent("parameters", RemoteSignatureParameters.class, value -> parameters = value)
+ * 		.parse(parts);
+ * }
+ * </pre>
+ *
+ */
+public class MultipartRequestParser {
+
+	/** Used to store the received documents into temporary files */
+	private final TempFileDocumentsHandler documentsHandler;
+
+	/** The map between the expected field names and their handlers */
+	private final Map<String, PartHandler> partHandlers = new HashMap<>();
+
+	/**
+	 * Default constructor
+	 *
+	 * @param documentsHandler {@link TempFileDocumentsHandler} to store the received documents
+	 */
+	public MultipartRequestParser(final TempFileDocumentsHandler documentsHandler) {
+		Objects.requireNonNull(documentsHandler, "TempFileDocumentsHandler cannot be null!");
+		this.documentsHandler = documentsHandler;
+	}
+
+	/**
+	 * Defines a field containing a document.
+	 * The consumer is called for every part with the given name.
+	 *
+	 * @param name {@link String} the field name
+	 * @param consumer accepting the received {@link DSSDocument}
+	 * @return this {@link MultipartRequestParser}
+	 */
+	public MultipartRequestParser onDocument(String name, Consumer<DSSDocument> consumer) {
+		partHandlers.put(name, part -> consumer.accept(toDSSDocument(part)));
+		return this;
+	}
+
+	/**
+	 * Defines a field containing an object of the given type (e.g. a JSON-serialized DTO or a string).
+	 * The consumer is called for every part with the given name.
+	 *
+	 * @param name {@link String} the field name
+	 * @param type {@link Class} of the content
+	 * @param consumer accepting the received content
+	 * @param <T> the content type
+	 * @return this {@link MultipartRequestParser}
+	 */
+	public <T> MultipartRequestParser onContent(String name, Class<T> type, Consumer<T> consumer) {
+		partHandlers.put(name, part -> consumer.accept(getContent(part, type)));
+		return this;
+	}
+
+	/**
+	 * Parses the given request parts
+	 *
+	 * @param parts a list of {@link EntityPart}s representing the request
+	 * @throws DSSRemoteServiceException if a part has no name, or its name is not expected
+	 */
+	public void parse(List<EntityPart> parts) {
+		if (parts == null) {
+			throw new DSSRemoteServiceException("The multipart request cannot be null!");
+		}
+		for (EntityPart part : parts) {
+			String name = part.getName();
+			if (name == null) {
+				throw new DSSRemoteServiceException("A multipart field without a name has been received!");
+			}
+			PartHandler partHandler = partHandlers.get(name);
+			if (partHandler == null) {
+				throw new DSSRemoteServiceException(String.format("Unexpected multipart field '%s'!", name));
+			}
+			partHandler.handle(part);
+		}
+	}
+
+	private DSSDocument toDSSDocument(EntityPart part) {
+		try (InputStream is = part.getContent()) {
+			return documentsHandler.toDSSDocument(is, part.getFileName().orElse(part.getName()));
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to read the multipart field '%s' : %s",
+					part.getName(), e.getMessage()), e);
+		}
+	}
+
+	private <T> T getContent(EntityPart part, Class<T> type) {
+		try {
+			return part.getContent(type);
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to read the multipart field '%s' : %s",
+					part.getName(), e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Processes a received request part
+	 */
+	private interface PartHandler {
+
+		/**
+		 * Processes the part
+		 *
+		 * @param part {@link EntityPart}
+		 */
+		void handle(EntityPart part);
+
+	}
+
+}
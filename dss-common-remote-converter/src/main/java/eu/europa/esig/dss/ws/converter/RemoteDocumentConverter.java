@@ -20,14 +20,19 @@
  */
 package eu.europa.esig.dss.ws.converter;
 
+import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.ws.dto.DigestDTO;
+import eu.europa.esig.dss.ws.dto.RemoteDigestDocument;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.RemoteStreamDocument;
 import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import jakarta.activation.DataHandler;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -118,4 +123,85 @@ public class RemoteDocumentConverter {
 		return new RemoteDocument(DSSUtils.toByteArray(originalDocument), originalDocument.getName());
 	}
 
+	/**
+	 * Converts the given list of {@code documents} to a list of {@code RemoteStreamDocument}s,
+	 * reading the content of the documents on demand
+	 *
+	 * @param documents list of {@link DSSDocument}s
+	 * @return list of {@link RemoteStreamDocument}s
+	 */
+	public static List<RemoteStreamDocument> toRemoteStreamDocuments(List<DSSDocument> documents) {
+		List<RemoteStreamDocument> results = new ArrayList<>();
+		for (DSSDocument document : documents) {
+			RemoteStreamDocument remoteDocument = toRemoteStreamDocument(document);
+			if (remoteDocument != null) {
+				results.add(remoteDocument);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Converts the given {@code DSSDocument} to a {@code RemoteStreamDocument}, reading the content of the document
+	 * on demand
+	 *
+	 * @param document {@link DSSDocument} to convert
+	 * @return {@link RemoteStreamDocument}
+	 */
+	public static RemoteStreamDocument toRemoteStreamDocument(DSSDocument document) {
+		if (document == null) {
+			return null;
+		}
+		if (document instanceof DigestDocument) {
+			throw new DSSRemoteServiceException("Impossible to stream a DigestDocument. Use RemoteDocument instead!");
+		}
+		return new RemoteStreamDocument(new DataHandler(new DSSDocumentDataSource(document)), document.getName());
+	}
+
+	/**
+	 * Converts the given list of {@code RemoteDigestDocument}s to a list of {@code DigestDocument}s
+	 *
+	 * @param remoteDigestDocuments list of {@link RemoteDigestDocument}s
+	 * @return list of {@link DSSDocument}s
+	 */
+	public static List<DSSDocument> toDigestDocuments(List<RemoteDigestDocument> remoteDigestDocuments) {
+		if (Utils.isCollectionNotEmpty(remoteDigestDocuments)) {
+			List<DSSDocument> dssDocuments = new ArrayList<>();
+			for (RemoteDigestDocument remoteDigestDocument : remoteDigestDocuments) {
+				DSSDocument dssDocument = toDigestDocument(remoteDigestDocument);
+				if (dssDocument != null) {
+					dssDocuments.add(dssDocument);
+				}
+			}
+			return dssDocuments;
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Converts the given {@code RemoteDigestDocument} to a {@code DigestDocument}
+	 *
+	 * @param remoteDigestDocument {@link RemoteDigestDocument} to convert
+	 * @return {@link DigestDocument}
+	 */
+	public static DigestDocument toDigestDocument(RemoteDigestDocument remoteDigestDocument) {
+		if (remoteDigestDocument == null || Utils.isCollectionEmpty(remoteDigestDocument.getDigests())) {
+			return null;
+		}
+		DigestDocument digestDocument = new DigestDocument();
+		for (DigestDTO digestDTO : remoteDigestDocument.getDigests()) {
+			if (digestDTO.getAlgorithm() == null || Utils.isArrayEmpty(digestDTO.getValue())) {
+				throw new DSSRemoteServiceException("Impossible to create a DigestDocument from a RemoteDigestDocument with not defined Digest");
+			}
+			digestDocument.addDigest(digestDTO.getAlgorithm(), Utils.toBase64(digestDTO.getValue()));
+		}
+		digestDocument.setName(remoteDigestDocument.getName());
+		if (remoteDigestDocument.getMimeType() != null) {
+			digestDocument.setMimeType(MimeType.fromMimeTypeString(remoteDigestDocument.getMimeType()));
+		} else if (remoteDigestDocument.getName() != null) {
+			digestDocument.setMimeType(MimeType.fromFileName(remoteDigestDocument.getName()));
+		}
+		return digestDocument;
+	}
+
 }
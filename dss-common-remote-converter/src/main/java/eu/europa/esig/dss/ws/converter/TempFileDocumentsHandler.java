@@ -0,0 +1,167 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.converter;
+
+import eu.europa.esig.dss.enumerations.MimeType;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.ws.dto.RemoteStreamDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Spools the streamed content received by a remote service into temporary files,
+ * in order to process large documents without loading them into memory.
+ * The created files are deleted on {@code close()}, thus the instance is intended
+ * to be used within a try-with-resources block covering the whole request processing.
+ *
+ */
+public class TempFileDocumentsHandler implements Closeable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(TempFileDocumentsHandler.class);
+
+	/** The prefix used for the created temporary files */
+	private static final String TEMP_FILE_PREFIX = "dss-remote-";
+
+	/** The directory to create temporary files in (when null, the default temporary-file directory is used) */
+	private final File tempFileDirectory;
+
+	/** The list of created temporary files */
+	private final List<File> tempFiles = new ArrayList<>();
+
+	/**
+	 * Default constructor creating temporary files in the default temporary-file directory
+	 */
+	public TempFileDocumentsHandler() {
+		this(null);
+	}
+
+	/**
+	 * Constructor with a directory to create temporary files in
+	 *
+	 * @param tempFileDirectory {@link File} directory (when null, the default temporary-file directory is used)
+	 */
+	public TempFileDocumentsHandler(final File tempFileDirectory) {
+		this.tempFileDirectory = tempFileDirectory;
+	}
+
+	/**
+	 * Converts the given list of {@code RemoteStreamDocument}s to a list of temporary file {@code DSSDocument}s
+	 *
+	 * @param remoteDocuments list of {@link RemoteStreamDocument}s
+	 * @return list of {@link DSSDocument}s
+	 */
+	public List<DSSDocument> toDSSDocuments(List<RemoteStreamDocument> remoteDocuments) {
+		if (Utils.isCollectionNotEmpty(remoteDocuments)) {
+			List<DSSDocument> dssDocuments = new ArrayList<>();
+			for (RemoteStreamDocument remoteDocument : remoteDocuments) {
+				DSSDocument dssDocument = toDSSDocument(remoteDocument);
+				if (dssDocument != null) {
+					dssDocuments.add(dssDocument);
+				}
+			}
+			return dssDocuments;
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Converts the given {@code RemoteStreamDocument} to a temporary file {@code DSSDocument}
+	 *
+	 * @param remoteDocument {@link RemoteStreamDocument} to convert
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument toDSSDocument(RemoteStreamDocument remoteDocument) {
+		if (remoteDocument == null || remoteDocument.getContent() == null) {
+			return null;
+		}
+		try (InputStream is = remoteDocument.getContent().getInputStream()) {
+			return toDSSDocument(is, remoteDocument.getName());
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to read the streamed document : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Copies the content of the given {@code InputStream} into a temporary file and returns a {@code DSSDocument}
+	 * representing it. The stream is not closed by the method.
+	 *
+	 * @param inputStream {@link InputStream} providing the document content
+	 * @param name {@link String} the document name
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument toDSSDocument(InputStream inputStream, String name) {
+		Objects.requireNonNull(inputStream, "InputStream cannot be null!");
+		File tempFile = createTempFile();
+		try (OutputStream os = Files.newOutputStream(tempFile.toPath())) {
+			Utils.copy(inputStream, os);
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to store the streamed document : %s", e.getMessage()), e);
+		}
+		FileDocument fileDocument = new FileDocument(tempFile);
+		if (name != null) {
+			fileDocument.setName(name);
+			fileDocument.setMimeType(MimeType.fromFileName(name));
+		}
+		return fileDocument;
+	}
+
+	private File createTempFile() {
+		try {
+			File tempFile = tempFileDirectory != null ?
+					Files.createTempFile(tempFileDirectory.toPath(), TEMP_FILE_PREFIX, null).toFile() :
+					Files.createTempFile(TEMP_FILE_PREFIX, null).toFile();
+			tempFiles.add(tempFile);
+			return tempFile;
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to create a temporary file : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Deletes all the temporary files created by the handler
+	 */
+	@Override
+	public void close() {
+		for (File tempFile : tempFiles) {
+			try {
+				Files.deleteIfExists(tempFile.toPath());
+			} catch (IOException e) {
+				LOG.warn("Unable to delete the temporary file '{}' : {}", tempFile.getAbsolutePath(), e.getMessage());
+			}
+		}
+		tempFiles.clear();
+	}
+
+}
@@ -0,0 +1,156 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.converter;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MultipartRequestParserTest {
+
+	@Test
+	public void parseTest() {
+		DSSDocument original = new InMemoryDocument(new byte[] {'1','2','3'}, "doc.xml");
+		List<EntityPart> parts = Arrays.asList(
+				new MockEntityPart("document", "doc.xml", new byte[] {'1','2','3'}),
+				new MockEntityPart("document", null, new byte[] {'4','5','6'}),
+				new MockEntityPart("strategy", null, "NONE".getBytes(StandardCharsets.UTF_8)));
+
+		List<DSSDocument> documents = new ArrayList<>();
+		List<String> strategies = new ArrayList<>();
+		File tempFile;
+		try (TempFileDocumentsHandler handler = new TempFileDocumentsHandler()) {
+			new MultipartRequestParser(handler)
+					.onDocument("document", documents::add)
+					.onContent("strategy", String.class, strategies::add)
+					.parse(parts);
+
+			assertEquals(2, documents.size());
+			assertEquals("doc.xml", documents.get(0).getName());
+			assertEquals(original.getDigest(DigestAlgorithm.SHA256), documents.get(0).getDigest(DigestAlgorithm.SHA256));
+			assertEquals("document", documents.get(1).getName());
+			assertEquals(Collections.singletonList("NONE"), strategies);
+
+			tempFile = ((FileDocument) documents.get(0)).getFile();
+			assertTrue(tempFile.exists());
+		}
+		assertFalse(tempFile.exists());
+	}
+
+	@Test
+	public void namelessPartTest() {
+		List<EntityPart> parts = Collections.singletonList(new MockEntityPart(null, "doc.xml", new byte[] {'1'}));
+		try (TempFileDocumentsHandler handler = new TempFileDocumentsHandler()) {
+			MultipartRequestParser parser = new MultipartRequestParser(handler).onDocument("document", d -> {});
+			Exception exception = assertThrows(DSSRemoteServiceException.class, () -> parser.parse(parts));
+			assertEquals("A multipart field without a name has been received!", exception.getMessage());
+		}
+	}
+
+	@Test
+	public void unexpectedPartTest() {
+		List<EntityPart> parts = Collections.singletonList(new MockEntityPart("unknown", null, new byte[] {'1'}));
+		try (TempFileDocumentsHandler handler = new TempFileDocumentsHandler()) {
+			MultipartRequestParser parser = new MultipartRequestParser(handler).onDocument("document", d -> {});
+			Exception exception = assertThrows(DSSRemoteServiceException.class, () -> parser.parse(parts));
+			assertEquals("Unexpected multipart field 'unknown'!", exception.getMessage());
+			assertThrows(DSSRemoteServiceException.class, () -> parser.parse(null));
+		}
+	}
+
+	private static class MockEntityPart implements EntityPart {
+
+		private final String name;
+
+		private final String fileName;
+
+		private final byte[] content;
+
+		private MockEntityPart(String name, String fileName, byte[] content) {
+			this.name = name;
+			this.fileName = fileName;
+			this.content = content;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Optional<String> getFileName() {
+			return Optional.ofNullable(fileName);
+		}
+
+		@Override
+		public InputStream getContent() {
+			return new ByteArrayInputStream(content);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getContent(Class<T> type) {
+			if (String.class.equals(type)) {
+				return (T) new String(content, StandardCharsets.UTF_8);
+			}
+			throw new IllegalArgumentException("Unsupported type : " + type);
+		}
+
+		@Override
+		public <T> T getContent(GenericType<T> type) {
+			throw new IllegalArgumentException("Unsupported type : " + type);
+		}
+
+		@Override
+		public MultivaluedMap<String, String> getHeaders() {
+			return null;
+		}
+
+		@Override
+		public MediaType getMediaType() {
+			return null;
+		}
+
+	}
+
+}
@@ -27,10 +27,15 @@ import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.ws.dto.DigestDTO;
+import eu.europa.esig.dss.ws.dto.RemoteDigestDocument;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -104,4 +109,28 @@ public class RemoteDocumentConverterTest {
 		assertEquals("digestDocument", remoteDocuments.get(2).getName());
 	}
 
+	@Test
+	public void toDigestDocumentTest() {
+		byte[] content = new byte[] {'1','2','3'};
+		RemoteDigestDocument remoteDigestDocument = new RemoteDigestDocument(Arrays.asList(
+				new DigestDTO(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, content)),
+				new DigestDTO(DigestAlgorithm.SHA512, DSSUtils.digest(DigestAlgorithm.SHA512, content))), "doc.xml");
+		DigestDocument digestDocument = RemoteDocumentConverter.toDigestDocument(remoteDigestDocument);
+		DSSDocument original = new InMemoryDocument(content);
+		assertEquals(original.getDigest(DigestAlgorithm.SHA256), digestDocument.getDigest(DigestAlgorithm.SHA256));
+		assertEquals(original.getDigest(DigestAlgorithm.SHA512), digestDocument.getDigest(DigestAlgorithm.SHA512));
+		assertEquals("doc.xml", digestDocument.getName());
+		assertEquals(MimeTypeEnum.XML, digestDocument.getMimeType());
+
+		remoteDigestDocument.setMimeType(MimeTypeEnum.TEXT.getMimeTypeString());
+		assertEquals(MimeTypeEnum.TEXT, RemoteDocumentConverter.toDigestDocument(remoteDigestDocument).getMimeType());
+
+		List<DSSDocument> digestDocuments = RemoteDocumentConverter.toDigestDocuments(
+				Arrays.asList(remoteDigestDocument, new RemoteDigestDocument(), null));
+		assertEquals(1, digestDocuments.size());
+
+		remoteDigestDocument.setDigests(Collections.singletonList(new DigestDTO(DigestAlgorithm.SHA256, null)));
+		assertThrows(DSSRemoteServiceException.class, () -> RemoteDocumentConverter.toDigestDocument(remoteDigestDocument));
+	}
+
 }
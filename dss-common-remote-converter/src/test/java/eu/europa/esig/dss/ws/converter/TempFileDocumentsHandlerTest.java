@@ -0,0 +1,107 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.converter;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DigestDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.ws.dto.RemoteStreamDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TempFileDocumentsHandlerTest {
+
+	@Test
+	public void streamDocumentTest() {
+		DSSDocument original = new InMemoryDocument(new byte[] {'1','2','3'}, "sample.xml");
+		RemoteStreamDocument remoteStreamDocument = RemoteDocumentConverter.toRemoteStreamDocument(original);
+		assertEquals("sample.xml", remoteStreamDocument.getName());
+		assertEquals(MimeTypeEnum.XML.getMimeTypeString(), remoteStreamDocument.getContent().getContentType());
+
+		File tempFile;
+		try (TempFileDocumentsHandler handler = new TempFileDocumentsHandler()) {
+			DSSDocument dssDocument = handler.toDSSDocument(remoteStreamDocument);
+			assertTrue(dssDocument instanceof FileDocument);
+			assertEquals("sample.xml", dssDocument.getName());
+			assertEquals(MimeTypeEnum.XML, dssDocument.getMimeType());
+			assertEquals(original.getDigest(DigestAlgorithm.SHA256), dssDocument.getDigest(DigestAlgorithm.SHA256));
+
+			tempFile = ((FileDocument) dssDocument).getFile();
+			assertTrue(tempFile.exists());
+		}
+		assertFalse(tempFile.exists());
+	}
+
+	@Test
+	public void streamDocumentsTest() {
+		List<DSSDocument> originals = Arrays.asList(new InMemoryDocument(new byte[] {'1','2','3'}, "doc1"),
+				new InMemoryDocument(new byte[] {'4','5','6'}, "doc2"));
+		List<RemoteStreamDocument> remoteStreamDocuments = new ArrayList<>(RemoteDocumentConverter.toRemoteStreamDocuments(originals));
+		remoteStreamDocuments.add(new RemoteStreamDocument());
+		remoteStreamDocuments.add(null);
+
+		try (TempFileDocumentsHandler handler = new TempFileDocumentsHandler()) {
+			List<DSSDocument> dssDocuments = handler.toDSSDocuments(remoteStreamDocuments);
+			assertEquals(2, dssDocuments.size());
+			assertEquals("doc1", dssDocuments.get(0).getName());
+			assertEquals(originals.get(1).getDigest(DigestAlgorithm.SHA256), dssDocuments.get(1).getDigest(DigestAlgorithm.SHA256));
+		}
+	}
+
+	@Test
+	public void nullDocumentTest() {
+		assertNull(RemoteDocumentConverter.toRemoteStreamDocument(null));
+		try (TempFileDocumentsHandler handler = new TempFileDocumentsHandler()) {
+			assertNull(handler.toDSSDocument(null));
+			assertTrue(handler.toDSSDocuments(null).isEmpty());
+		}
+	}
+
+	@Test
+	public void digestDocumentTest() {
+		DSSDocument digestDocument = new DigestDocument(DigestAlgorithm.SHA256, "332b7ce3b5e8f8c6132f0e09264db9da6d1c9fd6e37b73a35e68f78f4e590f90");
+		assertThrows(DSSRemoteServiceException.class, () -> RemoteDocumentConverter.toRemoteStreamDocument(digestDocument));
+	}
+
+	@Test
+	public void readOnlyDataSourceTest() {
+		DSSDocumentDataSource dataSource = new DSSDocumentDataSource(new InMemoryDocument(new byte[] {'1','2','3'}, "doc1"));
+		assertEquals("doc1", dataSource.getName());
+		assertEquals(MimeTypeEnum.BINARY.getMimeTypeString(), dataSource.getContentType());
+		assertThrows(IOException.class, dataSource::getOutputStream);
+	}
+
+}
@@ -0,0 +1,154 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class is used to transport the digests of a document with SOAP and/or REST,
+ * allowing a detached signature creation without transmitting the document content itself.
+ *
+ * NOTE: several digests of the same document may be provided, in order to allow the server to pick the one
+ * corresponding to the digest algorithm required by the signature format (e.g. reference digest algorithm).
+ */
+public class RemoteDigestDocument implements Serializable {
+
+    private static final long serialVersionUID = 5282918263017356264L;
+
+    /** The digests computed on the document content */
+    private List<DigestDTO> digests;
+
+    /** The document name */
+    private String name;
+
+    /** The MIME type of the document */
+    private String mimeType;
+
+    /**
+     * Empty constructor
+     */
+    public RemoteDigestDocument() {
+        // empty
+    }
+
+    /**
+     * Default constructor
+     *
+     * @param digests a list of {@link DigestDTO}s computed on the document content
+     * @param name {@link String} the document name
+     */
+    public RemoteDigestDocument(List<DigestDTO> digests, String name) {
+        this(digests, name, null);
+    }
+
+    /**
+     * Constructor with the document MIME type
+     *
+     * @param digests a list of {@link DigestDTO}s computed on the document content
+     * @param name {@link String} the document name
+     * @param mimeType {@link String} the MIME type of the document (e.g. "text/xml")
+     */
+    public RemoteDigestDocument(List<DigestDTO> digests, String name, String mimeType) {
+        this.digests = digests;
+        this.name = name;
+        this.mimeType = mimeType;
+    }
+
+    /**
+     * Gets the digests computed on the document content
+     *
+     * @return a list of {@link DigestDTO}s
+     */
+    public List<DigestDTO> getDigests() {
+        return digests;
+    }
+
+    /**
+     * Sets the digests computed on the document content
+     *
+     * @param digests a list of {@link DigestDTO}s
+     */
+    public void setDigests(List<DigestDTO> digests) {
+        this.digests = digests;
+    }
+
+    /**
+     * Gets the document name
+     *
+     * @return {@link String}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the document name
+     *
+     * @param name {@link String}
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the MIME type of the document
+     *
+     * @return {@link String}
+     */
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * Sets the MIME type of the document
+     *
+     * @param mimeType {@link String}
+     */
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RemoteDigestDocument)) return false;
+        RemoteDigestDocument that = (RemoteDigestDocument) o;
+        return Objects.equals(digests, that.digests)
+                && Objects.equals(name, that.name)
+                && Objects.equals(mimeType, that.mimeType);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(digests);
+        result = 31 * result + Objects.hashCode(name);
+        result = 31 * result + Objects.hashCode(mimeType);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteDigestDocument [digests=" + digests + ", name=" + name + ", mimeType=" + mimeType + "]";
+    }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.dto;
+
+import jakarta.activation.DataHandler;
+
+/**
+ * This class is used to transport a DSSDocument with SOAP as an MTOM attachment.
+ * Unlike {@code RemoteDocument}, the content is not loaded into memory as a byte array,
+ * but read from the provided {@code DataHandler} on demand.
+ *
+ * NOTE: the endpoint and the client shall have MTOM enabled in order to benefit from the streaming.
+ */
+public class RemoteStreamDocument {
+
+	/** The content of the document */
+	private DataHandler content;
+
+	/** The document name */
+	private String name = "RemoteDocument";
+
+	/**
+	 * Empty constructor
+	 */
+	public RemoteStreamDocument() {
+		// empty
+	}
+
+	/**
+	 * Default constructor
+	 *
+	 * @param content {@link DataHandler} providing the document binaries
+	 * @param name {@link String} the document name
+	 */
+	public RemoteStreamDocument(DataHandler content, String name) {
+		this.content = content;
+		this.name = name;
+	}
+
+	/**
+	 * Gets the data handler providing the document content
+	 *
+	 * @return {@link DataHandler}
+	 */
+	public DataHandler getContent() {
+		return content;
+	}
+
+	/**
+	 * Sets the data handler providing the document content
+	 *
+	 * @param content {@link DataHandler}
+	 */
+	public void setContent(DataHandler content) {
+		this.content = content;
+	}
+
+	/**
+	 * Gets the document name
+	 *
+	 * @return {@link String}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Sets the document name
+	 *
+	 * @param name {@link String}
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String toString() {
+		return "RemoteStreamDocument [name=" + name + "]";
+	}
+
+}
@@ -47,6 +47,7 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.cert.X509CRLEntry;
 import java.util.Enumeration;
+import java.util.function.Consumer;
 
 /**
  * http://luca.ntop.org/Teaching/Appunti/asn1.html
@@ -127,6 +128,37 @@ class CRLParser {
 	 * @throws IOException if an exception occurs
 	 */
 	public X509CRLEntry retrieveRevocationInfo(InputStream is, BigInteger serialNumber) throws IOException {
+		final X509CRLEntry[] result = new X509CRLEntry[1];
+		readRevokedCertificates(is, (entrySerialNumber, entryArray) -> {
+			if (serialNumber.equals(entrySerialNumber)) {
+				result[0] = toX509CRLEntry(entryArray);
+				return false;
+			}
+			return true;
+		});
+		return result[0];
+	}
+
+	/**
+	 * This method allows to parse the CRL and return all the revoked certificate entries
+	 *
+	 * @param is
+	 *            {@link InputStream} an InputStream with the CRL
+	 * @param consumer
+	 *            {@link Consumer} processing each {@link X509CRLEntry}
+	 * @throws IOException if an exception occurs
+	 */
+	public void retrieveRevocationInfos(InputStream is, Consumer<X509CRLEntry> consumer) throws IOException {
+		readRevokedCertificates(is, (entrySerialNumber, entryArray) -> {
+			consumer.accept(toX509CRLEntry(entryArray));
+			return true;
+		});
+	}
+
+	/**
+	 * Reads the revokedCertificates sequence and provides each entry to the handler, until the handler returns false
+	 */
+	private void readRevokedCertificates(InputStream is, RevokedCertificateHandler handler) throws IOException {
 		// Skip CertificateList Sequence info
 		consumeTagIntro(is);
 
@@ -162,7 +194,7 @@ class CRLParser {
 
 			if (tag < 0) {
 				// EOF
-				return null;
+				return;
 			}
 
 			tagNo = DERUtil.readTagNumber(is, tag);
@@ -180,10 +212,8 @@ class CRLParser {
 					// SerialNumber
 					if (BERTags.INTEGER == entryTagNo) {
 						ASN1Integer asn1SerialNumber = rebuildASN1Integer(readNbBytes(bais, entryLength));
-						if (serialNumber.equals(asn1SerialNumber.getValue())) {
-							ASN1Sequence asn1Sequence = rebuildASN1Sequence(entryArray);
-							CRLEntry crlEntry = CRLEntry.getInstance(asn1Sequence);
-							return new X509CRLEntryObject(crlEntry);
+						if (!handler.handle(asn1SerialNumber.getValue(), entryArray)) {
+							return;
 						}
 					}
 				}
@@ -192,8 +222,12 @@ class CRLParser {
 				skip(is, length);
 			}
 		}
+	}
 
-		return null;
+	private X509CRLEntry toX509CRLEntry(byte[] entryArray) throws IOException {
+		ASN1Sequence asn1Sequence = rebuildASN1Sequence(entryArray);
+		CRLEntry crlEntry = CRLEntry.getInstance(asn1Sequence);
+		return new X509CRLEntryObject(crlEntry);
 	}
 
 	/**
@@ -475,4 +509,21 @@ class CRLParser {
 		}
 	}
 
+	/**
+	 * Processes the revoked certificate entries read from the CRL
+	 */
+	private interface RevokedCertificateHandler {
+
+		/**
+		 * Handles a revoked certificate entry
+		 *
+		 * @param serialNumber {@link BigInteger} the serial number of the entry
+		 * @param entryArray the encoded entry, without its tag and length
+		 * @return TRUE if the following entries have to be read, FALSE otherwise
+		 * @throws IOException if an exception occurs
+		 */
+		boolean handle(BigInteger serialNumber, byte[] entryArray) throws IOException;
+
+	}
+
 }
@@ -26,6 +26,7 @@ import eu.europa.esig.dss.crl.CRLValidity;
 import eu.europa.esig.dss.crl.ICRLUtils;
 import eu.europa.esig.dss.enumerations.KeyUsageBit;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import org.bouncycastle.asn1.x509.Extension;
 import org.slf4j.Logger;
@@ -40,6 +41,7 @@ import java.math.BigInteger;
 import java.security.GeneralSecurityException;
 import java.security.Signature;
 import java.security.cert.X509CRLEntry;
+import java.util.function.Consumer;
 
 /**
  * The DSS implementation of {@code ICRLUtils}
@@ -105,6 +107,16 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		return crlEntry;
 	}
 
+	@Override
+	public void processRevocationInfos(CRLValidity crlValidity, Consumer<X509CRLEntry> consumer) {
+		CRLParser parser = new CRLParser();
+		try (InputStream is = crlValidity.toCRLInputStream()) {
+			parser.retrieveRevocationInfos(is, consumer);
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to read the revocation entries. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm,
 									 byte[] signedData, CertificateToken signer) {
 		try {
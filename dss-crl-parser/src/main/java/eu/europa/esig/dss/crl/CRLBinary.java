@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.identifier.EncapsulatedRevocationTokenIdentifier;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 
@@ -40,4 +41,14 @@ public class CRLBinary extends EncapsulatedRevocationTokenIdentifier<CRL> {
 		super(derEncoded);
 	}
 
+	/**
+	 * Constructor with a known SHA-256 digest of the DER encoded binaries, used when the binaries are loaded on request.
+	 * NOTE: the {@code getBinaries()} method shall be overridden by the implementation
+	 *
+	 * @param digest {@link Digest} SHA-256 digest of the DER encoded binaries
+	 */
+	protected CRLBinary(Digest digest) {
+		super(digest);
+	}
+
 }
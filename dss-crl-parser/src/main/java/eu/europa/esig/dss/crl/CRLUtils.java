@@ -27,6 +27,7 @@ import java.math.BigInteger;
 import java.security.cert.X509CRLEntry;
 import java.util.Iterator;
 import java.util.ServiceLoader;
+import java.util.function.Consumer;
 
 /**
  * The utils for dealing with CRLs
@@ -93,4 +94,16 @@ public class CRLUtils {
 		return impl.getRevocationInfo(crlValidity, serialNumber);
 	}
 
+	/**
+	 * This method reads all the revoked certificate entries of the CRL, in their order of appearance
+	 *
+	 * @param crlValidity
+	 *            the CRL Validity
+	 * @param consumer
+	 *            the {@link Consumer} processing each X509CRLEntry
+	 */
+	public static void processRevocationInfos(CRLValidity crlValidity, Consumer<X509CRLEntry> consumer) {
+		impl.processRevocationInfos(crlValidity, consumer);
+	}
+
 }
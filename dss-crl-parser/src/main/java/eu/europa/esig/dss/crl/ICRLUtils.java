@@ -20,11 +20,18 @@
  */
 package eu.europa.esig.dss.crl;
 
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The interface for dealing with CRLs
@@ -66,4 +73,27 @@ public interface ICRLUtils {
 	 */
 	X509CRLEntry getRevocationInfo(final CRLValidity crlValidity, final BigInteger serialNumber);
 
+	/**
+	 * This method reads all the revoked certificate entries of the CRL.
+	 *
+	 * The default implementation parses the CRL with the JDK {@code CertificateFactory}, in order to remain
+	 * compatible with the implementations not overriding this method.
+	 *
+	 * @param crlValidity
+	 *            the CRL Validity
+	 * @param consumer
+	 *            the {@link Consumer} processing each X509CRLEntry
+	 */
+	default void processRevocationInfos(final CRLValidity crlValidity, final Consumer<X509CRLEntry> consumer) {
+		try (InputStream is = crlValidity.toCRLInputStream()) {
+			final X509CRL x509CRL = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(is);
+			final Set<? extends X509CRLEntry> revokedCertificates = x509CRL.getRevokedCertificates();
+			if (revokedCertificates != null) {
+				revokedCertificates.forEach(consumer);
+			}
+		} catch (IOException | GeneralSecurityException e) {
+			throw new DSSException(String.format("Unable to read the revocation infos. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 }
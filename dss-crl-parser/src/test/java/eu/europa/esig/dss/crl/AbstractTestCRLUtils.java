@@ -33,9 +33,14 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -263,6 +268,58 @@ public abstract class AbstractTestCRLUtils extends AbstractCRLParserTestUtils {
 		}
 	}
 
+	@Test
+	public void processRevocationInfos() throws Exception {
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl");
+				InputStream isCer = AbstractTestCRLUtils.class.getResourceAsStream("/citizen_ca.cer")) {
+
+			CertificateToken certificateToken = loadCert(isCer);
+
+			byte[] crlBinaries = toByteArray(is);
+			CRLBinary crlBinary = CRLUtils.buildCRLBinary(crlBinaries);
+			CRLValidity validity = CRLUtils.buildCRLValidity(crlBinary, certificateToken);
+
+			List<X509CRLEntry> entries = new ArrayList<>();
+			CRLUtils.processRevocationInfos(validity, entries::add);
+
+			X509CRL x509CRL = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(new ByteArrayInputStream(crlBinaries));
+			assertEquals(x509CRL.getRevokedCertificates().size(), entries.size());
+
+			Set<BigInteger> serialNumbers = new HashSet<>();
+			for (X509CRLEntry entry : entries) {
+				serialNumbers.add(entry.getSerialNumber());
+				X509CRLEntry expected = x509CRL.getRevokedCertificate(entry.getSerialNumber());
+				assertNotNull(expected);
+				assertNotNull(entry.getRevocationDate());
+			}
+			Set<BigInteger> expectedSerialNumbers = new HashSet<>();
+			for (X509CRLEntry entry : x509CRL.getRevokedCertificates()) {
+				expectedSerialNumbers.add(entry.getSerialNumber());
+			}
+			assertEquals(expectedSerialNumbers, serialNumbers);
+			assertTrue(serialNumbers.contains(new BigInteger("288350169419475868349393253038503091234")));
+		}
+	}
+
+	@Test
+	public void processRevocationInfosBelgiumCRL() throws Exception {
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/belgium2.crl");
+				InputStream isCer = AbstractTestCRLUtils.class.getResourceAsStream("/belgiumrs2.crt")) {
+
+			CertificateToken certificateToken = loadCert(isCer);
+
+			byte[] crlBinaries = toByteArray(is);
+			CRLValidity validity = CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), certificateToken);
+
+			List<X509CRLEntry> entries = new ArrayList<>();
+			CRLUtils.processRevocationInfos(validity, entries::add);
+
+			X509CRL x509CRL = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(new ByteArrayInputStream(crlBinaries));
+			int expectedSize = x509CRL.getRevokedCertificates() != null ? x509CRL.getRevokedCertificates().size() : 0;
+			assertEquals(expectedSize, entries.size());
+		}
+	}
+
 	@Test
 	public void testARLFile() throws Exception {
 		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/notaires2020.arl");
@@ -20,8 +20,16 @@
  */
 package eu.europa.esig.dss.detailedreport;
 
+import eu.europa.esig.dss.detailedreport.jaxb.XmlBasicBuildingBlocks;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlCertificate;
 import eu.europa.esig.dss.detailedreport.jaxb.XmlDetailedReport;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlEvidenceRecord;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlSignature;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlTLAnalysis;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlTimestamp;
+import eu.europa.esig.dss.enumerations.Context;
 import eu.europa.esig.dss.jaxb.common.AbstractJaxbFacade;
+import eu.europa.esig.dss.jaxb.common.StreamingReportWriter;
 import org.xml.sax.SAXException;
 
 import jakarta.xml.bind.JAXBContext;
@@ -35,6 +43,8 @@ import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
 import java.io.StringReader;
 import java.io.StringWriter;
 
@@ -104,6 +114,103 @@ public class DetailedReportFacade extends AbstractJaxbFacade<XmlDetailedReport>
 		transformer.transform(new JAXBSource(getJAXBContext(), wrap(detailedReport)), result);
 	}
 
+	/**
+	 * Generates a Bootstrap 4 Detailed report and writes it incrementally to the {@code os}
+	 *
+	 * @param detailedReport {@link XmlDetailedReport} JAXB report
+	 * @param os {@link OutputStream} to write the report into (UTF-8 encoded)
+	 * @throws IOException if an IOException occurs
+	 * @throws TransformerException if an TransformerException occurs
+	 * @throws JAXBException if an JAXBException occurs
+	 * @throws SAXException if the report is not valid against the XSD
+	 */
+	public void generateHtmlReport(XmlDetailedReport detailedReport, OutputStream os)
+			throws IOException, TransformerException, JAXBException, SAXException {
+		generateHtmlReport(detailedReport, os, false);
+	}
+
+	/**
+	 * Generates a Bootstrap 4 Detailed report and writes it incrementally to the {@code os}
+	 * with an optional validation of the report against the XSD.
+	 *
+	 * The validation tokens, building blocks and TL analyses are transformed one by one,
+	 * thus neither the complete XML nor the complete HTML are kept in memory.
+	 *
+	 * @param detailedReport {@link XmlDetailedReport} JAXB report
+	 * @param os {@link OutputStream} to write the report into (UTF-8 encoded)
+	 * @param validate enable/disable the validation against the related XSD
+	 * @throws IOException if an IOException occurs
+	 * @throws TransformerException if an TransformerException occurs
+	 * @throws JAXBException if an JAXBException occurs
+	 * @throws SAXException if the report is not valid against the XSD
+	 */
+	public void generateHtmlReport(XmlDetailedReport detailedReport, OutputStream os, boolean validate)
+			throws IOException, TransformerException, JAXBException, SAXException {
+		if (validate) {
+			validate(detailedReport);
+		}
+
+		StreamingReportWriter<XmlDetailedReport> writer = new StreamingReportWriter<>(
+				this, DetailedReportXmlDefiner.getHtmlBootstrap4Templates(), os);
+		writer.writeHeader(createChunk(detailedReport));
+
+		// the order of the template shall be followed
+		writeTokens(writer, detailedReport, XmlCertificate.class);
+		writeBasicBuildingBlocks(writer, detailedReport, Context.CERTIFICATE);
+
+		writeTokens(writer, detailedReport, XmlSignature.class);
+		writeTokens(writer, detailedReport, XmlTimestamp.class);
+		writeTokens(writer, detailedReport, XmlEvidenceRecord.class);
+		writeBasicBuildingBlocks(writer, detailedReport, Context.SIGNATURE);
+		writeBasicBuildingBlocks(writer, detailedReport, Context.COUNTER_SIGNATURE);
+		writeBasicBuildingBlocks(writer, detailedReport, Context.TIMESTAMP);
+		writeBasicBuildingBlocks(writer, detailedReport, Context.REVOCATION);
+		writeBasicBuildingBlocks(writer, detailedReport, Context.EVIDENCE_RECORD);
+
+		for (XmlTLAnalysis tlAnalysis : detailedReport.getTLAnalysis()) {
+			XmlDetailedReport chunk = createChunk(detailedReport);
+			chunk.getTLAnalysis().add(tlAnalysis);
+			writer.writeChunk(chunk);
+		}
+
+		writer.writeFooter();
+	}
+
+	private void writeTokens(StreamingReportWriter<XmlDetailedReport> writer, XmlDetailedReport detailedReport,
+							 Class<? extends Serializable> tokenClass) throws IOException, TransformerException, JAXBException {
+		for (Serializable token : detailedReport.getSignatureOrTimestampOrEvidenceRecord()) {
+			if (tokenClass.isInstance(token)) {
+				XmlDetailedReport chunk = createChunk(detailedReport);
+				chunk.getSignatureOrTimestampOrEvidenceRecord().add(token);
+				writer.writeChunk(chunk);
+			}
+		}
+	}
+
+	private void writeBasicBuildingBlocks(StreamingReportWriter<XmlDetailedReport> writer, XmlDetailedReport detailedReport,
+										  Context context) throws IOException, TransformerException, JAXBException {
+		for (XmlBasicBuildingBlocks basicBuildingBlocks : detailedReport.getBasicBuildingBlocks()) {
+			if (context == basicBuildingBlocks.getType()) {
+				XmlDetailedReport chunk = createChunk(detailedReport);
+				chunk.getBasicBuildingBlocks().add(basicBuildingBlocks);
+				writer.writeChunk(chunk);
+			}
+		}
+	}
+
+	/**
+	 * Creates an empty copy of the report, keeping the semantics used by the template
+	 *
+	 * @param detailedReport {@link XmlDetailedReport} to copy
+	 * @return {@link XmlDetailedReport}
+	 */
+	private XmlDetailedReport createChunk(XmlDetailedReport detailedReport) {
+		XmlDetailedReport chunk = new XmlDetailedReport();
+		chunk.setValidationTime(detailedReport.getValidationTime());
+		chunk.getSemantic().addAll(detailedReport.getSemantic());
+		return chunk;
+	}
+
 	/**
 	 * Generates a Bootstrap 4 Detailed report from a string
 	 *
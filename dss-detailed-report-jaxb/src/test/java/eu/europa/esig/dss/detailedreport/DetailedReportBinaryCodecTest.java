@@ -0,0 +1,107 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.detailedreport;
+
+import eu.europa.esig.dss.detailedreport.jaxb.XmlDetailedReport;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DetailedReportBinaryCodecTest {
+
+	@Test
+	public void test() throws Exception {
+		roundTrip("dr1.xml");
+	}
+
+	@Test
+	public void test2() throws Exception {
+		roundTrip("dr2.xml");
+	}
+
+	@Test
+	public void certTest() throws Exception {
+		roundTrip("dr-cert.xml");
+	}
+
+	@Test
+	public void erTest() throws Exception {
+		roundTrip("dr-er.xml");
+	}
+
+	@Test
+	public void sigAndTstTest() throws Exception {
+		roundTrip("dr-sig-and-tst.xml");
+	}
+
+	@Test
+	public void sigLtAndErTest() throws Exception {
+		roundTrip("dr-sig-lt-and-er.xml");
+	}
+
+	@Test
+	public void tstTest() throws Exception {
+		roundTrip("dr-tst.xml");
+	}
+
+	private void roundTrip(String filename) throws Exception {
+		DetailedReportFacade facade = DetailedReportFacade.newFacade();
+		DetailedReportBinaryCodec codec = DetailedReportBinaryCodec.newCodec();
+
+		XmlDetailedReport detailedReport = facade.unmarshall(new File("src/test/resources/" + filename));
+		String xml = facade.marshall(detailedReport);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		codec.encode(detailedReport, baos);
+		byte[] binaries = baos.toByteArray();
+		assertTrue(DetailedReportBinaryCodec.isBinaryEncoded(binaries));
+		assertTrue(binaries.length < xml.getBytes(StandardCharsets.UTF_8).length);
+
+		XmlDetailedReport decoded = codec.decode(new ByteArrayInputStream(binaries));
+		assertEquals(xml, facade.marshall(decoded));
+	}
+
+	@Test
+	public void invalidBinaries() throws Exception {
+		DetailedReportBinaryCodec codec = DetailedReportBinaryCodec.newCodec();
+		XmlDetailedReport detailedReport = DetailedReportFacade.newFacade().unmarshall(new File("src/test/resources/dr1.xml"));
+		byte[] binaries = codec.encode(detailedReport);
+
+		assertFalse(DetailedReportBinaryCodec.isBinaryEncoded("<DetailedReport/>".getBytes(StandardCharsets.UTF_8)));
+		assertThrows(IOException.class, () -> codec.decode("<DetailedReport/>".getBytes(StandardCharsets.UTF_8)));
+		assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(binaries, binaries.length / 2)));
+
+		byte[] otherModelBinaries = Arrays.copyOf(binaries, binaries.length);
+		otherModelBinaries[6] ^= 1;
+		assertThrows(IOException.class, () -> codec.decode(otherModelBinaries));
+	}
+
+}
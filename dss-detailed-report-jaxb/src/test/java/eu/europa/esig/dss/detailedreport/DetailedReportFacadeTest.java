@@ -23,8 +23,11 @@ package eu.europa.esig.dss.detailedreport;
 import eu.europa.esig.dss.detailedreport.jaxb.XmlDetailedReport;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public class DetailedReportFacadeTest {
@@ -65,7 +68,18 @@ public class DetailedReportFacadeTest {
 		String htmlReport = facade.generateHtmlReport(detailedReport);
 		assertNotNull(htmlReport);
 
+		facade.validate(detailedReport);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		facade.generateHtmlReport(detailedReport, baos, true);
+		String streamedHtmlReport = new String(baos.toByteArray(), StandardCharsets.UTF_8);
+		assertEquals(removeWhitespaces(htmlReport), removeWhitespaces(streamedHtmlReport));
+
 		assertNotNull(facade.generateHtmlReport(detailedReportString));
 	}
 
+	private String removeWhitespaces(String str) {
+		return str.replaceAll("\\s", "");
+	}
+
 }
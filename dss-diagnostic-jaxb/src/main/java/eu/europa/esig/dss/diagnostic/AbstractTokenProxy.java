@@ -216,13 +216,11 @@ public abstract class AbstractTokenProxy implements TokenProxy {
 
 	private CertificateRefWrapper getCertificateReferenceOfReferenceOriginType(CertificateWrapper certificate,
 																			   CertificateRefOrigin refOrigin) {
-		for (RelatedCertificateWrapper relatedCertificate : foundCertificates().getRelatedCertificates()) {
-			List<CertificateRefWrapper> signCertRefs = relatedCertificate.getReferences();
-			if (certificate.getId().equals(relatedCertificate.getId()) && !signCertRefs.isEmpty()) {
-				for (CertificateRefWrapper signCertRef : signCertRefs) {
-					if (refOrigin.equals(signCertRef.getOrigin())) {
-						return signCertRef;
-					}
+		RelatedCertificateWrapper relatedCertificate = foundCertificates().getRelatedCertificateById(certificate.getId());
+		if (relatedCertificate != null) {
+			for (CertificateRefWrapper signCertRef : relatedCertificate.getReferences()) {
+				if (refOrigin.equals(signCertRef.getOrigin())) {
+					return signCertRef;
 				}
 			}
 		}
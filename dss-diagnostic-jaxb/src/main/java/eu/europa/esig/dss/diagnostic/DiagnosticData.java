@@ -49,8 +49,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -76,6 +78,30 @@ public class DiagnosticData {
 	/** List of found evidence records */
 	private List<EvidenceRecordWrapper> foundEvidenceRecords;
 
+	/** List of used revocation data */
+	private List<RevocationWrapper> usedRevocations;
+
+	/** List of orphan certificate values */
+	private List<OrphanCertificateTokenWrapper> orphanCertificateValues;
+
+	/** Index of found signatures by their identifiers (lazily built) */
+	private Map<String, SignatureWrapper> signaturesById;
+
+	/** Index of used certificates by their identifiers (lazily built) */
+	private Map<String, CertificateWrapper> certificatesById;
+
+	/** Index of found timestamps by their identifiers (lazily built) */
+	private Map<String, TimestampWrapper> timestampsById;
+
+	/** Index of found evidence records by their identifiers (lazily built) */
+	private Map<String, EvidenceRecordWrapper> evidenceRecordsById;
+
+	/** Index of used revocation data by their identifiers (lazily built) */
+	private Map<String, RevocationWrapper> revocationsById;
+
+	/** Index of orphan certificate values by their identifiers (lazily built) */
+	private Map<String, OrphanCertificateTokenWrapper> orphanCertificatesById;
+
 	/**
 	 * Default constructor
 	 *
@@ -647,25 +673,19 @@ public class DiagnosticData {
 	 * @return a signature wrapper or null
 	 */
 	public SignatureWrapper getSignatureById(String id) {
-		List<SignatureWrapper> signatures = getSignatures();
-		if (signatures != null) {
-			for (SignatureWrapper xmlSignature : signatures) {
-				if (id.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
+		if (signaturesById == null) {
+			signaturesById = new HashMap<>();
+			for (SignatureWrapper signature : getSignatures()) {
+				signaturesById.putIfAbsent(signature.getId(), signature);
 			}
 		}
-		return null;
+		return signaturesById.get(id);
 	}
 
 	private SignatureWrapper getSignatureByIdNullSafe(String id) {
-		List<SignatureWrapper> signatures = getSignatures();
-		if (signatures != null) {
-			for (SignatureWrapper xmlSignature : signatures) {
-				if (id.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
-			}
+		SignatureWrapper signature = getSignatureById(id);
+		if (signature != null) {
+			return signature;
 		}
 		return new SignatureWrapper(new XmlSignature()); // TODO improve ?
 	}
@@ -686,13 +706,13 @@ public class DiagnosticData {
 	 * @return timestamp wrapper or null
 	 */
 	public TimestampWrapper getTimestampById(String id) {
-		List<TimestampWrapper> allTimestamps = getTimestampList();
-		for (TimestampWrapper timestampWrapper : allTimestamps) {
-			if (id.equals(timestampWrapper.getId())) {
-				return timestampWrapper;
+		if (timestampsById == null) {
+			timestampsById = new HashMap<>();
+			for (TimestampWrapper timestampWrapper : getTimestampList()) {
+				timestampsById.putIfAbsent(timestampWrapper.getId(), timestampWrapper);
 			}
 		}
-		return null;
+		return timestampsById.get(id);
 	}
 
 	/**
@@ -718,15 +738,13 @@ public class DiagnosticData {
 	 * @return a certificate wrapper or null
 	 */
 	public CertificateWrapper getUsedCertificateById(String id) {
-		List<CertificateWrapper> certificates = getUsedCertificates();
-		if (certificates != null) {
-			for (CertificateWrapper certificate : certificates) {
-				if (id.equals(certificate.getId())) {
-					return certificate;
-				}
+		if (certificatesById == null) {
+			certificatesById = new HashMap<>();
+			for (CertificateWrapper certificate : getUsedCertificates()) {
+				certificatesById.putIfAbsent(certificate.getId(), certificate);
 			}
 		}
-		return null;
+		return certificatesById.get(id);
 	}
 
 	/**
@@ -737,15 +755,13 @@ public class DiagnosticData {
 	 * @return a orphan certificate wrapper or null
 	 */
 	public OrphanCertificateTokenWrapper getOrphanCertificateById(String id) {
-		List<OrphanCertificateTokenWrapper> orphanCertificates = getAllOrphanCertificateObjects();
-		if (orphanCertificates != null) {
-			for (OrphanCertificateTokenWrapper certificate : orphanCertificates) {
-				if (id.equals(certificate.getId())) {
-					return certificate;
-				}
+		if (orphanCertificatesById == null) {
+			orphanCertificatesById = new HashMap<>();
+			for (OrphanCertificateTokenWrapper certificate : getOrphanCertificateValues()) {
+				orphanCertificatesById.putIfAbsent(certificate.getId(), certificate);
 			}
 		}
-		return null;
+		return orphanCertificatesById.get(id);
 	}
 	
 	/**
@@ -769,13 +785,19 @@ public class DiagnosticData {
 	 * @return list of {@link OrphanCertificateWrapper}s
 	 */
 	public List<OrphanCertificateTokenWrapper> getAllOrphanCertificateObjects() {
-		List<OrphanCertificateTokenWrapper> orphanCertificateValues = new ArrayList<>();
-		if (wrapped.getOrphanTokens() != null) {
-			for (XmlOrphanCertificateToken orphanToken : wrapped.getOrphanTokens().getOrphanCertificates()) {
-				OrphanCertificateTokenWrapper orphanCertificate = new OrphanCertificateTokenWrapper(orphanToken);
-				if (XmlEncapsulationType.BINARIES.equals(orphanToken.getEncapsulationType()) &&
-						!orphanCertificateValues.contains(orphanCertificate)) {
-					orphanCertificateValues.add(orphanCertificate);
+		return new ArrayList<>(getOrphanCertificateValues());
+	}
+
+	private List<OrphanCertificateTokenWrapper> getOrphanCertificateValues() {
+		if (orphanCertificateValues == null) {
+			orphanCertificateValues = new ArrayList<>();
+			if (wrapped.getOrphanTokens() != null) {
+				for (XmlOrphanCertificateToken orphanToken : wrapped.getOrphanTokens().getOrphanCertificates()) {
+					OrphanCertificateTokenWrapper orphanCertificate = new OrphanCertificateTokenWrapper(orphanToken);
+					if (XmlEncapsulationType.BINARIES.equals(orphanToken.getEncapsulationType()) &&
+							!orphanCertificateValues.contains(orphanCertificate)) {
+						orphanCertificateValues.add(orphanCertificate);
+					}
 				}
 			}
 		}
@@ -982,13 +1004,13 @@ public class DiagnosticData {
 	 * @return evidence record wrapper or null
 	 */
 	public EvidenceRecordWrapper getEvidenceRecordById(String id) {
-		List<EvidenceRecordWrapper> evidenceRecords = getEvidenceRecords();
-		for (EvidenceRecordWrapper evidenceRecord : evidenceRecords) {
-			if (id.equals(evidenceRecord.getId())) {
-				return evidenceRecord;
+		if (evidenceRecordsById == null) {
+			evidenceRecordsById = new HashMap<>();
+			for (EvidenceRecordWrapper evidenceRecord : getEvidenceRecords()) {
+				evidenceRecordsById.putIfAbsent(evidenceRecord.getId(), evidenceRecord);
 			}
 		}
-		return null;
+		return evidenceRecordsById.get(id);
 	}
 
 	/**
@@ -1063,11 +1085,17 @@ public class DiagnosticData {
 	 * @return a set of revocation data
 	 */
 	public Set<RevocationWrapper> getAllRevocationData() {
-		Set<RevocationWrapper> revocationData = new HashSet<>();
-		for (XmlRevocation xmlRevocation : wrapped.getUsedRevocations()) {
-			revocationData.add(new RevocationWrapper(xmlRevocation));
+		return new HashSet<>(getUsedRevocations());
+	}
+
+	private List<RevocationWrapper> getUsedRevocations() {
+		if (usedRevocations == null) {
+			usedRevocations = new ArrayList<>();
+			for (XmlRevocation xmlRevocation : wrapped.getUsedRevocations()) {
+				usedRevocations.add(new RevocationWrapper(xmlRevocation));
+			}
 		}
-		return revocationData;
+		return usedRevocations;
 	}
 	
 	/**
@@ -1093,12 +1121,7 @@ public class DiagnosticData {
 	 * @return {@link CertificateWrapper}
 	 */
 	public CertificateWrapper getCertificateById(String id) {
-		for (CertificateWrapper certificateWrapper : getUsedCertificates()) {
-			if (id.equals(certificateWrapper.getId())) {
-				return certificateWrapper;
-			}
-		}
-		return null;
+		return getUsedCertificateById(id);
 	}
 	
 	/**
@@ -1107,12 +1130,13 @@ public class DiagnosticData {
 	 * @return {@link RevocationWrapper}
 	 */
 	public RevocationWrapper getRevocationById(String id) {
-		for (RevocationWrapper revocationWrapper : getAllRevocationData()) {
-			if (id.equals(revocationWrapper.getId())) {
-				return revocationWrapper;
+		if (revocationsById == null) {
+			revocationsById = new HashMap<>();
+			for (RevocationWrapper revocationWrapper : getUsedRevocations()) {
+				revocationsById.putIfAbsent(revocationWrapper.getId(), revocationWrapper);
 			}
 		}
-		return null;
+		return revocationsById.get(id);
 	}
 	
 	/**
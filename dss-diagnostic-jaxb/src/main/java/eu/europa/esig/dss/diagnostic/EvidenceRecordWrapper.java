@@ -52,6 +52,12 @@ public class EvidenceRecordWrapper {
     /** Wrapped XML Evidence Record object */
     private final XmlEvidenceRecord evidenceRecord;
 
+    /** Cached {@code FoundCertificatesProxy} (lazily created) */
+    private FoundCertificatesProxy foundCertificatesProxy;
+
+    /** Cached {@code FoundRevocationsProxy} (lazily created) */
+    private FoundRevocationsProxy foundRevocationsProxy;
+
     /**
      * Default constructor
      *
@@ -138,7 +144,10 @@ public class EvidenceRecordWrapper {
      * @return {@link FoundCertificatesProxy}
      */
     public FoundCertificatesProxy foundCertificates() {
-        return new FoundCertificatesProxy(evidenceRecord.getFoundCertificates());
+        if (foundCertificatesProxy == null) {
+            foundCertificatesProxy = new FoundCertificatesProxy(evidenceRecord.getFoundCertificates());
+        }
+        return foundCertificatesProxy;
     }
 
     /**
@@ -147,7 +156,10 @@ public class EvidenceRecordWrapper {
      * @return {@link FoundRevocationsProxy}
      */
     public FoundRevocationsProxy foundRevocations() {
-        return new FoundRevocationsProxy(evidenceRecord.getFoundRevocations());
+        if (foundRevocationsProxy == null) {
+            foundRevocationsProxy = new FoundRevocationsProxy(evidenceRecord.getFoundRevocations());
+        }
+        return foundRevocationsProxy;
     }
 
     /**
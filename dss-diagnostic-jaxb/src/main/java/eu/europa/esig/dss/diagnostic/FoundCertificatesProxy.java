@@ -27,7 +27,9 @@ import eu.europa.esig.dss.enumerations.CertificateOrigin;
 import eu.europa.esig.dss.enumerations.CertificateRefOrigin;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Handles method logic to process {@code XmlFoundCertificates} and returns wrappers
@@ -37,6 +39,18 @@ public class FoundCertificatesProxy {
 	
 	/** Wrapped {@code XmlFoundCertificates} */
 	private XmlFoundCertificates foundCertificates;
+
+	/** Cached list of related certificate wrappers */
+	private List<RelatedCertificateWrapper> relatedCertificates;
+
+	/** Cached list of orphan certificate wrappers */
+	private List<OrphanCertificateWrapper> orphanCertificates;
+
+	/** Index of related certificates by their identifiers (lazily built) */
+	private Map<String, RelatedCertificateWrapper> relatedCertificatesById;
+
+	/** Index of orphan certificates by their identifiers (lazily built) */
+	private Map<String, OrphanCertificateWrapper> orphanCertificatesById;
 	
 	/**
 	 * Default constructor
@@ -60,13 +74,29 @@ public class FoundCertificatesProxy {
 	 * @return a list of {@link RelatedCertificateWrapper}s
 	 */
 	public List<RelatedCertificateWrapper> getRelatedCertificates() {
-		List<RelatedCertificateWrapper> certificateWrappers = new ArrayList<>();
-		
-		List<XmlRelatedCertificate> relatedCertificates = getFoundCertificates().getRelatedCertificates();
-		for (XmlRelatedCertificate relatedCertificate : relatedCertificates) {
-			certificateWrappers.add(new RelatedCertificateWrapper(relatedCertificate));
+		if (relatedCertificates == null) {
+			relatedCertificates = new ArrayList<>();
+			for (XmlRelatedCertificate relatedCertificate : getFoundCertificates().getRelatedCertificates()) {
+				relatedCertificates.add(new RelatedCertificateWrapper(relatedCertificate));
+			}
 		}
-		return certificateWrappers;
+		return new ArrayList<>(relatedCertificates);
+	}
+
+	/**
+	 * Returns a related certificate with the given {@code id}
+	 *
+	 * @param id {@link String} identifier of the certificate to get
+	 * @return {@link RelatedCertificateWrapper} if found, null otherwise
+	 */
+	public RelatedCertificateWrapper getRelatedCertificateById(String id) {
+		if (relatedCertificatesById == null) {
+			relatedCertificatesById = new HashMap<>();
+			for (RelatedCertificateWrapper relatedCertificate : getRelatedCertificates()) {
+				relatedCertificatesById.putIfAbsent(relatedCertificate.getId(), relatedCertificate);
+			}
+		}
+		return relatedCertificatesById.get(id);
 	}
 	
 	/**
@@ -75,13 +105,29 @@ public class FoundCertificatesProxy {
 	 * @return a list of {@link OrphanCertificateWrapper}s
 	 */
 	public List<OrphanCertificateWrapper> getOrphanCertificates() {
-		List<OrphanCertificateWrapper> orphanTokens = new ArrayList<>();
-		
-		List<XmlOrphanCertificate> orphanCertificates = getFoundCertificates().getOrphanCertificates();
-		for (XmlOrphanCertificate orphanCertificate : orphanCertificates) {
-			orphanTokens.add(new OrphanCertificateWrapper(orphanCertificate));
+		if (orphanCertificates == null) {
+			orphanCertificates = new ArrayList<>();
+			for (XmlOrphanCertificate orphanCertificate : getFoundCertificates().getOrphanCertificates()) {
+				orphanCertificates.add(new OrphanCertificateWrapper(orphanCertificate));
+			}
+		}
+		return new ArrayList<>(orphanCertificates);
+	}
+
+	/**
+	 * Returns an orphan certificate with the given {@code id}
+	 *
+	 * @param id {@link String} identifier of the certificate to get
+	 * @return {@link OrphanCertificateWrapper} if found, null otherwise
+	 */
+	public OrphanCertificateWrapper getOrphanCertificateById(String id) {
+		if (orphanCertificatesById == null) {
+			orphanCertificatesById = new HashMap<>();
+			for (OrphanCertificateWrapper orphanCertificate : getOrphanCertificates()) {
+				orphanCertificatesById.putIfAbsent(orphanCertificate.getId(), orphanCertificate);
+			}
 		}
-		return orphanTokens;
+		return orphanCertificatesById.get(id);
 	}
 	
 	/**
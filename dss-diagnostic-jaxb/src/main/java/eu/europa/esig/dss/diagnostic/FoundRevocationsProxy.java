@@ -28,7 +28,9 @@ import eu.europa.esig.dss.enumerations.RevocationRefOrigin;
 import eu.europa.esig.dss.enumerations.RevocationType;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Handles method logic to process {@code XmlFoundRevocations} and returns wrappers
@@ -38,6 +40,18 @@ public class FoundRevocationsProxy {
 	
 	/** Wrapped {@code XmlFoundRevocations} */
 	private XmlFoundRevocations foundRevocations;
+
+	/** Cached list of related revocation wrappers */
+	private List<RelatedRevocationWrapper> relatedRevocations;
+
+	/** Cached list of orphan revocation wrappers */
+	private List<OrphanRevocationWrapper> orphanRevocations;
+
+	/** Index of related revocation data by their identifiers (lazily built) */
+	private Map<String, RelatedRevocationWrapper> relatedRevocationsById;
+
+	/** Index of orphan revocation data by their identifiers (lazily built) */
+	private Map<String, OrphanRevocationWrapper> orphanRevocationsById;
 	
 	/**
 	 * Default constructor
@@ -61,13 +75,29 @@ public class FoundRevocationsProxy {
 	 * @return a list of {@link RelatedRevocationWrapper}s
 	 */
 	public List<RelatedRevocationWrapper> getRelatedRevocationData() {
-		List<RelatedRevocationWrapper> revocationWrappers = new ArrayList<>();
-		
-		List<XmlRelatedRevocation> relatedRevocations = getFoundRevocations().getRelatedRevocations();
-		for (XmlRelatedRevocation relatedRevocation : relatedRevocations) {
-			revocationWrappers.add(new RelatedRevocationWrapper(relatedRevocation));
+		if (relatedRevocations == null) {
+			relatedRevocations = new ArrayList<>();
+			for (XmlRelatedRevocation relatedRevocation : getFoundRevocations().getRelatedRevocations()) {
+				relatedRevocations.add(new RelatedRevocationWrapper(relatedRevocation));
+			}
 		}
-		return revocationWrappers;
+		return new ArrayList<>(relatedRevocations);
+	}
+
+	/**
+	 * Returns a related revocation data with the given {@code id}
+	 *
+	 * @param id {@link String} identifier of the revocation data to get
+	 * @return {@link RelatedRevocationWrapper} if found, null otherwise
+	 */
+	public RelatedRevocationWrapper getRelatedRevocationById(String id) {
+		if (relatedRevocationsById == null) {
+			relatedRevocationsById = new HashMap<>();
+			for (RelatedRevocationWrapper relatedRevocation : getRelatedRevocationData()) {
+				relatedRevocationsById.putIfAbsent(relatedRevocation.getId(), relatedRevocation);
+			}
+		}
+		return relatedRevocationsById.get(id);
 	}
 	
 	/**
@@ -76,13 +106,29 @@ public class FoundRevocationsProxy {
 	 * @return a list of {@link OrphanRevocationWrapper}s
 	 */
 	public List<OrphanRevocationWrapper> getOrphanRevocationData() {
-		List<OrphanRevocationWrapper> orphanTokens = new ArrayList<>();
-		
-		List<XmlOrphanRevocation> orphanRevocations = getFoundRevocations().getOrphanRevocations();
-		for (XmlOrphanRevocation orphanRevocation : orphanRevocations) {
-			orphanTokens.add(new OrphanRevocationWrapper(orphanRevocation));
+		if (orphanRevocations == null) {
+			orphanRevocations = new ArrayList<>();
+			for (XmlOrphanRevocation orphanRevocation : getFoundRevocations().getOrphanRevocations()) {
+				orphanRevocations.add(new OrphanRevocationWrapper(orphanRevocation));
+			}
+		}
+		return new ArrayList<>(orphanRevocations);
+	}
+
+	/**
+	 * Returns an orphan revocation data with the given {@code id}
+	 *
+	 * @param id {@link String} identifier of the revocation data to get
+	 * @return {@link OrphanRevocationWrapper} if found, null otherwise
+	 */
+	public OrphanRevocationWrapper getOrphanRevocationById(String id) {
+		if (orphanRevocationsById == null) {
+			orphanRevocationsById = new HashMap<>();
+			for (OrphanRevocationWrapper orphanRevocation : getOrphanRevocationData()) {
+				orphanRevocationsById.putIfAbsent(orphanRevocation.getId(), orphanRevocation);
+			}
 		}
-		return orphanTokens;
+		return orphanRevocationsById.get(id);
 	}
 	
 	/**
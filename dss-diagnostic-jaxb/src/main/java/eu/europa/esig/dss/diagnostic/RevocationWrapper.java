@@ -40,6 +40,9 @@ public class RevocationWrapper extends AbstractTokenProxy {
 
 	/** Wrapped {@code XmlRevocation} */
 	private final XmlRevocation revocation;
+
+	/** Cached {@code FoundCertificatesProxy} (lazily created) */
+	private FoundCertificatesProxy foundCertificatesProxy;
 	
 	/**
 	 * Default constructor
@@ -78,7 +81,10 @@ public class RevocationWrapper extends AbstractTokenProxy {
 	 */
 	@Override
 	public FoundCertificatesProxy foundCertificates() {
-		return new FoundCertificatesProxy(revocation.getFoundCertificates());
+		if (foundCertificatesProxy == null) {
+			foundCertificatesProxy = new FoundCertificatesProxy(revocation.getFoundCertificates());
+		}
+		return foundCertificatesProxy;
 	}
 
 	/**
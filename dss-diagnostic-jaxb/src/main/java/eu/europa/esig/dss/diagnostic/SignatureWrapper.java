@@ -63,6 +63,12 @@ public class SignatureWrapper extends AbstractSignatureWrapper {
 	/** Wrapped {@code XmlSignature} */
 	private final XmlSignature signature;
 
+	/** Cached {@code FoundCertificatesProxy} (lazily created) */
+	private FoundCertificatesProxy foundCertificatesProxy;
+
+	/** Cached {@code FoundRevocationsProxy} (lazily created) */
+	private FoundRevocationsProxy foundRevocationsProxy;
+
 	/**
 	 * Default constructor
 	 *
@@ -129,7 +135,10 @@ public class SignatureWrapper extends AbstractSignatureWrapper {
 	 */
 	@Override
 	public FoundCertificatesProxy foundCertificates() {
-		return new FoundCertificatesProxy(signature.getFoundCertificates());
+		if (foundCertificatesProxy == null) {
+			foundCertificatesProxy = new FoundCertificatesProxy(signature.getFoundCertificates());
+		}
+		return foundCertificatesProxy;
 	}
 
 	/**
@@ -139,7 +148,10 @@ public class SignatureWrapper extends AbstractSignatureWrapper {
 	 */
 	@Override
 	public FoundRevocationsProxy foundRevocations() {
-		return new FoundRevocationsProxy(signature.getFoundRevocations());
+		if (foundRevocationsProxy == null) {
+			foundRevocationsProxy = new FoundRevocationsProxy(signature.getFoundRevocations());
+		}
+		return foundRevocationsProxy;
 	}
 
 	/**
@@ -54,6 +54,12 @@ public class TimestampWrapper extends AbstractSignatureWrapper {
 
 	/** The wrapped XmlTimestamp */
 	private final XmlTimestamp timestamp;
+
+	/** Cached {@code FoundCertificatesProxy} (lazily created) */
+	private FoundCertificatesProxy foundCertificatesProxy;
+
+	/** Cached {@code FoundRevocationsProxy} (lazily created) */
+	private FoundRevocationsProxy foundRevocationsProxy;
 	
 	/**
 	 * Default constructor
@@ -87,12 +93,18 @@ public class TimestampWrapper extends AbstractSignatureWrapper {
 
 	@Override
 	public FoundCertificatesProxy foundCertificates() {
-		return new FoundCertificatesProxy(timestamp.getFoundCertificates());
+		if (foundCertificatesProxy == null) {
+			foundCertificatesProxy = new FoundCertificatesProxy(timestamp.getFoundCertificates());
+		}
+		return foundCertificatesProxy;
 	}
 
 	@Override
 	public FoundRevocationsProxy foundRevocations() {
-		return new FoundRevocationsProxy(timestamp.getFoundRevocations());
+		if (foundRevocationsProxy == null) {
+			foundRevocationsProxy = new FoundRevocationsProxy(timestamp.getFoundRevocations());
+		}
+		return foundRevocationsProxy;
 	}
 
 	/**
@@ -0,0 +1,92 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.diagnostic;
+
+import eu.europa.esig.dss.diagnostic.jaxb.XmlCertificate;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlSignature;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DiagnosticDataBinaryCodecTest {
+
+	@Test
+	public void test() throws Exception {
+		roundTrip("diag-data.xml");
+	}
+
+	@Test
+	public void erTest() throws Exception {
+		roundTrip("er-diag-data.xml");
+	}
+
+	private void roundTrip(String filename) throws Exception {
+		DiagnosticDataFacade facade = DiagnosticDataFacade.newFacade();
+		DiagnosticDataBinaryCodec codec = DiagnosticDataBinaryCodec.newCodec();
+
+		XmlDiagnosticData diagnosticData = facade.unmarshall(new File("src/test/resources/" + filename));
+		String xml = facade.marshall(diagnosticData, false);
+
+		byte[] binaries = codec.encode(diagnosticData);
+		assertTrue(binaries.length < xml.getBytes(StandardCharsets.UTF_8).length);
+
+		XmlDiagnosticData decoded = codec.decode(binaries);
+		assertEquals(xml, facade.marshall(decoded, false));
+	}
+
+	@Test
+	public void references() throws Exception {
+		DiagnosticDataBinaryCodec codec = DiagnosticDataBinaryCodec.newCodec();
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(new File("src/test/resources/diag-data.xml"));
+
+		XmlDiagnosticData decoded = codec.decode(codec.encode(diagnosticData));
+		XmlSignature signature = decoded.getSignatures().get(0);
+		XmlCertificate signingCertificate = signature.getSigningCertificate().getCertificate();
+		assertNotNull(signingCertificate);
+		assertTrue(decoded.getUsedCertificates().stream().anyMatch(c -> c == signingCertificate));
+		assertSame(signingCertificate, signature.getCertificateChain().get(0).getCertificate());
+	}
+
+	@Test
+	public void partialDecoding() throws Exception {
+		DiagnosticDataBinaryCodec codec = DiagnosticDataBinaryCodec.newCodec();
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(new File("src/test/resources/diag-data.xml"));
+
+		XmlDiagnosticData decoded = codec.decode(codec.encode(diagnosticData), "signatures/id", "signatures/signingCertificate");
+		assertEquals(diagnosticData.getSignatures().size(), decoded.getSignatures().size());
+		XmlSignature signature = decoded.getSignatures().get(0);
+		assertEquals(diagnosticData.getSignatures().get(0).getId(), signature.getId());
+		assertNotNull(signature.getSigningCertificate());
+		// the referenced certificate has not been decoded
+		assertNull(signature.getSigningCertificate().getCertificate());
+		assertTrue(signature.getCertificateChain().isEmpty());
+		assertTrue(decoded.getUsedCertificates().isEmpty());
+	}
+
+}
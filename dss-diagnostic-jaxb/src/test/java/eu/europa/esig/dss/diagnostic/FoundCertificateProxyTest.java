@@ -21,6 +21,9 @@
 package eu.europa.esig.dss.diagnostic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.Arrays;
 import java.util.Base64;
@@ -119,4 +122,46 @@ public class FoundCertificateProxyTest {
 		assertEquals(0, foundCertificates.getOrphanCertificatesByRefOrigin(CertificateRefOrigin.COMPLETE_CERTIFICATE_REFS).size());
 	}
 
+	@Test
+	public void getCertificateByIdTest() {
+		XmlDiagnosticData xmlDiagnosticData = new XmlDiagnosticData();
+		XmlSignature xmlSignature = new XmlSignature();
+		XmlFoundCertificates xmlFoundCertificates = new XmlFoundCertificates();
+
+		XmlCertificate xmlCertificate = new XmlCertificate();
+		xmlCertificate.setId("C-1");
+		XmlRelatedCertificate xmlRelatedCertificate = new XmlRelatedCertificate();
+		xmlRelatedCertificate.setCertificate(xmlCertificate);
+		xmlFoundCertificates.getRelatedCertificates().add(xmlRelatedCertificate);
+
+		XmlOrphanCertificateToken xmlOrphanCertificateToken = new XmlOrphanCertificateToken();
+		xmlOrphanCertificateToken.setId("C-2");
+		XmlOrphanCertificate xmlOrphanCertificate = new XmlOrphanCertificate();
+		xmlOrphanCertificate.setToken(xmlOrphanCertificateToken);
+		xmlFoundCertificates.getOrphanCertificates().add(xmlOrphanCertificate);
+
+		xmlSignature.setFoundCertificates(xmlFoundCertificates);
+		xmlDiagnosticData.setSignatures(Arrays.asList(xmlSignature));
+
+		DiagnosticData diagnosticData = new DiagnosticData(xmlDiagnosticData);
+		SignatureWrapper signatureWrapper = diagnosticData.getSignatures().get(0);
+		FoundCertificatesProxy foundCertificates = signatureWrapper.foundCertificates();
+		assertSame(foundCertificates, signatureWrapper.foundCertificates());
+
+		RelatedCertificateWrapper relatedCertificate = foundCertificates.getRelatedCertificateById("C-1");
+		assertEquals("C-1", relatedCertificate.getId());
+		assertSame(relatedCertificate, foundCertificates.getRelatedCertificates().get(0));
+		assertNull(foundCertificates.getRelatedCertificateById("C-2"));
+
+		OrphanCertificateWrapper orphanCertificate = foundCertificates.getOrphanCertificateById("C-2");
+		assertEquals("C-2", orphanCertificate.getId());
+		assertSame(orphanCertificate, foundCertificates.getOrphanCertificates().get(0));
+		assertNull(foundCertificates.getOrphanCertificateById("C-1"));
+
+		// returned lists are copies
+		assertNotSame(foundCertificates.getRelatedCertificates(), foundCertificates.getRelatedCertificates());
+		foundCertificates.getRelatedCertificates().clear();
+		assertEquals(1, foundCertificates.getRelatedCertificates().size());
+	}
+
 }
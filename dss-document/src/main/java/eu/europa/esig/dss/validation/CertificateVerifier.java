@@ -26,6 +26,7 @@ import eu.europa.esig.dss.alert.StatusAlert;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.x509.CertificateIssuerCache;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.AIASource;
@@ -211,6 +212,26 @@ public interface CertificateVerifier {
 	 */
 	void setAIASource(final AIASource aiaSource);
 
+	/**
+	 * Gets the cache of the issuer chains of intermediate certificates shared between validations
+	 *
+	 * @return {@link CertificateIssuerCache}
+	 */
+	CertificateIssuerCache getCertificateIssuerCache();
+
+	/**
+	 * Sets the cache of the issuer chains of intermediate certificates shared between validations.
+	 * When defined, the issuer chains obtained from the trusted or AIA certificate sources are cached, and the issuer
+	 * discovery (sources lookup and AIA requests) is skipped for the following validations of the same intermediate
+	 * certificates. The cached chain is not used when one of its certificates is provided by the document, and
+	 * the cached entries are not used anymore when the trusted certificate sources are replaced or modified
+	 * (e.g. on a trusted lists refresh).
+	 * Default : null (the issuers are discovered for each validation)
+	 *
+	 * @param certificateIssuerCache {@link CertificateIssuerCache}
+	 */
+	void setCertificateIssuerCache(final CertificateIssuerCache certificateIssuerCache);
+
 	/**
 	 * This method allows to change the Digest Algorithm that will be used for tokens' digest calculation
 	 * Default : {@code DigestAlgorithm.SHA256}
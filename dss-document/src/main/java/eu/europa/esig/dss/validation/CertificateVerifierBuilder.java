@@ -49,6 +49,7 @@ public class CertificateVerifierBuilder {
 		if (certificateVerifier != null) {
 			copy.setDefaultDigestAlgorithm(certificateVerifier.getDefaultDigestAlgorithm());
 			copy.setAIASource(certificateVerifier.getAIASource());
+			copy.setCertificateIssuerCache(certificateVerifier.getCertificateIssuerCache());
 			copy.setCrlSource(certificateVerifier.getCrlSource());
 			copy.setOcspSource(certificateVerifier.getOcspSource());
 			copy.setRevocationDataLoadingStrategyFactory(certificateVerifier.getRevocationDataLoadingStrategyFactory());
@@ -79,6 +80,7 @@ public class CertificateVerifierBuilder {
 			offlineCertificateVerifier.setDefaultDigestAlgorithm(certificateVerifier.getDefaultDigestAlgorithm());
 			offlineCertificateVerifier.setAdjunctCertSources(certificateVerifier.getAdjunctCertSources());
 			offlineCertificateVerifier.setTrustedCertSources(certificateVerifier.getTrustedCertSources());
+			offlineCertificateVerifier.setCertificateIssuerCache(certificateVerifier.getCertificateIssuerCache());
 			offlineCertificateVerifier.setRevocationDataVerifier(certificateVerifier.getRevocationDataVerifier());
 			offlineCertificateVerifier.setExtractPOEFromUntrustedChains(certificateVerifier.isExtractPOEFromUntrustedChains());
 		}
@@ -26,6 +26,7 @@ import eu.europa.esig.dss.alert.StatusAlert;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.x509.CertificateIssuerCache;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.AIASource;
@@ -97,6 +98,11 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 	 */
 	private AIASource aiaSource;
 
+	/**
+	 * The cache of the issuer chains of intermediate certificates shared between validations
+	 */
+	private CertificateIssuerCache certificateIssuerCache;
+
 	/**
 	 * This variable set the default Digest Algorithm what will be used for calculation
 	 * of digests for validation tokens and signed data
@@ -323,6 +329,16 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 		this.aiaSource = aiaSource;
 	}
 
+	@Override
+	public CertificateIssuerCache getCertificateIssuerCache() {
+		return certificateIssuerCache;
+	}
+
+	@Override
+	public void setCertificateIssuerCache(final CertificateIssuerCache certificateIssuerCache) {
+		this.certificateIssuerCache = certificateIssuerCache;
+	}
+
 	@Override
 	public StatusAlert getAlertOnInvalidTimestamp() {
 		return alertOnInvalidTimestamp;
@@ -31,6 +31,8 @@ import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.AlternateUrlsSourceAdapter;
 import eu.europa.esig.dss.spi.x509.CandidatesForSigningCertificate;
+import eu.europa.esig.dss.spi.x509.CertificateIssuerCache;
+import eu.europa.esig.dss.spi.x509.CertificateIssuerChain;
 import eu.europa.esig.dss.spi.x509.CertificateRef;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CertificateValidity;
@@ -155,6 +157,15 @@ public class SignatureValidationContext implements ValidationContext {
 	/** External adjunct certificate sources */
 	private ListCertificateSource adjunctCertSources;
 
+	/** Cache of the issuer chains of intermediate certificates shared between validations */
+	private CertificateIssuerCache certificateIssuerCache;
+
+	/** The sources to be restored with the issuers eligible for the shared cache, by issued certificate */
+	private final Map<CertificateToken, List<CertificateSource>> cacheableIssuerSources = new HashMap<>();
+
+	/** The certificates with an issuer chain added to the shared cache within the current validation */
+	private final Set<CertificateToken> cachedIssuerChains = new HashSet<>();
+
 	/**
 	 * This variable set the behavior to follow for revocation retrieving in case of
 	 * untrusted certificate chains.
@@ -193,6 +204,7 @@ public class SignatureValidationContext implements ValidationContext {
 		this.aiaSource = certificateVerifier.getAIASource();
 		this.adjunctCertSources = certificateVerifier.getAdjunctCertSources();
 		this.trustedCertSources = certificateVerifier.getTrustedCertSources();
+		this.certificateIssuerCache = certificateVerifier.getCertificateIssuerCache();
 		this.checkRevocationForUntrustedChains = certificateVerifier.isCheckRevocationForUntrustedChains();
 		this.extractPOEFromUntrustedChains = certificateVerifier.isExtractPOEFromUntrustedChains();
 		this.revocationDataLoadingStrategyFactory = certificateVerifier.getRevocationDataLoadingStrategyFactory();
@@ -395,6 +407,7 @@ public class SignatureValidationContext implements ValidationContext {
 			chain.add(issuerCertificateToken);
 			issuerCertificateToken = getIssuer(issuerCertificateToken);
 		} while (issuerCertificateToken != null && !chain.contains(issuerCertificateToken));
+		addIssuerChainsToSharedCache(chain);
 		return chain;
 	}
 
@@ -405,6 +418,14 @@ public class SignatureValidationContext implements ValidationContext {
 			return issuerCertificateToken;
 		}
 
+		// Use the issuer chain obtained within a previous validation, when available
+		if (!tokenIssuerMap.containsKey(token)) {
+			issuerCertificateToken = getIssuerFromSharedCache(token);
+			if (issuerCertificateToken != null) {
+				return issuerCertificateToken;
+			}
+		}
+
 		// Find issuer candidates from a particular certificate source
 		Set<CertificateToken> candidates = Collections.emptySet();
 
@@ -457,6 +478,9 @@ public class SignatureValidationContext implements ValidationContext {
 
 		if (issuerCertificateToken != null) {
 			addCertificateTokenForVerification(issuerCertificateToken);
+			if (certificateIssuerCache != null && token instanceof CertificateToken) {
+				addCacheableIssuer((CertificateToken) token, issuerCertificateToken);
+			}
 		}
 
 		// Cache the result (successful or unsuccessful)
@@ -476,6 +500,111 @@ public class SignatureValidationContext implements ValidationContext {
 		return null;
 	}
 
+	/**
+	 * Returns the issuer of an intermediate certificate from the issuer chain obtained within a previous validation.
+	 * The certificate sources the chain has been obtained from (e.g. AIA) are restored, and the chain is linked
+	 * within the current validation. The cached chain is not used when one of its certificates is provided locally
+	 * (i.e. by the document, revocation data or adjunct sources), in order to keep the issuer selection unchanged.
+	 *
+	 * @param token {@link Token} to get issuer for
+	 * @return {@link CertificateToken} issuer if found, NULL otherwise
+	 */
+	private CertificateToken getIssuerFromSharedCache(Token token) {
+		if (certificateIssuerCache == null || !(token instanceof CertificateToken)) {
+			return null;
+		}
+		final CertificateIssuerChain issuerChain = certificateIssuerCache.getIssuerChain((CertificateToken) token, trustedCertSources);
+		if (issuerChain == null) {
+			return null;
+		}
+		for (CertificateToken issuer : issuerChain.getIssuers()) {
+			if (isKnownLocally(issuer)) {
+				return null;
+			}
+		}
+
+		for (CertificateSource certificateSource : issuerChain.getCertificateSources()) {
+			if (!aiaCertificateSources.getSources().contains(certificateSource)) {
+				addCertificateSource(aiaCertificateSources, certificateSource);
+			}
+		}
+		CertificateToken issuedToken = (CertificateToken) token;
+		for (CertificateToken issuer : issuerChain.getIssuers()) {
+			// the issuers already processed within the current validation are kept
+			if (tokenIssuerMap.containsKey(issuedToken)) {
+				break;
+			}
+			tokenIssuerMap.put(issuedToken, issuer);
+			addCertificateTokenForVerification(issuer);
+			// allows caching of the chains of the certificates issued by the cached chain
+			cacheableIssuerSources.put(issuedToken, issuerChain.getCertificateSources());
+			cachedIssuerChains.add(issuedToken);
+			issuedToken = issuer;
+		}
+		LOG.trace("Issuer chain of the certificate with Id '{}' has been obtained from the cache", token.getDSSIdAsString());
+		return tokenIssuerMap.get(token);
+	}
+
+	/**
+	 * Records the found issuer as eligible for the shared cache, when it has been obtained
+	 * from the trusted or AIA certificate sources
+	 *
+	 * @param certificateToken {@link CertificateToken} the issued certificate
+	 * @param issuerCertificateToken {@link CertificateToken} the found issuer
+	 */
+	private void addCacheableIssuer(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		if (!issuerCertificateToken.getPublicKey().equals(certificateToken.getPublicKeyOfTheSigner()) ||
+				isKnownLocally(issuerCertificateToken)) {
+			return;
+		}
+		final List<CertificateSource> issuerSources = new ArrayList<>();
+		for (CertificateSource certificateSource : aiaCertificateSources.getSources()) {
+			if (certificateSource.isKnown(issuerCertificateToken)) {
+				issuerSources.add(certificateSource);
+			}
+		}
+		if (issuerSources.isEmpty() && !trustedCertSources.isKnown(issuerCertificateToken)) {
+			return;
+		}
+		cacheableIssuerSources.put(certificateToken, issuerSources);
+	}
+
+	/**
+	 * Adds the issuer chains of the intermediate certificates within the given {@code chain} to the shared cache,
+	 * when all the issuers up to the end of the chain are eligible
+	 *
+	 * @param chain a list of {@link Token}s representing a certificate chain
+	 */
+	private void addIssuerChainsToSharedCache(List<Token> chain) {
+		if (certificateIssuerCache == null || cacheableIssuerSources.isEmpty()) {
+			return;
+		}
+		final List<CertificateSource> chainSources = new ArrayList<>();
+		for (int i = chain.size() - 2; i >= 0; i--) {
+			final Token token = chain.get(i);
+			final List<CertificateSource> issuerSources = cacheableIssuerSources.get(token);
+			if (issuerSources == null || !chain.get(i + 1).equals(tokenIssuerMap.get(token))) {
+				return;
+			}
+			for (CertificateSource certificateSource : issuerSources) {
+				if (!chainSources.contains(certificateSource)) {
+					chainSources.add(certificateSource);
+				}
+			}
+			final CertificateToken certificateToken = (CertificateToken) token;
+			if (certificateToken.isCA() && cachedIssuerChains.add(certificateToken)) {
+				final List<CertificateToken> issuers = toCertificateTokenChain(chain.subList(i + 1, chain.size()));
+				certificateIssuerCache.putIssuerChain(certificateToken, new CertificateIssuerChain(issuers, chainSources),
+						trustedCertSources);
+			}
+		}
+	}
+
+	private boolean isKnownLocally(CertificateToken certificateToken) {
+		return documentCertificateSource.isKnown(certificateToken) || revocationCertificateSources.isKnown(certificateToken)
+				|| adjunctCertSources.isKnown(certificateToken);
+	}
+
 	@Override
 	public ListCertificateSource getAllCertificateSources() {
 		ListCertificateSource allCertificateSources = new ListCertificateSource();
@@ -28,9 +28,12 @@ import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.ManifestFile;
 import eu.europa.esig.dss.model.identifier.TokenIdentifierProvider;
 import eu.europa.esig.dss.model.scope.SignatureScope;
+import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.EtsiValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
@@ -38,10 +41,15 @@ import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
 import eu.europa.esig.dss.spi.DSSSecurityProvider;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.NativeHTTPDataLoader;
+import eu.europa.esig.dss.spi.trace.ValidationPhase;
+import eu.europa.esig.dss.spi.trace.ValidationTraceListener;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampedReference;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.validation.cache.DiagnosticDataCache;
 import eu.europa.esig.dss.validation.evidencerecord.EvidenceRecord;
 import eu.europa.esig.dss.validation.evidencerecord.EvidenceRecordValidator;
 import eu.europa.esig.dss.validation.executor.DocumentProcessExecutor;
@@ -59,15 +67,22 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Validates a signed document. The content of the document is determined
@@ -182,6 +197,38 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	 */
 	protected boolean skipValidationContextExecution = false;
 
+	/**
+	 * The executor used to verify the cryptographic integrity (and, when supported, the timestamp message-imprints)
+	 * of the signatures concurrently, for the formats supporting it (see {@code #isConcurrentSignatureValidationSupported}).
+	 * When not defined, the signatures are processed sequentially within the current thread.
+	 *
+	 * Default: null (sequential processing)
+	 */
+	private ExecutorService signatureValidationExecutor;
+
+	/**
+	 * The cache of the DiagnosticData computed for the validated documents.
+	 * When not defined, the DiagnosticData is computed on each validation.
+	 *
+	 * Default: null (no cache)
+	 */
+	private DiagnosticDataCache diagnosticDataCache;
+
+	/**
+	 * The duration in milliseconds of a validation time interval, within which a cached DiagnosticData can be reused
+	 *
+	 * Default: 3600000 (1 hour)
+	 */
+	private long diagnosticDataCacheTimeBucket = 60 * 60 * 1000L;
+
+	/**
+	 * The listener receiving the durations of the validation phases.
+	 * When not defined, the validation is not instrumented.
+	 *
+	 * Default: null (no tracing)
+	 */
+	private ValidationTraceListener validationTraceListener;
+
 	/**
 	 * Cached list of signatures extracted from the document
 	 */
@@ -456,9 +503,15 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		LOG.info("Document validation...");
 		assertConfigurationValid();
 
-		final XmlDiagnosticData diagnosticData = getDiagnosticData();
+		final long startTime = startPhase();
+		try {
+			final XmlDiagnosticData diagnosticData = diagnosticDataCache != null ? getCachedDiagnosticData() : getDiagnosticData();
+
+			return processValidationPolicy(diagnosticData, validationPolicy);
 
-		return processValidationPolicy(diagnosticData, validationPolicy);
+		} finally {
+			endPhase(ValidationPhase.DOCUMENT_VALIDATION, startTime);
+		}
 	}
 
 	/**
@@ -477,7 +530,120 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	 * @return {@link XmlDiagnosticData}
 	 */
 	public final XmlDiagnosticData getDiagnosticData() {
-		return prepareDiagnosticDataBuilder().build();
+		final DiagnosticDataBuilder diagnosticDataBuilder = prepareDiagnosticDataBuilder();
+		final long startTime = startPhase();
+		try {
+			return diagnosticDataBuilder.build();
+		} finally {
+			endPhase(ValidationPhase.DIAGNOSTIC_DATA_BUILDING, startTime);
+		}
+	}
+
+	/**
+	 * Returns the {@code XmlDiagnosticData} from the {@code diagnosticDataCache}, when present,
+	 * or computes and caches a new one otherwise.
+	 * The validation time of a cached DiagnosticData is updated to the one of the current validation.
+	 *
+	 * @return {@link XmlDiagnosticData}
+	 */
+	private XmlDiagnosticData getCachedDiagnosticData() {
+		final String key = getDiagnosticDataCacheKey();
+		XmlDiagnosticData diagnosticData = diagnosticDataCache.get(key);
+		if (diagnosticData != null) {
+			LOG.debug("The DiagnosticData has been obtained from the cache with key '{}'", key);
+			diagnosticData.setValidationDate(getValidationTime());
+			return diagnosticData;
+		}
+		diagnosticData = getDiagnosticData();
+		diagnosticDataCache.put(key, diagnosticData);
+		return diagnosticData;
+	}
+
+	/**
+	 * Computes the key identifying the validation data within the {@code DiagnosticDataCache}.
+	 * The key is computed on the digests and names of the validated document, of the detached contents and evidence
+	 * records (the names are reported within the DiagnosticData), the validation time interval, the trusted and
+	 * adjunct certificate sources (their instances and versions, e.g. changed on a trusted lists update), the configuration of the validator and of the {@code CertificateVerifier}.
+	 * The validation policy is not a part of the key, as the validation process is executed on each validation.
+	 *
+	 * @return {@link String} key
+	 */
+	protected String getDiagnosticDataCacheKey() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append(getClass().getName()).append(';');
+		appendDocument(sb, document);
+		for (DSSDocument detachedContent : detachedContents) {
+			appendDocument(sb, detachedContent);
+		}
+		sb.append(';');
+		for (DSSDocument detachedEvidenceRecord : detachedEvidenceRecordDocuments) {
+			appendDocument(sb, detachedEvidenceRecord);
+		}
+		sb.append(';').append(getValidationTime().getTime() / diagnosticDataCacheTimeBucket);
+		sb.append(';').append(validationLevel).append(';').append(tokenExtractionStrategy);
+		sb.append(';').append(tokenIdentifierProvider.getClass().getName());
+		sb.append(';').append(skipValidationContextExecution);
+		appendCertificateSources(sb, certificateVerifier.getTrustedCertSources());
+		appendCertificateSources(sb, certificateVerifier.getAdjunctCertSources());
+		if (signingCertificateSource != null) {
+			appendCertificateSources(sb, new ListCertificateSource(signingCertificateSource));
+		}
+		appendCertificateVerifierConfiguration(sb);
+		return Utils.toHex(DSSUtils.digest(DigestAlgorithm.SHA256, sb.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private void appendDocument(StringBuilder sb, DSSDocument document) {
+		sb.append(document.getName()).append(':');
+		if (document instanceof DigestDocument) {
+			Digest digest = ((DigestDocument) document).getExistingDigest();
+			sb.append(digest.getAlgorithm()).append(':').append(Utils.toBase64(digest.getValue()));
+		} else {
+			sb.append(document.getDigest(DigestAlgorithm.SHA256));
+		}
+		sb.append(',');
+	}
+
+	private void appendCertificateSources(StringBuilder sb, ListCertificateSource certificateSource) {
+		sb.append(';');
+		if (certificateSource != null) {
+			for (CertificateSource source : certificateSource.getSources()) {
+				sb.append(source.getClass().getName()).append('@').append(System.identityHashCode(source));
+				if (source instanceof CommonCertificateSource) {
+					// the version changes on any update of the source (e.g. on a trusted lists update)
+					sb.append(':').append(((CommonCertificateSource) source).getVersion());
+				} else {
+					// the source is not versioned, its content is used
+					final TreeSet<String> certificateIds = new TreeSet<>();
+					for (CertificateToken certificateToken : source.getCertificates()) {
+						certificateIds.add(certificateToken.getDSSIdAsString());
+					}
+					sb.append(':').append(certificateIds);
+				}
+				sb.append(',');
+			}
+		}
+	}
+
+	private void appendCertificateVerifierConfiguration(StringBuilder sb) {
+		sb.append(';').append(getClassName(certificateVerifier.getCrlSource()));
+		sb.append(',').append(getClassName(certificateVerifier.getOcspSource()));
+		sb.append(',').append(getClassName(certificateVerifier.getAIASource()));
+		sb.append(',').append(getClassName(certificateVerifier.getRevocationDataLoadingStrategyFactory()));
+		sb.append(',').append(getClassName(certificateVerifier.getRevocationDataVerifier()));
+		sb.append(';').append(certificateVerifier.isRevocationFallback());
+		sb.append(',').append(certificateVerifier.isCheckRevocationForUntrustedChains());
+		sb.append(',').append(certificateVerifier.isExtractPOEFromUntrustedChains());
+		sb.append(',').append(certificateVerifier.getDefaultDigestAlgorithm());
+		sb.append(';').append(getClassName(certificateVerifier.getAlertOnInvalidTimestamp()));
+		sb.append(',').append(getClassName(certificateVerifier.getAlertOnMissingRevocationData()));
+		sb.append(',').append(getClassName(certificateVerifier.getAlertOnRevokedCertificate()));
+		sb.append(',').append(getClassName(certificateVerifier.getAlertOnNoRevocationAfterBestSignatureTime()));
+		sb.append(',').append(getClassName(certificateVerifier.getAlertOnUncoveredPOE()));
+		sb.append(',').append(getClassName(certificateVerifier.getAlertOnExpiredSignature()));
+	}
+
+	private String getClassName(Object object) {
+		return object != null ? object.getClass().getName() : null;
 	}
 
 	/**
@@ -486,17 +652,36 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	 * @return {@link DiagnosticDataBuilder}
 	 */
 	protected DiagnosticDataBuilder prepareDiagnosticDataBuilder() {
-		List<AdvancedSignature> allSignatures = getAllSignatures();
-        List<TimestampToken> detachedTimestamps = getDetachedTimestamps();
-		List<EvidenceRecord> detachedEvidenceRecords = getDetachedEvidenceRecords();
+		long startTime = startPhase();
+		final List<AdvancedSignature> allSignatures;
+		final List<TimestampToken> detachedTimestamps;
+		final List<EvidenceRecord> detachedEvidenceRecords;
+		try {
+			allSignatures = getAllSignatures();
+			detachedTimestamps = getDetachedTimestamps();
+			detachedEvidenceRecords = getDetachedEvidenceRecords();
+		} finally {
+			endPhase(ValidationPhase.TOKEN_EXTRACTION, startTime);
+		}
 
 		final CertificateVerifier certificateVerifierForValidation =
 				new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopyForValidation();
-		final ValidationContext validationContext = prepareValidationContext(
-				allSignatures, detachedTimestamps, detachedEvidenceRecords, certificateVerifierForValidation);
+		final ValidationContext validationContext;
+		startTime = startPhase();
+		try {
+			validationContext = prepareValidationContext(
+					allSignatures, detachedTimestamps, detachedEvidenceRecords, certificateVerifierForValidation);
+		} finally {
+			endPhase(ValidationPhase.VALIDATION_CONTEXT_PREPARATION, startTime);
+		}
 
 		if (!skipValidationContextExecution) {
-			validateContext(validationContext);
+			startTime = startPhase();
+			try {
+				validateContext(validationContext);
+			} finally {
+				endPhase(ValidationPhase.VALIDATION_CONTEXT_EXECUTION, startTime);
+			}
 		}
 		return createDiagnosticDataBuilder(validationContext, allSignatures, detachedEvidenceRecords);
 	}
@@ -677,8 +862,24 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	 */
 	protected <T extends AdvancedSignature> void prepareSignatureValidationContext(
 			final ValidationContext validationContext, final Collection<T> allSignatures) {
-		prepareSignatureForVerification(validationContext, allSignatures);
-		processSignaturesValidation(allSignatures);
+		if (isConcurrentSignatureValidation(allSignatures) && isConcurrentTimestampValidationSupported()) {
+			// the timestamps are extracted and their message-imprints verified within the concurrent tasks,
+			// before the signatures are added to the validation context
+			processSignaturesValidationTraced(allSignatures);
+			prepareSignatureForVerification(validationContext, allSignatures);
+		} else {
+			prepareSignatureForVerification(validationContext, allSignatures);
+			processSignaturesValidationTraced(allSignatures);
+		}
+	}
+
+	private <T extends AdvancedSignature> void processSignaturesValidationTraced(final Collection<T> allSignatures) {
+		final long startTime = startPhase();
+		try {
+			processSignaturesValidation(allSignatures);
+		} finally {
+			endPhase(ValidationPhase.SIGNATURE_CRYPTOGRAPHIC_VERIFICATION, startTime);
+		}
 	}
 
 	/**
@@ -806,7 +1007,12 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		executor.setEnableEtsiValidationReport(enableEtsiValidationReport);
 		executor.setLocale(locale);
 		executor.setCurrentTime(getValidationTime());
-		return executor.execute();
+		final long startTime = startPhase();
+		try {
+			return executor.execute();
+		} finally {
+			endPhase(ValidationPhase.VALIDATION_POLICY_EXECUTION, startTime);
+		}
 	}
 
 	/**
@@ -997,11 +1203,121 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 
 	@Override
 	public <T extends AdvancedSignature> void processSignaturesValidation(Collection<T> allSignatureList) {
+		if (isConcurrentSignatureValidation(allSignatureList)) {
+			processSignaturesValidationConcurrently(allSignatureList);
+		} else {
+			for (final AdvancedSignature signature : allSignatureList) {
+				signature.checkSignatureIntegrity();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the signatures of the current document can be verified concurrently.
+	 * The concurrent verification shall be enabled only for the formats where the signatures
+	 * do not share a mutable structure during the integrity check (e.g. a common DOM tree).
+	 * When not supported, the signatures are verified sequentially even if an executor is defined.
+	 *
+	 * @return TRUE if the signatures can be verified concurrently, FALSE otherwise
+	 */
+	protected boolean isConcurrentSignatureValidationSupported() {
+		// not supported by default
+		return false;
+	}
+
+	/**
+	 * Returns whether the timestamps of a signature can be extracted and their message-imprints verified
+	 * within the concurrent task of the signature. This is applicable only when
+	 * {@code #isConcurrentSignatureValidationSupported} returns TRUE, and shall be disabled for the formats
+	 * where the timestamps are shared between the signatures (e.g. PDF document timestamps).
+	 * When not supported, the timestamps are processed sequentially on the signatures' addition
+	 * to the validation context.
+	 *
+	 * @return TRUE if the timestamps can be processed within the concurrent signature tasks, FALSE otherwise
+	 */
+	protected boolean isConcurrentTimestampValidationSupported() {
+		return isConcurrentSignatureValidationSupported();
+	}
+
+	/**
+	 * Returns the key of the group the signature belongs to. The signatures of the same group are processed
+	 * sequentially within the same concurrent task.
+	 * By default, a master signature and its counter signatures are grouped, as the counter signatures
+	 * depend on the master signature's content.
+	 *
+	 * @param signature {@link AdvancedSignature} to get the group key for
+	 * @return {@link Object} the group key
+	 */
+	protected Object getConcurrentValidationGroupKey(AdvancedSignature signature) {
+		return getRootSignature(signature);
+	}
+
+	private <T extends AdvancedSignature> boolean isConcurrentSignatureValidation(Collection<T> allSignatureList) {
+		return signatureValidationExecutor != null && allSignatureList.size() > 1 && isConcurrentSignatureValidationSupported();
+	}
+
+	/**
+	 * Verifies the signatures integrity and, when supported, their timestamps message-imprints
+	 * using the defined executor. The signatures are processed by groups
+	 * (see {@code #getConcurrentValidationGroupKey}), one task per group.
+	 *
+	 * @param <T> {@link AdvancedSignature} implementation
+	 * @param allSignatureList a collection of {@link AdvancedSignature}s to be processed
+	 */
+	private <T extends AdvancedSignature> void processSignaturesValidationConcurrently(Collection<T> allSignatureList) {
+		final Map<Object, List<AdvancedSignature>> signatureGroups = new LinkedHashMap<>();
 		for (final AdvancedSignature signature : allSignatureList) {
+			signatureGroups.computeIfAbsent(getConcurrentValidationGroupKey(signature), k -> new ArrayList<>()).add(signature);
+		}
+
+		final boolean processTimestamps = isConcurrentTimestampValidationSupported();
+		if (signatureGroups.size() == 1) {
+			// nothing to be processed concurrently
+			processSignatureGroup(signatureGroups.values().iterator().next(), processTimestamps);
+			return;
+		}
+
+		final List<Future<?>> futures = new ArrayList<>();
+		for (final List<AdvancedSignature> signatureGroup : signatureGroups.values()) {
+			futures.add(signatureValidationExecutor.submit(() -> processSignatureGroup(signatureGroup, processTimestamps)));
+		}
+
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSException("Signatures validation has been interrupted!", e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new DSSException(String.format("Unable to validate signatures. Reason : %s",
+						e.getCause().getMessage()), e.getCause());
+			}
+		}
+	}
+
+	private void processSignatureGroup(List<AdvancedSignature> signatureGroup, boolean processTimestamps) {
+		if (processTimestamps) {
+			for (final AdvancedSignature signature : signatureGroup) {
+				// extracts the timestamps and verifies their message-imprints
+				signature.getAllTimestamps();
+			}
+		}
+		for (final AdvancedSignature signature : signatureGroup) {
 			signature.checkSignatureIntegrity();
 		}
 	}
 
+	private AdvancedSignature getRootSignature(AdvancedSignature signature) {
+		AdvancedSignature rootSignature = signature;
+		while (rootSignature.getMasterSignature() != null) {
+			rootSignature = rootSignature.getMasterSignature();
+		}
+		return rootSignature;
+	}
+
 	@Deprecated
 	@Override
 	public <T extends AdvancedSignature> void findSignatureScopes(Collection<T> currentValidatorSignatures) {
@@ -1049,6 +1365,91 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		this.skipValidationContextExecution = skipValidationContextExecution;
 	}
 
+	/**
+	 * Sets the executor to be used to verify the cryptographic integrity and the timestamp message-imprints
+	 * of multiple signatures concurrently. The results are merged into the same {@code DiagnosticData}.
+	 * The executor is used only by the validators supporting the concurrent verification (CAdES, PAdES,
+	 * ASiC with CAdES and ASiC with XAdES). The signatures sharing the same DOM (e.g. XAdES signatures
+	 * within the same XML document) are always processed sequentially.
+	 * For PAdES, only the signatures integrity is verified concurrently, as the document timestamps
+	 * are shared between the signatures.
+	 * NOTE: the executor is not shut down by the validator. When not defined, the signatures are processed sequentially.
+	 *
+	 * Default: null (sequential processing)
+	 *
+	 * @param signatureValidationExecutor {@link ExecutorService}
+	 */
+	public void setSignatureValidationExecutor(ExecutorService signatureValidationExecutor) {
+		this.signatureValidationExecutor = signatureValidationExecutor;
+	}
+
+	/**
+	 * Sets the listener receiving the durations of the validation phases (token extraction, validation context
+	 * preparation and execution, cryptographic verification, DiagnosticData building, validation policy execution).
+	 * The outbound calls (AIA, CRL, OCSP, ...) can be reported to the same listener by wrapping the used data loaders
+	 * within a {@code eu.europa.esig.dss.spi.client.http.TracingDataLoader}.
+	 *
+	 * Default: null (the validation is not instrumented)
+	 *
+	 * @param validationTraceListener {@link ValidationTraceListener}
+	 */
+	public void setValidationTraceListener(ValidationTraceListener validationTraceListener) {
+		this.validationTraceListener = validationTraceListener;
+	}
+
+	/**
+	 * Returns the current time to be used as a start of a traced validation phase
+	 *
+	 * @return start time in nanoseconds, 0 when the validation is not traced
+	 */
+	protected long startPhase() {
+		return validationTraceListener != null ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Reports the completion of the validation {@code phase} to the {@code ValidationTraceListener}, when defined
+	 *
+	 * @param phase {@link ValidationPhase} the completed phase
+	 * @param startTime the value returned by {@code #startPhase()}
+	 */
+	protected void endPhase(ValidationPhase phase, long startTime) {
+		if (validationTraceListener != null) {
+			validationTraceListener.phaseCompleted(phase, System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Sets the cache of the DiagnosticData computed for the validated documents.
+	 * When the same document is validated again (with the same detached contents, trust anchors, configuration,
+	 * and within the same validation time interval), the parsing, the cryptographic verifications and the data collection
+	 * (certificate chains, revocation data) are skipped, and only the validation process is executed
+	 * against the cached DiagnosticData.
+	 * NOTE: the entries computed before a trusted lists update are not reused, as the key contains
+	 * the versions of the trusted certificate sources.
+	 *
+	 * Default: null (no cache)
+	 *
+	 * @param diagnosticDataCache {@link DiagnosticDataCache}
+	 */
+	public void setDiagnosticDataCache(DiagnosticDataCache diagnosticDataCache) {
+		this.diagnosticDataCache = diagnosticDataCache;
+	}
+
+	/**
+	 * Sets the duration in milliseconds of a validation time interval, within which a cached DiagnosticData
+	 * can be reused (see {@code #setDiagnosticDataCache})
+	 *
+	 * Default: 3600000 (1 hour)
+	 *
+	 * @param diagnosticDataCacheTimeBucket long value (milliseconds)
+	 */
+	public void setDiagnosticDataCacheTimeBucket(long diagnosticDataCacheTimeBucket) {
+		if (diagnosticDataCacheTimeBucket < 1) {
+			throw new IllegalArgumentException("The time interval shall be positive!");
+		}
+		this.diagnosticDataCacheTimeBucket = diagnosticDataCacheTimeBucket;
+	}
+
 	/**
 	 * Sets Locale for report messages generation
 	 *
@@ -0,0 +1,59 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.cache;
+
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+
+/**
+ * Stores the {@code XmlDiagnosticData} computed for a validated document, in order to skip the parsing,
+ * the cryptographic verifications and the certificate chain/revocation data collection
+ * when the same document is validated again.
+ * <p>
+ * The entries are identified by a key computed by the {@code SignedDocumentValidator}
+ * (see {@code SignedDocumentValidator#setDiagnosticDataCache}).
+ * The implementations shall be thread-safe, and shall not share the returned instances
+ * (a cached DiagnosticData is updated with the validation time of the current validation).
+ *
+ */
+public interface DiagnosticDataCache {
+
+	/**
+	 * Returns the cached DiagnosticData for the given key, when present and not expired
+	 *
+	 * @param key {@link String} identifying the validation data
+	 * @return {@link XmlDiagnosticData} if present, NULL otherwise
+	 */
+	XmlDiagnosticData get(String key);
+
+	/**
+	 * Caches the DiagnosticData for the given key
+	 *
+	 * @param key {@link String} identifying the validation data
+	 * @param diagnosticData {@link XmlDiagnosticData} to be cached
+	 */
+	void put(String key, XmlDiagnosticData diagnosticData);
+
+	/**
+	 * Removes all the cached entries
+	 */
+	void clear();
+
+}
@@ -0,0 +1,150 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.cache;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * File-based implementation of {@code DiagnosticDataCache}.
+ * <p>
+ * The DiagnosticData are stored as XML files within the defined directory,
+ * and are kept for a defined time (TTL) counted from the file modification time.
+ * The files are written to a temporary file before being renamed, so a partially written entry is never read.
+ *
+ */
+public class FileDiagnosticDataCache implements DiagnosticDataCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FileDiagnosticDataCache.class);
+
+	/**
+	 * The extension of the cached files
+	 */
+	private static final String FILE_EXTENSION = ".xml";
+
+	/**
+	 * The directory to store the cached files in
+	 */
+	private final File cacheDirectory;
+
+	/**
+	 * Time in milliseconds the entries are kept in the cache
+	 */
+	private long cacheExpirationTime = 24 * 60 * 60 * 1000L; // 1 day
+
+	/**
+	 * Default constructor
+	 *
+	 * @param cacheDirectory {@link File} the directory to store the cached files in
+	 */
+	public FileDiagnosticDataCache(final File cacheDirectory) {
+		Objects.requireNonNull(cacheDirectory, "Cache directory shall be provided!");
+		if (!cacheDirectory.exists() && !cacheDirectory.mkdirs()) {
+			throw new IllegalStateException(String.format("Unable to create the cache directory '%s'!", cacheDirectory));
+		}
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Sets the time in milliseconds the entries are kept in the cache
+	 * <p>
+	 * Default : 86400000 (1 day)
+	 *
+	 * @param cacheExpirationTime long value (milliseconds)
+	 */
+	public void setCacheExpirationTime(long cacheExpirationTime) {
+		this.cacheExpirationTime = cacheExpirationTime;
+	}
+
+	@Override
+	public XmlDiagnosticData get(String key) {
+		final File file = getFile(key);
+		if (!file.exists()) {
+			return null;
+		}
+		if (System.currentTimeMillis() - file.lastModified() > cacheExpirationTime) {
+			LOG.debug("The cached DiagnosticData '{}' is expired.", file.getName());
+			delete(file);
+			return null;
+		}
+		try {
+			return DiagnosticDataFacade.newFacade().unmarshall(file, false);
+		} catch (Exception e) {
+			LOG.warn("Unable to read the cached DiagnosticData '{}' : {}", file.getName(), e.getMessage());
+			delete(file);
+			return null;
+		}
+	}
+
+	@Override
+	public void put(String key, XmlDiagnosticData diagnosticData) {
+		Objects.requireNonNull(diagnosticData, "DiagnosticData shall be provided!");
+		final File file = getFile(key);
+		File tempFile = null;
+		try {
+			tempFile = File.createTempFile("dss-dd-", ".tmp", cacheDirectory);
+			try (OutputStream os = new FileOutputStream(tempFile)) {
+				DiagnosticDataFacade.newFacade().marshall(diagnosticData, os, false);
+			}
+			if (file.exists()) {
+				delete(file);
+			}
+			if (!tempFile.renameTo(file)) {
+				LOG.warn("Unable to store the cached DiagnosticData '{}'", file.getName());
+			}
+		} catch (Exception e) {
+			LOG.warn("Unable to cache the DiagnosticData '{}' : {}", file.getName(), e.getMessage());
+		} finally {
+			if (tempFile != null && tempFile.exists()) {
+				delete(tempFile);
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		File[] files = cacheDirectory.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+		if (files != null) {
+			for (File file : files) {
+				delete(file);
+			}
+		}
+	}
+
+	private File getFile(String key) {
+		Objects.requireNonNull(key, "Key shall be provided!");
+		return new File(cacheDirectory, key.replaceAll("[^A-Za-z0-9_-]", "_") + FILE_EXTENSION);
+	}
+
+	private void delete(File file) {
+		if (!file.delete()) {
+			LOG.debug("Unable to remove the file '{}'", file.getName());
+		}
+	}
+
+}
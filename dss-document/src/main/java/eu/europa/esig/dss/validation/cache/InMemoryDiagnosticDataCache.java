@@ -0,0 +1,184 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.cache;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Thread-safe bounded in-memory implementation of {@code DiagnosticDataCache}.
+ * <p>
+ * The entries are kept for a defined time (TTL), and the least recently used entries are removed
+ * when the maximum size is reached.
+ * The DiagnosticData are stored in their marshalled form, thus a new instance is returned on each {@code get}
+ * and the cached data cannot be altered by the caller.
+ *
+ */
+public class InMemoryDiagnosticDataCache implements DiagnosticDataCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(InMemoryDiagnosticDataCache.class);
+
+	/**
+	 * The default maximum number of entries
+	 */
+	private static final int DEFAULT_MAX_SIZE = 100;
+
+	/**
+	 * Time in milliseconds the entries are kept in the cache
+	 */
+	private long cacheExpirationTime = 60 * 60 * 1000L; // 1 hour
+
+	/**
+	 * The cached entries
+	 */
+	private final Map<String, CacheEntry> diagnosticDataMap;
+
+	/**
+	 * Default constructor creating a cache with a maximum size of 100 entries
+	 */
+	public InMemoryDiagnosticDataCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor with a defined maximum number of entries
+	 *
+	 * @param maxSize maximum number of DiagnosticData to keep
+	 */
+	public InMemoryDiagnosticDataCache(final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The maximum size of the cache shall be positive!");
+		}
+		this.diagnosticDataMap = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 2981553260823604785L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+				return size() > maxSize;
+			}
+
+		};
+	}
+
+	/**
+	 * Sets the time in milliseconds the entries are kept in the cache
+	 * <p>
+	 * Default : 3600000 (1 hour)
+	 *
+	 * @param cacheExpirationTime long value (milliseconds)
+	 */
+	public void setCacheExpirationTime(long cacheExpirationTime) {
+		this.cacheExpirationTime = cacheExpirationTime;
+	}
+
+	@Override
+	public XmlDiagnosticData get(String key) {
+		Objects.requireNonNull(key, "Key shall be provided!");
+		final byte[] diagnosticDataBinaries;
+		synchronized (diagnosticDataMap) {
+			CacheEntry cacheEntry = diagnosticDataMap.get(key);
+			if (cacheEntry == null) {
+				return null;
+			}
+			if (System.currentTimeMillis() - cacheEntry.creationTime > cacheExpirationTime) {
+				diagnosticDataMap.remove(key);
+				return null;
+			}
+			diagnosticDataBinaries = cacheEntry.diagnosticDataBinaries;
+		}
+		try {
+			return DiagnosticDataFacade.newFacade().unmarshall(new ByteArrayInputStream(diagnosticDataBinaries), false);
+		} catch (Exception e) {
+			LOG.warn("Unable to read the cached DiagnosticData '{}' : {}", key, e.getMessage());
+			synchronized (diagnosticDataMap) {
+				diagnosticDataMap.remove(key);
+			}
+			return null;
+		}
+	}
+
+	@Override
+	public void put(String key, XmlDiagnosticData diagnosticData) {
+		Objects.requireNonNull(key, "Key shall be provided!");
+		Objects.requireNonNull(diagnosticData, "DiagnosticData shall be provided!");
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try {
+			DiagnosticDataFacade.newFacade().marshall(diagnosticData, baos, false);
+		} catch (Exception e) {
+			LOG.warn("Unable to cache the DiagnosticData '{}' : {}", key, e.getMessage());
+			return;
+		}
+		synchronized (diagnosticDataMap) {
+			diagnosticDataMap.put(key, new CacheEntry(baos.toByteArray()));
+		}
+	}
+
+	@Override
+	public void clear() {
+		synchronized (diagnosticDataMap) {
+			diagnosticDataMap.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached entries
+	 *
+	 * @return number of cached entries
+	 */
+	public int size() {
+		synchronized (diagnosticDataMap) {
+			return diagnosticDataMap.size();
+		}
+	}
+
+	/**
+	 * Contains the marshalled DiagnosticData and its creation time
+	 */
+	private static class CacheEntry {
+
+		/** The marshalled DiagnosticData */
+		private final byte[] diagnosticDataBinaries;
+
+		/** Time of the entry creation */
+		private final long creationTime;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param diagnosticDataBinaries byte array of the marshalled DiagnosticData
+		 */
+		private CacheEntry(final byte[] diagnosticDataBinaries) {
+			this.diagnosticDataBinaries = diagnosticDataBinaries;
+			this.creationTime = System.currentTimeMillis();
+		}
+
+	}
+
+}
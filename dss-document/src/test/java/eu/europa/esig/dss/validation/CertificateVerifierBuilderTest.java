@@ -26,6 +26,7 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.x509.CertificateIssuerCache;
 import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.DefaultAIASource;
@@ -50,6 +51,7 @@ public class CertificateVerifierBuilderTest {
         CertificateVerifier copy = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
         assertEquals(certificateVerifier.getDefaultDigestAlgorithm(), copy.getDefaultDigestAlgorithm());
         assertEquals(certificateVerifier.getAIASource(), copy.getAIASource());
+        assertEquals(certificateVerifier.getCertificateIssuerCache(), copy.getCertificateIssuerCache());
         assertEquals(certificateVerifier.getCrlSource(), copy.getCrlSource());
         assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
         assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
@@ -84,6 +86,7 @@ public class CertificateVerifierBuilderTest {
         assertEquals(certificateVerifier.isExtractPOEFromUntrustedChains(), copy.isExtractPOEFromUntrustedChains());
         assertEquals(certificateVerifier.getAdjunctCertSources(), copy.getAdjunctCertSources());
         assertEquals(certificateVerifier.getTrustedCertSources(), copy.getTrustedCertSources());
+        assertEquals(certificateVerifier.getCertificateIssuerCache(), copy.getCertificateIssuerCache());
         assertNull(copy.getAIASource());
         assertNull(copy.getCrlSource());
         assertNull(copy.getOcspSource());
@@ -106,6 +109,7 @@ public class CertificateVerifierBuilderTest {
         CertificateVerifier copy = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopyForValidation();
         assertEquals(certificateVerifier.getDefaultDigestAlgorithm(), copy.getDefaultDigestAlgorithm());
         assertEquals(certificateVerifier.getAIASource(), copy.getAIASource());
+        assertEquals(certificateVerifier.getCertificateIssuerCache(), copy.getCertificateIssuerCache());
         assertEquals(certificateVerifier.getCrlSource(), copy.getCrlSource());
         assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
         assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
@@ -127,6 +131,7 @@ public class CertificateVerifierBuilderTest {
         CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
         certificateVerifier.setDefaultDigestAlgorithm(DigestAlgorithm.SHA512);
         certificateVerifier.setAIASource(new DefaultAIASource());
+        certificateVerifier.setCertificateIssuerCache(new CertificateIssuerCache());
         certificateVerifier.setCrlSource(new OfflineCRLSource() {
             private static final long serialVersionUID = 2488777601664014631L;
             @Override
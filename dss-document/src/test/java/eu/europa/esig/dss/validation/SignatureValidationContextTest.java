@@ -22,12 +22,17 @@ package eu.europa.esig.dss.validation;
 
 import eu.europa.esig.dss.enumerations.TimestampType;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
 import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.CertificateIssuerCache;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.spi.x509.aia.AIASource;
 import eu.europa.esig.dss.spi.x509.aia.DefaultAIASource;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
@@ -35,14 +40,20 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SignatureValidationContextTest {
 
@@ -249,6 +260,295 @@ public class SignatureValidationContextTest {
 		assertNull(certToken.getPublicKeyOfTheSigner());
 	}
 
+	@Test
+	public void certificateIssuerCacheTest() {
+		CertificateToken rootCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/belgiumrca2-self-sign.crt"));
+		CountingTrustedCertificateSource trustedCertificateSource = new CountingTrustedCertificateSource();
+		trustedCertificateSource.addCertificate(rootCA);
+
+		CertificateIssuerCache certificateIssuerCache = new CertificateIssuerCache();
+
+		CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setAIASource(null);
+		certificateVerifier.setTrustedCertSources(trustedCertificateSource);
+		certificateVerifier.setCertificateIssuerCache(certificateIssuerCache);
+
+		CertificateToken intermediateCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/citizen_ca.cer"));
+		SignatureValidationContext svc = new SignatureValidationContext();
+		svc.initialize(certificateVerifier);
+		svc.addCertificateTokenForVerification(intermediateCA);
+		svc.validate();
+
+		assertEquals(rootCA.getPublicKey(), intermediateCA.getPublicKeyOfTheSigner());
+		assertEquals(2, svc.getProcessedCertificates().size());
+		assertEquals(1, certificateIssuerCache.size());
+		int lookupCounter = trustedCertificateSource.lookupCounter;
+		assertTrue(lookupCounter > 0);
+
+		// new instance of the same certificate, the issuer chain is obtained from the cache
+		trustedCertificateSource.lookupCounter = 0;
+		CertificateToken intermediateCACopy = DSSUtils.loadCertificate(new File("src/test/resources/certificates/citizen_ca.cer"));
+		svc = new SignatureValidationContext();
+		svc.initialize(certificateVerifier);
+		svc.addCertificateTokenForVerification(intermediateCACopy);
+		svc.validate();
+
+		assertEquals(rootCA.getPublicKey(), intermediateCACopy.getPublicKeyOfTheSigner());
+		assertEquals(2, svc.getProcessedCertificates().size());
+		assertTrue(trustedCertificateSource.lookupCounter < lookupCounter);
+		assertEquals(1, certificateIssuerCache.size());
+	}
+
+	@Test
+	public void certificateIssuerCacheAIASourcesTest() {
+		CertificateToken rootCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/belgiumrca2-self-sign.crt"));
+		CertificateToken otherCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ_CA.cer"));
+		StaticAIASource aiaSource = new StaticAIASource(rootCA, otherCA);
+
+		CertificateIssuerCache certificateIssuerCache = new CertificateIssuerCache();
+
+		CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setAIASource(aiaSource);
+		certificateVerifier.setCertificateIssuerCache(certificateIssuerCache);
+
+		CertificateToken intermediateCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/citizen_ca.cer"));
+		SignatureValidationContext svc = new SignatureValidationContext();
+		svc.initialize(certificateVerifier);
+		svc.addCertificateTokenForVerification(intermediateCA);
+		svc.validate();
+
+		assertEquals(1, aiaSource.requestCounter);
+		assertEquals(rootCA.getPublicKey(), intermediateCA.getPublicKeyOfTheSigner());
+		assertEquals(1, certificateIssuerCache.size());
+		Set<CertificateToken> processedCertificates = svc.getProcessedCertificates();
+		List<CertificateSource> aiaCertificateSources = getAIACertificateSources(svc);
+		assertEquals(1, aiaCertificateSources.size());
+		assertEquals(2, aiaCertificateSources.get(0).getCertificates().size());
+
+		// the issuer chain and all the certificates obtained by AIA are restored from the cache
+		CertificateToken intermediateCACopy = DSSUtils.loadCertificate(new File("src/test/resources/certificates/citizen_ca.cer"));
+		svc = new SignatureValidationContext();
+		svc.initialize(certificateVerifier);
+		svc.addCertificateTokenForVerification(intermediateCACopy);
+		svc.validate();
+
+		assertEquals(1, aiaSource.requestCounter);
+		assertEquals(rootCA.getPublicKey(), intermediateCACopy.getPublicKeyOfTheSigner());
+		assertEquals(processedCertificates, svc.getProcessedCertificates());
+		assertEquals(aiaCertificateSources, getAIACertificateSources(svc));
+		assertTrue(svc.getAllCertificateSources().isKnown(otherCA));
+	}
+
+	@Test
+	public void certificateIssuerCacheNotUsedForLocalIssuerTest() {
+		CertificateToken rootCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/belgiumrca2-self-sign.crt"));
+		StaticAIASource aiaSource = new StaticAIASource(rootCA);
+
+		CertificateIssuerCache certificateIssuerCache = new CertificateIssuerCache();
+
+		CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setAIASource(aiaSource);
+		certificateVerifier.setCertificateIssuerCache(certificateIssuerCache);
+
+		SignatureValidationContext svc = new SignatureValidationContext();
+		svc.initialize(certificateVerifier);
+		svc.addCertificateTokenForVerification(DSSUtils.loadCertificate(new File("src/test/resources/certificates/citizen_ca.cer")));
+		svc.validate();
+
+		assertEquals(1, aiaSource.requestCounter);
+		assertEquals(1, certificateIssuerCache.size());
+
+		// the issuer is present within the document, the cached chain is not used
+		CountingCertificateSource documentCertificateSource = new CountingCertificateSource();
+		documentCertificateSource.addCertificate(DSSUtils.loadCertificate(new File("src/test/resources/certificates/belgiumrca2-self-sign.crt")));
+
+		CertificateToken intermediateCACopy = DSSUtils.loadCertificate(new File("src/test/resources/certificates/citizen_ca.cer"));
+		svc = new SignatureValidationContext();
+		svc.initialize(certificateVerifier);
+		svc.addCertificateTokenForVerification(intermediateCACopy);
+		svc.addDocumentCertificateSource(documentCertificateSource);
+		svc.validate();
+
+		assertEquals(1, aiaSource.requestCounter);
+		assertTrue(documentCertificateSource.lookupCounter > 0);
+		assertEquals(rootCA.getPublicKey(), intermediateCACopy.getPublicKeyOfTheSigner());
+		assertEquals(2, svc.getProcessedCertificates().size());
+		assertTrue(getAIACertificateSources(svc).isEmpty());
+	}
+
+	@Test
+	public void certificateIssuerCacheNotUsedForEndEntityTest() {
+		Map<String, byte[]> dataMap = new HashMap<>();
+		dataMap.put("http://q.ica.cz/ca_nbusr09.p7c", DSSUtils.toByteArray(new File("src/test/resources/certificates/CZ_CA.cer")));
+		MockAIASource aiaSource = new MockAIASource(new MemoryDataLoader(dataMap));
+
+		CertificateIssuerCache certificateIssuerCache = new CertificateIssuerCache();
+
+		CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setAIASource(aiaSource);
+		certificateVerifier.setCertificateIssuerCache(certificateIssuerCache);
+
+		for (int i = 1; i < 3; i++) {
+			CertificateToken certToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(certToken);
+			svc.validate();
+
+			// only the chains of the issuing certificates are cached
+			assertEquals(i, aiaSource.requestCounter);
+			assertNotNull(certToken.getPublicKeyOfTheSigner());
+			assertEquals(0, certificateIssuerCache.size());
+		}
+	}
+
+	@Test
+	public void certificateIssuerCacheInvalidationTest() {
+		CertificateToken rootCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/belgiumrca2-self-sign.crt"));
+		CertificateToken otherCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ_CA.cer"));
+		StaticAIASource aiaSource = new StaticAIASource(rootCA);
+
+		TrustedListsCertificateSource trustedCertificateSource = new TrustedListsCertificateSource();
+
+		CertificateIssuerCache certificateIssuerCache = new CertificateIssuerCache();
+
+		CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setAIASource(aiaSource);
+		certificateVerifier.setTrustedCertSources(trustedCertificateSource);
+		certificateVerifier.setCertificateIssuerCache(certificateIssuerCache);
+
+		validateIntermediateCA(certificateVerifier);
+		assertEquals(1, aiaSource.requestCounter);
+		assertEquals(1, certificateIssuerCache.size());
+
+		// the adjunct sources do not invalidate the cached chains
+		CommonCertificateSource adjunctCertificateSource = new CommonCertificateSource();
+		adjunctCertificateSource.addCertificate(otherCA);
+		certificateVerifier.setAdjunctCertSources(adjunctCertificateSource);
+
+		validateIntermediateCA(certificateVerifier);
+		assertEquals(1, aiaSource.requestCounter);
+
+		adjunctCertificateSource.addCertificate(DSSUtils.loadCertificate(new File("src/test/resources/certificates/peru_CA.cer")));
+		validateIntermediateCA(certificateVerifier);
+		assertEquals(1, aiaSource.requestCounter);
+
+		// the trusted lists are refreshed, the cached chain is not used anymore
+		trustedCertificateSource.setTrustPropertiesByCertificates(Collections.singletonMap(otherCA, Collections.emptyList()));
+
+		CertificateToken intermediateCA = validateIntermediateCA(certificateVerifier);
+		assertEquals(2, aiaSource.requestCounter);
+		assertEquals(1, certificateIssuerCache.size());
+		assertNotNull(certificateIssuerCache.getIssuerChain(intermediateCA, certificateVerifier.getTrustedCertSources()));
+
+		validateIntermediateCA(certificateVerifier);
+		assertEquals(2, aiaSource.requestCounter);
+
+		// the trusted source is replaced
+		certificateVerifier.setTrustedCertSources(new CommonTrustedCertificateSource());
+		assertNull(certificateIssuerCache.getIssuerChain(intermediateCA, certificateVerifier.getTrustedCertSources()));
+
+		validateIntermediateCA(certificateVerifier);
+		assertEquals(3, aiaSource.requestCounter);
+		assertEquals(1, certificateIssuerCache.size());
+	}
+
+	@Test
+	public void certificateIssuerCacheExpirationTest() {
+		CertificateToken rootCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/belgiumrca2-self-sign.crt"));
+		StaticAIASource aiaSource = new StaticAIASource(rootCA);
+
+		CertificateIssuerCache certificateIssuerCache = new CertificateIssuerCache();
+		certificateIssuerCache.setCacheExpirationTime(0);
+
+		CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setAIASource(aiaSource);
+		certificateVerifier.setCertificateIssuerCache(certificateIssuerCache);
+
+		for (int i = 1; i < 3; i++) {
+			CertificateToken intermediateCA = validateIntermediateCA(certificateVerifier);
+
+			// the cached chain is expired, the AIA is requested again
+			assertEquals(i, aiaSource.requestCounter);
+			assertEquals(rootCA.getPublicKey(), intermediateCA.getPublicKeyOfTheSigner());
+			assertNull(certificateIssuerCache.getIssuerChain(intermediateCA, certificateVerifier.getTrustedCertSources()));
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> certificateIssuerCache.setCacheExpirationTime(-1));
+		assertThrows(IllegalArgumentException.class, () -> new CertificateIssuerCache(0));
+	}
+
+	private CertificateToken validateIntermediateCA(CertificateVerifier certificateVerifier) {
+		CertificateToken intermediateCA = DSSUtils.loadCertificate(new File("src/test/resources/certificates/citizen_ca.cer"));
+		SignatureValidationContext svc = new SignatureValidationContext();
+		svc.initialize(certificateVerifier);
+		svc.addCertificateTokenForVerification(intermediateCA);
+		svc.validate();
+		assertNotNull(intermediateCA.getPublicKeyOfTheSigner());
+		return intermediateCA;
+	}
+
+	private List<CertificateSource> getAIACertificateSources(SignatureValidationContext svc) {
+		return svc.getAllCertificateSources().getSources().stream()
+				.filter(s -> s instanceof AIACertificateSource).collect(Collectors.toList());
+	}
+
+	private static class CountingCertificateSource extends CommonCertificateSource {
+
+		private static final long serialVersionUID = 2071538412986412085L;
+		private int lookupCounter = 0;
+
+		@Override
+		public Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
+			++lookupCounter;
+			return super.getBySubject(subject);
+		}
+
+		@Override
+		public Set<CertificateToken> getByPublicKey(PublicKey publicKey) {
+			++lookupCounter;
+			return super.getByPublicKey(publicKey);
+		}
+
+	}
+
+	private static class CountingTrustedCertificateSource extends CommonTrustedCertificateSource {
+
+		private static final long serialVersionUID = -2954783652930614731L;
+		private int lookupCounter = 0;
+
+		@Override
+		public Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
+			++lookupCounter;
+			return super.getBySubject(subject);
+		}
+
+		@Override
+		public Set<CertificateToken> getByPublicKey(PublicKey publicKey) {
+			++lookupCounter;
+			return super.getByPublicKey(publicKey);
+		}
+
+	}
+
+	private static class StaticAIASource implements AIASource {
+
+		private static final long serialVersionUID = 3710853962046583029L;
+		private final Set<CertificateToken> certificates;
+		private int requestCounter = 0;
+
+		public StaticAIASource(CertificateToken... certificates) {
+			this.certificates = new HashSet<>(Arrays.asList(certificates));
+		}
+
+		@Override
+		public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken) {
+			++requestCounter;
+			return certificates;
+		}
+
+	}
+
 	private static class MockAIASource extends DefaultAIASource {
 
 		private static final long serialVersionUID = -5890796098843749473L;
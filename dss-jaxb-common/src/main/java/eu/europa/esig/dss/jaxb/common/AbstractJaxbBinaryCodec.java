@@ -0,0 +1,206 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Generic codec which encodes a JAXB object into a compact binary representation, as an alternative to
+ * the XML marshalling of {@code AbstractJaxbFacade}.
+ *
+ * The encoding is lossless for the JAXB object model : the decoded object is marshalled to the same XML as
+ * the original one. The binary representation contains :
+ * <ul>
+ *     <li>a header with a fingerprint of the JAXB object model, a model change invalidates the binaries;</li>
+ *     <li>a table of the distinct strings (identifiers, names, etc.);</li>
+ *     <li>the values of the fields, each complex object being prefixed by its length.</li>
+ * </ul>
+ * The length prefixes allow a partial decoding (see {@code #decode(byte[], String...)}), where the non-selected
+ * properties are skipped without being decoded.
+ *
+ * NOTE: the binaries are intended to be decoded with the same version of DSS.
+ *
+ * @param <T> A JAXB Object
+ */
+public abstract class AbstractJaxbBinaryCodec<T> {
+
+	/** The magic bytes starting the binary representation */
+	private static final byte[] MAGIC = new byte[] { 'D', 'S', 'S', 'B' };
+
+	/** The version of the binary format */
+	private static final byte FORMAT_VERSION = 1;
+
+	/** The size of the header (magic, format version and model fingerprint) */
+	private static final int HEADER_SIZE = MAGIC.length + 1 + 8;
+
+	/** The root JAXB class */
+	private final Class<T> jaxbClass;
+
+	/** The fingerprint of the JAXB object model */
+	private final byte[] fingerprint;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param jaxbClass the root JAXB class
+	 */
+	protected AbstractJaxbBinaryCodec(Class<T> jaxbClass) {
+		Objects.requireNonNull(jaxbClass, "JAXB class cannot be null!");
+		this.jaxbClass = jaxbClass;
+		this.fingerprint = computeFingerprint(jaxbClass);
+	}
+
+	/**
+	 * Encodes the JAXB object
+	 *
+	 * @param jaxbObject the JAXB object to encode
+	 * @return binary representation
+	 * @throws IOException if an exception occurs on encoding
+	 */
+	public byte[] encode(T jaxbObject) throws IOException {
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			encode(jaxbObject, baos);
+			return baos.toByteArray();
+		}
+	}
+
+	/**
+	 * Encodes the JAXB object into the {@link OutputStream}
+	 *
+	 * @param jaxbObject the JAXB object to encode
+	 * @param os the {@link OutputStream} where the binaries will be written
+	 * @throws IOException if an exception occurs on encoding
+	 */
+	public void encode(T jaxbObject, OutputStream os) throws IOException {
+		Objects.requireNonNull(jaxbObject, "JAXBObject is null");
+		Objects.requireNonNull(os, "OutputStream is null");
+
+		final BinaryEncoder encoder = new BinaryEncoder();
+		encoder.encodeRoot(jaxbObject, jaxbClass);
+
+		os.write(MAGIC);
+		os.write(FORMAT_VERSION);
+		os.write(fingerprint);
+		encoder.writeTo(os);
+	}
+
+	/**
+	 * Decodes the JAXB object from the {@link InputStream}
+	 *
+	 * @param is the {@link InputStream} which contains the binary representation
+	 * @return the decoded JAXB object
+	 * @throws IOException if the binaries cannot be decoded
+	 */
+	public T decode(InputStream is) throws IOException {
+		Objects.requireNonNull(is, "InputStream is null");
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			byte[] buffer = new byte[8192];
+			int count;
+			while ((count = is.read(buffer)) != -1) {
+				baos.write(buffer, 0, count);
+			}
+			return decode(baos.toByteArray());
+		}
+	}
+
+	/**
+	 * Decodes the JAXB object
+	 *
+	 * @param binaries the binary representation
+	 * @return the decoded JAXB object
+	 * @throws IOException if the binaries cannot be decoded
+	 */
+	public T decode(byte[] binaries) throws IOException {
+		return decode(binaries, (String[]) null);
+	}
+
+	/**
+	 * Decodes only the selected properties of the JAXB object, the other properties are skipped and remain empty.
+	 *
+	 * A property is defined by the path of the Java field names from the root object, separated by a '/'.
+	 * The path applies to all the elements of a list and the whole value of the last property is decoded.
+	 * E.g. {@code decode(binaries, "signatureOrTimestampOrEvidenceRecord/id", "signatureOrTimestampOrEvidenceRecord/indication")}
+	 * decodes only the identifiers and indications of the tokens of a simple report.
+	 *
+	 * NOTE: a reference (XmlIDREF) to an object which has not been decoded is set to null.
+	 *
+	 * @param binaries the binary representation
+	 * @param properties the paths of the properties to decode, all the properties are decoded if empty
+	 * @return the partially decoded JAXB object
+	 * @throws IOException if the binaries cannot be decoded
+	 */
+	public T decode(byte[] binaries, String... properties) throws IOException {
+		Objects.requireNonNull(binaries, "Binaries are null");
+		assertHeaderValid(binaries);
+		return new BinaryDecoder(binaries, HEADER_SIZE).decodeRoot(jaxbClass, BinaryDecodingFilter.fromPaths(properties));
+	}
+
+	/**
+	 * Checks whether the binaries start with the header of the binary representation
+	 *
+	 * @param binaries to check
+	 * @return TRUE if the binaries start with the binary representation header, FALSE otherwise
+	 */
+	public static boolean isBinaryEncoded(byte[] binaries) {
+		return binaries != null && binaries.length >= HEADER_SIZE
+				&& Arrays.equals(MAGIC, Arrays.copyOf(binaries, MAGIC.length));
+	}
+
+	private void assertHeaderValid(byte[] binaries) throws IOException {
+		if (!isBinaryEncoded(binaries)) {
+			throw new IOException("The binaries do not contain a binary encoded JAXB object!");
+		}
+		if (binaries[MAGIC.length] != FORMAT_VERSION) {
+			throw new IOException(String.format("The binary format version '%s' is not supported!", binaries[MAGIC.length]));
+		}
+		byte[] binariesFingerprint = Arrays.copyOfRange(binaries, MAGIC.length + 1, HEADER_SIZE);
+		if (!Arrays.equals(fingerprint, binariesFingerprint)) {
+			throw new IOException(String.format("The binaries have not been produced for the current '%s' model!",
+					jaxbClass.getSimpleName()));
+		}
+	}
+
+	private static byte[] computeFingerprint(Class<?> jaxbClass) {
+		final StringBuilder sb = new StringBuilder();
+		for (BinaryClassDescriptor descriptor : BinaryClassDescriptor.getDescriptor(jaxbClass).getReachableDescriptors()) {
+			sb.append(descriptor.getJaxbClass().getName()).append('{');
+			for (BinaryFieldDescriptor field : descriptor.getFields()) {
+				sb.append(field).append(';');
+			}
+			sb.append('}');
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+			return Arrays.copyOf(digest, 8);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(String.format("Unable to compute the model fingerprint : %s", e.getMessage()), e);
+		}
+	}
+
+}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.jaxb.common;
 
+import eu.europa.esig.dss.xml.common.XmlDefinerUtils;
 import org.xml.sax.SAXException;
 
 import jakarta.xml.bind.JAXBContext;
@@ -27,12 +28,15 @@ import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.util.JAXBSource;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -181,6 +185,63 @@ public abstract class AbstractJaxbFacade<T> {
 		marshaller.marshal(wrap(jaxbObject), os);
 	}
 
+	/**
+	 * This method marshalls the jaxbObject into the {@link XMLStreamWriter} with an
+	 * optional validation.
+	 *
+	 * The events are pushed to the writer while the object graph is traversed, so no
+	 * intermediate representation of the whole document is created.
+	 *
+	 * @param jaxbObject
+	 *                   the jaxb object to be marshalled
+	 * @param writer
+	 *                   the {@link XMLStreamWriter} where the object will be
+	 *                   marshalled
+	 * @param validate
+	 *                   enable/disable the validation against the related XSD
+	 * @throws JAXBException
+	 *                       if an exception occurred with the {@link JAXBContext}
+	 * @throws IOException
+	 *                       if an exception occurred with the I/O.
+	 * @throws SAXException
+	 *                       if an exception occurred with the {@link Schema}
+	 */
+	public void marshall(T jaxbObject, XMLStreamWriter writer, boolean validate) throws JAXBException, SAXException, IOException {
+		Objects.requireNonNull(jaxbObject, "JAXBObject is null");
+		Objects.requireNonNull(writer, "XMLStreamWriter is null");
+
+		Marshaller marshaller = getMarshaller(validate);
+
+		marshaller.marshal(wrap(jaxbObject), writer);
+	}
+
+	/**
+	 * This method validates the jaxbObject against its related XSD.
+	 *
+	 * The object is provided to the schema validator as a stream of SAX events,
+	 * without being serialized nor loaded into a DOM.
+	 *
+	 * @param jaxbObject
+	 *                   the jaxb object to be validated
+	 * @throws JAXBException
+	 *                       if an exception occurred with the {@link JAXBContext}
+	 * @throws IOException
+	 *                       if an exception occurred with the I/O.
+	 * @throws SAXException
+	 *                       if the object is not valid against the {@link Schema}
+	 */
+	public void validate(T jaxbObject) throws JAXBException, IOException, SAXException {
+		Objects.requireNonNull(jaxbObject, "JAXBObject is null");
+
+		Validator validator = getSchema().newValidator();
+		try {
+			XmlDefinerUtils.getInstance().configure(validator);
+			validator.validate(new JAXBSource(getJAXBContext(), wrap(jaxbObject)));
+		} finally {
+			XmlDefinerUtils.getInstance().postProcess(validator);
+		}
+	}
+
 	/**
 	 * This method unmarshalls the {@link InputStream} and returns an instance of
 	 * the JAXB Object.
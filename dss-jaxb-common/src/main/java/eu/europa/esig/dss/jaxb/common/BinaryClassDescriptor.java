@@ -0,0 +1,306 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.common;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElements;
+import jakarta.xml.bind.annotation.XmlID;
+import jakarta.xml.bind.annotation.XmlIDREF;
+import jakarta.xml.bind.annotation.XmlSeeAlso;
+import jakarta.xml.bind.annotation.XmlTransient;
+import jakarta.xml.bind.annotation.XmlType;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Describes the fields of a JAXB class, in the order of their binary encoding.
+ *
+ * The fields of the super classes are encoded first, the fields of a same class are sorted by name.
+ *
+ */
+final class BinaryClassDescriptor {
+
+	/** Cache of the descriptors, the structure of the generated classes does not change at runtime */
+	private static final Map<Class<?>, BinaryClassDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+
+	/** The described class */
+	private final Class<?> jaxbClass;
+
+	/** The no-argument constructor, null for an abstract class */
+	private final Constructor<?> constructor;
+
+	/** The encoded fields */
+	private final List<BinaryFieldDescriptor> fields;
+
+	/** The field annotated with {@code XmlID}, when present */
+	private final BinaryFieldDescriptor idField;
+
+	/**
+	 * The constructor
+	 *
+	 * @param jaxbClass the JAXB class to describe
+	 */
+	private BinaryClassDescriptor(Class<?> jaxbClass) {
+		this.jaxbClass = jaxbClass;
+		this.constructor = getConstructor(jaxbClass);
+
+		final List<BinaryFieldDescriptor> fieldDescriptors = new ArrayList<>();
+		BinaryFieldDescriptor idFieldDescriptor = null;
+		for (Class<?> currentClass : getClassHierarchy(jaxbClass)) {
+			final List<Field> declaredFields = new ArrayList<>();
+			for (Field field : currentClass.getDeclaredFields()) {
+				if (isEncoded(field)) {
+					declaredFields.add(field);
+				}
+			}
+			declaredFields.sort(Comparator.comparing(Field::getName));
+			for (Field field : declaredFields) {
+				field.setAccessible(true);
+				BinaryFieldDescriptor fieldDescriptor = createFieldDescriptor(field);
+				if (field.isAnnotationPresent(XmlID.class)) {
+					idFieldDescriptor = fieldDescriptor;
+				}
+				fieldDescriptors.add(fieldDescriptor);
+			}
+		}
+		this.fields = Collections.unmodifiableList(fieldDescriptors);
+		this.idField = idFieldDescriptor;
+	}
+
+	/**
+	 * Returns a descriptor for the given JAXB class
+	 *
+	 * @param jaxbClass the JAXB class
+	 * @return {@link BinaryClassDescriptor}
+	 */
+	static BinaryClassDescriptor getDescriptor(Class<?> jaxbClass) {
+		return DESCRIPTORS.computeIfAbsent(jaxbClass, BinaryClassDescriptor::new);
+	}
+
+	/**
+	 * Checks whether the class is a JAXB complex type supported by the binary encoding
+	 *
+	 * @param clazz {@link Class} to check
+	 * @return TRUE if the class is a JAXB complex type, FALSE otherwise
+	 */
+	static boolean isComplexType(Class<?> clazz) {
+		return clazz.isAnnotationPresent(XmlType.class) && !clazz.isEnum();
+	}
+
+	/**
+	 * Gets the described class
+	 *
+	 * @return {@link Class}
+	 */
+	Class<?> getJaxbClass() {
+		return jaxbClass;
+	}
+
+	/**
+	 * Gets the encoded fields
+	 *
+	 * @return a list of {@link BinaryFieldDescriptor}s
+	 */
+	List<BinaryFieldDescriptor> getFields() {
+		return fields;
+	}
+
+	/**
+	 * Gets the field annotated with {@code XmlID}
+	 *
+	 * @return {@link BinaryFieldDescriptor}, null if not present
+	 */
+	BinaryFieldDescriptor getIdField() {
+		return idField;
+	}
+
+	/**
+	 * Creates a new empty instance of the described class
+	 *
+	 * @return new instance
+	 */
+	Object newInstance() {
+		if (constructor == null) {
+			throw new IllegalStateException(String.format("The class '%s' cannot be instantiated!", jaxbClass.getName()));
+		}
+		try {
+			return constructor.newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(String.format("Unable to instantiate the class '%s' : %s",
+					jaxbClass.getName(), e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Returns the classes which can be reached from the described class
+	 * (field types, types declared within {@code XmlElements} and {@code XmlSeeAlso} annotations), including itself
+	 *
+	 * @return a collection of {@link BinaryClassDescriptor}s
+	 */
+	Collection<BinaryClassDescriptor> getReachableDescriptors() {
+		final Set<Class<?>> visited = new LinkedHashSet<>();
+		final List<Class<?>> toVisit = new ArrayList<>();
+		toVisit.add(jaxbClass);
+		while (!toVisit.isEmpty()) {
+			Class<?> current = toVisit.remove(toVisit.size() - 1);
+			if (!visited.add(current)) {
+				continue;
+			}
+			XmlSeeAlso seeAlso = current.getAnnotation(XmlSeeAlso.class);
+			if (seeAlso != null) {
+				for (Class<?> seeAlsoClass : seeAlso.value()) {
+					toVisit.add(seeAlsoClass);
+				}
+			}
+			for (BinaryFieldDescriptor field : getDescriptor(current).getFields()) {
+				if (field.getValueClass() != null && isComplexType(field.getValueClass())) {
+					toVisit.add(field.getValueClass());
+				}
+				toVisit.addAll(field.getAlternativeClasses());
+			}
+		}
+		final List<BinaryClassDescriptor> descriptors = new ArrayList<>();
+		for (Class<?> clazz : visited) {
+			if (isComplexType(clazz)) {
+				descriptors.add(getDescriptor(clazz));
+			}
+		}
+		descriptors.sort(Comparator.comparing(d -> d.getJaxbClass().getName()));
+		return descriptors;
+	}
+
+	private static Constructor<?> getConstructor(Class<?> jaxbClass) {
+		if (Modifier.isAbstract(jaxbClass.getModifiers())) {
+			return null;
+		}
+		try {
+			Constructor<?> constructor = jaxbClass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return constructor;
+		} catch (NoSuchMethodException e) {
+			throw new IllegalArgumentException(String.format(
+					"The class '%s' does not define a no-argument constructor!", jaxbClass.getName()), e);
+		}
+	}
+
+	private static List<Class<?>> getClassHierarchy(Class<?> jaxbClass) {
+		final List<Class<?>> hierarchy = new ArrayList<>();
+		Class<?> current = jaxbClass;
+		while (current != null && current != Object.class) {
+			hierarchy.add(0, current);
+			current = current.getSuperclass();
+		}
+		return hierarchy;
+	}
+
+	private static boolean isEncoded(Field field) {
+		int modifiers = field.getModifiers();
+		return !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isAnnotationPresent(XmlTransient.class);
+	}
+
+	private static BinaryFieldDescriptor createFieldDescriptor(Field field) {
+		final boolean idRef = field.isAnnotationPresent(XmlIDREF.class);
+		final Class<?> fieldType = field.getType();
+		if (List.class.equals(fieldType)) {
+			final Class<?> elementClass = getListElementClass(field);
+			return new BinaryFieldDescriptor(field, BinaryValueType.LIST, getValueType(field, elementClass, idRef),
+					elementClass, getAlternativeClasses(field));
+		}
+		return new BinaryFieldDescriptor(field, getValueType(field, fieldType, idRef), null, fieldType,
+				getAlternativeClasses(field));
+	}
+
+	private static BinaryValueType getValueType(Field field, Class<?> valueClass, boolean idRef) {
+		if (idRef) {
+			return BinaryValueType.IDREF;
+		} else if (String.class.equals(valueClass)) {
+			return BinaryValueType.STRING;
+		} else if (valueClass.isEnum()) {
+			return BinaryValueType.ENUM;
+		} else if (Boolean.class.equals(valueClass)) {
+			return BinaryValueType.BOOLEAN;
+		} else if (boolean.class.equals(valueClass)) {
+			return BinaryValueType.PRIMITIVE_BOOLEAN;
+		} else if (Integer.class.equals(valueClass)) {
+			return BinaryValueType.INTEGER;
+		} else if (int.class.equals(valueClass)) {
+			return BinaryValueType.PRIMITIVE_INTEGER;
+		} else if (Long.class.equals(valueClass)) {
+			return BinaryValueType.LONG;
+		} else if (long.class.equals(valueClass)) {
+			return BinaryValueType.PRIMITIVE_LONG;
+		} else if (BigInteger.class.equals(valueClass)) {
+			return BinaryValueType.BIG_INTEGER;
+		} else if (Date.class.equals(valueClass)) {
+			return BinaryValueType.DATE;
+		} else if (byte[].class.equals(valueClass)) {
+			return BinaryValueType.BYTES;
+		} else if (Object.class.equals(valueClass) || Serializable.class.equals(valueClass)) {
+			return BinaryValueType.ANY;
+		} else if (isComplexType(valueClass)) {
+			return BinaryValueType.COMPLEX;
+		}
+		throw new IllegalArgumentException(String.format("The type '%s' of the field '%s' is not supported by the binary encoding!",
+				valueClass.getName(), field));
+	}
+
+	private static Class<?> getListElementClass(Field field) {
+		Type genericType = field.getGenericType();
+		if (genericType instanceof ParameterizedType) {
+			Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+			if (elementType instanceof Class) {
+				return (Class<?>) elementType;
+			}
+		}
+		throw new IllegalArgumentException(String.format("The list element type of the field '%s' is not supported by the binary encoding!", field));
+	}
+
+	private static List<Class<?>> getAlternativeClasses(Field field) {
+		XmlElements xmlElements = field.getAnnotation(XmlElements.class);
+		if (xmlElements == null) {
+			return Collections.emptyList();
+		}
+		final List<Class<?>> alternativeClasses = new ArrayList<>();
+		for (XmlElement xmlElement : xmlElements.value()) {
+			if (isComplexType(xmlElement.type())) {
+				alternativeClasses.add(xmlElement.type());
+			}
+		}
+		return alternativeClasses;
+	}
+
+}
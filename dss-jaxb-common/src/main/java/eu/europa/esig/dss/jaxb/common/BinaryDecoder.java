@@ -0,0 +1,460 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.common;
+
+import jakarta.xml.bind.annotation.XmlType;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the binary representation of a JAXB object written by a {@code BinaryEncoder}.
+ *
+ * The strings of the string table are only materialized on their first use, and the complex objects which are not
+ * selected by the {@code BinaryDecodingFilter} are skipped without being decoded.
+ *
+ * NOTE: a reference (XmlIDREF) to an object which has not been decoded is set to null.
+ *
+ */
+class BinaryDecoder {
+
+	/** The binaries to decode */
+	private final byte[] data;
+
+	/** The current position */
+	private int position;
+
+	/** The offsets of the strings within the string table */
+	private int[] stringOffsets;
+
+	/** The lengths of the strings within the string table */
+	private int[] stringLengths;
+
+	/** The materialized strings */
+	private String[] strings;
+
+	/** The class loader used to load the encoded classes */
+	private ClassLoader classLoader;
+
+	/** The decoded objects defining an identifier */
+	private final Map<String, Object> identifiedObjects = new HashMap<>();
+
+	/** The references to be resolved at the end of the decoding */
+	private final List<PendingReference> pendingReferences = new ArrayList<>();
+
+	/**
+	 * Default constructor
+	 *
+	 * @param data the binaries to decode
+	 * @param offset the position of the string table
+	 */
+	BinaryDecoder(byte[] data, int offset) {
+		this.data = data;
+		this.position = offset;
+	}
+
+	/**
+	 * Decodes the root object
+	 *
+	 * @param rootClass the expected root class
+	 * @param filter {@link BinaryDecodingFilter}, null to decode all the properties
+	 * @param <T> the type of the root object
+	 * @return the decoded root object
+	 * @throws IOException if the binaries are not valid
+	 */
+	<T> T decodeRoot(Class<T> rootClass, BinaryDecodingFilter filter) throws IOException {
+		try {
+			classLoader = rootClass.getClassLoader();
+			readStringTable();
+			Object root = readComplex(rootClass, filter);
+			if (position != data.length) {
+				throw new IOException("Unexpected data after the end of the encoded object!");
+			}
+			resolveReferences();
+			return rootClass.cast(root);
+		} catch (ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+			throw new IOException("The binaries are truncated or corrupted!", e);
+		}
+	}
+
+	private void readStringTable() throws IOException {
+		final int size = readLength();
+		stringOffsets = new int[size];
+		stringLengths = new int[size];
+		strings = new String[size];
+		for (int i = 0; i < size; i++) {
+			stringLengths[i] = readLength();
+			stringOffsets[i] = position;
+			skip(stringLengths[i]);
+		}
+	}
+
+	private Object readComplex(Class<?> declaredClass, BinaryDecodingFilter filter) throws IOException {
+		final long classTag = readVarLong();
+		if (classTag == 0) {
+			return null;
+		}
+		final Class<?> objectClass = classTag == 1 ? declaredClass : getClass(declaredClass, getString(classTag - 2));
+
+		final int length = readFixedInt();
+		final int end = position + length;
+		if (length < 0 || end > data.length) {
+			throw new IOException("The binaries are truncated or corrupted!");
+		}
+
+		final BinaryClassDescriptor descriptor = BinaryClassDescriptor.getDescriptor(objectClass);
+		final Object object = descriptor.newInstance();
+		for (BinaryFieldDescriptor field : descriptor.getFields()) {
+			final BinaryDecodingFilter fieldFilter = filter == null || filter.isComplete() ? null : filter.getChild(field.getName());
+			if (filter != null && !filter.isComplete() && fieldFilter == null) {
+				if (!isSelectedAfter(descriptor, field, filter)) {
+					// no other property is selected, skip the rest of the object
+					position = end;
+					break;
+				}
+				skipField(field);
+				continue;
+			}
+			if (BinaryValueType.LIST == field.getValueType()) {
+				field.set(object, readList(field, object, fieldFilter));
+			} else if (BinaryValueType.IDREF == field.getValueType()) {
+				String id = readString();
+				if (id != null) {
+					pendingReferences.add(new PendingReference(object, field, null, 0, id));
+				}
+			} else {
+				field.set(object, readValue(field.getValueType(), field.getValueClass(), fieldFilter));
+			}
+		}
+		if (position != end) {
+			throw new IOException(String.format("Unexpected length of the encoded object '%s'!", objectClass.getName()));
+		}
+
+		final BinaryFieldDescriptor idField = descriptor.getIdField();
+		if (idField != null) {
+			Object id = idField.get(object);
+			if (id != null) {
+				identifiedObjects.put((String) id, object);
+			}
+		}
+		return object;
+	}
+
+	private boolean isSelectedAfter(BinaryClassDescriptor descriptor, BinaryFieldDescriptor field, BinaryDecodingFilter filter) {
+		final List<BinaryFieldDescriptor> fields = descriptor.getFields();
+		for (int i = fields.indexOf(field) + 1; i < fields.size(); i++) {
+			if (filter.getChild(fields.get(i).getName()) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private List<Object> readList(BinaryFieldDescriptor field, Object owner, BinaryDecodingFilter filter) throws IOException {
+		final int size = readLength();
+		if (size == 0) {
+			return null;
+		}
+		final List<Object> list = new ArrayList<>(size - 1);
+		for (int i = 0; i < size - 1; i++) {
+			if (BinaryValueType.IDREF == field.getElementType()) {
+				String id = readString();
+				list.add(null);
+				if (id != null) {
+					pendingReferences.add(new PendingReference(owner, field, list, i, id));
+				}
+			} else {
+				list.add(readValue(field.getElementType(), field.getValueClass(), filter));
+			}
+		}
+		return list;
+	}
+
+	private Object readValue(BinaryValueType valueType, Class<?> valueClass, BinaryDecodingFilter filter) throws IOException {
+		switch (valueType) {
+			case STRING:
+				return readString();
+			case ENUM:
+				return getEnum(valueClass, readString());
+			case BOOLEAN:
+				int booleanValue = readByte();
+				return booleanValue == 0 ? null : booleanValue == 2;
+			case PRIMITIVE_BOOLEAN:
+				return readByte() == 1;
+			case INTEGER:
+				long integerValue = readVarLong();
+				return integerValue == 0 ? null : (int) unZigZag(integerValue - 1);
+			case PRIMITIVE_INTEGER:
+				return (int) unZigZag(readVarLong());
+			case LONG:
+				return readByte() == 0 ? null : unZigZag(readVarLong());
+			case PRIMITIVE_LONG:
+				return unZigZag(readVarLong());
+			case BIG_INTEGER:
+				byte[] bigInteger = readNullableBytes();
+				return bigInteger != null ? new BigInteger(bigInteger) : null;
+			case DATE:
+				return readByte() == 0 ? null : new Date(unZigZag(readVarLong()));
+			case BYTES:
+				return readNullableBytes();
+			case COMPLEX:
+				return readComplex(valueClass, filter);
+			case ANY:
+				return readAny(filter);
+			default:
+				throw new IOException(String.format("The value type '%s' is not supported!", valueType));
+		}
+	}
+
+	private Object readAny(BinaryDecodingFilter filter) throws IOException {
+		final int tag = readByte();
+		if (tag == 0) {
+			return null;
+		} else if (tag == BinaryValueType.STRING.ordinal() + 1) {
+			return readString();
+		} else if (tag == BinaryValueType.ENUM.ordinal() + 1) {
+			String enumClassName = readString();
+			return getEnum(loadClass(enumClassName), readString());
+		} else if (tag == BinaryValueType.COMPLEX.ordinal() + 1) {
+			return readComplex(Object.class, filter);
+		}
+		throw new IOException(String.format("Unknown value tag '%s'!", tag));
+	}
+
+	private void skipField(BinaryFieldDescriptor field) throws IOException {
+		if (BinaryValueType.LIST == field.getValueType()) {
+			final int size = readLength();
+			for (int i = 0; i < size - 1; i++) {
+				skipValue(field.getElementType());
+			}
+		} else {
+			skipValue(field.getValueType());
+		}
+	}
+
+	private void skipValue(BinaryValueType valueType) throws IOException {
+		switch (valueType) {
+			case STRING:
+			case ENUM:
+			case IDREF:
+			case INTEGER:
+			case PRIMITIVE_INTEGER:
+			case PRIMITIVE_LONG:
+				readVarLong();
+				break;
+			case BOOLEAN:
+			case PRIMITIVE_BOOLEAN:
+				readByte();
+				break;
+			case LONG:
+			case DATE:
+				if (readByte() != 0) {
+					readVarLong();
+				}
+				break;
+			case BIG_INTEGER:
+			case BYTES:
+				int length = readLength();
+				if (length > 0) {
+					skip(length - 1);
+				}
+				break;
+			case COMPLEX:
+				if (readVarLong() != 0) {
+					skip(readFixedInt());
+				}
+				break;
+			case ANY:
+				int tag = readByte();
+				if (tag == BinaryValueType.STRING.ordinal() + 1) {
+					readVarLong();
+				} else if (tag == BinaryValueType.ENUM.ordinal() + 1) {
+					readVarLong();
+					readVarLong();
+				} else if (tag == BinaryValueType.COMPLEX.ordinal() + 1) {
+					skipValue(BinaryValueType.COMPLEX);
+				}
+				break;
+			default:
+				throw new IOException(String.format("The value type '%s' is not supported!", valueType));
+		}
+	}
+
+	private void resolveReferences() {
+		for (PendingReference reference : pendingReferences) {
+			Object referencedObject = identifiedObjects.get(reference.id);
+			if (reference.list != null) {
+				reference.list.set(reference.index, referencedObject);
+			} else {
+				reference.field.set(reference.owner, referencedObject);
+			}
+		}
+	}
+
+	private Class<?> getClass(Class<?> declaredClass, String className) throws IOException {
+		final Class<?> clazz = loadClass(className);
+		if (!declaredClass.isAssignableFrom(clazz) || !clazz.isAnnotationPresent(XmlType.class)) {
+			throw new IOException(String.format("The class '%s' is not an allowed JAXB type!", className));
+		}
+		return clazz;
+	}
+
+	private Class<?> loadClass(String className) throws IOException {
+		if (className == null) {
+			throw new IOException("The class name is not defined!");
+		}
+		try {
+			return Class.forName(className, false, classLoader);
+		} catch (ClassNotFoundException e) {
+			throw new IOException(String.format("The class '%s' is not found!", className), e);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object getEnum(Class<?> enumClass, String name) throws IOException {
+		if (name == null) {
+			return null;
+		}
+		if (!enumClass.isEnum()) {
+			throw new IOException(String.format("The class '%s' is not an enumeration!", enumClass.getName()));
+		}
+		try {
+			return Enum.valueOf((Class<? extends Enum>) enumClass, name);
+		} catch (IllegalArgumentException e) {
+			throw new IOException(String.format("The value '%s' is not defined within '%s'!", name, enumClass.getName()), e);
+		}
+	}
+
+	private String readString() throws IOException {
+		long index = readVarLong();
+		return index == 0 ? null : getString(index - 1);
+	}
+
+	private String getString(long index) throws IOException {
+		if (index < 0 || index >= strings.length) {
+			throw new IOException(String.format("The string index '%s' is out of the string table!", index));
+		}
+		final int i = (int) index;
+		if (strings[i] == null) {
+			strings[i] = new String(data, stringOffsets[i], stringLengths[i], StandardCharsets.UTF_8);
+		}
+		return strings[i];
+	}
+
+	private byte[] readNullableBytes() throws IOException {
+		int length = readLength();
+		if (length == 0) {
+			return null;
+		}
+		int start = position;
+		skip(length - 1);
+		return Arrays.copyOfRange(data, start, position);
+	}
+
+	private int readByte() {
+		return data[position++] & 0xFF;
+	}
+
+	private int readLength() throws IOException {
+		long length = readVarLong();
+		if (length < 0 || length > data.length - position + 1) {
+			throw new IOException("The binaries are truncated or corrupted!");
+		}
+		return (int) length;
+	}
+
+	private long readVarLong() throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = data[position++];
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable-length integer!");
+	}
+
+	private int readFixedInt() {
+		int value = ((data[position] & 0xFF) << 24) | ((data[position + 1] & 0xFF) << 16)
+				| ((data[position + 2] & 0xFF) << 8) | (data[position + 3] & 0xFF);
+		position += BinaryEncoder.LENGTH_SIZE;
+		return value;
+	}
+
+	private void skip(int length) throws IOException {
+		if (length < 0 || position + length > data.length) {
+			throw new IOException("The binaries are truncated or corrupted!");
+		}
+		position += length;
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * A reference (XmlIDREF) to be resolved once all the objects have been decoded
+	 */
+	private static final class PendingReference {
+
+		/** The object defining the reference */
+		private final Object owner;
+
+		/** The reference field */
+		private final BinaryFieldDescriptor field;
+
+		/** The list containing the reference, null for a single-valued field */
+		private final List<Object> list;
+
+		/** The position within the list */
+		private final int index;
+
+		/** The identifier of the referenced object */
+		private final String id;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param owner the object defining the reference
+		 * @param field {@link BinaryFieldDescriptor}
+		 * @param list the list containing the reference, null for a single-valued field
+		 * @param index the position within the list
+		 * @param id {@link String} identifier of the referenced object
+		 */
+		private PendingReference(Object owner, BinaryFieldDescriptor field, List<Object> list, int index, String id) {
+			this.owner = owner;
+			this.field = field;
+			this.list = list;
+			this.index = index;
+			this.id = id;
+		}
+
+	}
+
+}
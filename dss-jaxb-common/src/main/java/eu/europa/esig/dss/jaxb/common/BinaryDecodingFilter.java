@@ -0,0 +1,90 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Defines the properties to be decoded on a partial decoding.
+ *
+ * A property is defined by the path of the Java field names separated by a '/' (e.g. "signatures/id").
+ * When a property is selected without children, its whole value is decoded.
+ *
+ */
+class BinaryDecodingFilter {
+
+	/** The separator of the field names within a path */
+	private static final String SEPARATOR = "/";
+
+	/** The filters of the selected children properties */
+	private final Map<String, BinaryDecodingFilter> children = new HashMap<>();
+
+	/**
+	 * Default constructor
+	 */
+	private BinaryDecodingFilter() {
+		// empty
+	}
+
+	/**
+	 * Builds a filter from the given paths
+	 *
+	 * @param paths the paths of the properties to decode
+	 * @return {@link BinaryDecodingFilter}, null if all the properties have to be decoded
+	 */
+	static BinaryDecodingFilter fromPaths(String... paths) {
+		if (paths == null || paths.length == 0) {
+			return null;
+		}
+		final BinaryDecodingFilter root = new BinaryDecodingFilter();
+		for (String path : paths) {
+			if (path == null || path.isEmpty()) {
+				throw new IllegalArgumentException("The path of a property to decode cannot be empty!");
+			}
+			BinaryDecodingFilter current = root;
+			for (String fieldName : path.split(SEPARATOR)) {
+				current = current.children.computeIfAbsent(fieldName, k -> new BinaryDecodingFilter());
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * Checks whether the whole value has to be decoded
+	 *
+	 * @return TRUE if no child property is selected, FALSE otherwise
+	 */
+	boolean isComplete() {
+		return children.isEmpty();
+	}
+
+	/**
+	 * Returns the filter of the child property
+	 *
+	 * @param fieldName {@link String} the Java field name
+	 * @return {@link BinaryDecodingFilter}, null if the child property is not selected
+	 */
+	BinaryDecodingFilter getChild(String fieldName) {
+		return children.get(fieldName);
+	}
+
+}
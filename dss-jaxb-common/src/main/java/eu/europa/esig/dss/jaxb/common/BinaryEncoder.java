@@ -0,0 +1,289 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the binary representation of a JAXB object.
+ *
+ * The strings are de-duplicated within a string table written before the body, and each complex object is prefixed
+ * with its length in order to allow its skipping on a partial decoding.
+ *
+ */
+class BinaryEncoder {
+
+	/** The size of the length prefix of a complex object */
+	static final int LENGTH_SIZE = 4;
+
+	/** The encoded body */
+	private byte[] buffer = new byte[8192];
+
+	/** The current position within the buffer */
+	private int position;
+
+	/** The strings of the string table, in their order of appearance */
+	private final List<String> strings = new ArrayList<>();
+
+	/** The indexes of the strings within the string table */
+	private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+	/**
+	 * Default constructor
+	 */
+	BinaryEncoder() {
+		// empty
+	}
+
+	/**
+	 * Encodes the root JAXB object
+	 *
+	 * @param jaxbObject the root object
+	 * @param rootClass the root class
+	 */
+	void encodeRoot(Object jaxbObject, Class<?> rootClass) {
+		writeComplex(jaxbObject, rootClass);
+	}
+
+	/**
+	 * Writes the string table and the encoded body to the {@code OutputStream}
+	 *
+	 * @param os {@link OutputStream}
+	 * @throws IOException if an exception occurs on writing
+	 */
+	void writeTo(OutputStream os) throws IOException {
+		final BinaryEncoder stringTable = new BinaryEncoder();
+		stringTable.writeVarLong(strings.size());
+		for (String string : strings) {
+			stringTable.writeBytes(string.getBytes(StandardCharsets.UTF_8));
+		}
+		os.write(stringTable.buffer, 0, stringTable.position);
+		os.write(buffer, 0, position);
+	}
+
+	private void writeComplex(Object object, Class<?> declaredClass) {
+		if (object == null) {
+			writeVarLong(0);
+			return;
+		}
+		final Class<?> objectClass = object.getClass();
+		if (objectClass == declaredClass) {
+			writeVarLong(1);
+		} else {
+			writeVarLong(getStringIndex(objectClass.getName()) + 2L);
+		}
+
+		final int lengthPosition = reserve(LENGTH_SIZE);
+		for (BinaryFieldDescriptor field : BinaryClassDescriptor.getDescriptor(objectClass).getFields()) {
+			Object value = field.get(object);
+			if (BinaryValueType.LIST == field.getValueType()) {
+				writeList((List<?>) value, field.getElementType(), field.getValueClass());
+			} else {
+				writeValue(value, field.getValueType(), field.getValueClass());
+			}
+		}
+		writeFixedInt(lengthPosition, position - lengthPosition - LENGTH_SIZE);
+	}
+
+	private void writeList(List<?> list, BinaryValueType elementType, Class<?> elementClass) {
+		if (list == null) {
+			writeVarLong(0);
+			return;
+		}
+		writeVarLong(list.size() + 1L);
+		for (Object element : list) {
+			writeValue(element, elementType, elementClass);
+		}
+	}
+
+	private void writeValue(Object value, BinaryValueType valueType, Class<?> valueClass) {
+		switch (valueType) {
+			case STRING:
+				writeString((String) value);
+				break;
+			case ENUM:
+				writeString(value != null ? ((Enum<?>) value).name() : null);
+				break;
+			case BOOLEAN:
+				writeByte(value == null ? 0 : ((Boolean) value ? 2 : 1));
+				break;
+			case PRIMITIVE_BOOLEAN:
+				writeByte((Boolean) value ? 1 : 0);
+				break;
+			case INTEGER:
+				writeVarLong(value == null ? 0 : zigZag((Integer) value) + 1);
+				break;
+			case PRIMITIVE_INTEGER:
+				writeVarLong(zigZag((Integer) value));
+				break;
+			case LONG:
+				writeByte(value == null ? 0 : 1);
+				if (value != null) {
+					writeVarLong(zigZag((Long) value));
+				}
+				break;
+			case PRIMITIVE_LONG:
+				writeVarLong(zigZag((Long) value));
+				break;
+			case BIG_INTEGER:
+				writeNullableBytes(value != null ? ((BigInteger) value).toByteArray() : null);
+				break;
+			case DATE:
+				writeByte(value == null ? 0 : 1);
+				if (value != null) {
+					writeVarLong(zigZag(((Date) value).getTime()));
+				}
+				break;
+			case BYTES:
+				writeNullableBytes((byte[]) value);
+				break;
+			case COMPLEX:
+				writeComplex(value, valueClass);
+				break;
+			case IDREF:
+				writeString(getId(value));
+				break;
+			case ANY:
+				writeAny(value);
+				break;
+			default:
+				throw new UnsupportedOperationException(String.format("The value type '%s' is not supported!", valueType));
+		}
+	}
+
+	private void writeAny(Object value) {
+		if (value == null) {
+			writeByte(0);
+		} else if (value instanceof String) {
+			writeByte(BinaryValueType.STRING.ordinal() + 1);
+			writeString((String) value);
+		} else if (value instanceof Enum) {
+			writeByte(BinaryValueType.ENUM.ordinal() + 1);
+			writeString(((Enum<?>) value).getDeclaringClass().getName());
+			writeString(((Enum<?>) value).name());
+		} else if (BinaryClassDescriptor.isComplexType(value.getClass())) {
+			writeByte(BinaryValueType.COMPLEX.ordinal() + 1);
+			writeComplex(value, Object.class);
+		} else {
+			throw new IllegalArgumentException(String.format("The value of type '%s' is not supported by the binary encoding!",
+					value.getClass().getName()));
+		}
+	}
+
+	private String getId(Object referencedObject) {
+		if (referencedObject == null) {
+			return null;
+		}
+		BinaryFieldDescriptor idField = BinaryClassDescriptor.getDescriptor(referencedObject.getClass()).getIdField();
+		if (idField == null) {
+			throw new IllegalArgumentException(String.format("The referenced object of type '%s' does not define an identifier!",
+					referencedObject.getClass().getName()));
+		}
+		return (String) idField.get(referencedObject);
+	}
+
+	private void writeString(String value) {
+		writeVarLong(value == null ? 0 : getStringIndex(value) + 1L);
+	}
+
+	private int getStringIndex(String value) {
+		Integer index = stringIndexes.get(value);
+		if (index == null) {
+			index = strings.size();
+			strings.add(value);
+			stringIndexes.put(value, index);
+		}
+		return index;
+	}
+
+	private void writeNullableBytes(byte[] value) {
+		if (value == null) {
+			writeVarLong(0);
+		} else {
+			writeVarLong(value.length + 1L);
+			writeRaw(value);
+		}
+	}
+
+	private void writeBytes(byte[] value) {
+		writeVarLong(value.length);
+		writeRaw(value);
+	}
+
+	private void writeRaw(byte[] value) {
+		ensureCapacity(value.length);
+		System.arraycopy(value, 0, buffer, position, value.length);
+		position += value.length;
+	}
+
+	private void writeByte(int value) {
+		ensureCapacity(1);
+		buffer[position++] = (byte) value;
+	}
+
+	/**
+	 * Writes an unsigned variable-length integer (7 bits per byte, the most significant bit indicates a continuation)
+	 *
+	 * @param value to write
+	 */
+	private void writeVarLong(long value) {
+		ensureCapacity(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+	}
+
+	private int reserve(int length) {
+		ensureCapacity(length);
+		int reservedPosition = position;
+		position += length;
+		return reservedPosition;
+	}
+
+	private void writeFixedInt(int offset, int value) {
+		buffer[offset] = (byte) (value >>> 24);
+		buffer[offset + 1] = (byte) (value >>> 16);
+		buffer[offset + 2] = (byte) (value >>> 8);
+		buffer[offset + 3] = (byte) value;
+	}
+
+	private void ensureCapacity(int length) {
+		if (position + length > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+		}
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+}
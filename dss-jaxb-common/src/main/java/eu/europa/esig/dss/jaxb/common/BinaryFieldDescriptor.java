@@ -0,0 +1,144 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.common;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Describes the encoding of a field of a JAXB object
+ *
+ */
+class BinaryFieldDescriptor {
+
+	/** The field */
+	private final Field field;
+
+	/** The type of the value */
+	private final BinaryValueType valueType;
+
+	/** The type of the list elements, when {@code valueType} is a LIST */
+	private final BinaryValueType elementType;
+
+	/** The class of the value (or of the list elements), used for ENUM and COMPLEX types */
+	private final Class<?> valueClass;
+
+	/** The classes defined within an {@code XmlElements} annotation of the field */
+	private final List<Class<?>> alternativeClasses;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param field {@link Field}
+	 * @param valueType {@link BinaryValueType} of the value
+	 * @param elementType {@link BinaryValueType} of the list elements, null if the value is not a list
+	 * @param valueClass {@link Class} of the value or of the list elements
+	 * @param alternativeClasses a list of {@link Class}es defined within an {@code XmlElements} annotation
+	 */
+	BinaryFieldDescriptor(Field field, BinaryValueType valueType, BinaryValueType elementType, Class<?> valueClass,
+						  List<Class<?>> alternativeClasses) {
+		this.field = field;
+		this.valueType = valueType;
+		this.elementType = elementType;
+		this.valueClass = valueClass;
+		this.alternativeClasses = alternativeClasses;
+	}
+
+	/**
+	 * Gets the name of the field
+	 *
+	 * @return {@link String}
+	 */
+	String getName() {
+		return field.getName();
+	}
+
+	/**
+	 * Gets the value type
+	 *
+	 * @return {@link BinaryValueType}
+	 */
+	BinaryValueType getValueType() {
+		return valueType;
+	}
+
+	/**
+	 * Gets the type of the list elements
+	 *
+	 * @return {@link BinaryValueType}, null if the field is not a list
+	 */
+	BinaryValueType getElementType() {
+		return elementType;
+	}
+
+	/**
+	 * Gets the class of the value or of the list elements
+	 *
+	 * @return {@link Class}
+	 */
+	Class<?> getValueClass() {
+		return valueClass;
+	}
+
+	/**
+	 * Gets the classes defined within an {@code XmlElements} annotation of the field
+	 *
+	 * @return a list of {@link Class}es
+	 */
+	List<Class<?>> getAlternativeClasses() {
+		return alternativeClasses;
+	}
+
+	/**
+	 * Gets the value of the field from the given object
+	 *
+	 * @param object the JAXB object
+	 * @return the field value
+	 */
+	Object get(Object object) {
+		try {
+			return field.get(object);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(String.format("Unable to read the field '%s' : %s", field, e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Sets the value of the field within the given object
+	 *
+	 * @param object the JAXB object
+	 * @param value the value to set
+	 */
+	void set(Object object, Object value) {
+		try {
+			field.set(object, value);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(String.format("Unable to write the field '%s' : %s", field, e.getMessage()), e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getName() + ":" + valueType + (elementType != null ? "<" + elementType + ">" : "")
+				+ (valueClass != null ? ":" + valueClass.getName() : "");
+	}
+
+}
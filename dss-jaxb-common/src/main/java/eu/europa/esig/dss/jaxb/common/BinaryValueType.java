@@ -0,0 +1,74 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.common;
+
+/**
+ * Defines the encoding of a value within the binary representation of a JAXB object
+ *
+ */
+enum BinaryValueType {
+
+	/** A {@code String}, encoded as a reference to the string table */
+	STRING,
+
+	/** An {@code Enum}, encoded as a reference to its name within the string table */
+	ENUM,
+
+	/** A {@code Boolean} */
+	BOOLEAN,
+
+	/** A primitive {@code boolean} */
+	PRIMITIVE_BOOLEAN,
+
+	/** An {@code Integer} */
+	INTEGER,
+
+	/** A primitive {@code int} */
+	PRIMITIVE_INTEGER,
+
+	/** A {@code Long} */
+	LONG,
+
+	/** A primitive {@code long} */
+	PRIMITIVE_LONG,
+
+	/** A {@code BigInteger} */
+	BIG_INTEGER,
+
+	/** A {@code Date}, encoded with a milliseconds precision */
+	DATE,
+
+	/** A byte array */
+	BYTES,
+
+	/** A {@code List} of values */
+	LIST,
+
+	/** A JAXB complex type */
+	COMPLEX,
+
+	/** A reference to a JAXB object defining an {@code XmlID}, encoded as the identifier */
+	IDREF,
+
+	/** A value defined with a generic type (e.g. {@code Object} or {@code Serializable}) */
+	ANY
+
+}
@@ -0,0 +1,195 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.common;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.util.JAXBSource;
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes a report transformed with an XSLT incrementally to an {@code OutputStream}.
+ *
+ * The report is provided as a skeleton (the report without its tokens) and a sequence of chunks
+ * (the report containing a single token each). Every chunk is transformed on its own, therefore
+ * the XSLT processor only builds an input tree for a single token at a time and the transformation
+ * result is never kept in memory.
+ *
+ * The XSLT shall support the {@value #STREAMING_PART_PARAMETER} parameter:
+ * <ul>
+ *     <li>{@value #SKELETON} : the complete output has to be produced, containing a comment
+ *     {@value #CONTENT_PLACEHOLDER} at the place where the tokens are expected;</li>
+ *     <li>{@value #TOKENS} : only the output of the tokens has to be produced.</li>
+ * </ul>
+ *
+ * @param <T> A JAXB Object
+ */
+public class StreamingReportWriter<T> {
+
+	/** The XSLT parameter defining the part of the report to be produced */
+	public static final String STREAMING_PART_PARAMETER = "streamingPart";
+
+	/** The value of {@value #STREAMING_PART_PARAMETER} requesting the report skeleton */
+	public static final String SKELETON = "skeleton";
+
+	/** The value of {@value #STREAMING_PART_PARAMETER} requesting the output of the tokens only */
+	public static final String TOKENS = "tokens";
+
+	/** The comment produced by the XSLT at the place of the tokens within the skeleton */
+	public static final String CONTENT_PLACEHOLDER = "DSS-STREAMING-CONTENT";
+
+	/** The comment as serialized within the skeleton output */
+	private static final String SERIALIZED_PLACEHOLDER = "<!--" + CONTENT_PLACEHOLDER + "-->";
+
+	/** The facade used to wrap the JAXB objects */
+	private final AbstractJaxbFacade<T> facade;
+
+	/** The templates used to transform the report */
+	private final Templates templates;
+
+	/** The writer of the output */
+	private final Writer writer;
+
+	/** The transformer used for the chunks, created on the first use */
+	private Transformer chunkTransformer;
+
+	/** The part of the skeleton output following the tokens */
+	private String footer;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param facade {@link AbstractJaxbFacade} of the report
+	 * @param templates {@link Templates} to transform the report with
+	 * @param os {@link OutputStream} to write the result into (UTF-8 encoded)
+	 */
+	public StreamingReportWriter(AbstractJaxbFacade<T> facade, Templates templates, OutputStream os) {
+		Objects.requireNonNull(facade, "Facade is null");
+		Objects.requireNonNull(templates, "Templates are null");
+		Objects.requireNonNull(os, "OutputStream is null");
+		this.facade = facade;
+		this.templates = templates;
+		this.writer = new OutputStreamWriter(os, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Transforms the skeleton of the report and writes its part preceding the tokens
+	 *
+	 * @param skeleton the report without tokens
+	 * @throws IOException if an IOException occurs
+	 * @throws TransformerException if a TransformerException occurs
+	 * @throws JAXBException if a JAXBException occurs
+	 */
+	public void writeHeader(T skeleton) throws IOException, TransformerException, JAXBException {
+		Objects.requireNonNull(skeleton, "Skeleton is null");
+		if (footer != null) {
+			throw new IllegalStateException("The header has already been written!");
+		}
+
+		Transformer transformer = templates.newTransformer();
+		transformer.setParameter(STREAMING_PART_PARAMETER, SKELETON);
+
+		// the skeleton does not contain tokens, its output is small
+		StringWriter skeletonWriter = new StringWriter();
+		transformer.transform(new JAXBSource(facade.getJAXBContext(), facade.wrap(skeleton)), new StreamResult(skeletonWriter));
+
+		String skeletonOutput = skeletonWriter.toString();
+		int placeholderIndex = skeletonOutput.indexOf(SERIALIZED_PLACEHOLDER);
+		if (placeholderIndex < 0) {
+			throw new IllegalStateException("The XSLT does not support the streaming transformation!");
+		}
+		writer.write(skeletonOutput, 0, placeholderIndex);
+		writer.flush();
+		footer = skeletonOutput.substring(placeholderIndex + SERIALIZED_PLACEHOLDER.length());
+	}
+
+	/**
+	 * Transforms and writes a chunk of the report
+	 *
+	 * @param chunk the report containing the tokens to be written
+	 * @throws IOException if an IOException occurs
+	 * @throws TransformerException if a TransformerException occurs
+	 * @throws JAXBException if a JAXBException occurs
+	 */
+	public void writeChunk(T chunk) throws IOException, TransformerException, JAXBException {
+		writeChunk(chunk, Collections.emptyMap());
+	}
+
+	/**
+	 * Transforms and writes a chunk of the report using the given XSLT parameters
+	 *
+	 * @param chunk the report containing the tokens to be written
+	 * @param parameters a map of XSLT parameter names and their values for the current chunk
+	 * @throws IOException if an IOException occurs
+	 * @throws TransformerException if a TransformerException occurs
+	 * @throws JAXBException if a JAXBException occurs
+	 */
+	public void writeChunk(T chunk, Map<String, Object> parameters) throws IOException, TransformerException, JAXBException {
+		Objects.requireNonNull(chunk, "Chunk is null");
+		if (footer == null) {
+			throw new IllegalStateException("The header shall be written first!");
+		}
+
+		Transformer transformer = getChunkTransformer();
+		for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+			transformer.setParameter(entry.getKey(), entry.getValue());
+		}
+		transformer.transform(new JAXBSource(facade.getJAXBContext(), facade.wrap(chunk)), new StreamResult(writer));
+		writer.flush();
+	}
+
+	private Transformer getChunkTransformer() throws TransformerConfigurationException {
+		if (chunkTransformer == null) {
+			chunkTransformer = templates.newTransformer();
+		} else {
+			chunkTransformer.clearParameters();
+		}
+		chunkTransformer.setParameter(STREAMING_PART_PARAMETER, TOKENS);
+		return chunkTransformer;
+	}
+
+	/**
+	 * Writes the part of the skeleton following the tokens and flushes the output.
+	 * The {@code OutputStream} is not closed.
+	 *
+	 * @throws IOException if an IOException occurs
+	 */
+	public void writeFooter() throws IOException {
+		if (footer == null) {
+			throw new IllegalStateException("The header shall be written first!");
+		}
+		writer.write(footer);
+		writer.flush();
+	}
+
+}
@@ -54,6 +54,20 @@ public abstract class MultipleDigestIdentifier extends Identifier {
 		digestMap.put(id.getAlgorithm(), id.getValue());
 	}
 
+	/**
+	 * Constructor with a known digest of the binaries, used when the binaries are obtained on request.
+	 * NOTE: the {@code getBinaries()} method shall be overridden by the implementation
+	 *
+	 * @param prefix {@link String} for the identifier
+	 * @param digest {@link Digest} SHA-256 digest of the token binaries
+	 */
+	protected MultipleDigestIdentifier(final String prefix, final Digest digest) {
+		super(prefix, digest);
+		this.binaries = null;
+
+		digestMap.put(digest.getAlgorithm(), digest.getValue());
+	}
+
 	/**
 	 * Gets token binaries
 	 *
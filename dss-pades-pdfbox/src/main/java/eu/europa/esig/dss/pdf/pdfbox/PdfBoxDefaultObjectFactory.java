@@ -23,6 +23,7 @@ package eu.europa.esig.dss.pdf.pdfbox;
 import eu.europa.esig.dss.pdf.AbstractPdfObjFactory;
 import eu.europa.esig.dss.pdf.PDFServiceMode;
 import eu.europa.esig.dss.pdf.PDFSignatureService;
+import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureAppearanceCache;
 import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
 
 /**
@@ -31,6 +32,9 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatur
  */
 public class PdfBoxDefaultObjectFactory extends AbstractPdfObjFactory {
 
+	/** The cache of rendered visual signature appearances (optional) */
+	private PdfBoxSignatureAppearanceCache appearanceCache;
+
 	/**
 	 * Default constructor
 	 */
@@ -38,24 +42,44 @@ public class PdfBoxDefaultObjectFactory extends AbstractPdfObjFactory {
 		// empty
 	}
 
+	/**
+	 * Sets the cache of rendered visual signature appearances, to be shared between the created services.
+	 * When defined, the appearance computed for a {@code SignatureImageParameters} is re-used for the following
+	 * signatures with the same visual parameters, signer's text and target page format
+	 * (e.g. when stamping the same signature image on a number of documents).
+	 *
+	 * Default : null (the visual signature appearance is computed for each signature)
+	 *
+	 * @param appearanceCache {@link PdfBoxSignatureAppearanceCache}
+	 */
+	public void setAppearanceCache(PdfBoxSignatureAppearanceCache appearanceCache) {
+		this.appearanceCache = appearanceCache;
+	}
+
 	@Override
 	public PDFSignatureService newPAdESSignatureService() {
-		return configure(new PdfBoxSignatureService(PDFServiceMode.SIGNATURE, new PdfBoxDefaultSignatureDrawerFactory()));
+		return configure(new PdfBoxSignatureService(PDFServiceMode.SIGNATURE, newSignatureDrawerFactory()));
 	}
 
 	@Override
 	public PDFSignatureService newContentTimestampService() {
-		return configure(new PdfBoxSignatureService(PDFServiceMode.CONTENT_TIMESTAMP, new PdfBoxDefaultSignatureDrawerFactory()));
+		return configure(new PdfBoxSignatureService(PDFServiceMode.CONTENT_TIMESTAMP, newSignatureDrawerFactory()));
 	}
 
 	@Override
 	public PDFSignatureService newSignatureTimestampService() {
-		return configure(new PdfBoxSignatureService(PDFServiceMode.SIGNATURE_TIMESTAMP, new PdfBoxDefaultSignatureDrawerFactory()));
+		return configure(new PdfBoxSignatureService(PDFServiceMode.SIGNATURE_TIMESTAMP, newSignatureDrawerFactory()));
 	}
 
 	@Override
 	public PDFSignatureService newArchiveTimestampService() {
-		return configure(new PdfBoxSignatureService(PDFServiceMode.ARCHIVE_TIMESTAMP, new PdfBoxDefaultSignatureDrawerFactory()));
+		return configure(new PdfBoxSignatureService(PDFServiceMode.ARCHIVE_TIMESTAMP, newSignatureDrawerFactory()));
+	}
+
+	private PdfBoxDefaultSignatureDrawerFactory newSignatureDrawerFactory() {
+		PdfBoxDefaultSignatureDrawerFactory signatureDrawerFactory = new PdfBoxDefaultSignatureDrawerFactory();
+		signatureDrawerFactory.setAppearanceCache(appearanceCache);
+		return signatureDrawerFactory;
 	}
 
 }
@@ -20,13 +20,21 @@
  */
 package eu.europa.esig.dss.pdf.pdfbox.visible;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.pades.DSSFileFont;
+import eu.europa.esig.dss.pades.DSSFont;
+import eu.europa.esig.dss.pades.DSSJavaFont;
+import eu.europa.esig.dss.pades.SignatureFieldParameters;
 import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.pades.SignatureImageTextParameters;
 import eu.europa.esig.dss.pdf.AnnotationBox;
 import eu.europa.esig.dss.pdf.visible.DSSFontMetrics;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.pdf.visible.SignatureFieldBoxBuilder;
 import eu.europa.esig.dss.pdf.visible.SignatureFieldDimensionAndPosition;
 import eu.europa.esig.dss.pdf.visible.SignatureFieldDimensionAndPositionBuilder;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -41,11 +49,14 @@ import org.apache.pdfbox.pdmodel.interactive.form.PDSignatureField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.awt.Color;
+import java.awt.Font;
 import java.awt.color.ColorSpace;
 import java.awt.color.ICC_Profile;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
@@ -66,18 +77,45 @@ public abstract class AbstractPdfBoxSignatureDrawer implements PdfBoxSignatureDr
 	/** Contains options of the visual signature */
 	protected SignatureOptions signatureOptions;
 
+	/** The cache of rendered appearances (optional, disabled when null) */
+	protected PdfBoxSignatureAppearanceCache appearanceCache;
+
+	/** The digest of the parameters of the current appearance, excluding the signer's text (lazily computed) */
+	private String appearanceStaticKey;
+
+	/** The digest of the signer's text of the current appearance (lazily computed) */
+	private String appearanceTextKey;
+
+	/** Defines whether the appearance keys have been computed */
+	private boolean appearanceCacheKeyComputed;
+
 	/**
 	 * Default constructor instantiating object with null values
 	 */
 	protected AbstractPdfBoxSignatureDrawer() {
 	}
 
+	/**
+	 * Sets the cache of rendered appearances, allowing to re-use a visual signature appearance
+	 * computed for the same parameters on a previous call
+	 *
+	 * Default : null (the appearance is computed on each call)
+	 *
+	 * @param appearanceCache {@link PdfBoxSignatureAppearanceCache}
+	 */
+	public void setAppearanceCache(PdfBoxSignatureAppearanceCache appearanceCache) {
+		this.appearanceCache = appearanceCache;
+	}
+
 	@Override
 	public void init(SignatureImageParameters parameters, PDDocument document, SignatureOptions signatureOptions) throws IOException {
 		assertSignatureParametersAreValid(parameters);
 		this.parameters = parameters;
 		this.document = document;
 		this.signatureOptions = signatureOptions;
+		this.appearanceStaticKey = null;
+		this.appearanceTextKey = null;
+		this.appearanceCacheKeyComputed = false;
 		checkColorSpace(document);
 	}
 	
@@ -93,12 +131,143 @@ public abstract class AbstractPdfBoxSignatureDrawer implements PdfBoxSignatureDr
 	 * @return {@link SignatureFieldDimensionAndPosition}
 	 */
 	public SignatureFieldDimensionAndPosition buildSignatureFieldBox() {
+		String cacheKey = getAppearanceCacheKey("field-box");
+		if (cacheKey != null) {
+			SignatureFieldDimensionAndPosition cached = appearanceCache.get(cacheKey, SignatureFieldDimensionAndPosition.class);
+			if (cached != null) {
+				return cached;
+			}
+		}
 		PDPage originalPage = document.getPage(parameters.getFieldParameters().getPage() - ImageUtils.DEFAULT_FIRST_PAGE);
 		PDRectangle mediaBox = originalPage.getMediaBox();
 		AnnotationBox pageBox = new AnnotationBox(mediaBox.getLowerLeftX(), mediaBox.getLowerLeftY(),
 				mediaBox.getUpperRightX(), mediaBox.getUpperRightY());
-		return new SignatureFieldDimensionAndPositionBuilder(parameters, getDSSFontMetrics(), pageBox,
-				originalPage.getRotation()).setSignatureFieldAnnotationBox(getSignatureFieldAnnotationBox()).build();
+		SignatureFieldDimensionAndPosition dimensionAndPosition = new SignatureFieldDimensionAndPositionBuilder(
+				parameters, getDSSFontMetrics(), pageBox, originalPage.getRotation())
+				.setSignatureFieldAnnotationBox(getSignatureFieldAnnotationBox()).build();
+		if (cacheKey != null) {
+			appearanceCache.put(cacheKey, dimensionAndPosition);
+		}
+		return dimensionAndPosition;
+	}
+
+	/**
+	 * Returns a key of the current visual signature appearance within the {@code appearanceCache}
+	 * for the given {@code entryType}, or null when the cache is disabled or the appearance cannot be cached
+	 * (e.g. when a font not defined by a file or a Java font is used).
+	 * The key consists of a digest of all the parameters affecting the drawn appearance (including the target page
+	 * and the existing signature field, if any), and a digest of the signer's text.
+	 *
+	 * @param entryType {@link String} type of the cached entry (e.g. "field-box")
+	 * @return {@link String} key
+	 */
+	protected String getAppearanceCacheKey(String entryType) {
+		if (!computeAppearanceCacheKeys()) {
+			return null;
+		}
+		return entryType + ":" + appearanceStaticKey + ":" + appearanceTextKey;
+	}
+
+	/**
+	 * Returns a key of a static layer of the current visual signature appearance (i.e. a layer not containing
+	 * the signer's text, such as an image) within the {@code appearanceCache} for the given {@code entryType},
+	 * or null when the cache is disabled or the appearance cannot be cached.
+	 * As the layout of the visual signature may depend on the signer's text, the values defining the position
+	 * of the layer within the computed layout shall be provided.
+	 * The key does not depend on the signer's text, allowing the layer to be shared between the signers.
+	 *
+	 * @param entryType {@link String} type of the cached entry (e.g. "native-template")
+	 * @param layoutValues the values defining the position of the layer within the layout
+	 * @return {@link String} key
+	 */
+	protected String getStaticAppearanceCacheKey(String entryType, Object... layoutValues) {
+		if (!computeAppearanceCacheKeys()) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder();
+		append(sb, layoutValues);
+		return entryType + ":" + appearanceStaticKey + ":" + digest(sb.toString());
+	}
+
+	private boolean computeAppearanceCacheKeys() {
+		if (appearanceCache == null) {
+			return false;
+		}
+		if (!appearanceCacheKeyComputed) {
+			appearanceStaticKey = buildAppearanceStaticKey();
+			String text = parameters.getTextParameters().getText();
+			appearanceTextKey = digest(text != null ? text : "");
+			appearanceCacheKeyComputed = true;
+		}
+		return appearanceStaticKey != null;
+	}
+
+	private String buildAppearanceStaticKey() {
+		SignatureImageTextParameters textParameters = parameters.getTextParameters();
+		String fontKey = null;
+		if (!textParameters.isEmpty()) {
+			fontKey = getFontKey(textParameters.getFont());
+			if (fontKey == null) {
+				LOG.debug("The font of type '{}' is not supported by the appearance cache.", textParameters.getFont().getClass());
+				return null;
+			}
+		}
+
+		SignatureFieldParameters fieldParameters = parameters.getFieldParameters();
+		PDPage page = document.getPage(fieldParameters.getPage() - ImageUtils.DEFAULT_FIRST_PAGE);
+		PDRectangle mediaBox = page.getMediaBox();
+		AnnotationBox fieldBox = getSignatureFieldAnnotationBox();
+
+		StringBuilder sb = new StringBuilder(getClass().getName());
+		append(sb, mediaBox.getLowerLeftX(), mediaBox.getLowerLeftY(), mediaBox.getUpperRightX(),
+				mediaBox.getUpperRightY(), page.getRotation());
+		if (fieldBox != null) {
+			append(sb, fieldBox.getMinX(), fieldBox.getMinY(), fieldBox.getMaxX(), fieldBox.getMaxY());
+		}
+		append(sb, fieldParameters.getFieldId(), fieldParameters.getPage(), fieldParameters.getOriginX(),
+				fieldParameters.getOriginY(), fieldParameters.getWidth(), fieldParameters.getHeight(),
+				fieldParameters.getRotation());
+		DSSDocument image = parameters.getImage();
+		if (image != null) {
+			append(sb, image.getName(), image.getDigest(DigestAlgorithm.SHA256));
+		}
+		append(sb, parameters.getZoom(), toKey(parameters.getBackgroundColor()), parameters.getDpi(),
+				parameters.getVisualSignatureAlignmentHorizontal(), parameters.getVisualSignatureAlignmentVertical(),
+				parameters.getImageScaling());
+		if (!textParameters.isEmpty()) {
+			append(sb, fontKey, textParameters.getSignerTextPosition(), textParameters.getSignerTextVerticalAlignment(),
+					textParameters.getSignerTextHorizontalAlignment(), textParameters.getTextWrapping(),
+					textParameters.getPadding(), toKey(textParameters.getTextColor()),
+					toKey(textParameters.getBackgroundColor()));
+		}
+		return digest(sb.toString());
+	}
+
+	private String getFontKey(DSSFont dssFont) {
+		if (dssFont instanceof DSSFileFont) {
+			DSSFileFont fileFont = (DSSFileFont) dssFont;
+			return "file:" + fileFont.getDigest(DigestAlgorithm.SHA256) + ":" + fileFont.getSize() + ":" +
+					fileFont.isEmbedFontSubset();
+		} else if (dssFont instanceof DSSJavaFont) {
+			Font javaFont = dssFont.getJavaFont();
+			return "java:" + javaFont.getFontName() + ":" + javaFont.getStyle() + ":" + javaFont.getSize2D() + ":" +
+					dssFont.getSize();
+		}
+		return null;
+	}
+
+	private void append(StringBuilder sb, Object... values) {
+		for (Object value : values) {
+			sb.append('|').append(value);
+		}
+	}
+
+	private String toKey(Color color) {
+		return color != null ? Integer.toHexString(color.getRGB()) : null;
+	}
+
+	private String digest(String str) {
+		return Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA256, str.getBytes(StandardCharsets.UTF_8)));
 	}
 
 	/**
@@ -0,0 +1,118 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox.visible;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is used to cache rendered appearances of visual signatures (e.g. a computed field layout,
+ * a rendered appearance stream or a rasterized image), in order to re-use them when signing several documents
+ * with the same {@code SignatureImageParameters}.
+ * The entries are identified by keys built by the signature drawers from the visual signature parameters
+ * and the target page. The layers not depending on the signer's text (e.g. the image form XObject created by
+ * the native drawer) are keyed without the text, so that only the text layer is drawn for each signer.
+ * The least recently used entry is evicted when the limit of cached entries is reached.
+ *
+ * NOTE: the cache is disabled by default. To be enabled, an instance shall be provided to the used
+ * {@code PdfBoxNativeObjectFactory} or {@code PdfBoxDefaultObjectFactory}.
+ * The same instance may be shared between the threads.
+ */
+public class PdfBoxSignatureAppearanceCache {
+
+	/** The default maximum number of cached entries */
+	private static final int DEFAULT_MAX_SIZE = 64;
+
+	/** The cached entries */
+	private final Map<String, Object> entries;
+
+	/**
+	 * Default constructor instantiating a cache with a default maximum size (64 entries)
+	 */
+	public PdfBoxSignatureAppearanceCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor instantiating a cache with the given maximum number of entries
+	 *
+	 * @param maxSize the maximum number of entries to be kept in the cache
+	 */
+	public PdfBoxSignatureAppearanceCache(final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The maximum size of the cache shall be a positive number!");
+		}
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Object>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 2416404447633599521L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+				return size() > maxSize;
+			}
+
+		});
+	}
+
+	/**
+	 * Returns the cached entry for the given {@code key}, when present and of the expected {@code type}
+	 *
+	 * @param key {@link String} identifying the entry
+	 * @param type {@link Class} of the expected entry
+	 * @param <T> the type of the entry
+	 * @return the cached entry, or null if not found
+	 */
+	public <T> T get(String key, Class<T> type) {
+		Object entry = entries.get(key);
+		if (type.isInstance(entry)) {
+			return type.cast(entry);
+		}
+		return null;
+	}
+
+	/**
+	 * Stores the given {@code entry}
+	 *
+	 * @param key {@link String} identifying the entry
+	 * @param entry the entry to store
+	 */
+	public void put(String key, Object entry) {
+		entries.put(key, entry);
+	}
+
+	/**
+	 * Returns the number of cached entries
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all the cached entries
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+}
@@ -20,12 +20,17 @@
  */
 package eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.pades.DSSFont;
+import eu.europa.esig.dss.pades.SignatureImageParameters;
 import eu.europa.esig.dss.pades.SignatureImageTextParameters;
 import eu.europa.esig.dss.pdf.pdfbox.visible.AbstractPdfBoxSignatureDrawer;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.pdf.visible.SignatureFieldDimensionAndPosition;
 import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.digitalsignature.SignatureOptions;
 import org.apache.pdfbox.pdmodel.interactive.digitalsignature.visible.PDVisibleSigProperties;
 import org.apache.pdfbox.pdmodel.interactive.digitalsignature.visible.PDVisibleSignDesigner;
 
@@ -39,6 +44,9 @@ import java.io.IOException;
  */
 public class DefaultPdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureDrawer {
 
+	/** Metrics of the used font (lazily created) */
+	private JavaDSSFontMetrics fontMetrics;
+
 	/**
 	 * Default constructor
 	 */
@@ -46,36 +54,44 @@ public class DefaultPdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignature
 		// empty
 	}
 
+	@Override
+	public void init(SignatureImageParameters parameters, PDDocument document, SignatureOptions signatureOptions)
+			throws IOException {
+		super.init(parameters, document, signatureOptions);
+		this.fontMetrics = null;
+	}
+
 	@Override
 	protected JavaDSSFontMetrics getDSSFontMetrics() {
-		SignatureImageTextParameters textParameters = parameters.getTextParameters();
-		DSSFont dssFont = textParameters.getFont();
+		if (fontMetrics == null) {
+			SignatureImageTextParameters textParameters = parameters.getTextParameters();
+			DSSFont dssFont = textParameters.getFont();
 
-		Font javaFont = dssFont.getJavaFont();
-		float properSize = dssFont.getSize() * ImageUtils.getScaleFactor(parameters.getZoom()); // scale text block
-		Font properFont = javaFont.deriveFont(properSize);
+			Font javaFont = dssFont.getJavaFont();
+			float properSize = dssFont.getSize() * ImageUtils.getScaleFactor(parameters.getZoom()); // scale text block
+			Font properFont = javaFont.deriveFont(properSize);
 
-		return new JavaDSSFontMetrics(properFont);
+			fontMetrics = new JavaDSSFontMetrics(properFont);
+		}
+		return fontMetrics;
 	}
 
 	@Override
 	public void draw() throws IOException {
 		SignatureFieldDimensionAndPosition dimensionAndPosition = buildSignatureFieldBox();
-		BufferedImage image = null;
-		BufferedImage textImage = null;
-		if (parameters.getImage() != null) {
-			image = DefaultImageDrawerUtils.toBufferedImage(parameters.getImage());
-		}
-		if (parameters.getTextParameters() != null && !parameters.getTextParameters().isEmpty()) {
-			textImage = DefaultImageDrawerUtils.createTextImage(parameters, dimensionAndPosition, getDSSFontMetrics());
+
+		BufferedImage bufferedImage = null;
+		String cacheKey = getAppearanceCacheKey("default-appearance");
+		if (cacheKey != null) {
+			bufferedImage = appearanceCache.get(cacheKey, BufferedImage.class);
 		}
-		if (image == null && textImage == null) {
-			throw new IllegalArgumentException("Image or text shall be defined in order to build a visual signature!");
+		if (bufferedImage == null) {
+			bufferedImage = drawImage(dimensionAndPosition);
+			if (cacheKey != null) {
+				appearanceCache.put(cacheKey, bufferedImage);
+			}
 		}
 
-		BufferedImage bufferedImage = DefaultImageDrawerUtils.mergeImages(image, textImage, dimensionAndPosition, parameters);
-		bufferedImage = DefaultImageDrawerUtils.rotate(bufferedImage, dimensionAndPosition.getGlobalRotation());
-
 		int page = parameters.getFieldParameters().getPage();
 		PDVisibleSignDesigner visibleSig = new PDVisibleSignDesigner(document, bufferedImage, page);
 
@@ -93,6 +109,43 @@ public class DefaultPdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignature
 		signatureOptions.setPage(page - ImageUtils.DEFAULT_FIRST_PAGE); // DSS-1138
 	}
 
+	private BufferedImage drawImage(SignatureFieldDimensionAndPosition dimensionAndPosition) {
+		BufferedImage image = null;
+		BufferedImage textImage = null;
+		if (parameters.getImage() != null) {
+			image = getImage(parameters.getImage());
+		}
+		if (parameters.getTextParameters() != null && !parameters.getTextParameters().isEmpty()) {
+			textImage = DefaultImageDrawerUtils.createTextImage(parameters, dimensionAndPosition, getDSSFontMetrics());
+		}
+		if (image == null && textImage == null) {
+			throw new IllegalArgumentException("Image or text shall be defined in order to build a visual signature!");
+		}
+
+		BufferedImage bufferedImage = DefaultImageDrawerUtils.mergeImages(image, textImage, dimensionAndPosition, parameters);
+		return DefaultImageDrawerUtils.rotate(bufferedImage, dimensionAndPosition.getGlobalRotation());
+	}
+
+	/**
+	 * Reads the image document. When the appearance cache is enabled, the read image is re-used
+	 * for all appearances with the same image (e.g. when only the signer's text differs).
+	 *
+	 * @param imageDocument {@link DSSDocument} image to read
+	 * @return {@link BufferedImage}
+	 */
+	private BufferedImage getImage(DSSDocument imageDocument) {
+		if (appearanceCache == null) {
+			return DefaultImageDrawerUtils.toBufferedImage(imageDocument);
+		}
+		String cacheKey = "image:" + imageDocument.getDigest(DigestAlgorithm.SHA256);
+		BufferedImage image = appearanceCache.get(cacheKey, BufferedImage.class);
+		if (image == null) {
+			image = DefaultImageDrawerUtils.toBufferedImage(imageDocument);
+			appearanceCache.put(cacheKey, image);
+		}
+		return image;
+	}
+
 	@Override
 	protected String getExpectedColorSpaceName() {
 		if (parameters.getImage() != null) {
@@ -26,6 +26,8 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Contains font metrics for a Java font
@@ -33,10 +35,10 @@ import java.awt.image.BufferedImage;
 public class JavaDSSFontMetrics extends AbstractDSSFontMetrics {
 
 	/** The Java font to be used */
-	private Font javaFont;
+	private final Font javaFont;
 
-	/** Cached instance of font metrics */
-	private FontMetrics fontMetrics;
+	/** Cached instances of font metrics, by font size */
+	private final Map<Float, FontMetrics> fontMetricsMap = new HashMap<>();
 
 	/**
 	 * Default constructor
@@ -48,15 +50,16 @@ public class JavaDSSFontMetrics extends AbstractDSSFontMetrics {
 	}
 
 	private FontMetrics getFontMetrics(float fontSize) {
-		if (fontMetrics != null && javaFont.getSize() == fontSize) {
-			return fontMetrics;
+		FontMetrics fontMetrics = fontMetricsMap.get(fontSize);
+		if (fontMetrics == null) {
+			Font font = javaFont.deriveFont(fontSize);
+			BufferedImage img = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+			Graphics g = img.getGraphics();
+			g.setFont(font);
+			fontMetrics = g.getFontMetrics(font);
+			g.dispose();
+			fontMetricsMap.put(fontSize, fontMetrics);
 		}
-		this.javaFont = javaFont.deriveFont(fontSize);
-		BufferedImage img = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
-		Graphics g = img.getGraphics();
-		g.setFont(javaFont);
-		this.fontMetrics = g.getFontMetrics(javaFont);
-		g.dispose();
 		return fontMetrics;
 	}
 
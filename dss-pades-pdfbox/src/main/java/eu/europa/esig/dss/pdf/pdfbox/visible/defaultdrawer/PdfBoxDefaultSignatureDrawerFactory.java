@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer;
 
 import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureAppearanceCache;
 import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawer;
 import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
 
@@ -29,6 +30,9 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
  */
 public class PdfBoxDefaultSignatureDrawerFactory implements PdfBoxSignatureDrawerFactory {
 
+	/** The cache of rendered appearances (optional) */
+	private PdfBoxSignatureAppearanceCache appearanceCache;
+
 	/**
 	 * Default constructor
 	 */
@@ -36,11 +40,24 @@ public class PdfBoxDefaultSignatureDrawerFactory implements PdfBoxSignatureDrawe
 		// empty
 	}
 
+	/**
+	 * Sets the cache of rendered appearances to be used by the created signature drawers
+	 *
+	 * Default : null (the appearance is computed for each signature)
+	 *
+	 * @param appearanceCache {@link PdfBoxSignatureAppearanceCache}
+	 */
+	public void setAppearanceCache(PdfBoxSignatureAppearanceCache appearanceCache) {
+		this.appearanceCache = appearanceCache;
+	}
+
 	@Override
 	public PdfBoxSignatureDrawer getSignatureDrawer(SignatureImageParameters imageParameters) {
 		// Custom drawer(s) can be injected with a new Factory and a custom instance of
 		// IPdfObjFactory
-		return new DefaultPdfBoxVisibleSignatureDrawer();
+		DefaultPdfBoxVisibleSignatureDrawer signatureDrawer = new DefaultPdfBoxVisibleSignatureDrawer();
+		signatureDrawer.setAppearanceCache(appearanceCache);
+		return signatureDrawer;
 	}
 
 }
@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.pades.DSSFileFont;
 import eu.europa.esig.dss.pades.DSSFont;
 import eu.europa.esig.dss.pades.PAdESUtils;
@@ -29,7 +30,6 @@ import eu.europa.esig.dss.pades.SignatureImageTextParameters;
 import eu.europa.esig.dss.pdf.pdfbox.PdfBoxUtils;
 import eu.europa.esig.dss.pdf.pdfbox.visible.AbstractPdfBoxSignatureDrawer;
 import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxNativeFont;
-import eu.europa.esig.dss.pdf.visible.DSSFontMetrics;
 import eu.europa.esig.dss.pdf.visible.ImageRotationUtils;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.pdf.visible.SignatureFieldDimensionAndPosition;
@@ -38,8 +38,10 @@ import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.io.IOUtils;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDFormContentStream;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.font.PDFont;
 import org.apache.pdfbox.pdmodel.font.PDType0Font;
@@ -47,6 +49,7 @@ import org.apache.pdfbox.pdmodel.graphics.color.PDColor;
 import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
 import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceGray;
 import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceRGB;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
 import org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationWidget;
@@ -61,6 +64,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.Color;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -74,9 +78,15 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 
 	private static final Logger LOG = LoggerFactory.getLogger(NativePdfBoxVisibleSignatureDrawer.class);
 
-	/** PDFBox font */
+	/** The name of the form XObject containing the image within the resources of the appearance stream */
+	private static final COSName IMAGE_LAYER = COSName.getPDFName("DSSImageLayer");
+
+	/** PDFBox font (lazily loaded) */
 	private PDFont pdFont;
 
+	/** Metrics of the used font (lazily created) */
+	private PdfBoxDSSFontMetrics fontMetrics;
+
 	/**
 	 * The builder is to be used to create a new {@code DSSResourcesHandler} for visual signature creation,
 	 * defining a way working with internal resources (e.g. in memory or by using temporary files).
@@ -105,9 +115,24 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 	public void init(SignatureImageParameters parameters, PDDocument document, SignatureOptions signatureOptions)
 			throws IOException {
 		super.init(parameters, document, signatureOptions);
-		if (!parameters.getTextParameters().isEmpty()) {
-			this.pdFont = initFont();
+		this.pdFont = null;
+		this.fontMetrics = null;
+	}
+
+	/**
+	 * Returns the PdfBox {@link PDFont} to be used, loads it on the first call
+	 *
+	 * @return {@link PDFont}, null if no text is defined
+	 */
+	private PDFont getPdFont() {
+		if (pdFont == null && !parameters.getTextParameters().isEmpty()) {
+			try {
+				pdFont = initFont();
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to load the font. Reason : %s", e.getMessage()), e);
+			}
 		}
+		return pdFont;
 	}
 
 	/**
@@ -121,9 +146,7 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 
 		} else if (dssFont instanceof DSSFileFont) {
 			DSSFileFont fileFont = (DSSFileFont) dssFont;
-			try (InputStream is = fileFont.getInputStream()) {
-				return PDType0Font.load(document, is, fileFont.isEmbedFontSubset());
-			}
+			return PDType0Font.load(document, PdfBoxFontProgramCache.getTrueTypeFont(fileFont), fileFont.isEmbedFontSubset());
 
 		} else {
 			return PdfBoxFontMapper.getPDFont(dssFont.getJavaFont());
@@ -131,19 +154,86 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 	}
 
 	@Override
-	protected DSSFontMetrics getDSSFontMetrics() {
-		return new PdfBoxDSSFontMetrics(pdFont);
+	protected PdfBoxDSSFontMetrics getDSSFontMetrics() {
+		if (fontMetrics == null) {
+			fontMetrics = new PdfBoxDSSFontMetrics(getPdFont());
+		}
+		return fontMetrics;
 	}
 
 	@Override
 	public void draw() throws IOException {
+		int pageNumber = parameters.getFieldParameters().getPage() - ImageUtils.DEFAULT_FIRST_PAGE;
+		PDPage originalPage = document.getPage(pageNumber);
+		SignatureFieldDimensionAndPosition dimensionAndPosition = buildSignatureFieldBox();
+		PDRectangle rectangle = getPdRectangle(dimensionAndPosition, originalPage);
+
 		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 PDDocument doc = new PDDocument()) {
+			 PDDocument doc = getAppearanceTemplate(originalPage, rectangle, dimensionAndPosition)) {
+
+			PDAppearanceStream appearanceStream = getAppearanceStream(doc);
+			PDFormXObject imageLayer = (PDFormXObject) appearanceStream.getResources().getXObject(IMAGE_LAYER);
+			try (PDPageContentStream cs = new PDPageContentStream(doc, appearanceStream)) {
+				rotateSignature(cs, rectangle, dimensionAndPosition);
+				setFieldBackground(cs, parameters.getBackgroundColor());
+				setText(cs, dimensionAndPosition, parameters);
+				if (imageLayer != null) {
+					cs.drawForm(imageLayer);
+				}
+			}
+
+			doc.save(os);
+
+			DSSDocument signatureAppearance = resourcesHandler.writeToDSSDocument();
+			try (InputStream is = signatureAppearance.openStream()) {
+				signatureOptions.setVisualSignature(is);
+				signatureOptions.setPage(pageNumber);
+			}
+
+		}
+	}
+
+	/**
+	 * Returns a template document containing the signature field with an empty appearance, referencing
+	 * the static image layer (if any) within its resources. When the appearance cache is enabled, the template
+	 * is re-used for all appearances with the same parameters and layout (e.g. when only the signer's text differs),
+	 * so only the text layer is drawn on each call.
+	 *
+	 * @param originalPage {@link PDPage} to place the signature field on
+	 * @param rectangle {@link PDRectangle} of the signature field widget
+	 * @param dimensionAndPosition {@link SignatureFieldDimensionAndPosition}
+	 * @return {@link PDDocument} template
+	 * @throws IOException in case of error
+	 */
+	private PDDocument getAppearanceTemplate(PDPage originalPage, PDRectangle rectangle,
+			SignatureFieldDimensionAndPosition dimensionAndPosition) throws IOException {
+		String cacheKey = getStaticAppearanceCacheKey("native-template", rectangle.getLowerLeftX(),
+				rectangle.getLowerLeftY(), rectangle.getUpperRightX(), rectangle.getUpperRightY(),
+				dimensionAndPosition.getImageX(), dimensionAndPosition.getImageY(),
+				dimensionAndPosition.getImageWidth(), dimensionAndPosition.getImageHeight());
+		if (cacheKey == null) {
+			return createAppearanceTemplate(originalPage, rectangle, dimensionAndPosition);
+		}
+
+		byte[] template = appearanceCache.get(cacheKey, byte[].class);
+		if (template != null) {
+			LOG.debug("The static layer of the visual signature appearance is retrieved from the cache.");
+		} else {
+			try (PDDocument doc = createAppearanceTemplate(originalPage, rectangle, dimensionAndPosition);
+				 ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+				doc.save(baos);
+				template = baos.toByteArray();
+			}
+			appearanceCache.put(cacheKey, template);
+		}
+		return PDDocument.load(template);
+	}
 
-			int pageNumber = parameters.getFieldParameters().getPage() - ImageUtils.DEFAULT_FIRST_PAGE;
-			PDPage originalPage = document.getPage(pageNumber);
-			SignatureFieldDimensionAndPosition dimensionAndPosition = buildSignatureFieldBox();
+	private PDDocument createAppearanceTemplate(PDPage originalPage, PDRectangle rectangle,
+			SignatureFieldDimensionAndPosition dimensionAndPosition) throws IOException {
+		PDDocument doc = new PDDocument();
+		try {
 			// create a new page
 			PDPage page = new PDPage(originalPage.getMediaBox());
 			doc.addPage(page);
@@ -157,31 +247,29 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 			acroForm.getCOSObject().setDirect(true);
 			acroFormFields.add(signatureField);
 
-			PDRectangle rectangle = getPdRectangle(dimensionAndPosition, page);
 			widget.setRectangle(rectangle);
 
 			PDAppearanceDictionary appearance = PdfBoxUtils.createSignatureAppearanceDictionary(doc, rectangle);
 			widget.setAppearance(appearance);
 
-			PDAppearanceStream appearanceStream = appearance.getNormalAppearance().getAppearanceStream();
-			try (PDPageContentStream cs = new PDPageContentStream(doc, appearanceStream)) {
-				rotateSignature(cs, rectangle, dimensionAndPosition);
-				setFieldBackground(cs, parameters.getBackgroundColor());
-				setText(cs, dimensionAndPosition, parameters);
-				setImage(cs, doc, dimensionAndPosition, parameters.getImage());
-			}
-
-			doc.save(os);
-
-			DSSDocument document = resourcesHandler.writeToDSSDocument();
-			try (InputStream is = document.openStream()) {
-				signatureOptions.setVisualSignature(is);
-				signatureOptions.setPage(pageNumber);
+			DSSDocument image = parameters.getImage();
+			if (image != null) {
+				PDAppearanceStream appearanceStream = appearance.getNormalAppearance().getAppearanceStream();
+				appearanceStream.getResources().put(IMAGE_LAYER, createImageLayer(doc, dimensionAndPosition, image));
 			}
+			return doc;
 
+		} catch (IOException | RuntimeException e) {
+			doc.close();
+			throw e;
 		}
 	}
 
+	private PDAppearanceStream getAppearanceStream(PDDocument doc) {
+		PDSignatureField signatureField = (PDSignatureField) doc.getDocumentCatalog().getAcroForm().getFields().get(0);
+		return signatureField.getWidgets().get(0).getAppearance().getNormalAppearance().getAppearanceStream();
+	}
+
 	private void rotateSignature(PDPageContentStream cs, PDRectangle rectangle,
 			SignatureFieldDimensionAndPosition dimensionAndPosition) throws IOException {
 		switch (dimensionAndPosition.getGlobalRotation()) {
@@ -230,35 +318,33 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 	}
 
 	/**
-	 * Draws the given image with specified dimension and position
-	 * 
-	 * @param cs                   {@link PDPageContentStream} current stream
-	 * @param doc                  {@link PDDocument} to draw the picture on
+	 * Creates a form XObject drawing the given image with specified dimension and position
+	 *
+	 * @param doc                  {@link PDDocument} to create the form XObject in
 	 * @param dimensionAndPosition {@link SignatureFieldDimensionAndPosition} size
 	 *                             and position to place the picture to
 	 * @param image                {@link DSSDocument} image to draw
+	 * @return {@link PDFormXObject} image layer
 	 * @throws IOException in case of error
 	 */
-	private void setImage(PDPageContentStream cs, PDDocument doc,
-			SignatureFieldDimensionAndPosition dimensionAndPosition, DSSDocument image) throws IOException {
-		if (image != null) {
-			try (InputStream is = image.openStream()) {
-				cs.saveGraphicsState();
-				byte[] bytes = IOUtils.toByteArray(is);
-				PDImageXObject imageXObject = PDImageXObject.createFromByteArray(doc, bytes, image.getName());
-
-				float xAxis = dimensionAndPosition.getImageX();
-				float yAxis = dimensionAndPosition.getImageY();
-				float width = dimensionAndPosition.getImageWidth();
-				float height = dimensionAndPosition.getImageHeight();
-
-				cs.drawImage(imageXObject, xAxis, yAxis, width, height);
-				cs.transform(Matrix.getRotateInstance(
-						((double) 360 - ImageRotationUtils.getRotation(parameters.getFieldParameters().getRotation())), width, height));
-
-				cs.restoreGraphicsState();
-			}
+	private PDFormXObject createImageLayer(PDDocument doc, SignatureFieldDimensionAndPosition dimensionAndPosition,
+			DSSDocument image) throws IOException {
+		float xAxis = dimensionAndPosition.getImageX();
+		float yAxis = dimensionAndPosition.getImageY();
+		float width = dimensionAndPosition.getImageWidth();
+		float height = dimensionAndPosition.getImageHeight();
+
+		PDFormXObject imageLayer = new PDFormXObject(doc);
+		imageLayer.setResources(new PDResources());
+		imageLayer.setBBox(new PDRectangle(xAxis, yAxis, width, height));
+
+		try (InputStream is = image.openStream();
+			 PDFormContentStream cs = new PDFormContentStream(imageLayer)) {
+			byte[] bytes = IOUtils.toByteArray(is);
+			PDImageXObject imageXObject = PDImageXObject.createFromByteArray(doc, bytes, image.getName());
+			cs.drawImage(imageXObject, xAxis, yAxis, width, height);
 		}
+		return imageLayer;
 	}
 
 	/**
@@ -278,11 +364,11 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 			setTextBackground(cs, textParameters, dimensionAndPosition);
 			float fontSize = dimensionAndPosition.getTextSize();
 			cs.beginText();
-			cs.setFont(pdFont, fontSize);
+			cs.setFont(getPdFont(), fontSize);
 			setNonStrokingColor(cs, textParameters.getTextColor());
 			setAlphaChannel(cs, textParameters.getTextColor());
 
-			PdfBoxDSSFontMetrics pdfBoxFontMetrics = new PdfBoxDSSFontMetrics(pdFont);
+			PdfBoxDSSFontMetrics pdfBoxFontMetrics = getDSSFontMetrics();
 
 			String text = dimensionAndPosition.getText();
 			String[] strings = pdfBoxFontMetrics.getLines(text);
@@ -413,11 +499,22 @@ public class NativePdfBoxVisibleSignatureDrawer extends AbstractPdfBoxSignatureD
 	@Override
 	protected String getExpectedColorSpaceName() throws IOException {
 		if (parameters.getImage() != null) {
+			String cacheKey = getStaticAppearanceCacheKey("color-space");
+			if (cacheKey != null) {
+				String cachedColorSpaceName = appearanceCache.get(cacheKey, String.class);
+				if (cachedColorSpaceName != null) {
+					return cachedColorSpaceName;
+				}
+			}
 			try (InputStream is = parameters.getImage().openStream()) {
 				byte[] bytes = IOUtils.toByteArray(is);
 				PDImageXObject imageXObject = PDImageXObject.createFromByteArray(document, bytes, parameters.getImage().getName());
 				PDColorSpace colorSpace = imageXObject.getColorSpace();
-				return colorSpace.getName();
+				String colorSpaceName = colorSpace.getName();
+				if (cacheKey != null) {
+					appearanceCache.put(cacheKey, colorSpaceName);
+				}
+				return colorSpaceName;
 			}
 		} else {
 			return ImageUtils.containRGBColor(parameters) ? COSName.DEVICERGB.getName() : COSName.DEVICEGRAY.getName();
@@ -25,6 +25,8 @@ import eu.europa.esig.dss.pdf.visible.AbstractDSSFontMetrics;
 import org.apache.pdfbox.pdmodel.font.PDFont;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Contains font metrics for a PDFBox font
@@ -34,6 +36,12 @@ public class PdfBoxDSSFontMetrics extends AbstractDSSFontMetrics {
 	/** PdfBox font */
 	private final PDFont pdFont;
 
+	/** Cached widths of the strings, in glyph space units (1/1000 of the font size) */
+	private final Map<String, Float> stringWidths = new HashMap<>();
+
+	/** Cached height of the font bounding box, in glyph space units */
+	private Float boundingBoxHeight;
+
 	/**
 	 * Default constructor
 	 *
@@ -45,20 +53,28 @@ public class PdfBoxDSSFontMetrics extends AbstractDSSFontMetrics {
 
 	@Override
 	public float getWidth(String str, float size) {
-		try {
-			return pdFont.getStringWidth(str) / 1000 * size;
-		} catch (IOException e) {
-			throw new DSSException(String.format("Unable to compute string width! Reason : %s", e.getMessage()), e);
+		Float stringWidth = stringWidths.get(str);
+		if (stringWidth == null) {
+			try {
+				stringWidth = pdFont.getStringWidth(str);
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to compute string width! Reason : %s", e.getMessage()), e);
+			}
+			stringWidths.put(str, stringWidth);
 		}
+		return stringWidth / 1000 * size;
 	}
 
 	@Override
 	public float getHeight(String str, float size) {
-		try {
-			return pdFont.getBoundingBox().getHeight() / 1000 * size;
-		} catch (IOException e) {
-			throw new DSSException(String.format("Unable to compute string height! Reason : %s", e.getMessage()), e);
+		if (boundingBoxHeight == null) {
+			try {
+				boundingBoxHeight = pdFont.getBoundingBox().getHeight();
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to compute string height! Reason : %s", e.getMessage()), e);
+			}
 		}
+		return boundingBoxHeight / 1000 * size;
 	}
 
 }
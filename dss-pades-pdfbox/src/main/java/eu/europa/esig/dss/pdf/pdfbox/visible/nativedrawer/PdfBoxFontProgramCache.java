@@ -0,0 +1,96 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.pades.DSSFileFont;
+import eu.europa.esig.dss.utils.Utils;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps parsed TrueType font programs of {@code DSSFileFont}s, in order to avoid parsing of the same font file
+ * for every created visual signature.
+ * The fonts are identified by a digest of their content, the least recently used font is evicted
+ * when the limit of cached fonts is reached.
+ *
+ * NOTE: the cached {@code TrueTypeFont}s are shared between the documents and shall never be closed
+ * by the calling code.
+ */
+public final class PdfBoxFontProgramCache {
+
+	/** The maximum number of font programs to be kept in memory */
+	private static final int MAX_SIZE = 16;
+
+	/** The cached font programs, by base64-encoded SHA-256 digests of the font files */
+	private static final Map<String, TrueTypeFont> FONT_PROGRAMS = Collections.synchronizedMap(
+			new LinkedHashMap<String, TrueTypeFont>(MAX_SIZE, 0.75f, true) {
+
+				private static final long serialVersionUID = -3460547364556418425L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, TrueTypeFont> eldest) {
+					return size() > MAX_SIZE;
+				}
+
+			});
+
+	/**
+	 * Empty constructor
+	 */
+	private PdfBoxFontProgramCache() {
+	}
+
+	/**
+	 * Returns a parsed {@code TrueTypeFont} for the given {@code fileFont}, from the cache when available
+	 *
+	 * @param fileFont {@link DSSFileFont} to get the font program for
+	 * @return {@link TrueTypeFont}
+	 * @throws IOException if the font file cannot be read or parsed
+	 */
+	public static TrueTypeFont getTrueTypeFont(DSSFileFont fileFont) throws IOException {
+		// the digest is computed once per font document
+		String key = fileFont.getDigest(DigestAlgorithm.SHA256);
+		TrueTypeFont trueTypeFont = FONT_PROGRAMS.get(key);
+		if (trueTypeFont == null) {
+			try (InputStream is = fileFont.getInputStream()) {
+				trueTypeFont = new TTFParser().parse(new ByteArrayInputStream(Utils.toByteArray(is)));
+			}
+			FONT_PROGRAMS.put(key, trueTypeFont);
+		}
+		return trueTypeFont;
+	}
+
+	/**
+	 * Removes all the cached font programs
+	 */
+	public static void clear() {
+		FONT_PROGRAMS.clear();
+	}
+
+}
@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer;
 
 import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureAppearanceCache;
 import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawer;
 import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
 
@@ -29,6 +30,9 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
  */
 public class PdfBoxNativeSignatureDrawerFactory implements PdfBoxSignatureDrawerFactory {
 
+	/** The cache of rendered appearances (optional) */
+	private PdfBoxSignatureAppearanceCache appearanceCache;
+
 	/**
 	 * Default constructor
 	 */
@@ -36,9 +40,22 @@ public class PdfBoxNativeSignatureDrawerFactory implements PdfBoxSignatureDrawer
 		// empty
 	}
 
+	/**
+	 * Sets the cache of rendered appearances to be used by the created signature drawers
+	 *
+	 * Default : null (the appearance is computed for each signature)
+	 *
+	 * @param appearanceCache {@link PdfBoxSignatureAppearanceCache}
+	 */
+	public void setAppearanceCache(PdfBoxSignatureAppearanceCache appearanceCache) {
+		this.appearanceCache = appearanceCache;
+	}
+
 	@Override
 	public PdfBoxSignatureDrawer getSignatureDrawer(SignatureImageParameters imageParameters) {
-		return new NativePdfBoxVisibleSignatureDrawer();
+		NativePdfBoxVisibleSignatureDrawer signatureDrawer = new NativePdfBoxVisibleSignatureDrawer();
+		signatureDrawer.setAppearanceCache(appearanceCache);
+		return signatureDrawer;
 	}
 
 }
@@ -89,6 +89,7 @@ import eu.europa.esig.dss.pades.signature.suite.PAdESSignWithAtomicMethodsTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESSignWithReInitParametersTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESSignWithRevokedCertTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESSignatureParametersSerializationTest;
+import eu.europa.esig.dss.pades.signature.suite.PAdESSignatureTemplateTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESSignedAssertionTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESSpaceEOFTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESTwoSignersLTALevelTest;
@@ -133,7 +134,8 @@ import org.junit.platform.suite.api.Suite;
 		PAdESExternalCMSSignatureTLevelDocTstTest.class, PAdESExternalCMSSignatureLTLevelDocTstTest.class,
 		PAdESExternalCMSSignatureLTALevelDocTstTest.class, PAdESExternalCMSSignatureServiceTest.class, CMSForPAdESGenerationServiceTest.class,
 		PAdESLevelBWithContentTimestampCustomDigestAlgoTest.class, PAdESLevelBEncryptedDocumentTest.class, PAdESLevelLTWithVRIDictTest.class,
-		PAdESDoubleSignatureLTWithVRIAndLTTest.class, PAdESDoubleSignatureLTAndLTWithVRITest.class })
+		PAdESDoubleSignatureLTWithVRIAndLTTest.class, PAdESDoubleSignatureLTAndLTWithVRITest.class,
+		PAdESSignatureTemplateTest.class })
 public class PdfBoxPAdESSignatureSuiteTest {
 
 }
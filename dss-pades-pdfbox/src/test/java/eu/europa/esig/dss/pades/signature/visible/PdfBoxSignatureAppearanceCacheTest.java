@@ -0,0 +1,208 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature.visible;
+
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignerTextPosition;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.DSSFileFont;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.SignatureFieldParameters;
+import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.pades.SignatureImageTextParameters;
+import eu.europa.esig.dss.pades.signature.PAdESService;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxDefaultObjectFactory;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxNativeObjectFactory;
+import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxNativeFont;
+import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureAppearanceCache;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("slow")
+public class PdfBoxSignatureAppearanceCacheTest extends AbstractTestVisualComparator {
+
+	private PAdESService service;
+	private PAdESSignatureParameters signatureParameters;
+	private DSSDocument documentToSign;
+
+	@BeforeEach
+	public void init() {
+		documentToSign = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"));
+
+		signatureParameters = new PAdESSignatureParameters();
+		signatureParameters.bLevel().setSigningDate(new Date());
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignatureLevel(SignatureLevel.PAdES_BASELINE_B);
+		signatureParameters.setImageParameters(getImageParameters("My signature"));
+
+		service = new PAdESService(getOfflineCertificateVerifier());
+	}
+
+	@Test
+	public void nativeDrawerTest() throws IOException {
+		service.setPdfObjFactory(new PdfBoxNativeObjectFactory());
+		DSSDocument reference = sign("reference");
+
+		PdfBoxSignatureAppearanceCache appearanceCache = new PdfBoxSignatureAppearanceCache();
+		PdfBoxNativeObjectFactory objectFactory = new PdfBoxNativeObjectFactory();
+		objectFactory.setAppearanceCache(appearanceCache);
+		service.setPdfObjFactory(objectFactory);
+
+		checkCachedSignatures(reference, appearanceCache);
+	}
+
+	@Test
+	public void nativeDrawerTextSlotTest() throws IOException {
+		signatureParameters.setImageParameters(getFixedSizeImageParameters("My signature"));
+
+		PdfBoxSignatureAppearanceCache appearanceCache = new PdfBoxSignatureAppearanceCache();
+		PdfBoxNativeObjectFactory objectFactory = new PdfBoxNativeObjectFactory();
+		objectFactory.setAppearanceCache(appearanceCache);
+		service.setPdfObjFactory(objectFactory);
+
+		sign("first-signer");
+		int cacheSize = appearanceCache.size();
+		assertTrue(cacheSize > 0);
+
+		signatureParameters.setImageParameters(getFixedSizeImageParameters("Another signer"));
+
+		DSSDocument otherSignerSigned = sign("other-signer");
+		// only the layout of the new text is cached, the static layer is re-used
+		assertEquals(cacheSize + 1, appearanceCache.size());
+
+		service.setPdfObjFactory(new PdfBoxNativeObjectFactory());
+		DSSDocument reference = sign("other-signer-reference");
+		assertTrue(arePdfDocumentsVisuallyEqual(reference, otherSignerSigned));
+	}
+
+	@Test
+	public void defaultDrawerTest() throws IOException {
+		service.setPdfObjFactory(new PdfBoxDefaultObjectFactory());
+		DSSDocument reference = sign("reference");
+
+		PdfBoxSignatureAppearanceCache appearanceCache = new PdfBoxSignatureAppearanceCache();
+		PdfBoxDefaultObjectFactory objectFactory = new PdfBoxDefaultObjectFactory();
+		objectFactory.setAppearanceCache(appearanceCache);
+		service.setPdfObjFactory(objectFactory);
+
+		checkCachedSignatures(reference, appearanceCache);
+	}
+
+	private void checkCachedSignatures(DSSDocument reference, PdfBoxSignatureAppearanceCache appearanceCache) throws IOException {
+		DSSDocument firstSigned = sign("first");
+		int cacheSize = appearanceCache.size();
+		assertTrue(cacheSize > 0);
+		assertTrue(arePdfDocumentsVisuallyEqual(reference, firstSigned));
+
+		DSSDocument secondSigned = sign("second");
+		assertEquals(cacheSize, appearanceCache.size());
+		assertTrue(arePdfDocumentsVisuallyEqual(reference, secondSigned));
+
+		signatureParameters.setImageParameters(getImageParameters("Another signer"));
+		DSSDocument otherTextSigned = sign("other-text");
+		assertTrue(appearanceCache.size() > cacheSize);
+		assertFalse(arePdfDocumentsVisuallyEqual(reference, otherTextSigned));
+	}
+
+	@Test
+	public void nativeFontNotCachedTest() throws IOException {
+		SignatureImageParameters imageParameters = getImageParameters("My signature");
+		imageParameters.getTextParameters().setFont(new PdfBoxNativeFont(PDType1Font.HELVETICA));
+		signatureParameters.setImageParameters(imageParameters);
+
+		PdfBoxSignatureAppearanceCache appearanceCache = new PdfBoxSignatureAppearanceCache();
+		PdfBoxNativeObjectFactory objectFactory = new PdfBoxNativeObjectFactory();
+		objectFactory.setAppearanceCache(appearanceCache);
+		service.setPdfObjFactory(objectFactory);
+
+		sign("native-font");
+		assertEquals(0, appearanceCache.size());
+	}
+
+	@Test
+	public void invalidSizeTest() {
+		assertThrows(IllegalArgumentException.class, () -> new PdfBoxSignatureAppearanceCache(0));
+	}
+
+	private SignatureImageParameters getFixedSizeImageParameters(String text) {
+		// the image keeps its position within the field whatever the signer's text is
+		SignatureImageParameters imageParameters = getImageParameters(text);
+		imageParameters.getFieldParameters().setWidth(300);
+		imageParameters.getFieldParameters().setHeight(100);
+		imageParameters.getTextParameters().setSignerTextPosition(SignerTextPosition.TOP);
+		return imageParameters;
+	}
+
+	private SignatureImageParameters getImageParameters(String text) {
+		SignatureImageParameters imageParameters = new SignatureImageParameters();
+		imageParameters.setImage(new InMemoryDocument(getClass().getResourceAsStream("/signature-image.png"),
+				"signature-image.png", MimeTypeEnum.PNG));
+
+		SignatureFieldParameters fieldParameters = new SignatureFieldParameters();
+		fieldParameters.setOriginX(100);
+		fieldParameters.setOriginY(100);
+		imageParameters.setFieldParameters(fieldParameters);
+
+		SignatureImageTextParameters textParameters = new SignatureImageTextParameters();
+		textParameters.setText(text);
+		textParameters.setTextColor(Color.BLUE);
+		textParameters.setFont(new DSSFileFont(getClass().getResourceAsStream("/fonts/OpenSansBold.ttf")));
+		imageParameters.setTextParameters(textParameters);
+
+		imageParameters.setZoom(50);
+		return imageParameters;
+	}
+
+	@Override
+	protected String getTestName() {
+		return "PdfBoxSignatureAppearanceCacheTest";
+	}
+
+	@Override
+	protected PAdESService getService() {
+		return service;
+	}
+
+	@Override
+	protected DSSDocument getDocumentToSign() {
+		return documentToSign;
+	}
+
+	@Override
+	protected PAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+}
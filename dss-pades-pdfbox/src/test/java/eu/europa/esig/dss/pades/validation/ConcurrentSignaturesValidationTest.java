@@ -0,0 +1,76 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.validation;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.diagnostic.TimestampWrapper;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.test.validation.AbstractConcurrentSignaturesValidationTest;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentSignaturesValidationTest extends AbstractConcurrentSignaturesValidationTest {
+
+	@Override
+	protected DSSDocument getSignedDocument() {
+		return new InMemoryDocument(getClass().getResourceAsStream("/validation/pades-two-sig-copied-tst.pdf"));
+	}
+
+	@Override
+	protected SignedDocumentValidator getValidator(DSSDocument signedDocument) {
+		return new PDFDocumentValidator(signedDocument);
+	}
+
+	@Override
+	protected int getExpectedNumberOfTasks() {
+		// one task per master signature
+		return 2;
+	}
+
+	@Override
+	protected void verifyEquivalence(DiagnosticData sequentialDiagnosticData, DiagnosticData concurrentDiagnosticData) {
+		super.verifyEquivalence(sequentialDiagnosticData, concurrentDiagnosticData);
+
+		for (SignatureWrapper signature : concurrentDiagnosticData.getSignatures()) {
+			assertTrue(signature.isSignatureIntact());
+			assertTrue(signature.isSignatureValid());
+		}
+
+		assertEquals(2, concurrentDiagnosticData.getTimestampList().size());
+		boolean validTstFound = false;
+		boolean invalidTstFound = false;
+		for (TimestampWrapper timestamp : concurrentDiagnosticData.getTimestampList()) {
+			assertTrue(timestamp.isMessageImprintDataFound());
+			if (timestamp.isMessageImprintDataIntact()) {
+				validTstFound = true;
+			} else {
+				invalidTstFound = true;
+			}
+		}
+		assertTrue(validTstFound);
+		assertTrue(invalidTstFound);
+	}
+
+}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.pades;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.InMemoryDocument;
@@ -135,6 +136,17 @@ public class DSSFileFont extends AbstractDSSFont {
 		return fileFont.openStream();
 	}
 
+	/**
+	 * Gets the base64-encoded digest of the font document.
+	 * The digest is computed once per algorithm and kept within the font document.
+	 *
+	 * @param digestAlgorithm {@link DigestAlgorithm} to be used
+	 * @return {@link String} base64-encoded digest of the font document
+	 */
+	public String getDigest(DigestAlgorithm digestAlgorithm) {
+		return fileFont.getDigest(digestAlgorithm);
+	}
+
 	/**
 	 * Gets name of the font document
 	 *
@@ -27,6 +27,7 @@ import eu.europa.esig.dss.enumerations.SignatureForm;
 import eu.europa.esig.dss.enumerations.SignatureLevel;
 import eu.europa.esig.dss.pdf.PAdESConstants;
 import eu.europa.esig.dss.pdf.PdfSignatureCache;
+import eu.europa.esig.dss.pdf.PdfSignatureTemplate;
 
 import java.util.Date;
 import java.util.TimeZone;
@@ -116,6 +117,11 @@ public class PAdESSignatureParameters extends CAdESSignatureParameters implement
 	 */
 	private boolean includeVRIDictionary;
 
+	/**
+	 * The prepared signature revision to be re-used for the signature creation
+	 */
+	private PdfSignatureTemplate signatureTemplate;
+
 	/**
 	 * Default constructor instantiating object with default parameters
 	 */
@@ -367,6 +373,31 @@ public class PAdESSignatureParameters extends CAdESSignatureParameters implement
 		this.includeVRIDictionary = includeVRIDictionary;
 	}
 
+	/**
+	 * Gets the signature template
+	 *
+	 * @return {@link PdfSignatureTemplate}
+	 */
+	public PdfSignatureTemplate getSignatureTemplate() {
+		return signatureTemplate;
+	}
+
+	/**
+	 * Sets a signature template, created with {@code PAdESService#createSignatureTemplate}, to be used
+	 * to sign the template document. When defined, the prepared signature revision is re-used and only
+	 * the signing date and the signature value are set within it, instead of re-creating the whole revision.
+	 *
+	 * NOTE: other parameters impacting the signature revision (e.g. visual appearance, reason, signer name)
+	 * shall be the same as the ones used on the template creation.
+	 *
+	 * Default : null (the signature revision is created for each signature)
+	 *
+	 * @param signatureTemplate {@link PdfSignatureTemplate}
+	 */
+	public void setSignatureTemplate(PdfSignatureTemplate signatureTemplate) {
+		this.signatureTemplate = signatureTemplate;
+	}
+
 	@Override
 	public PAdESTimestampParameters getContentTimestampParameters() {
 		if (contentTimestampParameters == null) {
@@ -36,6 +36,7 @@ import eu.europa.esig.dss.pades.timestamp.PAdESTimestampService;
 import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.pdf.IPdfObjFactory;
 import eu.europa.esig.dss.pdf.PDFSignatureService;
+import eu.europa.esig.dss.pdf.PdfSignatureTemplate;
 import eu.europa.esig.dss.pdf.ServiceLoaderPdfObjFactory;
 import eu.europa.esig.dss.signature.AbstractSignatureService;
 import eu.europa.esig.dss.signature.SignatureExtension;
@@ -171,6 +172,27 @@ public class PAdESService extends AbstractSignatureService<PAdESSignatureParamet
 		return pdfSignatureService.previewSignatureField(toSignDocument, parameters);
 	}
 
+	/**
+	 * Creates a re-usable signature template for the given document. The template contains a prepared signature
+	 * revision (signature dictionary, field and visual appearance) created once, which can be set within
+	 * {@code PAdESSignatureParameters#setSignatureTemplate} to sign the same document multiple times
+	 * (e.g. for different recipients) by patching only the signing date and the signature value.
+	 *
+	 * @param toSignDocument the template document to be signed
+	 * @param parameters
+	 *            the signature parameters
+	 * @return {@link PdfSignatureTemplate}
+	 */
+	public PdfSignatureTemplate createSignatureTemplate(final DSSDocument toSignDocument, final PAdESSignatureParameters parameters) {
+		Objects.requireNonNull(toSignDocument, "toSignDocument cannot be null!");
+		Objects.requireNonNull(parameters, "SignatureParameters cannot be null!");
+
+		assertSignaturePossible(toSignDocument);
+
+		final PDFSignatureService pdfSignatureService = getPAdESSignatureService();
+		return pdfSignatureService.createSignatureTemplate(toSignDocument, parameters);
+	}
+
 	@Override
 	public ToBeSigned getDataToSign(final DSSDocument toSignDocument, final PAdESSignatureParameters parameters) throws DSSException {
 		Objects.requireNonNull(toSignDocument, "toSignDocument cannot be null!");
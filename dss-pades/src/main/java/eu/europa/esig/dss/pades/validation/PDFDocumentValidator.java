@@ -343,6 +343,18 @@ public class PDFDocumentValidator extends SignedDocumentValidator {
         return (PdfValidationDataContainer) super.getValidationData(signatures, detachedTimestamps);
     }
 
+    @Override
+    protected boolean isConcurrentSignatureValidationSupported() {
+        // each signature is verified against the signed content of its own revision
+        return true;
+    }
+
+    @Override
+    protected boolean isConcurrentTimestampValidationSupported() {
+        // the document timestamps are shared and updated by the timestamp sources of all signatures
+        return false;
+    }
+
     @Override
     protected PdfValidationDataContainer instantiateValidationDataContainer() {
         return new PdfValidationDataContainer(getDssRevisions());
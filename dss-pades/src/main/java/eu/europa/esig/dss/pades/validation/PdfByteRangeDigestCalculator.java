@@ -0,0 +1,202 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.validation;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Computes the digests of all signature /ByteRanges of a PDF document within a single read of the document.
+ * <p>
+ * The signed revisions of a PDF share the beginning of the file. Instead of re-reading and re-hashing
+ * the shared prefix for each signature, the document is read once in order and the state of a running
+ * {@code MessageDigest} is cloned at the end of the first part of each /ByteRange.
+ * The cloned digest is then updated with the second part of the corresponding /ByteRange.
+ * <p>
+ * The digests are computed on the first request for a given {@code DigestAlgorithm} and kept in memory.
+ * The /ByteRanges, which cannot be processed (e.g. not covering the beginning of the file, or exceeding the file),
+ * are ignored, and their digests shall be computed by reading the {@code PdfByteRangeDocument}.
+ *
+ */
+public class PdfByteRangeDigestCalculator implements Serializable {
+
+    private static final long serialVersionUID = -2417702587914391574L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(PdfByteRangeDigestCalculator.class);
+
+    /** The size of the buffer used to read the document */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The PDF document to read */
+    private final DSSDocument pdfDocument;
+
+    /** The registered ByteRanges */
+    private final Set<ByteRange> byteRanges = new LinkedHashSet<>();
+
+    /** The computed digests of the ByteRanges, by DigestAlgorithm */
+    private final Map<DigestAlgorithm, Map<ByteRange, byte[]>> digestsMap = new EnumMap<>(DigestAlgorithm.class);
+
+    /**
+     * The ByteRanges processed by a read of the document, by DigestAlgorithm
+     * (including the ones, which digests cannot be computed, e.g. exceeding the document)
+     */
+    private final Map<DigestAlgorithm, Set<ByteRange>> processedByteRangesMap = new EnumMap<>(DigestAlgorithm.class);
+
+    /**
+     * Default constructor
+     *
+     * @param pdfDocument {@link DSSDocument} the PDF document to compute the ByteRange digests on
+     */
+    public PdfByteRangeDigestCalculator(final DSSDocument pdfDocument) {
+        Objects.requireNonNull(pdfDocument, "PDF document cannot be null!");
+        this.pdfDocument = pdfDocument;
+    }
+
+    /**
+     * Registers a /ByteRange to compute digest for
+     *
+     * @param byteRange {@link ByteRange}
+     */
+    public synchronized void addByteRange(ByteRange byteRange) {
+        Objects.requireNonNull(byteRange, "ByteRange cannot be null!");
+        if (isSupported(byteRange)) {
+            byteRanges.add(byteRange);
+        } else {
+            LOG.debug("The ByteRange {} is not supported for the incremental digest computation.", byteRange);
+        }
+    }
+
+    private boolean isSupported(ByteRange byteRange) {
+        return byteRange.getFirstPartStart() == 0 && byteRange.getFirstPartEnd() >= 0 &&
+                byteRange.getSecondPartStart() >= byteRange.getFirstPartEnd() && byteRange.getSecondPartEnd() >= 0;
+    }
+
+    /**
+     * Returns the digest of the content covered by the given /ByteRange
+     *
+     * @param byteRange {@link ByteRange} to get digest for
+     * @param digestAlgorithm {@link DigestAlgorithm} to use
+     * @return digest value, NULL if the digest cannot be computed by the current calculator
+     */
+    public synchronized byte[] getDigest(ByteRange byteRange, DigestAlgorithm digestAlgorithm) {
+        Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+        if (!byteRanges.contains(byteRange)) {
+            return null;
+        }
+        Set<ByteRange> processedByteRanges = processedByteRangesMap.get(digestAlgorithm);
+        if (processedByteRanges == null || !processedByteRanges.contains(byteRange)) {
+            // the document is read again only when the ByteRange has been registered after the previous read
+            processedByteRangesMap.put(digestAlgorithm, new HashSet<>(byteRanges));
+            digestsMap.put(digestAlgorithm, computeDigests(digestAlgorithm));
+        }
+        return digestsMap.get(digestAlgorithm).get(byteRange);
+    }
+
+    private Map<ByteRange, byte[]> computeDigests(DigestAlgorithm digestAlgorithm) {
+        final List<ByteRange> ranges = new ArrayList<>(byteRanges);
+        final TreeSet<Long> boundaries = new TreeSet<>();
+        long lastFirstPartEnd = 0;
+        for (ByteRange byteRange : ranges) {
+            boundaries.add((long) byteRange.getFirstPartEnd());
+            boundaries.add((long) byteRange.getSecondPartStart());
+            boundaries.add((long) byteRange.getSecondPartStart() + byteRange.getSecondPartEnd());
+            lastFirstPartEnd = Math.max(lastFirstPartEnd, byteRange.getFirstPartEnd());
+        }
+
+        final Map<ByteRange, MessageDigest> rangeDigests = new HashMap<>();
+        final Map<ByteRange, byte[]> result = new HashMap<>();
+        try (InputStream is = pdfDocument.openStream()) {
+            final MessageDigest messageDigest = digestAlgorithm.getMessageDigest();
+            final byte[] buffer = new byte[BUFFER_SIZE];
+
+            long position = 0;
+            for (Long boundary : boundaries) {
+                processBoundary(position, messageDigest, ranges, rangeDigests, result);
+
+                // the segment [position, boundary) is either fully covered by a /ByteRange part or not
+                final boolean updateMessageDigest = position < lastFirstPartEnd;
+                final List<MessageDigest> secondPartDigests = new ArrayList<>();
+                for (Map.Entry<ByteRange, MessageDigest> entry : rangeDigests.entrySet()) {
+                    if (position >= entry.getKey().getSecondPartStart()) {
+                        secondPartDigests.add(entry.getValue());
+                    }
+                }
+
+                while (position < boundary) {
+                    int count = is.read(buffer, 0, (int) Math.min(buffer.length, boundary - position));
+                    if (count < 0) {
+                        LOG.debug("The end of the document has been reached before the end of a ByteRange.");
+                        return result;
+                    }
+                    if (updateMessageDigest) {
+                        messageDigest.update(buffer, 0, count);
+                    }
+                    for (MessageDigest secondPartDigest : secondPartDigests) {
+                        secondPartDigest.update(buffer, 0, count);
+                    }
+                    position += count;
+                }
+            }
+            processBoundary(position, messageDigest, ranges, rangeDigests, result);
+            return result;
+
+        } catch (IOException | NoSuchAlgorithmException | CloneNotSupportedException e) {
+            LOG.warn("Unable to compute the digests of ByteRanges using the incremental mode : {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private void processBoundary(long position, MessageDigest messageDigest, List<ByteRange> ranges,
+                                 Map<ByteRange, MessageDigest> rangeDigests, Map<ByteRange, byte[]> result)
+            throws CloneNotSupportedException {
+        for (ByteRange byteRange : ranges) {
+            if (byteRange.getFirstPartEnd() == position) {
+                // the running digest covers exactly the first part of the ByteRange
+                rangeDigests.put(byteRange, (MessageDigest) messageDigest.clone());
+            }
+            MessageDigest rangeDigest = rangeDigests.get(byteRange);
+            if (rangeDigest != null && (long) byteRange.getSecondPartStart() + byteRange.getSecondPartEnd() == position) {
+                result.put(byteRange, rangeDigest.digest());
+                rangeDigests.remove(byteRange);
+            }
+        }
+    }
+
+}
@@ -20,8 +20,10 @@
  */
 package eu.europa.esig.dss.pades.validation;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.CommonDocument;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.utils.Utils;
 
 import java.io.InputStream;
 
@@ -39,6 +41,9 @@ public class PdfByteRangeDocument extends CommonDocument {
     /** The ByteRange to be read */
     private final ByteRange byteRange;
 
+    /** Computes the digests of the ByteRanges within one read of the PDF document (optional) */
+    private final PdfByteRangeDigestCalculator digestCalculator;
+
     /**
      * Default constructor
      *
@@ -46,8 +51,24 @@ public class PdfByteRangeDocument extends CommonDocument {
      * @param byteRange {@link ByteRange} of the revision to be read
      */
     public PdfByteRangeDocument(final DSSDocument pdfDocument, final ByteRange byteRange) {
+        this(pdfDocument, byteRange, null);
+    }
+
+    /**
+     * Constructor with a digest calculator shared between the revisions of the same PDF document
+     *
+     * @param pdfDocument {@link DSSDocument} input PDF document to read
+     * @param byteRange {@link ByteRange} of the revision to be read
+     * @param digestCalculator {@link PdfByteRangeDigestCalculator} to compute the digest with
+     */
+    public PdfByteRangeDocument(final DSSDocument pdfDocument, final ByteRange byteRange,
+                                final PdfByteRangeDigestCalculator digestCalculator) {
         this.pdfDocument = pdfDocument;
         this.byteRange = byteRange;
+        this.digestCalculator = digestCalculator;
+        if (digestCalculator != null) {
+            digestCalculator.addByteRange(byteRange);
+        }
     }
 
     /**
@@ -64,4 +85,15 @@ public class PdfByteRangeDocument extends CommonDocument {
         return new ByteRangeInputStream(pdfDocument.openStream(), byteRange);
     }
 
+    @Override
+    public String getDigest(DigestAlgorithm digestAlgorithm) {
+        if (digestCalculator != null && !base64EncodeDigestMap.containsKey(digestAlgorithm)) {
+            byte[] digest = digestCalculator.getDigest(byteRange, digestAlgorithm);
+            if (digest != null) {
+                base64EncodeDigestMap.put(digestAlgorithm, Utils.toBase64(digest));
+            }
+        }
+        return super.getDigest(digestAlgorithm);
+    }
+
 }
@@ -26,12 +26,14 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.pades.PAdESCommonParameters;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
 import eu.europa.esig.dss.pades.PAdESUtils;
 import eu.europa.esig.dss.pades.SignatureFieldParameters;
 import eu.europa.esig.dss.pades.SignatureImageParameters;
 import eu.europa.esig.dss.pades.exception.InvalidPasswordException;
 import eu.europa.esig.dss.pades.validation.ByteRange;
 import eu.europa.esig.dss.pades.validation.PAdESSignature;
+import eu.europa.esig.dss.pades.validation.PdfByteRangeDigestCalculator;
 import eu.europa.esig.dss.pades.validation.PdfByteRangeDocument;
 import eu.europa.esig.dss.pades.validation.PdfRevision;
 import eu.europa.esig.dss.pades.validation.PdfSignatureDictionary;
@@ -186,12 +188,69 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	public DSSMessageDigest messageDigest(DSSDocument toSignDocument, PAdESCommonParameters parameters) {
 		final PdfSignatureCache pdfSignatureCache = parameters.getPdfSignatureCache();
 		if (pdfSignatureCache.getMessageDigest() == null) {
-			final DSSMessageDigest messageDigest = computeDigest(toSignDocument, parameters);
+			DSSMessageDigest messageDigest = computeDigestFromTemplate(toSignDocument, parameters);
+			if (messageDigest == null) {
+				messageDigest = computeDigest(toSignDocument, parameters);
+			}
 			pdfSignatureCache.setMessageDigest(messageDigest);
 		}
 		return pdfSignatureCache.getMessageDigest();
 	}
 
+	/**
+	 * Computes digest on to be signed data using a {@code PdfSignatureTemplate} defined within the {@code parameters},
+	 * when applicable to the {@code toSignDocument}
+	 *
+	 * @param toSignDocument {@link DSSDocument} to be signed
+	 * @param parameters {@link PAdESCommonParameters}
+	 * @return {@link DSSMessageDigest} if the template has been used, null otherwise
+	 */
+	protected DSSMessageDigest computeDigestFromTemplate(DSSDocument toSignDocument, PAdESCommonParameters parameters) {
+		if (isDocumentTimestampLayer() || !(parameters instanceof PAdESSignatureParameters)) {
+			return null;
+		}
+		final PAdESSignatureParameters signatureParameters = (PAdESSignatureParameters) parameters;
+		final PdfSignatureTemplate signatureTemplate = signatureParameters.getSignatureTemplate();
+		if (signatureTemplate == null) {
+			return null;
+		}
+		if (!signatureTemplate.isTemplateOf(toSignDocument)) {
+			LOG.warn("The provided signature template does not correspond to the document to be signed! " +
+					"The signature revision will be created from scratch.");
+			return null;
+		}
+		final byte[] toBeSignedRevision = signatureTemplate.getToBeSignedRevision(
+				signatureParameters.getSigningDate(), signatureParameters.getSigningTimeZone(),
+				signatureParameters.getDeterministicId());
+		if (toBeSignedRevision == null) {
+			LOG.warn("Unable to set the signing date within the signature template! " +
+					"The signature revision will be created from scratch.");
+			return null;
+		}
+		final PdfSignatureCache pdfSignatureCache = parameters.getPdfSignatureCache();
+		pdfSignatureCache.setToBeSignedDocument(new InMemoryDocument(toBeSignedRevision));
+		pdfSignatureCache.setFromSignatureTemplate(true);
+		return signatureTemplate.getMessageDigest(toBeSignedRevision, parameters.getDigestAlgorithm());
+	}
+
+	@Override
+	public PdfSignatureTemplate createSignatureTemplate(DSSDocument toSignDocument, PAdESCommonParameters parameters) {
+		if (isDocumentTimestampLayer()) {
+			throw new UnsupportedOperationException("Signature templates are not supported for timestamp revisions!");
+		}
+		try {
+			computeDigest(toSignDocument, parameters);
+			final DSSDocument preparedRevision = parameters.getPdfSignatureCache().getToBeSignedDocument();
+			if (preparedRevision == null) {
+				throw new DSSException("Unable to create a signature template : the prepared revision has not been created!");
+			}
+			return new PdfSignatureTemplate(toSignDocument, preparedRevision);
+
+		} finally {
+			parameters.reinit();
+		}
+	}
+
 	/**
 	 * Computes digest on to be signed data computed on the {@code toSignDocument} respectively
 	 * to the given {@code parameters}
@@ -211,6 +270,12 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 				signedDocument = PAdESUtils.replaceSignature(pdfSignatureCache.getToBeSignedDocument(),
 						cmsSignedData, resourcesHandlerBuilder);
 			} catch (Exception e) {
+				if (pdfSignatureCache.isFromSignatureTemplate()) {
+					// the revision cannot be re-created, as the signed message-digest depends on the template
+					parameters.reinit();
+					throw new DSSException(String.format("Unable to sign document using the signature template! " +
+							"Reason : %s", e.getMessage()), e);
+				}
 				String errorMessage = "Unable to sign document using a resources caching! Reason : '{}'. Sign using a complete processing...";
 				if (LOG.isDebugEnabled()) {
 					LOG.warn(errorMessage, e.getMessage(), e);
@@ -267,6 +332,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	public List<PdfRevision> getRevisions(final DSSDocument document, final char[] pwd) {
 		final List<PdfRevision> revisions = new ArrayList<>();
 		final List<PdfByteRangeDocument> revisionDocuments = PAdESUtils.extractRevisions(document);
+		// computes the digests of all signed ByteRanges within one read of the document
+		final PdfByteRangeDigestCalculator byteRangeDigestCalculator = new PdfByteRangeDigestCalculator(document);
 
 		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd)) {
 
@@ -294,7 +361,7 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 
 					final DSSDocument signedContent;
 					if (byteRangeValid) {
-						signedContent = new PdfByteRangeDocument(document, byteRange);
+						signedContent = new PdfByteRangeDocument(document, byteRange, byteRangeDigestCalculator);
 					} else {
 						signedContent = InMemoryDocument.createEmptyDocument();
 						LOG.warn("The signature '{}' has an invalid /ByteRange! " +
@@ -51,6 +51,20 @@ public interface PDFSignatureService {
 	 */
 	DSSMessageDigest messageDigest(final DSSDocument toSignDocument, final PAdESCommonParameters parameters);
 
+	/**
+	 * Creates a re-usable signature template for the given PDF document, containing a prepared signature revision
+	 * (signature dictionary, signature field and its appearance). The template can be provided within
+	 * {@code PAdESSignatureParameters#setSignatureTemplate} in order to sign the same document multiple times
+	 * without re-creating the incremental update.
+	 *
+	 * @param toSignDocument
+	 *            the template PDF document
+	 * @param parameters
+	 *            the signature parameters
+	 * @return {@link PdfSignatureTemplate}
+	 */
+	PdfSignatureTemplate createSignatureTemplate(final DSSDocument toSignDocument, final PAdESCommonParameters parameters);
+
 	/**
 	 * Signs a PDF document
 	 *
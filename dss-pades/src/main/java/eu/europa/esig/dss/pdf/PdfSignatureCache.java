@@ -45,6 +45,11 @@ public class PdfSignatureCache implements Serializable {
      */
     private DSSDocument toBeSignedDocument;
 
+    /**
+     * Defines whether the ToBeSigned document has been created from a {@code PdfSignatureTemplate}
+     */
+    private boolean fromSignatureTemplate;
+
     /**
      * Default constructor instantiating object with null values
      */
@@ -88,6 +93,25 @@ public class PdfSignatureCache implements Serializable {
         this.toBeSignedDocument = toBeSignedDocument;
     }
 
+    /**
+     * Gets whether the ToBeSigned document has been created from a {@code PdfSignatureTemplate}.
+     * Such a document cannot be re-created from scratch, as the computed message-digest depends on the template.
+     *
+     * @return TRUE if the ToBeSigned document has been created from a signature template, FALSE otherwise
+     */
+    public boolean isFromSignatureTemplate() {
+        return fromSignatureTemplate;
+    }
+
+    /**
+     * Sets whether the ToBeSigned document has been created from a {@code PdfSignatureTemplate}
+     *
+     * @param fromSignatureTemplate whether the ToBeSigned document has been created from a signature template
+     */
+    public void setFromSignatureTemplate(boolean fromSignatureTemplate) {
+        this.fromSignatureTemplate = fromSignatureTemplate;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -95,6 +119,8 @@ public class PdfSignatureCache implements Serializable {
 
         PdfSignatureCache that = (PdfSignatureCache) o;
 
+        if (fromSignatureTemplate != that.fromSignatureTemplate)
+            return false;
         if (!Objects.equals(messageDigest, that.messageDigest))
             return false;
         return Objects.equals(toBeSignedDocument, that.toBeSignedDocument);
@@ -104,6 +130,7 @@ public class PdfSignatureCache implements Serializable {
     public int hashCode() {
         int result = messageDigest != null ? messageDigest.hashCode() : 0;
         result = 31 * result + (toBeSignedDocument != null ? toBeSignedDocument.hashCode() : 0);
+        result = 31 * result + (fromSignatureTemplate ? 1 : 0);
         return result;
     }
 
@@ -0,0 +1,302 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class represents a prepared PDF signature revision, created once for a template PDF document,
+ * which can be re-used to sign the same document multiple times (e.g. bulk stamping for different recipients)
+ * without re-generating the incremental update (signature dictionary, field and its appearance).
+ *
+ * For every use, only the variable parts of the prepared revision are patched within the binaries :
+ * the signing date (/M entry), the changing part of the file identifier (second element of the trailer /ID)
+ * and the /Contents of the signature dictionary.
+ * All other signature parameters (e.g. field, visual appearance, reason, signer name) shall be the same
+ * as the ones used on the template creation.
+ *
+ * NOTE: the permanent part of the file identifier (first element of the /ID) is kept, as it identifies
+ * the original document (see ISO 32000-1, 14.4 "File Identifiers"), while the changing part
+ * is computed for every signed document, as it is done when the revision is created from scratch.
+ *
+ */
+public class PdfSignatureTemplate implements Serializable {
+
+    private static final long serialVersionUID = -5219880218329484712L;
+
+    /** The /ByteRange pattern */
+    private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile(
+            "/ByteRange\\s*\\[\\s*(\\d+)\\s+(\\d+)\\s+(\\d+)\\s+(\\d+)\\s*]");
+
+    /** The /M entry pattern, containing a signing date in a literal string form */
+    private static final Pattern SIGN_DATE_PATTERN = Pattern.compile("/M\\s*\\((D:[0-9]{14}[^)]*)\\)");
+
+    /** The trailer /ID entry pattern, containing the permanent and the changing identifiers */
+    private static final Pattern FILE_ID_PATTERN = Pattern.compile(
+            "/ID\\s*\\[\\s*<([0-9A-Fa-f]*)>\\s*<([0-9A-Fa-f]+)>\\s*]");
+
+    /** The digest algorithm used to compute the changing file identifier (as used by PDF processors) */
+    private static final DigestAlgorithm FILE_ID_DIGEST_ALGORITHM = DigestAlgorithm.MD5;
+
+    /** The digest algorithm used to identify the template document */
+    private static final DigestAlgorithm TEMPLATE_DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+    /**
+     * Base64-encoded digest of the template PDF document
+     */
+    private final String templateDocumentDigest;
+
+    /**
+     * Binaries of the prepared PDF revision, containing an empty /Contents
+     */
+    private final byte[] preparedRevision;
+
+    /**
+     * Position of the /Contents value (including '<' and '>' delimiters) within the prepared revision
+     */
+    private final int contentsOffset;
+
+    /**
+     * Length of the /Contents value (including '<' and '>' delimiters)
+     */
+    private final int contentsLength;
+
+    /**
+     * Position of the signing date value within the prepared revision (-1 when not present)
+     */
+    private final int signDateOffset;
+
+    /**
+     * The signing date value as present within the prepared revision (e.g. "D:20230101120000+01'00'")
+     */
+    private final String signDate;
+
+    /**
+     * Position of the changing file identifier value within the prepared revision (-1 when not present)
+     */
+    private final int fileIdOffset;
+
+    /**
+     * The changing file identifier value (hex-encoded) as present within the prepared revision
+     */
+    private final String fileId;
+
+    /**
+     * Creates a template from the prepared revision generated for the {@code templateDocument}
+     *
+     * @param templateDocument {@link DSSDocument} the original PDF document used to create the template
+     * @param preparedRevision {@link DSSDocument} the PDF document containing the new signature revision
+     *                         with an empty /Contents
+     * @throws IllegalArgumentException if the prepared revision does not contain a valid signature placeholder
+     */
+    public PdfSignatureTemplate(DSSDocument templateDocument, DSSDocument preparedRevision) {
+        this.templateDocumentDigest = templateDocument.getDigest(TEMPLATE_DIGEST_ALGORITHM);
+        this.preparedRevision = DSSUtils.toByteArray(preparedRevision);
+
+        final String content = new String(this.preparedRevision, StandardCharsets.ISO_8859_1);
+        final int templateLength = (int) DSSUtils.getFileByteSize(templateDocument);
+
+        int[] byteRange = null;
+        final Matcher byteRangeMatcher = BYTE_RANGE_PATTERN.matcher(content);
+        int from = templateLength;
+        while (from < content.length() && byteRangeMatcher.find(from)) {
+            // the last /ByteRange within the incremental update
+            byteRange = new int[] { Integer.parseInt(byteRangeMatcher.group(1)), Integer.parseInt(byteRangeMatcher.group(2)),
+                    Integer.parseInt(byteRangeMatcher.group(3)), Integer.parseInt(byteRangeMatcher.group(4)) };
+            from = byteRangeMatcher.end();
+        }
+        if (byteRange == null || byteRange[0] != 0 || byteRange[2] <= byteRange[1]
+                || byteRange[2] + byteRange[3] != this.preparedRevision.length
+                || this.preparedRevision[byteRange[1]] != '<' || this.preparedRevision[byteRange[2] - 1] != '>') {
+            throw new IllegalArgumentException("Unable to create a template : " +
+                    "the prepared revision does not contain a valid signature /ByteRange!");
+        }
+        this.contentsOffset = byteRange[1];
+        this.contentsLength = byteRange[2] - byteRange[1];
+
+        int dateOffset = -1;
+        String dateValue = null;
+        final Matcher signDateMatcher = SIGN_DATE_PATTERN.matcher(content);
+        if (signDateMatcher.find(templateLength)) {
+            dateOffset = signDateMatcher.start(1);
+            dateValue = signDateMatcher.group(1);
+            if (signDateMatcher.find()) {
+                // ambiguous signing date entries
+                dateOffset = -1;
+                dateValue = null;
+            }
+        }
+        this.signDateOffset = dateOffset;
+        this.signDate = dateValue;
+
+        int idOffset = -1;
+        String idValue = null;
+        final Matcher fileIdMatcher = FILE_ID_PATTERN.matcher(content);
+        from = templateLength;
+        while (from < content.length() && fileIdMatcher.find(from)) {
+            // the trailer of the incremental update
+            idOffset = fileIdMatcher.start(2);
+            idValue = fileIdMatcher.group(2);
+            from = fileIdMatcher.end();
+        }
+        if (idOffset != -1 && idOffset > contentsOffset && idOffset < contentsOffset + contentsLength) {
+            idOffset = -1;
+            idValue = null;
+        }
+        this.fileIdOffset = idOffset;
+        this.fileId = idValue;
+    }
+
+    /**
+     * Checks whether the given {@code document} is the one used to create the template
+     *
+     * @param document {@link DSSDocument} to check
+     * @return TRUE if the document corresponds to the template, FALSE otherwise
+     */
+    public boolean isTemplateOf(DSSDocument document) {
+        return document != null && templateDocumentDigest.equals(document.getDigest(TEMPLATE_DIGEST_ALGORITHM));
+    }
+
+    /**
+     * Gets the signing date as defined within the prepared revision
+     *
+     * @return {@link String}, null if the revision does not contain a signing date
+     */
+    public String getSignDate() {
+        return signDate;
+    }
+
+    /**
+     * Gets the changing file identifier (second element of the /ID) as defined within the prepared revision
+     *
+     * @return {@link String} hex-encoded value, null if the revision does not contain a file identifier
+     */
+    public String getFileId() {
+        return fileId;
+    }
+
+    /**
+     * Returns the binaries of the prepared revision with the signing date patched to the given value,
+     * and with a changing file identifier computed from the signing date and the {@code deterministicId}.
+     * Returns null if the signing date cannot be patched within the template
+     * (e.g. when the template does not contain a plain signing date, or the encoded date length differs).
+     *
+     * @param signingDate {@link Date} the signing date
+     * @param signingTimeZone {@link TimeZone} the signing time-zone
+     * @param deterministicId {@link String} the deterministic identifier of the signature (see
+     *                        {@code PAdESCommonParameters#getDeterministicId}), used to compute the file identifier
+     * @return byte array representing the to be signed PDF revision, or null if not applicable
+     */
+    public byte[] getToBeSignedRevision(Date signingDate, TimeZone signingTimeZone, String deterministicId) {
+        if (signDate == null || signingDate == null) {
+            return null;
+        }
+        final String newSignDate = toSignDate(signingDate, signingTimeZone != null ? signingTimeZone : TimeZone.getDefault());
+        if (newSignDate.length() != signDate.length()) {
+            return null;
+        }
+        final byte[] revision = preparedRevision.clone();
+        final byte[] newSignDateBytes = newSignDate.getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(newSignDateBytes, 0, revision, signDateOffset, newSignDateBytes.length);
+        if (fileIdOffset != -1) {
+            final byte[] newFileIdBytes = toFileId(newSignDate, deterministicId).getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(newFileIdBytes, 0, revision, fileIdOffset, newFileIdBytes.length);
+        }
+        return revision;
+    }
+
+    /**
+     * Computes the message-digest of the signature ByteRange within the given revision
+     *
+     * @param revision byte array obtained from {@code getToBeSignedRevision(signingDate, signingTimeZone, deterministicId)}
+     * @param digestAlgorithm {@link DigestAlgorithm} to use
+     * @return {@link DSSMessageDigest}
+     */
+    public DSSMessageDigest getMessageDigest(byte[] revision, DigestAlgorithm digestAlgorithm) {
+        final MessageDigest messageDigest = DSSUtils.getMessageDigest(digestAlgorithm);
+        messageDigest.update(revision, 0, contentsOffset);
+        final int secondPartOffset = contentsOffset + contentsLength;
+        messageDigest.update(revision, secondPartOffset, revision.length - secondPartOffset);
+        return new DSSMessageDigest(digestAlgorithm, messageDigest.digest());
+    }
+
+    /**
+     * Computes a changing file identifier of the same length and case as the one defined within the template
+     *
+     * @param newSignDate {@link String} the encoded signing date
+     * @param deterministicId {@link String} the deterministic identifier of the signature
+     * @return {@link String} hex-encoded file identifier
+     */
+    private String toFileId(String newSignDate, String deterministicId) {
+        final String seed = templateDocumentDigest + "-" + newSignDate + "-" + deterministicId;
+        byte[] digest = DSSUtils.digest(FILE_ID_DIGEST_ALGORITHM, seed.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder sb = new StringBuilder();
+        while (sb.length() < fileId.length()) {
+            sb.append(Utils.toHex(digest));
+            digest = DSSUtils.digest(FILE_ID_DIGEST_ALGORITHM, digest);
+        }
+        final String newFileId = sb.substring(0, fileId.length());
+        return fileId.equals(fileId.toLowerCase(Locale.ENGLISH)) ? newFileId : newFileId.toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Encodes the date following the format used within the template (see ISO 32000-1, 7.9.4 "Dates")
+     *
+     * @param date {@link Date}
+     * @param timeZone {@link TimeZone}
+     * @return {@link String}
+     */
+    private String toSignDate(Date date, TimeZone timeZone) {
+        final SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMddHHmmss", Locale.ENGLISH);
+        sdf.setTimeZone(timeZone);
+
+        final StringBuilder sb = new StringBuilder("D:");
+        sb.append(sdf.format(date));
+
+        int offsetMinutes = timeZone.getOffset(date.getTime()) / 60000;
+        if (offsetMinutes == 0 && signDate.endsWith("Z")) {
+            sb.append('Z');
+        } else {
+            sb.append(offsetMinutes < 0 ? '-' : '+');
+            offsetMinutes = Math.abs(offsetMinutes);
+            sb.append(String.format("%02d'%02d", offsetMinutes / 60, offsetMinutes % 60));
+            if (signDate.endsWith("'")) {
+                sb.append('\'');
+            }
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,251 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature.suite;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.SignatureImageParameters;
+import eu.europa.esig.dss.pades.SignatureImageTextParameters;
+import eu.europa.esig.dss.pades.signature.PAdESService;
+import eu.europa.esig.dss.pdf.PdfSignatureTemplate;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.test.PKIFactoryAccess;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PAdESSignatureTemplateTest extends PKIFactoryAccess {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile(
+            "/ByteRange\\s*\\[\\s*\\d+\\s+(\\d+)\\s+(\\d+)\\s+\\d+\\s*]");
+
+    private static final Pattern FILE_ID_PATTERN = Pattern.compile(
+            "/ID\\s*\\[\\s*<([0-9A-Fa-f]*)>\\s*<([0-9A-Fa-f]+)>\\s*]");
+
+    private DSSDocument documentToSign;
+    private PAdESService service;
+
+    @BeforeEach
+    public void init() {
+        documentToSign = new InMemoryDocument(PAdESSignatureTemplateTest.class.getResourceAsStream("/sample.pdf"));
+        service = new PAdESService(getOfflineCertificateVerifier());
+    }
+
+    @Test
+    public void signWithTemplate() throws Exception {
+        PdfSignatureTemplate signatureTemplate = service.createSignatureTemplate(documentToSign, getSignatureParameters(new Date()));
+        assertNotNull(signatureTemplate);
+        assertNotNull(signatureTemplate.getSignDate());
+        assertTrue(signatureTemplate.isTemplateOf(documentToSign));
+
+        Set<String> signatureValues = new HashSet<>();
+        Set<String> permanentFileIds = new HashSet<>();
+        Set<String> changingFileIds = new HashSet<>();
+        long signingTime = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            Date signingDate = new Date(signingTime + i * 60000L);
+
+            PAdESSignatureParameters parameters = getSignatureParameters(signingDate);
+            parameters.setSignatureTemplate(signatureTemplate);
+
+            ToBeSigned dataToSign = service.getDataToSign(documentToSign, parameters);
+            SignatureValue signatureValue = getToken().sign(dataToSign, parameters.getDigestAlgorithm(), getPrivateKeyEntry());
+            DSSDocument signedDocument = service.signDocument(documentToSign, parameters, signatureValue);
+
+            // the signed document is the template revision, where only the signing date, the changing file identifier
+            // and the signature value are modified
+            byte[] expectedRevision = signatureTemplate.getToBeSignedRevision(signingDate, UTC, parameters.getDeterministicId());
+            byte[] signedBinaries = DSSUtils.toByteArray(signedDocument);
+            assertRevisionEqualsOutsideContents(expectedRevision, signedBinaries);
+
+            String signedContent = new String(signedBinaries, StandardCharsets.ISO_8859_1);
+            Matcher fileIdMatcher = FILE_ID_PATTERN.matcher(signedContent);
+            String[] fileId = null;
+            while (fileIdMatcher.find()) {
+                fileId = new String[] { fileIdMatcher.group(1), fileIdMatcher.group(2) };
+            }
+            assertNotNull(fileId);
+            assertNotEquals(signatureTemplate.getFileId(), fileId[1]);
+            permanentFileIds.add(fileId[0]);
+            changingFileIds.add(fileId[1]);
+
+            SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMddHHmmss");
+            sdf.setTimeZone(UTC);
+            assertTrue(signedContent.contains("(D:" + sdf.format(signingDate)));
+
+            Reports reports = validate(signedDocument);
+            DiagnosticData diagnosticData = reports.getDiagnosticData();
+            assertEquals(1, diagnosticData.getSignatures().size());
+            SignatureWrapper signature = diagnosticData.getSignatureById(diagnosticData.getFirstSignatureId());
+            assertTrue(signature.isSignatureIntact());
+            assertTrue(signature.isSignatureValid());
+            assertTrue(signature.getPDFRevision().isSignatureByteRangeValid());
+            assertFalse(signature.getPDFRevision().arePdfModificationsDetected());
+            assertEquals(SignatureLevel.PAdES_BASELINE_B, diagnosticData.getSignatureFormat(signature.getId()));
+            assertEquals(DSSUtils.formatDateToRFC(signingDate), DSSUtils.formatDateToRFC(signature.getClaimedSigningTime()));
+
+            signatureValues.add(Utils.toBase64(signature.getSignatureValue()));
+        }
+        assertEquals(3, signatureValues.size());
+        // the permanent identifier of the original document is kept, the changing one is unique per signed document
+        assertEquals(1, permanentFileIds.size());
+        assertEquals(3, changingFileIds.size());
+    }
+
+    private void assertRevisionEqualsOutsideContents(byte[] expectedRevision, byte[] signedBinaries) {
+        assertNotNull(expectedRevision);
+        assertEquals(expectedRevision.length, signedBinaries.length);
+
+        String signedContent = new String(signedBinaries, StandardCharsets.ISO_8859_1);
+        Matcher byteRangeMatcher = BYTE_RANGE_PATTERN.matcher(signedContent);
+        int contentsStart = -1;
+        int contentsEnd = -1;
+        while (byteRangeMatcher.find()) {
+            contentsStart = Integer.parseInt(byteRangeMatcher.group(1));
+            contentsEnd = Integer.parseInt(byteRangeMatcher.group(2));
+        }
+        assertTrue(contentsStart > 0);
+        assertArrayEquals(Arrays.copyOfRange(expectedRevision, 0, contentsStart),
+                Arrays.copyOfRange(signedBinaries, 0, contentsStart));
+        assertArrayEquals(Arrays.copyOfRange(expectedRevision, contentsEnd, expectedRevision.length),
+                Arrays.copyOfRange(signedBinaries, contentsEnd, signedBinaries.length));
+    }
+
+    @Test
+    public void templateOfAnotherDocument() throws Exception {
+        PdfSignatureTemplate signatureTemplate = service.createSignatureTemplate(documentToSign, getSignatureParameters(new Date()));
+
+        DSSDocument anotherDocument = new InMemoryDocument(PAdESSignatureTemplateTest.class.getResourceAsStream("/EmptyPage.pdf"));
+        assertFalse(signatureTemplate.isTemplateOf(anotherDocument));
+
+        // the signature revision is created from scratch
+        PAdESSignatureParameters parameters = getSignatureParameters(new Date());
+        parameters.setSignatureTemplate(signatureTemplate);
+
+        ToBeSigned dataToSign = service.getDataToSign(anotherDocument, parameters);
+        SignatureValue signatureValue = getToken().sign(dataToSign, parameters.getDigestAlgorithm(), getPrivateKeyEntry());
+        DSSDocument signedDocument = service.signDocument(anotherDocument, parameters, signatureValue);
+
+        Reports reports = validate(signedDocument);
+        DiagnosticData diagnosticData = reports.getDiagnosticData();
+        assertTrue(diagnosticData.getSignatureById(diagnosticData.getFirstSignatureId()).isSignatureValid());
+    }
+
+    @Test
+    public void templateWithoutEnoughSpace() throws Exception {
+        PAdESSignatureParameters templateParameters = getSignatureParameters(new Date());
+        templateParameters.setContentSize(100);
+        PdfSignatureTemplate signatureTemplate = service.createSignatureTemplate(documentToSign, templateParameters);
+
+        PAdESSignatureParameters parameters = getSignatureParameters(new Date());
+        parameters.setSignatureTemplate(signatureTemplate);
+
+        ToBeSigned dataToSign = service.getDataToSign(documentToSign, parameters);
+        SignatureValue signatureValue = getToken().sign(dataToSign, parameters.getDigestAlgorithm(), getPrivateKeyEntry());
+
+        // the signed message-digest depends on the template : the revision cannot be created from scratch
+        Exception exception = assertThrows(DSSException.class, () -> service.signDocument(documentToSign, parameters, signatureValue));
+        assertTrue(exception.getMessage().contains("Unable to sign document using the signature template!"));
+    }
+
+    @Test
+    public void patchSigningDate() throws Exception {
+        PdfSignatureTemplate signatureTemplate = service.createSignatureTemplate(documentToSign, getSignatureParameters(new Date()));
+        assertNull(signatureTemplate.getToBeSignedRevision(null, UTC, "id"));
+        assertNotNull(signatureTemplate.getToBeSignedRevision(new Date(), UTC, "id"));
+        if (!signatureTemplate.getSignDate().endsWith("Z")) {
+            // a UTC date encoded as 'Z' cannot be replaced by a date with an offset of a different length
+            assertNotNull(signatureTemplate.getToBeSignedRevision(new Date(), TimeZone.getTimeZone("GMT+02:00"), "id"));
+        }
+
+        Date signingDate = new Date();
+        assertArrayEquals(signatureTemplate.getToBeSignedRevision(signingDate, UTC, "id"),
+                signatureTemplate.getToBeSignedRevision(signingDate, UTC, "id"));
+        assertFalse(Arrays.equals(signatureTemplate.getToBeSignedRevision(signingDate, UTC, "id"),
+                signatureTemplate.getToBeSignedRevision(signingDate, UTC, "anotherId")));
+    }
+
+    @Test
+    public void nullDocument() {
+        assertThrows(NullPointerException.class, () -> service.createSignatureTemplate(null, getSignatureParameters(new Date())));
+    }
+
+    private PAdESSignatureParameters getSignatureParameters(Date signingDate) {
+        PAdESSignatureParameters parameters = new PAdESSignatureParameters();
+        parameters.setSigningCertificate(getSigningCert());
+        parameters.setCertificateChain(getCertificateChain());
+        parameters.setSignatureLevel(SignatureLevel.PAdES_BASELINE_B);
+        parameters.setReason("DSS testing");
+        parameters.setSigningTimeZone(UTC);
+        parameters.bLevel().setSigningDate(signingDate);
+
+        SignatureImageParameters imageParameters = new SignatureImageParameters();
+        SignatureImageTextParameters textParameters = new SignatureImageTextParameters();
+        textParameters.setText("Bulk stamp");
+        imageParameters.setTextParameters(textParameters);
+        imageParameters.getFieldParameters().setOriginX(100);
+        imageParameters.getFieldParameters().setOriginY(100);
+        parameters.setImageParameters(imageParameters);
+        return parameters;
+    }
+
+    private Reports validate(DSSDocument signedDocument) {
+        SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(signedDocument);
+        validator.setCertificateVerifier(getOfflineCertificateVerifier());
+        return validator.validateDocument();
+    }
+
+    @Override
+    protected String getSigningAlias() {
+        return GOOD_USER;
+    }
+
+}
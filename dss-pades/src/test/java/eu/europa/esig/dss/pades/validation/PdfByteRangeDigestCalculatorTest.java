@@ -0,0 +1,158 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.validation;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.pades.PAdESUtils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PdfByteRangeDigestCalculatorTest {
+
+    @Test
+    public void oneByteRangeTest() {
+        DSSDocument pdfDocument = new FileDocument("src/test/resources/validation/PAdES-LT.pdf");
+        ByteRange byteRange = new ByteRange(new int[]{0, 92856, 111802, 50376});
+
+        PdfByteRangeDigestCalculator digestCalculator = new PdfByteRangeDigestCalculator(pdfDocument);
+        PdfByteRangeDocument pdfByteRangeDocument = new PdfByteRangeDocument(pdfDocument, byteRange, digestCalculator);
+        byte[] digest = digestCalculator.getDigest(byteRange, DigestAlgorithm.SHA256);
+        assertNotNull(digest);
+        assertEquals("tlP+GBlImCLCAZGWWWTLmiHtZVVTqHeiRq+ddk5hV+M=", Utils.toBase64(digest));
+        assertEquals("tlP+GBlImCLCAZGWWWTLmiHtZVVTqHeiRq+ddk5hV+M=", pdfByteRangeDocument.getDigest(DigestAlgorithm.SHA256));
+    }
+
+    @Test
+    public void multipleSignaturesTest() {
+        DSSDocument pdfDocument = new FileDocument("src/test/resources/validation/muestra-firmado-firmado.pdf");
+        List<ByteRange> byteRanges = Arrays.asList(
+                new ByteRange(new int[]{0, 1188, 27814, 1567}),
+                new ByteRange(new int[]{0, 50858, 69804, 476}),
+                new ByteRange(new int[]{0, 70689, 97315, 1575}),
+                new ByteRange(new int[]{0, 100089, 119035, 477}));
+        assertDigestsEqual(pdfDocument, byteRanges);
+    }
+
+    @Test
+    public void signaturesAndRevisionsTest() {
+        DSSDocument pdfDocument = new FileDocument("src/test/resources/validation/Test.signed_Certipost-2048-SHA512.extended-LTA.pdf");
+        List<ByteRange> byteRanges = Arrays.asList(
+                new ByteRange(new int[]{0, 200002, 237892, 637}),
+                new ByteRange(new int[]{0, 6418, 17102, 332}),
+                new ByteRange(new int[]{0, 185123, 191125, 343}));
+        assertDigestsEqual(pdfDocument, byteRanges);
+
+        PdfByteRangeDigestCalculator digestCalculator = new PdfByteRangeDigestCalculator(pdfDocument);
+        for (PdfByteRangeDocument revision : PAdESUtils.extractRevisions(pdfDocument)) {
+            ByteRange byteRange = revision.getByteRange();
+            PdfByteRangeDocument document = new PdfByteRangeDocument(pdfDocument, byteRange, digestCalculator);
+            assertEquals(revision.getDigest(DigestAlgorithm.SHA512), document.getDigest(DigestAlgorithm.SHA512));
+            assertNotNull(digestCalculator.getDigest(byteRange, DigestAlgorithm.SHA512));
+        }
+    }
+
+    @Test
+    public void unsupportedByteRangeTest() {
+        DSSDocument pdfDocument = new FileDocument("src/test/resources/validation/PAdES-LT.pdf");
+        PdfByteRangeDigestCalculator digestCalculator = new PdfByteRangeDigestCalculator(pdfDocument);
+
+        ByteRange signatureValueByteRange = new ByteRange(new int[] { 92857, 18944, 111801, 0 });
+        PdfByteRangeDocument signatureValueDocument = new PdfByteRangeDocument(pdfDocument, signatureValueByteRange, digestCalculator);
+        assertNull(digestCalculator.getDigest(signatureValueByteRange, DigestAlgorithm.SHA256));
+        assertEquals(Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA256, new PdfByteRangeDocument(pdfDocument, signatureValueByteRange))),
+                signatureValueDocument.getDigest(DigestAlgorithm.SHA256));
+
+        ByteRange exceedingByteRange = new ByteRange(new int[] { 0, 92856, 111802, 5037600 });
+        new PdfByteRangeDocument(pdfDocument, exceedingByteRange, digestCalculator);
+        assertNull(digestCalculator.getDigest(exceedingByteRange, DigestAlgorithm.SHA256));
+
+        ByteRange notRegisteredByteRange = new ByteRange(new int[] { 0, 92856, 111802, 50376 });
+        assertNull(digestCalculator.getDigest(notRegisteredByteRange, DigestAlgorithm.SHA256));
+    }
+
+    @Test
+    public void documentReadOnceTest() {
+        CountingFileDocument pdfDocument = new CountingFileDocument("src/test/resources/validation/PAdES-LT.pdf");
+        PdfByteRangeDigestCalculator digestCalculator = new PdfByteRangeDigestCalculator(pdfDocument);
+
+        ByteRange byteRange = new ByteRange(new int[]{0, 92856, 111802, 50376});
+        ByteRange exceedingByteRange = new ByteRange(new int[] { 0, 92856, 111802, 5037600 });
+        digestCalculator.addByteRange(byteRange);
+        digestCalculator.addByteRange(exceedingByteRange);
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(digestCalculator.getDigest(exceedingByteRange, DigestAlgorithm.SHA256));
+            assertNotNull(digestCalculator.getDigest(byteRange, DigestAlgorithm.SHA256));
+        }
+        assertEquals(1, pdfDocument.openStreamCounter);
+
+        // a ByteRange registered after the read
+        ByteRange newByteRange = new ByteRange(new int[]{0, 92856, 111802, 50375});
+        digestCalculator.addByteRange(newByteRange);
+        assertNotNull(digestCalculator.getDigest(newByteRange, DigestAlgorithm.SHA256));
+        assertNotNull(digestCalculator.getDigest(byteRange, DigestAlgorithm.SHA256));
+        assertEquals(2, pdfDocument.openStreamCounter);
+    }
+
+    private void assertDigestsEqual(DSSDocument pdfDocument, List<ByteRange> byteRanges) {
+        PdfByteRangeDigestCalculator digestCalculator = new PdfByteRangeDigestCalculator(pdfDocument);
+        for (ByteRange byteRange : byteRanges) {
+            digestCalculator.addByteRange(byteRange);
+        }
+        for (DigestAlgorithm digestAlgorithm : Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512)) {
+            for (ByteRange byteRange : byteRanges) {
+                byte[] expectedDigest = DSSUtils.digest(digestAlgorithm, new PdfByteRangeDocument(pdfDocument, byteRange));
+                assertArrayEquals(expectedDigest, digestCalculator.getDigest(byteRange, digestAlgorithm));
+            }
+        }
+    }
+
+    private static class CountingFileDocument extends FileDocument {
+
+        private static final long serialVersionUID = 4683417926851352743L;
+
+        private int openStreamCounter;
+
+        private CountingFileDocument(String path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream openStream() {
+            ++openStreamCounter;
+            return super.openStream();
+        }
+
+    }
+
+}
@@ -23,13 +23,19 @@ package eu.europa.esig.dss.service.crl;
 import eu.europa.esig.dss.crl.CRLBinary;
 import eu.europa.esig.dss.crl.CRLUtils;
 import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.enumerations.RevocationReason;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
 import eu.europa.esig.dss.spi.client.jdbc.query.SqlQuery;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlQueryBatch;
 import eu.europa.esig.dss.spi.client.jdbc.query.SqlSelectQuery;
 import eu.europa.esig.dss.spi.client.jdbc.record.SqlRecord;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
@@ -37,9 +43,19 @@ import eu.europa.esig.dss.spi.x509.revocation.JdbcRevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.math.BigInteger;
+import java.security.cert.CRLReason;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -47,6 +63,8 @@ import java.util.List;
  */
 public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRLSource {
 
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcCacheCRLSource.class);
+
     private static final long serialVersionUID = 3007740140330998336L;
 
     /**
@@ -94,6 +112,129 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         }
     };
 
+    /**
+     * Used in the init method to check if the CRL information table exists
+     */
+    private static final SqlQuery SQL_INIT_CHECK_INFO_EXISTENCE = SqlQuery.createQuery("SELECT COUNT(*) FROM CACHED_CRL_INFO");
+
+    /**
+     * Used in the init method to create the CRL information table: ID (char40 = SHA1 length), the metadata
+     * of the currently stored CRL (SHA-256 digest of the binaries, dates and signature algorithm),
+     * the result of its signature and issuer validation and the ISSUER certificate binaries
+     */
+    private static final SqlQuery SQL_INIT_CREATE_INFO_TABLE = SqlQuery.createQuery(
+            "CREATE TABLE CACHED_CRL_INFO (ID CHAR(40) PRIMARY KEY, CRL_DIGEST LONGVARBINARY, THIS_UPDATE TIMESTAMP, " +
+                    "NEXT_UPDATE TIMESTAMP, EXPIRED_CERTS_ON_CRL TIMESTAMP, SIGNATURE_ALGORITHM VARCHAR(64), " +
+                    "SIGNATURE_INTACT BOOLEAN, SIGNATURE_INVALIDITY_REASON LONGVARCHAR, ISSUER_PRINCIPAL_MATCHES BOOLEAN, " +
+                    "CRL_SIGN_KEY_USAGE BOOLEAN, UNKNOWN_CRITICAL_EXTENSION BOOLEAN, ISSUER LONGVARBINARY)");
+
+    /**
+     * Used in the init method to create the CRL entries table: ID (char40 = SHA1 length), THIS_UPDATE of the CRL,
+     * SERIAL_NUMBER (hexadecimal) of the revoked certificate, its REVOCATION_DATE and REASON code
+     */
+    private static final SqlQuery SQL_INIT_CREATE_ENTRY_TABLE = SqlQuery.createQuery(
+            "CREATE TABLE CACHED_CRL_ENTRY (ID CHAR(40), THIS_UPDATE TIMESTAMP, SERIAL_NUMBER VARCHAR(64), REVOCATION_DATE TIMESTAMP, REASON INT)");
+
+    /**
+     * Used in the init method to create the index on the CRL entries table
+     */
+    private static final SqlQuery SQL_INIT_CREATE_ENTRY_INDEX = SqlQuery.createQuery(
+            "CREATE INDEX CACHED_CRL_ENTRY_IDX ON CACHED_CRL_ENTRY (ID, SERIAL_NUMBER, THIS_UPDATE)");
+
+    /**
+     * Used to drop the CRL information table
+     */
+    private static final SqlQuery SQL_DROP_INFO_TABLE = SqlQuery.createQuery("DROP TABLE CACHED_CRL_INFO");
+
+    /**
+     * Used to drop the CRL entries table
+     */
+    private static final SqlQuery SQL_DROP_ENTRY_TABLE = SqlQuery.createQuery("DROP TABLE CACHED_CRL_ENTRY");
+
+    /**
+     * Used to insert a new CRL information record
+     */
+    private static final SqlQuery SQL_INFO_INSERT = SqlQuery.createQuery("INSERT INTO CACHED_CRL_INFO (CRL_DIGEST, THIS_UPDATE, " +
+            "NEXT_UPDATE, EXPIRED_CERTS_ON_CRL, SIGNATURE_ALGORITHM, SIGNATURE_INTACT, SIGNATURE_INVALIDITY_REASON, " +
+            "ISSUER_PRINCIPAL_MATCHES, CRL_SIGN_KEY_USAGE, UNKNOWN_CRITICAL_EXTENSION, ISSUER, ID) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+    /**
+     * Used to update an existing CRL information record via the id
+     */
+    private static final SqlQuery SQL_INFO_UPDATE = SqlQuery.createQuery("UPDATE CACHED_CRL_INFO SET CRL_DIGEST = ?, " +
+            "THIS_UPDATE = ?, NEXT_UPDATE = ?, EXPIRED_CERTS_ON_CRL = ?, SIGNATURE_ALGORITHM = ?, SIGNATURE_INTACT = ?, " +
+            "SIGNATURE_INVALIDITY_REASON = ?, ISSUER_PRINCIPAL_MATCHES = ?, CRL_SIGN_KEY_USAGE = ?, " +
+            "UNKNOWN_CRITICAL_EXTENSION = ?, ISSUER = ? WHERE ID = ?");
+
+    /**
+     * Used to remove an existing CRL information record by the id
+     */
+    private static final SqlQuery SQL_INFO_REMOVE = SqlQuery.createQuery("DELETE FROM CACHED_CRL_INFO WHERE ID = ?");
+
+    /**
+     * Used to insert a CRL entry
+     */
+    private static final SqlQuery SQL_ENTRY_INSERT = SqlQuery.createQuery(
+            "INSERT INTO CACHED_CRL_ENTRY (ID, THIS_UPDATE, SERIAL_NUMBER, REVOCATION_DATE, REASON) VALUES (?, ?, ?, ?, ?)");
+
+    /**
+     * Used to remove CRL entries not corresponding to the given thisUpdate time
+     */
+    private static final SqlQuery SQL_ENTRY_REMOVE_OUTDATED = SqlQuery.createQuery("DELETE FROM CACHED_CRL_ENTRY WHERE ID = ? AND THIS_UPDATE <> ?");
+
+    /**
+     * Used to remove all CRL entries by the id
+     */
+    private static final SqlQuery SQL_ENTRY_REMOVE = SqlQuery.createQuery("DELETE FROM CACHED_CRL_ENTRY WHERE ID = ?");
+
+    /**
+     * Used to extract the CRL information record
+     */
+    private static final SqlSelectQuery SQL_INFO_FIND_QUERY = new SqlSelectQuery("SELECT * FROM CACHED_CRL_INFO WHERE ID = ?") {
+        @Override
+        public SqlCRLInfoRecord getRecord(ResultSet rs) throws SQLException {
+            SqlCRLInfoRecord response = new SqlCRLInfoRecord();
+            response.id = rs.getString("ID");
+            response.crlDigest = rs.getBytes("CRL_DIGEST");
+            response.thisUpdate = rs.getTimestamp("THIS_UPDATE");
+            response.nextUpdate = rs.getTimestamp("NEXT_UPDATE");
+            response.expiredCertsOnCRL = rs.getTimestamp("EXPIRED_CERTS_ON_CRL");
+            response.signatureAlgorithm = rs.getString("SIGNATURE_ALGORITHM");
+            response.signatureIntact = rs.getBoolean("SIGNATURE_INTACT");
+            response.signatureInvalidityReason = rs.getString("SIGNATURE_INVALIDITY_REASON");
+            response.issuerX509PrincipalMatches = rs.getBoolean("ISSUER_PRINCIPAL_MATCHES");
+            response.crlSignKeyUsage = rs.getBoolean("CRL_SIGN_KEY_USAGE");
+            response.unknownCriticalExtension = rs.getBoolean("UNKNOWN_CRITICAL_EXTENSION");
+            response.certificateIssuerBinary = rs.getBytes("ISSUER");
+            return response;
+        }
+    };
+
+    /**
+     * Used to extract the CRL entry of a certificate
+     */
+    private static final SqlSelectQuery SQL_ENTRY_FIND_QUERY = new SqlSelectQuery(
+            "SELECT * FROM CACHED_CRL_ENTRY WHERE ID = ? AND SERIAL_NUMBER = ? AND THIS_UPDATE = ?") {
+        @Override
+        public SqlCRLEntryRecord getRecord(ResultSet rs) throws SQLException {
+            SqlCRLEntryRecord response = new SqlCRLEntryRecord();
+            response.revocationDate = rs.getTimestamp("REVOCATION_DATE");
+            int reason = rs.getInt("REASON");
+            response.reason = rs.wasNull() ? null : reason;
+            return response;
+        }
+    };
+
+    /**
+     * The digest algorithm used to identify the stored CRL binaries (the one of the CRL token identifier)
+     */
+    private static final DigestAlgorithm CRL_DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+    /**
+     * Defines whether the revoked certificate entries of the CRLs shall be stored within a separate indexed table
+     */
+    private boolean storeCRLEntries = false;
+
     /**
      * Default constructor
      */
@@ -101,6 +242,55 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         // empty
     }
 
+    /**
+     * Sets whether the revoked certificate entries of a CRL shall be stored within a dedicated indexed table
+     * (CACHED_CRL_ENTRY) together with the CRL information (CACHED_CRL_INFO).
+     * When enabled, the revocation status of a certificate is obtained by an indexed fetch of its serial number,
+     * and the CRL is built from the stored CRL information (including the result of its signature validation),
+     * thus the CRL binaries are parsed and verified only once per CRL update. The binaries are loaded from the DB
+     * only when requested from the returned token (e.g. to be embedded within a signature).
+     * <p>
+     * NOTE: the setting shall be defined before the call of {@code initTable()} method
+     * <p>
+     * Default : FALSE (the revocation status is extracted from the stored CRL binaries on each lookup)
+     *
+     * @param storeCRLEntries whether the CRL entries shall be stored in a dedicated table
+     */
+    public void setStoreCRLEntries(boolean storeCRLEntries) {
+        this.storeCRLEntries = storeCRLEntries;
+    }
+
+    @Override
+    public void initTable() throws SQLException {
+        super.initTable();
+        if (storeCRLEntries && !isCRLEntryTablesExist()) {
+            LOG.debug("CRL entry tables do not exist. Creating new tables...");
+            getJdbcCacheConnector().executeThrowable(SQL_INIT_CREATE_INFO_TABLE);
+            getJdbcCacheConnector().executeThrowable(SQL_INIT_CREATE_ENTRY_TABLE);
+            getJdbcCacheConnector().executeThrowable(SQL_INIT_CREATE_ENTRY_INDEX);
+            LOG.info("CRL entry tables were created.");
+        }
+    }
+
+    /**
+     * Verifies if the tables used to store CRL entries exist
+     *
+     * @return TRUE if the tables exist, FALSE otherwise
+     */
+    public boolean isCRLEntryTablesExist() {
+        return getJdbcCacheConnector().tableQuery(SQL_INIT_CHECK_INFO_EXISTENCE);
+    }
+
+    @Override
+    public void destroyTable() throws SQLException {
+        if (isCRLEntryTablesExist()) {
+            getJdbcCacheConnector().executeThrowable(SQL_DROP_ENTRY_TABLE);
+            getJdbcCacheConnector().executeThrowable(SQL_DROP_INFO_TABLE);
+            LOG.info("CRL entry tables were destroyed.");
+        }
+        super.destroyTable();
+    }
+
     @Override
     protected SqlQuery getCreateTableQuery() {
         return SQL_INIT_CREATE_TABLE;
@@ -151,12 +341,7 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
     protected RevocationToken<CRL> buildRevocationTokenFromResult(SqlRecord response, CertificateToken certificateToken,
                                                                   CertificateToken issuerCertificateToken) throws DSSExternalResourceException {
         try {
-            final SqlCRLRecord crlResponse = (SqlCRLRecord) response;
-            CRLBinary crlBinary = CRLUtils.buildCRLBinary(crlResponse.crlBinary);
-            CertificateToken cachedIssuerCertificate = DSSUtils.loadCertificate(crlResponse.certificateIssuerBinary);
-
-            final CRLValidity cached = CRLUtils.buildCRLValidity(crlBinary, cachedIssuerCertificate);
-            cached.setIssuerToken(cachedIssuerCertificate);
+            final CRLValidity cached = buildCRLValidity((SqlCRLRecord) response);
 
             CRLToken crlToken = new CRLToken(certificateToken, cached);
             crlToken.setExternalOrigin(RevocationOrigin.CACHED);
@@ -168,6 +353,83 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         }
     }
 
+    private CRLValidity buildCRLValidity(SqlCRLRecord crlResponse) throws Exception {
+        CRLBinary crlBinary = CRLUtils.buildCRLBinary(crlResponse.crlBinary);
+        CertificateToken cachedIssuerCertificate = DSSUtils.loadCertificate(crlResponse.certificateIssuerBinary);
+
+        final CRLValidity cached = CRLUtils.buildCRLValidity(crlBinary, cachedIssuerCertificate);
+        cached.setIssuerToken(cachedIssuerCertificate);
+        return cached;
+    }
+
+    @Override
+    protected List<RevocationToken<CRL>> findRevocations(final String key, final CertificateToken certificateToken,
+                                                         final CertificateToken issuerCertificateToken) {
+        if (storeCRLEntries) {
+            Collection<SqlRecord> infoRecords = getJdbcCacheConnector().select(SQL_INFO_FIND_QUERY, key);
+            if (Utils.isCollectionNotEmpty(infoRecords)) {
+                RevocationToken<CRL> crlToken = buildRevocationTokenFromEntries(
+                        (SqlCRLInfoRecord) infoRecords.iterator().next(), certificateToken);
+                if (crlToken != null) {
+                    return Collections.singletonList(crlToken);
+                }
+            }
+            LOG.debug("No CRL information found for key '{}'. Extract revocation data from the CRL binaries.", key);
+        }
+        return super.findRevocations(key, certificateToken, issuerCertificateToken);
+    }
+
+    private RevocationToken<CRL> buildRevocationTokenFromEntries(SqlCRLInfoRecord infoRecord, CertificateToken certificateToken)
+            throws DSSExternalResourceException {
+        try {
+            final CRLValidity crlValidity = buildCRLValidity(infoRecord);
+
+            Date revocationDate = null;
+            RevocationReason revocationReason = null;
+            Collection<SqlRecord> entryRecords = getJdbcCacheConnector().select(SQL_ENTRY_FIND_QUERY,
+                    infoRecord.id, toSerialNumberString(certificateToken.getSerialNumber()), infoRecord.thisUpdate);
+            if (Utils.isCollectionNotEmpty(entryRecords)) {
+                SqlCRLEntryRecord entryRecord = (SqlCRLEntryRecord) entryRecords.iterator().next();
+                revocationDate = entryRecord.revocationDate;
+                if (entryRecord.reason != null) {
+                    revocationReason = RevocationReason.fromInt(entryRecord.reason);
+                }
+            }
+
+            CRLToken crlToken = new CRLToken(certificateToken, crlValidity, revocationDate, revocationReason);
+            crlToken.setExternalOrigin(RevocationOrigin.CACHED);
+            return crlToken;
+
+        } catch (Exception e) {
+            throw new DSSExternalResourceException(String.format(
+                    "An error occurred during an attempt to get a revocation token. Reason : %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Builds the validated CRL from the given CRL information record, without loading of the CRL binaries
+     *
+     * @param infoRecord {@link SqlCRLInfoRecord}
+     * @return {@link CRLValidity}
+     */
+    private CRLValidity buildCRLValidity(SqlCRLInfoRecord infoRecord) {
+        final CRLBinary crlBinary = new JdbcCRLBinary(getJdbcCacheConnector(), infoRecord.id,
+                new Digest(CRL_DIGEST_ALGORITHM, infoRecord.crlDigest));
+        final CachedCRLValidity crlValidity = new CachedCRLValidity(crlBinary, infoRecord.unknownCriticalExtension);
+        crlValidity.setThisUpdate(infoRecord.thisUpdate);
+        crlValidity.setNextUpdate(infoRecord.nextUpdate);
+        crlValidity.setExpiredCertsOnCRL(infoRecord.expiredCertsOnCRL);
+        if (infoRecord.signatureAlgorithm != null) {
+            crlValidity.setSignatureAlgorithm(SignatureAlgorithm.valueOf(infoRecord.signatureAlgorithm));
+        }
+        crlValidity.setSignatureIntact(infoRecord.signatureIntact);
+        crlValidity.setSignatureInvalidityReason(infoRecord.signatureInvalidityReason);
+        crlValidity.setIssuerX509PrincipalMatches(infoRecord.issuerX509PrincipalMatches);
+        crlValidity.setCrlSignKeyUsage(infoRecord.crlSignKeyUsage);
+        crlValidity.setIssuerToken(DSSUtils.loadCertificate(infoRecord.certificateIssuerBinary));
+        return crlValidity;
+    }
+
     @Override
     protected void insertRevocation(final String revocationKey, final RevocationToken<CRL> token) {
         CRLToken crlToken = (CRLToken) token;
@@ -175,6 +437,9 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
 
         getJdbcCacheConnector().execute(getInsertRevocationTokenEntryQuery(), revocationKey, crlValidity.getDerEncoded(),
                 crlValidity.getIssuerToken().getEncoded());
+        if (storeCRLEntries) {
+            storeCRLEntries(revocationKey, crlValidity);
+        }
     }
 
     @Override
@@ -184,6 +449,100 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
 
         getJdbcCacheConnector().execute(getUpdateRevocationTokenEntryQuery(), crlValidity.getDerEncoded(),
                 crlValidity.getIssuerToken().getEncoded(), revocationKey);
+        if (storeCRLEntries) {
+            storeCRLEntries(revocationKey, crlValidity);
+        }
+    }
+
+    /**
+     * Stores the revoked certificate entries and the information of the CRL.
+     * The new entries, the switch of the information record and the removal of the outdated entries
+     * are executed within a single transaction, thus the concurrent lookups always obtain a complete set of entries.
+     * When the transaction fails, the information record is removed, so the revocation status is extracted
+     * from the CRL binaries.
+     *
+     * @param revocationKey {@link String}
+     * @param crlValidity {@link CRLValidity} to store entries for
+     */
+    private void storeCRLEntries(final String revocationKey, final CRLValidity crlValidity) {
+        final Timestamp thisUpdate = toTimestamp(crlValidity.getThisUpdate());
+
+        final List<SqlQueryBatch> queryBatches = new ArrayList<>();
+
+        Collection<SqlRecord> infoRecords = getJdbcCacheConnector().select(SQL_INFO_FIND_QUERY, revocationKey);
+        SqlCRLInfoRecord infoRecord = Utils.isCollectionNotEmpty(infoRecords) ? (SqlCRLInfoRecord) infoRecords.iterator().next() : null;
+        final List<Object[]> entries;
+        if (infoRecord == null || !isSameTime(infoRecord.thisUpdate, thisUpdate)) {
+            entries = getCRLEntries(revocationKey, crlValidity, thisUpdate);
+            queryBatches.add(new SqlQueryBatch(SQL_ENTRY_INSERT, entries));
+        } else {
+            entries = Collections.emptyList();
+        }
+
+        queryBatches.add(SqlQueryBatch.createQueryBatch(infoRecord == null ? SQL_INFO_INSERT : SQL_INFO_UPDATE,
+                getCRLInfo(revocationKey, crlValidity)));
+        queryBatches.add(SqlQueryBatch.createQueryBatch(SQL_ENTRY_REMOVE_OUTDATED, revocationKey, thisUpdate));
+
+        if (getJdbcCacheConnector().executeTransaction(queryBatches)) {
+            LOG.debug("{} CRL entries have been stored for key '{}'", entries.size(), revocationKey);
+
+        } else {
+            LOG.warn("Unable to store CRL entries for key '{}'. The revocation status will be extracted " +
+                    "from the CRL binaries.", revocationKey);
+            if (infoRecord != null) {
+                getJdbcCacheConnector().execute(SQL_INFO_REMOVE, revocationKey);
+            }
+        }
+    }
+
+    private Object[] getCRLInfo(final String revocationKey, final CRLValidity crlValidity) {
+        final SignatureAlgorithm signatureAlgorithm = crlValidity.getSignatureAlgorithm();
+        return new Object[] { crlValidity.getCrlBinary().getDigestValue(CRL_DIGEST_ALGORITHM),
+                toTimestamp(crlValidity.getThisUpdate()), toTimestamp(crlValidity.getNextUpdate()),
+                toTimestamp(crlValidity.getExpiredCertsOnCRL()), signatureAlgorithm != null ? signatureAlgorithm.name() : null,
+                crlValidity.isSignatureIntact(), crlValidity.getSignatureInvalidityReason(),
+                crlValidity.isIssuerX509PrincipalMatches(), crlValidity.isCrlSignKeyUsage(),
+                crlValidity.isUnknownCriticalExtension(), crlValidity.getIssuerToken().getEncoded(), revocationKey };
+    }
+
+    private List<Object[]> getCRLEntries(final String revocationKey, final CRLValidity crlValidity, final Timestamp thisUpdate) {
+        final List<Object[]> entries = new ArrayList<>();
+        try {
+            CRLUtils.processRevocationInfos(crlValidity, entry -> {
+                CRLReason revocationReason = entry.getRevocationReason();
+                Integer reason = revocationReason != null ? revocationReason.ordinal() : null;
+                entries.add(new Object[] { revocationKey, thisUpdate, toSerialNumberString(entry.getSerialNumber()),
+                        toTimestamp(entry.getRevocationDate()), reason });
+            });
+        } catch (Exception e) {
+            throw new DSSExternalResourceException(String.format(
+                    "Unable to extract CRL entries. Reason : %s", e.getMessage()), e);
+        }
+        return entries;
+    }
+
+    @Override
+    protected void removeRevocation(final String revocationTokenKey) {
+        super.removeRevocation(revocationTokenKey);
+        if (storeCRLEntries) {
+            getJdbcCacheConnector().execute(SQL_INFO_REMOVE, revocationTokenKey);
+            getJdbcCacheConnector().execute(SQL_ENTRY_REMOVE, revocationTokenKey);
+        }
+    }
+
+    private static String toSerialNumberString(BigInteger serialNumber) {
+        return serialNumber.toString(16);
+    }
+
+    private static Timestamp toTimestamp(Date date) {
+        return date != null ? new Timestamp(date.getTime()) : null;
+    }
+
+    private static boolean isSameTime(Date first, Date second) {
+        if (first == null || second == null) {
+            return first == second;
+        }
+        return first.getTime() == second.getTime();
     }
 
     @Override
@@ -235,4 +594,186 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
 
     }
 
+    /**
+     * Represents a CRL information record extracted from the SQL database table
+     */
+    protected static class SqlCRLInfoRecord implements SqlRecord {
+
+        /**
+         * ID of the record
+         */
+        protected String id;
+
+        /**
+         * SHA-256 digest of the stored CRL binaries
+         */
+        protected byte[] crlDigest;
+
+        /**
+         * ThisUpdate time of the stored CRL
+         */
+        protected Date thisUpdate;
+
+        /**
+         * NextUpdate time of the stored CRL
+         */
+        protected Date nextUpdate;
+
+        /**
+         * ExpiredCertsOnCRL time of the stored CRL, when present
+         */
+        protected Date expiredCertsOnCRL;
+
+        /**
+         * Name of the signature algorithm of the stored CRL
+         */
+        protected String signatureAlgorithm;
+
+        /**
+         * Whether the signature of the stored CRL is intact
+         */
+        protected boolean signatureIntact;
+
+        /**
+         * The reason of the signature invalidity, when applicable
+         */
+        protected String signatureInvalidityReason;
+
+        /**
+         * Whether the issuer distinguished name of the CRL matches the issuer certificate
+         */
+        protected boolean issuerX509PrincipalMatches;
+
+        /**
+         * Whether the issuer certificate has the cRLSign key usage
+         */
+        protected boolean crlSignKeyUsage;
+
+        /**
+         * Whether the CRL contains unknown critical extensions
+         */
+        protected boolean unknownCriticalExtension;
+
+        /**
+         * Binary of the CRL issuer certificate
+         */
+        protected byte[] certificateIssuerBinary;
+
+        /**
+         * Default constructor
+         */
+        protected SqlCRLInfoRecord() {
+            // empty
+        }
+
+    }
+
+    /**
+     * Represents a revoked certificate entry record extracted from the SQL database table
+     */
+    protected static class SqlCRLEntryRecord implements SqlRecord {
+
+        /**
+         * Revocation time of the certificate
+         */
+        protected Date revocationDate;
+
+        /**
+         * Revocation reason code of the certificate, when present
+         */
+        protected Integer reason;
+
+        /**
+         * Default constructor
+         */
+        protected SqlCRLEntryRecord() {
+            // empty
+        }
+
+    }
+
+    /**
+     * The binaries of a stored CRL, loaded from the DB on the first request
+     */
+    private static class JdbcCRLBinary extends CRLBinary {
+
+        private static final long serialVersionUID = -2815394861623604017L;
+
+        /** The connector to load the binaries with */
+        private final transient JdbcCacheConnector jdbcCacheConnector;
+
+        /** The key of the stored CRL */
+        private final String revocationKey;
+
+        /** The loaded binaries */
+        private byte[] binaries;
+
+        /**
+         * Default constructor
+         *
+         * @param jdbcCacheConnector {@link JdbcCacheConnector}
+         * @param revocationKey {@link String} key of the stored CRL
+         * @param digest {@link Digest} SHA-256 digest of the stored CRL binaries
+         */
+        JdbcCRLBinary(JdbcCacheConnector jdbcCacheConnector, String revocationKey, Digest digest) {
+            super(digest);
+            this.jdbcCacheConnector = jdbcCacheConnector;
+            this.revocationKey = revocationKey;
+        }
+
+        @Override
+        public synchronized byte[] getBinaries() {
+            if (binaries == null) {
+                binaries = loadBinaries();
+            }
+            return binaries;
+        }
+
+        private byte[] loadBinaries() {
+            if (jdbcCacheConnector == null) {
+                throw new DSSExternalResourceException(String.format(
+                        "Unable to load the CRL binaries with key '%s' : the connector is not available.", revocationKey));
+            }
+            Collection<SqlRecord> records = jdbcCacheConnector.select(SQL_FIND_QUERY, revocationKey);
+            if (Utils.isCollectionNotEmpty(records)) {
+                byte[] crlBinaries = ((SqlCRLRecord) records.iterator().next()).crlBinary;
+                if (crlBinaries != null && isMatch(new Digest(CRL_DIGEST_ALGORITHM,
+                        DSSUtils.digest(CRL_DIGEST_ALGORITHM, crlBinaries)))) {
+                    return crlBinaries;
+                }
+            }
+            throw new DSSExternalResourceException(String.format(
+                    "The CRL binaries with key '%s' have been removed or updated in the meantime.", revocationKey));
+        }
+
+    }
+
+    /**
+     * The CRL validity built from the stored CRL information
+     */
+    private static class CachedCRLValidity extends CRLValidity {
+
+        private static final long serialVersionUID = 6742098410315625913L;
+
+        /** Whether the CRL contains unknown critical extensions */
+        private final boolean unknownCriticalExtension;
+
+        /**
+         * Default constructor
+         *
+         * @param crlBinary {@link CRLBinary}
+         * @param unknownCriticalExtension whether the CRL contains unknown critical extensions
+         */
+        CachedCRLValidity(CRLBinary crlBinary, boolean unknownCriticalExtension) {
+            super(crlBinary);
+            this.unknownCriticalExtension = unknownCriticalExtension;
+        }
+
+        @Override
+        public boolean isUnknownCriticalExtension() {
+            return unknownCriticalExtension;
+        }
+
+    }
+
 }
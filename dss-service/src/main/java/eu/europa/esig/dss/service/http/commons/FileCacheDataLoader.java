@@ -30,6 +30,7 @@ import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.spi.trace.DataLoaderTraceListener;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +75,9 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 	/** The dataloader to be used for a remote files access */
 	private DataLoader dataLoader;
 
+	/** The listener to report the executed calls to (not instrumented when null) */
+	private transient DataLoaderTraceListener traceListener;
+
 	/**
 	 * Empty constructor
 	 */
@@ -107,6 +111,17 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 		this.dataLoader = dataLoader;
 	}
 
+	/**
+	 * Sets the listener to report the executed calls to (URL, size, latency and whether the cached file was used).
+	 *
+	 * Default: null (calls are not reported)
+	 *
+	 * @param traceListener {@link DataLoaderTraceListener}
+	 */
+	public void setTraceListener(DataLoaderTraceListener traceListener) {
+		this.traceListener = traceListener;
+	}
+
 	/**
 	 * This method allows to set the file cache directory. If the cache folder does not exists then it's created.
 	 *
@@ -217,6 +232,7 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 		if ((toBeLoaded != null) && !toBeLoaded.contains(url)) {
 			throw new DSSExternalResourceException(String.format("The toBeLoaded list does not contain URL [%s]!", url));
 		}
+		final long startTime = startTrace();
 		final String fileName = DSSUtils.getNormalizedString(url);
 		final File file = getCacheFile(fileName);
 		final boolean fileExists = file.exists();
@@ -224,6 +240,7 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 		
 		if (fileExists && !refresh && !isCacheExpired) {
 			LOG.debug("Cached file was used");
+			trace(url, file.length(), startTime, true, true);
 			return new FileDocument(file);
 			
 		} else {
@@ -237,19 +254,26 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 		}
 		
 		byte[] bytes;
-		if (!isNetworkProtocol(url)) {
-			bytes = getLocalFileContent(url);
-			
-		} else {
-			bytes = dataLoader.get(url);
-			
+		try {
+			if (!isNetworkProtocol(url)) {
+				bytes = getLocalFileContent(url);
+
+			} else {
+				bytes = dataLoader.get(url);
+
+			}
+		} catch (RuntimeException e) {
+			trace(url, 0, startTime, false, false);
+			throw e;
 		}
 		
 		if (Utils.isArrayNotEmpty(bytes)) {
 			final File out = createFile(fileName, bytes);
+			trace(url, bytes.length, startTime, false, true);
 			return new FileDocument(out);
 			
 		} 
+		trace(url, 0, startTime, false, false);
 		throw new DSSExternalResourceException(String.format("Cannot retrieve data from url [%s]. Empty content is obtained!", url));
 		
 	}
@@ -345,6 +369,7 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 	public byte[] post(final String urlString, final byte[] content) throws DSSException {
 		Objects.requireNonNull(dataLoader, DATA_LOADER_NOT_CONFIGURED);
 
+		final long startTime = startTrace();
 		final String fileName = DSSUtils.getNormalizedString(urlString);
 
 		// The length for the InputStreamEntity is needed, because some receivers (on the other side) need this
@@ -362,24 +387,43 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 
 		if (fileExists && !isCacheExpired) {
 			LOG.debug("Cached file was used");
-			return DSSUtils.toByteArray(file);
+			final byte[] cachedBytes = DSSUtils.toByteArray(file);
+			trace(urlString, cachedBytes.length, startTime, true, true);
+			return cachedBytes;
 		} else {
 			LOG.debug("There is no cached file!");
 		}
 
 		byte[] returnedBytes = null;
-		if (isNetworkProtocol(urlString)) {
-			returnedBytes = dataLoader.post(urlString, content);
+		try {
+			if (isNetworkProtocol(urlString)) {
+				returnedBytes = dataLoader.post(urlString, content);
+			}
+		} catch (RuntimeException e) {
+			trace(urlString, 0, startTime, false, false);
+			throw e;
 		}
 		
 		if (Utils.isArrayNotEmpty(returnedBytes)) {
 			final File cacheFile = getCacheFile(cacheFileName);
 			DSSUtils.saveToFile(returnedBytes, cacheFile);
+			trace(urlString, returnedBytes.length, startTime, false, true);
 			return returnedBytes;
 		}
+		trace(urlString, 0, startTime, false, false);
 		throw new DSSExternalResourceException(String.format("Cannot retrieve data from URL [%s]", urlString));
 	}
 
+	private long startTrace() {
+		return traceListener != null ? System.nanoTime() : 0;
+	}
+
+	private void trace(String url, long size, long startTime, boolean cacheHit, boolean success) {
+		if (traceListener != null) {
+			traceListener.dataLoaderCallCompleted(url, size, System.nanoTime() - startTime, cacheHit, success);
+		}
+	}
+
 	private boolean isCacheExpired(File file) {
 		if (cacheExpirationTime < 0) {
 			return false;
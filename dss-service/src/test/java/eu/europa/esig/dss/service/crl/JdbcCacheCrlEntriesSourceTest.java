@@ -0,0 +1,309 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.crl;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.CertificateStatus;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.enumerations.RevocationReason;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcCacheCrlEntriesSourceTest {
+
+	private static final String KEY = "crl-key";
+
+	private final JdbcDataSource dataSource = new JdbcDataSource();
+
+	private final JdbcCacheCRLSource crlSource = new JdbcCacheCRLSource();
+
+	@BeforeEach
+	public void setUp() throws SQLException {
+		dataSource.setUrl("jdbc:h2:mem:test-entries;DB_CLOSE_DELAY=-1");
+		crlSource.setJdbcCacheConnector(new JdbcCacheConnector(dataSource));
+		crlSource.setStoreCRLEntries(true);
+		assertFalse(crlSource.isTableExists());
+		assertFalse(crlSource.isCRLEntryTablesExist());
+		crlSource.initTable();
+		assertTrue(crlSource.isTableExists());
+		assertTrue(crlSource.isCRLEntryTablesExist());
+	}
+
+	@Test
+	public void test() throws Exception {
+		CertificateToken caToken = DSSUtils.loadCertificate(new FileDocument("src/test/resources/belgiumrs2.crt").openStream());
+		CertificateToken certificateToken = DSSUtils.loadCertificate(new FileDocument("src/test/resources/TSA_BE.cer").openStream());
+
+		CRLBinary crlBinary = CRLUtils.buildCRLBinary(DSSUtils.toByteArray(new FileDocument("src/test/resources/belgium2.crl")));
+		CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, caToken);
+		CRLToken originalToken = new CRLToken(certificateToken, crlValidity);
+
+		assertTrue(crlSource.findRevocations(KEY, certificateToken, caToken).isEmpty());
+
+		crlSource.insertRevocation(KEY, originalToken);
+		List<RevocationToken<CRL>> revocations = crlSource.findRevocations(KEY, certificateToken, caToken);
+		assertEquals(1, revocations.size());
+		assertEquals(CertificateStatus.GOOD, revocations.get(0).getStatus());
+		compareTokens(originalToken, (CRLToken) revocations.get(0));
+
+		crlSource.updateRevocation(KEY, originalToken);
+		revocations = crlSource.findRevocations(KEY, certificateToken, caToken);
+		assertEquals(1, revocations.size());
+		compareTokens(originalToken, (CRLToken) revocations.get(0));
+
+		// new instance, the CRL is built from the stored information
+		JdbcCacheCRLSource newCrlSource = new JdbcCacheCRLSource();
+		newCrlSource.setJdbcCacheConnector(new JdbcCacheConnector(dataSource));
+		newCrlSource.setStoreCRLEntries(true);
+		revocations = newCrlSource.findRevocations(KEY, certificateToken, caToken);
+		assertEquals(1, revocations.size());
+		compareTokens(originalToken, (CRLToken) revocations.get(0));
+
+		crlSource.removeRevocation(KEY);
+		assertTrue(crlSource.findRevocations(KEY, certificateToken, caToken).isEmpty());
+	}
+
+	@Test
+	public void revokedEntriesTest() throws Exception {
+		CertificateToken caToken = loadCertificate("revocation-test-ca.crt");
+		CertificateToken revokedCertificate = loadCertificate("revocation-test-revoked.crt");
+		CertificateToken goodCertificate = loadCertificate("revocation-test-good.crt");
+		CRLValidity crlValidity = loadCRL("revocation-test-ca.crl", caToken);
+
+		crlSource.insertRevocation(KEY, new CRLToken(revokedCertificate, crlValidity));
+		assertEquals(1, countRecords("CACHED_CRL_INFO"));
+		assertEquals(3, countRecords("CACHED_CRL_ENTRY"));
+
+		CRLToken revokedToken = new CRLToken(revokedCertificate, crlValidity);
+		assertEquals(CertificateStatus.REVOKED, revokedToken.getStatus());
+		assertEquals(RevocationReason.KEY_COMPROMISE, revokedToken.getReason());
+		CRLToken goodToken = new CRLToken(goodCertificate, crlValidity);
+		assertEquals(CertificateStatus.GOOD, goodToken.getStatus());
+
+		List<RevocationToken<CRL>> revocations = crlSource.findRevocations(KEY, revokedCertificate, caToken);
+		assertEquals(1, revocations.size());
+		compareTokens(revokedToken, (CRLToken) revocations.get(0));
+
+		revocations = crlSource.findRevocations(KEY, goodCertificate, caToken);
+		assertEquals(1, revocations.size());
+		compareTokens(goodToken, (CRLToken) revocations.get(0));
+
+		// new instance, the CRL is built from the stored information
+		JdbcCacheCRLSource newCrlSource = new JdbcCacheCRLSource();
+		newCrlSource.setJdbcCacheConnector(new JdbcCacheConnector(dataSource));
+		newCrlSource.setStoreCRLEntries(true);
+		revocations = newCrlSource.findRevocations(KEY, revokedCertificate, caToken);
+		assertEquals(1, revocations.size());
+		compareTokens(revokedToken, (CRLToken) revocations.get(0));
+
+		// update with a new CRL revoking the second certificate
+		CRLValidity newCrlValidity = loadCRL("revocation-test-ca-2.crl", caToken);
+		crlSource.updateRevocation(KEY, new CRLToken(goodCertificate, newCrlValidity));
+		assertEquals(1, countRecords("CACHED_CRL_INFO"));
+		assertEquals(2, countRecords("CACHED_CRL_ENTRY"));
+
+		revocations = crlSource.findRevocations(KEY, goodCertificate, caToken);
+		assertEquals(1, revocations.size());
+		CRLToken newlyRevokedToken = new CRLToken(goodCertificate, newCrlValidity);
+		assertEquals(CertificateStatus.REVOKED, newlyRevokedToken.getStatus());
+		compareTokens(newlyRevokedToken, (CRLToken) revocations.get(0));
+	}
+
+	@Test
+	public void failingEntriesInsertTest() throws Exception {
+		CertificateToken caToken = loadCertificate("revocation-test-ca.crt");
+		CertificateToken revokedCertificate = loadCertificate("revocation-test-revoked.crt");
+		CertificateToken goodCertificate = loadCertificate("revocation-test-good.crt");
+
+		CRLValidity crlValidity = loadCRL("revocation-test-ca.crl", caToken);
+		JdbcCacheCRLSource failingCrlSource = new JdbcCacheCRLSource();
+		failingCrlSource.setJdbcCacheConnector(new JdbcCacheConnector(createFailingDataSource("INSERT INTO CACHED_CRL_ENTRY")));
+		failingCrlSource.setStoreCRLEntries(true);
+
+		failingCrlSource.insertRevocation(KEY, new CRLToken(revokedCertificate, crlValidity));
+		assertEquals(1, countRecords("CACHED_CRL"));
+		assertEquals(0, countRecords("CACHED_CRL_INFO"));
+		assertEquals(0, countRecords("CACHED_CRL_ENTRY"));
+
+		// the revocation status is extracted from the CRL binaries
+		List<RevocationToken<CRL>> revocations = failingCrlSource.findRevocations(KEY, revokedCertificate, caToken);
+		assertEquals(1, revocations.size());
+		compareTokens(new CRLToken(revokedCertificate, crlValidity), (CRLToken) revocations.get(0));
+
+		// the entries of the first CRL are stored successfully
+		crlSource.removeRevocation(KEY);
+		crlSource.insertRevocation(KEY, new CRLToken(revokedCertificate, crlValidity));
+		assertEquals(1, countRecords("CACHED_CRL_INFO"));
+		assertEquals(3, countRecords("CACHED_CRL_ENTRY"));
+		revocations = failingCrlSource.findRevocations(KEY, goodCertificate, caToken);
+		assertEquals(1, revocations.size());
+		assertEquals(CertificateStatus.GOOD, revocations.get(0).getStatus());
+
+		// the entries of the new CRL cannot be stored
+		CRLValidity newCrlValidity = loadCRL("revocation-test-ca-2.crl", caToken);
+		failingCrlSource.updateRevocation(KEY, new CRLToken(goodCertificate, newCrlValidity));
+		assertEquals(0, countRecords("CACHED_CRL_INFO"));
+		assertEquals(3, countRecords("CACHED_CRL_ENTRY"));
+
+		// the outdated entries are not used
+		CRLToken newlyRevokedToken = new CRLToken(goodCertificate, newCrlValidity);
+		assertEquals(CertificateStatus.REVOKED, newlyRevokedToken.getStatus());
+		revocations = failingCrlSource.findRevocations(KEY, goodCertificate, caToken);
+		assertEquals(1, revocations.size());
+		compareTokens(newlyRevokedToken, (CRLToken) revocations.get(0));
+		revocations = crlSource.findRevocations(KEY, goodCertificate, caToken);
+		assertEquals(1, revocations.size());
+		compareTokens(newlyRevokedToken, (CRLToken) revocations.get(0));
+	}
+
+	@Test
+	public void binariesLoadedOnRequestTest() throws Exception {
+		CertificateToken caToken = loadCertificate("revocation-test-ca.crt");
+		CertificateToken revokedCertificate = loadCertificate("revocation-test-revoked.crt");
+		CRLValidity crlValidity = loadCRL("revocation-test-ca.crl", caToken);
+		crlSource.insertRevocation(KEY, new CRLToken(revokedCertificate, crlValidity));
+
+		// the CRL binaries cannot be read, the revocation status is obtained from the stored CRL information
+		JdbcCacheCRLSource noBinariesCrlSource = new JdbcCacheCRLSource();
+		noBinariesCrlSource.setJdbcCacheConnector(new JdbcCacheConnector(createFailingDataSource("SELECT * FROM CACHED_CRL WHERE")));
+		noBinariesCrlSource.setStoreCRLEntries(true);
+
+		List<RevocationToken<CRL>> revocations = noBinariesCrlSource.findRevocations(KEY, revokedCertificate, caToken);
+		assertEquals(1, revocations.size());
+		CRLToken revokedToken = new CRLToken(revokedCertificate, crlValidity);
+		compareTokens(revokedToken, (CRLToken) revocations.get(0));
+		assertThrows(DSSExternalResourceException.class, () -> revocations.get(0).getEncoded());
+
+		// the binaries are loaded on request
+		List<RevocationToken<CRL>> loadedRevocations = crlSource.findRevocations(KEY, revokedCertificate, caToken);
+		assertEquals(1, loadedRevocations.size());
+		assertArrayEquals(crlValidity.getDerEncoded(), loadedRevocations.get(0).getEncoded());
+
+		// the stored binaries have been replaced after the lookup
+		List<RevocationToken<CRL>> outdatedRevocations = crlSource.findRevocations(KEY, revokedCertificate, caToken);
+		assertEquals(1, outdatedRevocations.size());
+		try (Connection connection = dataSource.getConnection();
+			 PreparedStatement statement = connection.prepareStatement("UPDATE CACHED_CRL SET DATA = ? WHERE ID = ?")) {
+			statement.setBytes(1, loadCRL("revocation-test-ca-2.crl", caToken).getDerEncoded());
+			statement.setString(2, KEY);
+			assertEquals(1, statement.executeUpdate());
+		}
+		assertThrows(DSSExternalResourceException.class, () -> outdatedRevocations.get(0).getEncoded());
+	}
+
+	private CertificateToken loadCertificate(String filename) {
+		CertificateToken certificateToken = DSSUtils.loadCertificate(new FileDocument("src/test/resources/" + filename).openStream());
+		assertNotNull(certificateToken);
+		return certificateToken;
+	}
+
+	private CRLValidity loadCRL(String filename, CertificateToken issuer) throws Exception {
+		CRLBinary crlBinary = CRLUtils.buildCRLBinary(DSSUtils.toByteArray(new FileDocument("src/test/resources/" + filename)));
+		return CRLUtils.buildCRLValidity(crlBinary, issuer);
+	}
+
+	private int countRecords(String tableName) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + tableName)) {
+			assertTrue(rs.next());
+			return rs.getInt(1);
+		}
+	}
+
+	private DataSource createFailingDataSource(String failingQueryPrefix) {
+		return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+				(dataSourceProxy, dataSourceMethod, dataSourceArgs) -> {
+					Object result = invoke(dataSource, dataSourceMethod, dataSourceArgs);
+					if (!(result instanceof Connection)) {
+						return result;
+					}
+					Connection connection = (Connection) result;
+					return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+							(connectionProxy, method, args) -> {
+								if ("prepareStatement".equals(method.getName())
+										&& ((String) args[0]).startsWith(failingQueryPrefix)) {
+									throw new SQLException("Simulated failure");
+								}
+								return invoke(connection, method, args);
+							});
+				});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private void compareTokens(CRLToken originalCRL, CRLToken cachedCRL) {
+		assertEquals(RevocationOrigin.CACHED, cachedCRL.getExternalOrigin());
+		assertEquals(originalCRL.getStatus(), cachedCRL.getStatus());
+		assertEquals(originalCRL.getRevocationDate(), cachedCRL.getRevocationDate());
+		assertEquals(originalCRL.getReason(), cachedCRL.getReason());
+		assertEquals(originalCRL.getThisUpdate(), cachedCRL.getThisUpdate());
+		assertEquals(originalCRL.getNextUpdate(), cachedCRL.getNextUpdate());
+		assertEquals(originalCRL.getIssuerCertificateToken(), cachedCRL.getIssuerCertificateToken());
+		assertEquals(originalCRL.isSignatureIntact(), cachedCRL.isSignatureIntact());
+		assertEquals(originalCRL.isValid(), cachedCRL.isValid());
+		assertEquals(originalCRL.getDSSIdAsString(), cachedCRL.getDSSIdAsString());
+	}
+
+	@AfterEach
+	public void cleanUp() throws SQLException {
+		crlSource.destroyTable();
+		assertFalse(crlSource.isTableExists());
+		assertFalse(crlSource.isCRLEntryTablesExist());
+	}
+
+}
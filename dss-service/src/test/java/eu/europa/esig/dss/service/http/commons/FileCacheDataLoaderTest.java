@@ -26,6 +26,8 @@ import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader.DataAndUrl;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
 import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
+import eu.europa.esig.dss.spi.client.http.TracingDataLoader;
+import eu.europa.esig.dss.spi.trace.DataLoaderTraceListener;
 import eu.europa.esig.dss.utils.Utils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
@@ -123,6 +126,49 @@ public class FileCacheDataLoaderTest {
 		assertTrue(Utils.isArrayNotEmpty(DSSUtils.toByteArray(dssDocument)));
 	}
 	
+	@Test
+	public void traceListenerTest() {
+		Map<String, byte[]> dataMap = new HashMap<>();
+		dataMap.put("http://dss.test/sample", "sample".getBytes());
+
+		List<String> fileCacheCalls = new ArrayList<>();
+		List<String> remoteCalls = new ArrayList<>();
+
+		FileCacheDataLoader specificDataLoader = new FileCacheDataLoader();
+		specificDataLoader.setDataLoader(new TracingDataLoader(new MemoryDataLoader(dataMap), recordCalls(remoteCalls)));
+		specificDataLoader.setFileCacheDirectory(cacheDirectory);
+		specificDataLoader.setTraceListener(recordCalls(fileCacheCalls));
+
+		assertNotNull(specificDataLoader.get("http://dss.test/sample"));
+		assertEquals(Arrays.asList("http://dss.test/sample;6;false;true"), fileCacheCalls);
+		assertEquals(Arrays.asList("http://dss.test/sample;6;false;true"), remoteCalls);
+
+		assertNotNull(specificDataLoader.get("http://dss.test/sample"));
+		assertEquals(Arrays.asList("http://dss.test/sample;6;false;true", "http://dss.test/sample;6;true;true"), fileCacheCalls);
+		assertEquals(1, remoteCalls.size());
+
+		assertThrows(DSSException.class, () -> specificDataLoader.get("http://dss.test/missing"));
+		assertEquals("http://dss.test/missing;0;false;false", fileCacheCalls.get(2));
+		assertEquals("http://dss.test/missing;0;false;false", remoteCalls.get(1));
+
+		assertNotNull(specificDataLoader.post("http://dss.test/sample", new byte[] { 1, 2, 3 }));
+		assertNotNull(specificDataLoader.post("http://dss.test/sample", new byte[] { 1, 2, 3 }));
+		assertEquals("http://dss.test/sample;6;false;true", fileCacheCalls.get(3));
+		assertEquals("http://dss.test/sample;6;true;true", fileCacheCalls.get(4));
+		assertEquals(3, remoteCalls.size());
+
+		specificDataLoader.setTraceListener(null);
+		assertNotNull(specificDataLoader.get("http://dss.test/sample"));
+		assertEquals(5, fileCacheCalls.size());
+	}
+
+	private DataLoaderTraceListener recordCalls(List<String> calls) {
+		return (url, size, duration, cacheHit, success) -> {
+			assertTrue(duration >= 0);
+			calls.add(url + ";" + size + ";" + cacheHit + ";" + success);
+		};
+	}
+
 	@Test
 	public void offlineDataLoaderTest() throws IOException {
 		File cacheDirectory = new File("target/cache");
@@ -0,0 +1,98 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.dto;
+
+import eu.europa.esig.dss.ws.dto.RemoteDigestDocument;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class is a DTO to transfer required objects to execute getDataToSign method for a detached signature
+ * creation, based on digests of the documents to be signed only (the documents content is not transferred)
+ *
+ */
+public class DataToSignDigestDocumentsDTO extends AbstractDataToSignDTO {
+
+    private static final long serialVersionUID = -2713553541582361387L;
+
+    /** The digests of the documents to be signed */
+    private List<RemoteDigestDocument> toSignDigestDocuments;
+
+    /**
+     * Empty constructor
+     */
+    public DataToSignDigestDocumentsDTO() {
+        super();
+    }
+
+    /**
+     * Default constructor
+     *
+     * @param toSignDigestDocuments a list of {@link RemoteDigestDocument}s representing the documents to be signed
+     * @param parameters {@link RemoteSignatureParameters} set of driven signature creation parameters
+     */
+    public DataToSignDigestDocumentsDTO(List<RemoteDigestDocument> toSignDigestDocuments, RemoteSignatureParameters parameters) {
+        super(parameters);
+        this.toSignDigestDocuments = toSignDigestDocuments;
+    }
+
+    /**
+     * Gets the digests of the documents to be signed
+     *
+     * @return a list of {@link RemoteDigestDocument}s
+     */
+    public List<RemoteDigestDocument> getToSignDigestDocuments() {
+        return toSignDigestDocuments;
+    }
+
+    /**
+     * Sets the digests of the documents to be signed
+     *
+     * @param toSignDigestDocuments a list of {@link RemoteDigestDocument}s
+     */
+    public void setToSignDigestDocuments(List<RemoteDigestDocument> toSignDigestDocuments) {
+        this.toSignDigestDocuments = toSignDigestDocuments;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + (toSignDigestDocuments != null ? toSignDigestDocuments.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DataToSignDigestDocumentsDTO)) return false;
+        if (!super.equals(o)) return false;
+        DataToSignDigestDocumentsDTO that = (DataToSignDigestDocumentsDTO) o;
+        return Objects.equals(toSignDigestDocuments, that.toSignDigestDocuments);
+    }
+
+    @Override
+    public String toString() {
+        return "DataToSignDigestDocumentsDTO [toSignDigestDocuments=" + toSignDigestDocuments + ", parameters=" + getParameters() + "]";
+    }
+
+}
@@ -0,0 +1,102 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.dto;
+
+import eu.europa.esig.dss.ws.dto.RemoteDigestDocument;
+import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class is a DTO to transfer required objects to execute signDocument method for a detached signature
+ * creation, based on digests of the documents to be signed only (the documents content is not transferred)
+ *
+ */
+public class SignDigestDocumentsDTO extends AbstractSignDocumentDTO {
+
+    private static final long serialVersionUID = 3092861254790367152L;
+
+    /** The digests of the documents to be signed */
+    private List<RemoteDigestDocument> toSignDigestDocuments;
+
+    /**
+     * Empty constructor
+     */
+    public SignDigestDocumentsDTO() {
+        super();
+    }
+
+    /**
+     * Default constructor
+     *
+     * @param toSignDigestDocuments a list of {@link RemoteDigestDocument}s representing the documents to be signed
+     * @param parameters {@link RemoteSignatureParameters} set of driven signature creation parameters
+     * @param signatureValue {@link SignatureValueDTO} the signature value computed on DTBS
+     */
+    public SignDigestDocumentsDTO(List<RemoteDigestDocument> toSignDigestDocuments, RemoteSignatureParameters parameters,
+                                  SignatureValueDTO signatureValue) {
+        super(parameters, signatureValue);
+        this.toSignDigestDocuments = toSignDigestDocuments;
+    }
+
+    /**
+     * Gets the digests of the documents to be signed
+     *
+     * @return a list of {@link RemoteDigestDocument}s
+     */
+    public List<RemoteDigestDocument> getToSignDigestDocuments() {
+        return toSignDigestDocuments;
+    }
+
+    /**
+     * Sets the digests of the documents to be signed
+     *
+     * @param toSignDigestDocuments a list of {@link RemoteDigestDocument}s
+     */
+    public void setToSignDigestDocuments(List<RemoteDigestDocument> toSignDigestDocuments) {
+        this.toSignDigestDocuments = toSignDigestDocuments;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 31 * result + (toSignDigestDocuments != null ? toSignDigestDocuments.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SignDigestDocumentsDTO)) return false;
+        if (!super.equals(o)) return false;
+        SignDigestDocumentsDTO that = (SignDigestDocumentsDTO) o;
+        return Objects.equals(toSignDigestDocuments, that.toSignDigestDocuments);
+    }
+
+    @Override
+    public String toString() {
+        return "SignDigestDocumentsDTO [toSignDigestDocuments=" + toSignDigestDocuments + ", parameters=" + getParameters()
+                + ", signatureValue=" + getSignatureValue() + "]";
+    }
+
+}
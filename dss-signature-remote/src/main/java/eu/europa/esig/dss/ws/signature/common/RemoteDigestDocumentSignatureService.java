@@ -0,0 +1,69 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.common;
+
+import eu.europa.esig.dss.ws.dto.RemoteDigestDocument;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
+import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * This service is used for developing a REST/SOAP API for a detached signature creation
+ * based on the digests of the documents to be signed, without transmitting the documents content.
+ *
+ * Supported implementations :
+ * -XAdES Detached (one or more documents)
+ * -JAdES Detached (one or more documents)
+ * -CAdES Detached (one document)
+ *
+ */
+public interface RemoteDigestDocumentSignatureService extends Serializable {
+
+    /**
+     * Returns a DTBS (Data To Be Signed) for Signature Value creation.
+     *
+     * @param toSignDigestDocuments
+     *            a list of {@link RemoteDigestDocument}s containing the digests of the documents to be signed
+     * @param parameters
+     *            {@link RemoteSignatureParameters} set of the driving signing parameters
+     * @return {@link ToBeSignedDTO} representing the DTBS (Data To Be Signed)
+     */
+    ToBeSignedDTO getDataToSign(final List<RemoteDigestDocument> toSignDigestDocuments, final RemoteSignatureParameters parameters);
+
+    /**
+     * Creates a detached signature covering the documents represented by the provided digests.
+     *
+     * @param toSignDigestDocuments
+     *            a list of {@link RemoteDigestDocument}s containing the digests of the documents to be signed
+     * @param parameters
+     *            {@link RemoteSignatureParameters} set of the driving signing parameters
+     * @param signatureValue
+     *            {@link SignatureValueDTO} the signature value to incorporate
+     * @return {@link RemoteDocument} the detached signature
+     */
+    RemoteDocument signDocument(final List<RemoteDigestDocument> toSignDigestDocuments, final RemoteSignatureParameters parameters,
+                                final SignatureValueDTO signatureValue);
+
+}
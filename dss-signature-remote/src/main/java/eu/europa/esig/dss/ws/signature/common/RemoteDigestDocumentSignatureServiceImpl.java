@@ -0,0 +1,201 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.common;
+
+import eu.europa.esig.dss.cades.signature.CAdESService;
+import eu.europa.esig.dss.enumerations.SignatureForm;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.jades.signature.JAdESService;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.SerializableSignatureParameters;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.signature.MultipleDocumentsSignatureService;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.ws.converter.DTOConverter;
+import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
+import eu.europa.esig.dss.ws.dto.RemoteDigestDocument;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
+import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+import eu.europa.esig.dss.xades.signature.XAdESService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * WebService for a detached signature creation based on the digests of the documents to be signed
+ *
+ */
+public class RemoteDigestDocumentSignatureServiceImpl extends AbstractRemoteSignatureServiceImpl
+        implements RemoteDigestDocumentSignatureService {
+
+    private static final long serialVersionUID = -4187532406373584728L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteDigestDocumentSignatureServiceImpl.class);
+
+    /** XAdES signature service */
+    private XAdESService xadesService;
+
+    /** CAdES signature service */
+    private CAdESService cadesService;
+
+    /** JAdES signature service */
+    private JAdESService jadesService;
+
+    /**
+     * Default constructor instantiating object with null signature services
+     */
+    public RemoteDigestDocumentSignatureServiceImpl() {
+        // empty
+    }
+
+    /**
+     * Sets the XAdES signature service
+     *
+     * @param xadesService {@link XAdESService}
+     */
+    public void setXadesService(XAdESService xadesService) {
+        this.xadesService = xadesService;
+    }
+
+    /**
+     * Sets the CAdES signature service
+     *
+     * @param cadesService {@link CAdESService}
+     */
+    public void setCadesService(CAdESService cadesService) {
+        this.cadesService = cadesService;
+    }
+
+    /**
+     * Sets the JAdES signature service
+     *
+     * @param jadesService {@link JAdESService}
+     */
+    public void setJadesService(JAdESService jadesService) {
+        this.jadesService = jadesService;
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public ToBeSignedDTO getDataToSign(final List<RemoteDigestDocument> toSignDigestDocuments,
+                                       final RemoteSignatureParameters remoteParameters) {
+        Objects.requireNonNull(toSignDigestDocuments, "toSignDigestDocuments must be defined!");
+        Objects.requireNonNull(remoteParameters, "remoteParameters must be defined!");
+        assertDetachedSignature(remoteParameters);
+        LOG.info("GetDataToSign for digest documents in process...");
+
+        List<DSSDocument> digestDocuments = toDigestDocuments(toSignDigestDocuments);
+        SerializableSignatureParameters parameters = createParameters(remoteParameters);
+        SignatureForm signatureForm = remoteParameters.getSignatureLevel().getSignatureForm();
+        ToBeSigned dataToSign;
+        if (digestDocuments.size() == 1) {
+            DocumentSignatureService service = getServiceForOneDocument(signatureForm);
+            dataToSign = service.getDataToSign(digestDocuments.get(0), parameters);
+        } else {
+            MultipleDocumentsSignatureService service = getServiceForMultipleDocuments(signatureForm);
+            dataToSign = service.getDataToSign(digestDocuments, parameters);
+        }
+
+        LOG.info("GetDataToSign for digest documents is finished");
+        return DTOConverter.toToBeSignedDTO(dataToSign);
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public RemoteDocument signDocument(final List<RemoteDigestDocument> toSignDigestDocuments,
+                                       final RemoteSignatureParameters remoteParameters,
+                                       final SignatureValueDTO signatureValueDTO) {
+        Objects.requireNonNull(toSignDigestDocuments, "toSignDigestDocuments must be defined!");
+        Objects.requireNonNull(remoteParameters, "remoteParameters must be defined!");
+        Objects.requireNonNull(signatureValueDTO, "signatureValue must be defined!");
+        assertDetachedSignature(remoteParameters);
+        LOG.info("SignDocument for digest documents in process...");
+
+        List<DSSDocument> digestDocuments = toDigestDocuments(toSignDigestDocuments);
+        SerializableSignatureParameters parameters = createParameters(remoteParameters);
+        SignatureForm signatureForm = remoteParameters.getSignatureLevel().getSignatureForm();
+        DSSDocument signature;
+        if (digestDocuments.size() == 1) {
+            DocumentSignatureService service = getServiceForOneDocument(signatureForm);
+            signature = service.signDocument(digestDocuments.get(0), parameters, toSignatureValue(signatureValueDTO));
+        } else {
+            MultipleDocumentsSignatureService service = getServiceForMultipleDocuments(signatureForm);
+            signature = service.signDocument(digestDocuments, parameters, toSignatureValue(signatureValueDTO));
+        }
+
+        LOG.info("SignDocument for digest documents is finished");
+        return RemoteDocumentConverter.toRemoteDocument(signature);
+    }
+
+    private List<DSSDocument> toDigestDocuments(List<RemoteDigestDocument> toSignDigestDocuments) {
+        List<DSSDocument> digestDocuments = RemoteDocumentConverter.toDigestDocuments(toSignDigestDocuments);
+        if (Utils.isCollectionEmpty(digestDocuments)) {
+            throw new IllegalArgumentException("At least one digest document with a defined digest shall be provided!");
+        }
+        return digestDocuments;
+    }
+
+    private void assertDetachedSignature(RemoteSignatureParameters parameters) {
+        Objects.requireNonNull(parameters.getSignatureLevel(), "signatureLevel must be defined!");
+        if (parameters.getAsicContainerType() != null) {
+            throw new UnsupportedOperationException("ASiC container creation requires the documents content! " +
+                    "Please use the RemoteMultipleDocumentsSignatureService.");
+        }
+        if (!SignaturePackaging.DETACHED.equals(parameters.getSignaturePackaging())) {
+            throw new UnsupportedOperationException(String.format("Only DETACHED signature packaging is supported " +
+                    "with digest documents! Obtained : %s", parameters.getSignaturePackaging()));
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private DocumentSignatureService getServiceForOneDocument(SignatureForm signatureForm) {
+        switch (signatureForm) {
+            case XAdES:
+                return xadesService;
+            case CAdES:
+                return cadesService;
+            case JAdES:
+                return jadesService;
+            default:
+                throw new UnsupportedOperationException(String.format(
+                        "Unsupported format for a signature with digest documents : %s", signatureForm));
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private MultipleDocumentsSignatureService getServiceForMultipleDocuments(SignatureForm signatureForm) {
+        switch (signatureForm) {
+            case XAdES:
+                return xadesService;
+            case JAdES:
+                return jadesService;
+            default:
+                throw new UnsupportedOperationException(String.format(
+                        "Unsupported format for a signature with multiple digest documents : %s", signatureForm));
+        }
+    }
+
+}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.ws.signature.common;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
@@ -83,6 +84,38 @@ public interface RemoteDocumentSignatureService extends Serializable {
 	 */
 	RemoteDocument signDocument(final RemoteDocument toSignDocument, final RemoteSignatureParameters parameters, SignatureValueDTO signatureValue) throws DSSException;
 
+	/**
+	 * Retrieves the bytes of the data that need to be signed based on the {@code toSignDocument} and {@code parameters}.
+	 * This method allows to process a document received as a stream (e.g. stored in a temporary file),
+	 * without loading it into the memory.
+	 *
+	 * @param toSignDocument
+	 *            {@link DSSDocument} to sign or the already existing signature
+	 * @param parameters
+	 *            set of the driving signing parameters
+	 * @return the data to be signed
+	 * @throws DSSException
+	 *             if an error occurred
+	 */
+	ToBeSignedDTO getDataToSign(final DSSDocument toSignDocument, final RemoteSignatureParameters parameters) throws DSSException;
+
+	/**
+	 * Signs the toSignDocument with the provided signatureValue.
+	 * This method allows to process a document received as a stream (e.g. stored in a temporary file),
+	 * without loading it into the memory.
+	 *
+	 * @param toSignDocument
+	 *            {@link DSSDocument} to sign
+	 * @param parameters
+	 *            set of the driving signing parameters
+	 * @param signatureValue
+	 *            the signature value to incorporate
+	 * @return {@link DSSDocument} the signed document
+	 * @throws DSSException
+	 *             if an error occurred
+	 */
+	DSSDocument signDocument(final DSSDocument toSignDocument, final RemoteSignatureParameters parameters, SignatureValueDTO signatureValue) throws DSSException;
+
 	/**
 	 * Extends the level of the signatures in the {@code toExtendDocument}
 	 *
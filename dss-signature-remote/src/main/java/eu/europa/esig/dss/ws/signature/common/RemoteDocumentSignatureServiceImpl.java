@@ -204,34 +204,45 @@ public class RemoteDocumentSignatureServiceImpl extends AbstractRemoteSignatureS
 		}
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public ToBeSignedDTO getDataToSign(RemoteDocument remoteDocument, RemoteSignatureParameters remoteParameters) {
 		Objects.requireNonNull(remoteDocument, "remoteDocument must be defined!");
+		return getDataToSign(RemoteDocumentConverter.toDSSDocument(remoteDocument), remoteParameters);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public ToBeSignedDTO getDataToSign(DSSDocument toSignDocument, RemoteSignatureParameters remoteParameters) {
+		Objects.requireNonNull(toSignDocument, "toSignDocument must be defined!");
 		Objects.requireNonNull(remoteParameters, "remoteParameters must be defined!");
 		Objects.requireNonNull(remoteParameters.getSignatureLevel(), "signatureLevel must be defined!");
 		LOG.info("GetDataToSign in process...");
 		SerializableSignatureParameters parameters = createParameters(remoteParameters);
 		DocumentSignatureService service = getServiceForSignature(remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(remoteDocument);
-		ToBeSigned dataToSign = service.getDataToSign(dssDocument, parameters);
+		ToBeSigned dataToSign = service.getDataToSign(toSignDocument, parameters);
 		LOG.info("GetDataToSign is finished");
 		return DTOConverter.toToBeSignedDTO(dataToSign);
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public RemoteDocument signDocument(RemoteDocument remoteDocument, RemoteSignatureParameters remoteParameters, SignatureValueDTO signatureValueDTO) {
 		Objects.requireNonNull(remoteDocument, "remoteDocument must be defined!");
+		DSSDocument signDocument = signDocument(RemoteDocumentConverter.toDSSDocument(remoteDocument), remoteParameters, signatureValueDTO);
+		return RemoteDocumentConverter.toRemoteDocument(signDocument);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public DSSDocument signDocument(DSSDocument toSignDocument, RemoteSignatureParameters remoteParameters, SignatureValueDTO signatureValueDTO) {
+		Objects.requireNonNull(toSignDocument, "toSignDocument must be defined!");
 		Objects.requireNonNull(remoteParameters, "remoteParameters must be defined!");
 		Objects.requireNonNull(remoteParameters.getSignatureLevel(), "signatureLevel must be defined!");
 		LOG.info("SignDocument in process...");
 		SerializableSignatureParameters parameters = createParameters(remoteParameters);
 		DocumentSignatureService service = getServiceForSignature(remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		DSSDocument dssDocument = RemoteDocumentConverter.toDSSDocument(remoteDocument);
-		DSSDocument signDocument = service.signDocument(dssDocument, parameters, toSignatureValue(signatureValueDTO));
+		DSSDocument signDocument = service.signDocument(toSignDocument, parameters, toSignatureValue(signatureValueDTO));
 		LOG.info("SignDocument is finished");
-		return RemoteDocumentConverter.toRemoteDocument(signDocument);
+		return signDocument;
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -23,6 +23,7 @@ package eu.europa.esig.dss.ws.signature.common;
 import java.io.Serializable;
 import java.util.List;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
@@ -77,6 +78,39 @@ public interface RemoteMultipleDocumentsSignatureService extends Serializable {
 	 */
 	RemoteDocument signDocument(final List<RemoteDocument> toSignDocuments, final RemoteSignatureParameters parameters, SignatureValueDTO signatureValue) throws DSSException;
 
+	/**
+	 * Retrieves the bytes of the data that need to be signed based on the {@code toSignDocuments} and
+	 * {@code parameters}.
+	 * This method allows to process documents received as a stream (e.g. stored in temporary files),
+	 * without loading them into the memory.
+	 *
+	 * @param toSignDocuments
+	 *            list of {@link DSSDocument}s to sign
+	 * @param parameters
+	 *            set of the driving signing parameters
+	 * @return the data to be signed
+	 * @throws DSSException
+	 *             if an error occurred
+	 */
+	ToBeSignedDTO getDataToSignForDocuments(final List<DSSDocument> toSignDocuments, final RemoteSignatureParameters parameters) throws DSSException;
+
+	/**
+	 * Signs the toSignDocuments with the provided signatureValue.
+	 * This method allows to process documents received as a stream (e.g. stored in temporary files),
+	 * without loading them into the memory.
+	 *
+	 * @param toSignDocuments
+	 *            list of {@link DSSDocument}s to sign
+	 * @param parameters
+	 *            set of the driving signing parameters
+	 * @param signatureValue
+	 *            the signature value to incorporate
+	 * @return {@link DSSDocument} the container with the signature and the documents (ASiC) or the signature file
+	 * @throws DSSException
+	 *             if an error occurred
+	 */
+	DSSDocument signDocuments(final List<DSSDocument> toSignDocuments, final RemoteSignatureParameters parameters, SignatureValueDTO signatureValue) throws DSSException;
+
 	/**
 	 * Extends the level of the signatures in the {@code toExtendDocument}
 	 *
@@ -151,34 +151,45 @@ public class RemoteMultipleDocumentsSignatureServiceImpl extends AbstractRemoteS
 		}
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public ToBeSignedDTO getDataToSign(List<RemoteDocument> toSignDocuments, RemoteSignatureParameters remoteParameters) {
+		Objects.requireNonNull(toSignDocuments, "toSignDocuments must be defined!");
+		return getDataToSignForDocuments(RemoteDocumentConverter.toDSSDocuments(toSignDocuments), remoteParameters);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public ToBeSignedDTO getDataToSignForDocuments(List<DSSDocument> toSignDocuments, RemoteSignatureParameters remoteParameters) {
 		Objects.requireNonNull(toSignDocuments, "toSignDocuments must be defined!");
 		Objects.requireNonNull(remoteParameters, "remoteParameters must be defined!");
 		Objects.requireNonNull(remoteParameters.getSignatureLevel(), "signatureLevel must be defined!");
 		LOG.info("GetDataToSign in process...");
 		SerializableSignatureParameters parameters = createParameters(remoteParameters);
 		MultipleDocumentsSignatureService service = getServiceForSignature(remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		List<DSSDocument> dssDocuments = RemoteDocumentConverter.toDSSDocuments(toSignDocuments);
-		ToBeSigned dataToSign = service.getDataToSign(dssDocuments, parameters);
+		ToBeSigned dataToSign = service.getDataToSign(toSignDocuments, parameters);
 		LOG.info("GetDataToSign is finished");
 		return DTOConverter.toToBeSignedDTO(dataToSign);
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public RemoteDocument signDocument(List<RemoteDocument> toSignDocuments, RemoteSignatureParameters remoteParameters, SignatureValueDTO signatureValueDTO) {
+		Objects.requireNonNull(toSignDocuments, "toSignDocuments must be defined!");
+		DSSDocument signDocument = signDocuments(RemoteDocumentConverter.toDSSDocuments(toSignDocuments), remoteParameters, signatureValueDTO);
+		return RemoteDocumentConverter.toRemoteDocument(signDocument);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public DSSDocument signDocuments(List<DSSDocument> toSignDocuments, RemoteSignatureParameters remoteParameters, SignatureValueDTO signatureValueDTO) {
 		Objects.requireNonNull(toSignDocuments, "toSignDocuments must be defined!");
 		Objects.requireNonNull(remoteParameters, "remoteParameters must be defined!");
 		Objects.requireNonNull(remoteParameters.getSignatureLevel(), "signatureLevel must be defined!");
 		LOG.info("SignDocument in process...");
 		SerializableSignatureParameters parameters = createParameters(remoteParameters);
 		MultipleDocumentsSignatureService service = getServiceForSignature(remoteParameters.getSignatureLevel().getSignatureForm(), remoteParameters.getAsicContainerType());
-		List<DSSDocument> dssDocuments = RemoteDocumentConverter.toDSSDocuments(toSignDocuments);
-		DSSDocument signDocument = service.signDocument(dssDocuments, parameters, toSignatureValue(signatureValueDTO));
+		DSSDocument signDocument = service.signDocument(toSignDocuments, parameters, toSignatureValue(signatureValueDTO));
 		LOG.info("SignDocument is finished");
-		return RemoteDocumentConverter.toRemoteDocument(signDocument);
+		return signDocument;
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -0,0 +1,156 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.common;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.enumerations.ASiCContainerType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.ws.converter.DTOConverter;
+import eu.europa.esig.dss.ws.converter.RemoteCertificateConverter;
+import eu.europa.esig.dss.ws.dto.DigestDTO;
+import eu.europa.esig.dss.ws.dto.RemoteDigestDocument;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
+import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RemoteDigestDocumentSignatureServiceTest extends AbstractRemoteSignatureServiceTest {
+
+	private RemoteDigestDocumentSignatureServiceImpl signatureService;
+
+	private List<DSSDocument> documentsToSign;
+
+	@BeforeEach
+	public void init() {
+		signatureService = new RemoteDigestDocumentSignatureServiceImpl();
+		signatureService.setXadesService(getXAdESService());
+		signatureService.setCadesService(getCAdESService());
+		signatureService.setJadesService(getJAdESService());
+
+		documentsToSign = Arrays.asList(new FileDocument(new File("src/test/resources/sample.xml")),
+				new InMemoryDocument("Hello world!".getBytes(), "test.bin"));
+	}
+
+	@Test
+	public void xadesMultipleDocumentsTest() {
+		RemoteSignatureParameters parameters = getParameters(SignatureLevel.XAdES_BASELINE_B);
+		DSSDocument signature = sign(toRemoteDigestDocuments(documentsToSign), parameters);
+
+		DiagnosticData diagnosticData = validate(signature, documentsToSign);
+		SignatureWrapper signatureWrapper = diagnosticData.getSignatureById(diagnosticData.getFirstSignatureId());
+		assertTrue(signatureWrapper.isSignatureIntact());
+		assertTrue(signatureWrapper.isSignatureValid());
+		assertEquals(2, signatureWrapper.getSignatureScopes().size());
+	}
+
+	@Test
+	public void cadesOneDocumentTest() {
+		RemoteSignatureParameters parameters = getParameters(SignatureLevel.CAdES_BASELINE_B);
+		List<DSSDocument> detachedContents = Collections.singletonList(documentsToSign.get(0));
+		DSSDocument signature = sign(toRemoteDigestDocuments(detachedContents), parameters);
+
+		DiagnosticData diagnosticData = validate(signature, detachedContents);
+		SignatureWrapper signatureWrapper = diagnosticData.getSignatureById(diagnosticData.getFirstSignatureId());
+		assertTrue(signatureWrapper.isSignatureIntact());
+		assertTrue(signatureWrapper.isSignatureValid());
+	}
+
+	@Test
+	public void cadesMultipleDocumentsTest() {
+		RemoteSignatureParameters parameters = getParameters(SignatureLevel.CAdES_BASELINE_B);
+		List<RemoteDigestDocument> digestDocuments = toRemoteDigestDocuments(documentsToSign);
+		assertThrows(UnsupportedOperationException.class, () -> signatureService.getDataToSign(digestDocuments, parameters));
+	}
+
+	@Test
+	public void notDetachedTest() {
+		RemoteSignatureParameters parameters = getParameters(SignatureLevel.XAdES_BASELINE_B);
+		parameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+		List<RemoteDigestDocument> digestDocuments = toRemoteDigestDocuments(documentsToSign);
+		assertThrows(UnsupportedOperationException.class, () -> signatureService.getDataToSign(digestDocuments, parameters));
+	}
+
+	@Test
+	public void asicTest() {
+		RemoteSignatureParameters parameters = getParameters(SignatureLevel.XAdES_BASELINE_B);
+		parameters.setAsicContainerType(ASiCContainerType.ASiC_E);
+		List<RemoteDigestDocument> digestDocuments = toRemoteDigestDocuments(documentsToSign);
+		assertThrows(UnsupportedOperationException.class, () -> signatureService.getDataToSign(digestDocuments, parameters));
+	}
+
+	@Test
+	public void emptyDigestsTest() {
+		RemoteSignatureParameters parameters = getParameters(SignatureLevel.XAdES_BASELINE_B);
+		List<RemoteDigestDocument> digestDocuments = Collections.singletonList(new RemoteDigestDocument());
+		assertThrows(IllegalArgumentException.class, () -> signatureService.getDataToSign(digestDocuments, parameters));
+	}
+
+	private DSSDocument sign(List<RemoteDigestDocument> digestDocuments, RemoteSignatureParameters parameters) {
+		ToBeSignedDTO dataToSign = signatureService.getDataToSign(digestDocuments, parameters);
+		assertNotNull(dataToSign);
+
+		SignatureValue signatureValue = getToken().sign(DTOConverter.toToBeSigned(dataToSign), DigestAlgorithm.SHA256, getPrivateKeyEntry());
+		RemoteDocument signedDocument = signatureService.signDocument(digestDocuments, parameters,
+				new SignatureValueDTO(signatureValue.getAlgorithm(), signatureValue.getValue()));
+		assertNotNull(signedDocument);
+		return new InMemoryDocument(signedDocument.getBytes());
+	}
+
+	private RemoteSignatureParameters getParameters(SignatureLevel signatureLevel) {
+		RemoteSignatureParameters parameters = new RemoteSignatureParameters();
+		parameters.setSignatureLevel(signatureLevel);
+		parameters.setSigningCertificate(RemoteCertificateConverter.toRemoteCertificate(getSigningCert()));
+		parameters.setSignaturePackaging(SignaturePackaging.DETACHED);
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+		return parameters;
+	}
+
+	private List<RemoteDigestDocument> toRemoteDigestDocuments(List<DSSDocument> documents) {
+		RemoteDigestDocument[] digestDocuments = new RemoteDigestDocument[documents.size()];
+		for (int i = 0; i < documents.size(); i++) {
+			DSSDocument document = documents.get(i);
+			digestDocuments[i] = new RemoteDigestDocument(Collections.singletonList(
+					new DigestDTO(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, document))), document.getName());
+		}
+		return Arrays.asList(digestDocuments);
+	}
+
+}
@@ -117,6 +117,26 @@ public class RemoteDocumentSignatureServiceTest extends AbstractRemoteSignatureS
 		validate(iMD, null);
 	}
 
+	@Test
+	public void testSigningDSSDocument() throws Exception {
+		RemoteSignatureParameters parameters = new RemoteSignatureParameters();
+		parameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_B);
+		parameters.setSigningCertificate(RemoteCertificateConverter.toRemoteCertificate(getSigningCert()));
+		parameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+
+		FileDocument fileToSign = new FileDocument(new File("src/test/resources/sample.xml"));
+		ToBeSignedDTO dataToSign = signatureService.getDataToSign(fileToSign, parameters);
+		assertNotNull(dataToSign);
+
+		SignatureValue signatureValue = getToken().sign(DTOConverter.toToBeSigned(dataToSign), DigestAlgorithm.SHA256, getPrivateKeyEntry());
+		DSSDocument signedDocument = signatureService.signDocument(fileToSign, parameters,
+				new SignatureValueDTO(signatureValue.getAlgorithm(), signatureValue.getValue()));
+		assertNotNull(signedDocument);
+
+		validate(signedDocument, null);
+	}
+
 	@Test
 	public void testSigningAndExtensionDigestDocument() throws Exception {
 		RemoteSignatureParameters parameters = new RemoteSignatureParameters();
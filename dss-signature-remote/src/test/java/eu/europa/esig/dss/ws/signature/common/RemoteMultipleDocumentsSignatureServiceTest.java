@@ -98,6 +98,28 @@ public class RemoteMultipleDocumentsSignatureServiceTest extends AbstractRemoteS
 		validate(iMD, null);
 	}
 	
+	@Test
+	public void testSigningDSSDocuments() throws Exception {
+		RemoteSignatureParameters parameters = new RemoteSignatureParameters();
+		parameters.setAsicContainerType(ASiCContainerType.ASiC_E);
+		parameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_B);
+		parameters.setSigningCertificate(RemoteCertificateConverter.toRemoteCertificate(getSigningCert()));
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+
+		List<DSSDocument> toSignDocuments = Arrays.asList(new FileDocument(new File("src/test/resources/sample.xml")),
+				new InMemoryDocument("Hello world!".getBytes("UTF-8"), "test.bin"));
+		ToBeSignedDTO dataToSign = signatureService.getDataToSignForDocuments(toSignDocuments, parameters);
+		assertNotNull(dataToSign);
+
+		SignatureValue signatureValue = getToken().sign(DTOConverter.toToBeSigned(dataToSign), DigestAlgorithm.SHA256, getPrivateKeyEntry());
+		DSSDocument signedDocument = signatureService.signDocuments(toSignDocuments, parameters,
+				new SignatureValueDTO(signatureValue.getAlgorithm(), signatureValue.getValue()));
+		assertNotNull(signedDocument);
+
+		DiagnosticData diagnosticData = validate(signedDocument, null);
+		assertEquals(2, diagnosticData.getSignatures().get(0).getSignatureScopes().size());
+	}
+
 	@Test
 	public void multipleDocumentTimestampingTest() throws Exception {
 		RemoteTimestampParameters timestampParameters = new RemoteTimestampParameters();
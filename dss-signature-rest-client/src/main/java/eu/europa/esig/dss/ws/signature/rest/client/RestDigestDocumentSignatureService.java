@@ -0,0 +1,69 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.rest.client;
+
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
+import eu.europa.esig.dss.ws.signature.dto.DataToSignDigestDocumentsDTO;
+import eu.europa.esig.dss.ws.signature.dto.SignDigestDocumentsDTO;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.io.Serializable;
+
+/**
+ * This REST interface provides a possibility of a detached signature creation based on the digests
+ * of the documents to be signed, without transmitting the documents content
+ *
+ */
+@Path("/")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public interface RestDigestDocumentSignatureService extends Serializable {
+
+    /**
+     * Returns a DTBS (Data To Be Signed) for Signature Value creation.
+     *
+     * @param dataToSign
+     *            {@link DataToSignDigestDocumentsDTO} containing the digests of the documents to be signed
+     *            and a set of signature driving parameters
+     * @return {@link ToBeSignedDTO} data to be signed representation
+     */
+    @POST
+    @Path("getDataToSign")
+    ToBeSignedDTO getDataToSign(DataToSignDigestDocumentsDTO dataToSign);
+
+    /**
+     * Creates a detached signature covering the documents represented by the provided digests.
+     *
+     * @param signDocument
+     *            {@link SignDigestDocumentsDTO} containing the digests of the documents to be signed,
+     *            set of signature driving parameters and a signatureValue computed on DTBS
+     * @return {@link RemoteDocument} the detached signature
+     */
+    @POST
+    @Path("signDocument")
+    RemoteDocument signDocument(SignDigestDocumentsDTO signDocument);
+
+}
@@ -21,12 +21,15 @@
 package eu.europa.esig.dss.ws.signature.rest.client;
 
 import java.io.Serializable;
+import java.util.List;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.EntityPart;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
@@ -70,6 +73,34 @@ public interface RestDocumentSignatureService extends Serializable {
 	@Path("signDocument")
 	RemoteDocument signDocument(SignOneDocumentDTO signDocument);
 
+	/**
+	 * Retrieves the bytes of the data that need to be signed based on the toSignDocument and parameters,
+	 * provided as a {@code multipart/form-data} request. The document is streamed instead of being embedded
+	 * as base64 within a JSON body. The request parts shall be created with {@code SignatureMultipartBuilder}.
+	 *
+	 * @param parts a list of {@link EntityPart}s containing the document to be signed and the parameters
+	 * @return {@link ToBeSignedDTO} the data to be signed
+	 */
+	@POST
+	@Path("getDataToSignMultipart")
+	@Consumes(MediaType.MULTIPART_FORM_DATA)
+	ToBeSignedDTO getDataToSignMultipart(List<EntityPart> parts);
+
+	/**
+	 * Signs the toSignDocument with the provided signatureValue, provided as a {@code multipart/form-data} request.
+	 * The document is streamed instead of being embedded as base64 within a JSON body, and the signed document
+	 * is returned as a binary stream. The request parts shall be created with {@code SignatureMultipartBuilder}.
+	 *
+	 * @param parts a list of {@link EntityPart}s containing the document to be signed, the parameters
+	 *              and the signature value
+	 * @return {@link Response} with the signed document as an {@code application/octet-stream} entity
+	 */
+	@POST
+	@Path("signDocumentMultipart")
+	@Consumes(MediaType.MULTIPART_FORM_DATA)
+	@Produces(MediaType.APPLICATION_OCTET_STREAM)
+	Response signDocumentMultipart(List<EntityPart> parts);
+
 	/**
 	 * Extends the level of the signatures in the toExtendDocument
 	 * 
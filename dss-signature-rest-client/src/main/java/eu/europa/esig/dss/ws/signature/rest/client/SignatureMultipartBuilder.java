@@ -0,0 +1,125 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.rest.client;
+
+import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds the {@code multipart/form-data} parts for the {@code getDataToSignMultipart} and
+ * {@code signDocumentMultipart} requests of {@code RestDocumentSignatureService}
+ * and {@code RestMultipleDocumentSignatureService}
+ *
+ */
+public class SignatureMultipartBuilder {
+
+	/** The part name of a document to be signed (can be repeated for multiple documents signing) */
+	public static final String TO_SIGN_DOCUMENT = "toSignDocument";
+
+	/** The part name of the JSON-encoded signature parameters */
+	public static final String PARAMETERS = "parameters";
+
+	/** The part name of the JSON-encoded signature value */
+	public static final String SIGNATURE_VALUE = "signatureValue";
+
+	/** The list of created parts */
+	private final List<EntityPart> parts = new ArrayList<>();
+
+	/**
+	 * Default constructor
+	 */
+	public SignatureMultipartBuilder() {
+		// empty
+	}
+
+	/**
+	 * Adds a document to be signed
+	 *
+	 * @param content {@link InputStream} the document content
+	 * @param fileName {@link String} the document name
+	 * @return this builder
+	 */
+	public SignatureMultipartBuilder addToSignDocument(InputStream content, String fileName) {
+		Objects.requireNonNull(content, "Content cannot be null!");
+		try {
+			EntityPart.Builder builder = EntityPart.withName(TO_SIGN_DOCUMENT).content(content)
+					.mediaType(MediaType.APPLICATION_OCTET_STREAM_TYPE);
+			if (fileName != null) {
+				builder.fileName(fileName);
+			}
+			parts.add(builder.build());
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to create a multipart field : %s", e.getMessage()), e);
+		}
+		return this;
+	}
+
+	/**
+	 * Sets the signature parameters
+	 *
+	 * @param parameters {@link RemoteSignatureParameters}
+	 * @return this builder
+	 */
+	public SignatureMultipartBuilder setParameters(RemoteSignatureParameters parameters) {
+		Objects.requireNonNull(parameters, "Parameters cannot be null!");
+		parts.add(buildJsonPart(PARAMETERS, parameters, RemoteSignatureParameters.class));
+		return this;
+	}
+
+	/**
+	 * Sets the signature value (for the {@code signDocumentMultipart} request only)
+	 *
+	 * @param signatureValue {@link SignatureValueDTO}
+	 * @return this builder
+	 */
+	public SignatureMultipartBuilder setSignatureValue(SignatureValueDTO signatureValue) {
+		Objects.requireNonNull(signatureValue, "SignatureValue cannot be null!");
+		parts.add(buildJsonPart(SIGNATURE_VALUE, signatureValue, SignatureValueDTO.class));
+		return this;
+	}
+
+	/**
+	 * Returns the created parts
+	 *
+	 * @return a list of {@link EntityPart}s
+	 */
+	public List<EntityPart> build() {
+		return new ArrayList<>(parts);
+	}
+
+	private <T> EntityPart buildJsonPart(String name, T content, Class<T> type) {
+		try {
+			return EntityPart.withName(name).content(content, type).mediaType(MediaType.APPLICATION_JSON_TYPE).build();
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to create a multipart field : %s", e.getMessage()), e);
+		}
+	}
+
+}
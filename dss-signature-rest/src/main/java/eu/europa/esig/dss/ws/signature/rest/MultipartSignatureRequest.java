@@ -0,0 +1,165 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.rest;
+
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.ws.converter.MultipartRequestParser;
+import eu.europa.esig.dss.ws.converter.TempFileDocumentsHandler;
+import eu.europa.esig.dss.ws.dto.SignatureValueDTO;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import eu.europa.esig.dss.ws.signature.dto.parameters.RemoteSignatureParameters;
+import eu.europa.esig.dss.ws.signature.rest.client.SignatureMultipartBuilder;
+import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a {@code multipart/form-data} signature request, spooling the received documents into temporary files
+ *
+ */
+class MultipartSignatureRequest {
+
+	/** The documents to be signed */
+	private final List<DSSDocument> toSignDocuments = new ArrayList<>();
+
+	/** The signature parameters */
+	private RemoteSignatureParameters parameters;
+
+	/** The signature value */
+	private SignatureValueDTO signatureValue;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param parts a list of {@link EntityPart}s representing the request
+	 * @param documentsHandler {@link TempFileDocumentsHandler} to store the received documents
+	 */
+	MultipartSignatureRequest(List<EntityPart> parts, TempFileDocumentsHandler documentsHandler) {
+		new MultipartRequestParser(documentsHandler)
+				.onDocument(SignatureMultipartBuilder.TO_SIGN_DOCUMENT, toSignDocuments::add)
+				.onContent(SignatureMultipartBuilder.PARAMETERS, RemoteSignatureParameters.class, value -> parameters = value)
+				.onContent(SignatureMultipartBuilder.SIGNATURE_VALUE, SignatureValueDTO.class, value -> signatureValue = value)
+				.parse(parts);
+	}
+
+	/**
+	 * Gets the documents to be signed
+	 *
+	 * @return a list of {@link DSSDocument}s
+	 */
+	List<DSSDocument> getToSignDocuments() {
+		return toSignDocuments;
+	}
+
+	/**
+	 * Gets the only document to be signed, throws an exception when none or several documents are provided
+	 *
+	 * @return {@link DSSDocument}
+	 */
+	DSSDocument getToSignDocument() {
+		if (toSignDocuments.size() != 1) {
+			throw new DSSRemoteServiceException(String.format("One document is expected within the '%s' field! " +
+					"Obtained : %s", SignatureMultipartBuilder.TO_SIGN_DOCUMENT, toSignDocuments.size()));
+		}
+		return toSignDocuments.get(0);
+	}
+
+	/**
+	 * Gets the signature parameters
+	 *
+	 * @return {@link RemoteSignatureParameters}
+	 */
+	RemoteSignatureParameters getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Gets the signature value
+	 *
+	 * @return {@link SignatureValueDTO}
+	 */
+	SignatureValueDTO getSignatureValue() {
+		return signatureValue;
+	}
+
+	/**
+	 * Builds a response streaming the content of the signed document.
+	 * The {@code documentsHandler} is closed once the document has been written, as the signed document
+	 * may refer to the received temporary files.
+	 *
+	 * @param signedDocument {@link DSSDocument} to be returned
+	 * @param documentsHandler {@link TempFileDocumentsHandler} containing the received documents
+	 * @return {@link Response}
+	 */
+	static Response toStreamingResponse(DSSDocument signedDocument, TempFileDocumentsHandler documentsHandler) {
+		StreamingOutput output = os -> {
+			try {
+				signedDocument.writeTo(os);
+			} finally {
+				documentsHandler.close();
+			}
+		};
+		String mimeType = signedDocument.getMimeType() != null ?
+				signedDocument.getMimeType().getMimeTypeString() : MimeTypeEnum.BINARY.getMimeTypeString();
+		Response.ResponseBuilder responseBuilder = Response.ok(output, mimeType);
+		if (signedDocument.getName() != null) {
+			responseBuilder.header(HttpHeaders.CONTENT_DISPOSITION, getContentDisposition(signedDocument.getName()));
+		}
+		return responseBuilder.build();
+	}
+
+	/**
+	 * Builds the Content-Disposition header value for the given filename according to RFC 6266,
+	 * i.e. with an ASCII "filename" fallback and the RFC 5987 encoded UTF-8 "filename*" parameter
+	 *
+	 * @param filename {@link String}
+	 * @return {@link String} Content-Disposition header value
+	 */
+	private static String getContentDisposition(String filename) {
+		StringBuilder asciiFilename = new StringBuilder();
+		for (char c : filename.toCharArray()) {
+			// non-ASCII, control, quote and backslash characters are not allowed within the quoted-string fallback
+			asciiFilename.append(c >= 0x20 && c < 0x7f && c != '"' && c != '\\' ? c : '_');
+		}
+		StringBuilder encodedFilename = new StringBuilder();
+		for (byte b : filename.getBytes(StandardCharsets.UTF_8)) {
+			char c = (char) (b & 0xff);
+			if (isAttrChar(c)) {
+				encodedFilename.append(c);
+			} else {
+				encodedFilename.append('%').append(String.format("%02X", b & 0xff));
+			}
+		}
+		return String.format("attachment; filename=\"%s\"; filename*=UTF-8''%s", asciiFilename, encodedFilename);
+	}
+
+	private static boolean isAttrChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+				|| "!#$&+-.^_`|~".indexOf(c) != -1;
+	}
+
+}
@@ -20,6 +20,8 @@
  */
 package eu.europa.esig.dss.ws.signature.rest;
 
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.ws.converter.TempFileDocumentsHandler;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.signature.common.RemoteMultipleDocumentsSignatureService;
@@ -28,6 +30,10 @@ import eu.europa.esig.dss.ws.signature.dto.ExtendDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.SignMultipleDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.TimestampMultipleDocumentDTO;
 import eu.europa.esig.dss.ws.signature.rest.client.RestMultipleDocumentSignatureService;
+import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.Response;
+
+import java.util.List;
 
 /**
  * REST implementation of the remote multiple signature service
@@ -64,6 +70,29 @@ public class RestMultipleDocumentSignatureServiceImpl implements RestMultipleDoc
 		return service.signDocument(signDocumentDto.getToSignDocuments(), signDocumentDto.getParameters(), signDocumentDto.getSignatureValue());
 	}
 
+	@Override
+	public ToBeSignedDTO getDataToSignMultipart(List<EntityPart> parts) {
+		try (TempFileDocumentsHandler documentsHandler = new TempFileDocumentsHandler()) {
+			MultipartSignatureRequest request = new MultipartSignatureRequest(parts, documentsHandler);
+			return service.getDataToSignForDocuments(request.getToSignDocuments(), request.getParameters());
+		}
+	}
+
+	@Override
+	public Response signDocumentMultipart(List<EntityPart> parts) {
+		// the documents handler is closed once the response has been written
+		TempFileDocumentsHandler documentsHandler = new TempFileDocumentsHandler();
+		try {
+			MultipartSignatureRequest request = new MultipartSignatureRequest(parts, documentsHandler);
+			DSSDocument signedDocument = service.signDocuments(request.getToSignDocuments(), request.getParameters(),
+					request.getSignatureValue());
+			return MultipartSignatureRequest.toStreamingResponse(signedDocument, documentsHandler);
+		} catch (RuntimeException e) {
+			documentsHandler.close();
+			throw e;
+		}
+	}
+
 	@Override
 	public RemoteDocument extendDocument(ExtendDocumentDTO extendDocumentDto) {
 		return service.extendDocument(extendDocumentDto.getToExtendDocument(), extendDocumentDto.getParameters());
@@ -0,0 +1,64 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.soap.client;
+
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
+import eu.europa.esig.dss.ws.signature.dto.DataToSignDigestDocumentsDTO;
+import eu.europa.esig.dss.ws.signature.dto.SignDigestDocumentsDTO;
+
+import java.io.Serializable;
+
+import jakarta.jws.WebParam;
+import jakarta.jws.WebResult;
+import jakarta.jws.WebService;
+
+/**
+ * This SOAP interface provides a possibility of a detached signature creation based on the digests
+ * of the documents to be signed, without transmitting the documents content
+ *
+ */
+@WebService(targetNamespace = "http://signature.dss.esig.europa.eu/")
+public interface SoapDigestDocumentSignatureService extends Serializable {
+
+    /**
+     * Returns a DTBS (Data To Be Signed) for Signature Value creation.
+     *
+     * @param dataToSign
+     *            {@link DataToSignDigestDocumentsDTO} containing the digests of the documents to be signed
+     *            and a set of signature driving parameters
+     * @return {@link ToBeSignedDTO} data to be signed representation
+     */
+    @WebResult(name = "response")
+    ToBeSignedDTO getDataToSign(@WebParam(name = "dataToSign") DataToSignDigestDocumentsDTO dataToSign);
+
+    /**
+     * Creates a detached signature covering the documents represented by the provided digests.
+     *
+     * @param signDocument
+     *            {@link SignDigestDocumentsDTO} containing the digests of the documents to be signed,
+     *            set of signature driving parameters and a signatureValue computed on DTBS
+     * @return {@link RemoteDocument} the detached signature
+     */
+    @WebResult(name = "response")
+    RemoteDocument signDocument(@WebParam(name = "signDocument") SignDigestDocumentsDTO signDocument);
+
+}
@@ -27,12 +27,15 @@ import jakarta.jws.WebResult;
 import jakarta.jws.WebService;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.RemoteStreamDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.signature.dto.CounterSignSignatureDTO;
 import eu.europa.esig.dss.ws.signature.dto.DataToBeCounterSignedDTO;
 import eu.europa.esig.dss.ws.signature.dto.DataToSignOneDocumentDTO;
+import eu.europa.esig.dss.ws.signature.dto.DataToSignOneDocumentStreamDTO;
 import eu.europa.esig.dss.ws.signature.dto.ExtendDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.SignOneDocumentDTO;
+import eu.europa.esig.dss.ws.signature.dto.SignOneDocumentStreamDTO;
 import eu.europa.esig.dss.ws.signature.dto.TimestampOneDocumentDTO;
 
 /**
@@ -72,6 +75,30 @@ public interface SoapDocumentSignatureService extends Serializable {
 	@WebResult(name = "response")
 	RemoteDocument signDocument(@WebParam(name = "signDocumentDTO") SignOneDocumentDTO signDocument);
 
+	/**
+	 * This method computes the digest to be signed, where the document is transferred
+	 * as an MTOM attachment instead of being embedded within the SOAP message
+	 *
+	 * @param dataToSign {@link DataToSignOneDocumentStreamDTO} a DTO which contains
+	 *                   the document to sign and parameters
+	 * @return {@link ToBeSignedDTO} the data to be signed
+	 */
+	@WebResult(name = "response")
+	ToBeSignedDTO getDataToSignStream(@WebParam(name = "dataToSignDTO") DataToSignOneDocumentStreamDTO dataToSign);
+
+	/**
+	 * This web service operation signs a document according to a previously signed
+	 * digest, where the document and the signed document are transferred as MTOM
+	 * attachments instead of being embedded within the SOAP messages
+	 *
+	 * @param signDocument {@link SignOneDocumentStreamDTO} a DTO which contains the
+	 *                     document to be signed, the parameters and the signature
+	 *                     value
+	 * @return {@link RemoteStreamDocument} the signed document
+	 */
+	@WebResult(name = "response")
+	RemoteStreamDocument signDocumentStream(@WebParam(name = "signDocumentDTO") SignOneDocumentStreamDTO signDocument);
+
 	/**
 	 * This web service operation extends the signature of a given document to the
 	 * level of the signature provided. The document is only changed, if the given
@@ -27,10 +27,13 @@ import jakarta.jws.WebResult;
 import jakarta.jws.WebService;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.RemoteStreamDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.signature.dto.DataToSignMultipleDocumentsDTO;
+import eu.europa.esig.dss.ws.signature.dto.DataToSignMultipleDocumentsStreamDTO;
 import eu.europa.esig.dss.ws.signature.dto.ExtendDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.SignMultipleDocumentDTO;
+import eu.europa.esig.dss.ws.signature.dto.SignMultipleDocumentsStreamDTO;
 import eu.europa.esig.dss.ws.signature.dto.TimestampMultipleDocumentDTO;
 
 /**
@@ -67,6 +70,30 @@ public interface SoapMultipleDocumentsSignatureService extends Serializable {
 	@WebResult(name = "response")
 	RemoteDocument signDocument(@WebParam(name = "signDocumentDTO") SignMultipleDocumentDTO signDocument);
 
+	/**
+	 * This method computes the digest to be signed, where the documents are transferred
+	 * as MTOM attachments instead of being embedded within the SOAP message
+	 *
+	 * @param dataToSign {@link DataToSignMultipleDocumentsStreamDTO} a DTO which contains
+	 *                   the documents to sign and parameters
+	 * @return {@link ToBeSignedDTO} the data to be signed
+	 */
+	@WebResult(name = "response")
+	ToBeSignedDTO getDataToSignStream(@WebParam(name = "dataToSignDTO") DataToSignMultipleDocumentsStreamDTO dataToSign);
+
+	/**
+	 * This web service operation signs the documents according to a previously signed
+	 * digest, where the documents and the signed document are transferred as MTOM
+	 * attachments instead of being embedded within the SOAP messages
+	 *
+	 * @param signDocument {@link SignMultipleDocumentsStreamDTO} a DTO which contains the
+	 *                     documents to be signed, the parameters and the signature
+	 *                     value
+	 * @return {@link RemoteStreamDocument} the signed document
+	 */
+	@WebResult(name = "response")
+	RemoteStreamDocument signDocumentStream(@WebParam(name = "signDocumentDTO") SignMultipleDocumentsStreamDTO signDocument);
+
 	/**
 	 * This web service operation extends the signature of a given document to the level of the signature provided. The
 	 * document is only changed, if the given signature level is 'higher' than the signature level of the document.
@@ -0,0 +1,68 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.signature.soap;
+
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
+import eu.europa.esig.dss.ws.signature.common.RemoteDigestDocumentSignatureService;
+import eu.europa.esig.dss.ws.signature.dto.DataToSignDigestDocumentsDTO;
+import eu.europa.esig.dss.ws.signature.dto.SignDigestDocumentsDTO;
+import eu.europa.esig.dss.ws.signature.soap.client.SoapDigestDocumentSignatureService;
+
+/**
+ * SOAP implementation of the remote detached signature creation based on the documents digests
+ *
+ */
+public class SoapDigestDocumentSignatureServiceImpl implements SoapDigestDocumentSignatureService {
+
+    private static final long serialVersionUID = 7183964123380913374L;
+
+    /** The service to use */
+    private RemoteDigestDocumentSignatureService service;
+
+    /**
+     * Default construction instantiating object with null RemoteDigestDocumentSignatureService
+     */
+    public SoapDigestDocumentSignatureServiceImpl() {
+        // empty
+    }
+
+    /**
+     * Sets the remote service for a detached signature creation based on the documents digests
+     *
+     * @param service {@link RemoteDigestDocumentSignatureService}
+     */
+    public void setService(RemoteDigestDocumentSignatureService service) {
+        this.service = service;
+    }
+
+    @Override
+    public ToBeSignedDTO getDataToSign(DataToSignDigestDocumentsDTO dataToSign) {
+        return service.getDataToSign(dataToSign.getToSignDigestDocuments(), dataToSign.getParameters());
+    }
+
+    @Override
+    public RemoteDocument signDocument(SignDigestDocumentsDTO signDocument) {
+        return service.signDocument(signDocument.getToSignDigestDocuments(), signDocument.getParameters(),
+                signDocument.getSignatureValue());
+    }
+
+}
@@ -20,20 +20,28 @@
  */
 package eu.europa.esig.dss.ws.signature.soap;
 
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
+import eu.europa.esig.dss.ws.converter.TempFileDocumentsHandler;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.RemoteStreamDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.signature.common.RemoteDocumentSignatureService;
 import eu.europa.esig.dss.ws.signature.dto.CounterSignSignatureDTO;
 import eu.europa.esig.dss.ws.signature.dto.DataToBeCounterSignedDTO;
 import eu.europa.esig.dss.ws.signature.dto.DataToSignOneDocumentDTO;
+import eu.europa.esig.dss.ws.signature.dto.DataToSignOneDocumentStreamDTO;
 import eu.europa.esig.dss.ws.signature.dto.ExtendDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.SignOneDocumentDTO;
+import eu.europa.esig.dss.ws.signature.dto.SignOneDocumentStreamDTO;
 import eu.europa.esig.dss.ws.signature.dto.TimestampOneDocumentDTO;
 import eu.europa.esig.dss.ws.signature.soap.client.SoapDocumentSignatureService;
+import jakarta.xml.ws.soap.MTOM;
 
 /**
  * SOAP implementation of the remote signature service
  */
+@MTOM
 @SuppressWarnings("serial")
 public class SoapDocumentSignatureServiceImpl implements SoapDocumentSignatureService {
 
@@ -66,6 +74,22 @@ public class SoapDocumentSignatureServiceImpl implements SoapDocumentSignatureSe
 		return service.signDocument(signDocumentDto.getToSignDocument(), signDocumentDto.getParameters(), signDocumentDto.getSignatureValue());
 	}
 
+	@Override
+	public ToBeSignedDTO getDataToSignStream(DataToSignOneDocumentStreamDTO dataToSignDto) {
+		try (TempFileDocumentsHandler documentsHandler = new TempFileDocumentsHandler()) {
+			return service.getDataToSign(documentsHandler.toDSSDocument(dataToSignDto.getToSignDocument()), dataToSignDto.getParameters());
+		}
+	}
+
+	@Override
+	public RemoteStreamDocument signDocumentStream(SignOneDocumentStreamDTO signDocumentDto) {
+		try (TempFileDocumentsHandler documentsHandler = new TempFileDocumentsHandler()) {
+			DSSDocument signedDocument = service.signDocument(documentsHandler.toDSSDocument(signDocumentDto.getToSignDocument()),
+					signDocumentDto.getParameters(), signDocumentDto.getSignatureValue());
+			return RemoteDocumentConverter.toRemoteStreamDocument(signedDocument);
+		}
+	}
+
 	@Override
 	public RemoteDocument extendDocument(ExtendDocumentDTO extendDocumentDto) {
 		return service.extendDocument(extendDocumentDto.getToExtendDocument(), extendDocumentDto.getParameters());
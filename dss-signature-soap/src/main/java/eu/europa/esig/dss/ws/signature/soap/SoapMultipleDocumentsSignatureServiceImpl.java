@@ -20,18 +20,26 @@
  */
 package eu.europa.esig.dss.ws.signature.soap;
 
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
+import eu.europa.esig.dss.ws.converter.TempFileDocumentsHandler;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.RemoteStreamDocument;
 import eu.europa.esig.dss.ws.dto.ToBeSignedDTO;
 import eu.europa.esig.dss.ws.signature.common.RemoteMultipleDocumentsSignatureService;
 import eu.europa.esig.dss.ws.signature.dto.DataToSignMultipleDocumentsDTO;
+import eu.europa.esig.dss.ws.signature.dto.DataToSignMultipleDocumentsStreamDTO;
 import eu.europa.esig.dss.ws.signature.dto.ExtendDocumentDTO;
 import eu.europa.esig.dss.ws.signature.dto.SignMultipleDocumentDTO;
+import eu.europa.esig.dss.ws.signature.dto.SignMultipleDocumentsStreamDTO;
 import eu.europa.esig.dss.ws.signature.dto.TimestampMultipleDocumentDTO;
 import eu.europa.esig.dss.ws.signature.soap.client.SoapMultipleDocumentsSignatureService;
+import jakarta.xml.ws.soap.MTOM;
 
 /**
  * SOAP implementation of the remote multiple signature service
  */
+@MTOM
 @SuppressWarnings("serial")
 public class SoapMultipleDocumentsSignatureServiceImpl implements SoapMultipleDocumentsSignatureService {
 
@@ -64,6 +72,22 @@ public class SoapMultipleDocumentsSignatureServiceImpl implements SoapMultipleDo
 		return service.signDocument(signDocumentDto.getToSignDocuments(), signDocumentDto.getParameters(), signDocumentDto.getSignatureValue());
 	}
 
+	@Override
+	public ToBeSignedDTO getDataToSignStream(DataToSignMultipleDocumentsStreamDTO dataToSignDto) {
+		try (TempFileDocumentsHandler documentsHandler = new TempFileDocumentsHandler()) {
+			return service.getDataToSignForDocuments(documentsHandler.toDSSDocuments(dataToSignDto.getToSignDocuments()), dataToSignDto.getParameters());
+		}
+	}
+
+	@Override
+	public RemoteStreamDocument signDocumentStream(SignMultipleDocumentsStreamDTO signDocumentDto) {
+		try (TempFileDocumentsHandler documentsHandler = new TempFileDocumentsHandler()) {
+			DSSDocument signedDocument = service.signDocuments(documentsHandler.toDSSDocuments(signDocumentDto.getToSignDocuments()),
+					signDocumentDto.getParameters(), signDocumentDto.getSignatureValue());
+			return RemoteDocumentConverter.toRemoteStreamDocument(signedDocument);
+		}
+	}
+
 	@Override
 	public RemoteDocument extendDocument(ExtendDocumentDTO extendDocumentDto) {
 		return service.extendDocument(extendDocumentDto.getToExtendDocument(), extendDocumentDto.getParameters());
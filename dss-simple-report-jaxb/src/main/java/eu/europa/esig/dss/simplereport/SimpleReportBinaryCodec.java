@@ -0,0 +1,75 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.simplereport;
+
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.jaxb.common.AbstractJaxbBinaryCodec;
+import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
+import eu.europa.esig.dss.simplereport.jaxb.XmlToken;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes a SimpleReport into a compact binary representation, as an alternative to the XML marshalling
+ * of {@code SimpleReportFacade}
+ *
+ */
+public class SimpleReportBinaryCodec extends AbstractJaxbBinaryCodec<XmlSimpleReport> {
+
+	/** The property containing the validated tokens */
+	private static final String TOKENS = "signatureOrTimestampOrEvidenceRecord";
+
+	/**
+	 * Default constructor
+	 */
+	protected SimpleReportBinaryCodec() {
+		super(XmlSimpleReport.class);
+	}
+
+	/**
+	 * Instantiates a new {@code SimpleReportBinaryCodec}
+	 *
+	 * @return {@link SimpleReportBinaryCodec}
+	 */
+	public static SimpleReportBinaryCodec newCodec() {
+		return new SimpleReportBinaryCodec();
+	}
+
+	/**
+	 * Decodes only the indications of the validated tokens (signatures, timestamps and evidence records)
+	 * present at the top level of the simple report
+	 *
+	 * @param binaries the binary representation of a simple report
+	 * @return a map between token identifiers and their {@link Indication}s
+	 * @throws IOException if the binaries cannot be decoded
+	 */
+	public Map<String, Indication> decodeIndications(byte[] binaries) throws IOException {
+		final XmlSimpleReport simpleReport = decode(binaries, TOKENS + "/id", TOKENS + "/indication");
+		final Map<String, Indication> indications = new LinkedHashMap<>();
+		for (XmlToken token : simpleReport.getSignatureOrTimestampOrEvidenceRecord()) {
+			indications.put(token.getId(), token.getIndication());
+		}
+		return indications;
+	}
+
+}
@@ -21,7 +21,12 @@
 package eu.europa.esig.dss.simplereport;
 
 import eu.europa.esig.dss.jaxb.common.AbstractJaxbFacade;
+import eu.europa.esig.dss.jaxb.common.StreamingReportWriter;
+import eu.europa.esig.dss.simplereport.jaxb.XmlEvidenceRecord;
+import eu.europa.esig.dss.simplereport.jaxb.XmlSignature;
 import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
+import eu.europa.esig.dss.simplereport.jaxb.XmlTimestamp;
+import eu.europa.esig.dss.simplereport.jaxb.XmlToken;
 import org.xml.sax.SAXException;
 
 import jakarta.xml.bind.JAXBContext;
@@ -35,8 +40,12 @@ import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Contains methods to generate SimpleReport
@@ -104,6 +113,105 @@ public class SimpleReportFacade extends AbstractJaxbFacade<XmlSimpleReport> {
 		transformer.transform(new JAXBSource(getJAXBContext(), wrap(simpleReport)), result);
 	}
 
+	/**
+	 * Generates a Bootstrap 4 Simple report and writes it incrementally to the {@code OutputStream}
+	 *
+	 * @param simpleReport {@link XmlSimpleReport}
+	 * @param os {@link OutputStream} to write the report into (UTF-8 encoded)
+	 * @throws IOException if an IOException occurs
+	 * @throws TransformerException if an TransformerException occurs
+	 * @throws JAXBException if an JAXBException occurs
+	 * @throws SAXException if the report is not valid against the XSD
+	 */
+	public void generateHtmlReport(XmlSimpleReport simpleReport, OutputStream os)
+			throws IOException, TransformerException, JAXBException, SAXException {
+		generateHtmlReport(simpleReport, os, false);
+	}
+
+	/**
+	 * Generates a Bootstrap 4 Simple report and writes it incrementally to the {@code OutputStream}
+	 * with an optional validation of the report against the XSD.
+	 *
+	 * The tokens are transformed one by one, thus neither the complete XML nor the complete HTML
+	 * are kept in memory.
+	 *
+	 * @param simpleReport {@link XmlSimpleReport}
+	 * @param os {@link OutputStream} to write the report into (UTF-8 encoded)
+	 * @param validate enable/disable the validation against the related XSD
+	 * @throws IOException if an IOException occurs
+	 * @throws TransformerException if an TransformerException occurs
+	 * @throws JAXBException if an JAXBException occurs
+	 * @throws SAXException if the report is not valid against the XSD
+	 */
+	public void generateHtmlReport(XmlSimpleReport simpleReport, OutputStream os, boolean validate)
+			throws IOException, TransformerException, JAXBException, SAXException {
+		if (validate) {
+			validate(simpleReport);
+		}
+
+		StreamingReportWriter<XmlSimpleReport> writer = new StreamingReportWriter<>(
+				this, SimpleReportXmlDefiner.getHtmlBootstrap4Templates(), os);
+		writer.writeHeader(createChunk(simpleReport));
+
+		List<XmlToken> tokens = simpleReport.getSignatureOrTimestampOrEvidenceRecord();
+		int signaturesCount = getNumberOfTokens(tokens, XmlSignature.class);
+		int signaturePosition = 0;
+		for (XmlToken token : tokens) {
+			if (token instanceof XmlSignature) {
+				Map<String, Object> parameters = new HashMap<>();
+				parameters.put("signaturePosition", ++signaturePosition);
+				parameters.put("signaturesCount", signaturesCount);
+				writer.writeChunk(createChunk(simpleReport, token), parameters);
+			}
+		}
+		writeTokens(writer, simpleReport, XmlTimestamp.class);
+		writeTokens(writer, simpleReport, XmlEvidenceRecord.class);
+
+		writer.writeFooter();
+	}
+
+	private void writeTokens(StreamingReportWriter<XmlSimpleReport> writer, XmlSimpleReport simpleReport,
+							 Class<? extends XmlToken> tokenClass) throws IOException, TransformerException, JAXBException {
+		for (XmlToken token : simpleReport.getSignatureOrTimestampOrEvidenceRecord()) {
+			if (tokenClass.isInstance(token)) {
+				writer.writeChunk(createChunk(simpleReport, token));
+			}
+		}
+	}
+
+	private int getNumberOfTokens(List<XmlToken> tokens, Class<? extends XmlToken> tokenClass) {
+		int count = 0;
+		for (XmlToken token : tokens) {
+			if (tokenClass.isInstance(token)) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Creates a shallow copy of the report, containing the given tokens only
+	 *
+	 * @param simpleReport {@link XmlSimpleReport} to copy
+	 * @param tokens {@link XmlToken}s to be included
+	 * @return {@link XmlSimpleReport}
+	 */
+	private XmlSimpleReport createChunk(XmlSimpleReport simpleReport, XmlToken... tokens) {
+		XmlSimpleReport chunk = new XmlSimpleReport();
+		chunk.setValidationPolicy(simpleReport.getValidationPolicy());
+		chunk.setDocumentName(simpleReport.getDocumentName());
+		chunk.setValidSignaturesCount(simpleReport.getValidSignaturesCount());
+		chunk.setSignaturesCount(simpleReport.getSignaturesCount());
+		chunk.setContainerType(simpleReport.getContainerType());
+		chunk.setPDFAInfo(simpleReport.getPDFAInfo());
+		chunk.setValidationTime(simpleReport.getValidationTime());
+		chunk.getSemantic().addAll(simpleReport.getSemantic());
+		for (XmlToken token : tokens) {
+			chunk.getSignatureOrTimestampOrEvidenceRecord().add(token);
+		}
+		return chunk;
+	}
+
 	/**
 	 * Generates a Bootstrap 4 Simple report
 	 *
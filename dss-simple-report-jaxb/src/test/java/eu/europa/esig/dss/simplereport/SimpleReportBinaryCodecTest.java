@@ -0,0 +1,115 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.simplereport;
+
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
+import eu.europa.esig.dss.simplereport.jaxb.XmlToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleReportBinaryCodecTest {
+
+	@Test
+	public void test() throws Exception {
+		roundTrip("sr1.xml");
+	}
+
+	@Test
+	public void test2() throws Exception {
+		roundTrip("sr2.xml");
+	}
+
+	@Test
+	public void pdfaTest() throws Exception {
+		roundTrip("sr-pades.xml");
+	}
+
+	@Test
+	public void sigAndTstTest() throws Exception {
+		roundTrip("sr-sig-and-tst.xml");
+	}
+
+	@Test
+	public void semanticsTest() throws Exception {
+		roundTrip("sr-semantics.xml");
+	}
+
+	@Test
+	public void erTest() throws Exception {
+		roundTrip("sr-er.xml");
+	}
+
+	@Test
+	public void sigLtAndErTest() throws Exception {
+		roundTrip("sr-sig-lt-and-er.xml");
+	}
+
+	private void roundTrip(String filename) throws Exception {
+		SimpleReportFacade facade = SimpleReportFacade.newFacade();
+		SimpleReportBinaryCodec codec = SimpleReportBinaryCodec.newCodec();
+
+		XmlSimpleReport simpleReport = facade.unmarshall(new File("src/test/resources/" + filename));
+		String xml = facade.marshall(simpleReport);
+
+		byte[] binaries = codec.encode(simpleReport);
+		assertTrue(binaries.length < xml.getBytes(StandardCharsets.UTF_8).length);
+
+		XmlSimpleReport decoded = codec.decode(binaries);
+		assertEquals(xml, facade.marshall(decoded));
+	}
+
+	@Test
+	public void decodeIndicationsTest() throws Exception {
+		decodeIndications("sr1.xml");
+		decodeIndications("sr-sig-and-tst.xml");
+		decodeIndications("sr-sig-lt-and-er.xml");
+	}
+
+	private void decodeIndications(String filename) throws Exception {
+		SimpleReportBinaryCodec codec = SimpleReportBinaryCodec.newCodec();
+		XmlSimpleReport simpleReport = SimpleReportFacade.newFacade().unmarshall(new File("src/test/resources/" + filename));
+		byte[] binaries = codec.encode(simpleReport);
+
+		Map<String, Indication> indications = codec.decodeIndications(binaries);
+		assertEquals(simpleReport.getSignatureOrTimestampOrEvidenceRecord().size(), indications.size());
+		for (XmlToken token : simpleReport.getSignatureOrTimestampOrEvidenceRecord()) {
+			assertEquals(token.getIndication(), indications.get(token.getId()));
+		}
+
+		XmlSimpleReport partial = codec.decode(binaries, "signatureOrTimestampOrEvidenceRecord/indication");
+		XmlToken token = partial.getSignatureOrTimestampOrEvidenceRecord().get(0);
+		assertNotNull(token.getIndication());
+		assertNull(token.getId());
+		assertNull(token.getFilename());
+		assertNull(partial.getValidationPolicy());
+		assertNull(partial.getValidationTime());
+	}
+
+}
@@ -23,8 +23,11 @@ package eu.europa.esig.dss.simplereport;
 import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public class SimpleReportFacadeTest {
@@ -64,7 +67,18 @@ public class SimpleReportFacadeTest {
 		String htmlReport = facade.generateHtmlReport(simpleReport);
 		assertNotNull(htmlReport);
 
+		facade.validate(simpleReport);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		facade.generateHtmlReport(simpleReport, baos, true);
+		String streamedHtmlReport = new String(baos.toByteArray(), StandardCharsets.UTF_8);
+		assertEquals(removeWhitespaces(htmlReport), removeWhitespaces(streamedHtmlReport));
+
 		assertNotNull(facade.generateHtmlReport(simpleReportString));
 	}
 
+	private String removeWhitespaces(String str) {
+		return str.replaceAll("\\s", "");
+	}
+
 }
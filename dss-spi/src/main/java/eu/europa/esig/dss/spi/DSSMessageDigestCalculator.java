@@ -24,6 +24,7 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DSSMessageDigest;
 
+import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -78,6 +79,31 @@ public class DSSMessageDigestCalculator {
         }
     }
 
+    /**
+     * Updates the digest using the specified array of bytes, starting at the specified offset
+     *
+     * @param bytes array of bytes
+     * @param offset the offset to start from in the array of bytes
+     * @param length the number of bytes to use, starting at offset
+     */
+    public void update(byte[] bytes, int offset, int length) {
+        if (bytes != null) {
+            messageDigest.update(bytes, offset, length);
+        }
+    }
+
+    /**
+     * Returns an {@code OutputStream} updating the digest with all the bytes written into it.
+     * Can be used to compute the message-digest of a content produced in a streaming manner
+     * (e.g. canonicalization), without its materialization.
+     * NOTE: closing of the returned stream has no effect.
+     *
+     * @return {@link OutputStream}
+     */
+    public OutputStream getOutputStream() {
+        return new MessageDigestOutputStream();
+    }
+
     /**
      * Returns the {@code DSSMessageDigest} accordingly to the current state.
      * This method resets the state of message-digest.
@@ -88,4 +114,21 @@ public class DSSMessageDigestCalculator {
         return new DSSMessageDigest(digestAlgorithm, messageDigest.digest());
     }
 
+    /**
+     * The {@code OutputStream} updating the message-digest of the current calculator
+     */
+    private class MessageDigestOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+            update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            update(b, off, len);
+        }
+
+    }
+
 }
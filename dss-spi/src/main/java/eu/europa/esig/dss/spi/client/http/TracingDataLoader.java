@@ -0,0 +1,109 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.spi.trace.DataLoaderTraceListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@code DataLoader} decorator reporting each executed call (URL, size, latency) to a {@code DataLoaderTraceListener}.
+ *
+ * NOTE: all the calls are reported as cache misses. A caching data loader (e.g. {@code FileCacheDataLoader})
+ * shall rather wrap the traced data loader, or report the calls itself.
+ *
+ */
+public class TracingDataLoader implements DataLoader {
+
+	private static final long serialVersionUID = 4906402125327383153L;
+
+	/** The data loader executing the calls */
+	private final DataLoader dataLoader;
+
+	/** The listener to report the calls to */
+	private final DataLoaderTraceListener traceListener;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param dataLoader {@link DataLoader} executing the calls
+	 * @param traceListener {@link DataLoaderTraceListener} to report the calls to
+	 */
+	public TracingDataLoader(final DataLoader dataLoader, final DataLoaderTraceListener traceListener) {
+		Objects.requireNonNull(dataLoader, "DataLoader cannot be null!");
+		Objects.requireNonNull(traceListener, "DataLoaderTraceListener cannot be null!");
+		this.dataLoader = dataLoader;
+		this.traceListener = traceListener;
+	}
+
+	@Override
+	public byte[] get(String url) {
+		byte[] result = null;
+		final long startTime = System.nanoTime();
+		try {
+			result = dataLoader.get(url);
+			return result;
+		} finally {
+			report(url, result, startTime);
+		}
+	}
+
+	@Override
+	public DataAndUrl get(List<String> urlStrings) {
+		DataAndUrl result = null;
+		final long startTime = System.nanoTime();
+		try {
+			result = dataLoader.get(urlStrings);
+			return result;
+		} finally {
+			if (result != null) {
+				report(result.getUrlString(), result.getData(), startTime);
+			} else {
+				report(String.valueOf(urlStrings), null, startTime);
+			}
+		}
+	}
+
+	@Override
+	public byte[] post(String url, byte[] content) {
+		byte[] result = null;
+		final long startTime = System.nanoTime();
+		try {
+			result = dataLoader.post(url, content);
+			return result;
+		} finally {
+			report(url, result, startTime);
+		}
+	}
+
+	@Override
+	public void setContentType(String contentType) {
+		dataLoader.setContentType(contentType);
+	}
+
+	private void report(String url, byte[] result, long startTime) {
+		final boolean success = result != null && result.length > 0;
+		traceListener.dataLoaderCallCompleted(url, success ? result.length : 0, System.nanoTime() - startTime,
+				false, success);
+	}
+
+}
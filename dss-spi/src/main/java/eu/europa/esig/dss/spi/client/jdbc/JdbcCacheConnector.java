@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.spi.client.jdbc;
 
 import eu.europa.esig.dss.spi.client.jdbc.query.SqlQuery;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlQueryBatch;
 import eu.europa.esig.dss.spi.client.jdbc.query.SqlSelectQuery;
 import eu.europa.esig.dss.spi.client.jdbc.record.SqlRecord;
 import org.slf4j.Logger;
@@ -34,6 +35,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -94,6 +96,55 @@ public class JdbcCacheConnector {
         }
     }
 
+    /**
+     * This method executes the given query batches within a single transaction, by handling an exception.
+     * Either all the queries are committed, or none of them (the transaction is rolled back on any failure).
+     *
+     * @param queryBatches a list of {@link SqlQueryBatch}s to be executed in the given order
+     * @return TRUE if the transaction has been committed, FALSE if it has been rolled back
+     */
+    public boolean executeTransaction(final List<SqlQueryBatch> queryBatches) {
+        Objects.requireNonNull(queryBatches, "Query batches cannot be null!");
+
+        Connection c = null;
+        PreparedStatement s = null;
+        try {
+            c = dataSource.getConnection();
+            c.setAutoCommit(false);
+
+            for (SqlQueryBatch queryBatch : queryBatches) {
+                if (queryBatch.getArgumentsList().isEmpty()) {
+                    continue;
+                }
+                s = c.prepareStatement(queryBatch.getQuery().getQueryString());
+                for (Object[] arguments : queryBatch.getArgumentsList()) {
+                    for (int ii = 0; ii < arguments.length; ii++) {
+                        s.setObject(ii + 1, arguments[ii]);
+                    }
+                    s.addBatch();
+                }
+                for (int count : s.executeBatch()) {
+                    if (count == Statement.EXECUTE_FAILED) {
+                        throw new SQLException(String.format("Execution of the query [%s] failed", queryBatch.getQuery()));
+                    }
+                }
+                closeQuietly(s);
+                s = null;
+            }
+            c.commit();
+            LOG.debug("The transaction with {} query batches has been executed successfully", queryBatches.size());
+            return true;
+
+        } catch (final SQLException e) {
+            LOG.error("Unable to execute the transaction {}. Reason : '{}'", queryBatches, e.getMessage(), e);
+            rollback(c);
+            return false;
+
+        } finally {
+            closeQuietly(c, s, null);
+        }
+    }
+
     /**
      * This method executes the query and returns a collection of selected objects
      *
@@ -0,0 +1,87 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.jdbc.query;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Represents a query to be executed for each of the provided sets of arguments,
+ * as a part of a transaction
+ *
+ */
+public class SqlQueryBatch {
+
+    /** The query to be executed */
+    private final SqlQuery query;
+
+    /** The sets of arguments, one for each execution of the query */
+    private final Collection<Object[]> argumentsList;
+
+    /**
+     * Default constructor
+     *
+     * @param query {@link SqlQuery} to be executed
+     * @param argumentsList a collection of {@link Object} arrays, each representing arguments of a query execution
+     */
+    public SqlQueryBatch(final SqlQuery query, final Collection<Object[]> argumentsList) {
+        Objects.requireNonNull(query, "Query cannot be null!");
+        Objects.requireNonNull(argumentsList, "Arguments list cannot be null!");
+        this.query = query;
+        this.argumentsList = argumentsList;
+    }
+
+    /**
+     * This method creates a {@code SqlQueryBatch} executing the query once with the given arguments
+     *
+     * @param query {@link SqlQuery} to be executed
+     * @param arguments an array of {@link Object}s, representing the query arguments
+     * @return {@link SqlQueryBatch}
+     */
+    public static SqlQueryBatch createQueryBatch(final SqlQuery query, final Object... arguments) {
+        return new SqlQueryBatch(query, Collections.singletonList(arguments));
+    }
+
+    /**
+     * Returns the query
+     *
+     * @return {@link SqlQuery}
+     */
+    public SqlQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the sets of arguments, one for each execution of the query
+     *
+     * @return a collection of {@link Object} arrays
+     */
+    public Collection<Object[]> getArgumentsList() {
+        return argumentsList;
+    }
+
+    @Override
+    public String toString() {
+        return "JdbcQueryBatch[" + "query=" + query + ", size=" + argumentsList.size() + ']';
+    }
+
+}
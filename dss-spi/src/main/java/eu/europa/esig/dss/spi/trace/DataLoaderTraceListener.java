@@ -0,0 +1,42 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.trace;
+
+/**
+ * Receives the outbound calls executed by a traced {@code DataLoader}
+ *
+ * NOTE: the methods may be called concurrently. An implementation shall be thread-safe and shall not block.
+ *
+ */
+public interface DataLoaderTraceListener {
+
+	/**
+	 * Called when a data loader call has been completed
+	 *
+	 * @param url {@link String} the requested URL
+	 * @param size the size of the obtained content in bytes (0 in case of an error)
+	 * @param duration the duration of the call in nanoseconds
+	 * @param cacheHit TRUE if the content has been obtained from a cache, FALSE if it has been requested remotely
+	 * @param success TRUE if the content has been obtained, FALSE if the call failed
+	 */
+	void dataLoaderCallCompleted(String url, long size, long duration, boolean cacheHit, boolean success);
+
+}
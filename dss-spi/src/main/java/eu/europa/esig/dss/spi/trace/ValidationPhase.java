@@ -0,0 +1,61 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.trace;
+
+/**
+ * Defines the phases of a signed document validation reported to a {@code ValidationTraceListener}
+ *
+ */
+public enum ValidationPhase {
+
+	/** The extraction of signatures, timestamps and evidence records from the validated document */
+	TOKEN_EXTRACTION,
+
+	/**
+	 * The preparation of the validation context (including the cryptographic verification of the signatures,
+	 * reported separately as {@code SIGNATURE_CRYPTOGRAPHIC_VERIFICATION})
+	 */
+	VALIDATION_CONTEXT_PREPARATION,
+
+	/**
+	 * The cryptographic verification of the signatures integrity.
+	 * When the signatures are verified concurrently and the format supports it, includes the extraction of
+	 * the signatures timestamps and the verification of their message-imprints, which are otherwise performed
+	 * within {@code VALIDATION_CONTEXT_PREPARATION}
+	 */
+	SIGNATURE_CRYPTOGRAPHIC_VERIFICATION,
+
+	/**
+	 * The execution of the validation context: certificate chain building, AIA, CRL and OCSP retrieval
+	 * (the outbound calls are reported separately by the traced data loaders)
+	 */
+	VALIDATION_CONTEXT_EXECUTION,
+
+	/** The building of the DiagnosticData */
+	DIAGNOSTIC_DATA_BUILDING,
+
+	/** The execution of the validation policy and the reports creation */
+	VALIDATION_POLICY_EXECUTION,
+
+	/** The complete document validation (includes all other phases) */
+	DOCUMENT_VALIDATION;
+
+}
@@ -0,0 +1,42 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.trace;
+
+/**
+ * Receives the durations of the different phases of a signed document validation,
+ * as well as the outbound calls executed by the traced data loaders (see {@code TracingDataLoader}).
+ *
+ * When no listener is defined, the validation is not instrumented.
+ *
+ * NOTE: the methods may be called concurrently. An implementation shall be thread-safe and shall not block.
+ *
+ */
+public interface ValidationTraceListener extends DataLoaderTraceListener {
+
+	/**
+	 * Called when a validation phase has been completed (successfully or not)
+	 *
+	 * @param phase {@link ValidationPhase} the completed phase
+	 * @param duration the duration of the phase in nanoseconds
+	 */
+	void phaseCompleted(ValidationPhase phase, long duration);
+
+}
@@ -119,4 +119,12 @@ public interface InfoRecord extends Serializable {
 	 */
 	boolean isResultExist();
 
+	/**
+	 * Gets the time in milliseconds spent on the last execution of the corresponding stage
+	 * (i.e. download, parsing or validation)
+	 *
+	 * @return {@link Long} processing time in milliseconds, null if the stage has not been executed
+	 */
+	Long getProcessingTime();
+
 }
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.model.identifier.Identifier;
 import eu.europa.esig.dss.utils.Utils;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -105,6 +106,74 @@ public class TLValidationJobSummary implements Serializable {
 		return 0;
 	}
 	
+	/**
+	 * Returns the total time in milliseconds spent on the download of all processed LOTLs, pivots and TLs
+	 * during the last execution of the corresponding stage
+	 *
+	 * @return {@code long} download time in milliseconds
+	 */
+	public long getTotalDownloadTime() {
+		long total = 0;
+		for (TLInfo tlInfo : getAllTLInfos()) {
+			total += getProcessingTime(tlInfo.getDownloadCacheInfo());
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the total time in milliseconds spent on the parsing of all processed LOTLs, pivots and TLs
+	 * during the last execution of the corresponding stage
+	 *
+	 * @return {@code long} parsing time in milliseconds
+	 */
+	public long getTotalParsingTime() {
+		long total = 0;
+		for (TLInfo tlInfo : getAllTLInfos()) {
+			total += getProcessingTime(tlInfo.getParsingCacheInfo());
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the total time in milliseconds spent on the signature validation of all processed LOTLs, pivots and TLs
+	 * during the last execution of the corresponding stage
+	 *
+	 * @return {@code long} validation time in milliseconds
+	 */
+	public long getTotalValidationTime() {
+		long total = 0;
+		for (TLInfo tlInfo : getAllTLInfos()) {
+			total += getProcessingTime(tlInfo.getValidationCacheInfo());
+		}
+		return total;
+	}
+
+	private List<TLInfo> getAllTLInfos() {
+		List<TLInfo> result = new ArrayList<>();
+		if (Utils.isCollectionNotEmpty(otherTLInfos)) {
+			result.addAll(otherTLInfos);
+		}
+		if (Utils.isCollectionNotEmpty(lotlInfos)) {
+			for (LOTLInfo lotlInfo : lotlInfos) {
+				result.add(lotlInfo);
+				if (Utils.isCollectionNotEmpty(lotlInfo.getPivotInfos())) {
+					result.addAll(lotlInfo.getPivotInfos());
+				}
+				if (Utils.isCollectionNotEmpty(lotlInfo.getTLInfos())) {
+					result.addAll(lotlInfo.getTLInfos());
+				}
+			}
+		}
+		return result;
+	}
+
+	private long getProcessingTime(InfoRecord infoRecord) {
+		if (infoRecord != null && infoRecord.getProcessingTime() != null) {
+			return infoRecord.getProcessingTime();
+		}
+		return 0;
+	}
+
 	/**
 	 * Returns a TLInfo object by Identifier
 	 * 
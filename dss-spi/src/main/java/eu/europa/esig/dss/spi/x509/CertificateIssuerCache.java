@@ -0,0 +1,280 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Thread-safe bounded cache of the issuer chains of the intermediate certificates, shared between validations.
+ * <p>
+ * The cache is checked before the issuer lookup within the certificate sources of a validation. It allows
+ * skipping of the issuer discovery (source lookups and AIA requests) for the already processed intermediate
+ * certificates. The entries are identified by the SHA-256 digest of the issuing (CA) certificate, and contain
+ * its issuer chain together with the certificate sources the chain has been obtained from (e.g. the AIA sources),
+ * in order to restore them within the validation using the cached entry.
+ * <p>
+ * An entry is used only when the direct issuer still signs the given certificate, and when the trusted certificate
+ * sources have not been replaced or modified (e.g. on a trusted lists refresh) since the entry has been added.
+ * The least recently used entries are removed when the maximum size is reached, and the entries
+ * expire after the configured cache expiration time.
+ *
+ */
+public class CertificateIssuerCache implements Serializable {
+
+	private static final long serialVersionUID = 1874231470317289156L;
+
+	/**
+	 * The default maximum number of entries
+	 */
+	private static final int DEFAULT_MAX_SIZE = 1000;
+
+	/**
+	 * The digest algorithm used to identify the cached certificates
+	 */
+	private static final DigestAlgorithm KEY_DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+	/**
+	 * The version value used for a certificate source without versioning support
+	 */
+	private static final long UNKNOWN_VERSION = -1;
+
+	/**
+	 * Time in milliseconds the issuer chains are kept in the cache
+	 */
+	private long cacheExpirationTime = 24 * 60 * 60 * 1000L; // 1 day
+
+	/**
+	 * The cached issuer chains, by the certificate digest
+	 */
+	private final Map<Digest, CacheEntry> issuerChainsMap;
+
+	/**
+	 * Default constructor creating a cache with a maximum size of 1000 entries
+	 */
+	public CertificateIssuerCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor with a defined maximum number of entries
+	 *
+	 * @param maxSize maximum number of certificates to keep issuer chains for
+	 */
+	public CertificateIssuerCache(final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The maximum size of the cache shall be positive!");
+		}
+		this.issuerChainsMap = new LinkedHashMap<Digest, CacheEntry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = -6180328153402357702L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Digest, CacheEntry> eldest) {
+				return size() > maxSize;
+			}
+
+		};
+	}
+
+	/**
+	 * Sets the time in milliseconds the issuer chains are kept in the cache
+	 * <p>
+	 * Default : 86400000 (1 day)
+	 *
+	 * @param cacheExpirationTime long value (milliseconds)
+	 */
+	public void setCacheExpirationTime(long cacheExpirationTime) {
+		if (cacheExpirationTime < 0) {
+			throw new IllegalArgumentException("The cache expiration time cannot be negative!");
+		}
+		this.cacheExpirationTime = cacheExpirationTime;
+	}
+
+	/**
+	 * Returns the cached issuer chain of the given {@code certificateToken}, when present, not expired and
+	 * added with the same content of the {@code trustedCertSources}.
+	 * The signature of the {@code certificateToken} is verified against the direct issuer of the cached chain.
+	 *
+	 * @param certificateToken {@link CertificateToken} to get issuer chain for
+	 * @param trustedCertSources {@link ListCertificateSource} trusted certificate sources of the validation
+	 * @return {@link CertificateIssuerChain}, NULL if not present in the cache
+	 */
+	public CertificateIssuerChain getIssuerChain(CertificateToken certificateToken, ListCertificateSource trustedCertSources) {
+		Objects.requireNonNull(certificateToken, "CertificateToken shall be provided!");
+		Objects.requireNonNull(trustedCertSources, "Trusted certificate sources shall be provided!");
+		final Digest key = getKey(certificateToken);
+		final CacheEntry cacheEntry;
+		synchronized (issuerChainsMap) {
+			cacheEntry = issuerChainsMap.get(key);
+			if (cacheEntry == null) {
+				return null;
+			}
+			if (cacheEntry.expirationTime <= System.currentTimeMillis()) {
+				issuerChainsMap.remove(key);
+				return null;
+			}
+		}
+		if (!cacheEntry.isSameTrustedCertSources(trustedCertSources)) {
+			return null;
+		}
+		final CertificateIssuerChain issuerChain = cacheEntry.issuerChain;
+		if (!certificateToken.isSignedBy(issuerChain.getIssuers().get(0))) {
+			return null;
+		}
+		return issuerChain;
+	}
+
+	/**
+	 * Caches the {@code issuerChain} for the given {@code certificateToken}.
+	 * The entry is ignored when the {@code certificateToken} is not a CA certificate, or when its signature
+	 * has not been verified against the direct issuer of the chain.
+	 *
+	 * @param certificateToken {@link CertificateToken} issuing CA certificate
+	 * @param issuerChain {@link CertificateIssuerChain} issuer chain of the certificateToken
+	 * @param trustedCertSources {@link ListCertificateSource} trusted certificate sources the chain has been built with
+	 */
+	public void putIssuerChain(CertificateToken certificateToken, CertificateIssuerChain issuerChain,
+							   ListCertificateSource trustedCertSources) {
+		Objects.requireNonNull(certificateToken, "CertificateToken shall be provided!");
+		Objects.requireNonNull(issuerChain, "CertificateIssuerChain shall be provided!");
+		Objects.requireNonNull(trustedCertSources, "Trusted certificate sources shall be provided!");
+		if (!certificateToken.isCA() || !certificateToken.isSignatureIntact() || !issuerChain.getIssuers().get(0)
+				.getPublicKey().equals(certificateToken.getPublicKeyOfTheSigner())) {
+			return;
+		}
+		final CacheEntry cacheEntry = new CacheEntry(issuerChain, trustedCertSources,
+				System.currentTimeMillis() + cacheExpirationTime);
+		final Digest key = getKey(certificateToken);
+		synchronized (issuerChainsMap) {
+			issuerChainsMap.put(key, cacheEntry);
+		}
+	}
+
+	/**
+	 * Removes the cached issuer chain of the given {@code certificateToken}
+	 *
+	 * @param certificateToken {@link CertificateToken}
+	 */
+	public void removeIssuerChain(CertificateToken certificateToken) {
+		Objects.requireNonNull(certificateToken, "CertificateToken shall be provided!");
+		final Digest key = getKey(certificateToken);
+		synchronized (issuerChainsMap) {
+			issuerChainsMap.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all the cached entries
+	 */
+	public void clear() {
+		synchronized (issuerChainsMap) {
+			issuerChainsMap.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached entries, including the expired entries not evicted yet
+	 *
+	 * @return number of cached entries
+	 */
+	public int size() {
+		synchronized (issuerChainsMap) {
+			return issuerChainsMap.size();
+		}
+	}
+
+	private Digest getKey(CertificateToken certificateToken) {
+		return new Digest(KEY_DIGEST_ALGORITHM, certificateToken.getDigest(KEY_DIGEST_ALGORITHM));
+	}
+
+	private static long getVersion(CertificateSource certificateSource) {
+		if (certificateSource instanceof CommonCertificateSource) {
+			return ((CommonCertificateSource) certificateSource).getVersion();
+		}
+		return UNKNOWN_VERSION;
+	}
+
+	/**
+	 * Represents a cached issuer chain
+	 */
+	private static class CacheEntry implements Serializable {
+
+		private static final long serialVersionUID = 6395721465307452154L;
+
+		/** The cached issuer chain */
+		private final CertificateIssuerChain issuerChain;
+
+		/** The trusted certificate sources the chain has been built with */
+		private final transient List<CertificateSource> trustedCertSources;
+
+		/** The versions of {@code trustedCertSources}, as at the time of the addition */
+		private final List<Long> trustedCertSourceVersions;
+
+		/** The time after which the entry shall not be used anymore */
+		private final long expirationTime;
+
+		CacheEntry(CertificateIssuerChain issuerChain, ListCertificateSource trustedCertSources, long expirationTime) {
+			this.issuerChain = issuerChain;
+			this.trustedCertSources = new ArrayList<>(trustedCertSources.getSources());
+			this.trustedCertSourceVersions = getVersions(this.trustedCertSources);
+			this.expirationTime = expirationTime;
+		}
+
+		/**
+		 * Checks whether the given trusted certificate sources are the same instances, with the same content,
+		 * as the ones the chain has been built with
+		 *
+		 * @param currentTrustedCertSources {@link ListCertificateSource}
+		 * @return TRUE if the trusted certificate sources have not been replaced nor modified, FALSE otherwise
+		 */
+		private boolean isSameTrustedCertSources(ListCertificateSource currentTrustedCertSources) {
+			final List<CertificateSource> sources = currentTrustedCertSources.getSources();
+			if (trustedCertSources == null || trustedCertSources.size() != sources.size()) {
+				return false;
+			}
+			for (int i = 0; i < sources.size(); i++) {
+				if (trustedCertSources.get(i) != sources.get(i)) {
+					return false;
+				}
+			}
+			return trustedCertSourceVersions.equals(getVersions(sources));
+		}
+
+		private static List<Long> getVersions(List<CertificateSource> certificateSources) {
+			final List<Long> versions = new ArrayList<>();
+			for (CertificateSource certificateSource : certificateSources) {
+				versions.add(getVersion(certificateSource));
+			}
+			return versions;
+		}
+
+	}
+
+}
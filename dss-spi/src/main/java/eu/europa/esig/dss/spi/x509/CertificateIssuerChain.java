@@ -0,0 +1,85 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the issuer chain of a certificate, as cached within a {@code CertificateIssuerCache}
+ *
+ */
+public class CertificateIssuerChain implements Serializable {
+
+	private static final long serialVersionUID = -3415390718592347361L;
+
+	/**
+	 * The issuer certificates, starting from the direct issuer of the certificate
+	 */
+	private final List<CertificateToken> issuers;
+
+	/**
+	 * The certificate sources the issuers have been obtained from (e.g. AIA),
+	 * excluding the trusted certificate sources
+	 */
+	private final List<CertificateSource> certificateSources;
+
+	/**
+	 * The default constructor
+	 *
+	 * @param issuers list of {@link CertificateToken}s, starting from the direct issuer of the certificate
+	 * @param certificateSources list of {@link CertificateSource}s the issuers have been obtained from
+	 */
+	public CertificateIssuerChain(List<CertificateToken> issuers, List<CertificateSource> certificateSources) {
+		Objects.requireNonNull(issuers, "Issuers shall be provided!");
+		Objects.requireNonNull(certificateSources, "Certificate sources shall be provided!");
+		if (issuers.isEmpty()) {
+			throw new IllegalArgumentException("The issuer chain cannot be empty!");
+		}
+		this.issuers = Collections.unmodifiableList(new ArrayList<>(issuers));
+		this.certificateSources = Collections.unmodifiableList(new ArrayList<>(certificateSources));
+	}
+
+	/**
+	 * Returns the issuer certificates, starting from the direct issuer of the certificate
+	 *
+	 * @return list of {@link CertificateToken}s
+	 */
+	public List<CertificateToken> getIssuers() {
+		return issuers;
+	}
+
+	/**
+	 * Returns the certificate sources the issuers have been obtained from (e.g. AIA),
+	 * to be added to the validation using the cached chain
+	 *
+	 * @return list of {@link CertificateSource}s
+	 */
+	public List<CertificateSource> getCertificateSources() {
+		return certificateSources;
+	}
+
+}
@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class is the common class for all {@code CertificateSource}. It stores
@@ -70,6 +71,11 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	private Map<Map<String, String>, Set<CertificateToken>> tokensBySubject = new HashMap<>();
 
+	/**
+	 * The version of the content, incremented on each modification
+	 */
+	private final AtomicLong version = new AtomicLong();
+
 	/**
 	 * The default constructor
 	 */
@@ -106,11 +112,15 @@ public class CommonCertificateSource implements CertificateSource {
 			}
 		}
 
+		boolean added;
 		synchronized (tokensBySubject) {
 			Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToAdd.getSubject().getPrincipal());
-			tokensBySubject.computeIfAbsent(propertiesMap, k -> new HashSet<>()).add(certificateToAdd);
+			added = tokensBySubject.computeIfAbsent(propertiesMap, k -> new HashSet<>()).add(certificateToAdd);
 		}
 
+		if (added) {
+			version.incrementAndGet();
+		}
 		return certificateToAdd;
 	}
 
@@ -156,6 +166,8 @@ public class CommonCertificateSource implements CertificateSource {
 				}
 			}
 		}
+
+		version.incrementAndGet();
 	}
 
 	/**
@@ -164,6 +176,17 @@ public class CommonCertificateSource implements CertificateSource {
 	protected void reset() {
 		entriesByPublicKeyHash = new HashMap<>();
 		tokensBySubject = new HashMap<>();
+		version.incrementAndGet();
+	}
+
+	/**
+	 * Returns the version of the content of the source, which is incremented each time a new certificate
+	 * is added or a certificate is removed, or the source is reset (e.g. on a trusted lists refresh)
+	 *
+	 * @return the version of the content
+	 */
+	public long getVersion() {
+		return version.get();
 	}
 
 	@Override
@@ -0,0 +1,375 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.aia;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory bounded implementation of {@code RepositoryAIASource}.
+ * <p>
+ * The certificates obtained by AIA are kept in memory for a defined time (TTL), with a limited number of AIA URLs.
+ * The AIA URLs returning no certificates (e.g. unreachable or broken endpoints) are cached as failed,
+ * and are not requested again until an exponentially growing back-off delay passes.
+ * Concurrent requests for the same AIA URLs are merged into a single call of the proxied source.
+ *
+ */
+public class InMemoryCacheAIASource extends RepositoryAIASource {
+
+    private static final long serialVersionUID = 6418521958425962519L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(InMemoryCacheAIASource.class);
+
+    /**
+     * Maximum number of AIA URLs to keep in the cache
+     */
+    private int maxSize = 1000;
+
+    /**
+     * Time in milliseconds the obtained certificates are kept in the cache
+     */
+    private long cacheExpirationTime = 24 * 60 * 60 * 1000L; // 1 day
+
+    /**
+     * Initial back-off time in milliseconds before a failed AIA URL is requested again
+     */
+    private long initialFailureBackoffTime = 60 * 1000L; // 1 minute
+
+    /**
+     * Maximum back-off time in milliseconds before a failed AIA URL is requested again
+     */
+    private long maxFailureBackoffTime = 60 * 60 * 1000L; // 1 hour
+
+    /**
+     * Cached certificates by AIA key
+     */
+    private final Map<String, CacheEntry> certificatesMap = new BoundedMap<>(this);
+
+    /**
+     * Failures by AIA key
+     */
+    private final Map<String, FailureEntry> failuresMap = new BoundedMap<>(this);
+
+    /**
+     * Ongoing requests to the proxied source, by requested AIA keys
+     *
+     * NOTE : the ongoing requests are not serialized
+     */
+    private transient Map<List<String>, CompletableFuture<Set<CertificateToken>>> ongoingRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor
+     */
+    public InMemoryCacheAIASource() {
+        // empty
+    }
+
+    /**
+     * Sets the maximum number of AIA URLs to keep in the cache.
+     * The least recently used entries are removed when the limit is exceeded.
+     * <p>
+     * Default : 1000
+     *
+     * @param maxSize int value
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size of the cache shall be positive!");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Sets the time in milliseconds the obtained certificates are kept in the cache
+     * <p>
+     * Default : 86400000 (1 day)
+     *
+     * @param cacheExpirationTime long value (milliseconds)
+     */
+    public void setCacheExpirationTime(long cacheExpirationTime) {
+        this.cacheExpirationTime = cacheExpirationTime;
+    }
+
+    /**
+     * Sets the back-off time in milliseconds before an AIA URL failed for the first time is requested again.
+     * The time is doubled on each consecutive failure, within the limit of {@code maxFailureBackoffTime}.
+     * Set 0 to disable caching of the failures.
+     * <p>
+     * Default : 60000 (1 minute)
+     *
+     * @param initialFailureBackoffTime long value (milliseconds)
+     */
+    public void setInitialFailureBackoffTime(long initialFailureBackoffTime) {
+        this.initialFailureBackoffTime = initialFailureBackoffTime;
+    }
+
+    /**
+     * Sets the maximum back-off time in milliseconds before a failed AIA URL is requested again
+     * <p>
+     * Default : 3600000 (1 hour)
+     *
+     * @param maxFailureBackoffTime long value (milliseconds)
+     */
+    public void setMaxFailureBackoffTime(long maxFailureBackoffTime) {
+        this.maxFailureBackoffTime = maxFailureBackoffTime;
+    }
+
+    @Override
+    public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken, boolean forceRefresh) {
+        Objects.requireNonNull(certificateToken, "CertificateToken shall be provided!");
+        List<String> urls = CertificateExtensionsUtils.getCAIssuersAccessUrls(certificateToken);
+        if (Utils.isCollectionEmpty(urls)) {
+            return super.getCertificatesByAIA(certificateToken, forceRefresh);
+        }
+
+        final List<String> aiaKeys = initCertificateAIAKeys(urls);
+        if (!forceRefresh && isFailureCached(aiaKeys)) {
+            LOG.debug("AIA URLs '{}' failed recently. The request is skipped.", urls);
+            return Collections.emptySet();
+        }
+
+        final CompletableFuture<Set<CertificateToken>> request = new CompletableFuture<>();
+        final CompletableFuture<Set<CertificateToken>> ongoingRequest = ongoingRequests.putIfAbsent(aiaKeys, request);
+        if (ongoingRequest != null) {
+            LOG.debug("AIA URLs '{}' are being requested. Waiting for the result.", urls);
+            try {
+                return ongoingRequest.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Set<CertificateToken> result = super.getCertificatesByAIA(certificateToken, forceRefresh);
+            if (Utils.isCollectionEmpty(result)) {
+                registerFailure(aiaKeys);
+            } else {
+                clearFailure(aiaKeys);
+            }
+            request.complete(result);
+            return result;
+
+        } catch (RuntimeException e) {
+            registerFailure(aiaKeys);
+            request.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            ongoingRequests.remove(aiaKeys, request);
+        }
+    }
+
+    private boolean isFailureCached(List<String> aiaKeys) {
+        final long currentTime = System.currentTimeMillis();
+        synchronized (failuresMap) {
+            for (String aiaKey : aiaKeys) {
+                FailureEntry failureEntry = failuresMap.get(aiaKey);
+                if (failureEntry == null || failureEntry.retryTime <= currentTime) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void registerFailure(List<String> aiaKeys) {
+        if (initialFailureBackoffTime <= 0) {
+            return;
+        }
+        final long currentTime = System.currentTimeMillis();
+        synchronized (failuresMap) {
+            for (String aiaKey : aiaKeys) {
+                FailureEntry failureEntry = failuresMap.get(aiaKey);
+                int failures = failureEntry != null ? failureEntry.failures + 1 : 1;
+                failuresMap.put(aiaKey, new FailureEntry(failures, currentTime + getBackoffTime(failures)));
+            }
+        }
+    }
+
+    private long getBackoffTime(int failures) {
+        long backoffTime = initialFailureBackoffTime;
+        for (int i = 1; i < failures && backoffTime < maxFailureBackoffTime; i++) {
+            backoffTime *= 2;
+        }
+        return Math.min(backoffTime, maxFailureBackoffTime);
+    }
+
+    private void clearFailure(List<String> aiaKeys) {
+        synchronized (failuresMap) {
+            for (String aiaKey : aiaKeys) {
+                failuresMap.remove(aiaKey);
+            }
+        }
+    }
+
+    @Override
+    protected List<String> getExistingAIAKeys() {
+        synchronized (certificatesMap) {
+            return new ArrayList<>(certificatesMap.keySet());
+        }
+    }
+
+    @Override
+    protected Set<CertificateToken> findCertificates(String key) {
+        synchronized (certificatesMap) {
+            CacheEntry cacheEntry = certificatesMap.get(key);
+            if (cacheEntry == null) {
+                return Collections.emptySet();
+            }
+            if (cacheEntry.expirationTime <= System.currentTimeMillis()) {
+                LOG.debug("AIA certificates with key '{}' are expired in the cache", key);
+                certificatesMap.remove(key);
+                return Collections.emptySet();
+            }
+            return new LinkedHashSet<>(cacheEntry.certificates);
+        }
+    }
+
+    @Override
+    @Deprecated
+    protected void insertCertificates(String aiaKey, Collection<CertificateToken> certificateTokens) {
+        for (CertificateToken certificateToken : certificateTokens) {
+            insertCertificate(aiaKey, certificateToken);
+        }
+    }
+
+    @Override
+    protected void insertCertificate(String aiaKey, CertificateToken certificateToken) {
+        synchronized (certificatesMap) {
+            CacheEntry cacheEntry = certificatesMap.get(aiaKey);
+            if (cacheEntry == null || cacheEntry.expirationTime <= System.currentTimeMillis()) {
+                cacheEntry = new CacheEntry(System.currentTimeMillis() + cacheExpirationTime);
+                certificatesMap.put(aiaKey, cacheEntry);
+            }
+            cacheEntry.certificates.add(certificateToken);
+        }
+    }
+
+    @Override
+    protected void removeCertificates(String aiaKey) {
+        synchronized (certificatesMap) {
+            certificatesMap.remove(aiaKey);
+        }
+    }
+
+    /**
+     * Removes all the cached certificates and failures
+     */
+    public void clear() {
+        synchronized (certificatesMap) {
+            certificatesMap.clear();
+        }
+        synchronized (failuresMap) {
+            failuresMap.clear();
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        ongoingRequests = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Represents cached certificates for an AIA URL
+     */
+    private static class CacheEntry implements Serializable {
+
+        private static final long serialVersionUID = -2279513549934578394L;
+
+        /** The cached certificates */
+        private final Set<CertificateToken> certificates = new LinkedHashSet<>();
+
+        /** The time after which the entry shall be refreshed */
+        private final long expirationTime;
+
+        CacheEntry(long expirationTime) {
+            this.expirationTime = expirationTime;
+        }
+
+    }
+
+    /**
+     * Represents a cached failure of an AIA URL
+     */
+    private static class FailureEntry implements Serializable {
+
+        private static final long serialVersionUID = 2937617096766146361L;
+
+        /** Number of consecutive failures */
+        private final int failures;
+
+        /** The time before which the AIA URL shall not be requested again */
+        private final long retryTime;
+
+        FailureEntry(int failures, long retryTime) {
+            this.failures = failures;
+            this.retryTime = retryTime;
+        }
+
+    }
+
+    /**
+     * Access-ordered map removing the least recently used entries when the maximum size of the source is exceeded
+     *
+     * @param <V> the entry type
+     */
+    private static class BoundedMap<V> extends LinkedHashMap<String, V> {
+
+        private static final long serialVersionUID = -4312593427315781629L;
+
+        /** The source defining the maximum size */
+        private final InMemoryCacheAIASource source;
+
+        BoundedMap(InMemoryCacheAIASource source) {
+            super(16, 0.75f, true);
+            this.source = source;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            return size() > source.maxSize;
+        }
+
+    }
+
+}
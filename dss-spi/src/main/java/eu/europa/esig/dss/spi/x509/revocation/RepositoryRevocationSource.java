@@ -26,12 +26,18 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -66,6 +72,47 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
      */
     private boolean removeExpired = true;
 
+    /**
+     * Executor used to refresh the cached revocation data in background (disabled when null)
+     */
+    private transient ExecutorService backgroundRefreshExecutor;
+
+    /**
+     * Delay before the nextUpdate of a cached revocation token, within which the token is refreshed in background
+     */
+    private Long refreshAheadDelay;
+
+    /**
+     * Delay after the nextUpdate of a cached revocation token, during which the expired token is still returned
+     * while a fresh copy is being downloaded in background
+     */
+    private Long staleWhileRevalidateDelay;
+
+    /**
+     * Ratio of the refreshAheadDelay randomly subtracted for each lookup, to avoid refreshing all tokens at once
+     */
+    private double refreshJitter = 0.1;
+
+    /**
+     * Maximum number of concurrent background refreshes against the same host
+     */
+    private int maxConcurrentRefreshesPerHost = 1;
+
+    /**
+     * Keys of the revocation tokens being currently refreshed in background
+     */
+    private final Map<String, Boolean> pendingRefreshes = new ConcurrentHashMap<>();
+
+    /**
+     * Number of background refreshes currently running per host
+     */
+    private final Map<String, AtomicInteger> runningRefreshesPerHost = new ConcurrentHashMap<>();
+
+    /**
+     * Counters of the cache usage
+     */
+    private final RepositoryRevocationSourceStatistics statistics = new RepositoryRevocationSourceStatistics();
+
     /**
      * Default constructor instantiating object with null values
      */
@@ -168,6 +215,88 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         this.removeExpired = removeExpired;
     }
 
+    /**
+     * Sets the executor used to refresh the cached revocation data in background.
+     * When defined together with {@code refreshAheadDelay} and/or {@code staleWhileRevalidateDelay},
+     * the revocation tokens being looked up close to (or shortly after) their nextUpdate are downloaded
+     * asynchronously, so the validation process does not wait for the proxied source.
+     * <p>
+     * Default : null (background refresh is disabled)
+     *
+     * @param backgroundRefreshExecutor {@link ExecutorService}
+     */
+    public void setBackgroundRefreshExecutor(ExecutorService backgroundRefreshExecutor) {
+        this.backgroundRefreshExecutor = backgroundRefreshExecutor;
+    }
+
+    /**
+     * Sets the delay in seconds before the nextUpdate of a cached revocation token, within which the token
+     * is still returned from the cache, but a fresh copy is downloaded in background.
+     * Requires {@code backgroundRefreshExecutor} to be defined.
+     * <p>
+     * {@code
+     * If currentTime > revocation.nextUpdate - refreshAheadDelay, then refresh the revocation token in background
+     * }
+     *
+     * @param refreshAheadDelay long value (seconds)
+     */
+    public void setRefreshAheadDelay(final Long refreshAheadDelay) {
+        this.refreshAheadDelay = refreshAheadDelay == null ? null : refreshAheadDelay * 1000; // to milliseconds
+    }
+
+    /**
+     * Sets the delay in seconds after the nextUpdate of a cached revocation token, during which the expired token
+     * is still returned from the cache, while a fresh copy is downloaded in background (stale-while-revalidate).
+     * Requires {@code backgroundRefreshExecutor} to be defined.
+     * <p>
+     * NOTE: the returned revocation token is expired and its freshness will be evaluated
+     * by the validation policy accordingly.
+     *
+     * @param staleWhileRevalidateDelay long value (seconds)
+     */
+    public void setStaleWhileRevalidateDelay(final Long staleWhileRevalidateDelay) {
+        this.staleWhileRevalidateDelay = staleWhileRevalidateDelay == null ? null : staleWhileRevalidateDelay * 1000; // to milliseconds
+    }
+
+    /**
+     * Sets the ratio (between 0 and 1) of the {@code refreshAheadDelay} randomly subtracted on each lookup,
+     * in order to spread the background refreshes of the tokens sharing the same nextUpdate.
+     * <p>
+     * Default : 0.1
+     *
+     * @param refreshJitter double value
+     */
+    public void setRefreshJitter(double refreshJitter) {
+        if (refreshJitter < 0 || refreshJitter > 1) {
+            throw new IllegalArgumentException("The refresh jitter shall be between 0 and 1!");
+        }
+        this.refreshJitter = refreshJitter;
+    }
+
+    /**
+     * Sets the maximum number of background refreshes allowed to run concurrently against the same host.
+     * The refreshes exceeding the limit are skipped and will be re-attempted on a next lookup.
+     * <p>
+     * Default : 1
+     *
+     * @param maxConcurrentRefreshesPerHost int value
+     */
+    public void setMaxConcurrentRefreshesPerHost(int maxConcurrentRefreshesPerHost) {
+        if (maxConcurrentRefreshesPerHost < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent refreshes per host shall be positive!");
+        }
+        this.maxConcurrentRefreshesPerHost = maxConcurrentRefreshesPerHost;
+    }
+
+    /**
+     * Returns the usage counters of the cache
+     *
+     * @return {@link RepositoryRevocationSourceStatistics}
+     */
+    public RepositoryRevocationSourceStatistics getStatistics() {
+        return statistics;
+    }
+
     @Override
     public RevocationToken<R> getRevocationToken(final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
         return getRevocationToken(certificateToken, issuerCertificateToken, false);
@@ -253,20 +382,38 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
     private Map<String, List<RevocationToken<R>>> extractRevocationFromCacheSource(
             final CertificateToken certificateToken, final CertificateToken issuerCertificateToken, Collection<String> keys) {
         final Map<String, List<RevocationToken<R>>> result = new HashMap<>();
+        final Date currentTime = new Date();
         for (String key : keys) {
             final List<RevocationToken<R>> revocationTokens = findRevocations(key, certificateToken, issuerCertificateToken);
             if (Utils.isCollectionNotEmpty(revocationTokens)) {
                 final List<RevocationToken<R>> freshRevocationData = revocationTokens.stream()
-                        .filter(r -> isNotExpired(r, issuerCertificateToken)).collect(Collectors.toList());
+                        .filter(r -> isNotExpired(r, issuerCertificateToken, currentTime)).collect(Collectors.toList());
                 if (Utils.isCollectionNotEmpty(freshRevocationData)) {
                     result.put(key, freshRevocationData);
+                    statistics.incrementHits();
+                    if (isRefreshAheadRequired(freshRevocationData, issuerCertificateToken, currentTime)) {
+                        scheduleBackgroundRefresh(key, certificateToken, issuerCertificateToken, freshRevocationData);
+                    }
                 } else {
+                    final List<RevocationToken<R>> staleRevocationData = revocationTokens.stream()
+                            .filter(r -> isStaleWhileRevalidate(r, issuerCertificateToken, currentTime)).collect(Collectors.toList());
+                    if (Utils.isCollectionNotEmpty(staleRevocationData)
+                            && scheduleBackgroundRefresh(key, certificateToken, issuerCertificateToken, staleRevocationData)) {
+                        LOG.debug("Expired revocation token is returned from the cache for certificate with Id '{}' " +
+                                "while being refreshed in background", certificateToken.getDSSIdAsString());
+                        result.put(key, staleRevocationData);
+                        statistics.incrementStaleHits();
+                        continue;
+                    }
                     LOG.debug("Revocation token is expired in the cache for certificate with Id '{}'",
                             certificateToken.getDSSIdAsString());
+                    statistics.incrementMisses();
                     if (removeExpired) {
                         removeRevocation(key);
                     }
                 }
+            } else {
+                statistics.incrementMisses();
             }
         }
         if (Utils.isMapNotEmpty(result)) {
@@ -276,6 +423,103 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         return result;
     }
 
+    private boolean isRefreshAheadRequired(List<RevocationToken<R>> revocationTokens, CertificateToken issuerCertificateToken,
+                                           Date currentTime) {
+        if (backgroundRefreshExecutor == null || refreshAheadDelay == null) {
+            return false;
+        }
+        final double jitter = refreshJitter > 0 ? ThreadLocalRandom.current().nextDouble(refreshJitter) : 0;
+        final long refreshTime = currentTime.getTime() + (long) (refreshAheadDelay * (1 - jitter));
+        for (RevocationToken<R> revocationToken : revocationTokens) {
+            Date nextUpdate = getCacheNextUpdate(revocationToken, issuerCertificateToken, currentTime);
+            if (nextUpdate != null && nextUpdate.getTime() > refreshTime) {
+                // at least one token remains fresh long enough
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isStaleWhileRevalidate(RevocationToken<R> revocationToken, CertificateToken issuerCertificateToken,
+                                           Date currentTime) {
+        if (backgroundRefreshExecutor == null || staleWhileRevalidateDelay == null) {
+            return false;
+        }
+        Date nextUpdate = getCacheNextUpdate(revocationToken, issuerCertificateToken, currentTime);
+        return nextUpdate != null && nextUpdate.getTime() + staleWhileRevalidateDelay > currentTime.getTime();
+    }
+
+    /**
+     * Submits a background refresh of the revocation data cached with the given {@code key}
+     *
+     * @param key                    {@link String} revocation key
+     * @param certificateToken       {@link CertificateToken} to refresh the revocation data for
+     * @param issuerCertificateToken {@link CertificateToken} of the issuer
+     * @param cachedRevocationTokens a list of currently cached {@link RevocationToken}s
+     * @return TRUE if the refresh is running or has been scheduled, FALSE otherwise
+     */
+    private boolean scheduleBackgroundRefresh(final String key, final CertificateToken certificateToken,
+                                              final CertificateToken issuerCertificateToken,
+                                              final List<RevocationToken<R>> cachedRevocationTokens) {
+        if (pendingRefreshes.putIfAbsent(key, Boolean.TRUE) != null) {
+            // a refresh is already running
+            return true;
+        }
+
+        final String host = getHost(getRevocationSourceUrl(certificateToken, cachedRevocationTokens.iterator().next()));
+        final AtomicInteger runningRefreshes = runningRefreshesPerHost.computeIfAbsent(host, h -> new AtomicInteger());
+        if (runningRefreshes.incrementAndGet() > maxConcurrentRefreshesPerHost) {
+            LOG.debug("Maximum number of concurrent refreshes is reached for host '{}'. Refresh is skipped.", host);
+            runningRefreshes.decrementAndGet();
+            pendingRefreshes.remove(key);
+            statistics.incrementSkippedRefreshes();
+            return false;
+        }
+
+        try {
+            backgroundRefreshExecutor.execute(() -> {
+                try {
+                    RevocationToken<R> revocationToken = extractAndInsertRevocationTokenFromProxiedSource(
+                            certificateToken, issuerCertificateToken, Collections.singletonList(key));
+                    if (revocationToken != null && revocationToken.isValid()) {
+                        statistics.incrementRefreshes();
+                    } else {
+                        statistics.incrementFailedRefreshes();
+                    }
+                } catch (Exception e) {
+                    LOG.warn("Unable to refresh revocation data for certificate with Id '{}' in background. Reason : {}",
+                            certificateToken.getDSSIdAsString(), e.getMessage(), e);
+                    statistics.incrementFailedRefreshes();
+                } finally {
+                    runningRefreshes.decrementAndGet();
+                    pendingRefreshes.remove(key);
+                }
+            });
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Background refresh of revocation data for certificate with Id '{}' has been rejected. Reason : {}",
+                    certificateToken.getDSSIdAsString(), e.getMessage());
+            runningRefreshes.decrementAndGet();
+            pendingRefreshes.remove(key);
+            statistics.incrementSkippedRefreshes();
+            return false;
+        }
+    }
+
+    private String getHost(String url) {
+        if (url == null) {
+            return "";
+        }
+        try {
+            String host = new URI(url).getHost();
+            return host != null ? host : url;
+        } catch (Exception e) {
+            LOG.debug("Unable to extract host from URL '{}' : {}", url, e.getMessage());
+            return url;
+        }
+    }
+
     private RevocationToken<R> getLatestRevocationData(Collection<RevocationToken<R>> revocationTokens) {
         RevocationToken<R> latestRevocationData = null;
         if (Utils.isCollectionNotEmpty(revocationTokens)) {
@@ -381,11 +625,26 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
      *
      * @param revocationToken        {@code CRLToken} or {@code OCSPToken}
      * @param certificateTokenIssuer issuer of a CertificateToken to check the revocation for
+     * @param validationDate         {@link Date} to check the revocation token's validity on
      * @return TRUE if the token is still valid, FALSE otherwise
      */
-    private boolean isNotExpired(RevocationToken<R> revocationToken, CertificateToken certificateTokenIssuer) {
-        Date validationDate = new Date();
+    private boolean isNotExpired(RevocationToken<R> revocationToken, CertificateToken certificateTokenIssuer,
+                                 Date validationDate) {
+        Date nextUpdate = getCacheNextUpdate(revocationToken, certificateTokenIssuer, validationDate);
+        return nextUpdate != null && nextUpdate.after(validationDate);
+    }
 
+    /**
+     * Computes the time until which the revocation token is considered as fresh within the cache, with respect of
+     * nextUpdateDelay and maxNexUpdateDelay parameters.
+     *
+     * @param revocationToken        {@code CRLToken} or {@code OCSPToken}
+     * @param certificateTokenIssuer issuer of a CertificateToken to check the revocation for
+     * @param validationDate         {@link Date} to check the revocation issuer's validity on
+     * @return {@link Date} nextUpdate to be used by the cache, NULL if the token cannot be re-used
+     */
+    private Date getCacheNextUpdate(RevocationToken<R> revocationToken, CertificateToken certificateTokenIssuer,
+                                    Date validationDate) {
         Date nextUpdate = revocationToken.getNextUpdate();
         if (nextUpdate == null) {
             // check the validity of the issuer certificate
@@ -394,7 +653,7 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
                 revocationIssuer = certificateTokenIssuer;
             }
             if (!revocationIssuer.isValidOn(validationDate)) {
-                return false;
+                return null;
             }
         }
 
@@ -403,17 +662,13 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         if (nextUpdate == null && defaultNextUpdateDelay != null && thisUpdate != null) {
             nextUpdate = new Date(thisUpdate.getTime() + defaultNextUpdateDelay);
         }
-        if (nextUpdate != null) {
-            if (maxNextUpdateDelay != null && thisUpdate != null) {
-                Date maxNextUpdate = new Date(thisUpdate.getTime() + maxNextUpdateDelay);
-                if (nextUpdate.after(maxNextUpdate)) {
-                    nextUpdate = maxNextUpdate;
-                }
+        if (nextUpdate != null && maxNextUpdateDelay != null && thisUpdate != null) {
+            Date maxNextUpdate = new Date(thisUpdate.getTime() + maxNextUpdateDelay);
+            if (nextUpdate.after(maxNextUpdate)) {
+                nextUpdate = maxNextUpdate;
             }
-            return nextUpdate.after(validationDate);
         }
-
-        return false;
+        return nextUpdate;
     }
 
 }
@@ -0,0 +1,174 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contains usage counters of a {@code RepositoryRevocationSource} cache
+ *
+ */
+public class RepositoryRevocationSourceStatistics implements Serializable {
+
+    private static final long serialVersionUID = -1822163375716011383L;
+
+    /**
+     * Number of lookups returning fresh revocation data from the cache
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Number of lookups returning expired revocation data while being refreshed in background
+     */
+    private final AtomicLong staleHits = new AtomicLong();
+
+    /**
+     * Number of lookups not returning revocation data from the cache
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Number of successful background refreshes
+     */
+    private final AtomicLong refreshes = new AtomicLong();
+
+    /**
+     * Number of background refreshes failed to obtain a valid revocation token
+     */
+    private final AtomicLong failedRefreshes = new AtomicLong();
+
+    /**
+     * Number of background refreshes skipped due to concurrency limits
+     */
+    private final AtomicLong skippedRefreshes = new AtomicLong();
+
+    /**
+     * Default constructor
+     */
+    public RepositoryRevocationSourceStatistics() {
+        // empty
+    }
+
+    /**
+     * Gets number of lookups returning fresh revocation data from the cache
+     *
+     * @return long
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets number of lookups returning expired revocation data while being refreshed in background
+     *
+     * @return long
+     */
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    /**
+     * Gets number of lookups not returning revocation data from the cache
+     *
+     * @return long
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets number of successful background refreshes
+     *
+     * @return long
+     */
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+
+    /**
+     * Gets number of background refreshes failed to obtain a valid revocation token
+     *
+     * @return long
+     */
+    public long getFailedRefreshes() {
+        return failedRefreshes.get();
+    }
+
+    /**
+     * Gets number of background refreshes skipped due to concurrency limits
+     *
+     * @return long
+     */
+    public long getSkippedRefreshes() {
+        return skippedRefreshes.get();
+    }
+
+    /**
+     * Increments the number of cache hits
+     */
+    void incrementHits() {
+        hits.incrementAndGet();
+    }
+
+    /**
+     * Increments the number of stale cache hits
+     */
+    void incrementStaleHits() {
+        staleHits.incrementAndGet();
+    }
+
+    /**
+     * Increments the number of cache misses
+     */
+    void incrementMisses() {
+        misses.incrementAndGet();
+    }
+
+    /**
+     * Increments the number of successful background refreshes
+     */
+    void incrementRefreshes() {
+        refreshes.incrementAndGet();
+    }
+
+    /**
+     * Increments the number of failed background refreshes
+     */
+    void incrementFailedRefreshes() {
+        failedRefreshes.incrementAndGet();
+    }
+
+    /**
+     * Increments the number of skipped background refreshes
+     */
+    void incrementSkippedRefreshes() {
+        skippedRefreshes.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "RepositoryRevocationSourceStatistics [hits=" + hits + ", staleHits=" + staleHits + ", misses=" + misses
+                + ", refreshes=" + refreshes + ", failedRefreshes=" + failedRefreshes
+                + ", skippedRefreshes=" + skippedRefreshes + "]";
+    }
+
+}
@@ -42,6 +42,7 @@ import java.math.BigInteger;
 import java.security.PublicKey;
 import java.security.cert.CRLReason;
 import java.security.cert.X509CRLEntry;
+import java.util.Date;
 import java.util.Objects;
 
 /**
@@ -79,6 +80,42 @@ public class CRLToken extends RevocationToken<CRL> {
 		}
 	}
 
+	/**
+	 * The constructor to be used with the certificate which is managed by the
+	 * CRL, the {@code CRLValidity} and the CRL entry of the certificate
+	 * already extracted from the CRL (e.g. from an indexed repository).
+	 * The CRL binaries are not parsed in order to find the certificate entry.
+	 *
+	 * @param certificateToken
+	 *            the {@code CertificateToken} which is managed by this CRL.
+	 * @param crlValidity
+	 *            {@code CRLValidity} containing the information about the
+	 *            validity of the CRL
+	 * @param revocationDate
+	 *            {@link Date} the revocation time of the certificate, NULL if
+	 *            the certificate is not present in the CRL
+	 * @param revocationReason
+	 *            {@link RevocationReason} of the certificate revocation, if present
+	 */
+	public CRLToken(final CertificateToken certificateToken, final CRLValidity crlValidity,
+					final Date revocationDate, final RevocationReason revocationReason) {
+		Objects.requireNonNull(crlValidity, "CRL Validity cannot be null");
+		this.crlValidity = crlValidity;
+		this.relatedCertificate = certificateToken;
+		initInfo();
+		checkCRLIssuer(certificateToken);
+		if (revocationDate != null) {
+			this.status = CertificateStatus.REVOKED;
+			this.revocationDate = revocationDate;
+			this.reason = revocationReason;
+		} else {
+			this.status = CertificateStatus.GOOD;
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("A CRLToken created with Id : [{}]", getDSSIdAsString());
+		}
+	}
+
 	private void initInfo() {
 		this.signatureAlgorithm = crlValidity.getSignatureAlgorithm();
 		this.thisUpdate = crlValidity.getThisUpdate();
@@ -100,19 +137,7 @@ public class CRLToken extends RevocationToken<CRL> {
 	 *            the {@code CertificateToken} which is managed by this CRL.
 	 */
 	private void setRevocationStatus(final CertificateToken certificateToken) {
-		final X500Principal issuerToken = certificateToken.getIssuerX500Principal();
-		CertificateToken crlSigner = crlValidity.getIssuerToken();
-		X500Principal crlSignerSubject = null;
-		if (crlSigner != null) {
-			crlSignerSubject = crlSigner.getSubject().getPrincipal();
-		}
-
-		if (!DSSASN1Utils.x500PrincipalAreEquals(issuerToken, crlSignerSubject)) {
-			if (!crlValidity.isSignatureIntact()) {
-				throw new DSSException(crlValidity.getSignatureInvalidityReason());
-			}
-			throw new DSSException("The CRLToken is not signed by the same issuer as the CertificateToken to be verified!");
-		}
+		checkCRLIssuer(certificateToken);
 
 		final BigInteger serialNumber = certificateToken.getSerialNumber();
 		X509CRLEntry crlEntry = CRLUtils.getRevocationInfo(crlValidity, serialNumber);
@@ -129,6 +154,22 @@ public class CRLToken extends RevocationToken<CRL> {
 		}
 	}
 
+	private void checkCRLIssuer(final CertificateToken certificateToken) {
+		final X500Principal issuerToken = certificateToken.getIssuerX500Principal();
+		CertificateToken crlSigner = crlValidity.getIssuerToken();
+		X500Principal crlSignerSubject = null;
+		if (crlSigner != null) {
+			crlSignerSubject = crlSigner.getSubject().getPrincipal();
+		}
+
+		if (!DSSASN1Utils.x500PrincipalAreEquals(issuerToken, crlSignerSubject)) {
+			if (!crlValidity.isSignatureIntact()) {
+				throw new DSSException(crlValidity.getSignatureInvalidityReason());
+			}
+			throw new DSSException("The CRLToken is not signed by the same issuer as the CertificateToken to be verified!");
+		}
+	}
+
 	@Override
 	protected SignatureValidity checkIsSignedBy(final PublicKey publicKey) {
 		throw new UnsupportedOperationException(this.getClass().getName());
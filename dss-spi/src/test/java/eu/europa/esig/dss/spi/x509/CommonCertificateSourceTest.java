@@ -144,4 +144,30 @@ public class CommonCertificateSourceTest {
 		assertTrue(ccTwo.isCertificateSourceEquivalent(ccOne));
 	}
 
+	@Test
+	public void versionTest() {
+		CommonCertificateSource ccc = new CommonCertificateSource();
+		long version = ccc.getVersion();
+
+		ccc.addCertificate(CERT);
+		assertTrue(ccc.getVersion() > version);
+		version = ccc.getVersion();
+
+		// the same certificate is added again, the content is not modified
+		ccc.addCertificate(CERT);
+		ccc.addCertificate(DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer")));
+		assertEquals(version, ccc.getVersion());
+
+		ccc.addCertificate(SAME_PK_CERT_1);
+		assertTrue(ccc.getVersion() > version);
+		version = ccc.getVersion();
+
+		ccc.removeCertificate(SAME_PK_CERT_1);
+		assertTrue(ccc.getVersion() > version);
+		version = ccc.getVersion();
+
+		ccc.reset();
+		assertTrue(ccc.getVersion() > version);
+	}
+
 }
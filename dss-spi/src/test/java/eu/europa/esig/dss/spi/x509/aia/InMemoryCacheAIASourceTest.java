@@ -0,0 +1,218 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.aia;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryCacheAIASourceTest {
+
+	private static final String CA_URL = "http://dss.nowina.lu/pki-factory/crt/good-ca.crt";
+
+	private CertificateToken userCertificate;
+	private CertificateToken caCertificate;
+
+	private AtomicInteger proxiedCalls;
+	private AtomicBoolean available;
+
+	private InMemoryCacheAIASource aiaSource;
+
+	@BeforeEach
+	public void init() {
+		userCertificate = DSSUtils.loadCertificate(new File("src/test/resources/good-user.crt"));
+		caCertificate = DSSUtils.loadCertificate(new File("src/test/resources/sk_ca.cer"));
+		caCertificate.setSourceURL(CA_URL);
+
+		proxiedCalls = new AtomicInteger();
+		available = new AtomicBoolean(true);
+
+		aiaSource = new InMemoryCacheAIASource();
+		aiaSource.setProxySource(certificateToken -> {
+			proxiedCalls.incrementAndGet();
+			return available.get() ? Collections.singleton(caCertificate) : Collections.emptySet();
+		});
+	}
+
+	@Test
+	public void cacheTest() {
+		Set<CertificateToken> certificates = aiaSource.getCertificatesByAIA(userCertificate);
+		assertEquals(1, certificates.size());
+		assertTrue(certificates.contains(caCertificate));
+		assertEquals(1, proxiedCalls.get());
+
+		certificates = aiaSource.getCertificatesByAIA(userCertificate);
+		assertEquals(1, certificates.size());
+		assertEquals(1, proxiedCalls.get());
+
+		certificates = aiaSource.getCertificatesByAIA(userCertificate, true);
+		assertEquals(1, certificates.size());
+		assertEquals(2, proxiedCalls.get());
+
+		aiaSource.clear();
+		certificates = aiaSource.getCertificatesByAIA(userCertificate);
+		assertEquals(1, certificates.size());
+		assertEquals(3, proxiedCalls.get());
+	}
+
+	@Test
+	public void expirationTest() {
+		aiaSource.setCacheExpirationTime(0);
+
+		aiaSource.getCertificatesByAIA(userCertificate);
+		aiaSource.getCertificatesByAIA(userCertificate);
+		assertEquals(2, proxiedCalls.get());
+	}
+
+	@Test
+	public void maxSizeTest() {
+		aiaSource.setMaxSize(1);
+
+		CertificateToken otherCertificate = DSSUtils.loadCertificate(new File("src/test/resources/sk_user.cer"));
+		aiaSource.getCertificatesByAIA(userCertificate);
+		aiaSource.getCertificatesByAIA(otherCertificate);
+		assertEquals(1, aiaSource.getExistingAIAKeys().size());
+
+		assertThrows(IllegalArgumentException.class, () -> aiaSource.setMaxSize(0));
+	}
+
+	@Test
+	public void failureBackoffTest() {
+		available.set(false);
+
+		assertTrue(aiaSource.getCertificatesByAIA(userCertificate).isEmpty());
+		assertEquals(1, proxiedCalls.get());
+
+		// failure is cached
+		available.set(true);
+		assertTrue(aiaSource.getCertificatesByAIA(userCertificate).isEmpty());
+		assertEquals(1, proxiedCalls.get());
+
+		// forced refresh ignores the failure cache
+		assertEquals(1, aiaSource.getCertificatesByAIA(userCertificate, true).size());
+		assertEquals(2, proxiedCalls.get());
+	}
+
+	@Test
+	public void failureBackoffDisabledTest() {
+		aiaSource.setInitialFailureBackoffTime(0);
+		available.set(false);
+
+		assertTrue(aiaSource.getCertificatesByAIA(userCertificate).isEmpty());
+		available.set(true);
+		assertEquals(1, aiaSource.getCertificatesByAIA(userCertificate).size());
+		assertEquals(2, proxiedCalls.get());
+	}
+
+	@Test
+	public void singleFlightTest() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		aiaSource.setProxySource(certificateToken -> {
+			proxiedCalls.incrementAndGet();
+			started.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return Collections.singleton(caCertificate);
+		});
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			Future<Set<CertificateToken>> first = executorService.submit(() -> aiaSource.getCertificatesByAIA(userCertificate));
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+			Future<Set<CertificateToken>> second = executorService.submit(() -> aiaSource.getCertificatesByAIA(userCertificate));
+			Thread.sleep(100);
+			release.countDown();
+
+			assertEquals(1, first.get(10, TimeUnit.SECONDS).size());
+			assertEquals(1, second.get(10, TimeUnit.SECONDS).size());
+			assertEquals(1, proxiedCalls.get());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void serializationTest() throws Exception {
+		aiaSource.setProxySource(new StaticAIASource(caCertificate));
+		assertEquals(1, aiaSource.getCertificatesByAIA(userCertificate).size());
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(aiaSource);
+		}
+		InMemoryCacheAIASource deserialized;
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+			deserialized = (InMemoryCacheAIASource) ois.readObject();
+		}
+
+		// cached entry is kept
+		Set<CertificateToken> certificates = deserialized.getCertificatesByAIA(userCertificate);
+		assertEquals(1, certificates.size());
+		assertTrue(certificates.contains(caCertificate));
+
+		// the ongoing requests map is recreated
+		certificates = deserialized.getCertificatesByAIA(userCertificate, true);
+		assertEquals(1, certificates.size());
+	}
+
+	private static class StaticAIASource implements AIASource {
+
+		private static final long serialVersionUID = 1457820496124735285L;
+
+		private final CertificateToken certificateToken;
+
+		private StaticAIASource(CertificateToken certificateToken) {
+			this.certificateToken = certificateToken;
+		}
+
+		@Override
+		public Set<CertificateToken> getCertificatesByAIA(CertificateToken certificateToken) {
+			return Collections.singleton(this.certificateToken);
+		}
+
+	}
+
+}
@@ -0,0 +1,261 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RepositoryRevocationSourceTest {
+
+	private static final String KEY = "crl-key";
+
+	private CertificateToken certificateToken;
+	private CertificateToken caToken;
+	private CRLToken expiredCrlToken;
+
+	private InMemoryCRLRepository repository;
+	private AtomicInteger proxiedCalls;
+
+	@BeforeEach
+	public void init() throws Exception {
+		caToken = DSSUtils.loadCertificate(new FileDocument("src/test/resources/belgiumrs2.crt").openStream());
+		certificateToken = DSSUtils.loadCertificate(new FileDocument("src/test/resources/TSA_BE.cer").openStream());
+
+		CRLBinary crlBinary = CRLUtils.buildCRLBinary(DSSUtils.toByteArray(new FileDocument("src/test/resources/crl/belgium2.crl")));
+		CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, caToken);
+		expiredCrlToken = new CRLToken(certificateToken, crlValidity);
+
+		proxiedCalls = new AtomicInteger();
+		repository = new InMemoryCRLRepository();
+		repository.setProxySource((RevocationSource<CRL>) (cert, issuer) -> {
+			proxiedCalls.incrementAndGet();
+			return expiredCrlToken;
+		});
+		repository.insertRevocation(KEY, expiredCrlToken);
+	}
+
+	@Test
+	public void expiredWithoutBackgroundRefreshTest() {
+		RevocationToken<CRL> revocationToken = repository.getRevocationToken(certificateToken, caToken);
+		assertSame(expiredCrlToken, revocationToken);
+		assertEquals(1, proxiedCalls.get());
+
+		RepositoryRevocationSourceStatistics statistics = repository.getStatistics();
+		assertEquals(0, statistics.getHits());
+		assertEquals(0, statistics.getStaleHits());
+		assertEquals(1, statistics.getMisses());
+		assertEquals(0, statistics.getRefreshes());
+	}
+
+	@Test
+	public void staleWhileRevalidateTest() throws Exception {
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		repository.setBackgroundRefreshExecutor(executorService);
+		repository.setStaleWhileRevalidateDelay(100L * 365 * 24 * 60 * 60);
+
+		RevocationToken<CRL> revocationToken = repository.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+
+		executorService.shutdown();
+		assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(1, proxiedCalls.get());
+		assertEquals(1, repository.updatedCount.get());
+
+		RepositoryRevocationSourceStatistics statistics = repository.getStatistics();
+		assertEquals(0, statistics.getHits());
+		assertEquals(1, statistics.getStaleHits());
+		assertEquals(0, statistics.getMisses());
+		assertEquals(1, statistics.getRefreshes());
+		assertEquals(0, statistics.getFailedRefreshes());
+	}
+
+	@Test
+	public void staleWhileRevalidateRejectedTest() {
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		executorService.shutdown();
+		repository.setBackgroundRefreshExecutor(executorService);
+		repository.setStaleWhileRevalidateDelay(100L * 365 * 24 * 60 * 60);
+
+		// falls back to the synchronous download
+		RevocationToken<CRL> revocationToken = repository.getRevocationToken(certificateToken, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(1, proxiedCalls.get());
+
+		RepositoryRevocationSourceStatistics statistics = repository.getStatistics();
+		assertEquals(0, statistics.getStaleHits());
+		assertEquals(1, statistics.getMisses());
+		assertEquals(1, statistics.getSkippedRefreshes());
+	}
+
+	@Test
+	public void refreshAheadTest() throws Exception {
+		CRLToken freshCrlToken = createCrlToken(new Date(System.currentTimeMillis() + 60 * 60 * 1000)); // 1 hour
+		CRLToken refreshedCrlToken = createCrlToken(new Date(System.currentTimeMillis() + 24 * 60 * 60 * 1000)); // 1 day
+		repository.insertRevocation(KEY, freshCrlToken);
+
+		CountDownLatch refreshStarted = new CountDownLatch(1);
+		CountDownLatch releaseRefresh = new CountDownLatch(1);
+		repository.setProxySource((RevocationSource<CRL>) (cert, issuer) -> {
+			proxiedCalls.incrementAndGet();
+			refreshStarted.countDown();
+			try {
+				assertTrue(releaseRefresh.await(10, TimeUnit.SECONDS));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return refreshedCrlToken;
+		});
+
+		ExecutorService refreshExecutor = Executors.newFixedThreadPool(4);
+		repository.setBackgroundRefreshExecutor(refreshExecutor);
+		repository.setRefreshAheadDelay(2L * 60 * 60); // 2 hours
+		repository.setRefreshJitter(0);
+
+		assertSame(freshCrlToken, repository.getRevocationToken(certificateToken, caToken));
+		assertTrue(refreshStarted.await(10, TimeUnit.SECONDS));
+
+		// concurrent lookups while the refresh is running
+		int nbLookups = 8;
+		ExecutorService lookupExecutor = Executors.newFixedThreadPool(nbLookups);
+		List<RevocationToken<CRL>> returnedTokens = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch lookupsDone = new CountDownLatch(nbLookups);
+		for (int i = 0; i < nbLookups; i++) {
+			lookupExecutor.execute(() -> {
+				returnedTokens.add(repository.getRevocationToken(certificateToken, caToken));
+				lookupsDone.countDown();
+			});
+		}
+		assertTrue(lookupsDone.await(10, TimeUnit.SECONDS));
+		lookupExecutor.shutdown();
+
+		// the cached entry is served meanwhile, and the proxied source is called only once
+		assertEquals(nbLookups, returnedTokens.size());
+		for (RevocationToken<CRL> returnedToken : returnedTokens) {
+			assertSame(freshCrlToken, returnedToken);
+		}
+		assertEquals(1, proxiedCalls.get());
+		assertEquals(0, repository.updatedCount.get());
+
+		releaseRefresh.countDown();
+		refreshExecutor.shutdown();
+		assertTrue(refreshExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(1, proxiedCalls.get());
+		assertEquals(1, repository.updatedCount.get());
+		assertSame(refreshedCrlToken, repository.getRevocationToken(certificateToken, caToken));
+
+		RepositoryRevocationSourceStatistics statistics = repository.getStatistics();
+		assertEquals(nbLookups + 2, statistics.getHits());
+		assertEquals(0, statistics.getStaleHits());
+		assertEquals(0, statistics.getMisses());
+		assertEquals(1, statistics.getRefreshes());
+		assertEquals(0, statistics.getFailedRefreshes());
+		assertEquals(0, statistics.getSkippedRefreshes());
+	}
+
+	private CRLToken createCrlToken(Date nextUpdate) throws Exception {
+		CRLBinary crlBinary = CRLUtils.buildCRLBinary(DSSUtils.toByteArray(new FileDocument("src/test/resources/crl/belgium2.crl")));
+		CRLValidity crlValidity = CRLUtils.buildCRLValidity(crlBinary, caToken);
+		crlValidity.setNextUpdate(nextUpdate);
+		return new CRLToken(certificateToken, crlValidity);
+	}
+
+	@Test
+	public void invalidParametersTest() {
+		assertThrows(IllegalArgumentException.class, () -> repository.setRefreshJitter(-0.1));
+		assertThrows(IllegalArgumentException.class, () -> repository.setRefreshJitter(1.5));
+		assertThrows(IllegalArgumentException.class, () -> repository.setMaxConcurrentRefreshesPerHost(0));
+	}
+
+	@SuppressWarnings("serial")
+	private static class InMemoryCRLRepository extends RepositoryRevocationSource<CRL> {
+
+		private final Map<String, RevocationToken<CRL>> cache = new ConcurrentHashMap<>();
+
+		private final AtomicInteger updatedCount = new AtomicInteger();
+
+		@Override
+		protected List<String> initRevocationTokenKeys(CertificateToken certificateToken) {
+			return Collections.singletonList(KEY);
+		}
+
+		@Override
+		protected List<RevocationToken<CRL>> findRevocations(String key, CertificateToken certificateToken,
+															 CertificateToken issuerCertToken) {
+			RevocationToken<CRL> revocationToken = cache.get(key);
+			return revocationToken != null ? Collections.singletonList(revocationToken) : new ArrayList<>();
+		}
+
+		@Override
+		protected void insertRevocation(String revocationKey, RevocationToken<CRL> token) {
+			cache.put(revocationKey, token);
+		}
+
+		@Override
+		protected void updateRevocation(String revocationKey, RevocationToken<CRL> token) {
+			cache.put(revocationKey, token);
+			updatedCount.incrementAndGet();
+		}
+
+		@Override
+		protected void removeRevocation(String revocationKey) {
+			cache.remove(revocationKey);
+		}
+
+		@Override
+		protected List<String> getRevocationAccessUrls(CertificateToken certificateToken) {
+			return Collections.singletonList("http://crl.example.com/belgium2.crl");
+		}
+
+		@Override
+		protected String getRevocationTokenKey(CertificateToken certificateToken, String urlString) {
+			return KEY;
+		}
+
+	}
+
+}
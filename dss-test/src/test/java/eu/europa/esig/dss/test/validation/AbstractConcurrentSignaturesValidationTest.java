@@ -0,0 +1,154 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.test.validation;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.diagnostic.TimestampWrapper;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that the signatures of a document are verified concurrently when a signature validation executor
+ * is defined, and that the obtained DiagnosticData is equivalent to the one obtained sequentially.
+ */
+public abstract class AbstractConcurrentSignaturesValidationTest {
+
+	protected abstract DSSDocument getSignedDocument();
+
+	protected abstract SignedDocumentValidator getValidator(DSSDocument signedDocument);
+
+	/**
+	 * Returns the number of tasks expected to be executed concurrently (e.g. one per master signature)
+	 *
+	 * @return the number of concurrent tasks
+	 */
+	protected abstract int getExpectedNumberOfTasks();
+
+	@Test
+	public void validate() throws Exception {
+		DSSDocument signedDocument = getSignedDocument();
+
+		DiagnosticData sequentialDiagnosticData = getDiagnosticData(signedDocument, null);
+
+		int expectedNumberOfTasks = getExpectedNumberOfTasks();
+		assertTrue(expectedNumberOfTasks > 1);
+
+		RendezvousExecutor executorService = new RendezvousExecutor(expectedNumberOfTasks);
+		try {
+			DiagnosticData concurrentDiagnosticData = getDiagnosticData(signedDocument, executorService);
+			assertEquals(expectedNumberOfTasks, executorService.getTaskCount());
+			// all the tasks have been running at the same time, within different threads
+			assertFalse(executorService.rendezvousMissed.get());
+			assertEquals(expectedNumberOfTasks, executorService.executingThreads.size());
+
+			verifyEquivalence(sequentialDiagnosticData, concurrentDiagnosticData);
+
+		} finally {
+			executorService.shutdown();
+			assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+		}
+	}
+
+	protected DiagnosticData getDiagnosticData(DSSDocument signedDocument, ExecutorService executorService) {
+		SignedDocumentValidator validator = getValidator(signedDocument);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		validator.setSkipValidationContextExecution(true);
+		validator.setSignatureValidationExecutor(executorService);
+		return new DiagnosticData(validator.getDiagnosticData());
+	}
+
+	protected void verifyEquivalence(DiagnosticData sequentialDiagnosticData, DiagnosticData concurrentDiagnosticData) {
+		List<SignatureWrapper> signatures = concurrentDiagnosticData.getSignatures();
+		assertEquals(sequentialDiagnosticData.getSignatures().size(), signatures.size());
+		for (SignatureWrapper signature : signatures) {
+			SignatureWrapper sequentialSignature = sequentialDiagnosticData.getSignatureById(signature.getId());
+			assertNotNull(sequentialSignature);
+			assertEquals(sequentialSignature.isSignatureIntact(), signature.isSignatureIntact());
+			assertEquals(sequentialSignature.isSignatureValid(), signature.isSignatureValid());
+			assertEquals(sequentialSignature.isBLevelTechnicallyValid(), signature.isBLevelTechnicallyValid());
+			assertEquals(sequentialSignature.getDigestMatchers().size(), signature.getDigestMatchers().size());
+			assertEquals(sequentialSignature.getTimestampList().size(), signature.getTimestampList().size());
+		}
+
+		List<TimestampWrapper> timestamps = concurrentDiagnosticData.getTimestampList();
+		assertEquals(sequentialDiagnosticData.getTimestampList().size(), timestamps.size());
+		for (TimestampWrapper timestamp : timestamps) {
+			TimestampWrapper sequentialTimestamp = sequentialDiagnosticData.getTimestampById(timestamp.getId());
+			assertNotNull(sequentialTimestamp);
+			assertEquals(sequentialTimestamp.isMessageImprintDataFound(), timestamp.isMessageImprintDataFound());
+			assertEquals(sequentialTimestamp.isMessageImprintDataIntact(), timestamp.isMessageImprintDataIntact());
+			assertEquals(sequentialTimestamp.isSignatureIntact(), timestamp.isSignatureIntact());
+		}
+	}
+
+	/**
+	 * Executor holding each task until all the expected tasks have been started,
+	 * in order to ensure that they are executed concurrently
+	 */
+	private static class RendezvousExecutor extends ThreadPoolExecutor {
+
+		private final CountDownLatch rendezvous;
+
+		private final AtomicBoolean rendezvousMissed = new AtomicBoolean(false);
+
+		private final Set<Thread> executingThreads = ConcurrentHashMap.newKeySet();
+
+		RendezvousExecutor(int numberOfTasks) {
+			super(numberOfTasks, numberOfTasks, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+			this.rendezvous = new CountDownLatch(numberOfTasks);
+		}
+
+		@Override
+		protected void beforeExecute(Thread t, Runnable r) {
+			executingThreads.add(t);
+			rendezvous.countDown();
+			try {
+				if (!rendezvous.await(10, TimeUnit.SECONDS)) {
+					rendezvousMissed.set(true);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				rendezvousMissed.set(true);
+			}
+			super.beforeExecute(t, r);
+		}
+
+	}
+
+}
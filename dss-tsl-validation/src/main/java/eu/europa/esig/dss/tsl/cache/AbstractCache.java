@@ -190,6 +190,18 @@ public abstract class AbstractCache<R extends CachedResult> {
 		cacheWrapper.error(wrappedException);
 	}
 
+	/**
+	 * Sets the time in milliseconds spent on the last execution of the task for an entry with the given key
+	 *
+	 * @param cacheKey {@link CacheKey} to update
+	 * @param processingTime processing time in milliseconds
+	 */
+	public void setProcessingTime(CacheKey cacheKey, long processingTime) {
+		LOG.trace("Update processing time for an entry with the key [{}]...", cacheKey);
+		CachedEntry<R> cacheWrapper = get(cacheKey);
+		cacheWrapper.setProcessingTime(processingTime);
+	}
+
 	/**
 	 * Updates entry status to TO_BE_DELETED value
 	 *
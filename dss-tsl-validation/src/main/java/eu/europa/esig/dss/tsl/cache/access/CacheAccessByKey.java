@@ -83,6 +83,15 @@ public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 		downloadCache.error(key, e);
 	}
 
+	/**
+	 * Sets the time spent on the last download
+	 *
+	 * @param processingTime download time in milliseconds
+	 */
+	public void setDownloadTime(long processingTime) {
+		downloadCache.setProcessingTime(key, processingTime);
+	}
+
 	/**
 	 * Gets of the parsing refresh is needed
 	 *
@@ -117,6 +126,15 @@ public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 		parsingCache.error(key, e);
 	}
 
+	/**
+	 * Sets the time spent on the last parsing
+	 *
+	 * @param processingTime parsing time in milliseconds
+	 */
+	public void setParsingTime(long processingTime) {
+		parsingCache.setProcessingTime(key, processingTime);
+	}
+
 	/**
 	 * Gets if the validation refresh is needed
 	 *
@@ -150,6 +168,15 @@ public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 	public void validationError(Exception e) {
 		validationCache.error(key, e);
 	}
+
+	/**
+	 * Sets the time spent on the last validation
+	 *
+	 * @param processingTime validation time in milliseconds
+	 */
+	public void setValidationTime(long processingTime) {
+		validationCache.setProcessingTime(key, processingTime);
+	}
 	
 	/**
 	 * Checks if the entry must be deleted from the file cache (download cache)
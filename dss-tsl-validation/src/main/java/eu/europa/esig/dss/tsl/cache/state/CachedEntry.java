@@ -43,6 +43,9 @@ public class CachedEntry<R extends CachedResult> {
 	/** The cached result */
 	private R cachedResult;
 
+	/** The time in milliseconds spent on the last execution of the task producing the result */
+	private Long processingTime;
+
 	/**
 	 * Empty constructor
 	 */
@@ -185,6 +188,24 @@ public class CachedEntry<R extends CachedResult> {
 		return cacheContext.isRefreshNeeded();
 	}
 
+	/**
+	 * Gets the time in milliseconds spent on the last execution of the task (e.g. download, parsing or validation)
+	 *
+	 * @return {@link Long} processing time, null if the task has not been executed
+	 */
+	public Long getProcessingTime() {
+		return processingTime;
+	}
+
+	/**
+	 * Sets the time in milliseconds spent on the last execution of the task (e.g. download, parsing or validation)
+	 *
+	 * @param processingTime processing time in milliseconds
+	 */
+	public void setProcessingTime(long processingTime) {
+		this.processingTime = processingTime;
+	}
+
 	/**
 	 * Checks if the cache record is empty
 	 *
@@ -45,6 +45,9 @@ public class XmlDownloadTask implements Supplier<XmlDownloadResult> {
 	/** The URL to download the document from */
 	private final String url;
 
+	/** The DOM built from the downloaded document during the last execution */
+	private Document dom;
+
 	/**
 	 * Default constructor
 	 *
@@ -64,7 +67,7 @@ public class XmlDownloadTask implements Supplier<XmlDownloadResult> {
 			final DSSDocument dssDocument = dssFileLoader.getDocument(url);
 			assertDocumentIsValidXML(dssDocument);
 
-			final Document dom = DomUtils.buildDOM(dssDocument);
+			dom = DomUtils.buildDOM(dssDocument);
 			final byte[] canonicalizedContent = XMLCanonicalizer.createInstance(CanonicalizationMethod.EXCLUSIVE).canonicalize(dom);
 			return new XmlDownloadResult(dssDocument, new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, canonicalizedContent)));
 		} catch (DSSException e) {
@@ -74,6 +77,18 @@ public class XmlDownloadTask implements Supplier<XmlDownloadResult> {
 		}
 	}
 
+	/**
+	 * Returns the DOM built from the downloaded document during the last execution of the task.
+	 * The DOM can be re-used by the parsing and validation stages in order to avoid re-parsing of the document.
+	 *
+	 * NOTE: the DOM is not stored within the cache
+	 *
+	 * @return {@link Document}, null if the task has not been executed successfully
+	 */
+	public Document getDOM() {
+		return dom;
+	}
+
 	private void assertDocumentIsValidXML(DSSDocument document) {
 		if (document == null) {
 			throw new NullPointerException(String.format("No document has been retrieved from URL '%s'!", url));
@@ -56,6 +56,9 @@ public class AbstractCacheDTO implements InfoRecord {
 	/** Defines if the result exists */
 	private boolean resultExist;
 
+	/** The time in milliseconds spent on the last execution of the stage */
+	private Long processingTime;
+
 	/**
 	 * Empty constructor
 	 */
@@ -75,6 +78,7 @@ public class AbstractCacheDTO implements InfoRecord {
 		this.exceptionFirstOccurrenceTime = cacheDTO.exceptionFirstOccurrenceTime;
 		this.exceptionLastOccurrenceTime = cacheDTO.exceptionLastOccurrenceTime;
 		this.resultExist = cacheDTO.resultExist;
+		this.processingTime = cacheDTO.processingTime;
 	}
 
 	/**
@@ -193,6 +197,20 @@ public class AbstractCacheDTO implements InfoRecord {
 		this.resultExist = resultExist;
 	}
 
+	@Override
+	public Long getProcessingTime() {
+		return processingTime;
+	}
+
+	/**
+	 * Sets the time in milliseconds spent on the last execution of the stage
+	 *
+	 * @param processingTime {@link Long}
+	 */
+	public void setProcessingTime(Long processingTime) {
+		this.processingTime = processingTime;
+	}
+
 	@Override
 	public boolean isRefreshNeeded() {
 		return CacheStateEnum.REFRESH_NEEDED == cacheState;
@@ -65,6 +65,7 @@ public abstract class AbstractCacheDTOBuilder<R extends CachedResult> {
 		abstractCacheDTO.setExceptionFirstOccurrenceTime(getCachedExceptionFirstOccurrenceTime());
 		abstractCacheDTO.setExceptionLastOccurrenceTime(getCachedExceptionLastOccurrenceTime());
 		abstractCacheDTO.setResultExist(isResultExist());
+		abstractCacheDTO.setProcessingTime(getProcessingTime());
 		return abstractCacheDTO;
 	}
 
@@ -120,4 +121,8 @@ public abstract class AbstractCacheDTOBuilder<R extends CachedResult> {
 		return cachedEntry.getExceptionLastOccurrenceTime();
 	}
 
+	private Long getProcessingTime() {
+		return cachedEntry.getProcessingTime();
+	}
+
 }
@@ -34,6 +34,8 @@ import eu.europa.esig.dss.tsl.cache.access.CacheAccessByKey;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessFactory;
 import eu.europa.esig.dss.tsl.cache.access.ReadOnlyCacheAccess;
 import eu.europa.esig.dss.tsl.dto.ParsingCacheDTO;
+import eu.europa.esig.dss.tsl.metrics.TLValidationJobMetrics;
+import eu.europa.esig.dss.tsl.metrics.TLValidationJobMetricsListener;
 import eu.europa.esig.dss.tsl.runnable.LOTLAnalysis;
 import eu.europa.esig.dss.tsl.runnable.LOTLWithPivotsAnalysis;
 import eu.europa.esig.dss.tsl.runnable.TLAnalysis;
@@ -132,6 +134,13 @@ public class TLValidationJob {
      */
     private List<Alert<TLInfo>> tlAlerts;
 
+	/**
+	 * Collects the timing and throughput metrics of the job executions
+	 *
+	 * Default : {@code TLValidationJobMetrics} (in-memory)
+	 */
+	private TLValidationJobMetricsListener metricsListener = new TLValidationJobMetrics();
+
 	/**
 	 * Default constructor instantiating object with null configuration
 	 */
@@ -245,6 +254,28 @@ public class TLValidationJob {
 	    this.tlAlerts = tlAlerts;
 	}
 
+	/**
+	 * Sets the listener collecting the timing and throughput metrics of the job executions
+	 * (download, parsing, validation, executor queue wait and synchronization times, cache hits/misses)
+	 *
+	 * Default : {@code TLValidationJobMetrics} (in-memory, exposable through JMX)
+	 *
+	 * @param metricsListener {@link TLValidationJobMetricsListener}
+	 */
+	public void setMetricsListener(TLValidationJobMetricsListener metricsListener) {
+		Objects.requireNonNull(metricsListener, "The TLValidationJobMetricsListener cannot be null");
+		this.metricsListener = metricsListener;
+	}
+
+	/**
+	 * Returns the listener collecting the timing and throughput metrics of the job executions
+	 *
+	 * @return {@link TLValidationJobMetricsListener}
+	 */
+	public TLValidationJobMetricsListener getMetricsListener() {
+		return metricsListener;
+	}
+
 	/**
 	 * Returns validation job summary for all processed LOTL / TLs
 	 * @return {@link TLValidationJobSummary}
@@ -333,11 +364,14 @@ public class TLValidationJob {
 		CountDownLatch latch = new CountDownLatch(nbLOTLSources);
 		for (LOTLSource lotlSource : lotlSources) {
 			final CacheAccessByKey cacheAccess = cacheAccessFactory.getCacheAccess(lotlSource.getCacheKey());
+			final LOTLAnalysis lotlAnalysis;
 			if (lotlSource.isPivotSupport()) {
-				executorService.submit(new LOTLWithPivotsAnalysis(lotlSource, cacheAccess, dssFileLoader, cacheAccessFactory, latch));
+				lotlAnalysis = new LOTLWithPivotsAnalysis(lotlSource, cacheAccess, dssFileLoader, cacheAccessFactory, latch);
 			} else {
-				executorService.submit(new LOTLAnalysis(lotlSource, cacheAccess, dssFileLoader, latch));
+				lotlAnalysis = new LOTLAnalysis(lotlSource, cacheAccess, dssFileLoader, latch);
 			}
+			lotlAnalysis.setMetricsListener(metricsListener);
+			executorService.submit(lotlAnalysis);
 		}
 
 		try {
@@ -379,7 +413,9 @@ public class TLValidationJob {
 		CountDownLatch latch = new CountDownLatch(nbTLSources);
 		for (TLSource tlSource : tlSources) {
 			final CacheAccessByKey cacheAccess = cacheAccessFactory.getCacheAccess(tlSource.getCacheKey());
-			executorService.submit(new TLAnalysis(tlSource, cacheAccess, dssFileLoader, latch));
+			final TLAnalysis tlAnalysis = new TLAnalysis(tlSource, cacheAccess, dssFileLoader, latch);
+			tlAnalysis.setMetricsListener(metricsListener);
+			executorService.submit(tlAnalysis);
 		}
 
 		try {
@@ -399,7 +435,12 @@ public class TLValidationJob {
 
 		TrustedListCertificateSourceSynchronizer synchronizer = new TrustedListCertificateSourceSynchronizer(trustedListSources, listOfTrustedListSources,
 				trustedListCertificateSource, synchronizationStrategy, cacheAccessFactory.getSynchronizerCacheAccess());
-		synchronizer.sync();
+		final long startTime = System.currentTimeMillis();
+		try {
+			synchronizer.sync();
+		} finally {
+			metricsListener.synchronizationCompleted(System.currentTimeMillis() - startTime);
+		}
 	}
 
 	private void executeCacheCleaner() {
@@ -0,0 +1,81 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.metrics;
+
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheType;
+
+/**
+ * The {@code TLValidationJobMetricsListener} ignoring all the received events
+ *
+ */
+public final class NoOpTLValidationJobMetricsListener implements TLValidationJobMetricsListener {
+
+	/** The singleton instance */
+	private static final NoOpTLValidationJobMetricsListener INSTANCE = new NoOpTLValidationJobMetricsListener();
+
+	/**
+	 * Singleton
+	 */
+	private NoOpTLValidationJobMetricsListener() {
+		// empty
+	}
+
+	/**
+	 * Returns the instance of the listener
+	 *
+	 * @return {@link NoOpTLValidationJobMetricsListener}
+	 */
+	public static NoOpTLValidationJobMetricsListener getInstance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public void analysisStarted(CacheKey cacheKey, long queueWaitTime) {
+		// do nothing
+	}
+
+	@Override
+	public void cacheAccessed(CacheKey cacheKey, CacheType cacheType, boolean hit) {
+		// do nothing
+	}
+
+	@Override
+	public void downloadCompleted(CacheKey cacheKey, long duration, long size, boolean success) {
+		// do nothing
+	}
+
+	@Override
+	public void parsingCompleted(CacheKey cacheKey, long duration, boolean success) {
+		// do nothing
+	}
+
+	@Override
+	public void validationCompleted(CacheKey cacheKey, long duration, boolean success) {
+		// do nothing
+	}
+
+	@Override
+	public void synchronizationCompleted(long duration) {
+		// do nothing
+	}
+
+}
@@ -0,0 +1,367 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.metrics;
+
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default in-memory {@code TLValidationJobMetricsListener}, aggregating the metrics of all executions
+ * of a {@code TLValidationJob}.
+ *
+ * The object implements a standard MBean interface and can be exposed through JMX, e.g.:
+ * {@code ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName("eu.europa.esig.dss:type=TLValidationJobMetrics"))}
+ *
+ */
+public class TLValidationJobMetrics implements TLValidationJobMetricsListener, TLValidationJobMetricsMBean {
+
+	/** The executor service's queue wait times */
+	private final Statistics queueWait = new Statistics();
+
+	/** The download times */
+	private final Statistics download = new Statistics();
+
+	/** The parsing times */
+	private final Statistics parsing = new Statistics();
+
+	/** The validation times */
+	private final Statistics validation = new Statistics();
+
+	/** The synchronization times */
+	private final Statistics synchronization = new Statistics();
+
+	/** The total size of the downloaded documents */
+	private final AtomicLong downloadedBytes = new AtomicLong();
+
+	/** The time of the last synchronization */
+	private final AtomicLong lastSynchronizationTime = new AtomicLong();
+
+	/** The cache hits per cache type */
+	private final Map<CacheType, AtomicLong> cacheHits = createCacheCounters();
+
+	/** The cache misses per cache type */
+	private final Map<CacheType, AtomicLong> cacheMisses = createCacheCounters();
+
+	/** The last download time per TL/LOTL */
+	private final Map<CacheKey, Long> lastDownloadTimes = new ConcurrentHashMap<>();
+
+	/** The last downloaded size per TL/LOTL */
+	private final Map<CacheKey, Long> lastDownloadSizes = new ConcurrentHashMap<>();
+
+	/** The last parsing time per TL/LOTL */
+	private final Map<CacheKey, Long> lastParsingTimes = new ConcurrentHashMap<>();
+
+	/** The last validation time per TL/LOTL */
+	private final Map<CacheKey, Long> lastValidationTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * Default constructor
+	 */
+	public TLValidationJobMetrics() {
+		// empty
+	}
+
+	private static Map<CacheType, AtomicLong> createCacheCounters() {
+		// the map is filled on creation and is not modified afterwards
+		Map<CacheType, AtomicLong> counters = new EnumMap<>(CacheType.class);
+		for (CacheType cacheType : CacheType.values()) {
+			counters.put(cacheType, new AtomicLong());
+		}
+		return counters;
+	}
+
+	@Override
+	public void analysisStarted(CacheKey cacheKey, long queueWaitTime) {
+		queueWait.record(queueWaitTime, true);
+	}
+
+	@Override
+	public void cacheAccessed(CacheKey cacheKey, CacheType cacheType, boolean hit) {
+		if (hit) {
+			cacheHits.get(cacheType).incrementAndGet();
+		} else {
+			cacheMisses.get(cacheType).incrementAndGet();
+		}
+	}
+
+	@Override
+	public void downloadCompleted(CacheKey cacheKey, long duration, long size, boolean success) {
+		download.record(duration, success);
+		downloadedBytes.addAndGet(size);
+		lastDownloadTimes.put(cacheKey, duration);
+		lastDownloadSizes.put(cacheKey, size);
+	}
+
+	@Override
+	public void parsingCompleted(CacheKey cacheKey, long duration, boolean success) {
+		parsing.record(duration, success);
+		lastParsingTimes.put(cacheKey, duration);
+	}
+
+	@Override
+	public void validationCompleted(CacheKey cacheKey, long duration, boolean success) {
+		validation.record(duration, success);
+		lastValidationTimes.put(cacheKey, duration);
+	}
+
+	@Override
+	public void synchronizationCompleted(long duration) {
+		synchronization.record(duration, true);
+		lastSynchronizationTime.set(duration);
+	}
+
+	@Override
+	public long getAnalysisCount() {
+		return queueWait.count.get();
+	}
+
+	@Override
+	public long getTotalQueueWaitTime() {
+		return queueWait.total.get();
+	}
+
+	@Override
+	public long getMaxQueueWaitTime() {
+		return queueWait.max.get();
+	}
+
+	@Override
+	public long getDownloadCount() {
+		return download.count.get();
+	}
+
+	@Override
+	public long getDownloadErrorCount() {
+		return download.errors.get();
+	}
+
+	@Override
+	public long getTotalDownloadTime() {
+		return download.total.get();
+	}
+
+	@Override
+	public long getMaxDownloadTime() {
+		return download.max.get();
+	}
+
+	@Override
+	public long getDownloadedBytes() {
+		return downloadedBytes.get();
+	}
+
+	@Override
+	public long getParsingCount() {
+		return parsing.count.get();
+	}
+
+	@Override
+	public long getParsingErrorCount() {
+		return parsing.errors.get();
+	}
+
+	@Override
+	public long getTotalParsingTime() {
+		return parsing.total.get();
+	}
+
+	@Override
+	public long getMaxParsingTime() {
+		return parsing.max.get();
+	}
+
+	@Override
+	public long getValidationCount() {
+		return validation.count.get();
+	}
+
+	@Override
+	public long getValidationErrorCount() {
+		return validation.errors.get();
+	}
+
+	@Override
+	public long getTotalValidationTime() {
+		return validation.total.get();
+	}
+
+	@Override
+	public long getMaxValidationTime() {
+		return validation.max.get();
+	}
+
+	@Override
+	public long getCacheHitCount() {
+		return sum(cacheHits);
+	}
+
+	@Override
+	public long getCacheMissCount() {
+		return sum(cacheMisses);
+	}
+
+	/**
+	 * Returns the number of cache hits for the given {@code cacheType}
+	 *
+	 * @param cacheType {@link CacheType}
+	 * @return number of cache hits
+	 */
+	public long getCacheHitCount(CacheType cacheType) {
+		return cacheHits.get(cacheType).get();
+	}
+
+	/**
+	 * Returns the number of cache misses for the given {@code cacheType}
+	 *
+	 * @param cacheType {@link CacheType}
+	 * @return number of cache misses
+	 */
+	public long getCacheMissCount(CacheType cacheType) {
+		return cacheMisses.get(cacheType).get();
+	}
+
+	@Override
+	public long getSynchronizationCount() {
+		return synchronization.count.get();
+	}
+
+	@Override
+	public long getTotalSynchronizationTime() {
+		return synchronization.total.get();
+	}
+
+	@Override
+	public long getLastSynchronizationTime() {
+		return lastSynchronizationTime.get();
+	}
+
+	/**
+	 * Returns the last download time for the TL/LOTL with the given {@code cacheKey}
+	 *
+	 * @param cacheKey {@link CacheKey}
+	 * @return download time in milliseconds, null if the TL/LOTL has not been downloaded
+	 */
+	public Long getLastDownloadTime(CacheKey cacheKey) {
+		return lastDownloadTimes.get(cacheKey);
+	}
+
+	/**
+	 * Returns the last downloaded size of the TL/LOTL with the given {@code cacheKey}
+	 *
+	 * @param cacheKey {@link CacheKey}
+	 * @return size in bytes, null if the TL/LOTL has not been downloaded
+	 */
+	public Long getLastDownloadSize(CacheKey cacheKey) {
+		return lastDownloadSizes.get(cacheKey);
+	}
+
+	/**
+	 * Returns the last parsing time for the TL/LOTL with the given {@code cacheKey}
+	 *
+	 * @param cacheKey {@link CacheKey}
+	 * @return parsing time in milliseconds, null if the TL/LOTL has not been parsed
+	 */
+	public Long getLastParsingTime(CacheKey cacheKey) {
+		return lastParsingTimes.get(cacheKey);
+	}
+
+	/**
+	 * Returns the last validation time for the TL/LOTL with the given {@code cacheKey}
+	 *
+	 * @param cacheKey {@link CacheKey}
+	 * @return validation time in milliseconds, null if the TL/LOTL has not been validated
+	 */
+	public Long getLastValidationTime(CacheKey cacheKey) {
+		return lastValidationTimes.get(cacheKey);
+	}
+
+	@Override
+	public void reset() {
+		queueWait.reset();
+		download.reset();
+		parsing.reset();
+		validation.reset();
+		synchronization.reset();
+		downloadedBytes.set(0);
+		lastSynchronizationTime.set(0);
+		resetAll(cacheHits);
+		resetAll(cacheMisses);
+		lastDownloadTimes.clear();
+		lastDownloadSizes.clear();
+		lastParsingTimes.clear();
+		lastValidationTimes.clear();
+	}
+
+	private long sum(Map<CacheType, AtomicLong> counters) {
+		long result = 0;
+		for (AtomicLong counter : counters.values()) {
+			result += counter.get();
+		}
+		return result;
+	}
+
+	private void resetAll(Map<CacheType, AtomicLong> counters) {
+		for (AtomicLong counter : counters.values()) {
+			counter.set(0);
+		}
+	}
+
+	/**
+	 * Aggregates the durations of a stage
+	 */
+	private static final class Statistics {
+
+		/** The number of executions */
+		private final AtomicLong count = new AtomicLong();
+
+		/** The number of failed executions */
+		private final AtomicLong errors = new AtomicLong();
+
+		/** The total duration */
+		private final AtomicLong total = new AtomicLong();
+
+		/** The longest duration */
+		private final AtomicLong max = new AtomicLong();
+
+		private void record(long duration, boolean success) {
+			count.incrementAndGet();
+			if (!success) {
+				errors.incrementAndGet();
+			}
+			total.addAndGet(duration);
+			max.accumulateAndGet(duration, Math::max);
+		}
+
+		private void reset() {
+			count.set(0);
+			errors.set(0);
+			total.set(0);
+			max.set(0);
+		}
+
+	}
+
+}
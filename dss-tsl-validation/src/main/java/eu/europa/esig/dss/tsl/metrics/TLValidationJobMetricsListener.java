@@ -0,0 +1,89 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.metrics;
+
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheType;
+
+/**
+ * Listens to the different stages of a {@code TLValidationJob} execution in order to collect timing
+ * and throughput metrics.
+ *
+ * NOTE: the methods may be called concurrently from the different threads of the job's executor service.
+ * An implementation shall be thread-safe and shall not block.
+ *
+ */
+public interface TLValidationJobMetricsListener {
+
+	/**
+	 * Called when an analysis of a TL/LOTL has been started by the executor service
+	 *
+	 * @param cacheKey {@link CacheKey} of the analyzed TL/LOTL
+	 * @param queueWaitTime the time in milliseconds the analysis waited in the executor service's queue
+	 */
+	void analysisStarted(CacheKey cacheKey, long queueWaitTime);
+
+	/**
+	 * Called when a TL/LOTL cache entry has been checked for a refresh
+	 *
+	 * @param cacheKey {@link CacheKey} of the TL/LOTL
+	 * @param cacheType {@link CacheType} of the accessed cache
+	 * @param hit TRUE if the cached entry is up-to-date and can be re-used, FALSE if it has to be refreshed
+	 */
+	void cacheAccessed(CacheKey cacheKey, CacheType cacheType, boolean hit);
+
+	/**
+	 * Called when a TL/LOTL download has been performed
+	 *
+	 * @param cacheKey {@link CacheKey} of the TL/LOTL
+	 * @param duration the download time in milliseconds
+	 * @param size the size of the downloaded document in bytes (0 in case of an error)
+	 * @param success TRUE if the document has been downloaded successfully, FALSE otherwise
+	 */
+	void downloadCompleted(CacheKey cacheKey, long duration, long size, boolean success);
+
+	/**
+	 * Called when a TL/LOTL parsing has been performed
+	 *
+	 * @param cacheKey {@link CacheKey} of the TL/LOTL
+	 * @param duration the parsing time in milliseconds
+	 * @param success TRUE if the document has been parsed successfully, FALSE otherwise
+	 */
+	void parsingCompleted(CacheKey cacheKey, long duration, boolean success);
+
+	/**
+	 * Called when a TL/LOTL signature validation has been performed
+	 *
+	 * @param cacheKey {@link CacheKey} of the TL/LOTL
+	 * @param duration the validation time in milliseconds
+	 * @param success TRUE if the validation has been performed without an error, FALSE otherwise
+	 *                (NOTE: does not reflect the validation result)
+	 */
+	void validationCompleted(CacheKey cacheKey, long duration, boolean success);
+
+	/**
+	 * Called when the synchronization of the {@code TrustedListsCertificateSource} has been performed
+	 *
+	 * @param duration the synchronization time in milliseconds
+	 */
+	void synchronizationCompleted(long duration);
+
+}
@@ -0,0 +1,183 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.metrics;
+
+/**
+ * The JMX management interface of {@code TLValidationJobMetrics}.
+ *
+ * All the times are expressed in milliseconds and the sizes in bytes.
+ *
+ */
+public interface TLValidationJobMetricsMBean {
+
+	/**
+	 * Returns the number of started TL/LOTL analyses
+	 *
+	 * @return number of analyses
+	 */
+	long getAnalysisCount();
+
+	/**
+	 * Returns the total time the analyses waited in the executor service's queue
+	 *
+	 * @return total queue wait time
+	 */
+	long getTotalQueueWaitTime();
+
+	/**
+	 * Returns the longest time an analysis waited in the executor service's queue
+	 *
+	 * @return max queue wait time
+	 */
+	long getMaxQueueWaitTime();
+
+	/**
+	 * Returns the number of performed downloads
+	 *
+	 * @return number of downloads
+	 */
+	long getDownloadCount();
+
+	/**
+	 * Returns the number of failed downloads
+	 *
+	 * @return number of download errors
+	 */
+	long getDownloadErrorCount();
+
+	/**
+	 * Returns the total download time
+	 *
+	 * @return total download time
+	 */
+	long getTotalDownloadTime();
+
+	/**
+	 * Returns the longest download time
+	 *
+	 * @return max download time
+	 */
+	long getMaxDownloadTime();
+
+	/**
+	 * Returns the total size of the downloaded documents
+	 *
+	 * @return downloaded bytes
+	 */
+	long getDownloadedBytes();
+
+	/**
+	 * Returns the number of performed parsings
+	 *
+	 * @return number of parsings
+	 */
+	long getParsingCount();
+
+	/**
+	 * Returns the number of failed parsings
+	 *
+	 * @return number of parsing errors
+	 */
+	long getParsingErrorCount();
+
+	/**
+	 * Returns the total parsing time
+	 *
+	 * @return total parsing time
+	 */
+	long getTotalParsingTime();
+
+	/**
+	 * Returns the longest parsing time
+	 *
+	 * @return max parsing time
+	 */
+	long getMaxParsingTime();
+
+	/**
+	 * Returns the number of performed validations
+	 *
+	 * @return number of validations
+	 */
+	long getValidationCount();
+
+	/**
+	 * Returns the number of failed validations
+	 *
+	 * @return number of validation errors
+	 */
+	long getValidationErrorCount();
+
+	/**
+	 * Returns the total validation time
+	 *
+	 * @return total validation time
+	 */
+	long getTotalValidationTime();
+
+	/**
+	 * Returns the longest validation time
+	 *
+	 * @return max validation time
+	 */
+	long getMaxValidationTime();
+
+	/**
+	 * Returns the number of cache hits, for all cache types
+	 *
+	 * @return number of cache hits
+	 */
+	long getCacheHitCount();
+
+	/**
+	 * Returns the number of cache misses, for all cache types
+	 *
+	 * @return number of cache misses
+	 */
+	long getCacheMissCount();
+
+	/**
+	 * Returns the number of performed synchronizations
+	 *
+	 * @return number of synchronizations
+	 */
+	long getSynchronizationCount();
+
+	/**
+	 * Returns the total synchronization time
+	 *
+	 * @return total synchronization time
+	 */
+	long getTotalSynchronizationTime();
+
+	/**
+	 * Returns the time of the last synchronization
+	 *
+	 * @return last synchronization time
+	 */
+	long getLastSynchronizationTime();
+
+	/**
+	 * Resets all the collected metrics
+	 */
+	void reset();
+
+}
@@ -29,14 +29,22 @@ import eu.europa.esig.trustedlist.jaxb.tsl.NextUpdateType;
 import eu.europa.esig.trustedlist.jaxb.tsl.NonEmptyURIListType;
 import eu.europa.esig.trustedlist.jaxb.tsl.TSLSchemeInformationType;
 import eu.europa.esig.trustedlist.jaxb.tsl.TrustStatusListType;
+import org.w3c.dom.Document;
 
+import jakarta.xml.bind.JAXBIntrospector;
+import jakarta.xml.bind.Unmarshaller;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -46,17 +54,41 @@ import java.util.function.Supplier;
  */
 public abstract class AbstractParsingTask<T extends AbstractParsingResult> implements Supplier<T> {
 
+	/** The namespace of the trusted list elements */
+	private static final String TSL_NAMESPACE = "http://uri.etsi.org/02231/v2#";
+
+	/** The root element name of a trusted list */
+	private static final String TRUST_STATUS_LIST = "TrustServiceStatusList";
+
+	/** The shared StAX factory (thread-safe once configured), secured against XXE */
+	private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
 	/** The document to parse */
 	private final DSSDocument document;
 
+	/** The already built DOM of the document (optional) */
+	private final Document dom;
+
 	/**
 	 * Default constructor
 	 *
 	 * @param document {@link DSSDocument}
 	 */
 	protected AbstractParsingTask(DSSDocument document) {
+		this(document, null);
+	}
+
+	/**
+	 * Constructor re-using an already built DOM of the document (e.g. on download), in order to avoid
+	 * re-parsing of the document when unmarshalling the complete trusted list
+	 *
+	 * @param document {@link DSSDocument}
+	 * @param dom {@link Document} built from the {@code document} (optional)
+	 */
+	protected AbstractParsingTask(DSSDocument document, Document dom) {
 		Objects.requireNonNull(document, "The document is null");
 		this.document = document;
+		this.dom = dom;
 	}
 
 	/**
@@ -65,16 +97,79 @@ public abstract class AbstractParsingTask<T extends AbstractParsingResult> imple
 	 * @return {@link TrustStatusListType}
 	 */
 	protected TrustStatusListType getJAXBObject() {
+		if (dom != null) {
+			try {
+				final Unmarshaller unmarshaller = createTrustedListFacade().getUnmarshaller(true);
+				return (TrustStatusListType) JAXBIntrospector.getValue(unmarshaller.unmarshal(dom));
+			} catch (Exception e) {
+				throw buildParsingException(e);
+			}
+		}
 		try (InputStream is = document.openStream()) {
 			return createTrustedListFacade().unmarshall(is);
 		} catch (Exception e) {
-			String message = "Unable to parse binaries. Reason : '%s'";
-			// get complete error message in case if the message string is not defined directly
-			if (e.getMessage() == null && e.getCause() != null) {
-				throw new DSSException(String.format(message, e.getCause().getMessage()), e);
+			throw buildParsingException(e);
+		}
+	}
+
+	/**
+	 * Reads the document in a streaming way and unmarshalls only the trusted list elements with
+	 * the given {@code elementNames} (global elements of the trusted list schema, e.g. SchemeInformation or
+	 * TrustServiceProvider), one at a time. The other XML subtrees (e.g. ds:Signature) are read through
+	 * without creating any object.
+	 *
+	 * @param elementNames a collection of local names of the trusted list elements to unmarshall
+	 * @param elementProcessor {@link Predicate} processing the value of each unmarshalled element and
+	 *                         returning TRUE if the parsing shall continue, FALSE if it can be stopped
+	 */
+	protected void streamJAXBElements(Collection<String> elementNames, Predicate<Object> elementProcessor) {
+		try (InputStream is = document.openStream()) {
+			final XMLStreamReader reader = createXMLStreamReader(is);
+			try {
+				reader.nextTag();
+				if (!TSL_NAMESPACE.equals(reader.getNamespaceURI()) || !TRUST_STATUS_LIST.equals(reader.getLocalName())) {
+					throw new DSSException(String.format("The root element '%s' is not a trusted list!", reader.getName()));
+				}
+
+				final Unmarshaller unmarshaller = createTrustedListFacade().getUnmarshaller(true);
+				while (reader.hasNext()) {
+					if (reader.isStartElement() && TSL_NAMESPACE.equals(reader.getNamespaceURI())
+							&& elementNames.contains(reader.getLocalName())) {
+						// the reader is moved to the event following the end of the element
+						final Object element = JAXBIntrospector.getValue(unmarshaller.unmarshal(reader));
+						if (!elementProcessor.test(element)) {
+							return;
+						}
+					} else {
+						reader.next();
+					}
+				}
+			} finally {
+				reader.close();
 			}
-			throw new DSSException(String.format(message, e.getMessage()), e);
+		} catch (Exception e) {
+			throw buildParsingException(e);
+		}
+	}
+
+	private XMLStreamReader createXMLStreamReader(InputStream is) throws XMLStreamException {
+		return XML_INPUT_FACTORY.createXMLStreamReader(is);
+	}
+
+	private static XMLInputFactory createXMLInputFactory() {
+		final XMLInputFactory xif = XMLInputFactory.newFactory();
+		xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		return xif;
+	}
+
+	private DSSException buildParsingException(Exception e) {
+		String message = "Unable to parse binaries. Reason : '%s'";
+		// get complete error message in case if the message string is not defined directly
+		if (e.getMessage() == null && e.getCause() != null) {
+			return new DSSException(String.format(message, e.getCause().getMessage()), e);
 		}
+		return new DSSException(String.format(message, e.getMessage()), e);
 	}
 
 	/**
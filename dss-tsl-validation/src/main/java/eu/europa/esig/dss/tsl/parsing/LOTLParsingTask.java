@@ -36,8 +36,10 @@ import eu.europa.esig.trustedlist.jaxb.tsl.TrustStatusListType;
 import eu.europa.esig.trustedlist.mra.MRAFacade;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -49,6 +51,9 @@ public class LOTLParsingTask extends AbstractParsingTask<LOTLParsingResult> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(LOTLParsingTask.class);
 
+	/** The SchemeInformation element name */
+	private static final String SCHEME_INFORMATION = "SchemeInformation";
+
 	/** The LOTLSource to parse */
 	private final LOTLSource lotlSource;
 
@@ -59,7 +64,18 @@ public class LOTLParsingTask extends AbstractParsingTask<LOTLParsingResult> {
 	 * @param lotlSource {@link LOTLSource}
 	 */
 	public LOTLParsingTask(DSSDocument document, LOTLSource lotlSource) {
-		super(document);
+		this(document, null, lotlSource);
+	}
+
+	/**
+	 * Constructor re-using an already built DOM of the document
+	 *
+	 * @param document {@link DSSDocument} LOTL document to parse
+	 * @param dom {@link Document} built from the {@code document} (optional)
+	 * @param lotlSource {@link LOTLSource}
+	 */
+	public LOTLParsingTask(DSSDocument document, Document dom, LOTLSource lotlSource) {
+		super(document, dom);
 		Objects.requireNonNull(lotlSource, "The LOTLSource is null");
 		this.lotlSource = lotlSource;
 	}
@@ -67,8 +83,16 @@ public class LOTLParsingTask extends AbstractParsingTask<LOTLParsingResult> {
 	@Override
 	public LOTLParsingResult get() {
 		LOTLParsingResult result = new LOTLParsingResult();
-		TrustStatusListType jaxbObject = getJAXBObject();
-		parseSchemeInformation(result, jaxbObject.getSchemeInformation());
+		if (lotlSource.isStreamingParsing()) {
+			// only the SchemeInformation is relevant, the parsing stops after it
+			streamJAXBElements(Collections.singletonList(SCHEME_INFORMATION), element -> {
+				parseSchemeInformation(result, (TSLSchemeInformationType) element);
+				return false;
+			});
+		} else {
+			TrustStatusListType jaxbObject = getJAXBObject();
+			parseSchemeInformation(result, jaxbObject.getSchemeInformation());
+		}
 		return result;
 	}
 
@@ -21,6 +21,7 @@
 package eu.europa.esig.dss.tsl.parsing;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.tsl.TrustServiceProvider;
 import eu.europa.esig.dss.tsl.function.NonEmptyTrustService;
 import eu.europa.esig.dss.tsl.function.converter.TrustServiceProviderConverter;
 import eu.europa.esig.dss.tsl.source.TLSource;
@@ -31,7 +32,10 @@ import eu.europa.esig.trustedlist.jaxb.tsl.TSPServicesListType;
 import eu.europa.esig.trustedlist.jaxb.tsl.TSPType;
 import eu.europa.esig.trustedlist.jaxb.tsl.TrustServiceProviderListType;
 import eu.europa.esig.trustedlist.jaxb.tsl.TrustStatusListType;
+import org.w3c.dom.Document;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -42,6 +46,12 @@ import java.util.stream.Collectors;
  */
 public class TLParsingTask extends AbstractParsingTask<TLParsingResult> {
 
+	/** The SchemeInformation element name */
+	private static final String SCHEME_INFORMATION = "SchemeInformation";
+
+	/** The TrustServiceProvider element name */
+	private static final String TRUST_SERVICE_PROVIDER = "TrustServiceProvider";
+
 	/** The TLSource to parse */
 	private final TLSource tlSource;
 
@@ -52,13 +62,28 @@ public class TLParsingTask extends AbstractParsingTask<TLParsingResult> {
 	 * @param tlSource {@link TLSource}
 	 */
 	public TLParsingTask(DSSDocument document, TLSource tlSource) {
-		super(document);
+		this(document, null, tlSource);
+	}
+
+	/**
+	 * Constructor re-using an already built DOM of the document
+	 *
+	 * @param document {@link DSSDocument} TL document to parse
+	 * @param dom {@link Document} built from the {@code document} (optional)
+	 * @param tlSource {@link TLSource}
+	 */
+	public TLParsingTask(DSSDocument document, Document dom, TLSource tlSource) {
+		super(document, dom);
 		Objects.requireNonNull(tlSource, "The TLSource is null");
 		this.tlSource = tlSource;
 	}
 
 	@Override
 	public TLParsingResult get() {
+		if (tlSource.isStreamingParsing()) {
+			return getStreaming();
+		}
+
 		TLParsingResult result = new TLParsingResult();
 		TrustStatusListType jaxbObject = getJAXBObject();
 
@@ -68,6 +93,34 @@ public class TLParsingTask extends AbstractParsingTask<TLParsingResult> {
 		return result;
 	}
 
+	/**
+	 * Parses the TL in a streaming mode, by converting each TrustServiceProvider as soon as it is read
+	 *
+	 * @return {@link TLParsingResult}
+	 */
+	private TLParsingResult getStreaming() {
+		TLParsingResult result = new TLParsingResult();
+		List<TrustServiceProvider> trustServiceProviders = new ArrayList<>();
+		TrustServiceProviderConverter converter = new TrustServiceProviderConverter();
+
+		streamJAXBElements(Arrays.asList(SCHEME_INFORMATION, TRUST_SERVICE_PROVIDER), element -> {
+			if (element instanceof TSLSchemeInformationType) {
+				parseSchemeInformation(result, (TSLSchemeInformationType) element);
+				converter.setTerritory(result.getTerritory());
+
+			} else if (element instanceof TSPType) {
+				TSPType tspType = (TSPType) element;
+				if (filter(tspType)) {
+					trustServiceProviders.add(converter.apply(tspType));
+				}
+			}
+			return true;
+		});
+
+		result.setTrustServiceProviders(Collections.unmodifiableList(trustServiceProviders));
+		return result;
+	}
+
 	private void parseSchemeInformation(TLParsingResult result, TSLSchemeInformationType schemeInformation) {
 
 		commonParseSchemeInformation(result, schemeInformation);
@@ -85,31 +138,37 @@ public class TLParsingTask extends AbstractParsingTask<TLParsingResult> {
 	}
 
 	private List<TSPType> filter(List<TSPType> trustServiceProviders) {
+		return trustServiceProviders.stream().filter(this::filter).collect(Collectors.toList());
+	}
 
-		List<TSPType> filteredTSP = trustServiceProviders;
+	/**
+	 * Filters the trust services of the given TSP and returns whether the TSP shall be kept
+	 *
+	 * @param tspType {@link TSPType} to filter
+	 * @return TRUE if the TSP is accepted, FALSE otherwise
+	 */
+	private boolean filter(TSPType tspType) {
 
 		// 1. Filter the TSP with the predicate
-		if (tlSource.getTrustServiceProviderPredicate() != null) {
-			filteredTSP = filteredTSP.stream().filter(tlSource.getTrustServiceProviderPredicate()).collect(Collectors.toList());
+		if (tlSource.getTrustServiceProviderPredicate() != null && !tlSource.getTrustServiceProviderPredicate().test(tspType)) {
+			return false;
 		}
 
-		// 2. Foreach TSP, filter the trust services with the predicate
+		// 2. Filter the trust services of the TSP with the predicate
 		if (tlSource.getTrustServicePredicate() != null) {
-			for (TSPType tspType : filteredTSP) {
-				TSPServicesListType tspServices = tspType.getTSPServices();
-				if (tspServices != null && Utils.isCollectionNotEmpty(tspServices.getTSPService())) {
-					List<TSPServiceType> filteredTrustServices = tspServices.getTSPService().stream().filter(tlSource.getTrustServicePredicate())
-							.collect(Collectors.toList());
-					TSPServicesListType newTspServices = new TSPServicesListType();
-					if (!filteredTrustServices.isEmpty()) {
-						newTspServices.getTSPService().addAll(filteredTrustServices);
-					}
-					tspType.setTSPServices(newTspServices);
+			TSPServicesListType tspServices = tspType.getTSPServices();
+			if (tspServices != null && Utils.isCollectionNotEmpty(tspServices.getTSPService())) {
+				List<TSPServiceType> filteredTrustServices = tspServices.getTSPService().stream().filter(tlSource.getTrustServicePredicate())
+						.collect(Collectors.toList());
+				TSPServicesListType newTspServices = new TSPServicesListType();
+				if (!filteredTrustServices.isEmpty()) {
+					newTspServices.getTSPService().addAll(filteredTrustServices);
 				}
+				tspType.setTSPServices(newTspServices);
 			}
 		}
 
 		// 3. Remove TSP with empty trust services
-		return filteredTSP.stream().filter(new NonEmptyTrustService()).collect(Collectors.toList());
+		return new NonEmptyTrustService().test(tspType);
 	}
 }
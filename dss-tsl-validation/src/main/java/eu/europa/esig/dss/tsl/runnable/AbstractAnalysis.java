@@ -21,16 +21,23 @@
 package eu.europa.esig.dss.tsl.runnable;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.tsl.cache.CacheType;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessByKey;
 import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
 import eu.europa.esig.dss.tsl.download.XmlDownloadTask;
+import eu.europa.esig.dss.tsl.metrics.NoOpTLValidationJobMetricsListener;
+import eu.europa.esig.dss.tsl.metrics.TLValidationJobMetricsListener;
 import eu.europa.esig.dss.tsl.parsing.AbstractParsingTask;
 import eu.europa.esig.dss.tsl.source.TLSource;
 import eu.europa.esig.dss.tsl.validation.TLValidatorTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+
+import java.util.Objects;
 
 /**
  * Processes the LOTL/TL validation job (download - parse - validate)
@@ -48,6 +55,21 @@ public abstract class AbstractAnalysis  {
 
 	/** The file loader */
 	private final DSSFileLoader dssFileLoader;
+
+	/** The last downloaded document */
+	private DSSDocument downloadedDocument;
+
+	/**
+	 * The DOM of the downloaded document, shared between the parsing and validation stages.
+	 * Not kept when the streaming parsing is enabled, and released once the validation has been run.
+	 */
+	private Document dom;
+
+	/** The time of the analysis creation, used to compute the waiting time before its execution */
+	private final long creationTime = System.currentTimeMillis();
+
+	/** Collects the timing metrics of the analysis */
+	private TLValidationJobMetricsListener metricsListener = NoOpTLValidationJobMetricsListener.getInstance();
 	
 	/**
 	 * Default constructor
@@ -80,6 +102,34 @@ public abstract class AbstractAnalysis  {
 		return cacheAccess;
 	}
 
+	/**
+	 * Gets the {@code TLValidationJobMetricsListener}
+	 *
+	 * @return {@link TLValidationJobMetricsListener}
+	 */
+	protected final TLValidationJobMetricsListener getMetricsListener() {
+		return metricsListener;
+	}
+
+	/**
+	 * Sets the listener collecting the timing metrics of the analysis
+	 *
+	 * Default : {@code NoOpTLValidationJobMetricsListener} (metrics are not collected)
+	 *
+	 * @param metricsListener {@link TLValidationJobMetricsListener}
+	 */
+	public void setMetricsListener(TLValidationJobMetricsListener metricsListener) {
+		Objects.requireNonNull(metricsListener, "TLValidationJobMetricsListener cannot be null!");
+		this.metricsListener = metricsListener;
+	}
+
+	/**
+	 * Reports the time the analysis waited for its execution since its creation
+	 */
+	protected void analysisStarted() {
+		metricsListener.analysisStarted(cacheAccess.getCacheKey(), System.currentTimeMillis() - creationTime);
+	}
+
 	/**
 	 * Downloads the document by url
 	 *
@@ -88,19 +138,35 @@ public abstract class AbstractAnalysis  {
 	 */
 	protected DSSDocument download(final String url) {
 		DSSDocument document = null;
+		downloadedDocument = null;
+		dom = null;
+		long size = 0;
+		final long startTime = System.currentTimeMillis();
 		try {
 			LOG.debug("Downloading url '{}'...", url);
 			XmlDownloadTask downloadTask = new XmlDownloadTask(dssFileLoader, url);
 			XmlDownloadResult downloadResult = downloadTask.get();
-			if (!cacheAccess.isUpToDate(downloadResult)) {
+			boolean upToDate = cacheAccess.isUpToDate(downloadResult);
+			metricsListener.cacheAccessed(cacheAccess.getCacheKey(), CacheType.DOWNLOAD, upToDate);
+			if (!upToDate) {
 				cacheAccess.update(downloadResult);
 				expireCache();
 			}
 			document = downloadResult.getDSSDocument();
+			downloadedDocument = document;
+			if (!source.isStreamingParsing()) {
+				// with streaming parsing, the DOM is not kept in memory between the stages
+				dom = downloadTask.getDOM();
+			}
+			size = DSSUtils.getFileByteSize(document);
 		} catch (Exception e) {
 			// wrapped exception
 			LOG.error(e.getMessage());
 			cacheAccess.downloadError(e);
+		} finally {
+			final long downloadTime = System.currentTimeMillis() - startTime;
+			cacheAccess.setDownloadTime(downloadTime);
+			metricsListener.downloadCompleted(cacheAccess.getCacheKey(), downloadTime, size, document != null);
 		}
 		return document;
 	}
@@ -120,14 +186,23 @@ public abstract class AbstractAnalysis  {
 	 */
 	protected void parsing(DSSDocument document) {
 		// True if EMPTY / EXPIRED by TL/LOTL
-		if (cacheAccess.isParsingRefreshNeeded()) {
+		final boolean refreshNeeded = cacheAccess.isParsingRefreshNeeded();
+		metricsListener.cacheAccessed(cacheAccess.getCacheKey(), CacheType.PARSING, !refreshNeeded);
+		if (refreshNeeded) {
+			boolean success = false;
+			final long startTime = System.currentTimeMillis();
 			try {
 				LOG.debug("Parsing the TL/LOTL with cache key '{}'...", cacheAccess.getCacheKey().getKey());
 				AbstractParsingTask<?> parsingTask = getParsingTask(document);
 				cacheAccess.update(parsingTask.get());
+				success = true;
 			} catch (Exception e) {
 				LOG.error("Cannot parse the TL/LOTL with the cache key '{}' : {}", cacheAccess.getCacheKey().getKey(), e.getMessage(), e);
 				cacheAccess.parsingError(e);
+			} finally {
+				final long parsingTime = System.currentTimeMillis() - startTime;
+				cacheAccess.setParsingTime(parsingTime);
+				metricsListener.parsingCompleted(cacheAccess.getCacheKey(), parsingTime, success);
 			}
 		}
 	}
@@ -148,16 +223,27 @@ public abstract class AbstractAnalysis  {
 	 */
 	protected void validation(DSSDocument document, CertificateSource certificateSource) {
 		// True if EMPTY / EXPIRED by TL/LOTL
-		if (cacheAccess.isValidationRefreshNeeded()) {
+		final boolean refreshNeeded = cacheAccess.isValidationRefreshNeeded();
+		metricsListener.cacheAccessed(cacheAccess.getCacheKey(), CacheType.VALIDATION, !refreshNeeded);
+		if (refreshNeeded) {
+			boolean success = false;
+			final long startTime = System.currentTimeMillis();
 			try {
 				LOG.debug("Validating the TL/LOTL with cache key '{}'...", cacheAccess.getCacheKey().getKey());
 				TLValidatorTask validationTask = getValidationTask(document, certificateSource);
 				cacheAccess.update(validationTask.get());
+				success = true;
 			} catch (Exception e) {
 				LOG.error("Cannot validate the TL/LOTL with the cache key '{}' : {}", cacheAccess.getCacheKey().getKey(), e.getMessage());
 				cacheAccess.validationError(e);
+			} finally {
+				final long validationTime = System.currentTimeMillis() - startTime;
+				cacheAccess.setValidationTime(validationTime);
+				metricsListener.validationCompleted(cacheAccess.getCacheKey(), validationTime, success);
 			}
 		}
+		// the DOM is not required after the validation
+		dom = null;
 	}
 
 	/**
@@ -168,7 +254,20 @@ public abstract class AbstractAnalysis  {
 	 * @return {@link TLValidatorTask} to be executed
 	 */
 	protected TLValidatorTask getValidationTask(DSSDocument document, CertificateSource certificateSource) {
-		return new TLValidatorTask(document, certificateSource);
+		TLValidatorTask validatorTask = new TLValidatorTask(document, getDOM(document), certificateSource);
+		validatorTask.setLightweightValidation(source.isLightweightValidation());
+		return validatorTask;
+	}
+
+	/**
+	 * Returns the DOM of the {@code document} built on download, to be re-used by the parsing and validation stages
+	 * (null when the streaming parsing is enabled or the DOM has been released)
+	 *
+	 * @param document {@link DSSDocument} to get DOM for
+	 * @return {@link Document} when available, null otherwise
+	 */
+	protected Document getDOM(DSSDocument document) {
+		return document == downloadedDocument ? dom : null;
 	}
 
 }
@@ -80,6 +80,7 @@ public abstract class AbstractRunnableAnalysis extends AbstractAnalysis implemen
 	@Override
 	public void run() {
 		try {
+			this.analysisStarted();
 			this.doAnalyze();
 		} catch (final Throwable exception) {
 			// NOTE: Throwable shall be caught
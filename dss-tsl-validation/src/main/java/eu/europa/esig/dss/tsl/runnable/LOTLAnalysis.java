@@ -50,7 +50,7 @@ public class LOTLAnalysis extends AbstractRunnableAnalysis {
 
 	@Override
 	protected AbstractParsingTask<?> getParsingTask(DSSDocument document) {
-		return new LOTLParsingTask(document, (LOTLSource) getSource());
+		return new LOTLParsingTask(document, getDOM(document), (LOTLSource) getSource());
 	}
 
 }
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheType;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessByKey;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessFactory;
 import eu.europa.esig.dss.tsl.cache.access.ReadOnlyCacheAccess;
@@ -34,6 +35,7 @@ import eu.europa.esig.dss.tsl.validation.TLValidatorTask;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
 
 import java.util.HashMap;
 import java.util.List;
@@ -122,7 +124,8 @@ public class LOTLWithPivotsAnalysis extends LOTLAnalysis {
 			PivotProcessingResult pivotProcessingResult = processingResults.get(pivotUrl);
 			if (pivotProcessingResult != null) {
 				CacheAccessByKey pivotCacheAccess = cacheAccessFactory.getCacheAccess(cacheKey);
-				validationPivot(pivotCacheAccess, pivotProcessingResult.getPivot(), currentCertificateSource);
+				validationPivot(pivotCacheAccess, pivotProcessingResult.getPivot(), pivotProcessingResult.getPivotDOM(),
+						currentCertificateSource);
 
 				ValidationCacheDTO validationResult = readOnlyCacheAccess.getValidationCacheDTO(cacheKey);
 				if (validationResult != null) {
@@ -142,16 +145,27 @@ public class LOTLWithPivotsAnalysis extends LOTLAnalysis {
 		return currentCertificateSource;
 	}
 
-	private void validationPivot(CacheAccessByKey pivotCacheAccess, DSSDocument document, CertificateSource certificateSource) {
+	private void validationPivot(CacheAccessByKey pivotCacheAccess, DSSDocument document, Document dom,
+								 CertificateSource certificateSource) {
 		// True if EMPTY / EXPIRED by TL/LOTL
-		if (pivotCacheAccess.isValidationRefreshNeeded()) {
+		final boolean refreshNeeded = pivotCacheAccess.isValidationRefreshNeeded();
+		getMetricsListener().cacheAccessed(pivotCacheAccess.getCacheKey(), CacheType.VALIDATION, !refreshNeeded);
+		if (refreshNeeded) {
+			boolean success = false;
+			final long startTime = System.currentTimeMillis();
 			try {
 				LOG.debug("Validating the Pivot LOTL with cache key '{}'...", pivotCacheAccess.getCacheKey().getKey());
-				TLValidatorTask validationTask = new TLValidatorTask(document, certificateSource);
+				TLValidatorTask validationTask = new TLValidatorTask(document, dom, certificateSource);
+				validationTask.setLightweightValidation(getSource().isLightweightValidation());
 				pivotCacheAccess.update(validationTask.get());
+				success = true;
 			} catch (Exception e) {
 				LOG.error("Cannot validate the Pivot LOTL with the cache key '{}' : {}", pivotCacheAccess.getCacheKey().getKey(), e.getMessage());
 				pivotCacheAccess.validationError(e);
+			} finally {
+				final long validationTime = System.currentTimeMillis() - startTime;
+				pivotCacheAccess.setValidationTime(validationTime);
+				getMetricsListener().validationCompleted(pivotCacheAccess.getCacheKey(), validationTime, success);
 			}
 		}
 	}
@@ -168,7 +182,11 @@ public class LOTLWithPivotsAnalysis extends LOTLAnalysis {
 			pivotSource.setLotlPredicate(lotlSource.getLotlPredicate());
 			pivotSource.setTlPredicate(lotlSource.getTlPredicate());
 			pivotSource.setPivotSupport(lotlSource.isPivotSupport());
-			futures.put(pivotUrl, executorService.submit(new PivotProcessing(pivotSource, pivotCacheAccess, getCacheAccessByKey(), dssFileLoader)));
+			pivotSource.setLightweightValidation(lotlSource.isLightweightValidation());
+			pivotSource.setStreamingParsing(lotlSource.isStreamingParsing());
+			PivotProcessing pivotProcessing = new PivotProcessing(pivotSource, pivotCacheAccess, getCacheAccessByKey(), dssFileLoader);
+			pivotProcessing.setMetricsListener(getMetricsListener());
+			futures.put(pivotUrl, executorService.submit(pivotProcessing));
 		}
 
 		Map<String, PivotProcessingResult> processingResults = new HashMap<>();
@@ -59,6 +59,7 @@ public class PivotProcessing extends AbstractAnalysis implements Callable<PivotP
 
 	@Override
 	public PivotProcessingResult call() throws Exception {
+		analysisStarted();
 		DSSDocument pivot = download(getSource().getUrl());
 		if (pivot != null) {
 			parsing(pivot);
@@ -66,7 +67,8 @@ public class PivotProcessing extends AbstractAnalysis implements Callable<PivotP
 			ParsingCacheDTO parsingResult = getCacheAccessByKey().getParsingReadOnlyResult();
 			OtherTSLPointer xmllotlPointer = ParsingUtils.getXMLLOTLPointer(parsingResult);
 			if (xmllotlPointer != null) {
-				return new PivotProcessingResult(pivot, getLOTLAnnouncedCertificateSource(xmllotlPointer), xmllotlPointer.getTSLLocation());
+				return new PivotProcessingResult(pivot, getDOM(pivot),
+						getLOTLAnnouncedCertificateSource(xmllotlPointer), xmllotlPointer.getTSLLocation());
 			}
 		}
 		return null;
@@ -74,7 +76,7 @@ public class PivotProcessing extends AbstractAnalysis implements Callable<PivotP
 
 	@Override
 	protected AbstractParsingTask<?> getParsingTask(DSSDocument document) {
-		return new LOTLParsingTask(document, (LOTLSource) getSource());
+		return new LOTLParsingTask(document, getDOM(document), (LOTLSource) getSource());
 	}
 
 	private CertificateSource getLOTLAnnouncedCertificateSource(OtherTSLPointer currentLOTLPointer) {
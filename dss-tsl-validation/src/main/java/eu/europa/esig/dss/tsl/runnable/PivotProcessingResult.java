@@ -22,6 +22,7 @@ package eu.europa.esig.dss.tsl.runnable;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
+import org.w3c.dom.Document;
 
 /**
  * This class contains the pivot and its introduced signing certificates for the
@@ -32,6 +33,9 @@ public class PivotProcessingResult {
 	/** The pivot document */
 	private final DSSDocument pivot;
 
+	/** The DOM of the pivot built on download (optional) */
+	private final Document pivotDOM;
+
 	/** The certificate source to use */
 	private final CertificateSource certificateSource;
 
@@ -46,7 +50,20 @@ public class PivotProcessingResult {
 	 * @param lotlLocation {@link String}
 	 */
 	public PivotProcessingResult(DSSDocument pivot, CertificateSource certificateSource, String lotlLocation) {
+		this(pivot, null, certificateSource, lotlLocation);
+	}
+
+	/**
+	 * Constructor with the already built DOM of the pivot
+	 *
+	 * @param pivot {@link DSSDocument}
+	 * @param pivotDOM {@link Document} the DOM of the pivot, when available
+	 * @param certificateSource {@link CertificateSource}
+	 * @param lotlLocation {@link String}
+	 */
+	public PivotProcessingResult(DSSDocument pivot, Document pivotDOM, CertificateSource certificateSource, String lotlLocation) {
 		this.pivot = pivot;
+		this.pivotDOM = pivotDOM;
 		this.certificateSource = certificateSource;
 		this.lotlLocation = lotlLocation;
 	}
@@ -60,6 +77,15 @@ public class PivotProcessingResult {
 		return pivot;
 	}
 
+	/**
+	 * Gets the DOM of the pivot built on download
+	 *
+	 * @return {@link Document} if available, null otherwise
+	 */
+	public Document getPivotDOM() {
+		return pivotDOM;
+	}
+
 	/**
 	 * Gets the certificate source
 	 *
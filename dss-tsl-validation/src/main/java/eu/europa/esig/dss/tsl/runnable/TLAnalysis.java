@@ -50,7 +50,7 @@ public class TLAnalysis extends AbstractRunnableAnalysis {
 
 	@Override
 	protected AbstractParsingTask<?> getParsingTask(DSSDocument document) {
-		return new TLParsingTask(document, getSource());
+		return new TLParsingTask(document, getDOM(document), getSource());
 	}
 
 }
@@ -56,6 +56,22 @@ public class TLSource {
 	 * Default : all trust services are selected
 	 */
 	private Predicate<TSPServiceType> trustServicePredicate;
+
+	/**
+	 * Defines whether the trusted list shall be parsed in a streaming mode,
+	 * unmarshalling the relevant XML elements one by one instead of the complete document
+	 *
+	 * Default : false (the complete document is unmarshalled)
+	 */
+	private boolean streamingParsing;
+
+	/**
+	 * Defines whether the lightweight validation of the trusted list signature shall be performed
+	 * (signature integrity and the signing certificate match only)
+	 *
+	 * Default : false (the trusted list is validated against the trusted list validation policy)
+	 */
+	private boolean lightweightValidation;
 	
 	/**
 	 * The cached CacheKey value (the key is computed from url parameter)
@@ -143,6 +159,61 @@ public class TLSource {
 		this.trustServicePredicate = trustServicePredicate;
 	}
 
+	/**
+	 * Gets whether the streaming parsing mode is enabled
+	 *
+	 * @return TRUE if the streaming parsing is enabled, FALSE otherwise
+	 */
+	public boolean isStreamingParsing() {
+		return streamingParsing;
+	}
+
+	/**
+	 * Sets whether the trusted list shall be parsed in a streaming mode.
+	 * When enabled, the document is read with a StAX parser and only the relevant elements
+	 * (i.e. SchemeInformation and each TrustServiceProvider) are unmarshalled and converted one after another,
+	 * while the other subtrees (e.g. the signature) are skipped. This avoids holding the complete JAXB tree
+	 * of big trusted lists in memory.
+	 *
+	 * NOTE: within the streaming mode, the XML Schema validation is performed on each unmarshalled element separately.
+	 * The document as a whole (i.e. the root element, the order of its children and the skipped subtrees,
+	 * such as the signature) is not validated against the XML Schema. The streaming mode shall not be enabled
+	 * when a complete schema validation of the trusted list is required.
+	 *
+	 * Default : false (the complete document is unmarshalled)
+	 *
+	 * @param streamingParsing whether the streaming parsing shall be used
+	 */
+	public void setStreamingParsing(boolean streamingParsing) {
+		this.streamingParsing = streamingParsing;
+	}
+
+	/**
+	 * Gets whether the lightweight signature validation is enabled
+	 *
+	 * @return TRUE if the lightweight signature validation is enabled, FALSE otherwise
+	 */
+	public boolean isLightweightValidation() {
+		return lightweightValidation;
+	}
+
+	/**
+	 * Sets whether the lightweight validation of the trusted list signature shall be performed.
+	 * When enabled, only the integrity of the signature is verified and the signing certificate is checked against
+	 * the allowed signing certificates (e.g. announced by the LOTL), without building of diagnostic data and
+	 * validation reports. The DOM built on download is re-used for the validation.
+	 *
+	 * NOTE: the constraints of the trusted list validation policy (e.g. cryptographic constraints) are not checked
+	 * within the lightweight validation
+	 *
+	 * Default : false (the trusted list is validated against the trusted list validation policy)
+	 *
+	 * @param lightweightValidation whether the lightweight signature validation shall be performed
+	 */
+	public void setLightweightValidation(boolean lightweightValidation) {
+		this.lightweightValidation = lightweightValidation;
+	}
+
 	/**
 	 * Gets the TL cache key
 	 *
@@ -23,11 +23,13 @@ package eu.europa.esig.dss.tsl.validation;
 import eu.europa.esig.dss.diagnostic.CertificateWrapper;
 import eu.europa.esig.dss.diagnostic.DiagnosticData;
 import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.enumerations.DigestMatcherType;
 import eu.europa.esig.dss.enumerations.Indication;
 import eu.europa.esig.dss.enumerations.SubIndication;
 import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.ReferenceValidation;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.ValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
@@ -36,14 +38,24 @@ import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
 import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignatureCryptographicVerification;
 import eu.europa.esig.dss.validation.SignaturePolicyProvider;
 import eu.europa.esig.dss.validation.executor.ValidationLevel;
 import eu.europa.esig.dss.validation.reports.Reports;
 import eu.europa.esig.xades.definition.XAdESPath;
 import eu.europa.esig.xades.definition.xades132.XAdES132Path;
+import eu.europa.esig.dss.xades.DSSXMLUtils;
+import eu.europa.esig.dss.xades.reference.XAdESReferenceValidation;
+import eu.europa.esig.dss.xades.validation.XAdESSignature;
 import eu.europa.esig.dss.xades.validation.XMLDocumentValidator;
+import eu.europa.esig.dss.xml.utils.DomUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -57,9 +69,15 @@ public class TLValidatorTask implements Supplier<ValidationResult> {
 	/** The Trusted List document to validate */
 	private final DSSDocument trustedList;
 
+	/** The already built DOM of the trusted list (optional) */
+	private final Document dom;
+
 	/** The certificate source to use */
 	private final CertificateSource certificateSource;
 
+	/** Defines whether the lightweight validation of the signature shall be performed */
+	private boolean lightweightValidation;
+
 	/**
 	 * Constructor used to instantiate a validator for a trusted list
 	 *
@@ -68,14 +86,48 @@ public class TLValidatorTask implements Supplier<ValidationResult> {
 	 *                          to sign this TL
 	 */
 	public TLValidatorTask(DSSDocument trustedList, CertificateSource certificateSource) {
+		this(trustedList, null, certificateSource);
+	}
+
+	/**
+	 * Constructor used to instantiate a validator for a trusted list re-using an already built DOM
+	 * of the document (e.g. on download), in order to avoid re-parsing of the document
+	 *
+	 * @param trustedList       the DSSDocument with a trusted list
+	 * @param dom               {@link Document} built from the {@code trustedList} (optional)
+	 * @param certificateSource a certificate source with the allowed certificates
+	 *                          to sign this TL
+	 */
+	public TLValidatorTask(DSSDocument trustedList, Document dom, CertificateSource certificateSource) {
 		Objects.requireNonNull(trustedList, "The document is null");
 		Objects.requireNonNull(certificateSource, "The certificate source is null");
 		this.trustedList = trustedList;
+		this.dom = dom;
 		this.certificateSource = certificateSource;
 	}
 
+	/**
+	 * Sets whether the lightweight validation of the trusted list signature shall be performed.
+	 * When enabled, only the signature integrity (signature value and references) is verified and the signing
+	 * certificate is checked against the allowed certificates, without building the diagnostic data
+	 * and validation reports.
+	 *
+	 * NOTE: the constraints of the trusted list validation policy (e.g. cryptographic constraints) are not checked
+	 * within the lightweight validation
+	 *
+	 * Default : false (the trusted list is validated against the trusted list validation policy)
+	 *
+	 * @param lightweightValidation whether the lightweight validation shall be performed
+	 */
+	public void setLightweightValidation(boolean lightweightValidation) {
+		this.lightweightValidation = lightweightValidation;
+	}
+
 	@Override
 	public ValidationResult get() {
+		if (lightweightValidation) {
+			return validateSignature();
+		}
 		Reports reports = validateTL();
 		return fillResult(reports);
 	}
@@ -84,7 +136,7 @@ public class TLValidatorTask implements Supplier<ValidationResult> {
 		CertificateVerifier certificateVerifier = new CommonCertificateVerifier(true);
 		certificateVerifier.setTrustedCertSources(buildTrustedCertificateSource(certificateSource));
 
-		XMLDocumentValidator xmlDocumentValidator = new XMLDocumentValidator(trustedList);
+		XMLDocumentValidator xmlDocumentValidator = new XMLDocumentValidator(trustedList, dom);
 		xmlDocumentValidator.setCertificateVerifier(certificateVerifier);
 		xmlDocumentValidator.setTokenExtractionStrategy(TokenExtractionStrategy.EXTRACT_CERTIFICATES_ONLY);
 		xmlDocumentValidator.setEnableEtsiValidationReport(false); // Ignore ETSI VR
@@ -121,6 +173,57 @@ public class TLValidatorTask implements Supplier<ValidationResult> {
 		return new ValidationResult(indication, subIndication, signingTime, signingCertificate, certificateSource);
 	}
 
+	private ValidationResult validateSignature() {
+		final Document documentDom = dom != null ? dom : DomUtils.buildDOM(trustedList);
+		final NodeList signatureNodeList = DSSXMLUtils.getAllSignaturesExceptCounterSignatures(documentDom);
+		if (signatureNodeList.getLength() != 1) {
+			throw new DSSException(String.format("Number of signatures must be equal to 1 (currently : %s)", signatureNodeList.getLength()));
+		}
+
+		// To increase the security: the default {@code XAdESPaths} is used.
+		XAdESSignature signature = new XAdESSignature((Element) signatureNodeList.item(0), Collections.singletonList(new XAdES132Path()));
+		signature.setSignatureFilename(trustedList.getName());
+		signature.setSigningCertificateSource(certificateSource);
+
+		SignatureCryptographicVerification cryptographicVerification = signature.getSignatureCryptographicVerification();
+		CertificateToken signingCertificate = signature.getSigningCertificateToken();
+
+		Indication indication = Indication.TOTAL_PASSED;
+		SubIndication subIndication = null;
+		if (signingCertificate == null) {
+			indication = Indication.INDETERMINATE;
+			subIndication = SubIndication.NO_SIGNING_CERTIFICATE_FOUND;
+		} else if (!cryptographicVerification.isReferenceDataFound() || !cryptographicVerification.isReferenceDataIntact()
+				|| !isCompleteDocumentSigned(signature, documentDom)) {
+			indication = Indication.TOTAL_FAILED;
+			subIndication = SubIndication.HASH_FAILURE;
+		} else if (!cryptographicVerification.isSignatureIntact()) {
+			indication = Indication.TOTAL_FAILED;
+			subIndication = SubIndication.SIG_CRYPTO_FAILURE;
+		} else if (!certificateSource.isKnown(signingCertificate)) {
+			indication = Indication.INDETERMINATE;
+			subIndication = SubIndication.NO_CERTIFICATE_CHAIN_FOUND;
+		}
+
+		return new ValidationResult(indication, subIndication, signature.getSigningTime(), signingCertificate, certificateSource);
+	}
+
+	/**
+	 * Verifies whether the signature covers the complete trusted list (enveloped signature)
+	 */
+	private boolean isCompleteDocumentSigned(XAdESSignature signature, Document documentDom) {
+		final String rootId = DSSXMLUtils.getIDIdentifier(documentDom.getDocumentElement());
+		for (ReferenceValidation referenceValidation : signature.getReferenceValidations()) {
+			if (DigestMatcherType.REFERENCE == referenceValidation.getType() && referenceValidation.isIntact()) {
+				String uri = ((XAdESReferenceValidation) referenceValidation).getUri();
+				if (Utils.isStringEmpty(uri) || (rootId != null && uri.equals("#" + rootId))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	private CommonTrustedCertificateSource buildTrustedCertificateSource(CertificateSource certificateSource) {
 		CommonTrustedCertificateSource commonTrustedCertificateSource = new CommonTrustedCertificateSource();
 		commonTrustedCertificateSource.importAsTrusted(certificateSource);
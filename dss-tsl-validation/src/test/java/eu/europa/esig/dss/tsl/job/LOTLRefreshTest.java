@@ -74,6 +74,32 @@ public class LOTLRefreshTest {
 		checks(job, Indication.TOTAL_PASSED);
 	}
 
+	@Test
+	public void testLightweightValidation() {
+
+		FileCacheDataLoader offlineFileLoader = getOfflineFileLoader(correctUrlMap());
+
+		TLValidationJob job = new TLValidationJob();
+		LOTLSource lotlSource = getLOTLSource();
+		lotlSource.setLightweightValidation(true);
+		job.setListOfTrustedListSources(lotlSource);
+		job.setOfflineDataLoader(offlineFileLoader);
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+
+		job.offlineRefresh();
+
+		checks(job, Indication.TOTAL_PASSED);
+
+		TLValidationJobSummary summary = job.getSummary();
+		LOTLInfo lotlInfo = summary.getLOTLInfos().get(0);
+		assertNotNull(lotlInfo.getDownloadCacheInfo().getProcessingTime());
+		assertNotNull(lotlInfo.getParsingCacheInfo().getProcessingTime());
+		assertNotNull(lotlInfo.getValidationCacheInfo().getProcessingTime());
+		assertTrue(summary.getTotalDownloadTime() >= 0);
+		assertTrue(summary.getTotalParsingTime() >= 0);
+		assertTrue(summary.getTotalValidationTime() >= 0);
+	}
+
 	@Test
 	public void testMissingCert() {
 
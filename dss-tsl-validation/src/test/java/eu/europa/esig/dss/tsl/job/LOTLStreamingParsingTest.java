@@ -0,0 +1,158 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.job;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
+import eu.europa.esig.dss.spi.tsl.LOTLInfo;
+import eu.europa.esig.dss.spi.tsl.PivotInfo;
+import eu.europa.esig.dss.spi.tsl.TLInfo;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.tsl.source.LOTLSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LOTLStreamingParsingTest {
+
+	private static final String LOTL_URL = "https://ec.europa.eu/information_society/policy/esignature/trusted-list/tl-pivot-247-mp.xml";
+
+	private static final String PIVOT_URL = "https://ec.europa.eu/information_society/policy/esignature/trusted-list/tl-pivot-226-mp.xml";
+
+	private static final String BE_URL = "https://tsl.belgium.be/tsl-be.xml";
+
+	private static final String CZ_URL = "https://tsl.gov.cz/publ/TSL_CZ.xtsl";
+
+	@Test
+	public void streamingParsingIsPropagatedToPivotsAndTLs() {
+		Map<String, Integer> domReads = refresh(false);
+		Map<String, Integer> streamingReads = refresh(true);
+
+		// the streaming parser reads the document again, while the DOM parser reuses the downloaded DOM
+		for (String url : urlMap().keySet()) {
+			assertNotNull(domReads.get(url), url);
+			assertEquals(domReads.get(url) + 1, streamingReads.get(url), url);
+		}
+	}
+
+	@Test
+	public void pivotValidationReusesDownloadedDOM() {
+		Map<String, Integer> reads = refresh(false);
+
+		// the pivot is parsed and validated on the DOM built on download, as a trusted list
+		assertEquals(reads.get(BE_URL), reads.get(PIVOT_URL));
+	}
+
+	private Map<String, Integer> refresh(boolean streamingParsing) {
+		CountingFileLoader fileLoader = new CountingFileLoader(urlMap());
+
+		LOTLSource lotlSource = new LOTLSource();
+		lotlSource.setUrl(LOTL_URL);
+		lotlSource.setCertificateSource(new CommonTrustedCertificateSource());
+		lotlSource.setPivotSupport(true);
+		lotlSource.setStreamingParsing(streamingParsing);
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(lotlSource);
+		job.setOnlineDataLoader(fileLoader);
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		job.onlineRefresh();
+
+		LOTLInfo lotlInfo = job.getSummary().getLOTLInfos().get(0);
+		assertTrue(lotlInfo.getParsingCacheInfo().isResultExist());
+		for (PivotInfo pivotInfo : lotlInfo.getPivotInfos()) {
+			if (PIVOT_URL.equals(pivotInfo.getUrl())) {
+				assertTrue(pivotInfo.getParsingCacheInfo().isResultExist());
+			}
+		}
+		for (TLInfo tlInfo : lotlInfo.getTLInfos()) {
+			if (BE_URL.equals(tlInfo.getUrl()) || CZ_URL.equals(tlInfo.getUrl())) {
+				assertTrue(tlInfo.getParsingCacheInfo().isResultExist());
+				assertTrue(tlInfo.getParsingCacheInfo().getTSPNumber() > 0);
+			}
+		}
+		return fileLoader.getReads();
+	}
+
+	private Map<String, DSSDocument> urlMap() {
+		Map<String, DSSDocument> urlMap = new HashMap<>();
+		urlMap.put(LOTL_URL, new FileDocument("src/test/resources/lotlCache/tl_pivot_247_mp.xml"));
+		urlMap.put(PIVOT_URL, new FileDocument("src/test/resources/lotlCache/tl_pivot_226_mp.xml"));
+		urlMap.put(BE_URL, new FileDocument("src/test/resources/lotlCache/BE.xml"));
+		urlMap.put(CZ_URL, new FileDocument("src/test/resources/lotlCache/CZ.xml"));
+		return urlMap;
+	}
+
+	@SuppressWarnings("serial")
+	private static class CountingFileLoader implements DSSFileLoader {
+
+		private final Map<String, DSSDocument> urlMap;
+
+		private final Map<String, AtomicInteger> reads = new ConcurrentHashMap<>();
+
+		CountingFileLoader(Map<String, DSSDocument> urlMap) {
+			this.urlMap = urlMap;
+		}
+
+		@Override
+		public DSSDocument getDocument(String url) {
+			final FileDocument document = (FileDocument) urlMap.get(url);
+			if (document == null) {
+				return null;
+			}
+			final AtomicInteger counter = reads.computeIfAbsent(url, k -> new AtomicInteger());
+			return new FileDocument(document.getFile()) {
+
+				@Override
+				public InputStream openStream() {
+					counter.incrementAndGet();
+					return super.openStream();
+				}
+
+			};
+		}
+
+		@Override
+		public boolean remove(String url) {
+			return false;
+		}
+
+		Map<String, Integer> getReads() {
+			Map<String, Integer> result = new HashMap<>();
+			for (Map.Entry<String, AtomicInteger> entry : reads.entrySet()) {
+				result.put(entry.getKey(), entry.getValue().get());
+			}
+			return result;
+		}
+
+	}
+
+}
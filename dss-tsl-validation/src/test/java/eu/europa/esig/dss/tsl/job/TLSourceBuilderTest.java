@@ -0,0 +1,102 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.job;
+
+import eu.europa.esig.dss.spi.tsl.OtherTSLPointer;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.dto.ParsingCacheDTO;
+import eu.europa.esig.dss.tsl.function.TrustServicePredicate;
+import eu.europa.esig.dss.tsl.function.TrustServiceProviderPredicate;
+import eu.europa.esig.dss.tsl.source.LOTLSource;
+import eu.europa.esig.dss.tsl.source.TLSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TLSourceBuilderTest {
+
+	private static final String LOTL_URL = "https://ec.europa.eu/tools/lotl/eu-lotl.xml";
+
+	@Test
+	public void defaultConfigurationTest() {
+		LOTLSource lotlSource = new LOTLSource();
+		lotlSource.setUrl(LOTL_URL);
+
+		List<TLSource> tlSources = build(lotlSource);
+		assertEquals(2, tlSources.size());
+		for (TLSource tlSource : tlSources) {
+			assertFalse(tlSource.isStreamingParsing());
+			assertFalse(tlSource.isLightweightValidation());
+		}
+	}
+
+	@Test
+	public void configurationPropagationTest() {
+		TrustServiceProviderPredicate tspPredicate = t -> true;
+		TrustServicePredicate tsPredicate = t -> true;
+
+		LOTLSource lotlSource = new LOTLSource();
+		lotlSource.setUrl(LOTL_URL);
+		lotlSource.setStreamingParsing(true);
+		lotlSource.setLightweightValidation(true);
+		lotlSource.setTrustServiceProviderPredicate(tspPredicate);
+		lotlSource.setTrustServicePredicate(tsPredicate);
+
+		List<TLSource> tlSources = build(lotlSource);
+		assertEquals(2, tlSources.size());
+		assertEquals("https://tsl.belgium.be/tsl-be.xml", tlSources.get(0).getUrl());
+		assertEquals("https://tsl.gov.cz/publ/TSL_CZ.xtsl", tlSources.get(1).getUrl());
+		for (TLSource tlSource : tlSources) {
+			assertTrue(tlSource.isStreamingParsing());
+			assertTrue(tlSource.isLightweightValidation());
+			assertSame(tspPredicate, tlSource.getTrustServiceProviderPredicate());
+			assertSame(tsPredicate, tlSource.getTrustServicePredicate());
+		}
+	}
+
+	private List<TLSource> build(LOTLSource lotlSource) {
+		ParsingCacheDTO parsingResult = new ParsingCacheDTO();
+		parsingResult.setResultExist(true);
+		parsingResult.setTlOtherPointers(Arrays.asList(
+				getPointer("https://tsl.belgium.be/tsl-be.xml"), getPointer("https://tsl.gov.cz/publ/TSL_CZ.xtsl")));
+
+		Map<CacheKey, ParsingCacheDTO> parsingResults = new HashMap<>();
+		parsingResults.put(lotlSource.getCacheKey(), parsingResult);
+		return new TLSourceBuilder(Collections.singletonList(lotlSource), parsingResults).build();
+	}
+
+	private OtherTSLPointer getPointer(String url) {
+		return new OtherTSLPointer.OtherTSLPointerBuilder()
+				.setSdiCertificates(Collections.emptyList())
+				.setTslLocation(url)
+				.build();
+	}
+
+}
@@ -0,0 +1,168 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.metrics;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheType;
+import eu.europa.esig.dss.tsl.job.MockDataLoader;
+import eu.europa.esig.dss.tsl.job.TLValidationJob;
+import eu.europa.esig.dss.tsl.source.TLSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TLValidationJobMetricsTest {
+
+	private static final String SK_URL = "SK";
+	private static final String FR_URL = "FR";
+	private static final String MISSING_URL = "MISSING";
+
+	@TempDir
+	File cacheDirectory;
+
+	@Test
+	public void test() {
+		TLValidationJob job = getJob();
+
+		TLValidationJobMetrics metrics = (TLValidationJobMetrics) job.getMetricsListener();
+		assertEquals(0, metrics.getAnalysisCount());
+
+		job.offlineRefresh();
+
+		assertEquals(3, metrics.getAnalysisCount());
+		assertTrue(metrics.getTotalQueueWaitTime() >= 0);
+
+		assertEquals(3, metrics.getDownloadCount());
+		assertEquals(1, metrics.getDownloadErrorCount());
+		assertTrue(metrics.getDownloadedBytes() > 0);
+		assertEquals(new File("src/test/resources/sk-tl.xml").length(), metrics.getLastDownloadSize(new CacheKey(SK_URL)));
+		assertEquals(0, metrics.getLastDownloadSize(new CacheKey(MISSING_URL)));
+		assertNotNull(metrics.getLastDownloadTime(new CacheKey(FR_URL)));
+
+		assertEquals(2, metrics.getParsingCount());
+		assertEquals(0, metrics.getParsingErrorCount());
+		assertNotNull(metrics.getLastParsingTime(new CacheKey(SK_URL)));
+		assertNull(metrics.getLastParsingTime(new CacheKey(MISSING_URL)));
+
+		assertEquals(2, metrics.getValidationCount());
+		assertEquals(0, metrics.getValidationErrorCount());
+		assertNotNull(metrics.getLastValidationTime(new CacheKey(FR_URL)));
+		assertTrue(metrics.getMaxValidationTime() <= metrics.getTotalValidationTime());
+
+		assertEquals(0, metrics.getCacheHitCount());
+		assertEquals(2, metrics.getCacheMissCount(CacheType.DOWNLOAD));
+		assertEquals(2, metrics.getCacheMissCount(CacheType.PARSING));
+		assertEquals(2, metrics.getCacheMissCount(CacheType.VALIDATION));
+
+		assertEquals(1, metrics.getSynchronizationCount());
+
+		job.offlineRefresh();
+
+		assertEquals(6, metrics.getAnalysisCount());
+		assertEquals(6, metrics.getDownloadCount());
+		assertEquals(2, metrics.getParsingCount());
+		assertEquals(2, metrics.getValidationCount());
+		assertEquals(2, metrics.getCacheHitCount(CacheType.DOWNLOAD));
+		assertEquals(2, metrics.getCacheHitCount(CacheType.PARSING));
+		assertEquals(2, metrics.getCacheHitCount(CacheType.VALIDATION));
+		assertEquals(6, metrics.getCacheMissCount());
+		assertEquals(2, metrics.getSynchronizationCount());
+
+		metrics.reset();
+		assertEquals(0, metrics.getAnalysisCount());
+		assertEquals(0, metrics.getDownloadedBytes());
+		assertEquals(0, metrics.getCacheHitCount());
+		assertNull(metrics.getLastDownloadTime(new CacheKey(FR_URL)));
+	}
+
+	@Test
+	public void jmxTest() throws Exception {
+		TLValidationJob job = getJob();
+		TLValidationJobMetrics metrics = new TLValidationJobMetrics();
+		job.setMetricsListener(metrics);
+
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objectName = new ObjectName("eu.europa.esig.dss:type=TLValidationJobMetrics,name=jmxTest");
+		mBeanServer.registerMBean(metrics, objectName);
+		try {
+			job.offlineRefresh();
+
+			assertEquals(3L, mBeanServer.getAttribute(objectName, "DownloadCount"));
+			assertEquals(2L, mBeanServer.getAttribute(objectName, "ParsingCount"));
+			assertEquals(metrics.getDownloadedBytes(), mBeanServer.getAttribute(objectName, "DownloadedBytes"));
+
+			mBeanServer.invoke(objectName, "reset", null, null);
+			assertEquals(0L, mBeanServer.getAttribute(objectName, "DownloadCount"));
+
+		} finally {
+			mBeanServer.unregisterMBean(objectName);
+		}
+	}
+
+	@Test
+	public void noOpTest() {
+		TLValidationJob job = getJob();
+		job.setMetricsListener(NoOpTLValidationJobMetricsListener.getInstance());
+		job.offlineRefresh();
+		assertEquals(3, job.getSummary().getNumberOfProcessedTLs());
+	}
+
+	private TLValidationJob getJob() {
+		Map<String, DSSDocument> urlMap = new HashMap<>();
+		urlMap.put(SK_URL, new FileDocument("src/test/resources/sk-tl.xml"));
+		urlMap.put(FR_URL, new FileDocument("src/test/resources/fr.xml"));
+
+		FileCacheDataLoader offlineFileLoader = new FileCacheDataLoader();
+		offlineFileLoader.setCacheExpirationTime(Long.MAX_VALUE);
+		offlineFileLoader.setDataLoader(new MockDataLoader(urlMap));
+		offlineFileLoader.setFileCacheDirectory(cacheDirectory);
+
+		TLValidationJob job = new TLValidationJob();
+		job.setTrustedListSources(getTLSource(SK_URL), getTLSource(FR_URL), getTLSource(MISSING_URL));
+		job.setOfflineDataLoader(offlineFileLoader);
+		job.setTrustedListCertificateSource(new TrustedListsCertificateSource());
+		return job;
+	}
+
+	private TLSource getTLSource(String url) {
+		TLSource tlSource = new TLSource();
+		tlSource.setUrl(url);
+		tlSource.setCertificateSource(new CommonCertificateSource());
+		return tlSource;
+	}
+
+}
@@ -32,9 +32,15 @@ import eu.europa.esig.dss.tsl.source.LOTLSource;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -329,4 +335,62 @@ public class LOTLParsingTaskTest {
 		assertTrue(exception.getMessage().contains("Unable to parse binaries"));
 	}
 
+	@Test
+	public void streamingParsing() throws Exception {
+		LOTLSource lotlSource = new LOTLSource();
+		LOTLSource streamingLotlSource = new LOTLSource();
+		streamingLotlSource.setStreamingParsing(true);
+		for (DSSDocument lotl : Arrays.asList(LOTL, LOTL_NO_SIG, TL)) {
+			assertSameResult(new LOTLParsingTask(lotl, lotlSource).get(), new LOTLParsingTask(lotl, streamingLotlSource).get());
+		}
+
+		lotlSource.setPivotSupport(true);
+		streamingLotlSource.setPivotSupport(true);
+		assertSameResult(new LOTLParsingTask(LOTL_PIVOT, lotlSource).get(), new LOTLParsingTask(LOTL_PIVOT, streamingLotlSource).get());
+
+		lotlSource = new LOTLSource();
+		lotlSource.setMraSupport(true);
+		lotlSource.setTlPredicate(new XMLOtherTSLPointer());
+		streamingLotlSource = new LOTLSource();
+		streamingLotlSource.setMraSupport(true);
+		streamingLotlSource.setTlPredicate(new XMLOtherTSLPointer());
+		streamingLotlSource.setStreamingParsing(true);
+		LOTLParsingResult streamingResult = new LOTLParsingTask(LOTL_MRA, streamingLotlSource).get();
+		assertNotNull(streamingResult.getTlPointers().get(streamingResult.getTlPointers().size() - 1).getMra());
+		assertSameResult(new LOTLParsingTask(LOTL_MRA, lotlSource).get(), streamingResult);
+	}
+
+	@Test
+	public void streamingNotParseable() {
+		LOTLSource lotlSource = new LOTLSource();
+		lotlSource.setStreamingParsing(true);
+		LOTLParsingTask task = new LOTLParsingTask(LOTL_NOT_PARSEABLE, lotlSource);
+		DSSException exception = assertThrows(DSSException.class, task::get);
+		assertTrue(exception.getMessage().contains("Unable to parse binaries"));
+	}
+
+	private void assertSameResult(LOTLParsingResult expected, LOTLParsingResult result) throws IOException {
+		assertEquals(expected.getTSLType(), result.getTSLType());
+		assertEquals(expected.getSequenceNumber(), result.getSequenceNumber());
+		assertEquals(expected.getVersion(), result.getVersion());
+		assertEquals(expected.getTerritory(), result.getTerritory());
+		assertEquals(expected.getIssueDate(), result.getIssueDate());
+		assertEquals(expected.getNextUpdateDate(), result.getNextUpdateDate());
+		assertEquals(expected.getDistributionPoints(), result.getDistributionPoints());
+		assertEquals(expected.getSigningCertificateAnnouncementURL(), result.getSigningCertificateAnnouncementURL());
+		assertEquals(expected.getPivotURLs(), result.getPivotURLs());
+		assertEquals(expected.getLotlPointers().size(), result.getLotlPointers().size());
+		assertEquals(expected.getTlPointers().size(), result.getTlPointers().size());
+		assertArrayEquals(serialize(new ArrayList<>(expected.getLotlPointers())), serialize(new ArrayList<>(result.getLotlPointers())));
+		assertArrayEquals(serialize(new ArrayList<>(expected.getTlPointers())), serialize(new ArrayList<>(result.getTlPointers())));
+	}
+
+	private byte[] serialize(Serializable object) throws IOException {
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream(); ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(object);
+			oos.flush();
+			return baos.toByteArray();
+		}
+	}
+
 }
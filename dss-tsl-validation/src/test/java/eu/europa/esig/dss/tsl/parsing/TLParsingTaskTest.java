@@ -23,6 +23,7 @@ package eu.europa.esig.dss.tsl.parsing;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.tsl.ConditionForQualifiers;
@@ -34,20 +35,26 @@ import eu.europa.esig.dss.tsl.function.TrustServicePredicate;
 import eu.europa.esig.dss.tsl.function.TrustServiceProviderPredicate;
 import eu.europa.esig.dss.tsl.source.TLSource;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xml.utils.DomUtils;
 import eu.europa.esig.trustedlist.jaxb.tsl.TSPServiceType;
 import eu.europa.esig.trustedlist.jaxb.tsl.TSPType;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -342,4 +349,74 @@ public class TLParsingTaskTest {
 		assertTrue(qualifiersMax.contains("http://uri.etsi.org/TrstSvc/TrustedList/SvcInfoExt/QCForESeal"));
 	}
 
+	@Test
+	public void streamingParsing() throws Exception {
+		for (DSSDocument tl : Arrays.asList(DE_TL, FR_TL, IE_TL, SK_TL, SK_1911, LOTL)) {
+			TLSource streamingTLSource = new TLSource();
+			streamingTLSource.setStreamingParsing(true);
+			assertSameResult(new TLParsingTask(tl, new TLSource()).get(), new TLParsingTask(tl, streamingTLSource).get());
+		}
+	}
+
+	@Test
+	public void streamingParsingWithPredicates() throws Exception {
+		TLSource tlSource = new TLSource();
+		tlSource.setTrustServiceProviderPredicate(tsp -> !"DE".equals(tsp.getTSPInformation().getTSPName().getName().get(0).getValue()));
+		tlSource.setTrustServicePredicate(ts -> ts.getServiceInformation().getServiceTypeIdentifier().endsWith("CA/QC"));
+
+		TLSource streamingTLSource = new TLSource();
+		streamingTLSource.setTrustServiceProviderPredicate(tlSource.getTrustServiceProviderPredicate());
+		streamingTLSource.setTrustServicePredicate(tlSource.getTrustServicePredicate());
+		streamingTLSource.setStreamingParsing(true);
+
+		for (DSSDocument tl : Arrays.asList(DE_TL, FR_TL, SK_TL)) {
+			TLParsingResult streamingResult = new TLParsingTask(tl, streamingTLSource).get();
+			assertFalse(streamingResult.getTrustServiceProviders().isEmpty());
+			assertSameResult(new TLParsingTask(tl, tlSource).get(), streamingResult);
+		}
+	}
+
+	@Test
+	public void parsingWithSharedDOM() throws Exception {
+		for (DSSDocument tl : Arrays.asList(DE_TL, FR_TL, IE_TL, SK_TL, SK_1911, LOTL)) {
+			assertSameResult(new TLParsingTask(tl, new TLSource()).get(),
+					new TLParsingTask(tl, DomUtils.buildDOM(tl), new TLSource()).get());
+		}
+	}
+
+	@Test
+	public void streamingNotParseable() {
+		TLSource tlSource = new TLSource();
+		tlSource.setStreamingParsing(true);
+
+		TLParsingTask task = new TLParsingTask(LOTL_NOT_PARSEABLE, tlSource);
+		DSSException exception = assertThrows(DSSException.class, () -> task.get());
+		assertTrue(exception.getMessage().contains("Unable to parse binaries"));
+
+		TLParsingTask notTLTask = new TLParsingTask(new InMemoryDocument("<root/>".getBytes()), tlSource);
+		exception = assertThrows(DSSException.class, () -> notTLTask.get());
+		assertTrue(exception.getMessage().contains("Unable to parse binaries"));
+	}
+
+	private void assertSameResult(TLParsingResult expected, TLParsingResult result) throws IOException {
+		assertEquals(expected.getTSLType(), result.getTSLType());
+		assertEquals(expected.getSequenceNumber(), result.getSequenceNumber());
+		assertEquals(expected.getVersion(), result.getVersion());
+		assertEquals(expected.getTerritory(), result.getTerritory());
+		assertEquals(expected.getIssueDate(), result.getIssueDate());
+		assertEquals(expected.getNextUpdateDate(), result.getNextUpdateDate());
+		assertEquals(expected.getDistributionPoints(), result.getDistributionPoints());
+		assertEquals(expected.getTrustServiceProviders().size(), result.getTrustServiceProviders().size());
+		assertArrayEquals(serialize(new ArrayList<>(expected.getTrustServiceProviders())),
+				serialize(new ArrayList<>(result.getTrustServiceProviders())));
+	}
+
+	private byte[] serialize(Serializable object) throws IOException {
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream(); ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(object);
+			oos.flush();
+			return baos.toByteArray();
+		}
+	}
+
 }
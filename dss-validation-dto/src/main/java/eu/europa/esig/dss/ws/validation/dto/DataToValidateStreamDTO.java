@@ -0,0 +1,170 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.dto;
+
+import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
+import eu.europa.esig.dss.ws.dto.RemoteStreamDocument;
+
+import java.util.List;
+
+/**
+ * Represents a validation request DTO, where the documents content is transferred
+ * as MTOM attachments (SOAP only)
+ */
+public class DataToValidateStreamDTO {
+
+	/**
+	 * The document which contains the signature(s)
+	 */
+	private RemoteStreamDocument signedDocument;
+
+	/**
+	 * The original file(s) in case of detached signature
+	 */
+	private List<RemoteStreamDocument> originalDocuments;
+
+	/**
+	 * The custom validation policy to use
+	 */
+	private RemoteStreamDocument policy;
+
+	/**
+	 * The detached evidence records applied to the signature file
+	 */
+	private List<RemoteStreamDocument> evidenceRecords;
+
+	/**
+	 * The strategy for the token (certificate/timestamp/revocation data) extraction
+	 */
+	private TokenExtractionStrategy tokenExtractionStrategy = TokenExtractionStrategy.NONE;
+
+	/**
+	 * Empty constructor
+	 */
+	public DataToValidateStreamDTO() {
+		// empty
+	}
+
+	/**
+	 * Constructor to validate a document
+	 *
+	 * @param signedDocument {@link RemoteStreamDocument} to validate
+	 * @param originalDocuments list of {@link RemoteStreamDocument} detached documents
+	 * @param policy {@link RemoteStreamDocument} validation policy
+	 */
+	public DataToValidateStreamDTO(RemoteStreamDocument signedDocument, List<RemoteStreamDocument> originalDocuments,
+								   RemoteStreamDocument policy) {
+		this.signedDocument = signedDocument;
+		this.originalDocuments = originalDocuments;
+		this.policy = policy;
+	}
+
+	/**
+	 * Gets signed document
+	 *
+	 * @return {@link RemoteStreamDocument}
+	 */
+	public RemoteStreamDocument getSignedDocument() {
+		return signedDocument;
+	}
+
+	/**
+	 * Sets the signed document
+	 *
+	 * @param signedDocument {@link RemoteStreamDocument}
+	 */
+	public void setSignedDocument(RemoteStreamDocument signedDocument) {
+		this.signedDocument = signedDocument;
+	}
+
+	/**
+	 * Gets the original (detached) documents
+	 *
+	 * @return a list of {@link RemoteStreamDocument}s
+	 */
+	public List<RemoteStreamDocument> getOriginalDocuments() {
+		return originalDocuments;
+	}
+
+	/**
+	 * Sets the original (detached) documents
+	 *
+	 * @param originalDocuments a list of {@link RemoteStreamDocument}s
+	 */
+	public void setOriginalDocuments(List<RemoteStreamDocument> originalDocuments) {
+		this.originalDocuments = originalDocuments;
+	}
+
+	/**
+	 * Gets the validation policy
+	 *
+	 * @return {@link RemoteStreamDocument}
+	 */
+	public RemoteStreamDocument getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Sets the validation policy
+	 *
+	 * @param policy {@link RemoteStreamDocument}
+	 */
+	public void setPolicy(RemoteStreamDocument policy) {
+		this.policy = policy;
+	}
+
+	/**
+	 * Gets the detached evidence records
+	 *
+	 * @return a list of {@link RemoteStreamDocument}s
+	 */
+	public List<RemoteStreamDocument> getEvidenceRecords() {
+		return evidenceRecords;
+	}
+
+	/**
+	 * Sets the detached evidence records
+	 *
+	 * @param evidenceRecords a list of {@link RemoteStreamDocument}s
+	 */
+	public void setEvidenceRecords(List<RemoteStreamDocument> evidenceRecords) {
+		this.evidenceRecords = evidenceRecords;
+	}
+
+	/**
+	 * Gets the token extraction strategy
+	 *
+	 * @return {@link TokenExtractionStrategy}
+	 */
+	public TokenExtractionStrategy getTokenExtractionStrategy() {
+		return tokenExtractionStrategy;
+	}
+
+	/**
+	 * Sets the token extraction strategy
+	 *
+	 * @param tokenExtractionStrategy {@link TokenExtractionStrategy}
+	 */
+	public void setTokenExtractionStrategy(TokenExtractionStrategy tokenExtractionStrategy) {
+		this.tokenExtractionStrategy = tokenExtractionStrategy;
+	}
+
+}
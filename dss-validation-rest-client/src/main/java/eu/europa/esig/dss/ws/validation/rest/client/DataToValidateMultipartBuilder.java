@@ -0,0 +1,154 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.rest.client;
+
+import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
+import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds the {@code multipart/form-data} parts for the
+ * {@code RestDocumentValidationService.validateSignatureMultipart} request
+ *
+ */
+public class DataToValidateMultipartBuilder {
+
+	/** The part name of the signed document */
+	public static final String SIGNED_DOCUMENT = "signedDocument";
+
+	/** The part name of an original document (can be repeated) */
+	public static final String ORIGINAL_DOCUMENT = "originalDocument";
+
+	/** The part name of a detached evidence record (can be repeated) */
+	public static final String EVIDENCE_RECORD = "evidenceRecord";
+
+	/** The part name of the validation policy */
+	public static final String POLICY = "policy";
+
+	/** The part name of the token extraction strategy */
+	public static final String TOKEN_EXTRACTION_STRATEGY = "tokenExtractionStrategy";
+
+	/** The list of created parts */
+	private final List<EntityPart> parts = new ArrayList<>();
+
+	/**
+	 * Default constructor
+	 */
+	public DataToValidateMultipartBuilder() {
+		// empty
+	}
+
+	/**
+	 * Sets the document to be validated
+	 *
+	 * @param content {@link InputStream} the document content
+	 * @param fileName {@link String} the document name
+	 * @return this builder
+	 */
+	public DataToValidateMultipartBuilder setSignedDocument(InputStream content, String fileName) {
+		parts.add(buildFilePart(SIGNED_DOCUMENT, content, fileName));
+		return this;
+	}
+
+	/**
+	 * Adds an original document, in case of a detached signature
+	 *
+	 * @param content {@link InputStream} the document content
+	 * @param fileName {@link String} the document name
+	 * @return this builder
+	 */
+	public DataToValidateMultipartBuilder addOriginalDocument(InputStream content, String fileName) {
+		parts.add(buildFilePart(ORIGINAL_DOCUMENT, content, fileName));
+		return this;
+	}
+
+	/**
+	 * Adds a detached evidence record
+	 *
+	 * @param content {@link InputStream} the evidence record content
+	 * @param fileName {@link String} the evidence record name
+	 * @return this builder
+	 */
+	public DataToValidateMultipartBuilder addEvidenceRecord(InputStream content, String fileName) {
+		parts.add(buildFilePart(EVIDENCE_RECORD, content, fileName));
+		return this;
+	}
+
+	/**
+	 * Sets the validation policy to be used
+	 *
+	 * @param content {@link InputStream} the validation policy content
+	 * @param fileName {@link String} the validation policy name
+	 * @return this builder
+	 */
+	public DataToValidateMultipartBuilder setPolicy(InputStream content, String fileName) {
+		parts.add(buildFilePart(POLICY, content, fileName));
+		return this;
+	}
+
+	/**
+	 * Sets the strategy for the token extraction
+	 *
+	 * @param tokenExtractionStrategy {@link TokenExtractionStrategy}
+	 * @return this builder
+	 */
+	public DataToValidateMultipartBuilder setTokenExtractionStrategy(TokenExtractionStrategy tokenExtractionStrategy) {
+		Objects.requireNonNull(tokenExtractionStrategy, "TokenExtractionStrategy cannot be null!");
+		try {
+			parts.add(EntityPart.withName(TOKEN_EXTRACTION_STRATEGY).content(tokenExtractionStrategy.name())
+					.mediaType(MediaType.TEXT_PLAIN_TYPE).build());
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to create a multipart field : %s", e.getMessage()), e);
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the created parts
+	 *
+	 * @return a list of {@link EntityPart}s
+	 */
+	public List<EntityPart> build() {
+		return new ArrayList<>(parts);
+	}
+
+	private EntityPart buildFilePart(String name, InputStream content, String fileName) {
+		Objects.requireNonNull(content, "Content cannot be null!");
+		try {
+			EntityPart.Builder builder = EntityPart.withName(name).content(content)
+					.mediaType(MediaType.APPLICATION_OCTET_STREAM_TYPE);
+			if (fileName != null) {
+				builder.fileName(fileName);
+			}
+			return builder.build();
+		} catch (IOException e) {
+			throw new DSSRemoteServiceException(String.format("Unable to create a multipart field : %s", e.getMessage()), e);
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.EntityPart;
 import jakarta.ws.rs.core.MediaType;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
@@ -57,6 +58,41 @@ public interface RestDocumentValidationService extends Serializable {
 	@Path("validateSignature")
 	WSReportsDTO validateSignature(DataToValidateDTO dataToValidate);
 
+	/**
+	 * This method returns the results of the validation of a batch of signed files.
+	 * The files of the batch are validated together, sharing the validation policies,
+	 * the certificate chains and the revocation data.
+	 * 
+	 * @param dataToValidate
+	 *                       a list of {@code DataToValidateDTO}s, each containing
+	 *                       the signature, the optional original document(s) and the
+	 *                       optional validation policy
+	 * @return a list of {@code ReportsDTO}s, in the order of the requests
+	 */
+	@POST
+	@Path("validateSignatures")
+	List<WSReportsDTO> validateSignatures(List<DataToValidateDTO> dataToValidate);
+
+	/**
+	 * This method returns the result of the validation of the signed file, provided
+	 * as a {@code multipart/form-data} request. Unlike {@code validateSignature},
+	 * the documents are streamed instead of being embedded as base64 within a JSON
+	 * body, thus allowing to validate large files.
+	 * The request parts shall be created with {@code DataToValidateMultipartBuilder}.
+	 * 
+	 * @param parts
+	 *              a list of {@code EntityPart}s which contains the signature,
+	 *              the optional original document(s), the optional evidence
+	 *              record(s), the optional validation policy and the optional
+	 *              token extraction strategy
+	 * @return a {@code ReportsDTO} with  4 reports : the diagnostic data, the
+	 *         detailed report, the simple report and the ETSI validation report
+	 */
+	@POST
+	@Path("validateSignatureMultipart")
+	@Consumes(MediaType.MULTIPART_FORM_DATA)
+	WSReportsDTO validateSignatureMultipart(List<EntityPart> parts);
+
 	/**
 	 * This method returns the original document(s) for the given signed file and
 	 * optionally the signatureId.
@@ -20,12 +20,20 @@
  */
 package eu.europa.esig.dss.ws.validation.rest;
 
+import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.ws.converter.MultipartRequestParser;
+import eu.europa.esig.dss.ws.converter.TempFileDocumentsHandler;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
 import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
 import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
+import eu.europa.esig.dss.ws.validation.rest.client.DataToValidateMultipartBuilder;
 import eu.europa.esig.dss.ws.validation.rest.client.RestDocumentValidationService;
+import jakarta.ws.rs.core.EntityPart;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -58,9 +66,66 @@ public class RestDocumentValidationServiceImpl implements RestDocumentValidation
 		return validationService.validateDocument(dataToValidate);
 	}
 
+	@Override
+	public List<WSReportsDTO> validateSignatures(List<DataToValidateDTO> dataToValidate) {
+		return validationService.validateDocuments(dataToValidate);
+	}
+
+	@Override
+	public WSReportsDTO validateSignatureMultipart(List<EntityPart> parts) {
+		try (TempFileDocumentsHandler documentsHandler = new TempFileDocumentsHandler()) {
+			final MultipartValidationRequest request = new MultipartValidationRequest();
+			new MultipartRequestParser(documentsHandler)
+					.onDocument(DataToValidateMultipartBuilder.SIGNED_DOCUMENT, document -> request.signedDocument = document)
+					.onDocument(DataToValidateMultipartBuilder.ORIGINAL_DOCUMENT, request.originalDocuments::add)
+					.onDocument(DataToValidateMultipartBuilder.EVIDENCE_RECORD, request.evidenceRecords::add)
+					.onDocument(DataToValidateMultipartBuilder.POLICY, document -> request.policy = document)
+					.onContent(DataToValidateMultipartBuilder.TOKEN_EXTRACTION_STRATEGY, String.class,
+							value -> request.tokenExtractionStrategy = toTokenExtractionStrategy(value))
+					.parse(parts);
+			if (request.signedDocument == null) {
+				throw new DSSRemoteServiceException(String.format("The multipart field '%s' is mandatory!",
+						DataToValidateMultipartBuilder.SIGNED_DOCUMENT));
+			}
+			return validationService.validateDocument(request.signedDocument, request.originalDocuments,
+					request.evidenceRecords, request.policy, request.tokenExtractionStrategy);
+		}
+	}
+
+	private static TokenExtractionStrategy toTokenExtractionStrategy(String value) {
+		try {
+			return TokenExtractionStrategy.valueOf(value);
+		} catch (IllegalArgumentException e) {
+			throw new DSSRemoteServiceException(String.format("Invalid value '%s' of the multipart field '%s'!",
+					value, DataToValidateMultipartBuilder.TOKEN_EXTRACTION_STRATEGY), e);
+		}
+	}
+
 	@Override
 	public List<RemoteDocument> getOriginalDocuments(DataToValidateDTO dataToValidate) {
 		return validationService.getOriginalDocuments(dataToValidate);
 	}
 
+	/**
+	 * Contains the data extracted from a multipart validation request
+	 */
+	private static class MultipartValidationRequest {
+
+		/** The document to be validated */
+		private DSSDocument signedDocument;
+
+		/** The original documents in case of a detached signature */
+		private final List<DSSDocument> originalDocuments = new ArrayList<>();
+
+		/** The detached evidence records */
+		private final List<DSSDocument> evidenceRecords = new ArrayList<>();
+
+		/** The custom validation policy */
+		private DSSDocument policy;
+
+		/** The token extraction strategy */
+		private TokenExtractionStrategy tokenExtractionStrategy;
+
+	}
+
 }
@@ -0,0 +1,223 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.common;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.x509.CertificateIssuerCache;
+import eu.europa.esig.dss.spi.x509.aia.AIASource;
+import eu.europa.esig.dss.spi.x509.aia.InMemoryCacheAIASource;
+import eu.europa.esig.dss.spi.x509.aia.RepositoryAIASource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CertificateVerifierBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Defines the data shared between validations of documents within the same batch request.
+ * <p>
+ * The batch uses a copy of the configured {@code CertificateVerifier}, where the issuer cache,
+ * the AIA source and the revocation sources are shared between all the documents of the batch.
+ * Thus, the certificate chains and the revocation data of the common CAs are obtained only once per batch.
+ * The sources already implementing a cache (e.g. {@code RepositoryAIASource}) are used as is.
+ *
+ */
+class BatchValidationContext {
+
+	/** The CertificateVerifier to be used for all documents within the batch */
+	private final CertificateVerifier certificateVerifier;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param certificateVerifier {@link CertificateVerifier} the configured certificate verifier
+	 */
+	BatchValidationContext(final CertificateVerifier certificateVerifier) {
+		this.certificateVerifier = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
+		if (this.certificateVerifier.getCertificateIssuerCache() == null) {
+			this.certificateVerifier.setCertificateIssuerCache(new CertificateIssuerCache());
+		}
+		AIASource aiaSource = this.certificateVerifier.getAIASource();
+		if (aiaSource != null && !(aiaSource instanceof RepositoryAIASource)) {
+			InMemoryCacheAIASource cacheAIASource = new InMemoryCacheAIASource();
+			cacheAIASource.setProxySource(aiaSource);
+			this.certificateVerifier.setAIASource(cacheAIASource);
+		}
+		RevocationSource<CRL> crlSource = this.certificateVerifier.getCrlSource();
+		if (crlSource != null) {
+			this.certificateVerifier.setCrlSource(BatchRevocationSource.wrap(crlSource));
+		}
+		RevocationSource<OCSP> ocspSource = this.certificateVerifier.getOcspSource();
+		if (ocspSource != null) {
+			this.certificateVerifier.setOcspSource(BatchRevocationSource.wrap(ocspSource));
+		}
+	}
+
+	/**
+	 * Gets the CertificateVerifier to be used for validation of documents within the batch
+	 *
+	 * @return {@link CertificateVerifier}
+	 */
+	CertificateVerifier getCertificateVerifier() {
+		return certificateVerifier;
+	}
+
+	/**
+	 * Keeps the revocation data obtained from the proxied source for the lifetime of the batch.
+	 * Concurrent requests for the same certificate are merged into a single call of the proxied source.
+	 *
+	 * @param <R> {@link Revocation}
+	 */
+	private static class BatchRevocationSource<R extends Revocation> implements RevocationSource<R> {
+
+		private static final long serialVersionUID = -3916824370567812374L;
+
+		/** The proxied revocation source */
+		protected final RevocationSource<R> proxiedSource;
+
+		/** The obtained revocation tokens (nullable) by certificate, issuer ids and alternative urls */
+		private final Map<String, CompletableFuture<RevocationToken<R>>> revocationTokens = new ConcurrentHashMap<>();
+
+		/**
+		 * Default constructor
+		 *
+		 * @param proxiedSource {@link RevocationSource} to obtain revocation data from
+		 */
+		BatchRevocationSource(final RevocationSource<R> proxiedSource) {
+			this.proxiedSource = proxiedSource;
+		}
+
+		/**
+		 * Wraps the given revocation source, keeping the support of alternative urls when provided by the source
+		 *
+		 * @param proxiedSource {@link RevocationSource} to obtain revocation data from
+		 * @param <R> {@link Revocation}
+		 * @return {@link BatchRevocationSource}
+		 */
+		static <R extends Revocation> BatchRevocationSource<R> wrap(final RevocationSource<R> proxiedSource) {
+			if (proxiedSource instanceof RevocationSourceAlternateUrlsSupport) {
+				return new BatchAlternateUrlsRevocationSource<>((RevocationSourceAlternateUrlsSupport<R>) proxiedSource);
+			}
+			return new BatchRevocationSource<>(proxiedSource);
+		}
+
+		@Override
+		public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			return getRevocationToken(getKey(certificateToken, issuerCertificateToken, null),
+					() -> proxiedSource.getRevocationToken(certificateToken, issuerCertificateToken));
+		}
+
+		/**
+		 * Builds the key of the revocation token
+		 *
+		 * @param certificateToken {@link CertificateToken} to get revocation data for
+		 * @param issuerCertificateToken {@link CertificateToken} issuer of the certificate
+		 * @param alternativeUrls a list of {@link String} alternative urls, when defined
+		 * @return {@link String} key
+		 */
+		protected String getKey(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+								List<String> alternativeUrls) {
+			StringBuilder sb = new StringBuilder();
+			sb.append(certificateToken.getDSSIdAsString()).append('-');
+			sb.append(issuerCertificateToken != null ? issuerCertificateToken.getDSSIdAsString() : null);
+			if (alternativeUrls != null) {
+				sb.append('-').append(alternativeUrls);
+			}
+			return sb.toString();
+		}
+
+		/**
+		 * Gets the revocation token for the given key, requesting the proxied source when not yet obtained
+		 *
+		 * @param key {@link String} of the revocation token
+		 * @param proxiedRequest {@link Supplier} requesting the proxied source
+		 * @return {@link RevocationToken}
+		 */
+		protected RevocationToken<R> getRevocationToken(String key, Supplier<RevocationToken<R>> proxiedRequest) {
+			final CompletableFuture<RevocationToken<R>> request = new CompletableFuture<>();
+			final CompletableFuture<RevocationToken<R>> existingRequest = revocationTokens.putIfAbsent(key, request);
+			if (existingRequest != null) {
+				try {
+					return existingRequest.join();
+				} catch (CompletionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+					throw e;
+				}
+			}
+
+			try {
+				RevocationToken<R> revocationToken = proxiedRequest.get();
+				request.complete(revocationToken);
+				return revocationToken;
+
+			} catch (RuntimeException e) {
+				// failures are not kept, the next request will retry
+				revocationTokens.remove(key, request);
+				request.completeExceptionally(e);
+				throw e;
+			}
+		}
+
+	}
+
+	/**
+	 * The {@code BatchRevocationSource} used for a proxied source supporting alternative urls (e.g. from trusted lists).
+	 * The alternative urls are part of the key of the kept revocation data.
+	 *
+	 * @param <R> {@link Revocation}
+	 */
+	private static class BatchAlternateUrlsRevocationSource<R extends Revocation> extends BatchRevocationSource<R>
+			implements RevocationSourceAlternateUrlsSupport<R> {
+
+		private static final long serialVersionUID = 2571068217352447236L;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param proxiedSource {@link RevocationSourceAlternateUrlsSupport} to obtain revocation data from
+		 */
+		BatchAlternateUrlsRevocationSource(final RevocationSourceAlternateUrlsSupport<R> proxiedSource) {
+			super(proxiedSource);
+		}
+
+		@Override
+		public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+													 List<String> alternativeUrls) {
+			return getRevocationToken(getKey(certificateToken, issuerCertificateToken, alternativeUrls),
+					() -> ((RevocationSourceAlternateUrlsSupport<R>) proxiedSource).getRevocationToken(
+							certificateToken, issuerCertificateToken, alternativeUrls));
+		}
+
+	}
+
+}
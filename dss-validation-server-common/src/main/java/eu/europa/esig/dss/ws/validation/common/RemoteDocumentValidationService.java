@@ -20,10 +20,13 @@
  */
 package eu.europa.esig.dss.ws.validation.common;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.TokenExtractionStrategy;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.policy.ValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.validation.CertificateVerifier;
@@ -37,9 +40,15 @@ import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * The remote validation service
@@ -54,6 +63,9 @@ public class RemoteDocumentValidationService {
 	/** The validation policy to be used by default */
 	private ValidationPolicy defaultValidationPolicy;
 
+	/** The executor used to validate the documents of a batch request (sequential processing when null) */
+	private ExecutorService batchValidationExecutor;
+
 	/**
 	 * Default construction instantiating object with null certificate verifier
 	 */
@@ -92,6 +104,17 @@ public class RemoteDocumentValidationService {
 		this.defaultValidationPolicy = validationPolicy;
 	}
 
+	/**
+	 * Sets the executor used to validate concurrently the documents provided within a batch request.
+	 * The executor is not shut down by the service.
+	 * When not defined, the documents of a batch are validated sequentially.
+	 *
+	 * @param batchValidationExecutor {@link ExecutorService}
+	 */
+	public void setBatchValidationExecutor(ExecutorService batchValidationExecutor) {
+		this.batchValidationExecutor = batchValidationExecutor;
+	}
+
 	/**
 	 * Validates the document
 	 *
@@ -102,20 +125,128 @@ public class RemoteDocumentValidationService {
 		LOG.info("ValidateDocument in process...");
 		SignedDocumentValidator validator = initValidator(dataToValidate);
 
-		Reports reports;
+		ValidationPolicy validationPolicy = null;
+		RemoteDocument policy = dataToValidate.getPolicy();
+		if (policy != null) {
+			validationPolicy = getValidationPolicy(RemoteDocumentConverter.toDSSDocument(policy));
+		}
+
+		WSReportsDTO reportsDTO = validate(validator, validationPolicy);
+		LOG.info("ValidateDocument is finished");
+		return reportsDTO;
+	}
+
+	/**
+	 * Validates the document provided as a {@code DSSDocument}.
+	 * This method allows the remote services to process documents received as a stream
+	 * (e.g. stored in temporary files), without loading them into the memory.
+	 *
+	 * @param signedDocument {@link DSSDocument} the document to be validated
+	 * @param originalDocuments a list of {@link DSSDocument}s the original documents in case of a detached signature
+	 * @param evidenceRecords a list of {@link DSSDocument}s the detached evidence records
+	 * @param policy {@link DSSDocument} the custom validation policy to be used, when defined
+	 * @param tokenExtractionStrategy {@link TokenExtractionStrategy} to use, when defined
+	 * @return {@link WSReportsDTO} response
+	 */
+	public WSReportsDTO validateDocument(DSSDocument signedDocument, List<DSSDocument> originalDocuments,
+										 List<DSSDocument> evidenceRecords, DSSDocument policy,
+										 TokenExtractionStrategy tokenExtractionStrategy) {
+		LOG.info("ValidateDocument in process...");
+		SignedDocumentValidator validator = initValidator(signedDocument, originalDocuments, evidenceRecords, tokenExtractionStrategy);
+
+		ValidationPolicy validationPolicy = null;
+		if (policy != null) {
+			validationPolicy = getValidationPolicy(policy);
+		}
+
+		WSReportsDTO reportsDTO = validate(validator, validationPolicy);
+		LOG.info("ValidateDocument is finished");
+		return reportsDTO;
+	}
+
+	/**
+	 * Validates a batch of documents.
+	 * The documents of the batch share the validation policies, the certificate issuers
+	 * and the data obtained from the AIA, CRL and OCSP sources, thus the common data is processed only once.
+	 * When a batch validation executor is defined, the documents are validated concurrently.
+	 *
+	 * @param dataToValidateList a list of {@link DataToValidateDTO} requests
+	 * @return a list of {@link WSReportsDTO} responses, in the order of the requests
+	 */
+	public List<WSReportsDTO> validateDocuments(List<DataToValidateDTO> dataToValidateList) {
+		LOG.info("ValidateDocuments in process...");
+		if (Utils.isCollectionEmpty(dataToValidateList)) {
+			return Collections.emptyList();
+		}
+
+		final BatchValidationContext batchValidationContext = new BatchValidationContext(verifier);
+		final Map<String, ValidationPolicy> validationPolicies = new ConcurrentHashMap<>();
+
+		final List<WSReportsDTO> result = new ArrayList<>();
+		if (batchValidationExecutor == null) {
+			for (DataToValidateDTO dataToValidate : dataToValidateList) {
+				result.add(validateDocument(dataToValidate, batchValidationContext, validationPolicies));
+			}
+
+		} else {
+			final List<Future<WSReportsDTO>> futures = new ArrayList<>();
+			for (DataToValidateDTO dataToValidate : dataToValidateList) {
+				futures.add(batchValidationExecutor.submit(() ->
+						validateDocument(dataToValidate, batchValidationContext, validationPolicies)));
+			}
+			try {
+				for (Future<WSReportsDTO> future : futures) {
+					result.add(future.get());
+				}
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DSSRemoteServiceException(String.format("The batch validation has been interrupted : %s", e.getMessage()), e);
+
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new DSSRemoteServiceException(String.format("Unable to validate the batch : %s", e.getMessage()), e);
+
+			} finally {
+				for (Future<WSReportsDTO> future : futures) {
+					future.cancel(true);
+				}
+			}
+		}
+
+		LOG.info("ValidateDocuments is finished ({} documents)", result.size());
+		return result;
+	}
+
+	private WSReportsDTO validateDocument(DataToValidateDTO dataToValidate, BatchValidationContext batchValidationContext,
+										  Map<String, ValidationPolicy> validationPolicies) {
+		SignedDocumentValidator validator = initValidator(dataToValidate);
+		validator.setCertificateVerifier(batchValidationContext.getCertificateVerifier());
+
+		ValidationPolicy validationPolicy = null;
 		RemoteDocument policy = dataToValidate.getPolicy();
 		if (policy != null) {
-			reports = validator.validateDocument(getValidationPolicy(policy));
+			DSSDocument policyDocument = RemoteDocumentConverter.toDSSDocument(policy);
+			String policyKey = Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA256, policyDocument));
+			validationPolicy = validationPolicies.computeIfAbsent(policyKey, k -> getValidationPolicy(policyDocument));
+		}
+
+		return validate(validator, validationPolicy);
+	}
+
+	private WSReportsDTO validate(SignedDocumentValidator validator, ValidationPolicy validationPolicy) {
+		Reports reports;
+		if (validationPolicy != null) {
+			reports = validator.validateDocument(validationPolicy);
 		} else if (defaultValidationPolicy != null) {
 			reports = validator.validateDocument(defaultValidationPolicy);
 		} else {
 			reports = validator.validateDocument();
 		}
-
-		WSReportsDTO reportsDTO = new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(), 
+		return new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(),
 				reports.getDetailedReportJaxb(), reports.getEtsiValidationReportJaxb());
-		LOG.info("ValidateDocument is finished");
-		return reportsDTO;
 	}
 
 	/**
@@ -143,9 +274,9 @@ public class RemoteDocumentValidationService {
 		return remoteDocuments;
 	}
 
-	private ValidationPolicy getValidationPolicy(RemoteDocument policy) {
-		try (ByteArrayInputStream bais = new ByteArrayInputStream(policy.getBytes())) {
-			return ValidationPolicyFacade.newFacade().getValidationPolicy(bais);
+	private ValidationPolicy getValidationPolicy(DSSDocument policy) {
+		try (InputStream is = policy.openStream()) {
+			return ValidationPolicyFacade.newFacade().getValidationPolicy(is);
 		} catch (Exception e) {
 			throw new IllegalInputException(String.format("Unable to load the validation policy : %s", e.getMessage()), e);
 		}
@@ -158,18 +289,35 @@ public class RemoteDocumentValidationService {
 	 * @return {@link SignedDocumentValidator}
 	 */
 	protected SignedDocumentValidator initValidator(DataToValidateDTO dataToValidate) {
-		DSSDocument signedDocument = RemoteDocumentConverter.toDSSDocument(dataToValidate.getSignedDocument());
+		return initValidator(RemoteDocumentConverter.toDSSDocument(dataToValidate.getSignedDocument()),
+				RemoteDocumentConverter.toDSSDocuments(dataToValidate.getOriginalDocuments()),
+				RemoteDocumentConverter.toDSSDocuments(dataToValidate.getEvidenceRecords()),
+				dataToValidate.getTokenExtractionStrategy());
+	}
+
+	/**
+	 * Instantiates a {@code SignedDocumentValidator} based on the provided documents
+	 *
+	 * @param signedDocument {@link DSSDocument} the document to be validated
+	 * @param originalDocuments a list of {@link DSSDocument}s the original documents in case of a detached signature
+	 * @param evidenceRecords a list of {@link DSSDocument}s the detached evidence records
+	 * @param tokenExtractionStrategy {@link TokenExtractionStrategy} to use, when defined
+	 * @return {@link SignedDocumentValidator}
+	 */
+	protected SignedDocumentValidator initValidator(DSSDocument signedDocument, List<DSSDocument> originalDocuments,
+													List<DSSDocument> evidenceRecords,
+													TokenExtractionStrategy tokenExtractionStrategy) {
 		SignedDocumentValidator signedDocValidator = SignedDocumentValidator.fromDocument(signedDocument);
-		if (Utils.isCollectionNotEmpty(dataToValidate.getOriginalDocuments())) {
-			signedDocValidator.setDetachedContents(RemoteDocumentConverter.toDSSDocuments(dataToValidate.getOriginalDocuments()));
+		if (Utils.isCollectionNotEmpty(originalDocuments)) {
+			signedDocValidator.setDetachedContents(originalDocuments);
 		}
-		if (Utils.isCollectionNotEmpty(dataToValidate.getEvidenceRecords())) {
-			signedDocValidator.setDetachedEvidenceRecordDocuments(RemoteDocumentConverter.toDSSDocuments(dataToValidate.getEvidenceRecords()));
+		if (Utils.isCollectionNotEmpty(evidenceRecords)) {
+			signedDocValidator.setDetachedEvidenceRecordDocuments(evidenceRecords);
 		}
 		signedDocValidator.setCertificateVerifier(verifier);
 		// If null, uses default (NONE)
-		if (dataToValidate.getTokenExtractionStrategy() != null) {
-			signedDocValidator.setTokenExtractionStrategy(dataToValidate.getTokenExtractionStrategy());
+		if (tokenExtractionStrategy != null) {
+			signedDocValidator.setTokenExtractionStrategy(tokenExtractionStrategy);
 		}
 		return signedDocValidator;
 	}
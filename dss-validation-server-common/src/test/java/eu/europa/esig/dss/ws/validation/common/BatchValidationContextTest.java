@@ -0,0 +1,159 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.common;
+
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchValidationContextTest {
+
+	private CertificateToken certificate;
+
+	private CertificateToken issuer;
+
+	@BeforeEach
+	public void init() {
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		List<CertificateToken> certificates = validator.getSignatures().get(0).getCertificates();
+		certificate = certificates.get(0);
+		issuer = certificates.get(1);
+	}
+
+	@Test
+	public void alternateUrlsSupportTest() {
+		MockAlternateUrlsOCSPSource ocspSource = new MockAlternateUrlsOCSPSource();
+		MockCRLSource crlSource = new MockCRLSource();
+
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setOcspSource(ocspSource);
+		certificateVerifier.setCrlSource(crlSource);
+
+		BatchValidationContext batchValidationContext = new BatchValidationContext(certificateVerifier);
+		RevocationSource<OCSP> batchOCSPSource = batchValidationContext.getCertificateVerifier().getOcspSource();
+		assertTrue(batchOCSPSource instanceof RevocationSourceAlternateUrlsSupport);
+		RevocationSource<CRL> batchCRLSource = batchValidationContext.getCertificateVerifier().getCrlSource();
+		assertFalse(batchCRLSource instanceof RevocationSourceAlternateUrlsSupport);
+
+		RevocationSourceAlternateUrlsSupport<OCSP> alternateUrlsOCSPSource = (RevocationSourceAlternateUrlsSupport<OCSP>) batchOCSPSource;
+		List<String> urls = Collections.singletonList("http://ocsp.example.com");
+		alternateUrlsOCSPSource.getRevocationToken(certificate, issuer, urls);
+		alternateUrlsOCSPSource.getRevocationToken(certificate, issuer, urls);
+		assertEquals(1, ocspSource.alternateUrlsCalls.get());
+		assertEquals(urls, ocspSource.lastAlternativeUrls);
+
+		List<String> otherUrls = Arrays.asList("http://ocsp.example.com", "http://ocsp2.example.com");
+		alternateUrlsOCSPSource.getRevocationToken(certificate, issuer, otherUrls);
+		assertEquals(2, ocspSource.alternateUrlsCalls.get());
+		assertEquals(otherUrls, ocspSource.lastAlternativeUrls);
+
+		alternateUrlsOCSPSource.getRevocationToken(certificate, issuer);
+		alternateUrlsOCSPSource.getRevocationToken(certificate, issuer);
+		assertEquals(1, ocspSource.calls.get());
+		assertEquals(2, ocspSource.alternateUrlsCalls.get());
+
+		batchCRLSource.getRevocationToken(certificate, issuer);
+		batchCRLSource.getRevocationToken(certificate, issuer);
+		batchCRLSource.getRevocationToken(issuer, null);
+		assertEquals(2, crlSource.calls.get());
+	}
+
+	@Test
+	public void failedRequestNotKeptTest() {
+		MockCRLSource crlSource = new MockCRLSource();
+		crlSource.fail = true;
+
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setCrlSource(crlSource);
+
+		RevocationSource<CRL> batchCRLSource = new BatchValidationContext(certificateVerifier).getCertificateVerifier().getCrlSource();
+		for (int i = 0; i < 2; i++) {
+			try {
+				batchCRLSource.getRevocationToken(certificate, issuer);
+			} catch (IllegalStateException e) {
+				// expected
+			}
+		}
+		assertEquals(2, crlSource.calls.get());
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockAlternateUrlsOCSPSource implements RevocationSourceAlternateUrlsSupport<OCSP> {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private final AtomicInteger alternateUrlsCalls = new AtomicInteger();
+
+		private List<String> lastAlternativeUrls;
+
+		@Override
+		public RevocationToken<OCSP> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			calls.incrementAndGet();
+			return null;
+		}
+
+		@Override
+		public RevocationToken<OCSP> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+														List<String> alternativeUrls) {
+			alternateUrlsCalls.incrementAndGet();
+			lastAlternativeUrls = alternativeUrls;
+			return null;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockCRLSource implements RevocationSource<CRL> {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private boolean fail;
+
+		@Override
+		public RevocationToken<CRL> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			calls.incrementAndGet();
+			if (fail) {
+				throw new IllegalStateException("Unable to obtain the CRL");
+			}
+			return null;
+		}
+
+	}
+
+}
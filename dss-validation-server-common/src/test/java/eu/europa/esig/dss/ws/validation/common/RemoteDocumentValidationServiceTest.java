@@ -20,6 +20,8 @@
  */
 package eu.europa.esig.dss.ws.validation.common;
 
+import eu.europa.esig.dss.diagnostic.CertificateRevocationWrapper;
+import eu.europa.esig.dss.diagnostic.CertificateWrapper;
 import eu.europa.esig.dss.diagnostic.DiagnosticData;
 import eu.europa.esig.dss.diagnostic.SignatureWrapper;
 import eu.europa.esig.dss.diagnostic.jaxb.XmlDigestMatcher;
@@ -48,9 +50,14 @@ import jakarta.xml.bind.Unmarshaller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -116,6 +123,15 @@ public class RemoteDocumentValidationServiceTest {
 		assertEquals("QES AdESQC TL based (Test WebServices)", result.getSimpleReport().getValidationPolicy().getPolicyName());
 	}
 
+	@Test
+	public void testDSSDocumentsWithPolicyAndOriginalFile() throws Exception {
+		WSReportsDTO result = validationService.validateDocument(new FileDocument("src/test/resources/xades-detached.xml"),
+				Collections.singletonList(new FileDocument("src/test/resources/sample.png")), null,
+				new FileDocument("src/test/resources/constraint.xml"), TokenExtractionStrategy.NONE);
+		validateReports(result);
+		assertEquals("QES AdESQC TL based (Test WebServices)", result.getSimpleReport().getValidationPolicy().getPolicyName());
+	}
+
 	@Test
 	public void testWithDefaultPolicyAndOriginalFile() throws Exception {
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
@@ -194,6 +210,73 @@ public class RemoteDocumentValidationServiceTest {
 		assertFalse(signature.isBLevelTechnicallyValid()); // no original data provided
 	}
 
+	@Test
+	public void testBatchValidation() throws Exception {
+		List<DataToValidateDTO> batch = getBatch();
+		List<WSReportsDTO> result = validationService.validateDocuments(batch);
+		validateBatchReports(batch, result);
+	}
+
+	@Test
+	public void testBatchValidationWithExecutor() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			validationService.setBatchValidationExecutor(executorService);
+			List<DataToValidateDTO> batch = getBatch();
+			List<WSReportsDTO> result = validationService.validateDocuments(batch);
+			validateBatchReports(batch, result);
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void testEmptyBatchValidation() {
+		assertTrue(validationService.validateDocuments(Collections.emptyList()).isEmpty());
+	}
+
+	private List<DataToValidateDTO> getBatch() {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+		RemoteDocument policy = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"));
+		RemoteDocument signedFileLTA = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		return Arrays.asList(new DataToValidateDTO(signedFile, originalFile, policy),
+				new DataToValidateDTO(signedFileLTA, (RemoteDocument) null, null),
+				new DataToValidateDTO(signedFile, originalFile, null),
+				new DataToValidateDTO(signedFileLTA, (RemoteDocument) null, policy));
+	}
+
+	private void validateBatchReports(List<DataToValidateDTO> batch, List<WSReportsDTO> result) throws Exception {
+		assertEquals(batch.size(), result.size());
+		for (int i = 0; i < batch.size(); i++) {
+			WSReportsDTO reportsDTO = result.get(i);
+			validateReports(reportsDTO);
+
+			WSReportsDTO expected = validationService.validateDocument(batch.get(i));
+			assertEquals(expected.getSimpleReport().getValidationPolicy().getPolicyName(),
+					reportsDTO.getSimpleReport().getValidationPolicy().getPolicyName());
+			assertEquals(expected.getDiagnosticData().getSignatures().get(0).getId(),
+					reportsDTO.getDiagnosticData().getSignatures().get(0).getId());
+			assertEquals(expected.getSimpleReport().getSignatureOrTimestampOrEvidenceRecord().get(0).getIndication(),
+					reportsDTO.getSimpleReport().getSignatureOrTimestampOrEvidenceRecord().get(0).getIndication());
+			assertEquals(getUsedRevocationData(expected), getUsedRevocationData(reportsDTO));
+		}
+	}
+
+	private Map<String, List<String>> getUsedRevocationData(WSReportsDTO reportsDTO) {
+		DiagnosticData diagnosticData = new DiagnosticData(reportsDTO.getDiagnosticData());
+		Map<String, List<String>> revocationDataByCertificate = new TreeMap<>();
+		for (CertificateWrapper certificate : diagnosticData.getUsedCertificates()) {
+			List<String> revocationIds = new ArrayList<>();
+			for (CertificateRevocationWrapper revocationWrapper : certificate.getCertificateRevocationData()) {
+				revocationIds.add(revocationWrapper.getId());
+			}
+			Collections.sort(revocationIds);
+			revocationDataByCertificate.put(certificate.getId(), revocationIds);
+		}
+		return revocationDataByCertificate;
+	}
+
 	@Test
 	public void testGetOriginals() throws Exception {
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
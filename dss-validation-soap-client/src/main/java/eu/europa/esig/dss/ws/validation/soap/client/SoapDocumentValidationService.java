@@ -29,6 +29,7 @@ import jakarta.jws.WebService;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
+import eu.europa.esig.dss.ws.validation.dto.DataToValidateStreamDTO;
 import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 
 /**
@@ -54,6 +55,35 @@ public interface SoapDocumentValidationService extends Serializable {
 	@WebResult(name = "WSReportsDTO")
 	WSReportsDTO validateSignature(@WebParam(name = "dataToValidateDTO") DataToValidateDTO dataToValidate);
 
+	/**
+	 * This method returns the results of the validation of a batch of signed files.
+	 * The files of the batch are validated together, sharing the validation policies,
+	 * the certificate chains and the revocation data.
+	 * 
+	 * @param dataToValidate
+	 *                       a list of {@code DataToValidateDTO}s, each containing
+	 *                       the signature, the optional original document(s) and the
+	 *                       optional validation policy
+	 * @return a list of {@code WSReportsDTO}s, in the order of the requests
+	 */
+	@WebResult(name = "WSReportsDTO")
+	List<WSReportsDTO> validateSignatures(@WebParam(name = "dataToValidateDTO") List<DataToValidateDTO> dataToValidate);
+
+	/**
+	 * This method returns the result of the validation of the signed file, where
+	 * the documents are transferred as MTOM attachments instead of being embedded
+	 * within the SOAP message
+	 * 
+	 * @param dataToValidate
+	 *                       a {@code DataToValidateStreamDTO} which contains the
+	 *                       signature, the optional original document(s) and the
+	 *                       optional validation policy
+	 * @return a {@code WSReportsDTO} with the 4 reports : the diagnostic data, the
+	 *         detailed report, the simple report and the ETSI validation report
+	 */
+	@WebResult(name = "WSReportsDTO")
+	WSReportsDTO validateSignatureStream(@WebParam(name = "dataToValidateDTO") DataToValidateStreamDTO dataToValidate);
+
 	/**
 	 * This method returns the original document(s) for the given signed file and
 	 * optionally the signatureId.
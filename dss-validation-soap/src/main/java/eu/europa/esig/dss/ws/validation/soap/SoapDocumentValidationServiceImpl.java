@@ -20,17 +20,21 @@
  */
 package eu.europa.esig.dss.ws.validation.soap;
 
+import eu.europa.esig.dss.ws.converter.TempFileDocumentsHandler;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
+import eu.europa.esig.dss.ws.validation.dto.DataToValidateStreamDTO;
 import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 import eu.europa.esig.dss.ws.validation.soap.client.SoapDocumentValidationService;
+import jakarta.xml.ws.soap.MTOM;
 
 import java.util.List;
 
 /**
  * SOAP implementation of the validation service
  */
+@MTOM
 @SuppressWarnings("serial")
 public class SoapDocumentValidationServiceImpl implements SoapDocumentValidationService {
 
@@ -58,6 +62,22 @@ public class SoapDocumentValidationServiceImpl implements SoapDocumentValidation
 		return validationService.validateDocument(dataToValidate);
 	}
 
+	@Override
+	public List<WSReportsDTO> validateSignatures(List<DataToValidateDTO> dataToValidate) {
+		return validationService.validateDocuments(dataToValidate);
+	}
+
+	@Override
+	public WSReportsDTO validateSignatureStream(DataToValidateStreamDTO dataToValidate) {
+		try (TempFileDocumentsHandler documentsHandler = new TempFileDocumentsHandler()) {
+			return validationService.validateDocument(documentsHandler.toDSSDocument(dataToValidate.getSignedDocument()),
+					documentsHandler.toDSSDocuments(dataToValidate.getOriginalDocuments()),
+					documentsHandler.toDSSDocuments(dataToValidate.getEvidenceRecords()),
+					documentsHandler.toDSSDocument(dataToValidate.getPolicy()),
+					dataToValidate.getTokenExtractionStrategy());
+		}
+	}
+
 	@Override
 	public List<RemoteDocument> getOriginalDocuments(DataToValidateDTO dataToValidate) {
 		return validationService.getOriginalDocuments(dataToValidate);
@@ -28,6 +28,7 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xades.reference.ComplexTransform;
 import eu.europa.esig.dss.xades.reference.DSSReference;
 import eu.europa.esig.dss.xades.reference.DSSTransform;
 import eu.europa.esig.dss.xades.reference.DSSTransformOutput;
@@ -73,6 +74,7 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -1115,6 +1117,46 @@ public final class DSSXMLUtils {
 		}
 		return bytes;
 	}
+
+	/**
+	 * Applies transforms on the node and writes the result into the given {@code outputStream}
+	 * (e.g. to be used for a digest computation), without materializing the output of the last transform.
+	 * NOTE: the output stream is not closed.
+	 *
+	 * NOTE: writes the original node binaries, if the list of {@code transforms} is empty
+	 *
+	 * @param node         {@link Node} to apply transforms on
+	 * @param transforms   a list of {@link DSSTransform}s to execute on the node
+	 * @param outputStream {@link OutputStream} to write the content obtained after transformations into
+	 */
+	public static void applyTransforms(final Node node, final List<DSSTransform> transforms, final OutputStream outputStream) {
+		if (Utils.isCollectionNotEmpty(transforms)) {
+			DSSTransformOutput output = new DSSTransformOutput(node);
+			Iterator<DSSTransform> iterator = transforms.iterator();
+			while (iterator.hasNext()) {
+				DSSTransform transform = iterator.next();
+				if (iterator.hasNext()) {
+					output = transform.performTransform(output);
+					if (Utils.isArrayEmpty(output.getBytes())) {
+						throw new IllegalInputException(String.format(
+								"Unable to perform the next transform. The %s produced an empty output!", transform));
+					}
+				} else if (transform instanceof ComplexTransform) {
+					((ComplexTransform) transform).performTransform(output, outputStream);
+				} else {
+					transform.performTransform(output).writeTo(outputStream);
+				}
+			}
+
+		} else {
+			try {
+				outputStream.write(DomUtils.getNodeBytes(node));
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to write the node binaries. Reason : %s", e.getMessage()), e);
+			}
+		}
+	}
+
 	/**
 	 * Applies transforms on document content and returns the byte array to be used for a
 	 * digest computation
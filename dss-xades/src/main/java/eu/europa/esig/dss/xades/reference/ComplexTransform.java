@@ -33,6 +33,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map.Entry;
 
 /**
@@ -102,6 +103,30 @@ public abstract class ComplexTransform extends AbstractTransform {
 		}
 	}
 
+	/**
+	 * Executes the transform on the provided {@code DSSTransformOutput} and writes the result
+	 * into the given {@code OutputStream}. A canonicalization output is written directly into the stream,
+	 * without its materialization.
+	 * NOTE: the output stream is not closed.
+	 *
+	 * @param transformOutput {@link DSSTransformOutput}
+	 * @param outputStream {@link OutputStream} to write the transform result into
+	 */
+	public void performTransform(DSSTransformOutput transformOutput, OutputStream outputStream) {
+		try {
+			Transform transform = getTransformObject();
+			XMLSignatureInput xmlSignatureOutput = transform.performTransform(
+					transformOutput.getXmlSignatureInput(), outputStream, true);
+			if (!xmlSignatureOutput.isOutputStreamSet()) {
+				// the transform does not support the output stream (e.g. returns a node-set)
+				new DSSTransformOutput(xmlSignatureOutput).writeTo(outputStream);
+			}
+		} catch (IOException | XMLSecurityException e) {
+			throw new DSSException(String.format("Cannot process transformation [%s] on the given DOM object. Reason : [%s]",
+					algorithm, e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * Gets {@code XMLSignatureInput} for the given node
 	 *
@@ -26,6 +26,7 @@ import org.apache.xml.security.signature.XMLSignatureInput;
 import org.w3c.dom.Node;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Represents an {@code XMLSignatureInput} wrapper
@@ -76,4 +77,18 @@ public class DSSTransformOutput {
         }
     }
 
+    /**
+     * Writes the transform output into the given {@code OutputStream}, without caching the result bytes.
+     * NOTE: the output stream is not closed.
+     *
+     * @param outputStream {@link OutputStream} to write the output into
+     */
+    public void writeTo(OutputStream outputStream) {
+        try {
+            xmlSignatureInput.updateOutputStream(outputStream);
+        } catch (IOException | XMLSecurityException e) {
+            throw new DSSException(String.format("Cannot write Transform output. Reason : [%s]", e.getMessage()), e);
+        }
+    }
+
 }
@@ -20,9 +20,11 @@
  */
 package eu.europa.esig.dss.xades.reference;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.xades.DSSXMLUtils;
 import eu.europa.esig.dss.xades.XAdESSignatureParameters;
@@ -94,6 +96,35 @@ public class ReferenceProcessor {
         return new InMemoryDocument(referenceOutputResult);
     }
 
+    /**
+     * Returns a base64-encoded digest of the output content after processing the given {@code DSSReference},
+     * computed with the digest algorithm defined within the reference.
+     * Unlike {@code #getReferenceOutput}, the transformed content is written directly into the message-digest,
+     * without its materialization.
+     *
+     * @param reference {@link DSSReference} to process
+     * @return {@link String} base64-encoded digest value
+     */
+    public String getReferenceOutputDigest(DSSReference reference) {
+        final DigestAlgorithm digestAlgorithm = reference.getDigestMethodAlgorithm();
+        if (reference.getContents() instanceof DigestDocument) {
+            return reference.getContents().getDigest(digestAlgorithm);
+        }
+
+        Node nodeToTransform = dereferenceNode(reference);
+        if (nodeToTransform == null) {
+            return reference.getContents().getDigest(digestAlgorithm);
+        }
+        List<DSSTransform> transforms = reference.getTransforms();
+        if (isUniqueBase64Transform(transforms)) {
+            return reference.getContents().getDigest(digestAlgorithm);
+        }
+
+        final DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+        DSSXMLUtils.applyTransforms(nodeToTransform, transforms, digestCalculator.getOutputStream());
+        return Utils.toBase64(digestCalculator.getMessageDigest().getValue());
+    }
+
     private Node dereferenceNode(DSSReference reference) {
         Document document = getDocumentToTransform(reference);
         /*
@@ -189,8 +220,7 @@ public class ReferenceProcessor {
                 DSSXMLUtils.incorporateTransforms(referenceDom, dssReference.getTransforms(), namespace);
                 DSSXMLUtils.incorporateDigestMethod(referenceDom, dssReference.getDigestMethodAlgorithm(), namespace);
 
-                DSSDocument documentAfterTransforms = getReferenceOutput(dssReference);
-                String base64EncodedDigestBytes = documentAfterTransforms.getDigest(dssReference.getDigestMethodAlgorithm());
+                String base64EncodedDigestBytes = getReferenceOutputDigest(dssReference);
                 DSSXMLUtils.incorporateDigestValue(referenceDom, base64EncodedDigestBytes, namespace);
             }
         }
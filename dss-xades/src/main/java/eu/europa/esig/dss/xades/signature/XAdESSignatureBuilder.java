@@ -40,6 +40,7 @@ import eu.europa.esig.dss.model.SpDocSpecification;
 import eu.europa.esig.dss.model.UserNotice;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.BaselineBCertificateSelector;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampInclude;
@@ -703,13 +704,9 @@ public abstract class XAdESSignatureBuilder extends XAdESBuilder implements Sign
 		final DigestAlgorithm digestAlgorithm = DSSXMLUtils.getReferenceDigestAlgorithmOrDefault(params);
 		DSSXMLUtils.incorporateDigestMethod(reference, digestAlgorithm, getXmldsigNamespace());
 
-		final byte[] canonicalizedBytes = XMLCanonicalizer.createInstance(signedPropertiesCanonicalizationMethod).canonicalize(getNodeToCanonicalize(signedPropertiesDom));
-		if (LOG.isTraceEnabled()) {
-			LOG.trace("Canonicalization method  --> {}", signedPropertiesCanonicalizationMethod);
-			LOG.trace("Canonicalized REF_2      --> {}", new String(canonicalizedBytes));
-		}
-
-		incorporateDigestValueOfReference(reference, digestAlgorithm, canonicalizedBytes);
+		final Node nodeToCanonicalize = getNodeToCanonicalize(signedPropertiesDom);
+		incorporateDigestValueOfReference(reference, getCanonicalizedNodeDigest(
+				"REF_2", signedPropertiesCanonicalizationMethod, nodeToCanonicalize, digestAlgorithm));
 		
 	}
 	
@@ -746,26 +743,48 @@ public abstract class XAdESSignatureBuilder extends XAdESBuilder implements Sign
 		final DigestAlgorithm digestAlgorithm = DSSXMLUtils.getReferenceDigestAlgorithmOrDefault(params);
 		DSSXMLUtils.incorporateDigestMethod(reference, digestAlgorithm, getXmldsigNamespace());
 		
-		final byte[] canonicalizedBytes = XMLCanonicalizer.createInstance(keyInfoCanonicalizationMethod).canonicalize(getNodeToCanonicalize(keyInfoDom));
+		final Node nodeToCanonicalize = getNodeToCanonicalize(keyInfoDom);
+		incorporateDigestValueOfReference(reference, getCanonicalizedNodeDigest(
+				"REF_KeyInfo", keyInfoCanonicalizationMethod, nodeToCanonicalize, digestAlgorithm));
+	}
+	
+	/**
+	 * Canonicalizes the given {@code node} directly into a message-digest calculator
+	 * and returns the computed digest value.
+	 * When the trace logging is enabled, the node is canonicalized once into a byte array,
+	 * which is logged and digested.
+	 *
+	 * @param referenceName - the name of the reference to be logged
+	 * @param canonicalizationMethod - the canonicalization method to use
+	 * @param node - the {@link Node} to canonicalize
+	 * @param digestAlgorithm - {@link DigestAlgorithm} to use
+	 * @return digest value of the canonicalized node
+	 */
+	private byte[] getCanonicalizedNodeDigest(final String referenceName, final String canonicalizationMethod,
+											  final Node node, final DigestAlgorithm digestAlgorithm) {
+		final DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+		final XMLCanonicalizer canonicalizer = XMLCanonicalizer.createInstance(canonicalizationMethod);
 		if (LOG.isTraceEnabled()) {
-			LOG.trace("Canonicalization method   --> {}", keyInfoCanonicalizationMethod);
-			LOG.trace("Canonicalized REF_KeyInfo --> {}", new String(canonicalizedBytes));
+			final byte[] canonicalizedBytes = canonicalizer.canonicalize(node);
+			LOG.trace("Canonicalization method --> {}", canonicalizationMethod);
+			LOG.trace("Canonicalized {} --> {}", referenceName, new String(canonicalizedBytes));
+			digestCalculator.update(canonicalizedBytes);
+		} else {
+			canonicalizer.canonicalize(node, digestCalculator.getOutputStream());
 		}
-		incorporateDigestValueOfReference(reference, digestAlgorithm, canonicalizedBytes);
+		return digestCalculator.getMessageDigest().getValue();
 	}
-	
+
 	/**
-	 * Creates the ds:DigestValue DOM object for the given {@code canonicalizedBytes}
+	 * Creates the ds:DigestValue DOM object for the given {@code digestValue}
 	 *
 	 * @param referenceDom - the parent element to append new DOM element to
-	 * @param digestAlgorithm - {@link DigestAlgorithm} to use
-	 * @param canonicalizedBytes - canonicalized byte array of the relevant reference DOM to hash
+	 * @param digestValue - digest value of the canonicalized relevant reference DOM
 	 */
-	private void incorporateDigestValueOfReference(final Element referenceDom, final DigestAlgorithm digestAlgorithm,
-												   final byte[] canonicalizedBytes) {
+	private void incorporateDigestValueOfReference(final Element referenceDom, final byte[] digestValue) {
 		final Element digestValueDom = DomUtils.createElementNS(documentDom, getXmldsigNamespace(),
 				XMLDSigElement.DIGEST_VALUE);
-		final String base64EncodedDigestBytes = Utils.toBase64(DSSUtils.digest(digestAlgorithm, canonicalizedBytes));
+		final String base64EncodedDigestBytes = Utils.toBase64(digestValue);
 		final Text textNode = documentDom.createTextNode(base64EncodedDigestBytes);
 		digestValueDom.appendChild(textNode);
 		referenceDom.appendChild(digestValueDom);
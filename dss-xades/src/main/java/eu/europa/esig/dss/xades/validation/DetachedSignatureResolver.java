@@ -24,15 +24,22 @@ import eu.europa.esig.dss.xml.utils.DomUtils;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DigestDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.xmldsig.definition.XMLDSigElement;
 import org.apache.xml.security.signature.XMLSignatureInput;
 import org.apache.xml.security.utils.resolver.ResourceResolverContext;
 import org.apache.xml.security.utils.resolver.ResourceResolverException;
 import org.apache.xml.security.utils.resolver.ResourceResolverSpi;
 import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -65,6 +72,8 @@ public class DetachedSignatureResolver extends ResourceResolverSpi {
 		if (document instanceof DigestDocument) {
 			DigestDocument digestDoc = (DigestDocument) document;
 			return new XMLSignatureInput(digestDoc.getDigest(digestAlgorithm));
+		} else if (isStreamProcessingApplicable(document, context)) {
+			return createFromStream(document);
 		} else {
 			return createFromCommonDocument(document);
 		}
@@ -73,11 +82,52 @@ public class DetachedSignatureResolver extends ResourceResolverSpi {
 	private XMLSignatureInput createFromCommonDocument(DSSDocument document) {
 		// Full binaries are required
 		final XMLSignatureInput result = new XMLSignatureInput(DSSUtils.toByteArray(document));
+		setMimeType(result, document);
+		return result;
+	}
+
+	private XMLSignatureInput createFromStream(DSSDocument document) {
+		// The content is digested on-the-fly, without loading the document into memory.
+		// The document stream is opened on the first read only, as the input may be resolved without being read
+		final XMLSignatureInput result = new XMLSignatureInput(new LazyDocumentInputStream(document));
+		setMimeType(result, document);
+		return result;
+	}
+
+	private void setMimeType(XMLSignatureInput result, DSSDocument document) {
 		final MimeType mimeType = document.getMimeType();
 		if (mimeType != null) {
 			result.setMIMEType(mimeType.getMimeTypeString());
 		}
-		return result;
+	}
+
+	/**
+	 * Checks whether the document content may be provided as a stream.
+	 * The stream processing is applied only for documents not loaded into memory
+	 * and referenced by a ds:Reference without transforms.
+	 *
+	 * @param document {@link DSSDocument} the resolved document
+	 * @param context {@link ResourceResolverContext}
+	 * @return TRUE if the document may be provided as a stream, FALSE otherwise
+	 */
+	private boolean isStreamProcessingApplicable(DSSDocument document, ResourceResolverContext context) {
+		if (document instanceof InMemoryDocument || nullURI(context)) {
+			return false;
+		}
+		final Element referenceElement = context.attr.getOwnerElement();
+		return referenceElement != null && !containsTransforms(referenceElement);
+	}
+
+	private boolean containsTransforms(Element referenceElement) {
+		final NodeList childNodes = referenceElement.getChildNodes();
+		for (int ii = 0; ii < childNodes.getLength(); ii++) {
+			final Node node = childNodes.item(ii);
+			if (Node.ELEMENT_NODE == node.getNodeType() && XMLDSigElement.TRANSFORMS.isSameTagName(node.getLocalName())
+					&& XMLDSigElement.TRANSFORMS.getURI().equals(node.getNamespaceURI())) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private DSSDocument getCurrentDocument(ResourceResolverContext context) throws ResourceResolverException {
@@ -127,4 +177,87 @@ public class DetachedSignatureResolver extends ResourceResolverSpi {
 		return false;
 	}
 
+	/**
+	 * This class opens the stream of the document on the first read, and closes it as soon as its end is reached
+	 * or when the read fails, as the stream is not closed by Santuario after the digest computation.
+	 * The stream is never opened when the input is resolved without being read
+	 * (e.g. on the check whether the content may be dereferenced).
+	 */
+	private static class LazyDocumentInputStream extends InputStream {
+
+		/** The document to read */
+		private final DSSDocument document;
+
+		/** The stream of the document, NULL when not opened yet or already closed */
+		private InputStream stream;
+
+		/** Defines whether the stream has been already consumed or closed */
+		private boolean closed;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param document {@link DSSDocument} to read
+		 */
+		LazyDocumentInputStream(DSSDocument document) {
+			this.document = document;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final InputStream is = getStream();
+			if (is == null) {
+				return -1;
+			}
+			try {
+				int result = is.read();
+				if (result == -1) {
+					close();
+				}
+				return result;
+			} catch (IOException | RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			final InputStream is = getStream();
+			if (is == null) {
+				return -1;
+			}
+			try {
+				int result = is.read(b, off, len);
+				if (result == -1) {
+					close();
+				}
+				return result;
+			} catch (IOException | RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+
+		private InputStream getStream() {
+			if (stream == null && !closed) {
+				stream = document.openStream();
+			}
+			return stream;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+			if (stream != null) {
+				try {
+					stream.close();
+				} finally {
+					stream = null;
+				}
+			}
+		}
+
+	}
+
 }
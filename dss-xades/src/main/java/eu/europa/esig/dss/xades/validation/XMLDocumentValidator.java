@@ -81,10 +81,25 @@ public class XMLDocumentValidator extends SignedDocumentValidator {
 	 *                    The instance of {@code DSSDocument} to validate
 	 */
 	public XMLDocumentValidator(final DSSDocument dssDocument) {
+		this(dssDocument, null);
+	}
+
+	/**
+	 * The constructor for XMLDocumentValidator re-using an already built DOM of the document to validate
+	 * (e.g. when the document has been already parsed by the calling code). The created instance is
+	 * initialised with default {@code XAdESPaths} .
+	 *
+	 * @param dssDocument
+	 *                    The instance of {@code DSSDocument} to validate
+	 * @param dom
+	 *                    {@link Document} built from the {@code dssDocument}. When null, the DOM is built
+	 *                    from the {@code dssDocument}
+	 */
+	public XMLDocumentValidator(final DSSDocument dssDocument, final Document dom) {
 		Objects.requireNonNull(dssDocument, "Document to be validated cannot be null!");
 
 		this.document = dssDocument;
-		this.rootElement = toDomDocument(dssDocument);
+		this.rootElement = dom != null ? dom : toDomDocument(dssDocument);
 
 		xadesPathsHolders = new ArrayList<>();
 		xadesPathsHolders.add(new XAdES111Path());
@@ -0,0 +1,88 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.reference;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.crypto.dsig.CanonicalizationMethod;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReferenceProcessorTest {
+
+    private static final DSSDocument DOCUMENT = new FileDocument("src/test/resources/sample-c14n.xml");
+
+    @Test
+    public void noTransformsTest() {
+        DSSReference reference = getReference("sample-c14n.xml", Collections.emptyList());
+        assertDigestsEqual(reference);
+    }
+
+    @Test
+    public void canonicalizationTest() {
+        DSSReference reference = getReference("sample-c14n.xml", Collections.singletonList(
+                new CanonicalizationTransform(CanonicalizationMethod.EXCLUSIVE)));
+        assertDigestsEqual(reference);
+    }
+
+    @Test
+    public void envelopedAndCanonicalizationTest() {
+        DSSReference reference = getReference("", Arrays.asList(new EnvelopedSignatureTransform(),
+                new CanonicalizationTransform(CanonicalizationMethod.EXCLUSIVE)));
+        assertDigestsEqual(reference);
+    }
+
+    @Test
+    public void xPath2FilterTest() {
+        DSSReference reference = getReference("", Collections.singletonList(
+                new XPath2FilterTransform("/*", "intersect")));
+        assertDigestsEqual(reference);
+    }
+
+    @Test
+    public void base64Test() {
+        DSSReference reference = getReference("sample-c14n.xml", Collections.singletonList(new Base64Transform()));
+        assertDigestsEqual(reference);
+    }
+
+    private DSSReference getReference(String uri, List<DSSTransform> transforms) {
+        DSSReference reference = new DSSReference();
+        reference.setId("r-1");
+        reference.setUri(uri);
+        reference.setContents(DOCUMENT);
+        reference.setDigestMethodAlgorithm(DigestAlgorithm.SHA256);
+        reference.setTransforms(transforms);
+        return reference;
+    }
+
+    private void assertDigestsEqual(DSSReference reference) {
+        ReferenceProcessor referenceProcessor = new ReferenceProcessor();
+        DSSDocument referenceOutput = referenceProcessor.getReferenceOutput(reference);
+        assertEquals(referenceOutput.getDigest(DigestAlgorithm.SHA256), referenceProcessor.getReferenceOutputDigest(reference));
+    }
+
+}
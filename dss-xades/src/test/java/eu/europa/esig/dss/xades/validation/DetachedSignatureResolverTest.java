@@ -23,16 +23,26 @@ package eu.europa.esig.dss.xades.validation;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.model.DigestDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.xml.utils.DomUtils;
 import eu.europa.esig.dss.xml.utils.SantuarioInitializer;
+import org.apache.xml.security.signature.XMLSignatureInput;
 import org.apache.xml.security.utils.resolver.ResourceResolverContext;
 import org.apache.xml.security.utils.resolver.ResourceResolverException;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -253,4 +263,111 @@ public class DetachedSignatureResolverTest {
 		assertNotNull(resolver.engineResolveURI(context));
 	}
 
+	@Test
+	public void fileDocumentWithoutTransforms() throws Exception {
+		FileDocument document = new FileDocument("src/test/resources/sample.png");
+		DetachedSignatureResolver resolver = new DetachedSignatureResolver(Arrays.asList(document), DigestAlgorithm.SHA256);
+
+		Attr attr = getReferenceUriAttribute("<ds:Reference xmlns:ds=\"http://www.w3.org/2000/09/xmldsig#\" URI=\"sample.png\">"
+				+ "<ds:DigestMethod Algorithm=\"http://www.w3.org/2001/04/xmlenc#sha256\"/><ds:DigestValue/></ds:Reference>");
+		ResourceResolverContext context = new ResourceResolverContext(attr, null, false);
+		assertTrue(resolver.engineCanResolveURI(context));
+
+		XMLSignatureInput signatureInput = resolver.engineResolveURI(context);
+		assertNotNull(signatureInput);
+		assertTrue(signatureInput.isOctetStream());
+		assertFalse(signatureInput.isByteArray());
+		assertEquals(MimeTypeEnum.PNG.getMimeTypeString(), signatureInput.getMIMEType());
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		signatureInput.updateOutputStream(baos);
+		assertArrayEquals(DSSUtils.toByteArray(document), baos.toByteArray());
+	}
+
+	@Test
+	public void fileDocumentWithTransforms() throws Exception {
+		FileDocument document = new FileDocument("src/test/resources/sample.xml");
+		DetachedSignatureResolver resolver = new DetachedSignatureResolver(Arrays.asList(document), DigestAlgorithm.SHA256);
+
+		Attr attr = getReferenceUriAttribute("<ds:Reference xmlns:ds=\"http://www.w3.org/2000/09/xmldsig#\" URI=\"sample.xml\">"
+				+ "<ds:Transforms><ds:Transform Algorithm=\"http://www.w3.org/2001/10/xml-exc-c14n#\"/></ds:Transforms>"
+				+ "<ds:DigestMethod Algorithm=\"http://www.w3.org/2001/04/xmlenc#sha256\"/><ds:DigestValue/></ds:Reference>");
+		ResourceResolverContext context = new ResourceResolverContext(attr, null, false);
+		assertTrue(resolver.engineCanResolveURI(context));
+
+		XMLSignatureInput signatureInput = resolver.engineResolveURI(context);
+		assertNotNull(signatureInput);
+		assertTrue(signatureInput.isByteArray());
+		assertArrayEquals(DSSUtils.toByteArray(document), signatureInput.getBytes());
+	}
+
+	@Test
+	public void fileDocumentStreamClosedTest() throws Exception {
+		TrackingFileDocument document = new TrackingFileDocument("src/test/resources/sample.png");
+		DetachedSignatureResolver resolver = new DetachedSignatureResolver(Arrays.asList(document), DigestAlgorithm.SHA256);
+
+		Attr attr = getReferenceUriAttribute("<ds:Reference xmlns:ds=\"http://www.w3.org/2000/09/xmldsig#\" URI=\"sample.png\">"
+				+ "<ds:DigestMethod Algorithm=\"http://www.w3.org/2001/04/xmlenc#sha256\"/><ds:DigestValue/></ds:Reference>");
+		ResourceResolverContext context = new ResourceResolverContext(attr, null, false);
+
+		// resolved without being read (e.g. DSSXMLUtils.isAbleToDeReferenceContent)
+		assertNotNull(resolver.engineResolveURI(context));
+		assertEquals(0, document.openedStreams);
+
+		XMLSignatureInput signatureInput = resolver.engineResolveURI(context);
+		signatureInput.updateOutputStream(new ByteArrayOutputStream());
+		assertEquals(1, document.openedStreams);
+		assertEquals(0, document.notClosedStreams);
+
+		// the stream is closed on a read failure
+		document.failOnRead = true;
+		XMLSignatureInput failingSignatureInput = resolver.engineResolveURI(context);
+		assertThrows(IOException.class, () -> failingSignatureInput.updateOutputStream(new ByteArrayOutputStream()));
+		assertEquals(2, document.openedStreams);
+		assertEquals(0, document.notClosedStreams);
+	}
+
+	@SuppressWarnings("serial")
+	private static class TrackingFileDocument extends FileDocument {
+
+		private int openedStreams;
+
+		private int notClosedStreams;
+
+		private boolean failOnRead;
+
+		TrackingFileDocument(String path) {
+			super(path);
+		}
+
+		@Override
+		public InputStream openStream() {
+			++openedStreams;
+			++notClosedStreams;
+			return new FilterInputStream(super.openStream()) {
+
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException {
+					if (failOnRead) {
+						throw new IOException("Read failure");
+					}
+					return super.read(b, off, len);
+				}
+
+				@Override
+				public void close() throws IOException {
+					--notClosedStreams;
+					super.close();
+				}
+
+			};
+		}
+
+	}
+
+	private Attr getReferenceUriAttribute(String referenceXml) {
+		Document dom = DomUtils.buildDOM(referenceXml);
+		return dom.getDocumentElement().getAttributeNode("URI");
+	}
+
 }
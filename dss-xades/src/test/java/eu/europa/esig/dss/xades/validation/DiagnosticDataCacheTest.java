@@ -0,0 +1,295 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.validation;
+
+import eu.europa.esig.dss.alert.SilentOnStatusAlert;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.cache.DiagnosticDataCache;
+import eu.europa.esig.dss.validation.cache.FileDiagnosticDataCache;
+import eu.europa.esig.dss.validation.cache.InMemoryDiagnosticDataCache;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DiagnosticDataCacheTest {
+
+	private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+	private DSSDocument document;
+
+	private Date validationTime;
+
+	private CommonCertificateVerifier certificateVerifier;
+
+	@BeforeEach
+	public void init() {
+		document = new FileDocument("src/test/resources/dss-817-test.xml");
+		certificateVerifier = new CommonCertificateVerifier();
+		// beginning of the current time interval
+		validationTime = new Date(System.currentTimeMillis() / ONE_HOUR * ONE_HOUR);
+	}
+
+	@Test
+	public void inMemoryCacheTest() {
+		InMemoryDiagnosticDataCache cache = new InMemoryDiagnosticDataCache();
+
+		Reports firstReports = validate(cache, validationTime);
+		assertEquals(1, cache.size());
+
+		Reports secondReports = validate(cache, validationTime);
+		assertEquals(1, cache.size());
+		// a copy is returned
+		assertNotSame(firstReports.getDiagnosticDataJaxb(), secondReports.getDiagnosticDataJaxb());
+		assertEquals(firstReports.getDiagnosticDataJaxb().getSignatures().get(0).getId(),
+				secondReports.getDiagnosticDataJaxb().getSignatures().get(0).getId());
+		assertNotSame(firstReports.getSimpleReportJaxb(), secondReports.getSimpleReportJaxb());
+		assertEquals(firstReports.getSimpleReport().getIndication(firstReports.getSimpleReport().getFirstSignatureId()),
+				secondReports.getSimpleReport().getIndication(secondReports.getSimpleReport().getFirstSignatureId()));
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		Reports thirdReports = validate(cache, validationTime);
+		assertNotSame(firstReports.getDiagnosticDataJaxb(), thirdReports.getDiagnosticDataJaxb());
+	}
+
+	@Test
+	public void validationTimeRefreshedTest() {
+		CountingDiagnosticDataCache cache = new CountingDiagnosticDataCache(new InMemoryDiagnosticDataCache());
+
+		Reports firstReports = validate(cache, validationTime);
+		assertEquals(validationTime, firstReports.getDiagnosticDataJaxb().getValidationDate());
+		assertEquals(0, cache.hits);
+
+		Date secondValidationTime = new Date(validationTime.getTime() + 1000L);
+		Reports secondReports = validate(cache, secondValidationTime);
+		assertEquals(1, cache.hits);
+		assertEquals(secondValidationTime, secondReports.getDiagnosticDataJaxb().getValidationDate());
+		assertEquals(secondValidationTime, secondReports.getSimpleReportJaxb().getValidationTime());
+		// the first result is not altered
+		assertEquals(validationTime, firstReports.getDiagnosticDataJaxb().getValidationDate());
+	}
+
+	@Test
+	public void cachedDataNotAlteredTest() {
+		CountingDiagnosticDataCache cache = new CountingDiagnosticDataCache(new InMemoryDiagnosticDataCache());
+
+		Reports firstReports = validate(cache, validationTime);
+		String signatureId = firstReports.getDiagnosticDataJaxb().getSignatures().get(0).getId();
+		firstReports.getDiagnosticDataJaxb().getSignatures().clear();
+
+		Reports secondReports = validate(cache, validationTime);
+		assertEquals(1, cache.hits);
+		assertEquals(1, secondReports.getDiagnosticDataJaxb().getSignatures().size());
+		assertEquals(signatureId, secondReports.getDiagnosticDataJaxb().getSignatures().get(0).getId());
+		secondReports.getDiagnosticDataJaxb().getSignatures().clear();
+
+		Reports thirdReports = validate(cache, validationTime);
+		assertEquals(2, cache.hits);
+		assertEquals(1, thirdReports.getDiagnosticDataJaxb().getSignatures().size());
+	}
+
+	@Test
+	public void differentTimeBucketTest() {
+		InMemoryDiagnosticDataCache cache = new InMemoryDiagnosticDataCache();
+
+		validate(cache, validationTime);
+		validate(cache, new Date(validationTime.getTime() - ONE_HOUR));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void differentDocumentNameTest() {
+		InMemoryDiagnosticDataCache cache = new InMemoryDiagnosticDataCache();
+
+		Reports firstReports = validate(cache, validationTime);
+		assertEquals(document.getName(), firstReports.getDiagnosticDataJaxb().getDocumentName());
+
+		// the same binaries with another name
+		document = new InMemoryDocument(DSSUtils.toByteArray(document), "renamed.xml");
+		Reports secondReports = validate(cache, validationTime);
+		assertEquals(2, cache.size());
+		assertEquals("renamed.xml", secondReports.getDiagnosticDataJaxb().getDocumentName());
+	}
+
+	@Test
+	public void differentTrustAnchorsTest() {
+		InMemoryDiagnosticDataCache cache = new InMemoryDiagnosticDataCache();
+
+		Reports firstReports = validate(cache, validationTime);
+
+		CommonTrustedCertificateSource trustedCertificateSource = new CommonTrustedCertificateSource();
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(document);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		trustedCertificateSource.addCertificate(validator.getSignatures().get(0).getCertificates().get(0));
+		certificateVerifier.setTrustedCertSources(trustedCertificateSource);
+
+		Reports secondReports = validate(cache, validationTime);
+		assertEquals(2, cache.size());
+		assertNotSame(firstReports.getDiagnosticDataJaxb(), secondReports.getDiagnosticDataJaxb());
+	}
+
+	@Test
+	public void trustedSourceUpdateTest() {
+		InMemoryDiagnosticDataCache cache = new InMemoryDiagnosticDataCache();
+
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(document);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		CertificateToken certificate = validator.getSignatures().get(0).getCertificates().get(0);
+		TrustedListsCertificateSource trustedCertificateSource = new TrustedListsCertificateSource();
+		trustedCertificateSource.setTrustPropertiesByCertificates(Collections.singletonMap(certificate, Collections.emptyList()));
+		certificateVerifier.setTrustedCertSources(trustedCertificateSource);
+
+		validate(cache, validationTime);
+		validate(cache, validationTime);
+		assertEquals(1, cache.size());
+
+		// the trusted lists are refreshed with the same certificates
+		trustedCertificateSource.setTrustPropertiesByCertificates(Collections.singletonMap(certificate, Collections.emptyList()));
+		validate(cache, validationTime);
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void differentCertificateVerifierConfigurationTest() {
+		InMemoryDiagnosticDataCache cache = new InMemoryDiagnosticDataCache();
+
+		validate(cache, validationTime);
+		assertEquals(1, cache.size());
+
+		certificateVerifier.setAlertOnMissingRevocationData(new SilentOnStatusAlert());
+		validate(cache, validationTime);
+		assertEquals(2, cache.size());
+
+		certificateVerifier.setCheckRevocationForUntrustedChains(true);
+		validate(cache, validationTime);
+		assertEquals(3, cache.size());
+
+		certificateVerifier.setAIASource(null);
+		validate(cache, validationTime);
+		assertEquals(4, cache.size());
+	}
+
+	@Test
+	public void expiredEntryTest() {
+		InMemoryDiagnosticDataCache cache = new InMemoryDiagnosticDataCache();
+		cache.setCacheExpirationTime(-1);
+
+		Reports firstReports = validate(cache, validationTime);
+		Reports secondReports = validate(cache, validationTime);
+		assertNotSame(firstReports.getDiagnosticDataJaxb(), secondReports.getDiagnosticDataJaxb());
+	}
+
+	@Test
+	public void fileCacheTest(@TempDir File tempDir) {
+		FileDiagnosticDataCache cache = new FileDiagnosticDataCache(tempDir);
+
+		Reports firstReports = validate(cache, validationTime);
+		File[] files = tempDir.listFiles();
+		assertNotNull(files);
+		assertEquals(1, files.length);
+
+		Date secondValidationTime = new Date(validationTime.getTime() + 1000L);
+		Reports secondReports = validate(cache, secondValidationTime);
+		assertEquals(secondValidationTime, secondReports.getDiagnosticDataJaxb().getValidationDate());
+		assertEquals(firstReports.getDiagnosticDataJaxb().getSignatures().get(0).getId(),
+				secondReports.getDiagnosticDataJaxb().getSignatures().get(0).getId());
+		assertEquals(firstReports.getSimpleReport().getIndication(firstReports.getSimpleReport().getFirstSignatureId()),
+				secondReports.getSimpleReport().getIndication(secondReports.getSimpleReport().getFirstSignatureId()));
+
+		cache.clear();
+		assertNull(cache.get(files[0].getName().replace(".xml", "")));
+		files = tempDir.listFiles();
+		assertNotNull(files);
+		assertEquals(0, files.length);
+	}
+
+	@Test
+	public void fileCacheBrokenEntryTest(@TempDir File tempDir) throws Exception {
+		FileDiagnosticDataCache cache = new FileDiagnosticDataCache(tempDir);
+		assertNull(cache.get("key"));
+
+		XmlDiagnosticData diagnosticData = validate(new InMemoryDiagnosticDataCache(), validationTime).getDiagnosticDataJaxb();
+		cache.put("key", diagnosticData);
+		assertNotNull(cache.get("key"));
+
+		new FileDocument(new File("src/test/resources/sample.txt")).save(new File(tempDir, "key.xml").getPath());
+		assertNull(cache.get("key"));
+	}
+
+	private Reports validate(DiagnosticDataCache cache, Date validationTime) {
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(document);
+		validator.setCertificateVerifier(certificateVerifier);
+		validator.setValidationTime(validationTime);
+		validator.setDiagnosticDataCache(cache);
+		return validator.validateDocument();
+	}
+
+	private static class CountingDiagnosticDataCache implements DiagnosticDataCache {
+
+		private final DiagnosticDataCache cache;
+
+		private int hits;
+
+		private CountingDiagnosticDataCache(DiagnosticDataCache cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public XmlDiagnosticData get(String key) {
+			XmlDiagnosticData diagnosticData = cache.get(key);
+			if (diagnosticData != null) {
+				++hits;
+			}
+			return diagnosticData;
+		}
+
+		@Override
+		public void put(String key, XmlDiagnosticData diagnosticData) {
+			cache.put(key, diagnosticData);
+		}
+
+		@Override
+		public void clear() {
+			cache.clear();
+		}
+
+	}
+
+}
@@ -0,0 +1,96 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.validation;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.spi.trace.ValidationPhase;
+import eu.europa.esig.dss.spi.trace.ValidationTraceListener;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ValidationTraceTest {
+
+	private static final DSSDocument DOCUMENT = new FileDocument("src/test/resources/dss-817-test.xml");
+
+	@Test
+	public void test() {
+		RecordingTraceListener traceListener = new RecordingTraceListener();
+
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(DOCUMENT);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		validator.setValidationTraceListener(traceListener);
+		Reports reports = validator.validateDocument();
+		assertNotNull(reports);
+
+		assertEquals(ValidationPhase.values().length, traceListener.durations.size());
+		for (ValidationPhase phase : ValidationPhase.values()) {
+			assertTrue(traceListener.durations.get(phase) >= 0);
+		}
+		long totalDuration = traceListener.durations.get(ValidationPhase.DOCUMENT_VALIDATION);
+		assertTrue(totalDuration >= traceListener.durations.get(ValidationPhase.VALIDATION_CONTEXT_EXECUTION));
+		assertTrue(totalDuration >= traceListener.durations.get(ValidationPhase.VALIDATION_POLICY_EXECUTION));
+		assertTrue(traceListener.durations.get(ValidationPhase.VALIDATION_CONTEXT_PREPARATION) >=
+				traceListener.durations.get(ValidationPhase.SIGNATURE_CRYPTOGRAPHIC_VERIFICATION));
+	}
+
+	@Test
+	public void skipValidationContextExecutionTest() {
+		RecordingTraceListener traceListener = new RecordingTraceListener();
+
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(DOCUMENT);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		validator.setSkipValidationContextExecution(true);
+		validator.setValidationTraceListener(traceListener);
+		validator.validateDocument();
+
+		assertFalse(traceListener.durations.containsKey(ValidationPhase.VALIDATION_CONTEXT_EXECUTION));
+		assertTrue(traceListener.durations.containsKey(ValidationPhase.DIAGNOSTIC_DATA_BUILDING));
+	}
+
+	private static class RecordingTraceListener implements ValidationTraceListener {
+
+		private final Map<ValidationPhase, Long> durations = new EnumMap<>(ValidationPhase.class);
+
+		@Override
+		public synchronized void phaseCompleted(ValidationPhase phase, long duration) {
+			assertFalse(durations.containsKey(phase));
+			durations.put(phase, duration);
+		}
+
+		@Override
+		public void dataLoaderCallCompleted(String url, long size, long duration, boolean cacheHit, boolean success) {
+			// not used
+		}
+
+	}
+
+}
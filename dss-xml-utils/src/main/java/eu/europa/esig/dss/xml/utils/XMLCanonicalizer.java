@@ -24,13 +24,17 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.utils.Utils;
 import org.apache.xml.security.c14n.Canonicalizer;
 import org.apache.xml.security.c14n.InvalidCanonicalizerException;
+import org.apache.xml.security.utils.XMLUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
 import javax.xml.crypto.dsig.CanonicalizationMethod;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -168,9 +172,30 @@ public class XMLCanonicalizer {
      *             if any error is encountered
      */
     public byte[] canonicalize(InputStream inputStream) throws DSSException {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            canonicalize(inputStream, baos);
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new DSSException("Cannot canonicalize the InputStream", e);
+        }
+    }
+
+    /**
+     * This method canonicalizes the given {@code InputStream} using the defined canonicalization method
+     * and writes the result into the {@code outputStream}, without materializing the canonicalized content.
+     * NOTE: closes the input stream after reading. The output stream is not closed.
+     *
+     * @param inputStream
+     *            {@link InputStream} to canonicalize
+     * @param outputStream
+     *            {@link OutputStream} to write the canonicalized content into
+     * @throws DSSException
+     *             if any error is encountered
+     */
+    public void canonicalize(InputStream inputStream, OutputStream outputStream) throws DSSException {
         try (InputStream is = inputStream) {
-            byte[] byteArray = Utils.toByteArray(is);
-            return canonicalize(byteArray);
+            final Document document = XMLUtils.read(is, true);
+            c14n.canonicalizeSubtree(document, outputStream);
         } catch (Exception e) {
             throw new DSSException("Cannot canonicalize the InputStream", e);
         }
@@ -187,8 +212,27 @@ public class XMLCanonicalizer {
      */
     public byte[] canonicalize(byte[] toCanonicalizeBytes) throws DSSException {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            c14n.canonicalize(toCanonicalizeBytes, baos, true);
+            canonicalize(toCanonicalizeBytes, baos);
             return baos.toByteArray();
+        } catch (IOException e) {
+            throw new DSSException("Cannot canonicalize the binaries", e);
+        }
+    }
+
+    /**
+     * This method canonicalizes the given array of bytes using the defined canonicalization method
+     * and writes the result into the {@code outputStream}. The output stream is not closed.
+     *
+     * @param toCanonicalizeBytes
+     *            array of bytes to canonicalize
+     * @param outputStream
+     *            {@link OutputStream} to write the canonicalized content into
+     * @throws DSSException
+     *             if any error is encountered
+     */
+    public void canonicalize(byte[] toCanonicalizeBytes, OutputStream outputStream) throws DSSException {
+        try {
+            c14n.canonicalize(toCanonicalizeBytes, outputStream, true);
         } catch (Exception e) {
             throw new DSSException("Cannot canonicalize the binaries", e);
         }
@@ -203,8 +247,27 @@ public class XMLCanonicalizer {
      */
     public byte[] canonicalize(final Node node) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            c14n.canonicalizeSubtree(node, baos);
+            canonicalize(node, baos);
             return baos.toByteArray();
+        } catch (IOException e) {
+            throw new DSSException("Cannot canonicalize the subtree", e);
+        }
+    }
+
+    /**
+     * This method canonicalizes the given {@code Node} using the defined canonicalization method
+     * and writes the result into the {@code outputStream}. The output stream is not closed.
+     * Can be used to compute a digest of the canonicalized content without its materialization
+     * (e.g. with a {@code java.security.DigestOutputStream}).
+     *
+     * @param node
+     *            {@code Node} to canonicalize
+     * @param outputStream
+     *            {@link OutputStream} to write the canonicalized content into
+     */
+    public void canonicalize(final Node node, OutputStream outputStream) {
+        try {
+            c14n.canonicalizeSubtree(node, outputStream);
         } catch (Exception e) {
             throw new DSSException("Cannot canonicalize the subtree", e);
         }
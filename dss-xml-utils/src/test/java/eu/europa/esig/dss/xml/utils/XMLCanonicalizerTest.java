@@ -28,7 +28,10 @@ import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 
 import javax.xml.crypto.dsig.CanonicalizationMethod;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -98,4 +101,38 @@ public class XMLCanonicalizerTest {
                 Utils.toBase64(messageDigest.digest(canonicalized)));
     }
 
+    @Test
+    public void canonicalizeToOutputStreamTest() throws Exception {
+        DSSDocument document = new FileDocument("src/test/resources/sample-c14n.xml");
+        XMLCanonicalizer canonicalizer = XMLCanonicalizer.createInstance(CanonicalizationMethod.INCLUSIVE);
+
+        MessageDigest messageDigest = DigestAlgorithm.SHA256.getMessageDigest();
+        try (InputStream is = document.openStream();
+             DigestOutputStream dos = new DigestOutputStream(new NullOutputStream(), messageDigest)) {
+            canonicalizer.canonicalize(is, dos);
+        }
+        assertEquals("/TiBXkCOtm0bSdOukpXHtqSu6G5EPRfwyYH9DJ9YtCE=", Utils.toBase64(messageDigest.digest()));
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            canonicalizer.canonicalize(DomUtils.buildDOM(document), baos);
+            assertEquals("/TiBXkCOtm0bSdOukpXHtqSu6G5EPRfwyYH9DJ9YtCE=",
+                    Utils.toBase64(DigestAlgorithm.SHA256.getMessageDigest().digest(baos.toByteArray())));
+        }
+
+        try (InputStream is = document.openStream(); ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            canonicalizer.canonicalize(Utils.toByteArray(is), baos);
+            assertEquals("/TiBXkCOtm0bSdOukpXHtqSu6G5EPRfwyYH9DJ9YtCE=",
+                    Utils.toBase64(DigestAlgorithm.SHA256.getMessageDigest().digest(baos.toByteArray())));
+        }
+    }
+
+    private static class NullOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+            // do nothing
+        }
+
+    }
+
 }
@@ -0,0 +1,135 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.executor;
+
+import eu.europa.esig.dss.diagnostic.CertificateWrapper;
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.RevocationWrapper;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlCertificate;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlRevocation;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlSignature;
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.simplereport.SimpleReport;
+import eu.europa.esig.dss.validation.executor.signature.DefaultSignatureProcessExecutor;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LargeDiagnosticDataValidationTest extends AbstractTestValidationExecutor {
+
+	private static final String DIAGNOSTIC_DATA_FILE = "src/test/resources/ca-revoked.xml";
+
+	private static final int MIN_NUMBER_OF_TOKENS = 500;
+
+	@Test
+	public void test() throws Exception {
+		XmlDiagnosticData xmlDiagnosticData = loadDiagnosticData();
+		Indication expectedIndication = execute(loadDiagnosticData()).getSimpleReport().getIndication(
+				xmlDiagnosticData.getSignatures().get(0).getId());
+
+		int copies = 0;
+		while (getNumberOfTokens(xmlDiagnosticData) < MIN_NUMBER_OF_TOKENS) {
+			appendCopy(xmlDiagnosticData, ++copies);
+		}
+		int numberOfSignatures = xmlDiagnosticData.getSignatures().size();
+		assertEquals(copies + 1, numberOfSignatures);
+
+		Reports reports = execute(xmlDiagnosticData);
+		assertNotNull(reports.getDetailedReportJaxb());
+		assertNotNull(reports.getEtsiValidationReportJaxb());
+
+		SimpleReport simpleReport = reports.getSimpleReport();
+		assertEquals(numberOfSignatures, simpleReport.getSignaturesCount());
+		for (String signatureId : simpleReport.getSignatureIdList()) {
+			assertEquals(expectedIndication, simpleReport.getIndication(signatureId));
+		}
+
+		DiagnosticData diagnosticData = reports.getDiagnosticData();
+		for (SignatureWrapper signature : diagnosticData.getSignatures()) {
+			assertSame(signature, diagnosticData.getSignatureById(signature.getId()));
+			assertSame(signature.foundCertificates(), signature.foundCertificates());
+			assertSame(signature.foundRevocations(), signature.foundRevocations());
+		}
+		for (CertificateWrapper certificate : diagnosticData.getUsedCertificates()) {
+			assertSame(certificate, diagnosticData.getUsedCertificateById(certificate.getId()));
+			assertSame(certificate, diagnosticData.getCertificateById(certificate.getId()));
+		}
+		for (RevocationWrapper revocation : diagnosticData.getAllRevocationData()) {
+			assertSame(revocation, diagnosticData.getRevocationById(revocation.getId()));
+		}
+		assertNull(diagnosticData.getSignatureById("unknown"));
+		assertNull(diagnosticData.getUsedCertificateById("unknown"));
+		assertNull(diagnosticData.getRevocationById("unknown"));
+	}
+
+	private XmlDiagnosticData loadDiagnosticData() throws Exception {
+		XmlDiagnosticData xmlDiagnosticData = DiagnosticDataFacade.newFacade().unmarshall(new File(DIAGNOSTIC_DATA_FILE));
+		assertNotNull(xmlDiagnosticData);
+		assertEquals(1, xmlDiagnosticData.getSignatures().size());
+		assertTrue(xmlDiagnosticData.getUsedTimestamps() == null || xmlDiagnosticData.getUsedTimestamps().isEmpty());
+		return xmlDiagnosticData;
+	}
+
+	/**
+	 * Appends an independent copy of the signature with its certificates and revocation data,
+	 * with all identifiers suffixed by the given {@code index}
+	 */
+	private void appendCopy(XmlDiagnosticData xmlDiagnosticData, int index) throws Exception {
+		XmlDiagnosticData copy = loadDiagnosticData();
+		String suffix = "-" + index;
+		for (XmlSignature xmlSignature : copy.getSignatures()) {
+			xmlSignature.setId(xmlSignature.getId() + suffix);
+			xmlDiagnosticData.getSignatures().add(xmlSignature);
+		}
+		for (XmlCertificate xmlCertificate : copy.getUsedCertificates()) {
+			xmlCertificate.setId(xmlCertificate.getId() + suffix);
+			xmlDiagnosticData.getUsedCertificates().add(xmlCertificate);
+		}
+		for (XmlRevocation xmlRevocation : copy.getUsedRevocations()) {
+			xmlRevocation.setId(xmlRevocation.getId() + suffix);
+			xmlDiagnosticData.getUsedRevocations().add(xmlRevocation);
+		}
+	}
+
+	private int getNumberOfTokens(XmlDiagnosticData xmlDiagnosticData) {
+		return xmlDiagnosticData.getSignatures().size() + xmlDiagnosticData.getUsedCertificates().size()
+				+ xmlDiagnosticData.getUsedRevocations().size();
+	}
+
+	private Reports execute(XmlDiagnosticData xmlDiagnosticData) throws Exception {
+		DefaultSignatureProcessExecutor executor = new DefaultSignatureProcessExecutor();
+		executor.setDiagnosticData(xmlDiagnosticData);
+		executor.setValidationPolicy(loadDefaultPolicy());
+		executor.setCurrentTime(xmlDiagnosticData.getValidationDate());
+		return executor.execute();
+	}
+
+}